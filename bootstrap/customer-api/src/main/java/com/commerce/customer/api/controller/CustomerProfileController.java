@@ -4,6 +4,7 @@ import com.commerce.customer.api.dto.profile.AddressRequest;
 import com.commerce.customer.api.dto.profile.CreateProfileRequest;
 import com.commerce.customer.api.dto.profile.CreateProfileResponse;
 import com.commerce.customer.api.dto.profile.ProfileResponse;
+import com.commerce.customer.api.dto.profile.ProfileSummaryResponse;
 import com.commerce.customer.api.dto.profile.UpdateProfileRequest;
 import com.commerce.customer.api.dto.profile.UpdateProfileResponse;
 import com.commerce.customer.api.exception.ResourceNotFoundException;
@@ -20,6 +21,8 @@ import com.commerce.customer.core.domain.model.profile.Gender;
 import com.commerce.customer.core.domain.model.profile.PersonalInfo;
 import com.commerce.customer.core.domain.model.profile.PhoneNumber;
 import com.commerce.customer.core.domain.model.profile.ProfileId;
+import com.commerce.customer.core.domain.model.profile.ProfileSummary;
+import com.commerce.customer.core.domain.model.profile.ProfileView;
 import com.commerce.customer.core.domain.model.jwt.JwtClaims;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -91,7 +94,7 @@ public class CustomerProfileController {
         Long accountId = Long.valueOf(jwtClaims.getAccountId());
         
         try {
-            CustomerProfile profile = customerProfileApplicationService.getProfileByAccountId(AccountId.of(accountId));
+            ProfileView profile = customerProfileApplicationService.getProfileViewByAccountId(AccountId.of(accountId));
             return ResponseEntity.ok(ProfileResponse.from(profile));
         } catch (IllegalArgumentException e) {
             if (e.getMessage().contains("프로필을 찾을 수 없습니다")) {
@@ -101,6 +104,25 @@ public class CustomerProfileController {
         }
     }
     
+    @Operation(summary = "프로필 요약 조회", description = "현재 로그인된 고객의 이름, 연락처, 기본 배송지, 수신 동의를 조회합니다.")
+    @GetMapping("/me/summary")
+    public ResponseEntity<ProfileSummaryResponse> getMyProfileSummary(HttpServletRequest request) {
+        JwtClaims jwtClaims = (JwtClaims) request.getAttribute("jwtClaims");
+        if (jwtClaims == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        
+        try {
+            ProfileSummary summary = customerProfileApplicationService.getProfileSummary(jwtClaims.getCustomerId());
+            return ResponseEntity.ok(ProfileSummaryResponse.from(summary));
+        } catch (IllegalArgumentException e) {
+            if (e.getMessage().contains("프로필을 찾을 수 없습니다")) {
+                throw new ResourceNotFoundException(e.getMessage());
+            }
+            throw e;
+        }
+    }
+    
     @Operation(summary = "프로필 조회 (ID)", description = "프로필 ID로 프로필을 조회합니다.")
     @GetMapping("/{profileId}")
     public ResponseEntity<CustomerProfile> getProfile(@PathVariable Long profileId) {
@@ -1,6 +1,6 @@
 package com.commerce.customer.api.dto.profile;
 
-import com.commerce.customer.core.domain.model.profile.CustomerProfile;
+import com.commerce.customer.core.domain.model.profile.ProfileView;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -66,29 +66,25 @@ public class ProfileResponse {
         private boolean reviewNotifications;
     }
     
-    public static ProfileResponse from(CustomerProfile profile) {
+    public static ProfileResponse from(ProfileView view) {
         return ProfileResponse.builder()
-                .profileId(profile.getProfileId().getValue())
-                .customerId(profile.getCustomerId().getValue())
+                .profileId(view.getProfileId())
+                .customerId(view.getCustomerId())
                 .personalInfo(PersonalInfoDto.builder()
-                        .firstName(profile.getPersonalInfo().getFullName().getFirstName())
-                        .lastName(profile.getPersonalInfo().getFullName().getLastName())
-                        .birthDate(profile.getPersonalInfo().getBirthDate() != null ? 
-                                profile.getPersonalInfo().getBirthDate().getDate() : null)
-                        .gender(profile.getPersonalInfo().getGender() != null ? 
-                                profile.getPersonalInfo().getGender().name() : null)
-                        .profileImageUrl(null) // PersonalInfo에 profileImageUrl 필드가 없음
+                        .firstName(view.getFirstName())
+                        .lastName(view.getLastName())
+                        .birthDate(view.getBirthDate())
+                        .gender(view.getGender())
+                        .profileImageUrl(view.getProfileImageUrl())
                         .build())
                 .contactInfo(ContactInfoDto.builder()
-                        .phoneNumber(profile.getContactInfo().getPrimaryPhone() != null ? 
-                                profile.getContactInfo().getPrimaryPhone().getNumber() : null)
-                        .secondaryPhoneNumber(profile.getContactInfo().getSecondaryPhone() != null ? 
-                                profile.getContactInfo().getSecondaryPhone().getNumber() : null)
+                        .phoneNumber(view.getPrimaryPhone())
+                        .secondaryPhoneNumber(view.getSecondaryPhone())
                         .build())
-                .addresses(profile.getAddresses().stream()
+                .addresses(view.getAddresses().stream()
                         .map(address -> AddressDto.builder()
-                                .addressId(address.getAddressId().getValue())
-                                .type(address.getType().name())
+                                .addressId(address.getAddressId())
+                                .type(address.getType())
                                 .alias(address.getAlias())
                                 .zipCode(address.getZipCode())
                                 .roadAddress(address.getRoadAddress())
@@ -98,16 +94,17 @@ public class ProfileResponse {
                                 .build())
                         .collect(Collectors.toList()))
                 .marketingConsent(MarketingConsentDto.builder()
-                        .emailConsent(profile.getPreferences().getMarketingConsent().isEmailMarketing())
-                        .smsConsent(profile.getPreferences().getMarketingConsent().isSmsMarketing())
-                        .pushConsent(profile.getPreferences().getMarketingConsent().isPersonalizedAds())
+                        .emailConsent(view.isEmailMarketingConsent())
+                        .smsConsent(view.isSmsMarketingConsent())
+                        .pushConsent(view.isPushMarketingConsent())
                         .build())
                 .notificationSettings(NotificationSettingsDto.builder()
-                        .orderNotifications(profile.getPreferences().getNotificationSettings().isOrderUpdates())
-                        .promotionNotifications(profile.getPreferences().getNotificationSettings().isPromotionalOffers())
-                        .accountNotifications(profile.getPreferences().getNotificationSettings().isEmailNotification())
-                        .reviewNotifications(profile.getPreferences().getNotificationSettings().isPushNotification())
+                        .orderNotifications(view.isOrderNotifications())
+                        .promotionNotifications(view.isPromotionNotifications())
+                        .accountNotifications(view.isAccountNotifications())
+                        .reviewNotifications(view.isReviewNotifications())
                         .build())
                 .build();
     }
+
 }
\ No newline at end of file
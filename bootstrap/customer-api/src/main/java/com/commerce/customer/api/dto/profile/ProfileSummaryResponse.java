@@ -0,0 +1,50 @@
+package com.commerce.customer.api.dto.profile;
+
+import com.commerce.customer.core.domain.model.profile.ProfileSummary;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ProfileSummaryResponse {
+    private Long profileId;
+    private Long customerId;
+    private String firstName;
+    private String lastName;
+    private String phoneNumber;
+    private String status;
+    private DefaultAddressDto defaultAddress;
+    private ProfileResponse.MarketingConsentDto marketingConsent;
+    
+    @Getter
+    @Builder
+    public static class DefaultAddressDto {
+        private String zipCode;
+        private String roadAddress;
+        private String detailAddress;
+    }
+    
+    public static ProfileSummaryResponse from(ProfileSummary summary) {
+        return ProfileSummaryResponse.builder()
+                .profileId(summary.getProfileId())
+                .customerId(summary.getCustomerId())
+                .firstName(summary.getFirstName())
+                .lastName(summary.getLastName())
+                .phoneNumber(summary.getPrimaryPhone())
+                .status(summary.getStatus().name())
+                .defaultAddress(summary.getRoadAddress() != null
+                        ? DefaultAddressDto.builder()
+                                .zipCode(summary.getZipCode())
+                                .roadAddress(summary.getRoadAddress())
+                                .detailAddress(summary.getDetailAddress())
+                                .build()
+                        : null)
+                .marketingConsent(ProfileResponse.MarketingConsentDto.builder()
+                        .emailConsent(summary.isEmailMarketingConsent())
+                        .smsConsent(summary.isSmsMarketingConsent())
+                        .pushConsent(summary.isPushMarketingConsent())
+                        .build())
+                .build();
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.commerce.customer.api.exception;
 
+import com.commerce.customer.core.domain.exception.OptimisticLockConflictException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -71,6 +72,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
     
+    @ExceptionHandler(OptimisticLockConflictException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockConflictException(
+            OptimisticLockConflictException ex) {
+        
+        log.warn("OptimisticLockConflictException occurred: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                "CONCURRENT_MODIFICATION",
+                "다른 요청에 의해 먼저 수정되었습니다. 다시 시도해 주세요."
+        );
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+    
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
         log.error("Unexpected error occurred", ex);
@@ -0,0 +1,43 @@
+package com.commerce.customer.api.management;
+
+import com.commerce.infrastructure.kafka.outbox.OutboxRelay;
+import com.commerce.infrastructure.kafka.outbox.OutboxRelayMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 아웃박스 릴레이 운영 엔드포인트
+ * 적체 상태를 조회하고, 지정한 outbox id 이후의 이벤트를 다시 발행하도록 되돌린다.
+ * 재발행은 쓰기 작업이므로 웹 노출 목록(management.endpoints.web.exposure.include)에는 기본 포함하지 않는다.
+ */
+@Component
+@Endpoint(id = "outbox")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "commerce.outbox", name = "enabled", havingValue = "true")
+public class OutboxEndpoint {
+
+    private final OutboxRelay outboxRelay;
+    private final OutboxRelayMetrics outboxRelayMetrics;
+
+    @ReadOperation
+    public Map<String, Object> backlog() {
+        return Map.of(
+                "pending", outboxRelayMetrics.pending(),
+                "lagSeconds", outboxRelayMetrics.lag().toSeconds(),
+                "relayed", outboxRelayMetrics.relayed(),
+                "deadLettered", outboxRelayMetrics.deadLettered(),
+                "lastRelayedId", outboxRelayMetrics.lastRelayedId()
+        );
+    }
+
+    @WriteOperation
+    public Map<String, Object> replay(long offset) {
+        return Map.of("offset", offset, "reset", outboxRelay.replayFrom(offset));
+    }
+}
@@ -1,7 +1,10 @@
 package com.commerce.customer.api.config;
 
 import com.commerce.customer.core.domain.event.DomainEventPublisher;
+import com.commerce.infrastructure.kafka.event.InFlightLimiter;
 import com.commerce.infrastructure.kafka.event.KafkaEventPublisher;
+import com.commerce.infrastructure.kafka.event.PublishMetrics;
+import com.commerce.infrastructure.kafka.event.PublishProperties;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
@@ -38,15 +41,16 @@ public class TestKafkaConfig {
     @Bean
     @Primary
     public KafkaEventPublisher kafkaEventPublisher(KafkaTemplate<String, Object> kafkaTemplate) {
-        return new KafkaEventPublisher(kafkaTemplate);
+        PublishProperties properties = new PublishProperties();
+        InFlightLimiter limiter = new InFlightLimiter(properties.getMaxInFlightPerTopic(), properties.getMaxBlock());
+        return new KafkaEventPublisher(kafkaTemplate, null, properties, limiter, new PublishMetrics(limiter));
     }
     
     @Bean
     @Primary
     public DomainEventPublisher domainEventPublisher() {
         DomainEventPublisher mockPublisher = mock(DomainEventPublisher.class);
-        doNothing().when(mockPublisher).publishAccountCreatedEvent(any());
-        doNothing().when(mockPublisher).publishAccountActivatedEvent(any());
+        when(mockPublisher.publish(any())).thenReturn(CompletableFuture.completedFuture(null));
         return mockPublisher;
     }
 }
\ No newline at end of file
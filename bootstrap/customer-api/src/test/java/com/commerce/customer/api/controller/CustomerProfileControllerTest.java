@@ -4,6 +4,7 @@ import com.commerce.customer.api.dto.profile.AddressRequest;
 import com.commerce.customer.api.dto.profile.CreateProfileRequest;
 import com.commerce.customer.api.dto.profile.CreateProfileResponse;
 import com.commerce.customer.api.dto.profile.ProfileResponse;
+import com.commerce.customer.api.dto.profile.ProfileSummaryResponse;
 import com.commerce.customer.api.dto.profile.UpdateProfileRequest;
 import com.commerce.customer.api.dto.profile.UpdateProfileResponse;
 import com.commerce.customer.api.exception.ResourceNotFoundException;
@@ -27,6 +28,9 @@ import com.commerce.customer.core.domain.model.profile.PersonalInfo;
 import com.commerce.customer.core.domain.model.profile.PhoneNumber;
 import com.commerce.customer.core.domain.model.profile.ProfileId;
 import com.commerce.customer.core.domain.model.profile.ProfilePreferences;
+import com.commerce.customer.core.domain.model.profile.ProfileStatus;
+import com.commerce.customer.core.domain.model.profile.ProfileSummary;
+import com.commerce.customer.core.domain.model.profile.ProfileView;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -187,10 +191,10 @@ class CustomerProfileControllerTest {
         @DisplayName("성공: 내 프로필 조회")
         void getMyProfile_Success() {
             // given
-            CustomerProfile mockProfile = createMockProfile();
+            ProfileView profileView = createProfileView();
             given(httpRequest.getAttribute("jwtClaims")).willReturn(validJwtClaims);
-            given(customerProfileApplicationService.getProfileByAccountId(testAccountId))
-                .willReturn(mockProfile);
+            given(customerProfileApplicationService.getProfileViewByAccountId(testAccountId))
+                .willReturn(profileView);
 
             // when
             ResponseEntity<ProfileResponse> response = 
@@ -199,9 +203,14 @@ class CustomerProfileControllerTest {
             // then
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
             assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().getPersonalInfo().getFirstName()).isEqualTo("홍");
+            assertThat(response.getBody().getAddresses()).hasSize(1);
+            assertThat(response.getBody().getAddresses().get(0).getRoadAddress()).isEqualTo("서울시 강남구 테헤란로 123");
             
             then(customerProfileApplicationService).should()
-                .getProfileByAccountId(testAccountId);
+                .getProfileViewByAccountId(testAccountId);
+            then(customerProfileApplicationService).should(never())
+                .getProfileByAccountId(any());
         }
 
         @Test
@@ -219,7 +228,7 @@ class CustomerProfileControllerTest {
             assertThat(response.getBody()).isNull();
             
             then(customerProfileApplicationService).should(never())
-                .getProfileByAccountId(any());
+                .getProfileViewByAccountId(any());
         }
 
         @Test
@@ -227,7 +236,7 @@ class CustomerProfileControllerTest {
         void getMyProfile_ProfileNotFound_ShouldThrowException() {
             // given
             given(httpRequest.getAttribute("jwtClaims")).willReturn(validJwtClaims);
-            given(customerProfileApplicationService.getProfileByAccountId(testAccountId))
+            given(customerProfileApplicationService.getProfileViewByAccountId(testAccountId))
                 .willThrow(new IllegalArgumentException("프로필을 찾을 수 없습니다"));
 
             // when & then
@@ -236,6 +245,50 @@ class CustomerProfileControllerTest {
                 .hasMessage("프로필을 찾을 수 없습니다");
         }
 
+        @Test
+        @DisplayName("성공: 내 프로필 요약 조회")
+        void getMyProfileSummary_Success() {
+            // given
+            ProfileSummary summary = ProfileSummary.builder()
+                .profileId(1L)
+                .customerId(testCustomerId.getValue())
+                .firstName("길동")
+                .lastName("홍")
+                .primaryPhone("01012345678")
+                .status(ProfileStatus.ACTIVE)
+                .emailMarketingConsent(true)
+                .roadAddress("서울시 강남구 테헤란로 123")
+                .build();
+            given(httpRequest.getAttribute("jwtClaims")).willReturn(validJwtClaims);
+            given(customerProfileApplicationService.getProfileSummary(testCustomerId)).willReturn(summary);
+
+            // when
+            ResponseEntity<ProfileSummaryResponse> response =
+                customerProfileController.getMyProfileSummary(httpRequest);
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().getFirstName()).isEqualTo("길동");
+            assertThat(response.getBody().getDefaultAddress().getRoadAddress()).isEqualTo("서울시 강남구 테헤란로 123");
+            assertThat(response.getBody().getMarketingConsent().isEmailConsent()).isTrue();
+            then(customerProfileApplicationService).should(never())
+                .getProfileViewByAccountId(any());
+        }
+
+        @Test
+        @DisplayName("실패: 프로필 요약을 찾을 수 없는 경우")
+        void getMyProfileSummary_ProfileNotFound_ShouldThrowException() {
+            // given
+            given(httpRequest.getAttribute("jwtClaims")).willReturn(validJwtClaims);
+            given(customerProfileApplicationService.getProfileSummary(testCustomerId))
+                .willThrow(new IllegalArgumentException("프로필을 찾을 수 없습니다."));
+
+            // when & then
+            assertThatThrownBy(() -> customerProfileController.getMyProfileSummary(httpRequest))
+                .isInstanceOf(ResourceNotFoundException.class);
+        }
+
         @Test
         @DisplayName("성공: ID로 프로필 조회")
         void getProfile_ById_Success() {
@@ -423,4 +476,25 @@ class CustomerProfileControllerTest {
             contactInfo
         );
     }
-}
\ No newline at end of file
+
+    private ProfileView createProfileView() {
+        return ProfileView.builder()
+            .profileId(testProfileId.getValue())
+            .customerId(testCustomerId.getValue())
+            .firstName("홍")
+            .lastName("길동")
+            .birthDate(LocalDate.of(1990, 1, 1))
+            .gender("MALE")
+            .primaryPhone("010-1234-5678")
+            .orderNotifications(true)
+            .addresses(List.of(ProfileView.AddressView.builder()
+                .addressId(1L)
+                .type("HOME")
+                .alias("집")
+                .zipCode("06234")
+                .roadAddress("서울시 강남구 테헤란로 123")
+                .isDefault(true)
+                .build()))
+            .build();
+    }
+}
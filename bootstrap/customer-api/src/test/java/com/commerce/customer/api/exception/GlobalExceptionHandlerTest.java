@@ -1,5 +1,6 @@
 package com.commerce.customer.api.exception;
 
+import com.commerce.customer.core.domain.exception.OptimisticLockConflictException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -189,6 +190,21 @@ class GlobalExceptionHandlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("OptimisticLockConflictException 처리 테스트")
+    class OptimisticLockConflictExceptionHandlingTest {
+
+        @Test
+        @DisplayName("동시 수정 충돌 발생시 CONFLICT와 재시도 안내 메시지를 반환해야 한다")
+        void shouldHandleOptimisticLockConflictException() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/test/optimistic-lock-conflict"))
+                    .andExpect(status().isConflict())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.code", is("CONCURRENT_MODIFICATION")));
+        }
+    }
+
     @Nested
     @DisplayName("일반 Exception 처리 테스트")
     class GenericExceptionHandlingTest {
@@ -277,6 +293,11 @@ class GlobalExceptionHandlerTest {
             throw new ResourceNotFoundException(message);
         }
 
+        @GetMapping("/test/optimistic-lock-conflict")
+        public String testOptimisticLockConflict() {
+            throw new OptimisticLockConflictException("CustomerProfile", 1L);
+        }
+
         @GetMapping("/test/generic-exception")
         public String testGenericException() {
             throw new RuntimeException("예상치 못한 오류");
@@ -0,0 +1,51 @@
+package com.commerce.customer.client.snapshot;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Optional;
+
+/**
+ * 힙 저장소
+ * 역직렬화된 객체를 그대로 보관하므로 조회가 가장 빠르다. 고객 수가 많아 힙이 부담되면
+ * maximumSize로 상한을 두거나(넘친 고객은 조회 실패 → 호출 측이 API로 대체) 오프힙 저장소를 쓴다.
+ */
+public class CaffeineSnapshotStore implements SnapshotStore {
+
+    private final Cache<Long, CustomerSnapshot> cache;
+
+    /**
+     * @param maximumSize 최대 보관 고객 수 (0 이하이면 제한 없음)
+     */
+    public CaffeineSnapshotStore(long maximumSize) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        if (maximumSize > 0) {
+            builder.maximumSize(maximumSize);
+        }
+        this.cache = builder.build();
+    }
+
+    public static CaffeineSnapshotStore unbounded() {
+        return new CaffeineSnapshotStore(0);
+    }
+
+    @Override
+    public Optional<CustomerSnapshot> get(long customerId) {
+        return Optional.ofNullable(cache.getIfPresent(customerId));
+    }
+
+    @Override
+    public void put(long customerId, CustomerSnapshot snapshot, byte[] encoded) {
+        cache.put(customerId, snapshot);
+    }
+
+    @Override
+    public void remove(long customerId) {
+        cache.invalidate(customerId);
+    }
+
+    @Override
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,65 @@
+package com.commerce.customer.client.snapshot;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDateTime;
+
+/**
+ * 고객 스냅샷 (customer.profile.snapshot 토픽의 값, 키는 고객 ID)
+ * 주문/장바구니/배송 서비스가 요청마다 조회하던 필드만 담는다. 토픽은 로그 압축되어 고객별 최신 값만 남고,
+ * 값이 null인 레코드(tombstone)는 고객 삭제를 뜻한다.
+ *
+ * @param customerId     고객 ID
+ * @param profileId      프로필 ID (프로필 생성 전이면 null)
+ * @param firstName      이름
+ * @param lastName       성
+ * @param phone          대표 연락처
+ * @param defaultAddress 기본 배송지 (없으면 null)
+ * @param consent        마케팅 수신 동의
+ * @param profileStatus  프로필 상태 (ACTIVE, INACTIVE 등, 프로필이 없으면 null)
+ * @param accountStatus  계정 상태 (ACTIVE, DORMANT 등, 계정이 없으면 null)
+ * @param updatedAt      스냅샷을 만든 시각
+ */
+public record CustomerSnapshot(long customerId,
+                               Long profileId,
+                               String firstName,
+                               String lastName,
+                               String phone,
+                               DefaultAddress defaultAddress,
+                               Consent consent,
+                               String profileStatus,
+                               String accountStatus,
+                               LocalDateTime updatedAt) {
+
+    /**
+     * 표시용 이름 (성 + 이름)
+     */
+    public String displayName() {
+        if (firstName == null && lastName == null) {
+            return null;
+        }
+        return (lastName == null ? "" : lastName) + (firstName == null ? "" : firstName);
+    }
+
+    /**
+     * 계정과 프로필이 모두 활성 상태인지 (주문 가능 고객 판단용)
+     */
+    @JsonIgnore
+    public boolean isActive() {
+        return "ACTIVE".equals(accountStatus) && "ACTIVE".equals(profileStatus);
+    }
+
+    /**
+     * 기본 배송지
+     */
+    public record DefaultAddress(String zipCode, String roadAddress, String detailAddress) {
+    }
+
+    /**
+     * 마케팅 수신 동의
+     */
+    public record Consent(boolean emailMarketing, boolean smsMarketing, boolean personalizedAds) {
+
+        public static final Consent NONE = new Consent(false, false, false);
+    }
+}
@@ -0,0 +1,283 @@
+package com.commerce.customer.client.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 고객 스냅샷 로컬 복제 클라이언트
+ * 로그 압축된 customer.profile.snapshot 토픽을 처음부터 읽어 로컬 저장소를 채운 뒤(부트스트랩),
+ * 같은 컨슈머로 계속 따라가며 변경을 반영한다. 조회는 로컬 저장소만 읽으므로 고객 서비스를 호출하지 않는다.
+ *
+ * - 컨슈머 그룹을 쓰지 않고 모든 파티션을 직접 할당하므로, 인스턴스마다 전체 복제본을 갖고 오프셋을 커밋하지 않는다.
+ * - 부트스트랩 완료 기준은 시작 시점의 파티션별 끝 오프셋까지 읽은 것이다. 그 전 조회는 비어 있을 수 있으므로
+ *   호출 측은 awaitReady로 기다리거나, 조회 실패 시 고객 서비스 API로 대체한다.
+ * - 값이 null인 레코드(tombstone)는 고객 삭제로 보고 제거하며, 읽을 수 없는 값은 건너뛴다.
+ * - 토픽 조회/할당이나 poll이 실패해도 구독 스레드를 끝내지 않고 지수 백오프로 다시 시도한다.
+ *   할당은 한 번 성공한 뒤에는 반복하지 않으므로 재시도 중에도 이미 적재한 스냅샷을 처음부터 다시 읽지 않는다.
+ *   실패가 이어지는 동안 isHealthy는 false이며, 호출 측은 lastFailure로 원인을 확인해 헬스 체크에 반영한다.
+ *
+ * <pre>
+ * CustomerSnapshotClient client = CustomerSnapshotClient.create("kafka:9092", new OffHeapSnapshotStore(64 << 20, 5_000_000));
+ * client.start();
+ * client.awaitReady(Duration.ofMinutes(2));
+ * client.find(customerId).map(CustomerSnapshot::defaultAddress);
+ * </pre>
+ */
+@Slf4j
+public class CustomerSnapshotClient implements AutoCloseable {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+    private static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final Map<String, Object> consumerConfigs;
+    private final String topic;
+    private final SnapshotStore store;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final CountDownLatch ready = new CountDownLatch(1);
+    private final CountDownLatch closing = new CountDownLatch(1);
+    private final AtomicLong applied = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+
+    private volatile boolean running;
+    private volatile long lastAppliedAtMillis;
+    private volatile int consecutiveFailures;
+    private volatile RuntimeException lastFailure;
+    private Thread thread;
+    private KafkaConsumer<String, byte[]> consumer;
+
+    /**
+     * @param consumerConfigs 추가 컨슈머 설정 (bootstrap.servers 필수, 직렬화기/그룹/커밋 설정은 클라이언트가 정한다)
+     */
+    public CustomerSnapshotClient(Map<String, Object> consumerConfigs, String topic, SnapshotStore store) {
+        this(consumerConfigs, topic, store, DEFAULT_INITIAL_BACKOFF, DEFAULT_MAX_BACKOFF);
+    }
+
+    /**
+     * @param initialBackoff 첫 실패 후 재시도까지 대기 시간 (연속 실패마다 두 배)
+     * @param maxBackoff     재시도 대기 시간 상한
+     */
+    public CustomerSnapshotClient(Map<String, Object> consumerConfigs, String topic, SnapshotStore store,
+                                  Duration initialBackoff, Duration maxBackoff) {
+        if (!consumerConfigs.containsKey(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG)) {
+            throw new IllegalArgumentException("bootstrap.servers 설정이 필요합니다.");
+        }
+        Map<String, Object> configs = new HashMap<>(consumerConfigs);
+        configs.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        configs.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        configs.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configs.remove(ConsumerConfig.GROUP_ID_CONFIG);
+        // 토픽이 없을 때 압축 설정 없이 자동 생성되지 않도록 한다 (생성은 발행 측 책임)
+        configs.put(ConsumerConfig.ALLOW_AUTO_CREATE_TOPICS_CONFIG, false);
+        configs.putIfAbsent(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 5_000);
+        configs.putIfAbsent(ConsumerConfig.CLIENT_ID_CONFIG, "customer-snapshot-client");
+        this.consumerConfigs = configs;
+        this.topic = topic;
+        this.store = store;
+        this.initialBackoffMillis = initialBackoff.toMillis();
+        this.maxBackoffMillis = Math.max(initialBackoffMillis, maxBackoff.toMillis());
+    }
+
+    public static CustomerSnapshotClient create(String bootstrapServers, SnapshotStore store) {
+        return new CustomerSnapshotClient(Map.of(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers),
+                CustomerSnapshotCodec.TOPIC, store);
+    }
+
+    /**
+     * 구독 스레드를 시작한다. 부트스트랩 완료를 기다리지 않고 바로 반환한다.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        consumer = new KafkaConsumer<>(consumerConfigs);
+        running = true;
+        thread = new Thread(this::run, "customer-snapshot-client");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 부트스트랩(시작 시점까지의 스냅샷 적재)이 끝날 때까지 기다린다.
+     *
+     * @return 제한 시간 안에 끝났으면 true
+     */
+    public boolean awaitReady(Duration timeout) throws InterruptedException {
+        return ready.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isReady() {
+        return ready.getCount() == 0;
+    }
+
+    /**
+     * 구독 스레드가 동작 중이고 마지막 토픽 할당/poll이 성공했으면 true
+     */
+    public boolean isHealthy() {
+        return running && consecutiveFailures == 0;
+    }
+
+    /**
+     * 마지막 성공 이후 연속으로 실패한 토픽 할당/poll 횟수
+     */
+    public int consecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    /**
+     * 가장 최근의 토픽 할당/poll 실패 (성공하면 비워진다)
+     */
+    public Optional<RuntimeException> lastFailure() {
+        return Optional.ofNullable(lastFailure);
+    }
+
+    public Optional<CustomerSnapshot> find(long customerId) {
+        return store.get(customerId);
+    }
+
+    public long size() {
+        return store.size();
+    }
+
+    /**
+     * 반영한 레코드 수 (tombstone 포함)
+     */
+    public long applied() {
+        return applied.get();
+    }
+
+    /**
+     * 읽을 수 없어 건너뛴 레코드 수
+     */
+    public long skipped() {
+        return skipped.get();
+    }
+
+    /**
+     * 마지막으로 레코드를 반영한 시각 (epoch millis, 아직 없으면 0)
+     */
+    public long lastAppliedAtMillis() {
+        return lastAppliedAtMillis;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!running) {
+            store.close();
+            return;
+        }
+        running = false;
+        closing.countDown();
+        consumer.wakeup();
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        store.close();
+    }
+
+    private void run() {
+        Map<TopicPartition, Long> bootstrapEnd = null;
+        long started = System.nanoTime();
+        long backoffMillis = initialBackoffMillis;
+        try {
+            while (running) {
+                try {
+                    if (bootstrapEnd == null) {
+                        bootstrapEnd = new HashMap<>(consumer.endOffsets(assignAll()));
+                    }
+                    ConsumerRecords<String, byte[]> records = consumer.poll(POLL_TIMEOUT);
+                    records.forEach(this::apply);
+                    if (!isReady() && caughtUp(bootstrapEnd)) {
+                        ready.countDown();
+                        log.info("고객 스냅샷 부트스트랩 완료: {}명, {}ms", store.size(),
+                                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+                    }
+                    recoverIfFailed();
+                    backoffMillis = initialBackoffMillis;
+                } catch (WakeupException e) {
+                    throw e;
+                } catch (RuntimeException e) {
+                    lastFailure = e;
+                    int failures = ++consecutiveFailures;
+                    log.warn("고객 스냅샷 구독 실패 ({}회 연속), {}ms 후 재시도", failures, backoffMillis, e);
+                    if (closing.await(backoffMillis, TimeUnit.MILLISECONDS)) {
+                        break;
+                    }
+                    backoffMillis = Math.min(backoffMillis * 2, maxBackoffMillis);
+                }
+            }
+        } catch (WakeupException e) {
+            if (running) {
+                log.error("고객 스냅샷 구독이 예기치 않게 중단되었습니다", e);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running = false;
+            consumer.close();
+        }
+    }
+
+    private void recoverIfFailed() {
+        if (consecutiveFailures > 0) {
+            log.info("고객 스냅샷 구독 복구 ({}회 연속 실패 후)", consecutiveFailures);
+            consecutiveFailures = 0;
+            lastFailure = null;
+        }
+    }
+
+    private List<TopicPartition> assignAll() {
+        List<PartitionInfo> partitionInfos = consumer.partitionsFor(topic);
+        if (partitionInfos == null || partitionInfos.isEmpty()) {
+            throw new IllegalStateException("고객 스냅샷 토픽이 없습니다: " + topic);
+        }
+        List<TopicPartition> partitions = partitionInfos.stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .toList();
+        consumer.assign(partitions);
+        consumer.seekToBeginning(partitions);
+        return partitions;
+    }
+
+    private boolean caughtUp(Map<TopicPartition, Long> bootstrapEnd) {
+        bootstrapEnd.entrySet().removeIf(entry -> consumer.position(entry.getKey()) >= entry.getValue());
+        return bootstrapEnd.isEmpty();
+    }
+
+    private void apply(ConsumerRecord<String, byte[]> record) {
+        try {
+            long customerId = CustomerSnapshotCodec.customerId(record.key());
+            if (record.value() == null) {
+                store.remove(customerId);
+            } else {
+                store.put(customerId, CustomerSnapshotCodec.decode(record.value()), record.value());
+            }
+            applied.incrementAndGet();
+            lastAppliedAtMillis = System.currentTimeMillis();
+        } catch (RuntimeException e) {
+            skipped.incrementAndGet();
+            log.warn("읽을 수 없는 고객 스냅샷 레코드를 건너뜁니다 - partition: {}, offset: {}",
+                    record.partition(), record.offset(), e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.commerce.customer.client.snapshot;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 고객 스냅샷 토픽의 키/값 형식
+ * 고객 서비스(발행)와 클라이언트(구독)가 같은 코덱을 써서 형식이 어긋나지 않게 한다.
+ * 값은 JSON이며, 모르는 필드는 무시하므로 발행 측이 필드를 추가해도 이전 클라이언트가 계속 읽을 수 있다.
+ */
+public final class CustomerSnapshotCodec {
+
+    /**
+     * 로그 압축 스냅샷 토픽
+     */
+    public static final String TOPIC = "customer.profile.snapshot";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private CustomerSnapshotCodec() {
+    }
+
+    public static String key(long customerId) {
+        return Long.toString(customerId);
+    }
+
+    public static long customerId(String key) {
+        return Long.parseLong(key);
+    }
+
+    public static byte[] encode(CustomerSnapshot snapshot) {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(snapshot);
+        } catch (IOException e) {
+            throw new UncheckedIOException("고객 스냅샷을 직렬화할 수 없습니다: " + snapshot.customerId(), e);
+        }
+    }
+
+    public static CustomerSnapshot decode(byte[] value) {
+        try {
+            return OBJECT_MAPPER.readValue(value, CustomerSnapshot.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("고객 스냅샷을 읽을 수 없습니다", e);
+        }
+    }
+}
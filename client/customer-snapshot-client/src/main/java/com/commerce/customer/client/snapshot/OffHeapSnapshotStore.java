@@ -0,0 +1,126 @@
+package com.commerce.customer.client.snapshot;
+
+import com.commerce.common.offheap.OffHeapRecords;
+import com.commerce.common.offheap.SegmentAllocator;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 오프힙 저장소
+ * 인코딩된 스냅샷 바이트를 힙 밖 direct buffer 세그먼트에 보관하고 조회할 때 역직렬화한다.
+ * 수백만 고객을 복제해도 힙에는 고객당 객체가 생기지 않으므로 GC 부담이 없다.
+ *
+ * - 데이터/인덱스: 서버의 오프힙 프로필 저장소와 같은 {@link OffHeapRecords}에 [전체 길이(4) | 값] 레코드로 기록한다.
+ *   stale 바이트가 live 바이트보다 많아지면 live 레코드만 새 세그먼트로 옮긴다.
+ * - 동시성: 읽기/쓰기 잠금. 조회는 읽기 잠금 안에서 바이트만 복사하고 역직렬화는 잠금 밖에서 한다.
+ */
+public class OffHeapSnapshotStore implements SnapshotStore {
+
+    private static final int LENGTH_BYTES = Integer.BYTES;
+    private static final double COMPACTION_STALE_RATIO = 1.0;
+
+    private final OffHeapRecords records;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public OffHeapSnapshotStore(int segmentSize, int expectedEntries) {
+        this.records = new OffHeapRecords(SegmentAllocator.direct(), segmentSize, expectedEntries);
+    }
+
+    @Override
+    public Optional<CustomerSnapshot> get(long customerId) {
+        byte[] encoded;
+        lock.readLock().lock();
+        try {
+            long address = records.find(customerId);
+            if (address == OffHeapRecords.MISSING) {
+                return Optional.empty();
+            }
+            encoded = new byte[records.recordLength(address) - LENGTH_BYTES];
+            records.segment(address).get(OffHeapRecords.offset(address) + LENGTH_BYTES, encoded);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return Optional.of(CustomerSnapshotCodec.decode(encoded));
+    }
+
+    @Override
+    public void put(long customerId, CustomerSnapshot snapshot, byte[] encoded) {
+        if (customerId <= 0) {
+            throw new IllegalArgumentException("고객 ID는 양수여야 합니다: " + customerId);
+        }
+        int recordLength = LENGTH_BYTES + encoded.length;
+
+        lock.writeLock().lock();
+        try {
+            long address = records.reserve(recordLength);
+            ByteBuffer segment = records.segment(address);
+            int offset = OffHeapRecords.offset(address);
+            segment.putInt(offset, recordLength);
+            segment.put(offset + LENGTH_BYTES, encoded);
+            records.link(customerId, address);
+            if (records.needsCompaction(COMPACTION_STALE_RATIO)) {
+                records.compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(long customerId) {
+        lock.writeLock().lock();
+        try {
+            records.unlink(customerId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return records.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long liveDataBytes() {
+        lock.readLock().lock();
+        try {
+            return records.liveDataBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long staleDataBytes() {
+        lock.readLock().lock();
+        try {
+            return records.staleDataBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 힙 밖에 확보한 세그먼트 바이트 수
+     */
+    public long reservedBytes() {
+        lock.readLock().lock();
+        try {
+            return records.reservedBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        records.close();
+    }
+}
@@ -0,0 +1,26 @@
+package com.commerce.customer.client.snapshot;
+
+import java.util.Optional;
+
+/**
+ * 고객 스냅샷 로컬 복제본 저장소
+ * 구독 스레드 하나가 쓰고 요청 스레드 여러 개가 동시에 읽는다.
+ */
+public interface SnapshotStore extends AutoCloseable {
+
+    Optional<CustomerSnapshot> get(long customerId);
+
+    /**
+     * 토픽에서 받은 스냅샷을 반영한다. 같은 고객이 있으면 교체한다.
+     * 클라이언트가 값을 한 번 역직렬화해 검증한 뒤 객체와 원본 바이트를 함께 넘기므로, 저장소는 보관 형태에 맞는 쪽을 쓴다.
+     */
+    void put(long customerId, CustomerSnapshot snapshot, byte[] encoded);
+
+    void remove(long customerId);
+
+    long size();
+
+    @Override
+    default void close() {
+    }
+}
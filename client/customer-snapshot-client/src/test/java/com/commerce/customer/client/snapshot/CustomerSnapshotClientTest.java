@@ -0,0 +1,154 @@
+package com.commerce.customer.client.snapshot;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static com.commerce.customer.client.snapshot.OffHeapSnapshotStoreTest.snapshot;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EmbeddedKafka(partitions = 3)
+@DisplayName("고객 스냅샷 로컬 복제 클라이언트 임베디드 Kafka 테스트")
+class CustomerSnapshotClientTest {
+
+    private EmbeddedKafkaBroker broker;
+    private String topic;
+    private KafkaProducer<String, byte[]> producer;
+    private CustomerSnapshotClient client;
+
+    @BeforeEach
+    void setUp(EmbeddedKafkaBroker broker) {
+        this.broker = broker;
+        // 테스트마다 새 토픽을 만들어 앞선 테스트의 레코드를 읽지 않게 한다
+        topic = CustomerSnapshotCodec.TOPIC + "." + UUID.randomUUID();
+        broker.addTopics(new NewTopic(topic, 3, (short) 1));
+        producer = new KafkaProducer<>(Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+        producer.close();
+    }
+
+    @Test
+    @DisplayName("시작 시점까지 쌓인 스냅샷을 모두 적재한 뒤 준비 완료가 되고, 같은 고객은 마지막 스냅샷만 남는다")
+    void start_BootstrapsFromBeginning() throws InterruptedException {
+        // Given
+        for (long customerId = 1; customerId <= 500; customerId++) {
+            publish(customerId, snapshot(customerId, "초기"));
+        }
+        for (long customerId = 1; customerId <= 100; customerId++) {
+            publish(customerId, snapshot(customerId, "갱신"));
+        }
+        producer.flush();
+        client = newClient(CaffeineSnapshotStore.unbounded());
+
+        // When
+        client.start();
+
+        // Then
+        assertThat(client.awaitReady(Duration.ofSeconds(30))).isTrue();
+        assertThat(client.size()).isEqualTo(500);
+        assertThat(client.applied()).isEqualTo(600);
+        assertThat(client.find(1L).orElseThrow().firstName()).isEqualTo("갱신");
+        assertThat(client.find(500L).orElseThrow().firstName()).isEqualTo("초기");
+        assertThat(client.isHealthy()).isTrue();
+    }
+
+    @Test
+    @DisplayName("빈 토픽이면 바로 준비 완료가 되고, 이후 발행된 스냅샷과 tombstone을 계속 반영한다")
+    void start_FollowsLiveUpdatesAndTombstones() throws InterruptedException {
+        // Given
+        client = newClient(new OffHeapSnapshotStore(64 * 1024, 1_000));
+        client.start();
+        assertThat(client.awaitReady(Duration.ofSeconds(30))).isTrue();
+
+        // When
+        publish(7L, snapshot(7L, "길동"));
+        publish(8L, snapshot(8L, "철수"));
+        producer.flush();
+        awaitUntil(() -> client.size() == 2);
+        producer.send(new ProducerRecord<>(topic, CustomerSnapshotCodec.key(7L), null));
+        producer.send(new ProducerRecord<>(topic, CustomerSnapshotCodec.key(8L),
+                "not-json".getBytes(StandardCharsets.UTF_8)));
+        producer.flush();
+        awaitUntil(() -> client.size() == 1 && client.skipped() == 1);
+
+        // Then
+        assertThat(client.find(7L)).isEmpty();
+        assertThat(client.find(8L).orElseThrow().displayName()).isEqualTo("홍철수");
+        assertThat(client.lastAppliedAtMillis()).isPositive();
+    }
+
+    @Test
+    @DisplayName("토픽이 아직 없으면 구독 스레드를 유지한 채 백오프로 재시도하고, 토픽이 생기면 복구되어 준비 완료가 된다")
+    void start_RetriesWithBackoffUntilTopicExists() throws InterruptedException {
+        // Given
+        String missingTopic = topic + ".missing";
+        client = new CustomerSnapshotClient(Map.of(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString()),
+                missingTopic, CaffeineSnapshotStore.unbounded(), Duration.ofMillis(50), Duration.ofMillis(200));
+        client.start();
+        awaitUntil(() -> client.consecutiveFailures() >= 2);
+        assertThat(client.isHealthy()).isFalse();
+        assertThat(client.isReady()).isFalse();
+        assertThat(client.lastFailure()).isPresent();
+
+        // When
+        broker.addTopics(new NewTopic(missingTopic, 3, (short) 1));
+        producer.send(new ProducerRecord<>(missingTopic, CustomerSnapshotCodec.key(3L),
+                CustomerSnapshotCodec.encode(snapshot(3L, "복구"))));
+        producer.flush();
+
+        // Then
+        assertThat(client.awaitReady(Duration.ofSeconds(30))).isTrue();
+        awaitUntil(() -> client.size() == 1 && client.isHealthy());
+        assertThat(client.find(3L).orElseThrow().firstName()).isEqualTo("복구");
+        assertThat(client.consecutiveFailures()).isZero();
+        assertThat(client.lastFailure()).isEmpty();
+    }
+
+    private CustomerSnapshotClient newClient(SnapshotStore store) {
+        return new CustomerSnapshotClient(
+                Map.of(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString()), topic, store);
+    }
+
+    private void publish(long customerId, CustomerSnapshot snapshot) {
+        producer.send(new ProducerRecord<>(topic, CustomerSnapshotCodec.key(customerId),
+                CustomerSnapshotCodec.encode(snapshot)));
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("조건 대기 시간 초과").isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
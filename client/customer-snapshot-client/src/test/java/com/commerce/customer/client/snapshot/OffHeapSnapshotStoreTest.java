@@ -0,0 +1,117 @@
+package com.commerce.customer.client.snapshot;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("오프힙 스냅샷 저장소 테스트")
+class OffHeapSnapshotStoreTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 6, 1, 9, 0);
+
+    private OffHeapSnapshotStore store;
+
+    @AfterEach
+    void tearDown() {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    @Test
+    @DisplayName("저장한 스냅샷을 그대로 조회하고, 갱신하면 마지막 값을 반환한다")
+    void put_ReplacesPreviousSnapshot() {
+        // Given
+        store = new OffHeapSnapshotStore(4096, 16);
+        put(1L, snapshot(1L, "길동"));
+
+        // When
+        put(1L, snapshot(1L, "철수"));
+
+        // Then
+        CustomerSnapshot found = store.get(1L).orElseThrow();
+        assertThat(found.firstName()).isEqualTo("철수");
+        assertThat(found.defaultAddress().zipCode()).isEqualTo("06236");
+        assertThat(found.consent().emailMarketing()).isTrue();
+        assertThat(found.updatedAt()).isEqualTo(UPDATED_AT);
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.staleDataBytes()).isPositive();
+        assertThat(store.get(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제한 고객은 조회되지 않고, 삭제 표시 뒤에 있는 고객은 계속 조회된다")
+    void remove_KeepsProbeChainIntact() {
+        // Given
+        store = new OffHeapSnapshotStore(4096, 16);
+        for (long customerId = 1; customerId <= 20; customerId++) {
+            put(customerId, snapshot(customerId, "고객" + customerId));
+        }
+
+        // When
+        for (long customerId = 1; customerId <= 20; customerId += 2) {
+            store.remove(customerId);
+        }
+        store.remove(999L);
+        store.remove(0L);
+
+        // Then
+        assertThat(store.size()).isEqualTo(10);
+        for (long customerId = 1; customerId <= 20; customerId++) {
+            assertThat(store.get(customerId).isPresent()).isEqualTo(customerId % 2 == 0);
+        }
+        assertThat(store.get(0L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("예상보다 많이 저장하면 인덱스를 늘리고, 갱신이 반복되면 live 레코드만 남기도록 세그먼트를 압축한다")
+    void put_ResizesIndexAndCompactsSegments() {
+        // Given
+        int customers = 2_000;
+        store = new OffHeapSnapshotStore(16 * 1024, 16);
+
+        // When
+        for (int round = 0; round < 5; round++) {
+            for (long customerId = 1; customerId <= customers; customerId++) {
+                put(customerId, snapshot(customerId, "회차" + round));
+            }
+        }
+
+        // Then
+        assertThat(store.size()).isEqualTo(customers);
+        assertThat(store.staleDataBytes()).isLessThanOrEqualTo(store.liveDataBytes());
+        assertThat(store.reservedBytes()).isLessThan(store.liveDataBytes() * 3);
+        for (long customerId = 1; customerId <= customers; customerId++) {
+            assertThat(store.get(customerId).orElseThrow().firstName()).isEqualTo("회차4");
+        }
+    }
+
+    @Test
+    @DisplayName("양수가 아닌 고객 ID나 세그먼트보다 큰 스냅샷은 저장할 수 없다")
+    void put_RejectsInvalidInput() {
+        // Given
+        store = new OffHeapSnapshotStore(1024, 16);
+
+        // When & Then
+        assertThatThrownBy(() -> store.put(0L, snapshot(0L, "길동"), new byte[]{1}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> store.put(1L, snapshot(1L, "길동"), new byte[2048]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void put(long customerId, CustomerSnapshot snapshot) {
+        store.put(customerId, snapshot, CustomerSnapshotCodec.encode(snapshot));
+    }
+
+    static CustomerSnapshot snapshot(long customerId, String firstName) {
+        return new CustomerSnapshot(customerId, customerId + 1000, firstName, "홍", "010-1234-5678",
+                new CustomerSnapshot.DefaultAddress("06236", "서울특별시 강남구 테헤란로 123", "101동 1001호"),
+                new CustomerSnapshot.Consent(true, false, true),
+                "ACTIVE", "ACTIVE", UPDATED_AT);
+    }
+}
@@ -0,0 +1,167 @@
+package com.commerce.common.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * 양수 long 키 → 레코드 주소 오픈 어드레싱(선형 탐사) 테이블
+ *
+ * 슬롯은 힙 밖 direct buffer의 [키(8) | 주소(8)] 16바이트이므로 항목이 수백만 건이어도 힙에 객체가 생기지 않는다.
+ * 키 0은 빈 슬롯, -1은 삭제 표시로 쓰므로 키는 양수여야 한다. 스레드 안전하지 않다.
+ */
+final class OffHeapIndex {
+
+    static final long MISSING = -1L;
+
+    private static final int SLOT_BYTES = 16;
+    private static final long EMPTY = 0L;
+    private static final long TOMBSTONE = -1L;
+    private static final double MAX_LOAD_FACTOR = 0.6;
+
+    private ByteBuffer slots;
+    private int capacity;
+    private int size;
+    private int usedSlots;
+
+    OffHeapIndex(int expectedEntries) {
+        this.capacity = tableSizeFor((int) Math.ceil(Math.max(expectedEntries, 16) / MAX_LOAD_FACTOR));
+        this.slots = ByteBuffer.allocateDirect(capacity * SLOT_BYTES);
+    }
+
+    /**
+     * @return 키의 주소, 없으면 {@link #MISSING}
+     */
+    long get(long key) {
+        if (key <= 0) {
+            return MISSING;
+        }
+        int slot = findSlot(key);
+        return slotKey(slot) == key ? slotAddress(slot) : MISSING;
+    }
+
+    /**
+     * @return 교체된 이전 주소, 새 키였다면 {@link #MISSING}
+     */
+    long put(long key, long address) {
+        if (key <= 0) {
+            throw new IllegalArgumentException("키는 양수여야 합니다: " + key);
+        }
+        int slot = findSlot(key);
+        long slotKey = slotKey(slot);
+        long previous = MISSING;
+        if (slotKey == key) {
+            previous = slotAddress(slot);
+        } else {
+            if (slotKey == EMPTY) {
+                usedSlots++;
+            }
+            size++;
+        }
+        writeSlot(slot, key, address);
+        if (usedSlots > capacity * MAX_LOAD_FACTOR) {
+            // 삭제 표시가 대부분이면 같은 크기로 재배치만 한다
+            resize(size > capacity * MAX_LOAD_FACTOR / 2 ? capacity * 2 : capacity);
+        }
+        return previous;
+    }
+
+    /**
+     * @return 제거된 주소, 없었으면 {@link #MISSING}
+     */
+    long remove(long key) {
+        if (key <= 0) {
+            return MISSING;
+        }
+        int slot = findSlot(key);
+        if (slotKey(slot) != key) {
+            return MISSING;
+        }
+        long previous = slotAddress(slot);
+        writeSlot(slot, TOMBSTONE, EMPTY);
+        size--;
+        return previous;
+    }
+
+    /**
+     * 모든 항목의 주소를 remap 결과로 바꾼다 (세그먼트 압축 시 레코드 이동)
+     */
+    void replaceAll(LongUnaryOperator remap) {
+        for (int slot = 0; slot < capacity; slot++) {
+            long key = slotKey(slot);
+            if (key != EMPTY && key != TOMBSTONE) {
+                writeSlot(slot, key, remap.applyAsLong(slotAddress(slot)));
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    long bytes() {
+        return (long) capacity * SLOT_BYTES;
+    }
+
+    /**
+     * 키가 있으면 그 슬롯, 없으면 삽입할 슬롯(처음 만난 TOMBSTONE 또는 EMPTY)을 반환한다.
+     */
+    private int findSlot(long key) {
+        int mask = capacity - 1;
+        int slot = (int) mix(key) & mask;
+        int firstTombstone = -1;
+        while (true) {
+            long slotKey = slotKey(slot);
+            if (slotKey == key) {
+                return slot;
+            }
+            if (slotKey == EMPTY) {
+                return firstTombstone >= 0 ? firstTombstone : slot;
+            }
+            if (slotKey == TOMBSTONE && firstTombstone < 0) {
+                firstTombstone = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void resize(int newCapacity) {
+        ByteBuffer oldSlots = slots;
+        int oldCapacity = capacity;
+        slots = ByteBuffer.allocateDirect(newCapacity * SLOT_BYTES);
+        capacity = newCapacity;
+        usedSlots = 0;
+        for (int slot = 0; slot < oldCapacity; slot++) {
+            long key = oldSlots.getLong(slot * SLOT_BYTES);
+            if (key != EMPTY && key != TOMBSTONE) {
+                writeSlot(findSlot(key), key, oldSlots.getLong(slot * SLOT_BYTES + Long.BYTES));
+                usedSlots++;
+            }
+        }
+    }
+
+    private long slotKey(int slot) {
+        return slots.getLong(slot * SLOT_BYTES);
+    }
+
+    private long slotAddress(int slot) {
+        return slots.getLong(slot * SLOT_BYTES + Long.BYTES);
+    }
+
+    private void writeSlot(int slot, long key, long address) {
+        slots.putLong(slot * SLOT_BYTES + Long.BYTES, address);
+        slots.putLong(slot * SLOT_BYTES, key);
+    }
+
+    private static long mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+
+    private static int tableSizeFor(int minimum) {
+        int size = Integer.highestOneBit(Math.max(minimum - 1, 1)) << 1;
+        if (size <= 0) {
+            throw new IllegalArgumentException("예상 항목 수가 너무 큽니다: " + minimum);
+        }
+        return size;
+    }
+}
@@ -0,0 +1,174 @@
+package com.commerce.common.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 양수 long 키(고객 ID 등) → 가변 길이 레코드 오프힙 보관소
+ *
+ * 레코드 인코딩은 쓰는 쪽이 정하고, 이 클래스는 자리 확보, 키 인덱스, stale 바이트 집계와 압축만 맡는다.
+ * 서버의 프로필 저장소와 타 서비스에 내장되는 스냅샷 클라이언트가 함께 쓰므로 JDK 외 의존성을 두지 않는다.
+ *
+ * - 데이터: 고정 크기 세그먼트에 레코드를 추가 전용으로 기록한다. 모든 레코드는 자신을 포함한 전체 길이(int)로 시작한다.
+ *   갱신은 새 레코드를 추가하고 인덱스만 옮기며, 이전 레코드는 {@link #compact()} 전까지 stale 바이트로 남는다.
+ * - 인덱스: 힙 밖의 오픈 어드레싱 테이블 ({@link OffHeapIndex}). 주소는 세그먼트<<32 | 오프셋이다.
+ * - 동시성: 스레드 안전하지 않으므로 저장소가 읽기/쓰기 잠금으로 감싼다.
+ *   압축은 새 세그먼트에 복사하므로 이미 얻은 세그먼트 버퍼의 내용은 바뀌지 않는다.
+ */
+public class OffHeapRecords implements AutoCloseable {
+
+    public static final long MISSING = OffHeapIndex.MISSING;
+
+    private static final int LENGTH_OFFSET = 0;
+
+    private final SegmentAllocator allocator;
+    private final int segmentSize;
+    private final OffHeapIndex index;
+    private List<ByteBuffer> segments = new ArrayList<>();
+    private List<Integer> segmentNumbers = new ArrayList<>();
+    private int nextSegmentNumber;
+    private int writeOffset;
+    private long liveDataBytes;
+    private long staleDataBytes;
+
+    public OffHeapRecords(SegmentAllocator allocator, int segmentSize, int expectedEntries) {
+        if (segmentSize < 1024) {
+            throw new IllegalArgumentException("세그먼트 크기는 1KB 이상이어야 합니다.");
+        }
+        this.allocator = allocator;
+        this.segmentSize = segmentSize;
+        this.index = new OffHeapIndex(expectedEntries);
+    }
+
+    /**
+     * 마지막 세그먼트에 recordLength만큼 자리를 잡고 주소를 반환한다. 모자라면 세그먼트를 새로 할당한다.
+     * 호출한 쪽은 {@link #segment(long)}의 {@link #offset(long)}부터 길이를 포함한 레코드를 쓴 뒤 {@link #link}한다.
+     * 세그먼트 번호는 압축 후에도 겹치지 않도록 단조 증가시킨다.
+     */
+    public long reserve(int recordLength) {
+        if (recordLength < Integer.BYTES || recordLength > segmentSize) {
+            throw new IllegalArgumentException("레코드가 세그먼트 크기를 초과합니다: " + recordLength);
+        }
+        if (segments.isEmpty() || writeOffset + recordLength > segmentSize) {
+            int segmentNumber = nextSegmentNumber++;
+            segments.add(allocator.allocate(segmentNumber, segmentSize));
+            segmentNumbers.add(segmentNumber);
+            writeOffset = 0;
+        }
+        int offset = writeOffset;
+        writeOffset += recordLength;
+        return ((long) (segments.size() - 1) << 32) | offset;
+    }
+
+    /**
+     * 기록을 마친 레코드를 키에 연결한다. 같은 키의 이전 레코드는 stale 바이트가 된다.
+     */
+    public void link(long key, long address) {
+        long previous = index.put(key, address);
+        if (previous != MISSING) {
+            markStale(previous);
+        }
+        liveDataBytes += recordLength(address);
+    }
+
+    /**
+     * @return 키의 레코드 주소, 없으면 {@link #MISSING}
+     */
+    public long find(long key) {
+        return index.get(key);
+    }
+
+    /**
+     * 키를 제거한다. 레코드는 stale 바이트가 된다.
+     *
+     * @return 키가 있었으면 true
+     */
+    public boolean unlink(long key) {
+        long previous = index.remove(key);
+        if (previous == MISSING) {
+            return false;
+        }
+        markStale(previous);
+        return true;
+    }
+
+    /**
+     * stale 바이트가 세그먼트 하나 이상이고 유효 바이트의 staleRatio배를 넘으면 true
+     */
+    public boolean needsCompaction(double staleRatio) {
+        return staleDataBytes >= segmentSize && staleDataBytes > liveDataBytes * staleRatio;
+    }
+
+    /**
+     * 유효한 레코드만 새 세그먼트로 복사하고 이전 세그먼트를 반납한다.
+     * 이전 세그먼트는 덮어쓰지 않으므로 압축 전에 얻은 버퍼는 바인딩된 내용을 그대로 읽는다.
+     */
+    public void compact() {
+        List<ByteBuffer> oldSegments = segments;
+        List<Integer> oldSegmentNumbers = segmentNumbers;
+        segments = new ArrayList<>();
+        segmentNumbers = new ArrayList<>();
+        writeOffset = 0;
+        index.replaceAll(address -> {
+            ByteBuffer source = oldSegments.get(segmentIndex(address));
+            int offset = offset(address);
+            int recordLength = source.getInt(offset + LENGTH_OFFSET);
+            long newAddress = reserve(recordLength);
+            segment(newAddress).put(offset(newAddress), source, offset, recordLength);
+            return newAddress;
+        });
+        staleDataBytes = 0;
+        oldSegmentNumbers.forEach(allocator::release);
+    }
+
+    public ByteBuffer segment(long address) {
+        return segments.get(segmentIndex(address));
+    }
+
+    public static int offset(long address) {
+        return (int) address;
+    }
+
+    public int recordLength(long address) {
+        return segment(address).getInt(offset(address) + LENGTH_OFFSET);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public long liveDataBytes() {
+        return liveDataBytes;
+    }
+
+    public long staleDataBytes() {
+        return staleDataBytes;
+    }
+
+    public long indexBytes() {
+        return index.bytes();
+    }
+
+    /**
+     * 세그먼트로 확보한 전체 데이터 영역 바이트
+     */
+    public long reservedBytes() {
+        return (long) segments.size() * segmentSize;
+    }
+
+    @Override
+    public void close() {
+        allocator.close();
+    }
+
+    private void markStale(long address) {
+        int recordLength = recordLength(address);
+        liveDataBytes -= recordLength;
+        staleDataBytes += recordLength;
+    }
+
+    private static int segmentIndex(long address) {
+        return (int) (address >>> 32);
+    }
+}
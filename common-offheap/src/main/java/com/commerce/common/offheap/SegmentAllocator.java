@@ -0,0 +1,104 @@
+package com.commerce.common.offheap;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 오프힙 데이터 세그먼트 할당 방식
+ */
+public interface SegmentAllocator extends AutoCloseable {
+
+    ByteBuffer allocate(int segmentIndex, int segmentSize);
+
+    /**
+     * 압축으로 더 이상 쓰지 않는 세그먼트를 반납한다.
+     * 이미 얻은 버퍼는 참조가 남아 있는 동안 계속 읽을 수 있어야 한다.
+     */
+    default void release(int segmentIndex) {
+    }
+
+    @Override
+    default void close() {
+    }
+
+    /**
+     * Direct buffer 할당 (프로세스 메모리, 힙 밖)
+     */
+    static SegmentAllocator direct() {
+        return (segmentIndex, segmentSize) -> ByteBuffer.allocateDirect(segmentSize);
+    }
+
+    /**
+     * 메모리 맵 파일 할당. 세그먼트마다 directory/{filePrefix}-N.seg 파일을 만든다.
+     * 물리 메모리가 부족하면 OS가 페이지를 내보내므로 데이터가 RAM보다 커도 동작한다.
+     */
+    static SegmentAllocator memoryMapped(Path directory, String filePrefix) {
+        return new MemoryMappedAllocator(directory, filePrefix);
+    }
+
+    final class MemoryMappedAllocator implements SegmentAllocator {
+
+        private final Path directory;
+        private final String filePrefix;
+        private final Map<Integer, FileChannel> channels = new HashMap<>();
+
+        private MemoryMappedAllocator(Path directory, String filePrefix) {
+            this.directory = directory;
+            this.filePrefix = filePrefix;
+        }
+
+        @Override
+        public synchronized ByteBuffer allocate(int segmentIndex, int segmentSize) {
+            try {
+                Files.createDirectories(directory);
+                FileChannel channel = FileChannel.open(segmentFile(segmentIndex),
+                        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+                channels.put(segmentIndex, channel);
+                return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            } catch (IOException e) {
+                throw new UncheckedIOException("오프힙 세그먼트 파일을 생성할 수 없습니다: " + directory, e);
+            }
+        }
+
+        /**
+         * 채널을 닫고 파일을 지운다. 매핑은 버퍼가 회수될 때까지 유지되므로 이미 바인딩된 뷰는 계속 읽을 수 있다.
+         */
+        @Override
+        public synchronized void release(int segmentIndex) {
+            FileChannel channel = channels.remove(segmentIndex);
+            if (channel == null) {
+                return;
+            }
+            try {
+                channel.close();
+                Files.deleteIfExists(segmentFile(segmentIndex));
+            } catch (IOException e) {
+                throw new UncheckedIOException("오프힙 세그먼트 파일을 반납할 수 없습니다: " + directory, e);
+            }
+        }
+
+        @Override
+        public synchronized void close() {
+            for (FileChannel channel : channels.values()) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            channels.clear();
+        }
+
+        private Path segmentFile(int segmentIndex) {
+            return directory.resolve(filePrefix + "-" + segmentIndex + ".seg");
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.commerce.common.offheap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OffHeapRecords 테스트")
+class OffHeapRecordsTest {
+
+    @Test
+    @DisplayName("연결한 레코드를 키로 찾고, 같은 키를 다시 연결하면 이전 레코드는 stale 바이트가 된다")
+    void link_ReplacesPreviousRecord() {
+        // given
+        try (OffHeapRecords records = new OffHeapRecords(SegmentAllocator.direct(), 1024, 16)) {
+            long first = write(records, 7, 1);
+
+            // when
+            long second = write(records, 7, 2);
+
+            // then
+            assertThat(records.find(7)).isEqualTo(second).isNotEqualTo(first);
+            assertThat(valueAt(records, records.find(7))).isEqualTo(2);
+            assertThat(records.size()).isEqualTo(1);
+            assertThat(records.liveDataBytes()).isEqualTo(8);
+            assertThat(records.staleDataBytes()).isEqualTo(8);
+            assertThat(records.find(8)).isEqualTo(OffHeapRecords.MISSING);
+            assertThat(records.find(0)).isEqualTo(OffHeapRecords.MISSING);
+        }
+    }
+
+    @Test
+    @DisplayName("제거한 키 뒤의 탐사 체인에 있는 키는 계속 찾고, 인덱스가 차면 늘린다")
+    void unlink_KeepsProbeChainAndResizes() {
+        // given
+        try (OffHeapRecords records = new OffHeapRecords(SegmentAllocator.direct(), 4096, 16)) {
+            long indexBytesBefore = records.indexBytes();
+            for (long key = 1; key <= 200; key++) {
+                write(records, key, (int) key);
+            }
+
+            // when
+            for (long key = 1; key <= 200; key += 2) {
+                assertThat(records.unlink(key)).isTrue();
+            }
+
+            // then
+            assertThat(records.unlink(1)).isFalse();
+            assertThat(records.size()).isEqualTo(100);
+            assertThat(records.indexBytes()).isGreaterThan(indexBytesBefore);
+            for (long key = 1; key <= 200; key++) {
+                long address = records.find(key);
+                if (key % 2 == 0) {
+                    assertThat(valueAt(records, address)).isEqualTo((int) key);
+                } else {
+                    assertThat(address).isEqualTo(OffHeapRecords.MISSING);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("압축하면 live 레코드만 새 세그먼트로 옮기고, 이전 세그먼트 버퍼의 내용은 바뀌지 않는다")
+    void compact_MovesLiveRecordsOnly() {
+        // given
+        try (OffHeapRecords records = new OffHeapRecords(SegmentAllocator.direct(), 1024, 16)) {
+            for (int round = 0; round < 300; round++) {
+                write(records, 1, round);
+            }
+            write(records, 2, 42);
+            long before = records.find(1);
+            ByteBuffer boundSegment = records.segment(before);
+            assertThat(records.needsCompaction(1.0)).isTrue();
+
+            // when
+            records.compact();
+
+            // then
+            assertThat(records.staleDataBytes()).isZero();
+            assertThat(records.liveDataBytes()).isEqualTo(16);
+            assertThat(records.reservedBytes()).isEqualTo(1024);
+            assertThat(valueAt(records, records.find(1))).isEqualTo(299);
+            assertThat(valueAt(records, records.find(2))).isEqualTo(42);
+            assertThat(boundSegment.getInt(OffHeapRecords.offset(before) + Integer.BYTES)).isEqualTo(299);
+            assertThat(records.needsCompaction(1.0)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("양수가 아닌 키, 길이 필드보다 짧거나 세그먼트보다 큰 레코드는 받지 않는다")
+    void rejectsInvalidInput() {
+        try (OffHeapRecords records = new OffHeapRecords(SegmentAllocator.direct(), 1024, 16)) {
+            long address = write(records, 1, 1);
+
+            assertThatThrownBy(() -> records.link(0, address)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> records.reserve(2)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> records.reserve(2048)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new OffHeapRecords(SegmentAllocator.direct(), 512, 16))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    /**
+     * [전체 길이(4) | 값(4)] 레코드를 기록하고 연결한다
+     */
+    private long write(OffHeapRecords records, long key, int value) {
+        long address = records.reserve(8);
+        ByteBuffer segment = records.segment(address);
+        int offset = OffHeapRecords.offset(address);
+        segment.putInt(offset, 8);
+        segment.putInt(offset + Integer.BYTES, value);
+        records.link(key, address);
+        return address;
+    }
+
+    private int valueAt(OffHeapRecords records, long address) {
+        return records.segment(address).getInt(OffHeapRecords.offset(address) + Integer.BYTES);
+    }
+}
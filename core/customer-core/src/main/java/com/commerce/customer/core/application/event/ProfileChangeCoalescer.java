@@ -0,0 +1,268 @@
+package com.commerce.customer.core.application.event;
+
+import com.commerce.customer.core.domain.event.DomainEvent;
+import com.commerce.customer.core.domain.event.DomainEventPublisher;
+import com.commerce.customer.core.domain.event.ProfileChangedEvent;
+import com.commerce.customer.core.domain.model.CustomerId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 프로필 변경 이벤트 병합기
+ * 프로필 편집 화면은 항목마다 PATCH를 연달아 보내므로, 변경마다 이벤트를 내보내지 않고
+ * 고객별로 window 동안 추가 변경이 없을 때까지 모았다가 바뀐 항목의 합집합을 담은 이벤트 하나로 발행한다.
+ *
+ * 지연 상한: 변경이 계속 이어져도 첫 변경 후 max-delay가 지나면 그때까지의 변경을 내보낸다.
+ * 순서: 고객별 대기 항목은 하나뿐이고 발행은 한 스레드에서 차례로 수행하므로, 같은 고객의 이벤트는 변경 순서대로 발행된다.
+ * 아웃박스 발행기는 호출 트랜잭션을 요구하므로 발행은 별도 트랜잭션 안에서 수행한다.
+ * 대기 중인 변경은 메모리에만 있으므로 종료 시(stop) 남은 변경을 모두 발행한다.
+ *
+ * <pre>
+ * commerce:
+ *   profile:
+ *     events:
+ *       coalesce-window: 500ms   # 0이면 병합 없이 즉시 발행
+ *       max-delay: 2s
+ * </pre>
+ */
+@Slf4j
+@Component
+public class ProfileChangeCoalescer implements SmartLifecycle {
+
+    private static final Duration MIN_TICK = Duration.ofMillis(10);
+
+    private final DomainEventPublisher domainEventPublisher;
+    private final TransactionOperations transactionOperations;
+    private final long windowNanos;
+    private final long maxDelayNanos;
+    private final LongSupplier nanoClock;
+
+    // 고객별 대기 중인 병합 이벤트 (삽입 순서 = 첫 변경 순서)
+    private final Map<CustomerId, Pending> pending = new LinkedHashMap<>();
+    // 발행 구간 직렬화 (같은 고객의 이전 이벤트가 먼저 발행되도록)
+    private final Object publishLock = new Object();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong published = new AtomicLong();
+
+    private ScheduledExecutorService executor;
+    private volatile boolean running;
+
+    @Autowired
+    public ProfileChangeCoalescer(DomainEventPublisher domainEventPublisher,
+                                  TransactionOperations transactionOperations,
+                                  @Value("${commerce.profile.events.coalesce-window:500ms}") Duration window,
+                                  @Value("${commerce.profile.events.max-delay:2s}") Duration maxDelay) {
+        this(domainEventPublisher, transactionOperations, window, maxDelay, System::nanoTime);
+    }
+
+    ProfileChangeCoalescer(DomainEventPublisher domainEventPublisher, TransactionOperations transactionOperations,
+                           Duration window, Duration maxDelay, LongSupplier nanoClock) {
+        if (window.isNegative() || maxDelay.compareTo(window) < 0) {
+            throw new IllegalArgumentException("병합 구간은 0 이상이고 최대 지연은 병합 구간 이상이어야 합니다: "
+                    + window + ", " + maxDelay);
+        }
+        this.domainEventPublisher = domainEventPublisher;
+        this.transactionOperations = transactionOperations;
+        this.windowNanos = window.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 변경 이벤트를 병합 대기열에 넣습니다.
+     * 병합 구간이 0이면 즉시 발행하고, 프로필 변경이 아닌 이벤트는 병합하지 않고 바로 발행합니다.
+     */
+    public void submit(Collection<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (windowNanos == 0) {
+            publish(new ArrayList<>(events));
+            return;
+        }
+        List<DomainEvent> passThrough = new ArrayList<>();
+        long now = nanoClock.getAsLong();
+        synchronized (pending) {
+            for (DomainEvent event : events) {
+                if (event instanceof ProfileChangedEvent change) {
+                    submitted.incrementAndGet();
+                    pending.computeIfAbsent(change.getCustomerId(), id -> new Pending(now)).add(change, now);
+                } else {
+                    passThrough.add(event);
+                }
+            }
+        }
+        if (!passThrough.isEmpty()) {
+            publish(passThrough);
+        }
+    }
+
+    /**
+     * 병합 구간 동안 추가 변경이 없었거나 최대 지연에 도달한 고객의 이벤트를 발행합니다.
+     *
+     * @return 발행한 이벤트 수
+     */
+    public int flushDue() {
+        return flush(false);
+    }
+
+    /**
+     * 대기 중인 모든 변경을 즉시 발행합니다.
+     *
+     * @return 발행한 이벤트 수
+     */
+    public int flushAll() {
+        return flush(true);
+    }
+
+    public int pendingCustomers() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    public long submitted() {
+        return submitted.get();
+    }
+
+    public long published() {
+        return published.get();
+    }
+
+    private int flush(boolean all) {
+        synchronized (publishLock) {
+            List<DomainEvent> due = new ArrayList<>();
+            long now = nanoClock.getAsLong();
+            synchronized (pending) {
+                Iterator<Pending> iterator = pending.values().iterator();
+                while (iterator.hasNext()) {
+                    Pending entry = iterator.next();
+                    if (all || entry.isDue(now, windowNanos, maxDelayNanos)) {
+                        due.add(entry.event);
+                        iterator.remove();
+                    }
+                }
+            }
+            if (due.isEmpty()) {
+                return 0;
+            }
+            try {
+                publish(due);
+            } catch (RuntimeException e) {
+                log.error("프로필 변경 이벤트 발행 실패, 다음 주기에 다시 시도 - count: {}", due.size(), e);
+                requeue(due, now);
+                return 0;
+            }
+            published.addAndGet(due.size());
+            return due.size();
+        }
+    }
+
+    private void publish(List<DomainEvent> events) {
+        transactionOperations.executeWithoutResult(status -> domainEventPublisher.publish(events)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("프로필 변경 이벤트 전송 실패 - count: {}", events.size(), ex);
+                    }
+                }));
+    }
+
+    // 실패한 이벤트를 그 사이 들어온 같은 고객의 변경 앞에 합쳐 순서를 유지한다
+    private void requeue(List<DomainEvent> failed, long now) {
+        synchronized (pending) {
+            for (DomainEvent event : failed) {
+                ProfileChangedEvent change = (ProfileChangedEvent) event;
+                Pending newer = pending.remove(change.getCustomerId());
+                Pending restored = new Pending(now);
+                restored.add(change, now);
+                if (newer != null) {
+                    restored.add(newer.event, now);
+                }
+                pending.put(change.getCustomerId(), restored);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        if (running || windowNanos == 0) {
+            return;
+        }
+        long tickMillis = Math.max(MIN_TICK.toMillis(), TimeUnit.NANOSECONDS.toMillis(windowNanos) / 4);
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "profile-change-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flushDueSafely, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int flushed = flushAll();
+        if (flushed > 0) {
+            log.info("종료 전 대기 중인 프로필 변경 이벤트 발행 - count: {}", flushed);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void flushDueSafely() {
+        try {
+            flushDue();
+        } catch (RuntimeException e) {
+            log.error("프로필 변경 이벤트 병합 주기 실패", e);
+        }
+    }
+
+    private static final class Pending {
+        private final long firstChangedNanos;
+        private long lastChangedNanos;
+        private ProfileChangedEvent event;
+
+        private Pending(long now) {
+            this.firstChangedNanos = now;
+            this.lastChangedNanos = now;
+        }
+
+        private void add(ProfileChangedEvent change, long now) {
+            event = event == null ? change : event.mergedWith(change);
+            lastChangedNanos = now;
+        }
+
+        private boolean isDue(long now, long windowNanos, long maxDelayNanos) {
+            return now - lastChangedNanos >= windowNanos || now - firstChangedNanos >= maxDelayNanos;
+        }
+    }
+}
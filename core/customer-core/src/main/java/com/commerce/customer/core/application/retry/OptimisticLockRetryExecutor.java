@@ -0,0 +1,93 @@
+package com.commerce.customer.core.application.retry;
+
+import com.commerce.customer.core.domain.exception.OptimisticLockConflictException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 잠금 충돌 시 트랜잭션 단위로 다시 실행하는 실행기
+ * 시도마다 새 트랜잭션(새 영속성 컨텍스트)에서 읽기-수정-쓰기를 반복해야 최신 버전을 기준으로 변경이 적용된다.
+ * 이미 바깥 트랜잭션에 참여 중이면 다시 읽어도 같은 스냅샷이므로 재시도하지 않고 한 번만 실행한다.
+ */
+@Component
+public class OptimisticLockRetryExecutor {
+
+    private final TransactionOperations transactionOperations;
+    private final OptimisticLockRetryPolicy policy;
+    private final LongUnaryOperator jitter;
+    private final Sleeper sleeper;
+
+    @Autowired
+    public OptimisticLockRetryExecutor(TransactionOperations transactionOperations) {
+        this(transactionOperations, OptimisticLockRetryPolicy.defaults(),
+                bound -> bound > 0 ? ThreadLocalRandom.current().nextLong(bound + 1) : 0L,
+                Thread::sleep);
+    }
+
+    OptimisticLockRetryExecutor(TransactionOperations transactionOperations, OptimisticLockRetryPolicy policy,
+                                LongUnaryOperator jitter, Sleeper sleeper) {
+        this.transactionOperations = transactionOperations;
+        this.policy = policy;
+        this.jitter = jitter;
+        this.sleeper = sleeper;
+    }
+
+    public void run(String aggregateType, Object aggregateId, Runnable action) {
+        execute(aggregateType, aggregateId, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public <T> T execute(String aggregateType, Object aggregateId, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return translate(aggregateType, aggregateId, action);
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionOperations.execute(status -> action.get());
+            } catch (OptimisticLockConflictException | OptimisticLockingFailureException e) {
+                OptimisticLockConflictException conflict = e instanceof OptimisticLockConflictException typed
+                        ? typed
+                        : new OptimisticLockConflictException(aggregateType, aggregateId, e);
+                if (attempt >= policy.maxAttempts()) {
+                    throw conflict;
+                }
+                pause(jitter.applyAsLong(policy.backoffCeilingMillis(attempt)), conflict);
+            }
+        }
+    }
+
+    private <T> T translate(String aggregateType, Object aggregateId, Supplier<T> action) {
+        try {
+            return action.get();
+        } catch (OptimisticLockingFailureException e) {
+            throw new OptimisticLockConflictException(aggregateType, aggregateId, e);
+        }
+    }
+
+    private void pause(long millis, OptimisticLockConflictException conflict) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            sleeper.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+}
@@ -0,0 +1,35 @@
+package com.commerce.customer.core.application.retry;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 낙관적 잠금 충돌 재시도 정책
+ * 시도마다 상한을 두 배씩 늘리고 그 범위 안에서 무작위 대기(full jitter)하여
+ * 같은 행을 다투는 요청들이 같은 시각에 다시 충돌하지 않도록 한다.
+ */
+public record OptimisticLockRetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+
+    private static final OptimisticLockRetryPolicy DEFAULT =
+            new OptimisticLockRetryPolicy(3, Duration.ofMillis(20), Duration.ofMillis(200));
+
+    public OptimisticLockRetryPolicy {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("최대 시도 횟수는 1 이상이어야 합니다.");
+        }
+        Objects.requireNonNull(initialBackoff, "초기 대기 시간은 필수값입니다.");
+        Objects.requireNonNull(maxBackoff, "최대 대기 시간은 필수값입니다.");
+    }
+
+    public static OptimisticLockRetryPolicy defaults() {
+        return DEFAULT;
+    }
+
+    /**
+     * n번째 실패(1부터) 이후 대기할 시간의 상한 (밀리초)
+     */
+    public long backoffCeilingMillis(int failedAttempt) {
+        long ceiling = initialBackoff.toMillis() << Math.min(failedAttempt - 1, 20);
+        return Math.min(ceiling, maxBackoff.toMillis());
+    }
+}
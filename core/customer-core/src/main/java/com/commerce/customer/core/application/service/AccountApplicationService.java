@@ -17,8 +17,6 @@ import com.commerce.customer.core.domain.service.AccountDomainService;
 import com.commerce.customer.core.domain.service.PasswordEncoder;
 import com.commerce.customer.core.domain.service.jwt.JwtTokenService;
 import com.commerce.customer.core.domain.event.DomainEventPublisher;
-import com.commerce.customer.core.domain.event.AccountCreatedEvent;
-import com.commerce.customer.core.domain.event.AccountActivatedEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -54,6 +52,9 @@ public class AccountApplicationService implements CreateAccountUseCase, LoginUse
             throw new IllegalArgumentException(loginResult.getFailureReason());
         }
         
+        // 로그인 성공 이벤트는 발행기에 넘기기만 하고 전달 결과를 기다리지 않는다
+        domainEventPublisher.publish(loginResult.getDomainEvents());
+        
         return jwtTokenService.generateTokenPair(
                 loginResult.getCustomerId(), 
                 loginResult.getAccountId(), 
@@ -100,13 +101,7 @@ public class AccountApplicationService implements CreateAccountUseCase, LoginUse
     }
     
     private void publishDomainEvents(Account account) {
-        account.getDomainEvents().forEach(event -> {
-            if (event instanceof AccountCreatedEvent) {
-                domainEventPublisher.publishAccountCreatedEvent((AccountCreatedEvent) event);
-            } else if (event instanceof AccountActivatedEvent) {
-                domainEventPublisher.publishAccountActivatedEvent((AccountActivatedEvent) event);
-            }
-        });
+        domainEventPublisher.publish(account.getDomainEvents());
         account.clearDomainEvents();
     }
 }
\ No newline at end of file
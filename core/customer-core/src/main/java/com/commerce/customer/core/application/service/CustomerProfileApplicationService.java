@@ -1,12 +1,17 @@
 package com.commerce.customer.core.application.service;
 
+import com.commerce.customer.core.application.event.ProfileChangeCoalescer;
+import com.commerce.customer.core.application.retry.OptimisticLockRetryExecutor;
 import com.commerce.customer.core.application.usecase.profile.CreateCustomerProfileUseCase;
 import com.commerce.customer.core.application.usecase.profile.GetCustomerProfileUseCase;
 import com.commerce.customer.core.application.usecase.profile.UpdateCustomerProfileUseCase;
+import com.commerce.customer.core.domain.event.DomainEvent;
 import com.commerce.customer.core.domain.model.AccountId;
 import com.commerce.customer.core.domain.model.CustomerId;
 import com.commerce.customer.core.domain.model.profile.CustomerProfile;
 import com.commerce.customer.core.domain.model.profile.ProfileId;
+import com.commerce.customer.core.domain.model.profile.ProfileSummary;
+import com.commerce.customer.core.domain.model.profile.ProfileView;
 import com.commerce.customer.core.domain.model.profile.PersonalInfo;
 import com.commerce.customer.core.domain.model.profile.ContactInfo;
 import com.commerce.customer.core.domain.model.profile.Address;
@@ -15,21 +20,37 @@ import com.commerce.customer.core.domain.model.profile.ProfilePreferences;
 import com.commerce.customer.core.domain.model.profile.PhoneNumber;
 import com.commerce.customer.core.domain.repository.AccountRepository;
 import com.commerce.customer.core.domain.repository.profile.CustomerProfileRepository;
+import com.commerce.customer.core.domain.repository.profile.ProfileSummaryRepository;
+import com.commerce.customer.core.domain.repository.profile.ProfileViewRepository;
 import com.commerce.customer.core.domain.service.profile.CustomerProfileDomainService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+/**
+ * 고객 프로필 애플리케이션 서비스
+ * 프로필 변경은 비관적 잠금 대신 버전 비교로 충돌을 감지하고, 충돌 시 새 트랜잭션에서
+ * 최신 상태를 다시 읽어 변경을 재적용한다. 따라서 변경 메서드는 트랜잭션 경계를 재시도 실행기에 맡긴다.
+ * 변경 이벤트는 커밋된 시도의 것만 병합기에 넘겨, 연속된 수정이 고객별 변경 집합 이벤트 하나로 발행되게 한다.
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class CustomerProfileApplicationService implements CreateCustomerProfileUseCase, GetCustomerProfileUseCase, UpdateCustomerProfileUseCase {
     
+    private static final String AGGREGATE_TYPE = "CustomerProfile";
+    
     private final CustomerProfileRepository customerProfileRepository;
     private final CustomerProfileDomainService customerProfileDomainService;
     private final AccountRepository accountRepository;
+    private final ProfileViewRepository profileViewRepository;
+    private final ProfileSummaryRepository profileSummaryRepository;
+    private final OptimisticLockRetryExecutor retryExecutor;
+    private final ProfileChangeCoalescer profileChangeCoalescer;
     
     @Override
+    @Transactional
     public ProfileId createProfile(AccountId accountId, PersonalInfo personalInfo, ContactInfo contactInfo) {
         // AccountId로부터 CustomerId를 가져옵니다
         CustomerId customerId = accountRepository.findById(accountId)
@@ -58,58 +79,89 @@ public class CustomerProfileApplicationService implements CreateCustomerProfileU
                 .orElseThrow(() -> new IllegalArgumentException("계정의 프로필을 찾을 수 없습니다."));
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public ProfileView getProfileViewByAccountId(AccountId accountId) {
+        return profileViewRepository.findByAccountId(accountId)
+                .orElseThrow(() -> notFound(accountId));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public ProfileSummary getProfileSummary(CustomerId customerId) {
+        return profileSummaryRepository.findByCustomerId(customerId)
+                .orElseThrow(() -> new IllegalArgumentException("프로필을 찾을 수 없습니다."));
+    }
+    
+    // 읽기 모델은 계정과 프로필을 함께 조회하므로, 조회 실패 시에만 계정 존재 여부로 원인을 구분한다
+    private IllegalArgumentException notFound(AccountId accountId) {
+        if (accountRepository.findById(accountId).isEmpty()) {
+            return new IllegalArgumentException("계정을 찾을 수 없습니다.");
+        }
+        return new IllegalArgumentException("계정의 프로필을 찾을 수 없습니다.");
+    }
+    
     @Override
     public void updatePersonalInfo(ProfileId profileId, PersonalInfo personalInfo) {
-        customerProfileDomainService.updatePersonalInfo(profileId, personalInfo);
+        publishChanges(retryExecutor.execute(AGGREGATE_TYPE, profileId.getValue(),
+                () -> customerProfileDomainService.updatePersonalInfo(profileId, personalInfo).getDomainEvents()));
     }
     
     @Override
     public void updateContactInfo(ProfileId profileId, ContactInfo contactInfo) {
-        CustomerProfile profile = getProfile(profileId);
-        profile.updateContactInfo(contactInfo);
-        customerProfileRepository.save(profile);
+        publishChanges(retryExecutor.execute(AGGREGATE_TYPE, profileId.getValue(), () -> {
+            CustomerProfile profile = getProfile(profileId);
+            profile.updateContactInfo(contactInfo);
+            customerProfileRepository.save(profile);
+            return profile.getDomainEvents();
+        }));
     }
     
     @Override
     public void addAddress(ProfileId profileId, Address address) {
-        customerProfileDomainService.validateAndAddAddress(profileId, address);
+        publishChanges(retryExecutor.execute(AGGREGATE_TYPE, profileId.getValue(),
+                () -> customerProfileDomainService.validateAndAddAddress(profileId, address).getDomainEvents()));
     }
     
     @Override
     public void updateAddress(ProfileId profileId, Address address) {
-        CustomerProfile profile = getProfile(profileId);
-        // 기존 주소를 제거하고 새 주소를 추가하는 방식으로 업데이트
-        profile.removeAddress(address.getAddressId());
-        profile.addAddress(address);
-        customerProfileRepository.save(profile);
+        publishChanges(retryExecutor.execute(AGGREGATE_TYPE, profileId.getValue(), () -> {
+            CustomerProfile profile = getProfile(profileId);
+            // 기존 주소를 제거하고 새 주소를 추가하는 방식으로 업데이트
+            profile.removeAddress(address.getAddressId());
+            profile.addAddress(address);
+            customerProfileRepository.save(profile);
+            return profile.getDomainEvents();
+        }));
     }
     
     @Override
     public void removeAddress(ProfileId profileId, Address address) {
-        CustomerProfile profile = getProfile(profileId);
-        profile.removeAddress(address.getAddressId());
-        customerProfileRepository.save(profile);
+        publishChanges(retryExecutor.execute(AGGREGATE_TYPE, profileId.getValue(), () -> {
+            CustomerProfile profile = getProfile(profileId);
+            profile.removeAddress(address.getAddressId());
+            customerProfileRepository.save(profile);
+            return profile.getDomainEvents();
+        }));
     }
     
     @Override
     public void updatePreferences(ProfileId profileId, ProfilePreferences preferences) {
-        customerProfileDomainService.updatePreferences(profileId, preferences);
+        publishChanges(retryExecutor.execute(AGGREGATE_TYPE, profileId.getValue(),
+                () -> customerProfileDomainService.updatePreferences(profileId, preferences).getDomainEvents()));
     }
     
     /**
      * 전화번호 업데이트
-     * AccountId를 사용하여 프로필을 찾아 전화번호를 업데이트합니다.
+     * AccountId로 프로필 ID만 확인한 뒤, 다른 변경 메서드와 같이 프로필 ID로 캐시를 거치지 않고 다시 읽어 수정합니다.
+     * (캐시된 프로필의 버전은 DB보다 오래되었을 수 있어 저장 시 충돌로 판정됩니다)
      */
     public void updatePhoneNumber(AccountId accountId, PhoneNumber phoneNumber) {
-        CustomerId customerId = accountRepository.findById(accountId)
-                .orElseThrow(() -> new IllegalArgumentException("계정을 찾을 수 없습니다."))
-                .getCustomerId();
-        
-        CustomerProfile profile = customerProfileRepository.findByCustomerId(customerId)
-                .orElseThrow(() -> new IllegalArgumentException("계정의 프로필을 찾을 수 없습니다."));
-        
-        ContactInfo updatedContactInfo = ContactInfo.of(phoneNumber);
-        profile.updateContactInfo(updatedContactInfo);
-        customerProfileRepository.save(profile);
+        ProfileId profileId = getProfileByAccountId(accountId).getProfileId();
+        updateContactInfo(profileId, ContactInfo.of(phoneNumber));
+    }
+    
+    private void publishChanges(List<DomainEvent> events) {
+        profileChangeCoalescer.submit(events);
     }
 }
\ No newline at end of file
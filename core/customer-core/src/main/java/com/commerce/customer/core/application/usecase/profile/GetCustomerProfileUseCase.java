@@ -1,10 +1,15 @@
 package com.commerce.customer.core.application.usecase.profile;
 
 import com.commerce.customer.core.domain.model.AccountId;
+import com.commerce.customer.core.domain.model.CustomerId;
 import com.commerce.customer.core.domain.model.profile.CustomerProfile;
 import com.commerce.customer.core.domain.model.profile.ProfileId;
+import com.commerce.customer.core.domain.model.profile.ProfileSummary;
+import com.commerce.customer.core.domain.model.profile.ProfileView;
 
 public interface GetCustomerProfileUseCase {
     CustomerProfile getProfile(ProfileId profileId);
     CustomerProfile getProfileByAccountId(AccountId accountId);
+    ProfileView getProfileViewByAccountId(AccountId accountId);
+    ProfileSummary getProfileSummary(CustomerId customerId);
 }
\ No newline at end of file
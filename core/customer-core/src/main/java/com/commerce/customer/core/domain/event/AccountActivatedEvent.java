@@ -7,7 +7,7 @@ import lombok.Getter;
 import java.time.LocalDateTime;
 
 @Getter
-public class AccountActivatedEvent {
+public final class AccountActivatedEvent implements DomainEvent {
     private final AccountId accountId;
     private final CustomerId customerId;
     private final LocalDateTime occurredAt;
@@ -21,4 +21,9 @@ public class AccountActivatedEvent {
     public static AccountActivatedEvent of(AccountId accountId, CustomerId customerId) {
         return new AccountActivatedEvent(accountId, customerId);
     }
-}
\ No newline at end of file
+
+    @Override
+    public String key() {
+        return accountId.getValue().toString();
+    }
+}
@@ -8,7 +8,7 @@ import lombok.Getter;
 import java.time.LocalDateTime;
 
 @Getter
-public class AccountCreatedEvent {
+public final class AccountCreatedEvent implements DomainEvent {
     private final AccountId accountId;
     private final CustomerId customerId;
     private final Email email;
@@ -22,4 +22,9 @@ public class AccountCreatedEvent {
         this.activationCode = activationCode;
         this.occurredAt = LocalDateTime.now();
     }
-}
\ No newline at end of file
+
+    @Override
+    public String key() {
+        return accountId.getValue().toString();
+    }
+}
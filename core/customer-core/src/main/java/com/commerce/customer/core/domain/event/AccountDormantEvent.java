@@ -0,0 +1,35 @@
+package com.commerce.customer.core.domain.event;
+
+import com.commerce.customer.core.domain.model.AccountId;
+import com.commerce.customer.core.domain.model.CustomerId;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 장기 미접속으로 계정이 휴면 전환됨
+ * 마지막 로그인 일시를 함께 실어 구독 측이 분리 보관/안내 발송 기준일을 계산할 수 있게 한다.
+ */
+@Getter
+public final class AccountDormantEvent implements DomainEvent {
+    private final AccountId accountId;
+    private final CustomerId customerId;
+    private final LocalDateTime lastLoginAt;
+    private final LocalDateTime occurredAt;
+
+    public AccountDormantEvent(AccountId accountId, CustomerId customerId, LocalDateTime lastLoginAt) {
+        this.accountId = accountId;
+        this.customerId = customerId;
+        this.lastLoginAt = lastLoginAt;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public static AccountDormantEvent of(AccountId accountId, CustomerId customerId, LocalDateTime lastLoginAt) {
+        return new AccountDormantEvent(accountId, customerId, lastLoginAt);
+    }
+
+    @Override
+    public String key() {
+        return accountId.getValue().toString();
+    }
+}
@@ -0,0 +1,34 @@
+package com.commerce.customer.core.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 고객 도메인 이벤트
+ * 발행기는 이벤트 종류별 메서드 없이 토픽과 파티션 키를 이벤트에서 직접 얻는다.
+ * 새 이벤트는 permits 목록과 {@link DomainEventType}에 함께 등록한다.
+ */
+public sealed interface DomainEvent
+        permits AccountCreatedEvent, AccountActivatedEvent, AccountDormantEvent,
+                LoginSuccessfulEvent, TokenGeneratedEvent, TokenInvalidatedEvent, ProfileChangedEvent {
+
+    /**
+     * 이벤트 종류 (클래스 기준 등록 정보)
+     */
+    default DomainEventType type() {
+        return DomainEventType.of(getClass());
+    }
+
+    /**
+     * 발행 토픽
+     */
+    default String topic() {
+        return type().topic();
+    }
+
+    /**
+     * 파티션 키. 같은 키의 이벤트는 같은 파티션에 발생 순서대로 쌓인다.
+     */
+    String key();
+
+    LocalDateTime getOccurredAt();
+}
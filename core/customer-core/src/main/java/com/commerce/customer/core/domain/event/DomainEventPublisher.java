@@ -1,6 +1,15 @@
 package com.commerce.customer.core.domain.event;
 
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
 public interface DomainEventPublisher {
-    void publishAccountCreatedEvent(AccountCreatedEvent event);
-    void publishAccountActivatedEvent(AccountActivatedEvent event);
-}
\ No newline at end of file
+
+    /**
+     * 도메인 이벤트 일괄 발행
+     * 종류가 섞인 이벤트를 한 번의 호출로 넘기며, 토픽과 키는 각 이벤트가 결정한다.
+     * 반환값은 모든 이벤트의 전달이 확인되면 완료되고 하나라도 실패하면 예외로 완료된다.
+     * 요청 경로는 반환값을 기다리지 않고, 상태 변경을 확정하기 전에 전달을 보장해야 하는 배치만 join 한다.
+     */
+    CompletableFuture<Void> publish(Collection<? extends DomainEvent> events);
+}
@@ -0,0 +1,19 @@
+package com.commerce.customer.core.domain.event;
+
+/**
+ * 고객 도메인 이벤트 토픽
+ * 직접 발행, 아웃박스 릴레이, 구독 설정이 같은 이름을 쓰도록 한 곳에서 관리한다.
+ */
+public final class DomainEventTopics {
+
+    public static final String ACCOUNT_CREATED = "customer.account.created";
+    public static final String ACCOUNT_ACTIVATED = "customer.account.activated";
+    public static final String ACCOUNT_DORMANT = "customer.account.dormant";
+    public static final String LOGIN_SUCCEEDED = "customer.account.login-succeeded";
+    public static final String TOKEN_GENERATED = "customer.token.generated";
+    public static final String TOKEN_INVALIDATED = "customer.token.invalidated";
+    public static final String PROFILE_CHANGED = "customer.profile.changed";
+
+    private DomainEventTopics() {
+    }
+}
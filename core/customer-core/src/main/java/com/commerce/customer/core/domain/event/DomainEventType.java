@@ -0,0 +1,71 @@
+package com.commerce.customer.core.domain.event;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 도메인 이벤트 등록 정보
+ * 이벤트 클래스(및 아웃박스에 저장된 FQCN)를 키로 토픽과 애그리거트 종류를 찾는 디스패치 테이블로,
+ * 발행 경로에서는 instanceof 분기 없이 맵 조회 한 번으로 라우팅한다.
+ */
+public enum DomainEventType {
+
+    ACCOUNT_CREATED(AccountCreatedEvent.class, DomainEventTopics.ACCOUNT_CREATED, "Account", "계정 생성"),
+    ACCOUNT_ACTIVATED(AccountActivatedEvent.class, DomainEventTopics.ACCOUNT_ACTIVATED, "Account", "계정 활성화"),
+    ACCOUNT_DORMANT(AccountDormantEvent.class, DomainEventTopics.ACCOUNT_DORMANT, "Account", "휴면 전환"),
+    LOGIN_SUCCEEDED(LoginSuccessfulEvent.class, DomainEventTopics.LOGIN_SUCCEEDED, "Account", "로그인 성공"),
+    TOKEN_GENERATED(TokenGeneratedEvent.class, DomainEventTopics.TOKEN_GENERATED, "Account", "토큰 발급"),
+    TOKEN_INVALIDATED(TokenInvalidatedEvent.class, DomainEventTopics.TOKEN_INVALIDATED, "Customer", "토큰 무효화"),
+    PROFILE_CHANGED(ProfileChangedEvent.class, DomainEventTopics.PROFILE_CHANGED, "CustomerProfile", "프로필 변경");
+
+    private static final Map<Class<?>, DomainEventType> BY_CLASS = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(DomainEventType::eventClass, Function.identity()));
+    private static final Map<String, DomainEventType> BY_TYPE_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(type -> type.eventClass().getName(), Function.identity()));
+
+    private final Class<? extends DomainEvent> eventClass;
+    private final String topic;
+    private final String aggregateType;
+    private final String description;
+
+    DomainEventType(Class<? extends DomainEvent> eventClass, String topic, String aggregateType, String description) {
+        this.eventClass = eventClass;
+        this.topic = topic;
+        this.aggregateType = aggregateType;
+        this.description = description;
+    }
+
+    public static DomainEventType of(Class<?> eventClass) {
+        DomainEventType type = BY_CLASS.get(eventClass);
+        if (type == null) {
+            throw new IllegalArgumentException("등록되지 않은 도메인 이벤트: " + eventClass.getName());
+        }
+        return type;
+    }
+
+    /**
+     * 이벤트 클래스 FQCN으로 찾는다 (아웃박스 행의 event_type)
+     */
+    public static Optional<DomainEventType> fromTypeName(String typeName) {
+        return Optional.ofNullable(BY_TYPE_NAME.get(typeName));
+    }
+
+    public Class<? extends DomainEvent> eventClass() {
+        return eventClass;
+    }
+
+    public String topic() {
+        return topic;
+    }
+
+    public String aggregateType() {
+        return aggregateType;
+    }
+
+    public String description() {
+        return description;
+    }
+}
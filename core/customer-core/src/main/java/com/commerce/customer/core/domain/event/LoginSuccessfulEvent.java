@@ -7,7 +7,7 @@ import lombok.Getter;
 import java.time.LocalDateTime;
 
 @Getter
-public class LoginSuccessfulEvent {
+public final class LoginSuccessfulEvent implements DomainEvent {
     private final AccountId accountId;
     private final CustomerId customerId;
     private final LocalDateTime loginAt;
@@ -19,4 +19,9 @@ public class LoginSuccessfulEvent {
         this.loginAt = loginAt;
         this.occurredAt = LocalDateTime.now();
     }
-}
\ No newline at end of file
+
+    @Override
+    public String key() {
+        return accountId.getValue().toString();
+    }
+}
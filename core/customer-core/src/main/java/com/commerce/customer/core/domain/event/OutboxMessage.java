@@ -0,0 +1,22 @@
+package com.commerce.customer.core.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스에 기록된 발행 대기 이벤트
+ * 도메인 변경과 같은 트랜잭션에서 저장되며, 릴레이가 id 순서대로 읽어 브로커로 전달한다.
+ *
+ * @param id            아웃박스 행 id (단조 증가, 재발행 기준 오프셋)
+ * @param aggregateType 애그리거트 종류 (예: Account)
+ * @param aggregateId   파티션 키로 쓰는 애그리거트 식별자
+ * @param eventType     이벤트 클래스의 FQCN
+ * @param payload       JSON 직렬화된 이벤트 본문
+ * @param createdAt     아웃박스 기록 시각
+ */
+public record OutboxMessage(long id,
+                            String aggregateType,
+                            String aggregateId,
+                            String eventType,
+                            String payload,
+                            LocalDateTime createdAt) {
+}
@@ -0,0 +1,25 @@
+package com.commerce.customer.core.domain.event;
+
+/**
+ * 프로필 변경 항목
+ * 변경 집합 이벤트는 항목별 이벤트를 따로 내지 않고 바뀐 항목을 이 값의 집합으로 전달한다.
+ */
+public enum ProfileChangeType {
+    PERSONAL_INFO("개인정보"),
+    CONTACT_INFO("연락처"),
+    ADDRESS_ADDED("주소 추가"),
+    ADDRESS_REMOVED("주소 삭제"),
+    DEFAULT_ADDRESS_CHANGED("기본 주소 변경"),
+    PREFERENCES("선호도"),
+    STATUS("프로필 상태");
+
+    private final String description;
+
+    ProfileChangeType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,76 @@
+package com.commerce.customer.core.domain.event;
+
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.profile.AddressId;
+import com.commerce.customer.core.domain.model.profile.ProfileId;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 프로필 변경 집합 이벤트
+ * 프로필 수정 한 건마다 하나씩 기록되고, 발행 전에 같은 고객의 연속된 변경과 합쳐져
+ * 바뀐 항목의 합집합을 담은 하나의 이벤트로 전달된다. 구독자는 changes를 보고 필요한 항목만 다시 읽는다.
+ */
+@Getter
+public final class ProfileChangedEvent implements DomainEvent {
+    private final ProfileId profileId;
+    private final CustomerId customerId;
+    private final Set<ProfileChangeType> changes;
+    private final Set<Long> addressIds;
+    private final int changeCount;
+    private final LocalDateTime firstChangedAt;
+    private final LocalDateTime occurredAt;
+
+    private ProfileChangedEvent(ProfileId profileId, CustomerId customerId, Set<ProfileChangeType> changes,
+                                Set<Long> addressIds, int changeCount, LocalDateTime firstChangedAt,
+                                LocalDateTime occurredAt) {
+        this.profileId = Objects.requireNonNull(profileId, "프로필 ID는 필수값입니다.");
+        this.customerId = Objects.requireNonNull(customerId, "고객 ID는 필수값입니다.");
+        this.changes = Collections.unmodifiableSet(changes);
+        this.addressIds = Collections.unmodifiableSet(addressIds);
+        this.changeCount = changeCount;
+        this.firstChangedAt = firstChangedAt;
+        this.occurredAt = occurredAt;
+    }
+
+    public static ProfileChangedEvent of(ProfileId profileId, CustomerId customerId, ProfileChangeType change) {
+        return of(profileId, customerId, change, null);
+    }
+
+    public static ProfileChangedEvent of(ProfileId profileId, CustomerId customerId, ProfileChangeType change,
+                                         AddressId addressId) {
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> addressIds = new LinkedHashSet<>();
+        if (addressId != null) {
+            addressIds.add(addressId.getValue());
+        }
+        return new ProfileChangedEvent(profileId, customerId, EnumSet.of(change), addressIds, 1, now, now);
+    }
+
+    /**
+     * 이후에 발생한 같은 고객의 변경을 합친 새 이벤트를 만듭니다.
+     * 바뀐 항목과 주소 ID는 합집합으로, 발생 시각은 처음 변경 시각과 마지막 변경 시각으로 유지합니다.
+     */
+    public ProfileChangedEvent mergedWith(ProfileChangedEvent later) {
+        if (!customerId.equals(later.customerId)) {
+            throw new IllegalArgumentException("다른 고객의 프로필 변경은 합칠 수 없습니다.");
+        }
+        Set<ProfileChangeType> mergedChanges = EnumSet.copyOf(changes);
+        mergedChanges.addAll(later.changes);
+        Set<Long> mergedAddressIds = new LinkedHashSet<>(addressIds);
+        mergedAddressIds.addAll(later.addressIds);
+        return new ProfileChangedEvent(later.profileId, customerId, mergedChanges, mergedAddressIds,
+                changeCount + later.changeCount, firstChangedAt, later.occurredAt);
+    }
+
+    @Override
+    public String key() {
+        return customerId.getValue().toString();
+    }
+}
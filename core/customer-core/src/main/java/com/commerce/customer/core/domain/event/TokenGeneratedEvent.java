@@ -8,7 +8,7 @@ import lombok.Getter;
 import java.time.LocalDateTime;
 
 @Getter
-public class TokenGeneratedEvent {
+public final class TokenGeneratedEvent implements DomainEvent {
     private final CustomerId customerId;
     private final AccountId accountId;
     private final JwtTokenType tokenType;
@@ -20,4 +20,9 @@ public class TokenGeneratedEvent {
         this.tokenType = tokenType;
         this.occurredAt = LocalDateTime.now();
     }
-}
\ No newline at end of file
+
+    @Override
+    public String key() {
+        return accountId.getValue().toString();
+    }
+}
@@ -7,7 +7,7 @@ import lombok.Getter;
 import java.time.LocalDateTime;
 
 @Getter
-public class TokenInvalidatedEvent {
+public final class TokenInvalidatedEvent implements DomainEvent {
     private final CustomerId customerId;
     private final JwtTokenType tokenType;
     private final String reason;
@@ -19,4 +19,9 @@ public class TokenInvalidatedEvent {
         this.reason = reason;
         this.occurredAt = LocalDateTime.now();
     }
-}
\ No newline at end of file
+
+    @Override
+    public String key() {
+        return customerId.getValue().toString();
+    }
+}
@@ -0,0 +1,29 @@
+package com.commerce.customer.core.domain.exception;
+
+/**
+ * 낙관적 잠금 충돌 예외
+ * 읽은 시점 이후 다른 요청이 같은 애그리거트를 먼저 수정하여 저장된 버전이 달라졌을 때 발생한다.
+ */
+public class OptimisticLockConflictException extends RuntimeException {
+
+    private final String aggregateType;
+    private final Object aggregateId;
+
+    public OptimisticLockConflictException(String aggregateType, Object aggregateId) {
+        this(aggregateType, aggregateId, null);
+    }
+
+    public OptimisticLockConflictException(String aggregateType, Object aggregateId, Throwable cause) {
+        super(aggregateType + "(" + aggregateId + ")이(가) 다른 요청에 의해 먼저 수정되었습니다.", cause);
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public Object getAggregateId() {
+        return aggregateId;
+    }
+}
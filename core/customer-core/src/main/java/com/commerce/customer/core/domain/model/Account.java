@@ -2,6 +2,8 @@ package com.commerce.customer.core.domain.model;
 
 import com.commerce.customer.core.domain.event.AccountActivatedEvent;
 import com.commerce.customer.core.domain.event.AccountCreatedEvent;
+import com.commerce.customer.core.domain.event.DomainEvent;
+import com.commerce.customer.core.domain.event.LoginSuccessfulEvent;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -23,7 +25,7 @@ public class Account {
     private LocalDateTime lockedUntil;
     private ActivationCode activationCode;
 
-    private final List<Object> domainEvents = new ArrayList<>();
+    private final List<DomainEvent> domainEvents = new ArrayList<>();
     
     // 영속성 계층에서 필요
     public ActivationCode getActivationCode() {
@@ -149,8 +151,7 @@ public class Account {
         this.lockedUntil = null;
         this.updatedAt = LocalDateTime.now();
         
-        // 도메인 이벤트 발행 (구현 예정)
-        // addDomainEvent(new LoginSuccessfulEvent(accountId, customerId, lastLoginAt));
+        domainEvents.add(new LoginSuccessfulEvent(accountId, customerId, lastLoginAt));
     }
 
     public void recordFailedLogin() {
@@ -205,7 +206,7 @@ public class Account {
         domainEvents.add(new AccountActivatedEvent(accountId, customerId));
     }
     
-    public List<Object> getDomainEvents() {
+    public List<DomainEvent> getDomainEvents() {
         return new ArrayList<>(domainEvents);
     }
     
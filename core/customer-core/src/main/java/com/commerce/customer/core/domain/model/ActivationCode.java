@@ -14,7 +14,6 @@ public class ActivationCode {
     private ActivationCode(String code, LocalDateTime expiresAt) {
         this.code = Objects.requireNonNull(code, "인증 코드는 필수값입니다.");
         this.expiresAt = Objects.requireNonNull(expiresAt, "만료 시간은 필수값입니다.");
-        validateCode(code);
     }
 
     public static ActivationCode generate() {
@@ -24,10 +23,19 @@ public class ActivationCode {
     }
 
     public static ActivationCode of(String code, LocalDateTime expiresAt) {
+        ActivationCode activationCode = new ActivationCode(code, expiresAt);
+        validateCode(code);
+        return activationCode;
+    }
+
+    /**
+     * 저장소에 보관된 인증 코드 복원 (길이 검증 생략)
+     */
+    public static ActivationCode restore(String code, LocalDateTime expiresAt) {
         return new ActivationCode(code, expiresAt);
     }
 
-    private void validateCode(String code) {
+    private static void validateCode(String code) {
         if (code.isEmpty() || code.length() < 32) {
             throw new IllegalArgumentException("인증 코드는 32자 이상이어야 합니다.");
         }
@@ -13,6 +13,21 @@ public class Email {
     private final String value;
 
     private Email(String value) {
+        this.value = value;
+    }
+
+    public static Email of(String value) {
+        return new Email(normalize(value));
+    }
+
+    /**
+     * 저장소에 이미 정규화되어 저장된 이메일 복원 (형식 검증 생략)
+     */
+    public static Email restore(String storedValue) {
+        return new Email(Objects.requireNonNull(storedValue, "이메일은 필수값입니다."));
+    }
+
+    private static String normalize(String value) {
         if (value == null || value.trim().isEmpty()) {
             throw new IllegalArgumentException("이메일은 필수값입니다.");
         }
@@ -27,11 +42,7 @@ public class Email {
             throw new IllegalArgumentException("올바른 이메일 형식이 아닙니다: " + value);
         }
         
-        this.value = trimmedValue;
-    }
-
-    public static Email of(String value) {
-        return new Email(value);
+        return trimmedValue;
     }
 
     @Override
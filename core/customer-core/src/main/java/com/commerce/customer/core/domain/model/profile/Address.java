@@ -26,21 +26,23 @@ public class Address {
                    boolean isDefault, LocalDateTime createdAt) {
         this.addressId = Objects.requireNonNull(addressId, "주소 ID는 필수값입니다.");
         this.type = Objects.requireNonNull(type, "주소 타입은 필수값입니다.");
-        this.zipCode = Objects.requireNonNull(zipCode, "우편번호는 필수값입니다.");
-        this.roadAddress = Objects.requireNonNull(roadAddress, "도로명 주소는 필수값입니다.");
+        this.alias = alias;
+        this.zipCode = zipCode;
+        this.roadAddress = roadAddress;
         this.jibunAddress = jibunAddress; // nullable - 지번 주소는 선택사항
         this.detailAddress = detailAddress; // nullable
         this.deliveryMemo = deliveryMemo; // nullable
         this.isDefault = isDefault;
-        this.createdAt = Objects.requireNonNull(createdAt, "생성일시는 필수값입니다.");
-        
-        validateAndSetAlias(alias);
-        validateZipCode(zipCode);
-        validateRoadAddress(roadAddress);
+        this.createdAt = createdAt;
     }
 
     public static Address create(AddressType type, String alias, String zipCode, 
                                String roadAddress, String jibunAddress, String detailAddress) {
+        Objects.requireNonNull(type, "주소 타입은 필수값입니다.");
+        Objects.requireNonNull(zipCode, "우편번호는 필수값입니다.");
+        Objects.requireNonNull(roadAddress, "도로명 주소는 필수값입니다.");
+        validateAlias(alias);
+        validateZipCode(zipCode);
         return new Address(
             AddressId.generate(),
             type,
@@ -55,8 +57,20 @@ public class Address {
         );
     }
 
+    /**
+     * 저장소에 보관된 주소 복원
+     * 저장 시점에 검증된 값이므로 별칭/우편번호 검증을 생략하고 식별자와 기본 주소 여부를 그대로 유지한다.
+     */
+    public static Address restore(AddressId addressId, AddressType type, String alias, String zipCode,
+                                  String roadAddress, String jibunAddress, String detailAddress,
+                                  String deliveryMemo, boolean isDefault, LocalDateTime createdAt) {
+        return new Address(addressId, type, alias, zipCode, roadAddress, jibunAddress, detailAddress,
+                deliveryMemo, isDefault, createdAt);
+    }
+
     public void updateAlias(String newAlias) {
-        validateAndSetAlias(newAlias);
+        validateAlias(newAlias);
+        this.alias = newAlias;
     }
 
     public void updateDeliveryMemo(String deliveryMemo) {
@@ -71,26 +85,21 @@ public class Address {
         this.isDefault = false;
     }
 
-    private void validateAndSetAlias(String alias) {
+    private static void validateAlias(String alias) {
         if (alias == null || alias.trim().isEmpty()) {
             throw new IllegalArgumentException("주소 별칭은 필수값입니다.");
         }
         if (alias.length() > 50) {
             throw new IllegalArgumentException("주소 별칭은 50자를 초과할 수 없습니다.");
         }
-        this.alias = alias;
     }
 
-    private void validateZipCode(String zipCode) {
+    private static void validateZipCode(String zipCode) {
         if (!ZIP_CODE_PATTERN.matcher(zipCode).matches()) {
             throw new IllegalArgumentException("우편번호는 5자리 숫자여야 합니다.");
         }
     }
 
-    private void validateRoadAddress(String roadAddress) {
-        // roadAddress는 이미 Objects.requireNonNull에서 검증됨
-    }
-
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
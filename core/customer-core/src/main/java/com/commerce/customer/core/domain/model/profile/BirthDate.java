@@ -11,14 +11,22 @@ public class BirthDate {
     private final LocalDate date;
 
     private BirthDate(LocalDate date) {
-        validateDate(date);
         this.date = date;
     }
 
     public static BirthDate of(LocalDate date) {
+        validateDate(date);
         return new BirthDate(date);
     }
 
+    /**
+     * 저장소에 보관된 생년월일 복원
+     * 가입 시점에 검증을 통과한 값이므로 현재 날짜 기준 연령 검증을 다시 하지 않는다.
+     */
+    public static BirthDate restore(LocalDate date) {
+        return new BirthDate(Objects.requireNonNull(date, "생년월일은 필수값입니다."));
+    }
+
     public int getAge() {
         return Period.between(date, LocalDate.now()).getYears();
     }
@@ -33,7 +41,7 @@ public class BirthDate {
         return "60대 이상";
     }
 
-    private void validateDate(LocalDate date) {
+    private static void validateDate(LocalDate date) {
         if (date == null) {
             throw new IllegalArgumentException("생년월일은 필수값입니다.");
         }
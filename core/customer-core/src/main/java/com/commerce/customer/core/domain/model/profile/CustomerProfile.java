@@ -1,5 +1,8 @@
 package com.commerce.customer.core.domain.model.profile;
 
+import com.commerce.customer.core.domain.event.DomainEvent;
+import com.commerce.customer.core.domain.event.ProfileChangeType;
+import com.commerce.customer.core.domain.event.ProfileChangedEvent;
 import com.commerce.customer.core.domain.model.CustomerId;
 import lombok.Getter;
 
@@ -21,8 +24,10 @@ public class CustomerProfile {
     private ProfileStatus status;
     private final LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    // 저장소에서 읽은 시점의 버전 (신규 프로필은 null), 저장 시 충돌 감지에 사용
+    private Long version;
 
-    private final List<Object> domainEvents = new ArrayList<>();
+    private final List<DomainEvent> domainEvents = new ArrayList<>();
 
     private CustomerProfile(ProfileId profileId, CustomerId customerId, PersonalInfo personalInfo,
                           ContactInfo contactInfo, ProfilePreferences preferences, ProfileStatus status,
@@ -56,19 +61,56 @@ public class CustomerProfile {
         );
     }
 
+    /**
+     * 저장소에 보관된 프로필 복원
+     * 상태 전이 검증이나 도메인 이벤트 없이 저장된 식별자, 상태, 주소, 일시를 그대로 재구성한다.
+     */
+    public static CustomerProfile restore(ProfileId profileId, CustomerId customerId, PersonalInfo personalInfo,
+                                          ContactInfo contactInfo, List<Address> addresses,
+                                          ProfilePreferences preferences, ProfileStatus status,
+                                          LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return restore(profileId, customerId, personalInfo, contactInfo, addresses, preferences, status,
+                createdAt, updatedAt, null);
+    }
+
+    /**
+     * 저장소에 보관된 프로필을 읽은 시점의 버전과 함께 복원
+     */
+    public static CustomerProfile restore(ProfileId profileId, CustomerId customerId, PersonalInfo personalInfo,
+                                          ContactInfo contactInfo, List<Address> addresses,
+                                          ProfilePreferences preferences, ProfileStatus status,
+                                          LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        CustomerProfile profile = new CustomerProfile(
+            profileId,
+            customerId,
+            personalInfo,
+            contactInfo,
+            preferences,
+            status,
+            createdAt
+        );
+        if (addresses != null) {
+            profile.addresses.addAll(addresses);
+        }
+        profile.updatedAt = updatedAt != null ? updatedAt : createdAt;
+        profile.version = version;
+        return profile;
+    }
+
     public void updatePersonalInfo(PersonalInfo newPersonalInfo) {
         validateActiveStatus();
         this.personalInfo = Objects.requireNonNull(newPersonalInfo, "개인정보는 필수값입니다.");
         this.updatedAt = LocalDateTime.now();
         
-        // 도메인 이벤트 발행 (구현 예정)
-        // addDomainEvent(new ProfileUpdatedEvent(profileId, customerId));
+        recordChange(ProfileChangeType.PERSONAL_INFO, null);
     }
 
     public void updateContactInfo(ContactInfo newContactInfo) {
         validateActiveStatus();
         this.contactInfo = Objects.requireNonNull(newContactInfo, "연락처 정보는 필수값입니다.");
         this.updatedAt = LocalDateTime.now();
+        
+        recordChange(ProfileChangeType.CONTACT_INFO, null);
     }
 
     public void addAddress(Address address) {
@@ -85,8 +127,7 @@ public class CustomerProfile {
         addresses.add(address);
         this.updatedAt = LocalDateTime.now();
         
-        // 도메인 이벤트 발행 (구현 예정)
-        // addDomainEvent(new AddressAddedEvent(profileId, address.getAddressId()));
+        recordChange(ProfileChangeType.ADDRESS_ADDED, address.getAddressId());
     }
 
     public void removeAddress(AddressId addressId) {
@@ -104,8 +145,7 @@ public class CustomerProfile {
         
         this.updatedAt = LocalDateTime.now();
         
-        // 도메인 이벤트 발행 (구현 예정)
-        // addDomainEvent(new AddressRemovedEvent(profileId, addressId));
+        recordChange(ProfileChangeType.ADDRESS_REMOVED, addressId);
     }
 
     public void setDefaultAddress(AddressId addressId) {
@@ -122,8 +162,7 @@ public class CustomerProfile {
         newDefaultAddress.setAsDefault();
         this.updatedAt = LocalDateTime.now();
         
-        // 도메인 이벤트 발행 (구현 예정)
-        // addDomainEvent(new DefaultAddressChangedEvent(profileId, addressId));
+        recordChange(ProfileChangeType.DEFAULT_ADDRESS_CHANGED, addressId);
     }
 
     public void updatePreferences(ProfilePreferences newPreferences) {
@@ -131,8 +170,7 @@ public class CustomerProfile {
         this.preferences = Objects.requireNonNull(newPreferences, "선호도 정보는 필수값입니다.");
         this.updatedAt = LocalDateTime.now();
         
-        // 도메인 이벤트 발행 (구현 예정)
-        // addDomainEvent(new PreferencesUpdatedEvent(profileId, customerId));
+        recordChange(ProfileChangeType.PREFERENCES, null);
     }
 
     public void activate() {
@@ -141,6 +179,7 @@ public class CustomerProfile {
         }
         this.status = ProfileStatus.ACTIVE;
         this.updatedAt = LocalDateTime.now();
+        recordChange(ProfileChangeType.STATUS, null);
     }
 
     public void deactivate() {
@@ -149,6 +188,32 @@ public class CustomerProfile {
         }
         this.status = ProfileStatus.INACTIVE;
         this.updatedAt = LocalDateTime.now();
+        recordChange(ProfileChangeType.STATUS, null);
+    }
+
+    /**
+     * 변경마다 기록된 프로필 변경 이벤트 (발행 전 고객별로 합쳐진다)
+     */
+    public List<DomainEvent> getDomainEvents() {
+        return new ArrayList<>(domainEvents);
+    }
+
+    public void clearDomainEvents() {
+        domainEvents.clear();
+    }
+
+    /**
+     * 저장소가 새로 복원해 돌려준 프로필로 저장 전 기록된 이벤트를 옮긴다
+     */
+    public void takeDomainEventsFrom(CustomerProfile source) {
+        if (source != this) {
+            domainEvents.addAll(source.domainEvents);
+            source.domainEvents.clear();
+        }
+    }
+
+    private void recordChange(ProfileChangeType change, AddressId addressId) {
+        domainEvents.add(ProfileChangedEvent.of(profileId, customerId, change, addressId));
     }
 
     private void validateActiveStatus() {
@@ -10,28 +10,35 @@ public class ProfileImage {
     private final String altText;
 
     private ProfileImage(String imageUrl, String altText) {
-        validateImageUrl(imageUrl);
         this.imageUrl = imageUrl;
         this.altText = altText != null ? altText : "";
     }
 
     public static ProfileImage of(String imageUrl, String altText) {
+        validateImageUrl(imageUrl);
         return new ProfileImage(imageUrl, altText);
     }
 
     public static ProfileImage of(String imageUrl) {
-        return new ProfileImage(imageUrl, null);
+        return of(imageUrl, null);
+    }
+
+    /**
+     * 저장소에 보관된 이미지 URL 복원 (형식 검증 생략)
+     */
+    public static ProfileImage restore(String imageUrl) {
+        return new ProfileImage(Objects.requireNonNull(imageUrl, "프로필 이미지 URL은 필수값입니다."), null);
     }
 
     public ProfileImage updateUrl(String newImageUrl) {
-        return new ProfileImage(newImageUrl, this.altText);
+        return of(newImageUrl, this.altText);
     }
 
     public ProfileImage updateAltText(String newAltText) {
         return new ProfileImage(this.imageUrl, newAltText);
     }
 
-    private void validateImageUrl(String imageUrl) {
+    private static void validateImageUrl(String imageUrl) {
         if (imageUrl == null || imageUrl.trim().isEmpty()) {
             throw new IllegalArgumentException("프로필 이미지 URL은 필수값입니다.");
         }
@@ -0,0 +1,26 @@
+package com.commerce.customer.core.domain.model.profile;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 프로필 요약 읽기 모델
+ * 조회가 잦은 필드(이름, 대표 연락처, 기본 배송지, 수신 동의)만 담는다.
+ * 기본 배송지가 없으면 주소 필드는 null이다.
+ */
+@Getter
+@Builder
+public class ProfileSummary {
+    private final Long profileId;
+    private final Long customerId;
+    private final String firstName;
+    private final String lastName;
+    private final String primaryPhone;
+    private final ProfileStatus status;
+    private final boolean emailMarketingConsent;
+    private final boolean smsMarketingConsent;
+    private final boolean pushMarketingConsent;
+    private final String zipCode;
+    private final String roadAddress;
+    private final String detailAddress;
+}
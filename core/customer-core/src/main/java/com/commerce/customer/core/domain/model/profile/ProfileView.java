@@ -0,0 +1,46 @@
+package com.commerce.customer.core.domain.model.profile;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 프로필 조회 전용 읽기 모델
+ * 도메인 객체 복원/검증 없이 저장된 값을 그대로 담는 평면 구조로, 조회 API 응답에만 사용한다.
+ */
+@Getter
+@Builder
+public class ProfileView {
+    private final Long profileId;
+    private final Long customerId;
+    private final String firstName;
+    private final String lastName;
+    private final LocalDate birthDate;
+    private final String gender;
+    private final String profileImageUrl;
+    private final String primaryPhone;
+    private final String secondaryPhone;
+    private final boolean emailMarketingConsent;
+    private final boolean smsMarketingConsent;
+    private final boolean pushMarketingConsent;
+    private final boolean orderNotifications;
+    private final boolean promotionNotifications;
+    private final boolean accountNotifications;
+    private final boolean reviewNotifications;
+    private final List<AddressView> addresses;
+
+    @Getter
+    @Builder
+    public static class AddressView {
+        private final Long addressId;
+        private final String type;
+        private final String alias;
+        private final String zipCode;
+        private final String roadAddress;
+        private final String jibunAddress;
+        private final String detailAddress;
+        private final boolean isDefault;
+    }
+}
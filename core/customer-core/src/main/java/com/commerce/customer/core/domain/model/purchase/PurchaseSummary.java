@@ -0,0 +1,33 @@
+package com.commerce.customer.core.domain.model.purchase;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 고객별 구매 집계 읽기 모델
+ * 주문 서비스를 동기 호출하지 않고 주문 완료 이벤트로 누적한 주문 수/누적 금액/최근 주문일/주요 카테고리를 담는다.
+ */
+@Getter
+@Builder
+public class PurchaseSummary {
+    private final Long customerId;
+    private final long orderCount;
+    private final BigDecimal totalAmount;
+    private final LocalDateTime lastOrderedAt;
+    private final List<String> topCategories;
+
+    /**
+     * 평균 주문 금액 (AOV)
+     */
+    public BigDecimal getAverageOrderValue() {
+        if (orderCount == 0) {
+            return BigDecimal.ZERO;
+        }
+        return totalAmount.divide(BigDecimal.valueOf(orderCount), 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,65 @@
+package com.commerce.customer.core.domain.model.purchase;
+
+import com.commerce.customer.core.domain.model.CustomerId;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 한 번의 반영 단위(배치)에서 고객별로 누적한 구매 집계 증분
+ * 주문 완료 이벤트를 메모리에서 합친 뒤, 저장소가 기존 집계에 더하는(upsert) 방식으로 반영한다.
+ * 같은 배치 안에서만 사용하는 가변 객체이므로 스레드 간에 공유하지 않는다.
+ */
+@Getter
+public final class PurchaseSummaryDelta {
+
+    private final CustomerId customerId;
+    private long orderCount;
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+    private LocalDateTime lastOrderedAt;
+    private final Map<String, Long> categoryOrderCounts = new HashMap<>();
+
+    private PurchaseSummaryDelta(CustomerId customerId) {
+        this.customerId = Objects.requireNonNull(customerId, "고객 ID는 필수입니다.");
+    }
+
+    public static PurchaseSummaryDelta of(CustomerId customerId) {
+        return new PurchaseSummaryDelta(customerId);
+    }
+
+    /**
+     * 주문 한 건을 증분에 더합니다.
+     * 카테고리는 주문당 한 번만 세므로 같은 주문에 같은 카테고리 상품이 여러 개여도 1로 집계됩니다.
+     *
+     * @param amount     주문 결제 금액
+     * @param orderedAt  주문 완료 시각
+     * @param categories 주문에 포함된 상품 카테고리
+     */
+    public void addOrder(BigDecimal amount, LocalDateTime orderedAt, Collection<String> categories) {
+        Objects.requireNonNull(amount, "주문 금액은 필수입니다.");
+        Objects.requireNonNull(orderedAt, "주문 완료 시각은 필수입니다.");
+        orderCount++;
+        totalAmount = totalAmount.add(amount);
+        if (lastOrderedAt == null || orderedAt.isAfter(lastOrderedAt)) {
+            lastOrderedAt = orderedAt;
+        }
+        if (categories != null) {
+            for (String category : new LinkedHashSet<>(categories)) {
+                if (category != null && !category.isBlank()) {
+                    categoryOrderCounts.merge(category, 1L, Long::sum);
+                }
+            }
+        }
+    }
+
+    public Map<String, Long> getCategoryOrderCounts() {
+        return Collections.unmodifiableMap(categoryOrderCounts);
+    }
+}
@@ -0,0 +1,47 @@
+package com.commerce.customer.core.domain.repository;
+
+import com.commerce.customer.core.domain.event.OutboxMessage;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxRepository {
+
+    /**
+     * 아직 발행되지 않은 메시지를 id 순서로 조회합니다. (dead letter로 제외된 메시지는 포함하지 않습니다)
+     * afterId보다 큰 id만 반환하므로 마지막 id를 넘겨 다음 묶음을 이어서 읽을 수 있습니다.
+     */
+    List<OutboxMessage> findUnsent(long afterId, int limit);
+
+    /**
+     * 전송이 확인된 메시지를 한 번의 UPDATE로 발행 완료 처리합니다.
+     */
+    int markSent(Collection<Long> ids, LocalDateTime sentAt);
+
+    /**
+     * 전송에 실패한 메시지의 시도 횟수를 늘리고 마지막 오류를 기록합니다. 메시지는 발행 대기 상태로 남습니다.
+     */
+    int recordFailedAttempt(Collection<Long> ids, String error);
+
+    /**
+     * 다시 보내도 성공할 수 없는 메시지를 dead letter로 표시하여 발행 대상에서 제외합니다.
+     */
+    int markDead(Collection<Long> ids, String error, LocalDateTime deadAt);
+
+    /**
+     * 지정한 오프셋(id) 이후의 메시지를 다시 발행 대기 상태로 되돌립니다. (dead letter 포함)
+     */
+    int resetSentAfter(long offset);
+
+    /**
+     * 발행 대기 중인 메시지 수를 반환합니다.
+     */
+    long countUnsent();
+
+    /**
+     * 가장 오래된 발행 대기 메시지의 기록 시각을 반환합니다.
+     */
+    Optional<LocalDateTime> findOldestUnsentCreatedAt();
+}
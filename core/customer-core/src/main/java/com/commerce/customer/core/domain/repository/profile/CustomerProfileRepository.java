@@ -4,6 +4,8 @@ import com.commerce.customer.core.domain.model.CustomerId;
 import com.commerce.customer.core.domain.model.profile.CustomerProfile;
 import com.commerce.customer.core.domain.model.profile.ProfileId;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CustomerProfileRepository {
@@ -32,6 +34,20 @@ public interface CustomerProfileRepository {
      */
     Optional<CustomerProfile> findByCustomerId(CustomerId customerId);
     
+    /**
+     * 여러 고객 ID의 프로필을 한 번에 조회합니다.
+     * 존재하지 않는 고객 ID는 결과에서 제외됩니다.
+     * 
+     * @param customerIds 고객 ID 목록
+     * @return 조회된 프로필 목록
+     */
+    default List<CustomerProfile> findAllByCustomerIds(Collection<CustomerId> customerIds) {
+        return customerIds.stream()
+                .map(this::findByCustomerId)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+    
     /**
      * 고객 ID로 프로필 존재 여부를 확인합니다.
      * 
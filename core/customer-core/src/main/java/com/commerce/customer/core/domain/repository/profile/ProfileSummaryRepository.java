@@ -0,0 +1,17 @@
+package com.commerce.customer.core.domain.repository.profile;
+
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.profile.ProfileSummary;
+
+import java.util.Optional;
+
+public interface ProfileSummaryRepository {
+
+    /**
+     * 고객 ID로 프로필 요약을 조회합니다.
+     *
+     * @param customerId 고객 ID
+     * @return 조회된 프로필 요약 (Optional)
+     */
+    Optional<ProfileSummary> findByCustomerId(CustomerId customerId);
+}
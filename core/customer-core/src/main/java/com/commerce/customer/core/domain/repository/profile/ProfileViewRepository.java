@@ -0,0 +1,18 @@
+package com.commerce.customer.core.domain.repository.profile;
+
+import com.commerce.customer.core.domain.model.AccountId;
+import com.commerce.customer.core.domain.model.profile.ProfileView;
+
+import java.util.Optional;
+
+public interface ProfileViewRepository {
+
+    /**
+     * 계정 ID로 프로필 읽기 모델을 조회합니다.
+     * 계정과 프로필, 주소를 한 번의 조회로 읽어 엔티티/도메인 객체를 만들지 않습니다.
+     *
+     * @param accountId 계정 ID
+     * @return 조회된 프로필 읽기 모델 (Optional)
+     */
+    Optional<ProfileView> findByAccountId(AccountId accountId);
+}
@@ -0,0 +1,17 @@
+package com.commerce.customer.core.domain.repository.purchase;
+
+import java.util.Collection;
+import java.util.Set;
+
+public interface ProcessedOrderEventRepository {
+
+    /**
+     * 아직 반영하지 않은 이벤트 ID를 반영 완료로 기록하고 그 ID들을 반환합니다.
+     * 구매 집계 반영과 같은 트랜잭션에서 호출해야 하며, 트랜잭션이 롤백되면 기록도 함께 취소되어 재전달 시 다시 반영됩니다.
+     * 다른 트랜잭션이 같은 ID를 동시에 기록하면 예외가 발생하므로, 호출자는 배치 전체를 다시 시도해야 합니다.
+     *
+     * @param eventIds 반영하려는 주문 완료 이벤트 ID
+     * @return 이번 호출로 새로 기록된(이전에 반영된 적 없는) 이벤트 ID
+     */
+    Set<String> claimAll(Collection<String> eventIds);
+}
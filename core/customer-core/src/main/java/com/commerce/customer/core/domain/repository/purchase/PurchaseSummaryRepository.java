@@ -0,0 +1,29 @@
+package com.commerce.customer.core.domain.repository.purchase;
+
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.purchase.PurchaseSummary;
+import com.commerce.customer.core.domain.model.purchase.PurchaseSummaryDelta;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface PurchaseSummaryRepository {
+
+    /**
+     * 고객별 증분을 기존 집계에 더합니다. 집계가 없는 고객은 새로 만듭니다.
+     * 모든 증분은 하나의 트랜잭션에서 묶음 단위로 반영되어, 실패하면 전체가 반영되지 않습니다.
+     *
+     * @param deltas 고객별 구매 집계 증분
+     * @return 반영된 고객 수
+     */
+    int upsertAll(Collection<PurchaseSummaryDelta> deltas);
+
+    /**
+     * 고객 ID로 구매 집계를 조회합니다.
+     *
+     * @param customerId    고객 ID
+     * @param topCategories 주문 수 기준으로 포함할 상위 카테고리 수
+     * @return 조회된 구매 집계 (Optional)
+     */
+    Optional<PurchaseSummary> findByCustomerId(CustomerId customerId, int topCategories);
+}
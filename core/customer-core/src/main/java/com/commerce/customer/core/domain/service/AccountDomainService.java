@@ -1,10 +1,13 @@
 package com.commerce.customer.core.domain.service;
 
+import com.commerce.customer.core.domain.event.DomainEvent;
 import com.commerce.customer.core.domain.model.*;
 import com.commerce.customer.core.domain.repository.AccountRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class AccountDomainService {
@@ -63,7 +66,7 @@ public class AccountDomainService {
         account.recordSuccessfulLogin();
         accountRepository.save(account);
         
-        return LoginResult.success(account.getAccountId(), account.getCustomerId());
+        return LoginResult.success(account.getAccountId(), account.getCustomerId(), account.getDomainEvents());
     }
 
     /**
@@ -108,30 +111,39 @@ public class AccountDomainService {
         private final CustomerId customerId;
         private final String failureReason;
         private final AccountStatus accountStatus;
+        private final List<DomainEvent> domainEvents;
 
         private LoginResult(boolean success, AccountId accountId, CustomerId customerId, 
-                          String failureReason, AccountStatus accountStatus) {
+                          String failureReason, AccountStatus accountStatus, List<DomainEvent> domainEvents) {
             this.success = success;
             this.accountId = accountId;
             this.customerId = customerId;
             this.failureReason = failureReason;
             this.accountStatus = accountStatus;
+            this.domainEvents = domainEvents;
         }
 
         public static LoginResult success(AccountId accountId, CustomerId customerId) {
-            return new LoginResult(true, accountId, customerId, null, null);
+            return success(accountId, customerId, List.of());
+        }
+
+        /**
+         * 로그인 성공 처리 중 계정이 남긴 도메인 이벤트를 함께 전달한다.
+         */
+        public static LoginResult success(AccountId accountId, CustomerId customerId, List<DomainEvent> domainEvents) {
+            return new LoginResult(true, accountId, customerId, null, null, List.copyOf(domainEvents));
         }
 
         public static LoginResult locked(AccountId accountId) {
-            return new LoginResult(false, accountId, null, "계정이 잠겨있습니다.", null);
+            return new LoginResult(false, accountId, null, "계정이 잠겨있습니다.", null, List.of());
         }
 
         public static LoginResult invalidStatus(AccountId accountId, AccountStatus status) {
-            return new LoginResult(false, accountId, null, "로그인할 수 없는 계정 상태입니다.", status);
+            return new LoginResult(false, accountId, null, "로그인할 수 없는 계정 상태입니다.", status, List.of());
         }
 
         public static LoginResult wrongPassword(AccountId accountId) {
-            return new LoginResult(false, accountId, null, "비밀번호가 일치하지 않습니다.", null);
+            return new LoginResult(false, accountId, null, "비밀번호가 일치하지 않습니다.", null, List.of());
         }
 
         // Getters
@@ -140,5 +152,6 @@ public class AccountDomainService {
         public CustomerId getCustomerId() { return customerId; }
         public String getFailureReason() { return failureReason; }
         public AccountStatus getAccountStatus() { return accountStatus; }
+        public List<DomainEvent> getDomainEvents() { return domainEvents; }
     }
 }
\ No newline at end of file
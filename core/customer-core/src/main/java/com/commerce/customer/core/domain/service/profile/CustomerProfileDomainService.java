@@ -45,7 +45,7 @@ public class CustomerProfileDomainService {
         
         profile.updatePersonalInfo(personalInfo);
         
-        return profileRepository.save(profile);
+        return saveWithEvents(profile);
     }
 
     /**
@@ -60,7 +60,7 @@ public class CustomerProfileDomainService {
         
         profile.addAddress(address);
         
-        return profileRepository.save(profile);
+        return saveWithEvents(profile);
     }
 
     /**
@@ -72,7 +72,7 @@ public class CustomerProfileDomainService {
         
         profile.setDefaultAddress(addressId);
         
-        return profileRepository.save(profile);
+        return saveWithEvents(profile);
     }
 
     /**
@@ -84,7 +84,16 @@ public class CustomerProfileDomainService {
         
         profile.updatePreferences(preferences);
         
-        return profileRepository.save(profile);
+        return saveWithEvents(profile);
+    }
+
+    /**
+     * 변경된 프로필을 저장하고, 변경 중 기록된 이벤트를 저장 결과로 옮겨 호출자가 발행할 수 있게 합니다.
+     */
+    private CustomerProfile saveWithEvents(CustomerProfile profile) {
+        CustomerProfile saved = profileRepository.save(profile);
+        saved.takeDomainEventsFrom(profile);
+        return saved;
     }
 
     /**
@@ -0,0 +1,202 @@
+package com.commerce.customer.core.application.event;
+
+import com.commerce.customer.core.domain.event.AccountActivatedEvent;
+import com.commerce.customer.core.domain.event.DomainEvent;
+import com.commerce.customer.core.domain.event.ProfileChangeType;
+import com.commerce.customer.core.domain.event.ProfileChangedEvent;
+import com.commerce.customer.core.domain.model.AccountId;
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.profile.AddressId;
+import com.commerce.customer.core.domain.model.profile.ProfileId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProfileChangeCoalescer 테스트")
+class ProfileChangeCoalescerTest {
+
+    private static final Duration WINDOW = Duration.ofMillis(500);
+    private static final Duration MAX_DELAY = Duration.ofSeconds(2);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger transactions = new AtomicInteger();
+    private final List<List<DomainEvent>> batches = new ArrayList<>();
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+
+    private final TransactionOperations transactionOperations = new TransactionOperations() {
+        @Override
+        public <T> T execute(TransactionCallback<T> action) {
+            transactions.incrementAndGet();
+            return action.doInTransaction(null);
+        }
+    };
+
+    private final ProfileChangeCoalescer coalescer = coalescer(WINDOW);
+
+    @Test
+    @DisplayName("병합 구간 안의 같은 고객 변경은 구간이 지난 뒤 하나의 변경 집합 이벤트로 발행된다")
+    void submit_MergesChangesWithinWindow() {
+        // Given
+        coalescer.submit(List.of(change(1L, ProfileChangeType.PERSONAL_INFO)));
+        advance(200);
+        coalescer.submit(List.of(change(1L, ProfileChangeType.ADDRESS_ADDED, 10L)));
+        advance(200);
+        coalescer.submit(List.of(change(1L, ProfileChangeType.PREFERENCES)));
+
+        // When
+        advance(499);
+        int early = coalescer.flushDue();
+        advance(1);
+        int flushed = coalescer.flushDue();
+
+        // Then
+        assertThat(early).isZero();
+        assertThat(flushed).isEqualTo(1);
+        assertThat(batches).hasSize(1);
+        ProfileChangedEvent merged = (ProfileChangedEvent) batches.get(0).get(0);
+        assertThat(merged.getChanges()).containsExactly(
+                ProfileChangeType.PERSONAL_INFO, ProfileChangeType.ADDRESS_ADDED, ProfileChangeType.PREFERENCES);
+        assertThat(merged.getAddressIds()).containsExactly(10L);
+        assertThat(merged.getChangeCount()).isEqualTo(3);
+        assertThat(transactions).hasValue(1);
+        assertThat(coalescer.submitted()).isEqualTo(3);
+        assertThat(coalescer.published()).isEqualTo(1);
+        assertThat(coalescer.pendingCustomers()).isZero();
+    }
+
+    @Test
+    @DisplayName("변경이 계속 이어져도 첫 변경 후 최대 지연이 지나면 발행된다")
+    void flushDue_BoundedByMaxDelay() {
+        // Given: 병합 구간보다 짧은 간격으로 계속 변경
+        for (int i = 0; i < 5; i++) {
+            coalescer.submit(List.of(change(1L, ProfileChangeType.CONTACT_INFO)));
+            assertThat(coalescer.flushDue()).isZero();
+            advance(400);
+        }
+
+        // When
+        int flushed = coalescer.flushDue();
+
+        // Then
+        assertThat(flushed).isEqualTo(1);
+        assertThat(((ProfileChangedEvent) batches.get(0).get(0)).getChangeCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("고객마다 따로 병합되고, 같은 고객의 이후 변경은 앞선 이벤트 다음에 발행된다")
+    void flushDue_KeepsPerCustomerOrder() {
+        // Given
+        coalescer.submit(List.of(change(1L, ProfileChangeType.PERSONAL_INFO), change(2L, ProfileChangeType.STATUS)));
+        advance(500);
+        coalescer.flushDue();
+        coalescer.submit(List.of(change(1L, ProfileChangeType.CONTACT_INFO)));
+
+        // When
+        advance(500);
+        coalescer.flushDue();
+
+        // Then
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0)).extracting(DomainEvent::key).containsExactly("1", "2");
+        assertThat(((ProfileChangedEvent) batches.get(1).get(0)).getChanges())
+                .containsExactly(ProfileChangeType.CONTACT_INFO);
+    }
+
+    @Test
+    @DisplayName("발행이 실패하면 그 사이 들어온 변경과 합쳐 다음 주기에 다시 발행한다")
+    void flushDue_RequeuesOnFailure() {
+        // Given
+        coalescer.submit(List.of(change(1L, ProfileChangeType.PERSONAL_INFO)));
+        advance(500);
+        failuresLeft.set(1);
+
+        // When
+        int failed = coalescer.flushDue();
+        coalescer.submit(List.of(change(1L, ProfileChangeType.CONTACT_INFO)));
+        advance(500);
+        int retried = coalescer.flushDue();
+
+        // Then
+        assertThat(failed).isZero();
+        assertThat(retried).isEqualTo(1);
+        ProfileChangedEvent merged = (ProfileChangedEvent) batches.get(0).get(0);
+        assertThat(merged.getChanges()).containsExactly(ProfileChangeType.PERSONAL_INFO, ProfileChangeType.CONTACT_INFO);
+        assertThat(merged.getChangeCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("병합 구간이 0이면 바로 발행하고, 프로필 변경이 아닌 이벤트는 병합하지 않는다")
+    void submit_PassesThroughWhenDisabledOrNotProfileChange() {
+        // Given
+        ProfileChangeCoalescer immediate = coalescer(Duration.ZERO);
+        DomainEvent activated = AccountActivatedEvent.of(AccountId.of(1L), CustomerId.of(1L));
+
+        // When
+        immediate.submit(List.of(change(1L, ProfileChangeType.PERSONAL_INFO)));
+        coalescer.submit(List.of(activated));
+
+        // Then
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(1)).containsExactly(activated);
+        assertThat(coalescer.pendingCustomers()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 시 구간이 남은 변경도 모두 발행한다")
+    void stop_FlushesPendingChanges() {
+        // Given
+        coalescer.start();
+        coalescer.submit(List.of(change(1L, ProfileChangeType.PERSONAL_INFO), change(2L, ProfileChangeType.PREFERENCES)));
+
+        // When
+        coalescer.stop();
+
+        // Then
+        assertThat(coalescer.isRunning()).isFalse();
+        assertThat(batches).flatExtracting(batch -> batch).hasSize(2);
+        assertThat(coalescer.pendingCustomers()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 지연이 병합 구간보다 짧으면 생성할 수 없다")
+    void rejectsMaxDelayShorterThanWindow() {
+        // when & then
+        assertThatThrownBy(() -> new ProfileChangeCoalescer(events -> null, transactionOperations,
+                Duration.ofSeconds(1), Duration.ofMillis(500), clock::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ProfileChangeCoalescer coalescer(Duration window) {
+        return new ProfileChangeCoalescer(events -> {
+            if (failuresLeft.getAndUpdate(left -> Math.max(0, left - 1)) > 0) {
+                throw new IllegalStateException("broker down");
+            }
+            batches.add(List.copyOf(events));
+            return CompletableFuture.completedFuture(null);
+        }, transactionOperations, window, MAX_DELAY, clock::get);
+    }
+
+    private void advance(long millis) {
+        clock.addAndGet(Duration.ofMillis(millis).toNanos());
+    }
+
+    private static ProfileChangedEvent change(long customerId, ProfileChangeType type) {
+        return ProfileChangedEvent.of(ProfileId.of(customerId * 10), CustomerId.of(customerId), type);
+    }
+
+    private static ProfileChangedEvent change(long customerId, ProfileChangeType type, long addressId) {
+        return ProfileChangedEvent.of(ProfileId.of(customerId * 10), CustomerId.of(customerId), type,
+                AddressId.of(addressId));
+    }
+}
@@ -0,0 +1,117 @@
+package com.commerce.customer.core.application.retry;
+
+import com.commerce.customer.core.domain.exception.OptimisticLockConflictException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OptimisticLockRetryExecutor 테스트")
+class OptimisticLockRetryExecutorTest {
+
+    private static final OptimisticLockRetryPolicy POLICY =
+            new OptimisticLockRetryPolicy(4, Duration.ofMillis(10), Duration.ofMillis(30));
+
+    private final List<Long> sleeps = new ArrayList<>();
+    private final AtomicInteger transactions = new AtomicInteger();
+
+    // 지터는 상한 그대로 사용하여 대기 시간을 검증 가능하게 한다
+    private final OptimisticLockRetryExecutor executor = new OptimisticLockRetryExecutor(
+            new TransactionOperations() {
+                @Override
+                public <T> T execute(TransactionCallback<T> action) {
+                    transactions.incrementAndGet();
+                    return action.doInTransaction(null);
+                }
+            },
+            POLICY, bound -> bound, sleeps::add);
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("충돌이 해소되면 새 트랜잭션에서 다시 실행한 결과를 반환한다")
+    void execute_RetriesInNewTransaction() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        String result = executor.execute("CustomerProfile", 1L, () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new OptimisticLockConflictException("CustomerProfile", 1L);
+            }
+            return "saved";
+        });
+
+        // Then
+        assertThat(result).isEqualTo("saved");
+        assertThat(transactions).hasValue(3);
+        assertThat(sleeps).containsExactly(10L, 20L);
+    }
+
+    @Test
+    @DisplayName("재시도를 모두 소진하면 커밋 시점 충돌도 타입이 있는 예외로 올린다")
+    void execute_ExhaustedTranslatesSpringException() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When & Then
+        assertThatThrownBy(() -> executor.run("CustomerProfile", 7L, () -> {
+            calls.incrementAndGet();
+            throw new OptimisticLockingFailureException("row was updated by another transaction");
+        }))
+                .isInstanceOf(OptimisticLockConflictException.class)
+                .hasCauseInstanceOf(OptimisticLockingFailureException.class)
+                .satisfies(e -> assertThat(((OptimisticLockConflictException) e).getAggregateId()).isEqualTo(7L));
+
+        assertThat(calls).hasValue(4);
+        // 대기 상한은 두 배씩 늘어나되 최대 대기 시간을 넘지 않는다
+        assertThat(sleeps).containsExactly(10L, 20L, 30L);
+    }
+
+    @Test
+    @DisplayName("충돌이 아닌 예외는 재시도하지 않는다")
+    void execute_OtherExceptionNotRetried() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When & Then
+        assertThatThrownBy(() -> executor.run("CustomerProfile", 1L, () -> {
+            calls.incrementAndGet();
+            throw new IllegalArgumentException("존재하지 않는 프로필입니다.");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(calls).hasValue(1);
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    @DisplayName("바깥 트랜잭션에 참여 중이면 재시도 없이 한 번만 실행한다")
+    void execute_InsideOuterTransactionRunsOnce() {
+        // Given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When & Then
+        assertThatThrownBy(() -> executor.run("CustomerProfile", 1L, () -> {
+            calls.incrementAndGet();
+            throw new OptimisticLockingFailureException("stale");
+        })).isInstanceOf(OptimisticLockConflictException.class);
+
+        assertThat(calls).hasValue(1);
+        assertThat(transactions).hasValue(0);
+    }
+}
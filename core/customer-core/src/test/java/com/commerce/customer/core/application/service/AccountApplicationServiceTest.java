@@ -15,6 +15,7 @@ import com.commerce.customer.core.domain.service.jwt.JwtTokenService;
 import com.commerce.customer.core.domain.event.DomainEventPublisher;
 import com.commerce.customer.core.domain.event.AccountCreatedEvent;
 import com.commerce.customer.core.domain.event.AccountActivatedEvent;
+import com.commerce.customer.core.domain.event.LoginSuccessfulEvent;
 import com.commerce.customer.core.application.usecase.account.ActivateAccountUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -95,7 +96,7 @@ class AccountApplicationServiceTest {
         then(accountRepository).should().generateCustomerId();
         then(accountDomainService).should().createAccount(any(CustomerId.class), any(Email.class), any(Password.class), any(PasswordEncoder.class));
         then(account).should().raiseAccountCreatedEvent();
-        then(domainEventPublisher).should().publishAccountCreatedEvent(event);
+        then(domainEventPublisher).should().publish(List.of(event));
         then(account).should().clearDomainEvents();
     }
 
@@ -103,7 +104,9 @@ class AccountApplicationServiceTest {
     @DisplayName("로그인 성공")
     void login_Success() {
         // given
-        AccountDomainService.LoginResult loginResult = AccountDomainService.LoginResult.success(accountId, customerId);
+        LoginSuccessfulEvent event = new LoginSuccessfulEvent(accountId, customerId, LocalDateTime.now());
+        AccountDomainService.LoginResult loginResult =
+                AccountDomainService.LoginResult.success(accountId, customerId, List.of(event));
         TokenPair tokenPair = createTokenPair();
         
         given(accountDomainService.attemptLogin(any(Email.class), any(Password.class), any(PasswordEncoder.class)))
@@ -118,6 +121,7 @@ class AccountApplicationServiceTest {
         assertThat(result).isEqualTo(tokenPair);
         then(accountDomainService).should().attemptLogin(any(Email.class), any(Password.class), any(PasswordEncoder.class));
         then(jwtTokenService).should().generateTokenPair(customerId, accountId, email);
+        then(domainEventPublisher).should().publish(List.of(event));
     }
 
     @Test
@@ -133,6 +137,7 @@ class AccountApplicationServiceTest {
         assertThatThrownBy(() -> accountApplicationService.login(email, password))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("비밀번호가 일치하지 않습니다.");
+        then(domainEventPublisher).shouldHaveNoInteractions();
     }
 
     @Test
@@ -273,7 +278,7 @@ class AccountApplicationServiceTest {
         // then
         then(account).should().activate(activationCode);
         then(accountRepository).should().save(account);
-        then(domainEventPublisher).should().publishAccountActivatedEvent(event);
+        then(domainEventPublisher).should().publish(List.of(event));
         then(account).should().clearDomainEvents();
     }
     
@@ -1,5 +1,11 @@
 package com.commerce.customer.core.application.service;
 
+import com.commerce.customer.core.application.event.ProfileChangeCoalescer;
+import com.commerce.customer.core.application.retry.OptimisticLockRetryExecutor;
+import com.commerce.customer.core.domain.event.DomainEvent;
+import com.commerce.customer.core.domain.event.ProfileChangeType;
+import com.commerce.customer.core.domain.event.ProfileChangedEvent;
+import com.commerce.customer.core.domain.exception.OptimisticLockConflictException;
 import com.commerce.customer.core.domain.model.Account;
 import com.commerce.customer.core.domain.model.AccountId;
 import com.commerce.customer.core.domain.model.CustomerId;
@@ -15,8 +21,12 @@ import com.commerce.customer.core.domain.model.profile.PersonalInfo;
 import com.commerce.customer.core.domain.model.profile.PhoneNumber;
 import com.commerce.customer.core.domain.model.profile.ProfileId;
 import com.commerce.customer.core.domain.model.profile.ProfilePreferences;
+import com.commerce.customer.core.domain.model.profile.ProfileSummary;
+import com.commerce.customer.core.domain.model.profile.ProfileView;
 import com.commerce.customer.core.domain.repository.AccountRepository;
 import com.commerce.customer.core.domain.repository.profile.CustomerProfileRepository;
+import com.commerce.customer.core.domain.repository.profile.ProfileSummaryRepository;
+import com.commerce.customer.core.domain.repository.profile.ProfileViewRepository;
 import com.commerce.customer.core.domain.service.profile.CustomerProfileDomainService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,17 +34,25 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("CustomerProfileApplicationService 테스트")
@@ -49,6 +67,19 @@ class CustomerProfileApplicationServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private ProfileViewRepository profileViewRepository;
+
+    @Mock
+    private ProfileSummaryRepository profileSummaryRepository;
+
+    @Mock
+    private ProfileChangeCoalescer profileChangeCoalescer;
+
+    @Spy
+    private OptimisticLockRetryExecutor retryExecutor =
+            new OptimisticLockRetryExecutor(TransactionOperations.withoutTransaction());
+
     @InjectMocks
     private CustomerProfileApplicationService customerProfileApplicationService;
 
@@ -176,11 +207,91 @@ class CustomerProfileApplicationServiceTest {
                 .hasMessage("계정의 프로필을 찾을 수 없습니다.");
     }
 
+    @Test
+    @DisplayName("계정 ID로 프로필 읽기 모델 조회 성공")
+    void getProfileViewByAccountId_Success() {
+        // given
+        ProfileView view = ProfileView.builder()
+                .profileId(1L)
+                .customerId(customerId.getValue())
+                .firstName("길동")
+                .lastName("홍")
+                .build();
+        given(profileViewRepository.findByAccountId(accountId)).willReturn(Optional.of(view));
+
+        // when
+        ProfileView result = customerProfileApplicationService.getProfileViewByAccountId(accountId);
+
+        // then
+        assertThat(result).isEqualTo(view);
+        then(accountRepository).shouldHaveNoInteractions();
+        then(customerProfileRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("계정 ID로 프로필 읽기 모델 조회 실패 - 프로필 없음")
+    void getProfileViewByAccountId_NotFound() {
+        // given
+        given(profileViewRepository.findByAccountId(accountId)).willReturn(Optional.empty());
+        given(accountRepository.findById(accountId)).willReturn(Optional.of(account));
+
+        // when & then
+        assertThatThrownBy(() -> customerProfileApplicationService.getProfileViewByAccountId(accountId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("계정의 프로필을 찾을 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("계정 ID로 프로필 읽기 모델 조회 실패 - 계정 없음")
+    void getProfileViewByAccountId_AccountNotFound() {
+        // given
+        given(profileViewRepository.findByAccountId(accountId)).willReturn(Optional.empty());
+        given(accountRepository.findById(accountId)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> customerProfileApplicationService.getProfileViewByAccountId(accountId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("계정을 찾을 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("고객 ID로 프로필 요약 조회 성공")
+    void getProfileSummary_Success() {
+        // given
+        ProfileSummary summary = ProfileSummary.builder()
+                .profileId(1L)
+                .customerId(customerId.getValue())
+                .firstName("길동")
+                .lastName("홍")
+                .build();
+        given(profileSummaryRepository.findByCustomerId(customerId)).willReturn(Optional.of(summary));
+
+        // when
+        ProfileSummary result = customerProfileApplicationService.getProfileSummary(customerId);
+
+        // then
+        assertThat(result).isEqualTo(summary);
+        then(customerProfileRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("고객 ID로 프로필 요약 조회 실패 - 프로필 없음")
+    void getProfileSummary_NotFound() {
+        // given
+        given(profileSummaryRepository.findByCustomerId(customerId)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> customerProfileApplicationService.getProfileSummary(customerId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("프로필을 찾을 수 없습니다.");
+    }
+
     @Test
     @DisplayName("개인정보 업데이트 성공")
     void updatePersonalInfo_Success() {
         // given
         PersonalInfo newPersonalInfo = PersonalInfo.of(FullName.of("김", "철수"));
+        given(customerProfileDomainService.updatePersonalInfo(profileId, newPersonalInfo)).willReturn(profile);
 
         // when
         customerProfileApplicationService.updatePersonalInfo(profileId, newPersonalInfo);
@@ -195,6 +306,8 @@ class CustomerProfileApplicationServiceTest {
         // given
         ContactInfo newContactInfo = ContactInfo.of(PhoneNumber.ofKorean("010-9876-5432"));
         given(customerProfileRepository.findById(profileId)).willReturn(Optional.of(profile));
+        List<DomainEvent> events = List.of(ProfileChangedEvent.of(profileId, customerId, ProfileChangeType.CONTACT_INFO));
+        given(profile.getDomainEvents()).willReturn(events);
 
         // when
         customerProfileApplicationService.updateContactInfo(profileId, newContactInfo);
@@ -203,6 +316,30 @@ class CustomerProfileApplicationServiceTest {
         then(customerProfileRepository).should().findById(profileId);
         then(profile).should().updateContactInfo(newContactInfo);
         then(customerProfileRepository).should().save(profile);
+        then(profileChangeCoalescer).should().submit(events);
+    }
+
+    @Test
+    @DisplayName("전화번호 업데이트 - 캐시된 프로필이 아닌 프로필 ID로 다시 읽은 프로필을 수정")
+    void updatePhoneNumber_ReloadsByProfileId() {
+        // given
+        PhoneNumber newPhoneNumber = PhoneNumber.ofKorean("010-9876-5432");
+        CustomerProfile cachedProfile = mock(CustomerProfile.class);
+        given(accountRepository.findById(accountId)).willReturn(Optional.of(account));
+        given(account.getCustomerId()).willReturn(customerId);
+        given(customerProfileRepository.findByCustomerId(customerId)).willReturn(Optional.of(cachedProfile));
+        given(cachedProfile.getProfileId()).willReturn(profileId);
+        given(customerProfileRepository.findById(profileId)).willReturn(Optional.of(profile));
+        given(profile.getDomainEvents()).willReturn(List.of());
+
+        // when
+        customerProfileApplicationService.updatePhoneNumber(accountId, newPhoneNumber);
+
+        // then
+        then(profile).should().updateContactInfo(ContactInfo.of(newPhoneNumber));
+        then(customerProfileRepository).should().save(profile);
+        then(cachedProfile).should(never()).updateContactInfo(any());
+        then(customerProfileRepository).should(never()).save(cachedProfile);
     }
 
     @Test
@@ -210,6 +347,7 @@ class CustomerProfileApplicationServiceTest {
     void addAddress_Success() {
         // given
         Address address = Address.create(AddressType.HOME, "집", "12345", "서울특별시 강남구 테헤란로 123", null, "상세주소");
+        given(customerProfileDomainService.validateAndAddAddress(profileId, address)).willReturn(profile);
 
         // when
         customerProfileApplicationService.addAddress(profileId, address);
@@ -256,6 +394,7 @@ class CustomerProfileApplicationServiceTest {
     void updatePreferences_Success() {
         // given
         ProfilePreferences preferences = ProfilePreferences.getDefault();
+        given(customerProfileDomainService.updatePreferences(profileId, preferences)).willReturn(profile);
 
         // when
         customerProfileApplicationService.updatePreferences(profileId, preferences);
@@ -263,4 +402,37 @@ class CustomerProfileApplicationServiceTest {
         // then
         then(customerProfileDomainService).should().updatePreferences(profileId, preferences);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("개인정보 업데이트 - 버전 충돌 시 다시 읽어 재적용")
+    void updatePersonalInfo_RetriesOnConflict() {
+        // given
+        PersonalInfo newPersonalInfo = PersonalInfo.of(FullName.of("김", "철수"));
+        willThrow(new OptimisticLockConflictException("CustomerProfile", profileId.getValue()))
+                .willReturn(profile)
+                .given(customerProfileDomainService).updatePersonalInfo(profileId, newPersonalInfo);
+
+        // when
+        customerProfileApplicationService.updatePersonalInfo(profileId, newPersonalInfo);
+
+        // then
+        then(customerProfileDomainService).should(times(2)).updatePersonalInfo(profileId, newPersonalInfo);
+    }
+
+    @Test
+    @DisplayName("연락처 정보 업데이트 - 재시도 소진 시 충돌 예외로 변환")
+    void updateContactInfo_ConflictExhausted() {
+        // given
+        ContactInfo newContactInfo = ContactInfo.of(PhoneNumber.ofKorean("010-9876-5432"));
+        given(customerProfileRepository.findById(profileId)).willReturn(Optional.of(profile));
+        given(customerProfileRepository.save(profile))
+                .willThrow(new OptimisticLockingFailureException("stale"));
+
+        // when & then
+        assertThatThrownBy(() -> customerProfileApplicationService.updateContactInfo(profileId, newContactInfo))
+                .isInstanceOf(OptimisticLockConflictException.class)
+                .hasCauseInstanceOf(OptimisticLockingFailureException.class);
+        then(customerProfileRepository).should(times(3)).save(profile);
+        then(profileChangeCoalescer).should(never()).submit(anyCollection());
+    }
+}
@@ -0,0 +1,44 @@
+package com.commerce.customer.core.domain.event;
+
+import com.commerce.customer.core.domain.model.AccountId;
+import com.commerce.customer.core.domain.model.CustomerId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AccountDormantEvent 테스트")
+class AccountDormantEventTest {
+
+    @Test
+    @DisplayName("팩토리 메서드를 통한 휴면 전환 이벤트 생성")
+    void createAccountDormantEventWithFactory() {
+        // given
+        AccountId accountId = AccountId.of(1L);
+        CustomerId customerId = CustomerId.of(12345L);
+        LocalDateTime lastLoginAt = LocalDateTime.of(2023, 3, 1, 10, 0);
+        LocalDateTime beforeCreation = LocalDateTime.now();
+
+        // when
+        AccountDormantEvent event = AccountDormantEvent.of(accountId, customerId, lastLoginAt);
+
+        // then
+        assertThat(event.getAccountId()).isEqualTo(accountId);
+        assertThat(event.getCustomerId()).isEqualTo(customerId);
+        assertThat(event.getLastLoginAt()).isEqualTo(lastLoginAt);
+        assertThat(event.getOccurredAt()).isAfterOrEqualTo(beforeCreation);
+    }
+
+    @Test
+    @DisplayName("한 번도 로그인하지 않은 계정은 마지막 로그인 일시 없이 생성된다")
+    void createAccountDormantEventWithoutLogin() {
+        // when
+        AccountDormantEvent event = AccountDormantEvent.of(AccountId.of(2L), CustomerId.of(2L), null);
+
+        // then
+        assertThat(event.getLastLoginAt()).isNull();
+        assertThat(event.getOccurredAt()).isNotNull();
+    }
+}
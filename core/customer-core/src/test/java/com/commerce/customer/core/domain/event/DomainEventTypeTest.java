@@ -0,0 +1,54 @@
+package com.commerce.customer.core.domain.event;
+
+import com.commerce.customer.core.domain.model.AccountId;
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.jwt.JwtTokenType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DomainEventType 테스트")
+class DomainEventTypeTest {
+
+    @Test
+    @DisplayName("sealed 계층의 모든 이벤트 클래스가 디스패치 테이블에 등록되어 있다")
+    void everyPermittedSubclassIsRegistered() {
+        // given
+        Class<?>[] permitted = DomainEvent.class.getPermittedSubclasses();
+
+        // when & then
+        assertThat(Arrays.stream(permitted).map(DomainEventType::of))
+                .containsExactlyInAnyOrder(DomainEventType.values());
+    }
+
+    @Test
+    @DisplayName("이벤트는 등록된 토픽과 애그리거트 식별자 키를 가진다")
+    void eventCarriesTopicAndKey() {
+        // given
+        DomainEvent login = new LoginSuccessfulEvent(AccountId.of(7L), CustomerId.of(700L), LocalDateTime.now());
+        DomainEvent invalidated = new TokenInvalidatedEvent(CustomerId.of(700L), JwtTokenType.ACCESS, "로그아웃");
+
+        // when & then
+        assertThat(login.type()).isEqualTo(DomainEventType.LOGIN_SUCCEEDED);
+        assertThat(login.topic()).isEqualTo(DomainEventTopics.LOGIN_SUCCEEDED);
+        assertThat(login.key()).isEqualTo("7");
+        assertThat(invalidated.topic()).isEqualTo(DomainEventTopics.TOKEN_INVALIDATED);
+        assertThat(invalidated.key()).isEqualTo("700");
+    }
+
+    @Test
+    @DisplayName("아웃박스에 저장된 클래스 이름으로 이벤트 종류를 찾는다")
+    void fromTypeName() {
+        // when & then
+        assertThat(DomainEventType.fromTypeName(AccountDormantEvent.class.getName()))
+                .contains(DomainEventType.ACCOUNT_DORMANT);
+        assertThat(DomainEventType.fromTypeName("com.example.UnknownEvent")).isEmpty();
+        assertThatThrownBy(() -> DomainEventType.of(String.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
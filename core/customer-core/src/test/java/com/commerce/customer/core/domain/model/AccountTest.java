@@ -1,5 +1,6 @@
 package com.commerce.customer.core.domain.model;
 
+import com.commerce.customer.core.domain.event.LoginSuccessfulEvent;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Nested;
@@ -109,6 +110,25 @@ class AccountTest {
             assertThat(account.getLockedUntil()).isNull();
         }
 
+        @Test
+        @DisplayName("로그인 성공 시 로그인 성공 이벤트가 쌓인다")
+        void recordSuccessfulLogin_ShouldRaiseLoginSuccessfulEvent() {
+            // Given
+            Account account = createTestAccount();
+            account.activate(account.getActivationCode().getCode());
+            account.clearDomainEvents();
+
+            // When
+            account.recordSuccessfulLogin();
+
+            // Then
+            assertThat(account.getDomainEvents()).singleElement()
+                .isInstanceOfSatisfying(LoginSuccessfulEvent.class, event -> {
+                    assertThat(event.getAccountId()).isEqualTo(account.getAccountId());
+                    assertThat(event.getLoginAt()).isEqualTo(account.getLastLoginAt());
+                });
+        }
+
         @Test
         @DisplayName("로그인 실패를 기록할 수 있다")
         void recordFailedLogin_ShouldIncreaseFailCount() {
@@ -115,4 +115,19 @@ class EmailTest {
         // When & Then
         assertThat(email1).isNotEqualTo(email2);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("저장소의 이메일은 형식 검증 없이 그대로 복원된다")
+    void restore_ShouldKeepStoredValue() {
+        // Given
+        String storedValue = "legacy_user@localhost";
+
+        // When
+        Email email = Email.restore(storedValue);
+
+        // Then
+        assertThat(email.getValue()).isEqualTo(storedValue);
+        assertThatThrownBy(() -> Email.of(storedValue))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
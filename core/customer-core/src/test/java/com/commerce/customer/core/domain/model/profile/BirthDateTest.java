@@ -115,4 +115,18 @@ class BirthDateTest {
         assertThat(birthDate1).isNotEqualTo(birthDate3);
         assertThat(birthDate1.hashCode()).isEqualTo(birthDate2.hashCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("저장소의 생년월일은 현재 날짜 기준 연령 검증 없이 복원된다")
+    void restore_ShouldSkipAgeValidation() {
+        // Given
+        LocalDate date = LocalDate.now().minusYears(121);
+
+        // When
+        BirthDate birthDate = BirthDate.restore(date);
+
+        // Then
+        assertThat(birthDate.getDate()).isEqualTo(date);
+        assertThat(birthDate).isEqualTo(BirthDate.restore(date));
+    }
+}
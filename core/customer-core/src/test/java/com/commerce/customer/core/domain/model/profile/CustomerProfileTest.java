@@ -1,11 +1,15 @@
 package com.commerce.customer.core.domain.model.profile;
 
+import com.commerce.customer.core.domain.event.ProfileChangeType;
+import com.commerce.customer.core.domain.event.ProfileChangedEvent;
 import com.commerce.customer.core.domain.model.CustomerId;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -244,6 +248,58 @@ class CustomerProfileTest {
         assertThat(profile1.hashCode()).isEqualTo(profile1.hashCode());
     }
 
+    @Test
+    @DisplayName("저장된 상태와 주소를 그대로 복원할 수 있다")
+    void restoreCustomerProfile() {
+        // Given
+        ProfileId profileId = ProfileId.of(42L);
+        CustomerId customerId = CustomerId.of(7L);
+        Address address = Address.restore(AddressId.of(3L), AddressType.HOME, "집", "06234",
+            "서울특별시 강남구 테헤란로 123", null, "101동", null, true, LocalDateTime.of(2024, 1, 1, 9, 0));
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 9, 0);
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 6, 1, 9, 0);
+
+        // When
+        CustomerProfile profile = CustomerProfile.restore(profileId, customerId, createValidPersonalInfo(),
+            createValidContactInfo(), List.of(address), ProfilePreferences.getDefault(),
+            ProfileStatus.SUSPENDED, createdAt, updatedAt);
+
+        // Then
+        assertThat(profile.getProfileId()).isEqualTo(profileId);
+        assertThat(profile.getCustomerId()).isEqualTo(customerId);
+        assertThat(profile.getStatus()).isEqualTo(ProfileStatus.SUSPENDED);
+        assertThat(profile.getAddresses()).containsExactly(address);
+        assertThat(profile.getAddresses().get(0).isDefault()).isTrue();
+        assertThat(profile.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(profile.getUpdatedAt()).isEqualTo(updatedAt);
+        assertThat(profile.getDomainEvents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변경할 때마다 프로필 변경 이벤트가 기록되고 저장된 인스턴스로 옮길 수 있다")
+    void recordsProfileChangedEvents() {
+        // Given
+        CustomerProfile profile = createValidProfile();
+        Address address = Address.create(AddressType.HOME, "집", "12345", "서울특별시 강남구 테헤란로 123", null, "456호");
+        CustomerProfile saved = CustomerProfile.restore(profile.getProfileId(), profile.getCustomerId(),
+            profile.getPersonalInfo(), profile.getContactInfo(), List.of(), profile.getPreferences(),
+            profile.getStatus(), profile.getCreatedAt(), profile.getUpdatedAt(), 1L);
+
+        // When
+        profile.updateContactInfo(ContactInfo.of(PhoneNumber.ofKorean("010-9999-9999")));
+        profile.addAddress(address);
+        saved.takeDomainEventsFrom(profile);
+
+        // Then
+        assertThat(profile.getDomainEvents()).isEmpty();
+        assertThat(saved.getDomainEvents())
+            .map(event -> (ProfileChangedEvent) event)
+            .extracting(ProfileChangedEvent::getChanges)
+            .containsExactly(Set.of(ProfileChangeType.CONTACT_INFO), Set.of(ProfileChangeType.ADDRESS_ADDED));
+        assertThat(((ProfileChangedEvent) saved.getDomainEvents().get(1)).getAddressIds())
+            .containsExactly(address.getAddressId().getValue());
+    }
+
     private CustomerProfile createValidProfile() {
         return CustomerProfile.create(
             CustomerId.generate(),
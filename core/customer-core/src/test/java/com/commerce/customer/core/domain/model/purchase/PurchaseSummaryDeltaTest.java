@@ -0,0 +1,60 @@
+package com.commerce.customer.core.domain.model.purchase;
+
+import com.commerce.customer.core.domain.model.CustomerId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+@DisplayName("구매 집계 증분 테스트")
+class PurchaseSummaryDeltaTest {
+
+    private static final LocalDateTime ORDERED_AT = LocalDateTime.of(2024, 5, 1, 10, 0);
+
+    @Test
+    @DisplayName("주문을 더하면 주문 수와 누적 금액이 늘고 최근 주문일은 가장 늦은 시각으로 유지된다")
+    void addOrder_Accumulates() {
+        // Given
+        PurchaseSummaryDelta delta = PurchaseSummaryDelta.of(CustomerId.of(1L));
+
+        // When
+        delta.addOrder(new BigDecimal("10000"), ORDERED_AT, List.of("fashion"));
+        delta.addOrder(new BigDecimal("2500.50"), ORDERED_AT.minusDays(1), List.of("beauty"));
+
+        // Then
+        assertThat(delta.getOrderCount()).isEqualTo(2);
+        assertThat(delta.getTotalAmount()).isEqualByComparingTo("12500.50");
+        assertThat(delta.getLastOrderedAt()).isEqualTo(ORDERED_AT);
+    }
+
+    @Test
+    @DisplayName("한 주문 안의 같은 카테고리는 한 번만 세고 빈 카테고리는 무시한다")
+    void addOrder_CountsCategoryOncePerOrder() {
+        // Given
+        PurchaseSummaryDelta delta = PurchaseSummaryDelta.of(CustomerId.of(1L));
+
+        // When
+        delta.addOrder(BigDecimal.ONE, ORDERED_AT, List.of("fashion", "fashion", " ", "food"));
+        delta.addOrder(BigDecimal.ONE, ORDERED_AT, List.of("fashion"));
+
+        // Then
+        assertThat(delta.getCategoryOrderCounts()).containsOnly(
+            entry("fashion", 2L),
+            entry("food", 1L));
+    }
+
+    @Test
+    @DisplayName("주문 금액이 없으면 예외가 발생한다")
+    void addOrder_RequiresAmount() {
+        PurchaseSummaryDelta delta = PurchaseSummaryDelta.of(CustomerId.of(1L));
+
+        assertThatThrownBy(() -> delta.addOrder(null, ORDERED_AT, List.of()))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
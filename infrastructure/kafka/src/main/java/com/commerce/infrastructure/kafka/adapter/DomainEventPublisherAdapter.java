@@ -1,12 +1,14 @@
 package com.commerce.infrastructure.kafka.adapter;
 
-import com.commerce.customer.core.domain.event.AccountActivatedEvent;
-import com.commerce.customer.core.domain.event.AccountCreatedEvent;
+import com.commerce.customer.core.domain.event.DomainEvent;
 import com.commerce.customer.core.domain.event.DomainEventPublisher;
 import com.commerce.infrastructure.kafka.event.KafkaEventPublisher;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
 @Component
 @RequiredArgsConstructor
 public class DomainEventPublisherAdapter implements DomainEventPublisher {
@@ -14,12 +16,7 @@ public class DomainEventPublisherAdapter implements DomainEventPublisher {
     private final KafkaEventPublisher kafkaEventPublisher;
     
     @Override
-    public void publishAccountCreatedEvent(AccountCreatedEvent event) {
-        kafkaEventPublisher.publishAccountCreatedEvent(event);
-    }
-    
-    @Override
-    public void publishAccountActivatedEvent(AccountActivatedEvent event) {
-        kafkaEventPublisher.publishAccountActivatedEvent(event);
+    public CompletableFuture<Void> publish(Collection<? extends DomainEvent> events) {
+        return kafkaEventPublisher.publish(events);
     }
-}
\ No newline at end of file
+}
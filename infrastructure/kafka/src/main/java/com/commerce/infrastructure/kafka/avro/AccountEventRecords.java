@@ -0,0 +1,107 @@
+package com.commerce.infrastructure.kafka.avro;
+
+import com.commerce.customer.core.domain.event.AccountActivatedEvent;
+import com.commerce.customer.core.domain.event.AccountCreatedEvent;
+import com.commerce.customer.core.domain.event.AccountDormantEvent;
+import com.commerce.customer.core.domain.event.DomainEvent;
+import com.commerce.customer.core.domain.event.DomainEventType;
+import com.commerce.customer.core.domain.event.LoginSuccessfulEvent;
+import com.commerce.customer.core.domain.event.ProfileChangedEvent;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계정/프로필 도메인 이벤트 ↔ Avro 레코드 변환
+ * 식별자 래퍼(AccountId 등)는 long으로 펼치고, 일시는 local-timestamp-millis(시간대 없는 epoch millis)로 쓴다.
+ */
+public final class AccountEventRecords {
+
+    public static final String ACCOUNT_CREATED = "com.commerce.customer.event.AccountCreated";
+    public static final String ACCOUNT_ACTIVATED = "com.commerce.customer.event.AccountActivated";
+    public static final String ACCOUNT_DORMANT = "com.commerce.customer.event.AccountDormant";
+    public static final String ACCOUNT_LOGIN_SUCCEEDED = "com.commerce.customer.event.AccountLoginSucceeded";
+    public static final String PROFILE_CHANGED = "com.commerce.customer.event.ProfileChanged";
+
+    private static final Map<DomainEventType, String> SUBJECT_BY_TYPE = Map.of(
+            DomainEventType.ACCOUNT_CREATED, ACCOUNT_CREATED,
+            DomainEventType.ACCOUNT_ACTIVATED, ACCOUNT_ACTIVATED,
+            DomainEventType.ACCOUNT_DORMANT, ACCOUNT_DORMANT,
+            DomainEventType.LOGIN_SUCCEEDED, ACCOUNT_LOGIN_SUCCEEDED,
+            DomainEventType.PROFILE_CHANGED, PROFILE_CHANGED
+    );
+
+    private AccountEventRecords() {
+    }
+
+    public static String subjectOf(Object event) {
+        String subject = event instanceof DomainEvent domainEvent ? SUBJECT_BY_TYPE.get(domainEvent.type()) : null;
+        if (subject == null) {
+            throw new IllegalArgumentException("Avro 스키마가 없는 이벤트: " + event.getClass().getName());
+        }
+        return subject;
+    }
+
+    public static GenericRecord toRecord(Object event, Schema schema) {
+        GenericRecord record = new GenericData.Record(schema);
+        DomainEvent domainEvent = (DomainEvent) event;
+        switch (domainEvent.type()) {
+            case ACCOUNT_CREATED -> {
+                AccountCreatedEvent created = (AccountCreatedEvent) event;
+                record.put("accountId", created.getAccountId().getValue());
+                record.put("customerId", created.getCustomerId().getValue());
+                record.put("email", created.getEmail().getValue());
+                record.put("activationCode", created.getActivationCode());
+            }
+            case ACCOUNT_ACTIVATED -> {
+                AccountActivatedEvent activated = (AccountActivatedEvent) event;
+                record.put("accountId", activated.getAccountId().getValue());
+                record.put("customerId", activated.getCustomerId().getValue());
+            }
+            case ACCOUNT_DORMANT -> {
+                AccountDormantEvent dormant = (AccountDormantEvent) event;
+                record.put("accountId", dormant.getAccountId().getValue());
+                record.put("customerId", dormant.getCustomerId().getValue());
+                record.put("lastLoginAt", toMillis(dormant.getLastLoginAt()));
+            }
+            case LOGIN_SUCCEEDED -> {
+                LoginSuccessfulEvent login = (LoginSuccessfulEvent) event;
+                record.put("accountId", login.getAccountId().getValue());
+                record.put("customerId", login.getCustomerId().getValue());
+                record.put("loginAt", toMillis(login.getLoginAt()));
+            }
+            case PROFILE_CHANGED -> {
+                ProfileChangedEvent changed = (ProfileChangedEvent) event;
+                List<String> changes = new ArrayList<>(changed.getChanges().size());
+                changed.getChanges().forEach(change -> changes.add(change.name()));
+                record.put("profileId", changed.getProfileId().getValue());
+                record.put("customerId", changed.getCustomerId().getValue());
+                record.put("changes", changes);
+                record.put("addressIds", new ArrayList<>(changed.getAddressIds()));
+                record.put("changeCount", changed.getChangeCount());
+                record.put("firstChangedAt", toMillis(changed.getFirstChangedAt()));
+            }
+            default -> throw new IllegalArgumentException("Avro 스키마가 없는 이벤트: " + event.getClass().getName());
+        }
+        record.put("occurredAt", toMillis(domainEvent.getOccurredAt()));
+        return record;
+    }
+
+    /**
+     * local-timestamp-millis 값을 LocalDateTime으로 읽는다 (컨슈머용)
+     */
+    public static LocalDateTime toLocalDateTime(Object millis) {
+        return millis == null ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli((Long) millis), ZoneOffset.UTC);
+    }
+
+    private static Long toMillis(LocalDateTime dateTime) {
+        return dateTime == null ? null : dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,31 @@
+package com.commerce.infrastructure.kafka.avro;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 레코드 값 봉투: [magic 1바이트][스키마 id 4바이트 big-endian][Avro 바이너리 본문]
+ * 타입 헤더 없이 값만으로 쓰기 스키마를 찾을 수 있고, magic으로 JSON 값과 구분한다.
+ */
+public final class AvroEnvelope {
+
+    public static final byte MAGIC_BYTE = 0x1;
+    public static final int HEADER_SIZE = 5;
+
+    private AvroEnvelope() {
+    }
+
+    public static byte[] header(int schemaId) {
+        return ByteBuffer.allocate(HEADER_SIZE).put(MAGIC_BYTE).putInt(schemaId).array();
+    }
+
+    public static boolean isEnvelope(byte[] value) {
+        return value != null && value.length >= HEADER_SIZE && value[0] == MAGIC_BYTE;
+    }
+
+    public static int schemaId(byte[] value) {
+        if (!isEnvelope(value)) {
+            throw new IllegalArgumentException("Avro 봉투 형식이 아닙니다");
+        }
+        return ByteBuffer.wrap(value, 1, 4).getInt();
+    }
+}
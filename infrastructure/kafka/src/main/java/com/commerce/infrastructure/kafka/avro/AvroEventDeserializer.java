@@ -0,0 +1,65 @@
+package com.commerce.infrastructure.kafka.avro;
+
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 컨슈머용 역직렬화기
+ * 봉투의 스키마 id로 쓰기 스키마를 찾고, 같은 subject의 최신 스키마로 해석한다(Avro 스키마 해석 규칙).
+ * 프로듀서가 옛 버전으로 썼더라도 컨슈머는 최신 필드 구성(추가 필드는 기본값)으로 읽는다.
+ */
+public class AvroEventDeserializer implements Deserializer<GenericRecord> {
+
+    private final Map<Integer, GenericDatumReader<GenericRecord>> readers = new ConcurrentHashMap<>();
+    private SchemaRegistry registry;
+
+    /**
+     * Kafka가 value.deserializer 설정으로 생성할 때 사용 (configure에서 색인을 읽는다)
+     */
+    public AvroEventDeserializer() {
+    }
+
+    public AvroEventDeserializer(SchemaRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        if (registry == null) {
+            Object index = configs.get(AvroEventSerializer.SCHEMA_INDEX_CONFIG);
+            registry = LocalSchemaRegistry.load(index != null ? index.toString() : LocalSchemaRegistry.DEFAULT_INDEX);
+        }
+    }
+
+    @Override
+    public GenericRecord deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (!AvroEnvelope.isEnvelope(data)) {
+            throw new SerializationException("Avro 봉투 형식이 아닌 값: topic=" + topic);
+        }
+        int schemaId = AvroEnvelope.schemaId(data);
+        try {
+            GenericDatumReader<GenericRecord> reader = readers.computeIfAbsent(schemaId, this::readerFor);
+            BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(data, AvroEnvelope.HEADER_SIZE,
+                    data.length - AvroEnvelope.HEADER_SIZE, null);
+            return reader.read(null, decoder);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Avro 역직렬화 실패: topic=" + topic + ", schemaId=" + schemaId, e);
+        }
+    }
+
+    private GenericDatumReader<GenericRecord> readerFor(int schemaId) {
+        RegisteredSchema writer = registry.byId(schemaId);
+        return new GenericDatumReader<>(writer.schema(), registry.latest(writer.subject()).schema());
+    }
+}
@@ -0,0 +1,67 @@
+package com.commerce.infrastructure.kafka.avro;
+
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 계정 도메인 이벤트를 스키마 id 봉투 + Avro 바이너리로 직렬화
+ * subject의 최신 스키마 버전으로 쓰며, 타입 헤더를 붙이지 않는다.
+ */
+public class AvroEventSerializer implements Serializer<Object> {
+
+    /**
+     * 프로듀서 설정에서 스키마 색인 위치를 지정하는 키 (기본 classpath:avro/schemas.index)
+     */
+    public static final String SCHEMA_INDEX_CONFIG = "commerce.avro.schema-index";
+
+    private final Map<Integer, GenericDatumWriter<GenericRecord>> writers = new ConcurrentHashMap<>();
+    private SchemaRegistry registry;
+
+    /**
+     * Kafka가 value.serializer 설정으로 생성할 때 사용 (configure에서 색인을 읽는다)
+     */
+    public AvroEventSerializer() {
+    }
+
+    public AvroEventSerializer(SchemaRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        if (registry == null) {
+            Object index = configs.get(SCHEMA_INDEX_CONFIG);
+            registry = LocalSchemaRegistry.load(index != null ? index.toString() : LocalSchemaRegistry.DEFAULT_INDEX);
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object event) {
+        if (event == null) {
+            return null;
+        }
+        RegisteredSchema schema = registry.latest(AccountEventRecords.subjectOf(event));
+        GenericRecord record = AccountEventRecords.toRecord(event, schema.schema());
+        GenericDatumWriter<GenericRecord> writer = writers.computeIfAbsent(schema.id(),
+                id -> new GenericDatumWriter<>(schema.schema()));
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+            out.write(AvroEnvelope.header(schema.id()));
+            BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+            writer.write(record, encoder);
+            encoder.flush();
+            return out.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Avro 직렬화 실패: topic=" + topic + ", subject=" + schema.subject(), e);
+        }
+    }
+}
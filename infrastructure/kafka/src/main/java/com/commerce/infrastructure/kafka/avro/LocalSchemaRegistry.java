@@ -0,0 +1,90 @@
+package com.commerce.infrastructure.kafka.avro;
+
+import org.apache.avro.Schema;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 색인 파일로 구성하는 로컬 스키마 레지스트리 (원격 스키마 레지스트리 대역)
+ * 색인의 각 줄은 "id subject version 파일" 형식이며 파일은 색인 위치 기준 상대 경로로 읽는다.
+ * classpath:와 file: 위치를 모두 지원하므로 컨슈머 서비스는 같은 색인을 파일로 배포받아 쓸 수 있다.
+ */
+public class LocalSchemaRegistry implements SchemaRegistry {
+
+    public static final String DEFAULT_INDEX = "classpath:avro/schemas.index";
+
+    private final Map<Integer, RegisteredSchema> byId;
+    private final Map<String, RegisteredSchema> latestBySubject;
+
+    private LocalSchemaRegistry(Map<Integer, RegisteredSchema> byId) {
+        this.byId = Map.copyOf(byId);
+        Map<String, RegisteredSchema> latest = new HashMap<>();
+        byId.values().forEach(schema -> latest.merge(schema.subject(), schema,
+                (current, candidate) -> candidate.version() > current.version() ? candidate : current));
+        this.latestBySubject = Map.copyOf(latest);
+    }
+
+    public static LocalSchemaRegistry load(String indexLocation) {
+        Resource index = new DefaultResourceLoader().getResource(indexLocation);
+        Map<Integer, RegisteredSchema> schemas = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(index.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\\s+");
+                if (columns.length != 4) {
+                    throw new IllegalStateException("스키마 색인 형식 오류: " + line);
+                }
+                int id = Integer.parseInt(columns[0]);
+                Schema schema = parse(index.createRelative(columns[3]));
+                if (!schema.getFullName().equals(columns[1])) {
+                    throw new IllegalStateException("스키마 이름과 subject가 다릅니다: " + line);
+                }
+                RegisteredSchema registered = new RegisteredSchema(id, columns[1], Integer.parseInt(columns[2]), schema);
+                if (schemas.putIfAbsent(id, registered) != null) {
+                    throw new IllegalStateException("중복된 스키마 id: " + id);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("스키마 색인 로드 실패: " + indexLocation, e);
+        }
+        return new LocalSchemaRegistry(schemas);
+    }
+
+    @Override
+    public RegisteredSchema byId(int id) {
+        RegisteredSchema schema = byId.get(id);
+        if (schema == null) {
+            throw new IllegalArgumentException("등록되지 않은 스키마 id: " + id);
+        }
+        return schema;
+    }
+
+    @Override
+    public RegisteredSchema latest(String subject) {
+        RegisteredSchema schema = latestBySubject.get(subject);
+        if (schema == null) {
+            throw new IllegalArgumentException("등록되지 않은 스키마 subject: " + subject);
+        }
+        return schema;
+    }
+
+    private static Schema parse(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            return new Schema.Parser().parse(in);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.commerce.infrastructure.kafka.avro;
+
+import org.apache.avro.Schema;
+
+/**
+ * 레지스트리에 등록된 스키마 한 버전
+ *
+ * @param id      레코드 봉투에 실리는 전역 스키마 id
+ * @param subject 스키마 full name (예: com.commerce.customer.event.AccountCreated)
+ * @param version subject 안에서의 버전
+ */
+public record RegisteredSchema(int id, String subject, int version, Schema schema) {
+}
@@ -0,0 +1,12 @@
+package com.commerce.infrastructure.kafka.avro;
+
+/**
+ * 스키마 id ↔ 스키마 조회
+ * 프로듀서는 subject의 최신 버전으로 쓰고, 컨슈머는 봉투의 id로 쓰기 스키마를 찾아 자신의 최신 버전으로 읽는다.
+ */
+public interface SchemaRegistry {
+
+    RegisteredSchema byId(int id);
+
+    RegisteredSchema latest(String subject);
+}
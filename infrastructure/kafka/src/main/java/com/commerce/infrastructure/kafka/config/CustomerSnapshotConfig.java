@@ -0,0 +1,122 @@
+package com.commerce.infrastructure.kafka.config;
+
+import com.commerce.customer.core.domain.repository.AccountRepository;
+import com.commerce.customer.core.domain.repository.profile.CustomerProfileRepository;
+import com.commerce.infrastructure.kafka.producer.ProducerProfileProperties;
+import com.commerce.infrastructure.kafka.producer.ProducerProfiles;
+import com.commerce.infrastructure.kafka.snapshot.CustomerSnapshotMetrics;
+import com.commerce.infrastructure.kafka.snapshot.CustomerSnapshotProjector;
+import com.commerce.infrastructure.kafka.snapshot.CustomerSnapshotProperties;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.TopicConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.util.backoff.FixedBackOff;
+
+/**
+ * 고객 스냅샷 토픽 설정
+ * 프로필/계정 변경 이벤트를 구독해 고객별 최신 스냅샷을 로그 압축 토픽(customer.profile.snapshot)에 발행한다.
+ * 다른 서비스는 customer-snapshot-client 모듈로 이 토픽을 로컬 복제하여 고객 조회를 프로세스 안에서 처리한다.
+ *
+ * 투영 컨테이너는 인스턴스당 단일 스레드로 운용한다. 현재 상태를 다시 읽어 발행하므로, 같은 고객을 여러 스레드가 동시에
+ * 투영하면 먼저 읽은(오래된) 스냅샷이 나중에 쓰일 수 있기 때문이다. 서로 다른 인스턴스가 같은 고객의 프로필/계정 이벤트를
+ * 동시에 투영하는 드문 경우에는 그 고객의 다음 변경 때 현재 상태로 바로잡힌다.
+ * 조회는 @Primary 캐시 데코레이터(니어 캐시/Redis)를 거치지 않는 원본 어댑터 빈으로 한다. 캐시에 남은 오래된 프로필이
+ * 압축 토픽에 쓰이면 다음 변경 전까지 모든 복제본에 그대로 남기 때문이다.
+ * 스냅샷 발행은 토픽 프로필(commerce.kafka.producer.topics)을 따르되 값은 코덱이 만든 바이트를 그대로 쓴다.
+ */
+@Configuration
+@EnableConfigurationProperties(CustomerSnapshotProperties.class)
+@ConditionalOnProperty(prefix = "commerce.kafka.customer-snapshot", name = "enabled", havingValue = "true")
+public class CustomerSnapshotConfig {
+
+    /**
+     * 캐시 데코레이터가 감싸는 원본 저장소 어댑터 빈 이름 (persistence 모듈의 @Repository 기본 이름)
+     */
+    static final String CUSTOMER_PROFILE_SOURCE = "customerProfileRepositoryAdapter";
+    static final String ACCOUNT_SOURCE = "accountRepositoryAdapter";
+
+    @Value("${kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    /**
+     * 로그 압축 스냅샷 토픽 (KafkaAdmin이 없으면 생성한다)
+     */
+    @Bean
+    public NewTopic customerSnapshotTopic(CustomerSnapshotProperties properties) {
+        return TopicBuilder.name(properties.getTopic())
+                .partitions(properties.getPartitions())
+                .replicas(properties.getReplicas())
+                .compact()
+                .config(TopicConfig.DELETE_RETENTION_MS_CONFIG,
+                        String.valueOf(properties.getDeleteRetention().toMillis()))
+                .build();
+    }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> customerSnapshotTemplate(ProducerProfileProperties producerProfileProperties,
+                                                                  CustomerSnapshotProperties properties) {
+        ProducerProfiles producerProfiles = new ProducerProfiles(bootstrapServers, producerProfileProperties);
+        return new KafkaTemplate<>(producerProfiles.producerFactory(
+                producerProfiles.profileFor(properties.getTopic()), ByteArraySerializer.class));
+    }
+
+    @Bean
+    public CustomerSnapshotMetrics customerSnapshotMetrics() {
+        return new CustomerSnapshotMetrics();
+    }
+
+    @Bean
+    public CustomerSnapshotProjector customerSnapshotProjector(@Qualifier(CUSTOMER_PROFILE_SOURCE)
+                                                               CustomerProfileRepository customerProfileRepository,
+                                                               @Qualifier(ACCOUNT_SOURCE)
+                                                               AccountRepository accountRepository,
+                                                               TransactionOperations transactionOperations,
+                                                               @Qualifier("customerSnapshotTemplate")
+                                                               KafkaTemplate<String, byte[]> customerSnapshotTemplate,
+                                                               CustomerSnapshotMetrics customerSnapshotMetrics,
+                                                               CustomerSnapshotProperties properties) {
+        return new CustomerSnapshotProjector(customerProfileRepository, accountRepository, transactionOperations,
+                customerSnapshotTemplate, customerSnapshotMetrics, properties);
+    }
+
+    @Bean
+    public ConsumerFactory<String, byte[]> customerSnapshotConsumerFactory(CustomerSnapshotProperties properties) {
+        return new DefaultKafkaConsumerFactory<>(properties.consumerConfigs(bootstrapServers),
+                new StringDeserializer(), new ByteArrayDeserializer());
+    }
+
+    @Bean
+    public ConcurrentMessageListenerContainer<String, byte[]> customerSnapshotListenerContainer(
+            ConsumerFactory<String, byte[]> customerSnapshotConsumerFactory,
+            CustomerSnapshotProjector customerSnapshotProjector,
+            CustomerSnapshotProperties properties) {
+        ContainerProperties containerProperties = new ContainerProperties(
+                properties.sourceTopics().toArray(String[]::new));
+        containerProperties.setAckMode(ContainerProperties.AckMode.BATCH);
+        containerProperties.setMessageListener(customerSnapshotProjector);
+
+        ConcurrentMessageListenerContainer<String, byte[]> container =
+                new ConcurrentMessageListenerContainer<>(customerSnapshotConsumerFactory, containerProperties);
+        container.setConcurrency(1);
+        container.setCommonErrorHandler(new DefaultErrorHandler(
+                new FixedBackOff(properties.getRetryInterval().toMillis(), FixedBackOff.UNLIMITED_ATTEMPTS)));
+        container.setBeanName("customerSnapshotListenerContainer");
+        return container;
+    }
+}
@@ -1,38 +1,69 @@
 package com.commerce.infrastructure.kafka.config;
 
-import org.apache.kafka.clients.producer.ProducerConfig;
-import org.apache.kafka.common.serialization.StringSerializer;
+import com.commerce.infrastructure.kafka.event.InFlightLimiter;
+import com.commerce.infrastructure.kafka.event.PublishMetrics;
+import com.commerce.infrastructure.kafka.event.PublishProperties;
+import com.commerce.infrastructure.kafka.producer.ProducerProfileProperties;
+import com.commerce.infrastructure.kafka.producer.ProducerProfiles;
+import com.commerce.infrastructure.kafka.spool.SpoolProperties;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
-import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * 도메인 이벤트 프로듀서 설정
+ * 토픽별 프로듀서 프로필(commerce.kafka.producer)에 따라 linger/배치/압축을 달리한 프로듀서로 라우팅하고,
+ * encoding 설정에 따라 값을 JSON 또는 스키마 id 봉투 + Avro 바이너리로 직렬화한다.
+ * 발행 스풀(commerce.kafka.spool)을 켜면 브로커 장애 시 요청 스레드가 오래 막히지 않도록 대기 시간을 줄인다.
+ * 발행기는 토픽별 전송 확인 대기 수 상한(commerce.kafka.publish)으로 배압을 걸고 발행 지표를 남긴다.
+ */
 @Configuration
+@EnableConfigurationProperties({ProducerProfileProperties.class, SpoolProperties.class, PublishProperties.class})
 public class KafkaConfig {
 
     @Value("${kafka.bootstrap-servers:localhost:9092}")
     private String bootstrapServers;
 
+    @Autowired
+    private ProducerProfileProperties producerProfileProperties = new ProducerProfileProperties();
+
+    @Autowired
+    private SpoolProperties spoolProperties = new SpoolProperties();
+
+    /**
+     * 기본 프로필 프로듀서 팩토리 (토픽 매핑이 없는 이벤트용)
+     */
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
-        Map<String, Object> configProps = new HashMap<>();
-        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
-        configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
-        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
-        return new DefaultKafkaProducerFactory<>(configProps);
+        ProducerProfiles producerProfiles = producerProfiles();
+        return producerProfiles.producerFactory(producerProfileProperties.getDefaultProfile(),
+                producerProfiles.eventValueSerializer());
     }
 
     @Bean
     public KafkaTemplate<String, Object> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+        ProducerProfiles producerProfiles = producerProfiles();
+        return producerProfiles.routingTemplate(producerFactory(), producerProfiles.eventValueSerializer());
+    }
+
+    @Bean
+    public InFlightLimiter publishInFlightLimiter(PublishProperties publishProperties) {
+        return new InFlightLimiter(publishProperties.getMaxInFlightPerTopic(), publishProperties.getMaxBlock());
+    }
+
+    @Bean
+    public PublishMetrics publishMetrics(InFlightLimiter publishInFlightLimiter) {
+        return new PublishMetrics(publishInFlightLimiter);
+    }
+
+    private ProducerProfiles producerProfiles() {
+        Map<String, Object> overrides = spoolProperties.isEnabled() ? spoolProperties.producerOverrides() : Map.of();
+        return new ProducerProfiles(bootstrapServers, producerProfileProperties, overrides);
     }
-}
\ No newline at end of file
+}
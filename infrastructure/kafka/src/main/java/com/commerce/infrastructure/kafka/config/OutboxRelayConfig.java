@@ -0,0 +1,84 @@
+package com.commerce.infrastructure.kafka.config;
+
+import com.commerce.customer.core.domain.repository.OutboxRepository;
+import com.commerce.infrastructure.kafka.event.InFlightLimiter;
+import com.commerce.infrastructure.kafka.event.PublishMetrics;
+import com.commerce.infrastructure.kafka.outbox.OutboxRelay;
+import com.commerce.infrastructure.kafka.outbox.OutboxRelayMetrics;
+import com.commerce.infrastructure.kafka.outbox.OutboxRelayProperties;
+import com.commerce.infrastructure.kafka.outbox.OutboxRelayScheduler;
+import com.commerce.infrastructure.kafka.producer.ProducerProfileProperties;
+import com.commerce.infrastructure.kafka.producer.ProducerProfiles;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+
+import java.time.Clock;
+
+/**
+ * 아웃박스 릴레이 설정
+ * outbox 행의 본문은 이미 JSON이므로 값은 StringSerializer로 그대로 보내고,
+ * 직접 발행과 같은 토픽별 프로듀서 프로필(commerce.kafka.producer)로 레코드를 묶어 보낸다.
+ * 전송은 직접 발행과 같은 토픽별 in-flight 상한과 발행 지표(commerce.kafka.publish.*)를 공유한다.
+ * 릴레이는 Avro로 다시 인코딩하지 않으므로 encoding=avro와 함께 켜면 기동에 실패한다.
+ * (구독자가 Avro를 기대하는데 JSON이 조용히 발행되는 것을 막기 위함)
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxRelayProperties.class)
+@ConditionalOnProperty(prefix = "commerce.outbox", name = "enabled", havingValue = "true")
+public class OutboxRelayConfig {
+
+    @Value("${kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    @Bean
+    public ProducerFactory<String, String> outboxProducerFactory(ProducerProfileProperties producerProfileProperties) {
+        requireJsonEncoding(producerProfileProperties);
+        return producerProfiles(producerProfileProperties)
+                .producerFactory(producerProfileProperties.getDefaultProfile(), StringSerializer.class);
+    }
+
+    @Bean
+    public KafkaTemplate<String, String> outboxKafkaTemplate(ProducerFactory<String, String> outboxProducerFactory,
+                                                             ProducerProfileProperties producerProfileProperties) {
+        return producerProfiles(producerProfileProperties).routingTemplate(outboxProducerFactory, StringSerializer.class);
+    }
+
+    @Bean
+    public OutboxRelayMetrics outboxRelayMetrics() {
+        return new OutboxRelayMetrics();
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(OutboxRepository outboxRepository,
+                                   KafkaTemplate<String, String> outboxKafkaTemplate,
+                                   InFlightLimiter publishInFlightLimiter,
+                                   PublishMetrics publishMetrics,
+                                   OutboxRelayMetrics outboxRelayMetrics,
+                                   OutboxRelayProperties properties) {
+        return new OutboxRelay(outboxRepository, outboxKafkaTemplate, publishInFlightLimiter, publishMetrics,
+                outboxRelayMetrics, properties, Clock.systemDefaultZone());
+    }
+
+    @Bean
+    public OutboxRelayScheduler outboxRelayScheduler(OutboxRelay outboxRelay, OutboxRelayProperties properties) {
+        return new OutboxRelayScheduler(outboxRelay, properties.getPollInterval());
+    }
+
+    private static void requireJsonEncoding(ProducerProfileProperties producerProfileProperties) {
+        if (producerProfileProperties.getEncoding() != ProducerProfileProperties.Encoding.JSON) {
+            throw new IllegalStateException("아웃박스 릴레이는 JSON 본문만 발행합니다. commerce.kafka.producer.encoding="
+                    + producerProfileProperties.getEncoding().name().toLowerCase()
+                    + "와 commerce.outbox.enabled=true는 함께 사용할 수 없습니다.");
+        }
+    }
+
+    private ProducerProfiles producerProfiles(ProducerProfileProperties producerProfileProperties) {
+        return new ProducerProfiles(bootstrapServers, producerProfileProperties);
+    }
+}
@@ -0,0 +1,95 @@
+package com.commerce.infrastructure.kafka.config;
+
+import com.commerce.customer.core.domain.repository.purchase.ProcessedOrderEventRepository;
+import com.commerce.customer.core.domain.repository.purchase.PurchaseSummaryRepository;
+import com.commerce.infrastructure.kafka.consumer.EventIdDedupWindow;
+import com.commerce.infrastructure.kafka.consumer.OrderCompletedEvent;
+import com.commerce.infrastructure.kafka.consumer.PurchaseSummaryBatchListener;
+import com.commerce.infrastructure.kafka.consumer.PurchaseSummaryConsumerMetrics;
+import com.commerce.infrastructure.kafka.consumer.PurchaseSummaryConsumerProperties;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.Map;
+
+/**
+ * 주문 완료 이벤트 구매 집계 컨슈머 설정
+ * 값은 타입 헤더 없이 OrderCompletedEvent로 읽고, 역직렬화 실패 레코드는 null 값으로 넘겨 배치 전체가 막히지 않게 한다.
+ * 반영 완료 이벤트 ID 기록과 집계 upsert는 한 DB 트랜잭션으로 묶어 재전달된 이벤트를 이중 집계하지 않는다.
+ * 반영(upsert) 실패는 오프셋을 넘기지 않고 같은 배치를 retry-interval 간격으로 계속 재시도한다.
+ */
+@Configuration
+@EnableConfigurationProperties(PurchaseSummaryConsumerProperties.class)
+@ConditionalOnProperty(prefix = "commerce.kafka.purchase-consumer", name = "enabled", havingValue = "true")
+public class PurchaseSummaryConsumerConfig {
+
+    @Value("${kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    @Bean
+    public EventIdDedupWindow purchaseEventDedupWindow(PurchaseSummaryConsumerProperties properties) {
+        return new EventIdDedupWindow(properties.getDedupWindowSize());
+    }
+
+    @Bean
+    public PurchaseSummaryConsumerMetrics purchaseSummaryConsumerMetrics(EventIdDedupWindow purchaseEventDedupWindow) {
+        return new PurchaseSummaryConsumerMetrics(purchaseEventDedupWindow);
+    }
+
+    @Bean
+    public PurchaseSummaryBatchListener purchaseSummaryBatchListener(PurchaseSummaryRepository purchaseSummaryRepository,
+                                                                     ProcessedOrderEventRepository processedOrderEventRepository,
+                                                                     PlatformTransactionManager transactionManager,
+                                                                     EventIdDedupWindow purchaseEventDedupWindow,
+                                                                     PurchaseSummaryConsumerMetrics metrics) {
+        return new PurchaseSummaryBatchListener(purchaseSummaryRepository, processedOrderEventRepository,
+                new TransactionTemplate(transactionManager), purchaseEventDedupWindow, metrics);
+    }
+
+    @Bean
+    public ConsumerFactory<String, OrderCompletedEvent> purchaseConsumerFactory(
+            PurchaseSummaryConsumerProperties properties) {
+        return consumerFactory(properties.consumerConfigs(bootstrapServers));
+    }
+
+    @Bean
+    public ConcurrentMessageListenerContainer<String, OrderCompletedEvent> purchaseSummaryListenerContainer(
+            ConsumerFactory<String, OrderCompletedEvent> purchaseConsumerFactory,
+            PurchaseSummaryBatchListener purchaseSummaryBatchListener,
+            PurchaseSummaryConsumerProperties properties) {
+        ContainerProperties containerProperties = new ContainerProperties(properties.getTopic());
+        containerProperties.setAckMode(ContainerProperties.AckMode.BATCH);
+        containerProperties.setMessageListener(purchaseSummaryBatchListener);
+
+        ConcurrentMessageListenerContainer<String, OrderCompletedEvent> container =
+                new ConcurrentMessageListenerContainer<>(purchaseConsumerFactory, containerProperties);
+        container.setConcurrency(properties.getConcurrency());
+        container.setCommonErrorHandler(new DefaultErrorHandler(
+                new FixedBackOff(properties.getRetryInterval().toMillis(), FixedBackOff.UNLIMITED_ATTEMPTS)));
+        container.setBeanName("purchaseSummaryListenerContainer");
+        return container;
+    }
+
+    /**
+     * 주문 서비스는 타입 헤더를 보내지 않으므로 헤더를 무시하고 항상 OrderCompletedEvent로 읽는다
+     */
+    public static ConsumerFactory<String, OrderCompletedEvent> consumerFactory(Map<String, Object> configs) {
+        JsonDeserializer<OrderCompletedEvent> valueDeserializer = new JsonDeserializer<>(OrderCompletedEvent.class, false);
+        return new DefaultKafkaConsumerFactory<>(configs, new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(valueDeserializer));
+    }
+}
@@ -0,0 +1,90 @@
+package com.commerce.infrastructure.kafka.config;
+
+import com.commerce.infrastructure.kafka.producer.ProducerProfileProperties;
+import com.commerce.infrastructure.kafka.producer.ProducerProfiles;
+import com.commerce.infrastructure.kafka.spool.EventSpool;
+import com.commerce.infrastructure.kafka.spool.SpoolDrainScheduler;
+import com.commerce.infrastructure.kafka.spool.SpoolDrainer;
+import com.commerce.infrastructure.kafka.spool.SpoolLog;
+import com.commerce.infrastructure.kafka.spool.SpoolMetrics;
+import com.commerce.infrastructure.kafka.spool.SpoolProperties;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+
+import java.nio.file.Path;
+
+/**
+ * 브로커 장애 시 발행 스풀 설정
+ * 스풀에는 이벤트 프로듀서와 같은 직렬화기로 인코딩한 값과 헤더를 보관하고,
+ * 재전송은 ByteArraySerializer로 그대로 보내 토픽별 프로듀서 프로필을 따른다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "commerce.kafka.spool", name = "enabled", havingValue = "true")
+public class SpoolConfig {
+
+    @Value("${kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    @Bean
+    public SpoolLog spoolLog(SpoolProperties properties) {
+        return SpoolLog.open(Path.of(properties.getDirectory()), properties.getSegmentSize().toBytes(),
+                properties.getMaxDiskUsage().toBytes());
+    }
+
+    @Bean
+    public SpoolMetrics spoolMetrics(SpoolLog spoolLog) {
+        return new SpoolMetrics(spoolLog);
+    }
+
+    @Bean
+    public EventSpool eventSpool(SpoolLog spoolLog, SpoolMetrics spoolMetrics,
+                                 ProducerProfileProperties producerProfileProperties, SpoolProperties properties) {
+        ProducerProfiles producerProfiles = producerProfiles(producerProfileProperties, properties);
+        Class<?> serializerClass = producerProfiles.eventValueSerializer();
+        @SuppressWarnings("unchecked")
+        Serializer<Object> valueSerializer = (Serializer<Object>) BeanUtils.instantiateClass(serializerClass);
+        valueSerializer.configure(producerProfiles.configs(producerProfileProperties.getDefaultProfile(), serializerClass),
+                false);
+        return new EventSpool(spoolLog, valueSerializer, spoolMetrics);
+    }
+
+    @Bean
+    public ProducerFactory<String, byte[]> spoolProducerFactory(ProducerProfileProperties producerProfileProperties,
+                                                                SpoolProperties properties) {
+        return producerProfiles(producerProfileProperties, properties)
+                .producerFactory(producerProfileProperties.getDefaultProfile(), ByteArraySerializer.class);
+    }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> spoolKafkaTemplate(ProducerFactory<String, byte[]> spoolProducerFactory,
+                                                            ProducerProfileProperties producerProfileProperties,
+                                                            SpoolProperties properties) {
+        return producerProfiles(producerProfileProperties, properties)
+                .routingTemplate(spoolProducerFactory, ByteArraySerializer.class);
+    }
+
+    @Bean
+    public SpoolDrainer spoolDrainer(SpoolLog spoolLog,
+                                     @Qualifier("spoolKafkaTemplate") KafkaTemplate<String, byte[]> spoolKafkaTemplate,
+                                     SpoolMetrics spoolMetrics, SpoolProperties properties) {
+        return new SpoolDrainer(spoolLog, spoolKafkaTemplate, spoolMetrics, properties);
+    }
+
+    @Bean
+    public SpoolDrainScheduler spoolDrainScheduler(SpoolDrainer spoolDrainer, SpoolProperties properties) {
+        return new SpoolDrainScheduler(spoolDrainer, properties.getDrainInterval());
+    }
+
+    private ProducerProfiles producerProfiles(ProducerProfileProperties producerProfileProperties,
+                                              SpoolProperties properties) {
+        return new ProducerProfiles(bootstrapServers, producerProfileProperties, properties.producerOverrides());
+    }
+}
@@ -0,0 +1,118 @@
+package com.commerce.infrastructure.kafka.consumer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * 최근 처리한 이벤트 ID를 고정 크기로 기억하는 중복 판별 창
+ * 이벤트 ID 문자열 대신 64비트 지문만 기본형 배열에 보관하므로 항목당 약 24바이트로 수십만 건을 기억한다.
+ * (순환 버퍼로 가장 오래된 지문부터 밀어내고, 조회는 선형 탐사 해시 테이블로 처리)
+ * 지문 충돌 확률은 창 크기 n에 대해 약 n / 2^64로 무시할 수 있다.
+ */
+public class EventIdDedupWindow {
+
+    private static final long EMPTY = 0L;
+
+    private final long[] ring;
+    private final long[] table;
+    private final int mask;
+    private int head;
+    private int size;
+
+    public EventIdDedupWindow(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("중복 판별 창 크기는 1 이상이어야 합니다: " + capacity);
+        }
+        this.ring = new long[capacity];
+        // 적재율 50% 이하를 유지해 탐사 길이를 짧게 유지
+        int tableSize = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1) << 1;
+        this.table = new long[tableSize];
+        this.mask = tableSize - 1;
+    }
+
+    public synchronized boolean contains(String eventId) {
+        return indexOf(fingerprint(eventId)) >= 0;
+    }
+
+    /**
+     * 반영이 끝난 이벤트 ID를 기억합니다. 창이 가득 차면 가장 오래된 ID부터 잊습니다.
+     */
+    public synchronized void markAll(Collection<String> eventIds) {
+        for (String eventId : eventIds) {
+            long fingerprint = fingerprint(eventId);
+            if (indexOf(fingerprint) >= 0) {
+                continue;
+            }
+            if (size == ring.length) {
+                remove(ring[head]);
+            } else {
+                size++;
+            }
+            ring[head] = fingerprint;
+            head = (head + 1) % ring.length;
+            insert(fingerprint);
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return ring.length;
+    }
+
+    private int indexOf(long fingerprint) {
+        int slot = slot(fingerprint);
+        while (table[slot] != EMPTY) {
+            if (table[slot] == fingerprint) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insert(long fingerprint) {
+        int slot = slot(fingerprint);
+        while (table[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = fingerprint;
+    }
+
+    // 선형 탐사에서 빈 칸을 만들지 않도록 뒤따르는 항목을 앞으로 당긴다 (backward shift deletion)
+    private void remove(long fingerprint) {
+        int hole = indexOf(fingerprint);
+        if (hole < 0) {
+            return;
+        }
+        int slot = (hole + 1) & mask;
+        while (table[slot] != EMPTY) {
+            int home = slot(table[slot]);
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                table[hole] = table[slot];
+                hole = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[hole] = EMPTY;
+    }
+
+    private int slot(long fingerprint) {
+        return (int) (fingerprint ^ (fingerprint >>> 32)) & mask;
+    }
+
+    // FNV-1a 64비트 해시 후 비트 섞기 (0은 빈 칸 표시로 쓰므로 피한다)
+    static long fingerprint(String eventId) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : eventId.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash == EMPTY ? 1L : hash;
+    }
+}
@@ -0,0 +1,39 @@
+package com.commerce.infrastructure.kafka.consumer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 서비스가 발행하는 주문 완료 이벤트 (order.completed)
+ * 구매 집계에 필요한 필드만 읽고 나머지 필드는 무시한다.
+ *
+ * @param eventId     이벤트 고유 ID (재전송/중복 발행 판별 기준)
+ * @param orderId     주문 ID
+ * @param customerId  주문 고객 ID (토픽 파티션 키)
+ * @param totalAmount 주문 결제 금액
+ * @param categories  주문에 포함된 상품 카테고리
+ * @param completedAt 주문 완료 시각
+ */
+public record OrderCompletedEvent(String eventId,
+                                  Long orderId,
+                                  Long customerId,
+                                  BigDecimal totalAmount,
+                                  List<String> categories,
+                                  LocalDateTime completedAt) {
+
+    /**
+     * 반영 완료 이벤트 ID 컬럼 길이 (processed_order_events.event_id)
+     */
+    public static final int MAX_EVENT_ID_LENGTH = 100;
+
+    /**
+     * 집계에 필요한 필수 값이 모두 있는지 확인
+     */
+    public boolean isValid() {
+        return eventId != null && !eventId.isBlank() && eventId.length() <= MAX_EVENT_ID_LENGTH
+                && customerId != null
+                && totalAmount != null && totalAmount.signum() >= 0
+                && completedAt != null;
+    }
+}
@@ -0,0 +1,109 @@
+package com.commerce.infrastructure.kafka.consumer;
+
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.purchase.PurchaseSummaryDelta;
+import com.commerce.customer.core.domain.repository.purchase.ProcessedOrderEventRepository;
+import com.commerce.customer.core.domain.repository.purchase.PurchaseSummaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.BatchMessageListener;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 주문 완료 이벤트를 배치로 소비하여 고객별 구매 집계를 갱신하는 리스너
+ * 한 번의 poll로 받은 레코드를 메모리에서 고객별 증분으로 합친 뒤 한 번의 배치 upsert로 반영하고,
+ * 리스너가 정상 반환한 뒤에만 컨테이너가 오프셋을 커밋한다.
+ *
+ * 중복 처리: 같은 배치 안의 중복과 최근에 반영한 이벤트 ID(메모리 중복 판별 창)는 DB에 가기 전에 건너뛴다.
+ * 나머지는 집계 upsert와 같은 트랜잭션에서 반영 완료 이벤트 ID로 기록하고, 이미 기록된 이벤트는 집계에서 뺀다.
+ * 따라서 오프셋 커밋 전에 프로세스가 죽거나 파티션이 재분배되어 같은 이벤트가 다시 와도(메모리 창이 비어 있어도)
+ * 이중 집계되지 않는다. 반영이 실패하면 기록도 롤백되고 ID를 창에 기억하지 않으므로 같은 배치를 다시 받아 처리한다.
+ * 파티션 병렬 처리: 컨테이너 동시성만큼 리스너가 서로 다른 파티션 묶음을 동시에 처리하며,
+ * 토픽 키가 고객 ID이므로 한 고객의 이벤트는 항상 한 스레드에서만 반영된다.
+ */
+@Slf4j
+public class PurchaseSummaryBatchListener implements BatchMessageListener<String, OrderCompletedEvent> {
+
+    private final PurchaseSummaryRepository purchaseSummaryRepository;
+    private final ProcessedOrderEventRepository processedOrderEventRepository;
+    private final TransactionOperations transactionOperations;
+    private final EventIdDedupWindow dedupWindow;
+    private final PurchaseSummaryConsumerMetrics metrics;
+
+    public PurchaseSummaryBatchListener(PurchaseSummaryRepository purchaseSummaryRepository,
+                                        ProcessedOrderEventRepository processedOrderEventRepository,
+                                        TransactionOperations transactionOperations,
+                                        EventIdDedupWindow dedupWindow,
+                                        PurchaseSummaryConsumerMetrics metrics) {
+        this.purchaseSummaryRepository = purchaseSummaryRepository;
+        this.processedOrderEventRepository = processedOrderEventRepository;
+        this.transactionOperations = transactionOperations;
+        this.dedupWindow = dedupWindow;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void onMessage(List<ConsumerRecord<String, OrderCompletedEvent>> records) {
+        long started = System.nanoTime();
+        Map<String, OrderCompletedEvent> candidates = new LinkedHashMap<>();
+        Set<String> batchEventIds = new HashSet<>();
+        int duplicates = 0;
+        int invalid = 0;
+
+        for (ConsumerRecord<String, OrderCompletedEvent> record : records) {
+            OrderCompletedEvent event = record.value();
+            // 역직렬화에 실패한 레코드는 ErrorHandlingDeserializer가 null 값으로 넘긴다
+            if (event == null || !event.isValid()) {
+                invalid++;
+                log.warn("구매 집계에 반영할 수 없는 주문 완료 이벤트 - partition: {}, offset: {}",
+                        record.partition(), record.offset());
+                continue;
+            }
+            if (!batchEventIds.add(event.eventId()) || dedupWindow.contains(event.eventId())) {
+                duplicates++;
+                continue;
+            }
+            candidates.put(event.eventId(), event);
+        }
+
+        AppliedBatch applied = candidates.isEmpty() ? AppliedBatch.EMPTY : apply(candidates);
+        duplicates += candidates.size() - applied.events();
+        dedupWindow.markAll(candidates.keySet());
+        metrics.recordBatch(records.size(), applied.events(), duplicates, invalid, applied.customers(),
+                System.nanoTime() - started);
+
+        if (log.isDebugEnabled()) {
+            log.debug("구매 집계 배치 반영 - records: {}, applied: {}, duplicates: {}, customers: {}",
+                    records.size(), applied.events(), duplicates, applied.customers());
+        }
+    }
+
+    /**
+     * 처음 반영하는 이벤트만 골라 고객별 증분으로 합치고, 반영 기록과 집계 upsert를 한 트랜잭션으로 커밋한다
+     */
+    private AppliedBatch apply(Map<String, OrderCompletedEvent> candidates) {
+        return transactionOperations.execute(status -> {
+            Set<String> claimed = processedOrderEventRepository.claimAll(candidates.keySet());
+            Map<Long, PurchaseSummaryDelta> deltas = new HashMap<>();
+            for (String eventId : claimed) {
+                OrderCompletedEvent event = candidates.get(eventId);
+                deltas.computeIfAbsent(event.customerId(), id -> PurchaseSummaryDelta.of(CustomerId.of(id)))
+                        .addOrder(event.totalAmount(), event.completedAt(), event.categories());
+            }
+            int customers = deltas.isEmpty() ? 0 : purchaseSummaryRepository.upsertAll(deltas.values());
+            return new AppliedBatch(claimed.size(), customers);
+        });
+    }
+
+    private record AppliedBatch(int events, int customers) {
+
+        static final AppliedBatch EMPTY = new AppliedBatch(0, 0);
+    }
+}
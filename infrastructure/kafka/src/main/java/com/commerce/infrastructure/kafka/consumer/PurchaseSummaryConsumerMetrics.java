@@ -0,0 +1,94 @@
+package com.commerce.infrastructure.kafka.consumer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 완료 이벤트 컨슈머 처리량 지표
+ * 수신/반영/중복/무효 이벤트 수와 배치당 반영 시간을 노출하여 초당 처리량(rate)과 upsert 비용을 볼 수 있게 한다.
+ * (actuator /metrics/commerce.purchase.consumer.applied)
+ */
+public class PurchaseSummaryConsumerMetrics implements MeterBinder {
+
+    private static final String PREFIX = "commerce.purchase.consumer";
+
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong applied = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong invalid = new AtomicLong();
+    private final AtomicLong upsertedCustomers = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong batchNanos = new AtomicLong();
+    private final EventIdDedupWindow dedupWindow;
+
+    public PurchaseSummaryConsumerMetrics(EventIdDedupWindow dedupWindow) {
+        this.dedupWindow = dedupWindow;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(PREFIX + ".received", received, AtomicLong::get)
+                .description("수신한 주문 완료 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".applied", applied, AtomicLong::get)
+                .description("구매 집계에 반영한 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".duplicates", duplicates, AtomicLong::get)
+                .description("이미 반영한 이벤트 ID라서 건너뛴 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".invalid", invalid, AtomicLong::get)
+                .description("역직렬화 실패 또는 필수 값 누락으로 건너뛴 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".upserted.customers", upsertedCustomers, AtomicLong::get)
+                .description("배치 upsert로 갱신한 고객 집계 행 수")
+                .register(registry);
+        FunctionTimer.builder(PREFIX + ".batch", this, PurchaseSummaryConsumerMetrics::batches,
+                        metrics -> metrics.batchNanos.get(), TimeUnit.NANOSECONDS)
+                .description("배치 하나를 합산하고 upsert까지 마치는 데 걸린 시간")
+                .register(registry);
+        Gauge.builder(PREFIX + ".dedup.window.size", dedupWindow, EventIdDedupWindow::size)
+                .description("중복 판별 창에 기억 중인 이벤트 ID 수")
+                .register(registry);
+    }
+
+    void recordBatch(int receivedEvents, int appliedEvents, int duplicateEvents, int invalidEvents,
+                     int customers, long elapsedNanos) {
+        received.addAndGet(receivedEvents);
+        applied.addAndGet(appliedEvents);
+        duplicates.addAndGet(duplicateEvents);
+        invalid.addAndGet(invalidEvents);
+        upsertedCustomers.addAndGet(customers);
+        batchNanos.addAndGet(elapsedNanos);
+        batches.incrementAndGet();
+    }
+
+    public long received() {
+        return received.get();
+    }
+
+    public long applied() {
+        return applied.get();
+    }
+
+    public long duplicates() {
+        return duplicates.get();
+    }
+
+    public long invalid() {
+        return invalid.get();
+    }
+
+    public long upsertedCustomers() {
+        return upsertedCustomers.get();
+    }
+
+    public long batches() {
+        return batches.get();
+    }
+}
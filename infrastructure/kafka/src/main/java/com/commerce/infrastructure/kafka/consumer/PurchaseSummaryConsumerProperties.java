@@ -0,0 +1,88 @@
+package com.commerce.infrastructure.kafka.consumer;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 주문 완료 이벤트 구매 집계 컨슈머 설정
+ *
+ * <pre>
+ * commerce:
+ *   kafka:
+ *     purchase-consumer:
+ *       enabled: true
+ *       topic: order.completed
+ *       group-id: customer-purchase-summary
+ *       concurrency: 3               # 파티션 병렬 처리 스레드 수 (파티션 수 이하)
+ *       max-poll-records: 500        # 한 배치(한 번의 upsert)로 합치는 최대 레코드 수
+ *       fetch-max-wait: 200ms        # 배치를 채우기 위해 브로커가 응답을 미루는 최대 시간
+ *       dedup-window-size: 200000    # 중복 판별을 위해 기억하는 최근 이벤트 ID 수
+ *       retry-interval: 1s           # 반영 실패 시 같은 배치를 다시 시도하기까지 대기
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "commerce.kafka.purchase-consumer")
+public class PurchaseSummaryConsumerProperties {
+
+    /**
+     * 구독할 주문 완료 토픽
+     */
+    private String topic = "order.completed";
+
+    /**
+     * 컨슈머 그룹 ID
+     */
+    private String groupId = "customer-purchase-summary";
+
+    /**
+     * 파티션 병렬 처리 스레드 수
+     */
+    private int concurrency = 3;
+
+    /**
+     * 한 번의 poll로 받아 합치는 최대 레코드 수
+     */
+    private int maxPollRecords = 500;
+
+    /**
+     * 배치를 채우기 위해 기다리는 최소 바이트 수
+     */
+    private int fetchMinBytes = 16 * 1024;
+
+    /**
+     * fetch-min-bytes가 채워지지 않았을 때 브로커가 응답을 미루는 최대 시간
+     */
+    private Duration fetchMaxWait = Duration.ofMillis(200);
+
+    /**
+     * 중복 판별을 위해 기억하는 최근 이벤트 ID 수
+     */
+    private int dedupWindowSize = 200_000;
+
+    /**
+     * 반영 실패 시 같은 배치를 다시 시도하기까지 대기 시간 (DB 장애 동안 오프셋을 넘기지 않고 계속 재시도)
+     */
+    private Duration retryInterval = Duration.ofSeconds(1);
+
+    /**
+     * 배치 소비용 컨슈머 설정 (오프셋은 리스너 반영 후 컨테이너가 커밋)
+     */
+    public Map<String, Object> consumerConfigs(String bootstrapServers) {
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configs.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        configs.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configs.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        configs.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        configs.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, fetchMinBytes);
+        configs.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, (int) fetchMaxWait.toMillis());
+        return configs;
+    }
+}
@@ -0,0 +1,62 @@
+package com.commerce.infrastructure.kafka.event;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토픽별 전송 확인 대기(in-flight) 이벤트 수 제한
+ * 브로커가 느려져 프로듀서 버퍼가 차오르면 상한에 걸린 호출 스레드를 잠시 대기시켜 발행 속도를 브로커 처리량에 맞춘다.
+ * 대기 시간 안에 자리가 나지 않으면 false를 돌려주고, 호출 측은 재시도 가능한 실패로 처리한다.
+ */
+public class InFlightLimiter {
+
+    private final int maxInFlight;
+    private final long maxBlockNanos;
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    public InFlightLimiter(int maxInFlight, Duration maxBlock) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("토픽별 in-flight 상한은 1 이상이어야 합니다: " + maxInFlight);
+        }
+        this.maxInFlight = maxInFlight;
+        this.maxBlockNanos = maxBlock.toNanos();
+    }
+
+    /**
+     * 전송 전에 자리를 얻는다. 얻었으면 전송 결과가 나온 뒤 반드시 release 해야 한다.
+     *
+     * @return 대기 시간 안에 자리를 얻었으면 true
+     */
+    public boolean acquire(String topic) {
+        Semaphore semaphore = semaphore(topic);
+        if (semaphore.tryAcquire()) {
+            return true;
+        }
+        try {
+            return semaphore.tryAcquire(maxBlockNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void release(String topic) {
+        semaphore(topic).release();
+    }
+
+    public int inFlight(String topic) {
+        Semaphore semaphore = permits.get(topic);
+        return semaphore == null ? 0 : maxInFlight - semaphore.availablePermits();
+    }
+
+    public int maxInFlight() {
+        return maxInFlight;
+    }
+
+    private Semaphore semaphore(String topic) {
+        return permits.computeIfAbsent(topic, ignored -> new Semaphore(maxInFlight));
+    }
+}
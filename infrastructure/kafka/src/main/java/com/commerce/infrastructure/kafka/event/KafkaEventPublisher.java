@@ -1,56 +1,123 @@
 package com.commerce.infrastructure.kafka.event;
 
-import com.commerce.customer.core.domain.event.AccountActivatedEvent;
-import com.commerce.customer.core.domain.event.AccountCreatedEvent;
-import lombok.RequiredArgsConstructor;
+import com.commerce.customer.core.domain.event.DomainEvent;
+import com.commerce.infrastructure.kafka.spool.EventSpool;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 
+/**
+ * 도메인 이벤트 발행기
+ * 토픽별로 전송 확인 대기 수를 제한하여(InFlightLimiter) 브로커가 느려지면 호출 스레드에 배압을 걸고,
+ * 전송 확인 시간/크기/실패를 지표(PublishMetrics)로 남긴다. 건별 로그는 DEBUG에서만 남기고,
+ * INFO/ERROR 로그는 토픽(실패는 토픽+예외 종류)별로 구간마다 한 건만 건수와 함께 남긴다.
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class KafkaEventPublisher {
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
-    
-    private static final String ACCOUNT_CREATED_TOPIC = "customer.account.created";
-    private static final String ACCOUNT_ACTIVATED_TOPIC = "customer.account.activated";
-
-    public void publishAccountCreatedEvent(AccountCreatedEvent event) {
-        CompletableFuture<SendResult<String, Object>> future = 
-            kafkaTemplate.send(ACCOUNT_CREATED_TOPIC, event.getAccountId().getValue().toString(), event);
-        
-        future.whenComplete((result, ex) -> {
+    private final EventSpool spool;
+    private final MeteredSender sender;
+    private final PublishLogSampler logSampler;
+
+    /**
+     * @param spool 발행 스풀 (commerce.kafka.spool.enabled=false면 null)
+     */
+    @Autowired
+    public KafkaEventPublisher(KafkaTemplate<String, Object> kafkaTemplate, @Nullable EventSpool spool,
+                               PublishProperties properties, InFlightLimiter limiter, PublishMetrics metrics) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.spool = spool;
+        this.sender = new MeteredSender(limiter, metrics);
+        this.logSampler = new PublishLogSampler(properties.getLogSampleInterval());
+    }
+
+    /**
+     * 이벤트 묶음을 각 이벤트의 토픽/키로 전송하고 전체 전송 결과를 돌려준다.
+     * 전송 요청은 프로듀서 버퍼에 적재만 하고 반환하므로, 호출 측은 결과가 필요할 때만 join 한다.
+     * 직렬화 실패처럼 send 호출에서 바로 던져지는 예외도 실패한 결과로 전달한다.
+     * 토픽의 전송 확인 대기 수가 상한이면 자리가 날 때까지 최대 max-block 동안 호출 스레드가 대기한다.
+     * 스풀을 쓰면 재시도 가능한 실패는 스풀 적재로 대신하여 성공으로 완료된다.
+     */
+    public CompletableFuture<Void> publish(Collection<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[events.size()];
+        int index = 0;
+        for (DomainEvent event : events) {
+            futures[index++] = spool != null && spool.isEngaged() ? spool(event, null) : send(event);
+        }
+        return CompletableFuture.allOf(futures)
+            .whenComplete((result, ex) -> {
+                if (ex == null) {
+                    log.debug("도메인 이벤트 발행 성공: {}건", events.size());
+                } else if (logSampler.sample("batch") > 0) {
+                    log.error("도메인 이벤트 발행 실패: {}건 중 일부 실패", events.size(), ex);
+                }
+            });
+    }
+
+    private CompletableFuture<?> send(DomainEvent event) {
+        String topic = event.topic();
+        CompletableFuture<SendResult<String, Object>> future =
+            sender.send(topic, () -> kafkaTemplate.send(topic, event.key(), event));
+        CompletableFuture<SendResult<String, Object>> logged = future.whenComplete((result, ex) -> {
             if (ex == null) {
-                log.info("계정 생성 이벤트 발행 성공: accountId={}, topic={}, offset={}",
-                    event.getAccountId().getValue(), 
-                    ACCOUNT_CREATED_TOPIC,
-                    result.getRecordMetadata().offset());
-            } else {
-                log.error("계정 생성 이벤트 발행 실패: accountId={}", 
-                    event.getAccountId().getValue(), ex);
+                logSuccess(event, result);
+            } else if (spool == null) {
+                logFailure(event, ex, false);
             }
         });
+        if (spool == null) {
+            return logged;
+        }
+        return logged.<Void>thenApply(result -> null).exceptionallyCompose(ex -> spool(event, ex));
     }
 
-    public void publishAccountActivatedEvent(AccountActivatedEvent event) {
-        CompletableFuture<SendResult<String, Object>> future = 
-            kafkaTemplate.send(ACCOUNT_ACTIVATED_TOPIC, event.getAccountId().getValue().toString(), event);
-        
-        future.whenComplete((result, ex) -> {
-            if (ex == null) {
-                log.info("계정 활성화 이벤트 발행 성공: accountId={}, topic={}, offset={}",
-                    event.getAccountId().getValue(), 
-                    ACCOUNT_ACTIVATED_TOPIC,
-                    result.getRecordMetadata().offset());
-            } else {
-                log.error("계정 활성화 이벤트 발행 실패: accountId={}", 
-                    event.getAccountId().getValue(), ex);
+    private CompletableFuture<Void> spool(DomainEvent event, Throwable failure) {
+        if (failure != null && !EventSpool.isRetriable(failure)) {
+            logFailure(event, failure, true);
+            return CompletableFuture.failedFuture(failure);
+        }
+        if (spool.offer(event)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.failedFuture(failure != null ? failure
+            : new IllegalStateException("발행 스풀 적재 실패: topic=" + event.topic() + ", key=" + event.key()));
+    }
+
+    private void logSuccess(DomainEvent event, SendResult<String, Object> result) {
+        // 로그인처럼 빈도가 높은 이벤트는 건별 로그 인자 계산도 생략한다
+        if (log.isDebugEnabled()) {
+            RecordMetadata metadata = result != null ? result.getRecordMetadata() : null;
+            log.debug("{} 이벤트 발행 성공: key={}, topic={}, offset={}",
+                event.type().description(), event.key(), event.topic(), metadata != null ? metadata.offset() : -1);
+        }
+        if (log.isInfoEnabled()) {
+            long acked = logSampler.sample(event.topic());
+            if (acked > 0) {
+                log.info("{} 이벤트 발행: topic={}, 직전 로그 이후 {}건, in-flight={}",
+                    event.type().description(), event.topic(), acked, sender.inFlight(event.topic()));
             }
-        });
+        }
+    }
+
+    private void logFailure(DomainEvent event, Throwable failure, boolean nonRetriable) {
+        String exceptionType = PublishMetrics.exceptionType(failure);
+        long failures = logSampler.sample(event.topic() + "#" + exceptionType);
+        if (failures > 0) {
+            log.error("{} 이벤트 발행 실패{}: key={}, topic={}, 직전 로그 이후 {}건",
+                event.type().description(), nonRetriable ? " (재시도 불가)" : "", event.key(), event.topic(),
+                failures, failure);
+        }
     }
-}
\ No newline at end of file
+}
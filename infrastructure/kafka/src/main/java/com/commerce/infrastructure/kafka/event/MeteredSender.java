@@ -0,0 +1,64 @@
+package com.commerce.infrastructure.kafka.event;
+
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 토픽별 in-flight 상한(InFlightLimiter)을 거쳐 전송하고 결과를 발행 지표(PublishMetrics)에 남긴다.
+ * 직접 발행(KafkaEventPublisher)과 아웃박스 릴레이가 같은 상한과 토픽 지표를 공유하도록 한곳에 둔다.
+ */
+public class MeteredSender {
+
+    private final InFlightLimiter limiter;
+    private final PublishMetrics metrics;
+
+    public MeteredSender(InFlightLimiter limiter, PublishMetrics metrics) {
+        this.limiter = limiter;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 자리를 얻으면 전송하고, 대기 시간 안에 얻지 못하면 재시도 가능한 실패(TimeoutException)를 돌려준다.
+     * send 호출에서 바로 던져지는 예외도 실패한 결과로 전달한다.
+     */
+    public <V> CompletableFuture<SendResult<String, V>> send(String topic,
+                                                             Supplier<CompletableFuture<SendResult<String, V>>> send) {
+        if (!limiter.acquire(topic)) {
+            metrics.recordThrottled(topic);
+            // 프로듀서 버퍼가 찼을 때(max.block.ms 초과)와 같은 재시도 가능한 실패로 돌려주어 스풀이 받을 수 있게 한다
+            return CompletableFuture.failedFuture(new TimeoutException(
+                    "발행 대기 이벤트가 상한(" + limiter.maxInFlight() + ")에 도달했습니다: topic=" + topic));
+        }
+        long started = System.nanoTime();
+        CompletableFuture<SendResult<String, V>> future;
+        try {
+            future = send.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((result, ex) -> {
+            limiter.release(topic);
+            if (ex == null) {
+                metrics.recordAcked(topic, System.nanoTime() - started, serializedSize(result));
+            } else {
+                metrics.recordFailed(topic, ex);
+            }
+        });
+    }
+
+    public int inFlight(String topic) {
+        return limiter.inFlight(topic);
+    }
+
+    private static int serializedSize(SendResult<String, ?> result) {
+        RecordMetadata metadata = result != null ? result.getRecordMetadata() : null;
+        if (metadata == null) {
+            return -1;
+        }
+        return Math.max(metadata.serializedKeySize(), 0) + Math.max(metadata.serializedValueSize(), 0);
+    }
+}
@@ -0,0 +1,41 @@
+package com.commerce.infrastructure.kafka.event;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키(토픽, 토픽+예외 종류)별로 구간마다 한 건만 로그를 남기도록 거르는 표본 추출기
+ * 가입 폭주처럼 초당 수천 건이 발행될 때 건별 로그 I/O가 병목이 되지 않게 하고, 걸러진 건수는 다음 로그에 합쳐 남긴다.
+ */
+class PublishLogSampler {
+
+    private final long intervalNanos;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    PublishLogSampler(Duration interval) {
+        this.intervalNanos = interval.toNanos();
+    }
+
+    /**
+     * @return 지금 로그를 남겨야 하면 직전 로그 이후 발생한 건수(이번 건 포함), 아니면 0
+     */
+    long sample(String key) {
+        Window window = windows.computeIfAbsent(key, ignored -> new Window());
+        window.occurrences.increment();
+        long now = System.nanoTime();
+        long next = window.nextAt.get();
+        if (now - next >= 0 && window.nextAt.compareAndSet(next, now + intervalNanos)) {
+            return window.occurrences.sumThenReset();
+        }
+        return 0;
+    }
+
+    private static final class Window {
+        // 처음 한 건은 바로 남긴다
+        private final AtomicLong nextAt = new AtomicLong(System.nanoTime());
+        private final LongAdder occurrences = new LongAdder();
+    }
+}
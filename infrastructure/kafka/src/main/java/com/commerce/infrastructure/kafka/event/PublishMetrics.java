@@ -0,0 +1,188 @@
+package com.commerce.infrastructure.kafka.event;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.kafka.core.KafkaProducerException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 토픽별 도메인 이벤트 발행 지표를 Micrometer로 노출
+ * - commerce.kafka.publish.latency: send 호출부터 브로커 확인(ack)까지 걸린 시간 (히스토그램)
+ * - commerce.kafka.publish.record.size: 직렬화된 키+값 크기
+ * - commerce.kafka.publish.in.flight: 전송 확인을 기다리는 이벤트 수
+ * - commerce.kafka.publish.errors: 예외 종류(exception 태그)별 실패 수
+ * - commerce.kafka.publish.throttled: in-flight 상한에 걸려 대기 시간 안에 자리를 얻지 못한 수
+ * 직접 발행과 아웃박스 릴레이의 전송을 모두 포함한다. (MeteredSender)
+ * 토픽은 처음 발행할 때 등록하므로 태그 값은 실제로 발행한 토픽으로 한정된다.
+ * (actuator /metrics/commerce.kafka.publish.latency?tag=topic:customer.account.created)
+ */
+public class PublishMetrics implements MeterBinder {
+
+    private static final String PREFIX = "commerce.kafka.publish";
+
+    private final InFlightLimiter limiter;
+    private final Map<String, TopicMeters> topics = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry;
+
+    public PublishMetrics(InFlightLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        topics.values().forEach(meters -> meters.register(registry));
+    }
+
+    void recordAcked(String topic, long elapsedNanos, int serializedBytes) {
+        TopicMeters meters = topic(topic);
+        meters.acked.increment();
+        meters.latencyNanos.add(elapsedNanos);
+        Timer latency = meters.latency;
+        if (latency != null) {
+            latency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+        DistributionSummary recordSize = meters.recordSize;
+        if (recordSize != null && serializedBytes >= 0) {
+            recordSize.record(serializedBytes);
+        }
+    }
+
+    void recordFailed(String topic, Throwable failure) {
+        topic(topic).failed(exceptionType(failure)).increment();
+    }
+
+    void recordThrottled(String topic) {
+        topic(topic).throttled.increment();
+    }
+
+    public long acked(String topic) {
+        TopicMeters meters = topics.get(topic);
+        return meters == null ? 0 : meters.acked.sum();
+    }
+
+    public long failed(String topic, String exceptionType) {
+        TopicMeters meters = topics.get(topic);
+        LongAdder failures = meters == null ? null : meters.failures.get(exceptionType);
+        return failures == null ? 0 : failures.sum();
+    }
+
+    public long throttled(String topic) {
+        TopicMeters meters = topics.get(topic);
+        return meters == null ? 0 : meters.throttled.sum();
+    }
+
+    /**
+     * 기동 이후 전송 확인까지의 평균 시간
+     */
+    public Duration averageLatency(String topic) {
+        TopicMeters meters = topics.get(topic);
+        long acked = meters == null ? 0 : meters.acked.sum();
+        return acked == 0 ? Duration.ZERO : Duration.ofNanos(meters.latencyNanos.sum() / acked);
+    }
+
+    /**
+     * 실패 원인을 감싸는 예외(CompletionException, KafkaProducerException 등)를 벗겨 낸 예외 클래스 이름
+     */
+    static String exceptionType(Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException
+                || cause instanceof KafkaProducerException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getClass().getSimpleName();
+    }
+
+    private TopicMeters topic(String topic) {
+        TopicMeters meters = topics.get(topic);
+        if (meters != null) {
+            return meters;
+        }
+        meters = topics.computeIfAbsent(topic, TopicMeters::new);
+        MeterRegistry bound = registry;
+        if (bound != null) {
+            meters.register(bound);
+        }
+        return meters;
+    }
+
+    private final class TopicMeters {
+
+        private final String topic;
+        private final LongAdder acked = new LongAdder();
+        private final LongAdder latencyNanos = new LongAdder();
+        private final LongAdder throttled = new LongAdder();
+        private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+        private MeterRegistry registeredTo;
+        private volatile Timer latency;
+        private volatile DistributionSummary recordSize;
+
+        private TopicMeters(String topic) {
+            this.topic = topic;
+        }
+
+        LongAdder failed(String exceptionType) {
+            LongAdder failures = this.failures.get(exceptionType);
+            if (failures != null) {
+                return failures;
+            }
+            failures = this.failures.computeIfAbsent(exceptionType, ignored -> new LongAdder());
+            MeterRegistry bound = registry;
+            if (bound != null) {
+                registerErrors(bound, exceptionType, failures);
+            }
+            return failures;
+        }
+
+        synchronized void register(MeterRegistry registry) {
+            if (registeredTo == registry) {
+                return;
+            }
+            registeredTo = registry;
+            latency = Timer.builder(PREFIX + ".latency")
+                    .tag("topic", topic)
+                    .description("send 호출부터 브로커 확인까지 걸린 시간")
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(30))
+                    .register(registry);
+            recordSize = DistributionSummary.builder(PREFIX + ".record.size")
+                    .tag("topic", topic)
+                    .baseUnit("bytes")
+                    .description("직렬화된 이벤트 키+값 크기")
+                    .register(registry);
+            FunctionCounter.builder(PREFIX + ".acked", acked, LongAdder::sum)
+                    .tag("topic", topic)
+                    .description("브로커 확인을 받은 이벤트 수")
+                    .register(registry);
+            FunctionCounter.builder(PREFIX + ".throttled", throttled, LongAdder::sum)
+                    .tag("topic", topic)
+                    .description("in-flight 상한에 걸려 대기 시간 안에 전송하지 못한 이벤트 수")
+                    .register(registry);
+            Gauge.builder(PREFIX + ".in.flight", limiter, l -> l.inFlight(topic))
+                    .tag("topic", topic)
+                    .description("전송 확인을 기다리는 이벤트 수")
+                    .register(registry);
+            failures.forEach((exceptionType, count) -> registerErrors(registry, exceptionType, count));
+        }
+
+        private void registerErrors(MeterRegistry registry, String exceptionType, LongAdder count) {
+            FunctionCounter.builder(PREFIX + ".errors", count, LongAdder::sum)
+                    .tag("topic", topic)
+                    .tag("exception", exceptionType)
+                    .description("전송에 실패한 이벤트 수")
+                    .register(registry);
+        }
+    }
+}
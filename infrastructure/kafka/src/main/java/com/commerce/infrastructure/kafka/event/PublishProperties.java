@@ -0,0 +1,41 @@
+package com.commerce.infrastructure.kafka.event;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 도메인 이벤트 발행 계측/흐름 제어 설정 (직접 발행과 아웃박스 릴레이에 공통 적용)
+ *
+ * <pre>
+ * commerce:
+ *   kafka:
+ *     publish:
+ *       max-in-flight-per-topic: 10000   # 토픽별 전송 확인 대기 상한 (넘으면 호출 스레드가 대기)
+ *       max-block: 500ms                 # 상한에 걸렸을 때 호출 스레드 대기 상한
+ *       log-sample-interval: 10s         # 토픽별 성공/실패 로그를 남기는 최소 간격
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "commerce.kafka.publish")
+public class PublishProperties {
+
+    /**
+     * 토픽별로 전송 확인을 기다리는 최대 이벤트 수
+     * 한 토픽의 폭주가 공유 프로듀서 버퍼를 채워 다른 토픽 발행까지 막지 않도록 한다.
+     */
+    private int maxInFlightPerTopic = 10_000;
+
+    /**
+     * 전송 확인 대기 상한에 걸린 호출 스레드가 자리를 기다리는 최대 시간 (넘으면 재시도 가능한 실패로 돌려준다)
+     */
+    private Duration maxBlock = Duration.ofMillis(500);
+
+    /**
+     * 토픽별(실패는 토픽+예외 종류별) 로그를 남기는 최소 간격, 그 사이 건수는 다음 로그에 합쳐 남긴다
+     */
+    private Duration logSampleInterval = Duration.ofSeconds(10);
+}
@@ -0,0 +1,309 @@
+package com.commerce.infrastructure.kafka.outbox;
+
+import com.commerce.customer.core.domain.event.DomainEventType;
+import com.commerce.customer.core.domain.event.OutboxMessage;
+import com.commerce.customer.core.domain.repository.OutboxRepository;
+import com.commerce.infrastructure.kafka.event.InFlightLimiter;
+import com.commerce.infrastructure.kafka.event.MeteredSender;
+import com.commerce.infrastructure.kafka.event.PublishMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.InvalidTopicException;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * outbox 테이블의 미발행 행을 Kafka로 전달하는 릴레이
+ *
+ * 한 주기는 가장 작은 미발행 id부터 시작해 id keyset으로 배치를 읽고,
+ * 배치의 전송 확인을 기다리지 않고 최대 maxInFlightBatches개까지 이어서 보낸다.
+ * 가장 먼저 보낸 배치부터 확인을 기다려 성공한 행만 한 번의 UPDATE로 발행 완료 처리한다.
+ *
+ * 실패 처리:
+ * - 다시 보내도 성공할 수 없는 행(토픽 미정의, 크기 초과, 직렬화 실패)은 dead letter로 표시하여 이후 주기에서 제외한다.
+ * - 그 외 실패는 시도 횟수와 오류를 기록하고 미발행으로 남긴다. 같은 애그리거트의 뒤 행은 전송에 성공했더라도
+ *   발행 완료 처리하지 않고(이후 배치에서는 보내지도 않고) 다음 주기에 실패한 행부터 순서대로 다시 보낸다.
+ * - 한 배치가 전혀 진행하지 못하면(브로커 장애 등) 더 읽지 않고 남은 배치만 마무리한다.
+ *
+ * 매 주기를 처음부터 다시 읽는 이유: IDENTITY id는 커밋 순서가 아니라 채번 순서이므로,
+ * 늦게 커밋된 작은 id 행을 건너뛰지 않으려면 지난 주기의 커서를 이어 쓰면 안 된다.
+ * 전달 보장은 at-least-once이며, 레코드에 outbox id 헤더를 실어 구독 측이 중복을 걸러낼 수 있게 한다.
+ *
+ * 전송은 직접 발행과 같은 토픽별 in-flight 상한과 발행 지표(commerce.kafka.publish.*)를 거친다.
+ * 발행 스풀은 쓰지 않는다. (outbox 테이블이 이미 재시도 대기열 역할을 한다)
+ */
+@Slf4j
+public class OutboxRelay {
+
+    public static final String OUTBOX_ID_HEADER = "outbox-id";
+
+    private final OutboxRepository outboxRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final MeteredSender sender;
+    private final OutboxRelayMetrics metrics;
+    private final OutboxRelayProperties properties;
+    private final Clock clock;
+    private Instant backlogRefreshedAt;
+
+    public OutboxRelay(OutboxRepository outboxRepository, KafkaTemplate<String, String> kafkaTemplate,
+                       InFlightLimiter limiter, PublishMetrics publishMetrics,
+                       OutboxRelayMetrics metrics, OutboxRelayProperties properties, Clock clock) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.sender = new MeteredSender(limiter, publishMetrics);
+        this.metrics = metrics;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * 스케줄러에서 호출하는 진입점. 실패는 기록만 하고 다음 주기에서 다시 시도한다.
+     */
+    public void poll() {
+        try {
+            relayOnce();
+        } catch (RuntimeException e) {
+            log.error("아웃박스 릴레이 주기 실패", e);
+        }
+    }
+
+    public synchronized OutboxRelayResult relayOnce() {
+        int batchSize = properties.getBatchSize();
+        Deque<InFlightBatch> inFlight = new ArrayDeque<>();
+        Set<String> blockedAggregates = new HashSet<>();
+        Tally tally = new Tally();
+        long cursor = 0L;
+        boolean stalled = false;
+
+        while (!stalled && tally.batches < properties.getMaxBatchesPerCycle()) {
+            List<OutboxMessage> messages = outboxRepository.findUnsent(cursor, batchSize);
+            if (messages.isEmpty()) {
+                break;
+            }
+            inFlight.addLast(send(messages, blockedAggregates));
+            tally.batches++;
+            cursor = messages.get(messages.size() - 1).id();
+
+            if (inFlight.size() >= properties.getMaxInFlightBatches()) {
+                stalled = tally.add(complete(inFlight.removeFirst(), blockedAggregates)).stalled();
+            }
+            if (messages.size() < batchSize) {
+                break;
+            }
+        }
+        while (!inFlight.isEmpty()) {
+            tally.add(complete(inFlight.removeFirst(), blockedAggregates));
+        }
+
+        refreshBacklogIfDue();
+        if (tally.relayed > 0 || tally.failed > 0 || tally.deadLettered > 0) {
+            log.debug("아웃박스 릴레이: 발행={}건, 실패={}건, 보류={}건, dead letter={}건, 배치={}",
+                    tally.relayed, tally.failed, tally.deferred, tally.deadLettered, tally.batches);
+        }
+        return new OutboxRelayResult(tally.relayed, tally.failed, tally.deferred, tally.deadLettered, tally.batches);
+    }
+
+    /**
+     * 지정한 오프셋(outbox id) 이후의 행을 미발행 상태로 되돌려 다음 주기부터 다시 보낸다.
+     * 구독 측 장애 복구나 신규 구독자 적재, dead letter 원인 해소 후 재전송에 사용하며,
+     * 보존 기간이 지나 삭제된 행은 되돌릴 수 없다.
+     *
+     * @return 재발행 대기로 되돌린 행 수
+     */
+    public synchronized int replayFrom(long offset) {
+        int reset = outboxRepository.resetSentAfter(offset);
+        log.info("아웃박스 재발행 요청: offset={}, 대상={}건", offset, reset);
+        refreshBacklog();
+        return reset;
+    }
+
+    private InFlightBatch send(List<OutboxMessage> messages, Set<String> blockedAggregates) {
+        List<CompletableFuture<?>> futures = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            // 앞선 배치에서 실패한 애그리거트의 행은 순서를 지키기 위해 보내지 않는다
+            futures.add(blockedAggregates.contains(message.aggregateId()) ? null : send(message));
+        }
+        return new InFlightBatch(messages, futures);
+    }
+
+    private CompletableFuture<?> send(OutboxMessage message) {
+        String topic = DomainEventType.fromTypeName(message.eventType()).map(DomainEventType::topic).orElse(null);
+        if (topic == null) {
+            return CompletableFuture.failedFuture(new UnroutableEventException(message.eventType()));
+        }
+        ProducerRecord<String, String> record = new ProducerRecord<>(topic, message.aggregateId(), message.payload());
+        // JsonSerializer로 직접 발행할 때와 같은 타입 헤더를 실어 기존 구독자의 역직렬화를 유지
+        record.headers().add(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME,
+                message.eventType().getBytes(StandardCharsets.UTF_8));
+        record.headers().add(OUTBOX_ID_HEADER, Long.toString(message.id()).getBytes(StandardCharsets.UTF_8));
+        // 메타데이터 조회 실패(max.block.ms 초과) 등 send 호출에서 바로 던져지는 예외도 실패한 결과로 받는다
+        return sender.send(topic, () -> kafkaTemplate.send(record));
+    }
+
+    private BatchOutcome complete(InFlightBatch batch, Set<String> blockedAggregates) {
+        long deadline = System.nanoTime() + properties.getSendTimeout().toNanos();
+        List<Long> sentIds = new ArrayList<>(batch.messages().size());
+        Map<String, List<Long>> failedIdsByError = new LinkedHashMap<>();
+        Map<String, List<Long>> deadIdsByError = new LinkedHashMap<>();
+        int deferred = 0;
+        Throwable firstFailure = null;
+        long firstFailedId = 0L;
+
+        for (int i = 0; i < batch.messages().size(); i++) {
+            OutboxMessage message = batch.messages().get(i);
+            CompletableFuture<?> future = batch.futures().get(i);
+            Throwable failure = future != null ? await(future, deadline) : null;
+            if (future == null || blockedAggregates.contains(message.aggregateId())) {
+                deferred++;
+                continue;
+            }
+            if (failure == null) {
+                sentIds.add(message.id());
+                continue;
+            }
+            String error = describe(failure);
+            if (isRetriable(failure)) {
+                blockedAggregates.add(message.aggregateId());
+                failedIdsByError.computeIfAbsent(error, key -> new ArrayList<>()).add(message.id());
+            } else {
+                deadIdsByError.computeIfAbsent(error, key -> new ArrayList<>()).add(message.id());
+            }
+            if (firstFailure == null) {
+                firstFailure = failure;
+                firstFailedId = message.id();
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (!sentIds.isEmpty()) {
+            outboxRepository.markSent(sentIds, now);
+        }
+        failedIdsByError.forEach((error, ids) -> outboxRepository.recordFailedAttempt(ids, error));
+        deadIdsByError.forEach((error, ids) -> outboxRepository.markDead(ids, error, now));
+
+        int failed = failedIdsByError.values().stream().mapToInt(List::size).sum();
+        int deadLettered = deadIdsByError.values().stream().mapToInt(List::size).sum();
+        metrics.recordBatch(sentIds.size(), failed, deadLettered,
+                sentIds.isEmpty() ? 0L : sentIds.get(sentIds.size() - 1));
+        if (deadLettered > 0) {
+            log.error("아웃박스 dead letter 처리: {}건 {}", deadLettered, deadIdsByError);
+        }
+        if (firstFailure != null) {
+            log.warn("아웃박스 전송 실패: 재시도={}건, dead letter={}건, 첫 실패 id={}",
+                    failed, deadLettered, firstFailedId, firstFailure);
+        }
+        return new BatchOutcome(sentIds.size(), failed, deferred, deadLettered);
+    }
+
+    private static Throwable await(CompletableFuture<?> future, long deadline) {
+        try {
+            future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return null;
+        } catch (ExecutionException e) {
+            return e.getCause();
+        } catch (TimeoutException e) {
+            return e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return e;
+        }
+    }
+
+    /**
+     * 같은 레코드를 다시 보내도 결과가 달라지지 않는 실패인지 판단한다.
+     * (KafkaTemplate은 프로듀서 오류를 KafkaProducerException으로 감싸므로 원인을 따라가며 확인)
+     */
+    private static boolean isRetriable(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof UnroutableEventException
+                    || cause instanceof RecordTooLargeException
+                    || cause instanceof SerializationException
+                    || cause instanceof InvalidTopicException) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String describe(Throwable failure) {
+        return NestedExceptionUtils.getMostSpecificCause(failure).toString();
+    }
+
+    private void refreshBacklogIfDue() {
+        Instant now = clock.instant();
+        if (backlogRefreshedAt == null
+                || !now.isBefore(backlogRefreshedAt.plus(properties.getBacklogRefreshInterval()))) {
+            refreshBacklog();
+        }
+    }
+
+    private void refreshBacklog() {
+        Duration lag = outboxRepository.findOldestUnsentCreatedAt()
+                .map(oldest -> Duration.between(oldest, LocalDateTime.now(clock)))
+                .filter(duration -> !duration.isNegative())
+                .orElse(Duration.ZERO);
+        metrics.recordBacklog(outboxRepository.countUnsent(), lag);
+        backlogRefreshedAt = clock.instant();
+    }
+
+    private record InFlightBatch(List<OutboxMessage> messages, List<CompletableFuture<?>> futures) {
+    }
+
+    private record BatchOutcome(int relayed, int failed, int deferred, int deadLettered) {
+
+        /**
+         * 배치에서 한 건도 발행하거나 제외하지 못한 경우 (브로커 장애 등) 더 읽어도 같은 결과가 예상된다
+         */
+        boolean stalled() {
+            return relayed == 0 && deadLettered == 0 && (failed > 0 || deferred > 0);
+        }
+    }
+
+    private static final class Tally {
+
+        private int relayed;
+        private int failed;
+        private int deferred;
+        private int deadLettered;
+        private int batches;
+
+        BatchOutcome add(BatchOutcome outcome) {
+            relayed += outcome.relayed();
+            failed += outcome.failed();
+            deferred += outcome.deferred();
+            deadLettered += outcome.deadLettered();
+            return outcome;
+        }
+    }
+
+    /**
+     * 이벤트 타입에 대응하는 토픽이 없어 보낼 수 없는 행
+     */
+    private static final class UnroutableEventException extends IllegalStateException {
+
+        UnroutableEventException(String eventType) {
+            super("토픽이 정의되지 않은 이벤트 타입: " + eventType);
+        }
+    }
+}
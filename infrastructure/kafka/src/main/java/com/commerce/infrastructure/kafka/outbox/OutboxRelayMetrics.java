@@ -0,0 +1,83 @@
+package com.commerce.infrastructure.kafka.outbox;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 릴레이 처리량과 적체 지표를 Micrometer로 노출
+ * 적체 지표는 릴레이가 backlog-refresh-interval마다 갱신한 값을 보여주므로 스크레이프가 DB를 조회하지 않는다.
+ * (actuator /metrics/commerce.outbox.lag)
+ */
+public class OutboxRelayMetrics implements MeterBinder {
+
+    private static final String PREFIX = "commerce.outbox";
+
+    private final AtomicLong relayed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong lastRelayedId = new AtomicLong();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(PREFIX + ".relayed", relayed, AtomicLong::get)
+                .description("전송이 확인되어 발행 완료 처리한 행 수")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".failed", failed, AtomicLong::get)
+                .description("전송에 실패하여 재시도 대기 중으로 남긴 행 수")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".dead.lettered", deadLettered, AtomicLong::get)
+                .description("다시 보내도 성공할 수 없어 발행 대상에서 제외한 행 수")
+                .register(registry);
+        Gauge.builder(PREFIX + ".pending", pending, AtomicLong::get)
+                .description("발행 대기 중인 행 수")
+                .register(registry);
+        Gauge.builder(PREFIX + ".lag", lagMillis, value -> value.get() / 1000.0)
+                .baseUnit("seconds")
+                .description("가장 오래된 발행 대기 행의 경과 시간")
+                .register(registry);
+        Gauge.builder(PREFIX + ".last.relayed.id", lastRelayedId, AtomicLong::get)
+                .description("마지막으로 발행 완료 처리한 outbox id (재발행 오프셋 기준)")
+                .register(registry);
+    }
+
+    void recordBatch(int relayedRows, int failedRows, int deadRows, long lastId) {
+        relayed.addAndGet(relayedRows);
+        failed.addAndGet(failedRows);
+        deadLettered.addAndGet(deadRows);
+        if (relayedRows > 0) {
+            lastRelayedId.accumulateAndGet(lastId, Math::max);
+        }
+    }
+
+    void recordBacklog(long pendingRows, Duration lag) {
+        pending.set(pendingRows);
+        lagMillis.set(lag.toMillis());
+    }
+
+    public long relayed() {
+        return relayed.get();
+    }
+
+    public long deadLettered() {
+        return deadLettered.get();
+    }
+
+    public long pending() {
+        return pending.get();
+    }
+
+    public Duration lag() {
+        return Duration.ofMillis(lagMillis.get());
+    }
+
+    public long lastRelayedId() {
+        return lastRelayedId.get();
+    }
+}
@@ -0,0 +1,59 @@
+package com.commerce.infrastructure.kafka.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 아웃박스 릴레이 설정
+ *
+ * <pre>
+ * commerce:
+ *   outbox:
+ *     enabled: true
+ *     relay:
+ *       poll-interval: 500ms        # 미발행 행이 없을 때 다음 조회까지 대기
+ *       batch-size: 200             # 한 번에 읽어 전송하는 행 수
+ *       max-in-flight-batches: 4    # 응답을 기다리지 않고 동시에 전송 중인 배치 수
+ *       send-timeout: 30s
+ *       max-batches-per-cycle: 1000
+ *       backlog-refresh-interval: 10s
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "commerce.outbox.relay")
+public class OutboxRelayProperties {
+
+    /**
+     * 한 주기를 마친 뒤 다음 주기까지 대기 시간
+     */
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    /**
+     * 한 번에 조회하여 전송하는 행 수
+     */
+    private int batchSize = 200;
+
+    /**
+     * 전송 확인을 기다리지 않고 이어서 보낼 수 있는 배치 수
+     */
+    private int maxInFlightBatches = 4;
+
+    /**
+     * 한 배치의 전송 확인을 기다리는 최대 시간
+     */
+    private Duration sendTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 한 주기에서 처리할 최대 배치 수 (적체 시에도 지연 지표를 주기적으로 갱신)
+     */
+    private int maxBatchesPerCycle = 1_000;
+
+    /**
+     * 적체 지표(pending, lag) 갱신 간격. 미발행 행 COUNT를 매 주기 실행하지 않도록 한다.
+     */
+    private Duration backlogRefreshInterval = Duration.ofSeconds(10);
+}
@@ -0,0 +1,13 @@
+package com.commerce.infrastructure.kafka.outbox;
+
+/**
+ * 릴레이 한 주기의 처리 결과
+ *
+ * @param relayed      전송이 확인되어 발행 완료 처리한 행 수
+ * @param failed       전송에 실패하여 다음 주기에 다시 보낼 행 수
+ * @param deferred     같은 애그리거트의 앞선 행이 실패하여 순서를 지키기 위해 다음 주기로 미룬 행 수
+ * @param deadLettered 다시 보내도 성공할 수 없어 발행 대상에서 제외한 행 수
+ * @param batches      조회한 배치 수
+ */
+public record OutboxRelayResult(int relayed, int failed, int deferred, int deadLettered, int batches) {
+}
@@ -0,0 +1,63 @@
+package com.commerce.infrastructure.kafka.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 릴레이 전용 스레드에서 poll-interval 간격으로 릴레이 주기를 실행
+ * 보관/휴면 배치처럼 오래 걸리는 @Scheduled 작업과 스케줄러 스레드를 공유하지 않도록 별도 실행기를 쓰고,
+ * 빈으로 등록하지 않아 @EnableScheduling의 기본 스케줄러 선택에도 영향을 주지 않는다.
+ */
+@Slf4j
+public class OutboxRelayScheduler implements SmartLifecycle {
+
+    private final OutboxRelay relay;
+    private final Duration pollInterval;
+    private ScheduledExecutorService executor;
+
+    public OutboxRelayScheduler(OutboxRelay relay, Duration pollInterval) {
+        this.relay = relay;
+        this.pollInterval = pollInterval;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(relay::poll, 0L, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("아웃박스 릴레이 시작: poll-interval={}", pollInterval);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+}
@@ -0,0 +1,114 @@
+package com.commerce.infrastructure.kafka.producer;
+
+import com.commerce.infrastructure.kafka.avro.LocalSchemaRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 토픽별 프로듀서 프로필 설정
+ * 토픽마다 묶음 대기(linger), 배치 크기, 압축, 동시 요청 수를 다르게 두어
+ * 가입 폭주처럼 몰리는 이벤트는 묶어서 압축해 보내고, 지연에 민감한 이벤트는 바로 보낸다.
+ *
+ * <pre>
+ * commerce:
+ *   kafka:
+ *     producer:
+ *       encoding: json                  # json | avro (avro는 스키마 id 봉투 + Avro 바이너리, 아웃박스 사용 시 json만 가능)
+ *       schema-index: classpath:avro/schemas.index
+ *       default-profile: default
+ *       profiles:
+ *         default:
+ *           linger: 5ms
+ *           batch-size: 64KB
+ *           compression: lz4
+ *           max-in-flight: 5
+ *         burst:
+ *           linger: 20ms
+ *           batch-size: 256KB
+ *           compression: zstd
+ *         low-latency:
+ *           linger: 0ms
+ *           batch-size: 16KB
+ *           compression: none
+ *       topics:                         # 지정하지 않은 토픽은 default-profile 사용
+ *         customer.account.created: burst
+ *         customer.account.dormant: burst
+ *         customer.account.activated: low-latency
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "commerce.kafka.producer")
+public class ProducerProfileProperties {
+
+    public static final String DEFAULT_PROFILE = "default";
+
+    /**
+     * 도메인 이벤트 값 인코딩
+     * 아웃박스 릴레이는 저장된 JSON 본문을 그대로 전달하므로 avro는 commerce.outbox.enabled=false일 때만 사용할 수 있다.
+     */
+    private Encoding encoding = Encoding.JSON;
+
+    /**
+     * Avro 인코딩에서 사용할 로컬 스키마 레지스트리 색인 위치
+     */
+    private String schemaIndex = LocalSchemaRegistry.DEFAULT_INDEX;
+
+    /**
+     * 토픽 매핑이 없을 때 사용할 프로필 이름
+     */
+    private String defaultProfile = DEFAULT_PROFILE;
+
+    /**
+     * 프로필 이름별 설정 (default는 항상 존재)
+     */
+    private Map<String, Profile> profiles = new LinkedHashMap<>(Map.of(DEFAULT_PROFILE, new Profile()));
+
+    /**
+     * 토픽 → 프로필 이름
+     */
+    private Map<String, String> topics = new LinkedHashMap<>();
+
+    public Profile profile(String name) {
+        Profile profile = profiles.get(name);
+        if (profile == null) {
+            throw new IllegalStateException("정의되지 않은 프로듀서 프로필: " + name);
+        }
+        return profile;
+    }
+
+    public enum Encoding {
+        JSON, AVRO
+    }
+
+    @Getter
+    @Setter
+    public static class Profile {
+
+        /**
+         * 레코드를 묶기 위해 기다리는 시간 (linger.ms)
+         */
+        private Duration linger = Duration.ofMillis(5);
+
+        /**
+         * 파티션별 레코드 배치 크기 상한 (batch.size)
+         */
+        private DataSize batchSize = DataSize.ofKilobytes(64);
+
+        /**
+         * 압축 방식 (none, gzip, snappy, lz4, zstd)
+         */
+        private String compression = "lz4";
+
+        /**
+         * 연결당 응답 대기 중인 요청 수 (멱등 프로듀서는 5 이하)
+         */
+        private int maxInFlight = 5;
+    }
+}
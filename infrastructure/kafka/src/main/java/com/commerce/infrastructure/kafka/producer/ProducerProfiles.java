@@ -0,0 +1,93 @@
+package com.commerce.infrastructure.kafka.producer;
+
+import com.commerce.infrastructure.kafka.avro.AvroEventSerializer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 프로필 설정으로 프로듀서 팩토리와 토픽 라우팅 템플릿을 만든다.
+ * 모든 프로필은 acks=all, 재시도 3회, 멱등성을 공통으로 유지하고 처리량 관련 설정만 달리한다.
+ */
+public class ProducerProfiles {
+
+    private static final int MAX_IN_FLIGHT_FOR_IDEMPOTENCE = 5;
+
+    private final String bootstrapServers;
+    private final ProducerProfileProperties properties;
+    private final Map<String, Object> overrides;
+
+    public ProducerProfiles(String bootstrapServers, ProducerProfileProperties properties) {
+        this(bootstrapServers, properties, Map.of());
+    }
+
+    /**
+     * @param overrides 모든 프로필에 공통으로 덮어쓸 프로듀서 설정 (예: 발행 스풀 사용 시 대기 시간 단축)
+     */
+    public ProducerProfiles(String bootstrapServers, ProducerProfileProperties properties, Map<String, Object> overrides) {
+        this.bootstrapServers = bootstrapServers;
+        this.properties = properties;
+        this.overrides = overrides;
+    }
+
+    public Map<String, Object> configs(String profileName, Class<?> valueSerializer) {
+        ProducerProfileProperties.Profile profile = properties.profile(profileName);
+        if (profile.getMaxInFlight() < 1 || profile.getMaxInFlight() > MAX_IN_FLIGHT_FOR_IDEMPOTENCE) {
+            throw new IllegalStateException("멱등 프로듀서의 max-in-flight는 1~5 사이여야 합니다: profile="
+                    + profileName + ", max-in-flight=" + profile.getMaxInFlight());
+        }
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, valueSerializer);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, (int) profile.getLinger().toMillis());
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, (int) profile.getBatchSize().toBytes());
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, profile.getCompression());
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, profile.getMaxInFlight());
+        if (valueSerializer == AvroEventSerializer.class) {
+            configProps.put(AvroEventSerializer.SCHEMA_INDEX_CONFIG, properties.getSchemaIndex());
+        }
+        configProps.putAll(overrides);
+        return configProps;
+    }
+
+    public <V> ProducerFactory<String, V> producerFactory(String profileName, Class<?> valueSerializer) {
+        return new DefaultKafkaProducerFactory<>(configs(profileName, valueSerializer));
+    }
+
+    /**
+     * 도메인 이벤트 값 직렬화기 (encoding 설정)
+     */
+    public Class<?> eventValueSerializer() {
+        return properties.getEncoding() == ProducerProfileProperties.Encoding.AVRO
+                ? AvroEventSerializer.class
+                : JsonSerializer.class;
+    }
+
+    public String profileFor(String topic) {
+        return properties.getTopics().getOrDefault(topic, properties.getDefaultProfile());
+    }
+
+    /**
+     * 기본 프로필 팩토리를 기준으로, 토픽 매핑이 있는 프로필마다 팩토리를 하나씩 만들어 라우팅 템플릿을 구성한다.
+     * 같은 프로필을 쓰는 토픽은 프로듀서(연결과 배치 버퍼)를 공유한다.
+     */
+    public <V> ProfileRoutingKafkaTemplate<V> routingTemplate(ProducerFactory<String, V> defaultFactory,
+                                                              Class<?> valueSerializer) {
+        Map<String, ProducerFactory<String, V>> factoriesByProfile = new HashMap<>();
+        factoriesByProfile.put(properties.getDefaultProfile(), defaultFactory);
+        Map<String, ProducerFactory<String, V>> factoriesByTopic = new LinkedHashMap<>();
+        properties.getTopics().forEach((topic, profileName) -> factoriesByTopic.put(topic,
+                factoriesByProfile.computeIfAbsent(profileName, name -> producerFactory(name, valueSerializer))));
+        return new ProfileRoutingKafkaTemplate<>(defaultFactory, factoriesByTopic);
+    }
+}
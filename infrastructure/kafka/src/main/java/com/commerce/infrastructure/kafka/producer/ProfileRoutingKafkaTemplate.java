@@ -0,0 +1,50 @@
+package com.commerce.infrastructure.kafka.producer;
+
+import org.apache.kafka.clients.producer.Producer;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 토픽에 매핑된 프로필의 프로듀서로 보내는 KafkaTemplate
+ * send(topic, ...) 호출마다 토픽으로 팩토리를 고르며, 매핑이 없는 토픽은 기본 팩토리를 쓴다.
+ */
+public class ProfileRoutingKafkaTemplate<V> extends KafkaTemplate<String, V> {
+
+    private final Map<String, ProducerFactory<String, V>> factoriesByTopic;
+
+    public ProfileRoutingKafkaTemplate(ProducerFactory<String, V> defaultFactory,
+                                       Map<String, ProducerFactory<String, V>> factoriesByTopic) {
+        super(defaultFactory);
+        this.factoriesByTopic = Map.copyOf(factoriesByTopic);
+    }
+
+    @Override
+    protected ProducerFactory<String, V> getProducerFactory(String topic) {
+        if (topic == null) {
+            return getProducerFactory();
+        }
+        return factoriesByTopic.getOrDefault(topic, getProducerFactory());
+    }
+
+    /**
+     * 모든 프로필의 프로듀서에 쌓인 배치를 즉시 전송
+     */
+    @Override
+    public void flush() {
+        Set<ProducerFactory<String, V>> factories = new LinkedHashSet<>(factoriesByTopic.values());
+        factories.add(getProducerFactory());
+        for (ProducerFactory<String, V> factory : factories) {
+            try (Producer<String, V> producer = factory.createProducer()) {
+                producer.flush();
+            }
+        }
+    }
+
+    public Map<String, ProducerFactory<String, V>> factoriesByTopic() {
+        return factoriesByTopic;
+    }
+}
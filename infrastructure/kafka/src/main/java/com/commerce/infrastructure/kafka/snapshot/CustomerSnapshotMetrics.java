@@ -0,0 +1,76 @@
+package com.commerce.infrastructure.kafka.snapshot;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 고객 스냅샷 투영 지표
+ * 받은 변경 이벤트 수 대비 발행한 스냅샷 수로 배치 안 고객 단위 병합 효과를 보고,
+ * 배치 시간으로 조회/발행 비용을 본다. (actuator /metrics/commerce.customer.snapshot.published)
+ */
+public class CustomerSnapshotMetrics implements MeterBinder {
+
+    private static final String PREFIX = "commerce.customer.snapshot";
+
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong tombstones = new AtomicLong();
+    private final AtomicLong unresolved = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong batchNanos = new AtomicLong();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(PREFIX + ".received", received, AtomicLong::get)
+                .description("수신한 프로필/계정 변경 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".published", published, AtomicLong::get)
+                .description("발행한 고객 스냅샷 수 (tombstone 포함)")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".tombstones", tombstones, AtomicLong::get)
+                .description("계정과 프로필이 모두 없어 발행한 tombstone 수")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".unresolved", unresolved, AtomicLong::get)
+                .description("키가 없거나 고객을 찾을 수 없어 건너뛴 이벤트 수")
+                .register(registry);
+        FunctionTimer.builder(PREFIX + ".batch", this, CustomerSnapshotMetrics::batches,
+                        metrics -> metrics.batchNanos.get(), TimeUnit.NANOSECONDS)
+                .description("배치 하나를 조회해 스냅샷 발행 확인까지 마치는 데 걸린 시간")
+                .register(registry);
+    }
+
+    void recordBatch(int receivedEvents, int publishedSnapshots, int tombstoneSnapshots, int unresolvedEvents,
+                     long elapsedNanos) {
+        received.addAndGet(receivedEvents);
+        published.addAndGet(publishedSnapshots);
+        tombstones.addAndGet(tombstoneSnapshots);
+        unresolved.addAndGet(unresolvedEvents);
+        batchNanos.addAndGet(elapsedNanos);
+        batches.incrementAndGet();
+    }
+
+    public long received() {
+        return received.get();
+    }
+
+    public long published() {
+        return published.get();
+    }
+
+    public long tombstones() {
+        return tombstones.get();
+    }
+
+    public long unresolved() {
+        return unresolved.get();
+    }
+
+    public long batches() {
+        return batches.get();
+    }
+}
@@ -0,0 +1,179 @@
+package com.commerce.infrastructure.kafka.snapshot;
+
+import com.commerce.customer.client.snapshot.CustomerSnapshot;
+import com.commerce.customer.client.snapshot.CustomerSnapshotCodec;
+import com.commerce.customer.core.domain.model.Account;
+import com.commerce.customer.core.domain.model.AccountId;
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.profile.Address;
+import com.commerce.customer.core.domain.model.profile.CustomerProfile;
+import com.commerce.customer.core.domain.model.profile.MarketingConsent;
+import com.commerce.customer.core.domain.model.profile.PhoneNumber;
+import com.commerce.customer.core.domain.repository.AccountRepository;
+import com.commerce.customer.core.domain.repository.profile.CustomerProfileRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchMessageListener;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 프로필/계정 변경 이벤트를 받아 고객 스냅샷을 로그 압축 토픽에 발행하는 리스너
+ * 이벤트 값은 읽지 않고 키로 고객만 찾은 뒤, 현재 상태를 다시 읽어 전체 스냅샷을 쓴다.
+ * 따라서 이벤트가 중복되거나 순서가 섞여도 결과는 마지막으로 읽은 상태이며, 한 배치 안의 같은 고객은 한 번만 발행한다.
+ *
+ * 조회는 읽기 전용이 아닌 트랜잭션으로 수행하여 복제 지연이 있는 Replica 대신 Primary를 읽는다.
+ * 저장소는 캐시를 거치지 않는 원본 어댑터를 주입받아야 한다 (CustomerSnapshotConfig 참고).
+ * 발행 확인까지 기다린 뒤 반환하므로, 발행이 실패하면 오프셋을 넘기지 않고 같은 배치를 다시 투영한다.
+ * 계정과 프로필이 모두 없으면 tombstone(null 값)을 발행해 압축 시 고객이 토픽에서 지워지게 한다.
+ */
+@Slf4j
+public class CustomerSnapshotProjector implements BatchMessageListener<String, byte[]> {
+
+    private final CustomerProfileRepository customerProfileRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionOperations transactionOperations;
+    private final KafkaTemplate<String, byte[]> snapshotTemplate;
+    private final CustomerSnapshotMetrics metrics;
+    private final String snapshotTopic;
+    private final Set<String> accountKeyedTopics;
+
+    public CustomerSnapshotProjector(CustomerProfileRepository customerProfileRepository,
+                                     AccountRepository accountRepository,
+                                     TransactionOperations transactionOperations,
+                                     KafkaTemplate<String, byte[]> snapshotTemplate,
+                                     CustomerSnapshotMetrics metrics,
+                                     CustomerSnapshotProperties properties) {
+        this.customerProfileRepository = customerProfileRepository;
+        this.accountRepository = accountRepository;
+        this.transactionOperations = transactionOperations;
+        this.snapshotTemplate = snapshotTemplate;
+        this.metrics = metrics;
+        this.snapshotTopic = properties.getTopic();
+        this.accountKeyedTopics = new HashSet<>(properties.getAccountKeyedTopics());
+    }
+
+    @Override
+    public void onMessage(List<ConsumerRecord<String, byte[]>> records) {
+        long started = System.nanoTime();
+        Set<Long> customerIds = new LinkedHashSet<>();
+        Set<Long> accountIds = new LinkedHashSet<>();
+        int unresolved = 0;
+
+        for (ConsumerRecord<String, byte[]> record : records) {
+            Long id = parseKey(record.key());
+            if (id == null) {
+                unresolved++;
+                log.warn("고객을 찾을 수 없는 변경 이벤트 - topic: {}, partition: {}, offset: {}",
+                        record.topic(), record.partition(), record.offset());
+            } else if (accountKeyedTopics.contains(record.topic())) {
+                accountIds.add(id);
+            } else {
+                customerIds.add(id);
+            }
+        }
+
+        List<Long> unknownAccounts = new ArrayList<>();
+        Map<Long, CustomerSnapshot> snapshots = transactionOperations.execute(status -> {
+            for (Long accountId : accountIds) {
+                accountRepository.findById(AccountId.of(accountId)).ifPresentOrElse(
+                        account -> customerIds.add(account.getCustomerId().getValue()),
+                        () -> unknownAccounts.add(accountId));
+            }
+            return load(customerIds);
+        });
+        unresolved += unknownAccounts.size();
+
+        List<CompletableFuture<?>> sends = new ArrayList<>(snapshots.size());
+        int tombstones = 0;
+        for (Map.Entry<Long, CustomerSnapshot> entry : snapshots.entrySet()) {
+            CustomerSnapshot snapshot = entry.getValue();
+            if (snapshot == null) {
+                tombstones++;
+            }
+            sends.add(snapshotTemplate.send(snapshotTopic, CustomerSnapshotCodec.key(entry.getKey()),
+                    snapshot == null ? null : CustomerSnapshotCodec.encode(snapshot)));
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+        metrics.recordBatch(records.size(), sends.size(), tombstones, unresolved, System.nanoTime() - started);
+
+        if (log.isDebugEnabled()) {
+            log.debug("고객 스냅샷 발행 - records: {}, customers: {}, tombstones: {}",
+                    records.size(), sends.size(), tombstones);
+        }
+    }
+
+    /**
+     * 고객별 현재 스냅샷 (계정과 프로필이 모두 없으면 null 값)
+     */
+    private Map<Long, CustomerSnapshot> load(Collection<Long> customerIds) {
+        Map<Long, CustomerProfile> profiles = customerProfileRepository.findAllByCustomerIds(
+                        customerIds.stream().map(CustomerId::of).toList()).stream()
+                .collect(Collectors.toMap(profile -> profile.getCustomerId().getValue(), Function.identity()));
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, CustomerSnapshot> snapshots = new LinkedHashMap<>();
+        for (Long customerId : customerIds) {
+            CustomerProfile profile = profiles.get(customerId);
+            Account account = accountRepository.findByCustomerId(CustomerId.of(customerId)).orElse(null);
+            snapshots.put(customerId, profile == null && account == null
+                    ? null
+                    : toSnapshot(customerId, profile, account, now));
+        }
+        return snapshots;
+    }
+
+    static CustomerSnapshot toSnapshot(long customerId, CustomerProfile profile, Account account,
+                                       LocalDateTime updatedAt) {
+        String accountStatus = account == null ? null : account.getStatus().name();
+        if (profile == null) {
+            return new CustomerSnapshot(customerId, null, null, null, null, null,
+                    CustomerSnapshot.Consent.NONE, null, accountStatus, updatedAt);
+        }
+        CustomerSnapshot.DefaultAddress defaultAddress = profile.getAddresses().stream()
+                .filter(Address::isDefault)
+                .findFirst()
+                .map(address -> new CustomerSnapshot.DefaultAddress(
+                        address.getZipCode(), address.getRoadAddress(), address.getDetailAddress()))
+                .orElse(null);
+        MarketingConsent marketingConsent = profile.getPreferences().getMarketingConsent();
+        CustomerSnapshot.Consent consent = marketingConsent == null
+                ? CustomerSnapshot.Consent.NONE
+                : new CustomerSnapshot.Consent(marketingConsent.isEmailMarketing(),
+                        marketingConsent.isSmsMarketing(), marketingConsent.isPersonalizedAds());
+        return new CustomerSnapshot(customerId,
+                profile.getProfileId().getValue(),
+                profile.getPersonalInfo().getFullName().getFirstName(),
+                profile.getPersonalInfo().getFullName().getLastName(),
+                Optional.ofNullable(profile.getContactInfo().getPrimaryPhone()).map(PhoneNumber::getNumber).orElse(null),
+                defaultAddress,
+                consent,
+                profile.getStatus().name(),
+                accountStatus,
+                updatedAt);
+    }
+
+    private static Long parseKey(String key) {
+        if (key == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(key);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.commerce.infrastructure.kafka.snapshot;
+
+import com.commerce.customer.client.snapshot.CustomerSnapshotCodec;
+import com.commerce.customer.core.domain.event.DomainEventTopics;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 고객 스냅샷 투영 설정
+ *
+ * <pre>
+ * commerce:
+ *   kafka:
+ *     customer-snapshot:
+ *       enabled: true
+ *       topic: customer.profile.snapshot
+ *       partitions: 12
+ *       replicas: 3
+ *       delete-retention: 1d            # tombstone을 압축 후에도 남겨 두는 기간 (클라이언트가 삭제를 읽을 시간)
+ *       group-id: customer-snapshot-projector
+ *       customer-keyed-topics: [customer.profile.changed]
+ *       account-keyed-topics: [customer.account.created, customer.account.activated, customer.account.dormant]
+ *       max-poll-records: 500
+ *       retry-interval: 1s
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "commerce.kafka.customer-snapshot")
+public class CustomerSnapshotProperties {
+
+    /**
+     * 로그 압축 스냅샷 토픽 (키: 고객 ID)
+     */
+    private String topic = CustomerSnapshotCodec.TOPIC;
+
+    /**
+     * 스냅샷 토픽 파티션 수 (토픽이 없을 때 생성)
+     */
+    private int partitions = 12;
+
+    /**
+     * 스냅샷 토픽 복제 수 (토픽이 없을 때 생성)
+     */
+    private short replicas = 3;
+
+    /**
+     * 압축된 뒤에도 tombstone을 유지하는 기간
+     */
+    private Duration deleteRetention = Duration.ofDays(1);
+
+    /**
+     * 변경 이벤트 컨슈머 그룹 ID
+     */
+    private String groupId = "customer-snapshot-projector";
+
+    /**
+     * 키가 고객 ID인 변경 이벤트 토픽
+     */
+    private List<String> customerKeyedTopics = new ArrayList<>(List.of(DomainEventTopics.PROFILE_CHANGED));
+
+    /**
+     * 키가 계정 ID인 변경 이벤트 토픽 (계정을 조회해 고객 ID를 찾는다)
+     */
+    private List<String> accountKeyedTopics = new ArrayList<>(List.of(
+            DomainEventTopics.ACCOUNT_CREATED, DomainEventTopics.ACCOUNT_ACTIVATED, DomainEventTopics.ACCOUNT_DORMANT));
+
+    /**
+     * 한 번의 poll로 받아 고객 단위로 합치는 최대 레코드 수
+     */
+    private int maxPollRecords = 500;
+
+    /**
+     * 투영 실패 시 같은 배치를 다시 시도하기까지 대기 시간
+     */
+    private Duration retryInterval = Duration.ofSeconds(1);
+
+    public List<String> sourceTopics() {
+        List<String> topics = new ArrayList<>(customerKeyedTopics);
+        topics.addAll(accountKeyedTopics);
+        return topics;
+    }
+
+    /**
+     * 변경 이벤트 컨슈머 설정 (값은 읽지 않고 키만 쓰므로 바이트 그대로 받는다)
+     */
+    public Map<String, Object> consumerConfigs(String bootstrapServers) {
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configs.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        configs.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configs.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        configs.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        return configs;
+    }
+}
@@ -0,0 +1,77 @@
+package com.commerce.infrastructure.kafka.spool;
+
+import com.commerce.customer.core.domain.event.DomainEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.RetriableException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.util.List;
+
+/**
+ * 브로커로 보내지 못한 도메인 이벤트를 로컬 스풀에 적재
+ * 적재 대기 건이 있는 동안(engaged)에는 새 이벤트도 브로커를 거치지 않고 스풀 뒤에 붙여
+ * 장애 중 요청 지연을 스풀 기록 시간으로 묶고, 재전송 순서를 발생 순서와 맞춘다.
+ */
+@Slf4j
+public class EventSpool {
+
+    private final SpoolLog spoolLog;
+    private final Serializer<Object> valueSerializer;
+    private final SpoolMetrics metrics;
+
+    public EventSpool(SpoolLog spoolLog, Serializer<Object> valueSerializer, SpoolMetrics metrics) {
+        this.spoolLog = spoolLog;
+        this.valueSerializer = valueSerializer;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 재전송 대기 중인 이벤트가 있으면 true
+     */
+    public boolean isEngaged() {
+        return spoolLog.pendingRecords() > 0;
+    }
+
+    /**
+     * 이벤트를 프로듀서와 같은 직렬화기로 인코딩하여 스풀에 추가한다.
+     *
+     * @return 디스크 상한 초과나 직렬화 실패로 적재하지 못하면 false
+     */
+    public boolean offer(DomainEvent event) {
+        RecordHeaders headers = new RecordHeaders();
+        byte[] value;
+        try {
+            value = valueSerializer.serialize(event.topic(), headers, event);
+        } catch (RuntimeException e) {
+            log.error("스풀 적재용 직렬화 실패: topic={}, key={}", event.topic(), event.key(), e);
+            metrics.recordRejected();
+            return false;
+        }
+        boolean wasEngaged = isEngaged();
+        SpoolRecord record = new SpoolRecord(event.topic(), event.key(), List.of(headers.toArray()), value);
+        if (!spoolLog.append(record.encode())) {
+            metrics.recordRejected();
+            log.error("스풀 용량 초과로 이벤트를 적재하지 못했습니다: topic={}, key={}, 사용량={}B",
+                    event.topic(), event.key(), spoolLog.diskUsage());
+            return false;
+        }
+        metrics.recordSpooled();
+        if (!wasEngaged) {
+            log.warn("브로커 전송 실패로 발행 스풀 적재 시작: topic={}", event.topic());
+        }
+        return true;
+    }
+
+    /**
+     * 브로커가 복구되면 다시 보낼 수 있는 실패인지 (연결/타임아웃/리더 부재 등)
+     */
+    public static boolean isRetriable(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RetriableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,61 @@
+package com.commerce.infrastructure.kafka.spool;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스풀 재전송 전용 스레드에서 drain-interval 간격으로 재전송 주기를 실행
+ */
+@Slf4j
+public class SpoolDrainScheduler implements SmartLifecycle {
+
+    private final SpoolDrainer drainer;
+    private final Duration drainInterval;
+    private ScheduledExecutorService executor;
+
+    public SpoolDrainScheduler(SpoolDrainer drainer, Duration drainInterval) {
+        this.drainer = drainer;
+        this.drainInterval = drainInterval;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kafka-spool-drainer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(drainer::poll, 0L, drainInterval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("발행 스풀 재전송 시작: drain-interval={}", drainInterval);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+}
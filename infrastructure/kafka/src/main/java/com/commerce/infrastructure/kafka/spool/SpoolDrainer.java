@@ -0,0 +1,110 @@
+package com.commerce.infrastructure.kafka.spool;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 스풀에 쌓인 레코드를 적재 순서대로 브로커에 재전송
+ * 배치 단위로 보내고 앞에서부터 전송이 확인된 구간까지만 커서를 옮기므로,
+ * 브로커가 아직 복구되지 않았으면 같은 위치에서 다음 주기에 다시 시도한다(최소 1회 전달).
+ */
+@Slf4j
+public class SpoolDrainer {
+
+    private final SpoolLog spoolLog;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final SpoolMetrics metrics;
+    private final SpoolProperties properties;
+
+    public SpoolDrainer(SpoolLog spoolLog, KafkaTemplate<String, byte[]> kafkaTemplate,
+                        SpoolMetrics metrics, SpoolProperties properties) {
+        this.spoolLog = spoolLog;
+        this.kafkaTemplate = kafkaTemplate;
+        this.metrics = metrics;
+        this.properties = properties;
+    }
+
+    /**
+     * 스케줄러 진입점. 예외가 스케줄을 멈추지 않도록 로그로 남긴다.
+     */
+    public void poll() {
+        try {
+            drainOnce();
+        } catch (RuntimeException e) {
+            log.warn("스풀 재전송 주기 실패", e);
+        }
+    }
+
+    /**
+     * 한 주기 동안 스풀을 비운다.
+     *
+     * @return 재전송(또는 포기)하여 커서를 지나간 레코드 수
+     */
+    public synchronized int drainOnce() {
+        int drained = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerCycle(); batch++) {
+            List<SpoolLog.Entry> entries = spoolLog.peek(properties.getDrainBatchSize());
+            if (entries.isEmpty()) {
+                break;
+            }
+            int completed = send(entries);
+            spoolLog.commit(entries.subList(0, completed));
+            drained += completed;
+            if (completed < entries.size()) {
+                break;
+            }
+        }
+        if (drained > 0) {
+            long pending = spoolLog.pendingRecords();
+            if (pending == 0) {
+                log.info("발행 스풀 재전송 완료: {}건", drained);
+            } else {
+                log.info("발행 스풀 재전송: {}건, 남은 {}건", drained, pending);
+            }
+        }
+        return drained;
+    }
+
+    private int send(List<SpoolLog.Entry> entries) {
+        List<CompletableFuture<?>> futures = new ArrayList<>(entries.size());
+        for (SpoolLog.Entry entry : entries) {
+            try {
+                futures.add(kafkaTemplate.send(SpoolRecord.decode(entry.payload()).toProducerRecord()));
+            } catch (RuntimeException e) {
+                futures.add(CompletableFuture.failedFuture(e));
+            }
+        }
+
+        long deadline = System.nanoTime() + properties.getSendTimeout().toNanos();
+        int completed = 0;
+        int sent = 0;
+        for (CompletableFuture<?> future : futures) {
+            try {
+                future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                sent++;
+            } catch (ExecutionException e) {
+                if (EventSpool.isRetriable(e.getCause())) {
+                    break;
+                }
+                // 재시도해도 성공할 수 없는 레코드(크기 초과 등)가 뒤 레코드를 막지 않도록 건너뛴다
+                log.error("재전송할 수 없는 스풀 레코드를 건너뜁니다", e.getCause());
+                metrics.recordDropped();
+            } catch (TimeoutException e) {
+                break;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            completed++;
+        }
+        metrics.recordDrained(sent);
+        return completed;
+    }
+}
@@ -0,0 +1,315 @@
+package com.commerce.infrastructure.kafka.spool;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 매핑 세그먼트 파일로 구성한 추가 전용 스풀 로그
+ * 레코드는 [길이(4)][CRC32C(4)][본문] 형태로 쓰고, 길이를 마지막에 기록하여 기록 중인 레코드가 읽히지 않게 한다.
+ * 세그먼트가 차면 다음 세그먼트로 넘어가고(roll), 읽기 커서를 지난 세그먼트는 삭제한다.
+ * 기록은 페이지 캐시까지만 보장하므로 프로세스 장애에는 안전하고, OS 장애 시 마지막 구간은 체크섬 검증으로 잘라낸다.
+ */
+@Slf4j
+public class SpoolLog implements Closeable {
+
+    static final String SEGMENT_SUFFIX = ".seg";
+    static final String CURSOR_FILE = "spool.cursor";
+
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+    private static final int CURSOR_SIZE = Long.BYTES + Integer.BYTES;
+    private static final int MIN_SEGMENT_SIZE = 4 * 1024;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long maxDiskUsage;
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private final MappedByteBuffer cursor;
+    private Segment writeSegment;
+    private Position readPosition;
+    private long pendingRecords;
+    private long corruptedSegments;
+
+    private SpoolLog(Path directory, int segmentSize, long maxDiskUsage, MappedByteBuffer cursor) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxDiskUsage = maxDiskUsage;
+        this.cursor = cursor;
+    }
+
+    /**
+     * 디렉터리의 세그먼트와 읽기 커서를 복구하여 연다.
+     * 마지막 세그먼트는 체크섬이 맞는 마지막 레코드 뒤를 비워 부분 기록된 레코드를 버린다.
+     */
+    public static SpoolLog open(Path directory, long segmentSize, long maxDiskUsage) {
+        if (segmentSize < MIN_SEGMENT_SIZE || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("스풀 세그먼트 크기는 4KB~2GB 사이여야 합니다: " + segmentSize);
+        }
+        if (maxDiskUsage < segmentSize) {
+            throw new IllegalArgumentException("스풀 최대 디스크 사용량은 세그먼트 크기 이상이어야 합니다: " + maxDiskUsage);
+        }
+        try {
+            Files.createDirectories(directory);
+            MappedByteBuffer cursor;
+            try (FileChannel channel = FileChannel.open(directory.resolve(CURSOR_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                cursor = channel.map(FileChannel.MapMode.READ_WRITE, 0, CURSOR_SIZE);
+            }
+            SpoolLog spoolLog = new SpoolLog(directory, (int) segmentSize, maxDiskUsage, cursor);
+            spoolLog.recover();
+            return spoolLog;
+        } catch (IOException e) {
+            throw new UncheckedIOException("스풀 디렉터리를 열 수 없습니다: " + directory, e);
+        }
+    }
+
+    /**
+     * 레코드를 현재 세그먼트 끝에 추가한다.
+     *
+     * @return 디스크 사용량 상한이나 세그먼트 크기를 넘어 기록하지 못하면 false
+     */
+    public synchronized boolean append(byte[] payload) {
+        int required = RECORD_HEADER_SIZE + payload.length;
+        if (required > segmentSize) {
+            return false;
+        }
+        if (segmentSize - writeSegment.writePosition < required) {
+            if ((long) (segments.size() + 1) * segmentSize > maxDiskUsage) {
+                return false;
+            }
+            roll();
+        }
+        MappedByteBuffer buffer = writeSegment.buffer;
+        int position = writeSegment.writePosition;
+        buffer.putInt(position + Integer.BYTES, checksum(payload));
+        buffer.put(position + RECORD_HEADER_SIZE, payload);
+        buffer.putInt(position, payload.length);
+        writeSegment.writePosition = position + required;
+        pendingRecords++;
+        return true;
+    }
+
+    /**
+     * 읽기 커서부터 최대 max건을 순서대로 읽는다. 커서는 {@link #commit(List)} 전까지 움직이지 않는다.
+     * 체크섬이 맞지 않는 레코드를 만나면 그 앞까지만 돌려주고, 다음 호출에서 손상된 세그먼트의 나머지를 건너뛴다.
+     */
+    public synchronized List<Entry> peek(int max) {
+        List<Entry> entries = new ArrayList<>(Math.min(max, 1_024));
+        Position position = readPosition;
+        while (entries.size() < max) {
+            Segment segment = segments.get(position.segmentId());
+            int offset = position.offset();
+            int length = offset + RECORD_HEADER_SIZE <= segmentSize ? segment.buffer.getInt(offset) : 0;
+            if (length == 0) {
+                if (segment == writeSegment) {
+                    break;
+                }
+                position = new Position(segments.higherKey(segment.id), 0);
+                continue;
+            }
+            byte[] payload = read(segment, offset, length);
+            if (payload == null) {
+                if (!entries.isEmpty()) {
+                    break;
+                }
+                skipCorruptedSegment(segment, offset);
+                position = readPosition;
+                continue;
+            }
+            Position next = new Position(segment.id, offset + RECORD_HEADER_SIZE + length);
+            entries.add(new Entry(payload, next));
+            position = next;
+        }
+        return entries;
+    }
+
+    /**
+     * peek으로 읽은 레코드 중 앞에서부터 처리한 묶음까지 커서를 옮기고, 다 읽은 세그먼트를 삭제한다.
+     */
+    public synchronized void commit(List<Entry> drained) {
+        if (drained.isEmpty()) {
+            return;
+        }
+        moveCursor(drained.get(drained.size() - 1).next());
+        pendingRecords = Math.max(0L, pendingRecords - drained.size());
+    }
+
+    public synchronized long pendingRecords() {
+        return pendingRecords;
+    }
+
+    /**
+     * 세그먼트 파일이 차지하는 디스크 용량 (세그먼트는 생성 시 전체 크기로 매핑된다)
+     */
+    public synchronized long diskUsage() {
+        return (long) segments.size() * segmentSize;
+    }
+
+    public synchronized int segmentCount() {
+        return segments.size();
+    }
+
+    public synchronized long corruptedSegments() {
+        return corruptedSegments;
+    }
+
+    @Override
+    public synchronized void close() {
+        segments.values().forEach(segment -> segment.buffer.force());
+        cursor.force();
+    }
+
+    private void recover() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .forEach(path -> {
+                        String name = path.getFileName().toString();
+                        long id = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+                        segments.put(id, Segment.map(path, id, segmentSize));
+                    });
+        }
+        Position saved = new Position(cursor.getLong(0), cursor.getInt(Long.BYTES));
+        if (segments.isEmpty()) {
+            writeSegment = createSegment(saved.segmentId());
+            moveCursor(new Position(writeSegment.id, 0));
+            return;
+        }
+        writeSegment = segments.lastEntry().getValue();
+        writeSegment.writePosition = scanValidEnd(writeSegment);
+        writeSegment.buffer.put(writeSegment.writePosition, new byte[segmentSize - writeSegment.writePosition]);
+
+        boolean cursorValid = segments.containsKey(saved.segmentId())
+                && saved.offset() <= (saved.segmentId() == writeSegment.id ? writeSegment.writePosition : segmentSize);
+        moveCursor(cursorValid ? saved : new Position(segments.firstKey(), 0));
+        pendingRecords = countFrom(readPosition);
+        if (pendingRecords > 0) {
+            log.info("스풀 복구: 대기 {}건, 세그먼트 {}개", pendingRecords, segments.size());
+        }
+    }
+
+    private int scanValidEnd(Segment segment) {
+        int offset = 0;
+        while (offset + RECORD_HEADER_SIZE <= segmentSize) {
+            int length = segment.buffer.getInt(offset);
+            if (length == 0 || read(segment, offset, length) == null) {
+                break;
+            }
+            offset += RECORD_HEADER_SIZE + length;
+        }
+        return offset;
+    }
+
+    private long countFrom(Position from) {
+        long count = 0;
+        for (Segment segment : segments.tailMap(from.segmentId(), true).values()) {
+            int offset = segment.id == from.segmentId() ? from.offset() : 0;
+            while (offset + RECORD_HEADER_SIZE <= segmentSize) {
+                int length = segment.buffer.getInt(offset);
+                if (length == 0 || read(segment, offset, length) == null) {
+                    break;
+                }
+                count++;
+                offset += RECORD_HEADER_SIZE + length;
+            }
+        }
+        return count;
+    }
+
+    private byte[] read(Segment segment, int offset, int length) {
+        if (length < 0 || length > segmentSize - offset - RECORD_HEADER_SIZE) {
+            return null;
+        }
+        byte[] payload = new byte[length];
+        segment.buffer.get(offset + RECORD_HEADER_SIZE, payload);
+        return checksum(payload) == segment.buffer.getInt(offset + Integer.BYTES) ? payload : null;
+    }
+
+    private void skipCorruptedSegment(Segment segment, int offset) {
+        corruptedSegments++;
+        log.error("스풀 세그먼트 손상: segment={}, offset={} 이후 레코드를 건너뜁니다", segment.path, offset);
+        if (segment == writeSegment) {
+            roll();
+        }
+        moveCursor(new Position(segments.higherKey(segment.id), 0));
+        pendingRecords = countFrom(readPosition);
+    }
+
+    private void roll() {
+        writeSegment.buffer.force();
+        writeSegment = createSegment(writeSegment.id + 1);
+    }
+
+    private Segment createSegment(long id) {
+        Segment segment = Segment.map(directory.resolve(String.format("%020d%s", id, SEGMENT_SUFFIX)), id, segmentSize);
+        segments.put(id, segment);
+        return segment;
+    }
+
+    private void moveCursor(Position position) {
+        readPosition = position;
+        cursor.putLong(0, position.segmentId());
+        cursor.putInt(Long.BYTES, position.offset());
+        Map<Long, Segment> consumed = segments.headMap(position.segmentId(), false);
+        for (Segment segment : List.copyOf(consumed.values())) {
+            try {
+                Files.deleteIfExists(segment.path);
+            } catch (IOException e) {
+                log.warn("다 읽은 스풀 세그먼트 삭제 실패: {}", segment.path, e);
+            }
+        }
+        consumed.clear();
+    }
+
+    private static int checksum(byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * 읽기 위치 (세그먼트 id, 세그먼트 내 오프셋)
+     */
+    public record Position(long segmentId, int offset) {
+    }
+
+    /**
+     * 읽은 레코드와 그 다음 읽기 위치
+     */
+    public record Entry(byte[] payload, Position next) {
+    }
+
+    private static final class Segment {
+        private final long id;
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        private int writePosition;
+
+        private Segment(long id, Path path, MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.buffer = buffer;
+        }
+
+        private static Segment map(Path path, long id, int size) {
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                return new Segment(id, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+            } catch (IOException e) {
+                throw new UncheckedIOException("스풀 세그먼트를 매핑할 수 없습니다: " + path, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.commerce.infrastructure.kafka.spool;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 발행 스풀 적재/재전송 지표를 Micrometer로 노출
+ * (actuator /metrics/commerce.kafka.spool.pending)
+ */
+public class SpoolMetrics implements MeterBinder {
+
+    private static final String PREFIX = "commerce.kafka.spool";
+
+    private final SpoolLog spoolLog;
+    private final AtomicLong spooled = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong drained = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public SpoolMetrics(SpoolLog spoolLog) {
+        this.spoolLog = spoolLog;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(PREFIX + ".spooled", spooled, AtomicLong::get)
+                .description("브로커 대신 스풀에 적재한 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".rejected", rejected, AtomicLong::get)
+                .description("디스크 상한 또는 직렬화 실패로 스풀에 적재하지 못한 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".drained", drained, AtomicLong::get)
+                .description("스풀에서 브로커로 재전송한 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".dropped", dropped, AtomicLong::get)
+                .description("재시도할 수 없는 오류로 재전송을 포기한 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".corrupted.segments", spoolLog, SpoolLog::corruptedSegments)
+                .description("체크섬 검증에 실패하여 나머지를 건너뛴 세그먼트 수")
+                .register(registry);
+        Gauge.builder(PREFIX + ".pending", spoolLog, SpoolLog::pendingRecords)
+                .description("재전송 대기 중인 이벤트 수")
+                .register(registry);
+        Gauge.builder(PREFIX + ".disk.usage", spoolLog, SpoolLog::diskUsage)
+                .baseUnit("bytes")
+                .description("스풀 세그먼트 파일이 차지하는 디스크 용량")
+                .register(registry);
+    }
+
+    void recordSpooled() {
+        spooled.incrementAndGet();
+    }
+
+    void recordRejected() {
+        rejected.incrementAndGet();
+    }
+
+    void recordDrained(int count) {
+        drained.addAndGet(count);
+    }
+
+    void recordDropped() {
+        dropped.incrementAndGet();
+    }
+
+    public long spooled() {
+        return spooled.get();
+    }
+
+    public long rejected() {
+        return rejected.get();
+    }
+
+    public long drained() {
+        return drained.get();
+    }
+
+    public long dropped() {
+        return dropped.get();
+    }
+}
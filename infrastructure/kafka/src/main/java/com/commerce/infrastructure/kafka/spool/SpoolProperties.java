@@ -0,0 +1,87 @@
+package com.commerce.infrastructure.kafka.spool;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 브로커 장애 시 발행 스풀 설정
+ * 스풀을 켜면 이벤트 프로듀서는 브로커 응답을 오래 기다리지 않고 실패를 돌려주며, 실패한 이벤트는 로컬 스풀에 적재된다.
+ *
+ * <pre>
+ * commerce:
+ *   kafka:
+ *     spool:
+ *       enabled: true
+ *       directory: /var/lib/customer-api/kafka-spool
+ *       segment-size: 16MB          # 세그먼트 파일 하나의 크기 (생성 시 전체 매핑)
+ *       max-disk-usage: 1GB         # 넘으면 새 이벤트 적재를 거부
+ *       drain-interval: 1s
+ *       drain-batch-size: 500
+ *       send-timeout: 10s
+ *       max-block: 500ms            # 메타데이터/버퍼 대기 상한 (요청 스레드 지연 상한)
+ *       request-timeout: 5s
+ *       delivery-timeout: 15s       # linger + request-timeout 이상
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "commerce.kafka.spool")
+public class SpoolProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * 세그먼트와 읽기 커서 파일을 두는 디렉터리
+     */
+    private String directory = "./data/kafka-spool";
+
+    private DataSize segmentSize = DataSize.ofMegabytes(16);
+
+    /**
+     * 세그먼트 파일 전체 용량 상한
+     */
+    private DataSize maxDiskUsage = DataSize.ofGigabytes(1);
+
+    /**
+     * 재전송 주기를 마친 뒤 다음 주기까지 대기 시간
+     */
+    private Duration drainInterval = Duration.ofSeconds(1);
+
+    /**
+     * 한 번에 읽어 재전송하는 레코드 수
+     */
+    private int drainBatchSize = 500;
+
+    /**
+     * 한 주기에서 처리할 최대 배치 수
+     */
+    private int maxBatchesPerCycle = 100;
+
+    /**
+     * 재전송 배치의 전송 확인을 기다리는 최대 시간
+     */
+    private Duration sendTimeout = Duration.ofSeconds(10);
+
+    private Duration maxBlock = Duration.ofMillis(500);
+
+    private Duration requestTimeout = Duration.ofSeconds(5);
+
+    private Duration deliveryTimeout = Duration.ofSeconds(15);
+
+    /**
+     * 스풀 사용 시 이벤트 프로듀서에 덮어쓸 설정
+     * 기본값(max.block 60초, delivery.timeout 120초)이면 장애 동안 요청 스레드가 버퍼 대기로 막히므로 짧게 줄인다.
+     */
+    public Map<String, Object> producerOverrides() {
+        return Map.of(
+                ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlock.toMillis(),
+                ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, (int) requestTimeout.toMillis(),
+                ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, (int) deliveryTimeout.toMillis());
+    }
+}
@@ -0,0 +1,77 @@
+package com.commerce.infrastructure.kafka.spool;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeader;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스풀에 보관하는 전송 단위
+ * 값과 헤더는 프로듀서 직렬화기를 거친 그대로 보관하여, 재전송 시 인코딩(JSON/Avro)과 타입 헤더가 직접 발행과 같다.
+ */
+public record SpoolRecord(String topic, String key, List<Header> headers, byte[] value) {
+
+    public byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128 + (value != null ? value.length : 0));
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(topic);
+            out.writeBoolean(key != null);
+            if (key != null) {
+                out.writeUTF(key);
+            }
+            out.writeShort(headers.size());
+            for (Header header : headers) {
+                out.writeUTF(header.key());
+                writeBytes(out, header.value());
+            }
+            writeBytes(out, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static SpoolRecord decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            String topic = in.readUTF();
+            String key = in.readBoolean() ? in.readUTF() : null;
+            int headerCount = in.readUnsignedShort();
+            List<Header> headers = new ArrayList<>(headerCount);
+            for (int i = 0; i < headerCount; i++) {
+                headers.add(new RecordHeader(in.readUTF(), readBytes(in)));
+            }
+            return new SpoolRecord(topic, key, headers, readBytes(in));
+        } catch (IOException e) {
+            throw new UncheckedIOException("스풀 레코드 해석 실패", e);
+        }
+    }
+
+    public ProducerRecord<String, byte[]> toProducerRecord() {
+        return new ProducerRecord<>(topic, null, key, value, headers);
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes != null ? bytes.length : -1);
+        if (bytes != null) {
+            out.write(bytes);
+        }
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
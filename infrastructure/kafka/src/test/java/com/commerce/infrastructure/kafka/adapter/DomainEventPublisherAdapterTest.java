@@ -2,6 +2,7 @@ package com.commerce.infrastructure.kafka.adapter;
 
 import com.commerce.customer.core.domain.event.AccountActivatedEvent;
 import com.commerce.customer.core.domain.event.AccountCreatedEvent;
+import com.commerce.customer.core.domain.event.AccountDormantEvent;
 import com.commerce.customer.core.domain.model.AccountId;
 import com.commerce.customer.core.domain.model.CustomerId;
 import com.commerce.customer.core.domain.model.Email;
@@ -14,6 +15,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -43,10 +45,10 @@ class DomainEventPublisherAdapterTest {
         );
 
         // when
-        adapter.publishAccountCreatedEvent(event);
+        adapter.publish(List.of(event));
 
         // then
-        verify(kafkaEventPublisher).publishAccountCreatedEvent(event);
+        verify(kafkaEventPublisher).publish(List.of(event));
         verifyNoMoreInteractions(kafkaEventPublisher);
     }
 
@@ -60,15 +62,32 @@ class DomainEventPublisherAdapterTest {
         );
 
         // when
-        adapter.publishAccountActivatedEvent(event);
+        adapter.publish(List.of(event));
 
         // then
-        verify(kafkaEventPublisher).publishAccountActivatedEvent(event);
+        verify(kafkaEventPublisher).publish(List.of(event));
         verifyNoMoreInteractions(kafkaEventPublisher);
     }
 
     @Test
-    @DisplayName("여러 이벤트를 순차적으로 발행한다")
+    @DisplayName("휴면 전환 이벤트 묶음을 Kafka로 발행한다")
+    void publishAccountDormantEvents_ShouldDelegateToKafkaEventPublisher() {
+        // given
+        List<AccountDormantEvent> events = List.of(
+                AccountDormantEvent.of(AccountId.of(1L), CustomerId.of(1L), LocalDateTime.of(2023, 1, 1, 9, 0)),
+                AccountDormantEvent.of(AccountId.of(2L), CustomerId.of(2L), null)
+        );
+
+        // when
+        adapter.publish(events);
+
+        // then
+        verify(kafkaEventPublisher).publish(events);
+        verifyNoMoreInteractions(kafkaEventPublisher);
+    }
+
+    @Test
+    @DisplayName("여러 이벤트를 한 번의 호출로 넘긴다")
     void publishMultipleEvents_ShouldDelegateAllToKafkaEventPublisher() {
         // given
         AccountCreatedEvent createdEvent = new AccountCreatedEvent(
@@ -84,12 +103,10 @@ class DomainEventPublisherAdapterTest {
         );
 
         // when
-        adapter.publishAccountCreatedEvent(createdEvent);
-        adapter.publishAccountActivatedEvent(activatedEvent);
+        adapter.publish(List.of(createdEvent, activatedEvent));
 
         // then
-        verify(kafkaEventPublisher).publishAccountCreatedEvent(createdEvent);
-        verify(kafkaEventPublisher).publishAccountActivatedEvent(activatedEvent);
+        verify(kafkaEventPublisher).publish(List.of(createdEvent, activatedEvent));
         verifyNoMoreInteractions(kafkaEventPublisher);
     }
 }
\ No newline at end of file
@@ -0,0 +1,201 @@
+package com.commerce.infrastructure.kafka.avro;
+
+import com.commerce.customer.core.domain.event.AccountActivatedEvent;
+import com.commerce.customer.core.domain.event.AccountCreatedEvent;
+import com.commerce.customer.core.domain.event.AccountDormantEvent;
+import com.commerce.customer.core.domain.event.ProfileChangeType;
+import com.commerce.customer.core.domain.event.ProfileChangedEvent;
+import com.commerce.customer.core.domain.model.AccountId;
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.Email;
+import com.commerce.customer.core.domain.model.profile.AddressId;
+import com.commerce.customer.core.domain.model.profile.ProfileId;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AvroEventSerializerTest {
+
+    private final SchemaRegistry registry = LocalSchemaRegistry.load(LocalSchemaRegistry.DEFAULT_INDEX);
+    private final AvroEventSerializer serializer = new AvroEventSerializer(registry);
+    private final AvroEventDeserializer deserializer = new AvroEventDeserializer(registry);
+
+    @Test
+    @DisplayName("계정 생성 이벤트를 스키마 id 봉투와 함께 직렬화하고 컨슈머가 같은 값으로 읽는다")
+    void accountCreated_RoundTrip() {
+        // given
+        AccountCreatedEvent event = new AccountCreatedEvent(AccountId.of(123L), CustomerId.of(456L),
+                Email.of("test@example.com"), "ACTIVATE123");
+
+        // when
+        byte[] value = serializer.serialize("customer.account.created", event);
+        GenericRecord record = deserializer.deserialize("customer.account.created", value);
+
+        // then
+        assertThat(value[0]).isEqualTo(AvroEnvelope.MAGIC_BYTE);
+        assertThat(AvroEnvelope.schemaId(value)).isEqualTo(registry.latest(AccountEventRecords.ACCOUNT_CREATED).id());
+        assertThat(record.get("accountId")).isEqualTo(123L);
+        assertThat(record.get("customerId")).isEqualTo(456L);
+        assertThat(record.get("email").toString()).isEqualTo("test@example.com");
+        assertThat(record.get("activationCode").toString()).isEqualTo("ACTIVATE123");
+        assertThat(AccountEventRecords.toLocalDateTime(record.get("occurredAt")))
+                .isEqualTo(event.getOccurredAt().truncatedTo(ChronoUnit.MILLIS));
+    }
+
+    @Test
+    @DisplayName("활성화/휴면 이벤트도 각 subject 스키마로 직렬화되고 nullable 일시를 유지한다")
+    void activatedAndDormant_RoundTrip() {
+        // given
+        AccountActivatedEvent activated = AccountActivatedEvent.of(AccountId.of(1L), CustomerId.of(2L));
+        AccountDormantEvent dormant = AccountDormantEvent.of(AccountId.of(3L), CustomerId.of(4L), null);
+        AccountDormantEvent dormantWithLogin = AccountDormantEvent.of(AccountId.of(5L), CustomerId.of(6L),
+                LocalDateTime.of(2023, 1, 2, 3, 4, 5));
+
+        // when
+        GenericRecord activatedRecord = deserializer.deserialize("t", serializer.serialize("t", activated));
+        GenericRecord dormantRecord = deserializer.deserialize("t", serializer.serialize("t", dormant));
+        GenericRecord dormantWithLoginRecord = deserializer.deserialize("t", serializer.serialize("t", dormantWithLogin));
+
+        // then
+        assertThat(activatedRecord.getSchema().getFullName()).isEqualTo(AccountEventRecords.ACCOUNT_ACTIVATED);
+        assertThat(activatedRecord.get("accountId")).isEqualTo(1L);
+        assertThat(dormantRecord.getSchema().getFullName()).isEqualTo(AccountEventRecords.ACCOUNT_DORMANT);
+        assertThat(dormantRecord.get("lastLoginAt")).isNull();
+        assertThat(AccountEventRecords.toLocalDateTime(dormantWithLoginRecord.get("lastLoginAt")))
+                .isEqualTo(LocalDateTime.of(2023, 1, 2, 3, 4, 5));
+    }
+
+    @Test
+    @DisplayName("Avro 봉투 레코드는 JSON(타입 헤더 포함) 레코드의 1/3보다 작다")
+    void envelope_IsSmallerThanJson() {
+        // given
+        Serializer<Object> json = new JsonSerializer<>();
+        List<Object> events = List.of(
+                new AccountCreatedEvent(AccountId.of(1_234_567L), CustomerId.of(7_654_321L),
+                        Email.of("signup.burst@example.com"), "A1B2C3D4E5F6"),
+                AccountActivatedEvent.of(AccountId.of(1_234_567L), CustomerId.of(7_654_321L)));
+
+        for (Object event : events) {
+            // when
+            int jsonBytes = recordBytes(json, event);
+            int avroBytes = recordBytes(serializer, event);
+
+            // then
+            assertThat(avroBytes).isLessThan(jsonBytes / 3);
+        }
+    }
+
+    @Test
+    @DisplayName("합쳐진 프로필 변경 이벤트는 변경 항목과 주소 ID를 배열로 직렬화한다")
+    void profileChanged_RoundTrip() {
+        // given
+        ProfileChangedEvent event = ProfileChangedEvent.of(ProfileId.of(7L), CustomerId.of(8L),
+                        ProfileChangeType.PERSONAL_INFO)
+                .mergedWith(ProfileChangedEvent.of(ProfileId.of(7L), CustomerId.of(8L),
+                        ProfileChangeType.ADDRESS_ADDED, AddressId.of(99L)));
+
+        // when
+        GenericRecord record = deserializer.deserialize("customer.profile.changed",
+                serializer.serialize("customer.profile.changed", event));
+
+        // then
+        assertThat(record.getSchema().getFullName()).isEqualTo(AccountEventRecords.PROFILE_CHANGED);
+        assertThat(record.get("profileId")).isEqualTo(7L);
+        assertThat(record.get("customerId")).isEqualTo(8L);
+        assertThat(((List<?>) record.get("changes")).stream().map(Object::toString))
+                .containsExactly("PERSONAL_INFO", "ADDRESS_ADDED");
+        assertThat(record.get("addressIds")).isEqualTo(List.of(99L));
+        assertThat(record.get("changeCount")).isEqualTo(2);
+        assertThat(AccountEventRecords.toLocalDateTime(record.get("firstChangedAt")))
+                .isEqualTo(event.getFirstChangedAt().truncatedTo(ChronoUnit.MILLIS));
+    }
+
+    @Test
+    @DisplayName("옛 버전으로 쓴 값은 최신 스키마로 읽히고 추가된 필드는 기본값을 갖는다")
+    void deserialize_ResolvesOldWriterSchemaToLatest() {
+        // given
+        SchemaRegistry evolved = LocalSchemaRegistry.load("classpath:avro-evolution/schemas.index");
+        RegisteredSchema v1 = evolved.byId(2);
+        byte[] writtenWithV1 = new AvroEventSerializer(new FixedSchemaRegistry(v1))
+                .serialize("t", AccountActivatedEvent.of(AccountId.of(7L), CustomerId.of(8L)));
+
+        // when
+        GenericRecord record = new AvroEventDeserializer(evolved).deserialize("t", writtenWithV1);
+
+        // then
+        assertThat(AvroEnvelope.schemaId(writtenWithV1)).isEqualTo(2);
+        assertThat(evolved.latest(AccountEventRecords.ACCOUNT_ACTIVATED).version()).isEqualTo(2);
+        assertThat(record.get("accountId")).isEqualTo(7L);
+        assertThat(record.get("channel").toString()).isEqualTo("WEB");
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 스키마 id나 봉투가 아닌 값은 역직렬화 예외가 된다")
+    void deserialize_RejectsUnknownSchemaAndNonEnvelope() {
+        // given
+        byte[] unknownId = AvroEnvelope.header(999);
+        byte[] json = "{\"accountId\":{\"value\":1}}".getBytes();
+
+        // when & then
+        assertThatThrownBy(() -> deserializer.deserialize("t", unknownId))
+                .isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> deserializer.deserialize("t", json))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("기본 생성자는 프로듀서 설정의 색인 위치로 레지스트리를 읽는다")
+    void configure_LoadsRegistryFromConfig() {
+        // given
+        AvroEventSerializer configured = new AvroEventSerializer();
+
+        // when
+        configured.configure(Map.of(AvroEventSerializer.SCHEMA_INDEX_CONFIG, LocalSchemaRegistry.DEFAULT_INDEX), false);
+
+        // then
+        byte[] value = configured.serialize("t", AccountActivatedEvent.of(AccountId.of(1L), CustomerId.of(1L)));
+        assertThat(deserializer.deserialize("t", value).get("customerId")).isEqualTo(1L);
+    }
+
+    /**
+     * 값 + 헤더(키/값) 바이트 수
+     */
+    private static int recordBytes(Serializer<Object> serializer, Object event) {
+        RecordHeaders headers = new RecordHeaders();
+        byte[] value = serializer.serialize("customer.account", headers, event);
+        int headerBytes = 0;
+        for (Header header : headers) {
+            headerBytes += header.key().length() + header.value().length;
+        }
+        return value.length + headerBytes;
+    }
+
+    /**
+     * 특정 버전을 최신으로 간주하는 레지스트리 (구 버전 프로듀서 흉내)
+     */
+    private record FixedSchemaRegistry(RegisteredSchema schema) implements SchemaRegistry {
+
+        @Override
+        public RegisteredSchema byId(int id) {
+            return schema;
+        }
+
+        @Override
+        public RegisteredSchema latest(String subject) {
+            return schema;
+        }
+    }
+}
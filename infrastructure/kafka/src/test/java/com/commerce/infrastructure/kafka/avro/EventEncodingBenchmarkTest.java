@@ -0,0 +1,81 @@
+package com.commerce.infrastructure.kafka.avro;
+
+import com.commerce.customer.core.domain.event.AccountActivatedEvent;
+import com.commerce.customer.core.domain.event.AccountCreatedEvent;
+import com.commerce.customer.core.domain.model.AccountId;
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.Email;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 현재 JSON(JsonSerializer + 타입 헤더)과 Avro 봉투 인코딩의 레코드 크기/직렬화 CPU 비교
+ * 기본 test 태스크에서는 제외되며 publishPerfTest 태스크로 실행한다.
+ * 크기 비교의 회귀 검증은 AvroEventSerializerTest가 맡는다.
+ */
+@Tag("performance")
+@DisplayName("이벤트 인코딩 크기/CPU 벤치마크")
+class EventEncodingBenchmarkTest {
+
+    private static final int WARM_UP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    @Test
+    @DisplayName("JSON과 Avro 봉투의 레코드 크기와 직렬화 비용을 보고한다")
+    void compareJsonAndAvro() {
+        // Given
+        Serializer<Object> json = new JsonSerializer<>();
+        Serializer<Object> avro = new AvroEventSerializer(LocalSchemaRegistry.load(LocalSchemaRegistry.DEFAULT_INDEX));
+        List<Object> events = List.of(
+            new AccountCreatedEvent(AccountId.of(1_234_567L), CustomerId.of(7_654_321L),
+                Email.of("signup.burst@example.com"), "A1B2C3D4E5F6"),
+            AccountActivatedEvent.of(AccountId.of(1_234_567L), CustomerId.of(7_654_321L)));
+
+        // When & Then
+        System.out.printf("%-24s %10s %10s %12s %12s%n", "event", "json(B)", "avro(B)", "json(ns/op)", "avro(ns/op)");
+        for (Object event : events) {
+            int jsonBytes = recordBytes(json, event);
+            int avroBytes = recordBytes(avro, event);
+            double jsonNanos = nanosPerOp(json, event);
+            double avroNanos = nanosPerOp(avro, event);
+            System.out.printf("%-24s %10d %10d %12.0f %12.0f%n",
+                event.getClass().getSimpleName(), jsonBytes, avroBytes, jsonNanos, avroNanos);
+        }
+    }
+
+    /**
+     * 값 + 헤더(키/값) 바이트 수
+     */
+    private static int recordBytes(Serializer<Object> serializer, Object event) {
+        RecordHeaders headers = new RecordHeaders();
+        byte[] value = serializer.serialize("customer.account", headers, event);
+        int headerBytes = 0;
+        for (Header header : headers) {
+            headerBytes += header.key().length() + header.value().length;
+        }
+        return value.length + headerBytes;
+    }
+
+    private static double nanosPerOp(Serializer<Object> serializer, Object event) {
+        long sink = 0;
+        for (int i = 0; i < WARM_UP; i++) {
+            sink += serializer.serialize("customer.account", new RecordHeaders(), event).length;
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += serializer.serialize("customer.account", new RecordHeaders(), event).length;
+        }
+        long elapsed = System.nanoTime() - started;
+        assertThat(sink).isPositive();
+        return (double) elapsed / ITERATIONS;
+    }
+}
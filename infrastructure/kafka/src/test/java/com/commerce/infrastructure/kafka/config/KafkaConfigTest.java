@@ -1,5 +1,10 @@
 package com.commerce.infrastructure.kafka.config;
 
+import com.commerce.customer.core.domain.event.DomainEventTopics;
+import com.commerce.infrastructure.kafka.avro.AvroEventSerializer;
+import com.commerce.infrastructure.kafka.avro.LocalSchemaRegistry;
+import com.commerce.infrastructure.kafka.producer.ProducerProfileProperties;
+import com.commerce.infrastructure.kafka.producer.ProfileRoutingKafkaTemplate;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,10 +17,13 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
 
+import java.time.Duration;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @ExtendWith(MockitoExtension.class)
 class KafkaConfigTest {
@@ -119,4 +127,78 @@ class KafkaConfigTest {
         assertThat(configs.get(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG)).isEqualTo(StringSerializer.class);
         assertThat(configs.get(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG)).isEqualTo(JsonSerializer.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("기본 프로필의 linger/배치/압축 설정이 적용된다")
+    void producerFactory_ShouldApplyDefaultProfile() {
+        // when
+        ProducerFactory<String, Object> producerFactory = kafkaConfig.producerFactory();
+
+        // then
+        Map<String, Object> configs = ((DefaultKafkaProducerFactory<String, Object>) producerFactory).getConfigurationProperties();
+        assertThat(configs.get(ProducerConfig.LINGER_MS_CONFIG)).isEqualTo(5);
+        assertThat(configs.get(ProducerConfig.BATCH_SIZE_CONFIG)).isEqualTo(64 * 1024);
+        assertThat(configs.get(ProducerConfig.COMPRESSION_TYPE_CONFIG)).isEqualTo("lz4");
+        assertThat(configs.get(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("토픽에 매핑된 프로필의 프로듀서로 라우팅된다")
+    void kafkaTemplate_ShouldRouteTopicsToProfiles() {
+        // given
+        ProducerProfileProperties properties = new ProducerProfileProperties();
+        ProducerProfileProperties.Profile burst = new ProducerProfileProperties.Profile();
+        burst.setLinger(Duration.ofMillis(20));
+        burst.setBatchSize(DataSize.ofKilobytes(256));
+        burst.setCompression("zstd");
+        properties.getProfiles().put("burst", burst);
+        properties.getTopics().put(DomainEventTopics.ACCOUNT_CREATED, "burst");
+        properties.getTopics().put(DomainEventTopics.ACCOUNT_DORMANT, "burst");
+        ReflectionTestUtils.setField(kafkaConfig, "producerProfileProperties", properties);
+
+        // when
+        ProfileRoutingKafkaTemplate<Object> kafkaTemplate = (ProfileRoutingKafkaTemplate<Object>) kafkaConfig.kafkaTemplate();
+
+        // then
+        ProducerFactory<String, Object> created = kafkaTemplate.factoriesByTopic().get(DomainEventTopics.ACCOUNT_CREATED);
+        assertThat(created).isSameAs(kafkaTemplate.factoriesByTopic().get(DomainEventTopics.ACCOUNT_DORMANT));
+        assertThat(kafkaTemplate.factoriesByTopic()).doesNotContainKey(DomainEventTopics.ACCOUNT_ACTIVATED);
+
+        Map<String, Object> configs = ((DefaultKafkaProducerFactory<String, Object>) created).getConfigurationProperties();
+        assertThat(configs.get(ProducerConfig.LINGER_MS_CONFIG)).isEqualTo(20);
+        assertThat(configs.get(ProducerConfig.BATCH_SIZE_CONFIG)).isEqualTo(256 * 1024);
+        assertThat(configs.get(ProducerConfig.COMPRESSION_TYPE_CONFIG)).isEqualTo("zstd");
+        assertThat(configs.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG)).isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("멱등 프로듀서 한도를 넘는 max-in-flight는 거부된다")
+    void producerFactory_ShouldRejectMaxInFlightOverIdempotenceLimit() {
+        // given
+        ProducerProfileProperties properties = new ProducerProfileProperties();
+        properties.profile(ProducerProfileProperties.DEFAULT_PROFILE).setMaxInFlight(10);
+        ReflectionTestUtils.setField(kafkaConfig, "producerProfileProperties", properties);
+
+        // when & then
+        assertThatThrownBy(() -> kafkaConfig.producerFactory())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("max-in-flight");
+    }
+
+    @Test
+    @DisplayName("avro 인코딩을 선택하면 Avro 봉투 직렬화기와 스키마 색인 위치가 설정된다")
+    void producerFactory_ShouldUseAvroSerializerWhenConfigured() {
+        // given
+        ProducerProfileProperties properties = new ProducerProfileProperties();
+        properties.setEncoding(ProducerProfileProperties.Encoding.AVRO);
+        ReflectionTestUtils.setField(kafkaConfig, "producerProfileProperties", properties);
+
+        // when
+        ProducerFactory<String, Object> producerFactory = kafkaConfig.producerFactory();
+
+        // then
+        Map<String, Object> configs = ((DefaultKafkaProducerFactory<String, Object>) producerFactory).getConfigurationProperties();
+        assertThat(configs.get(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG)).isEqualTo(AvroEventSerializer.class);
+        assertThat(configs.get(AvroEventSerializer.SCHEMA_INDEX_CONFIG)).isEqualTo(LocalSchemaRegistry.DEFAULT_INDEX);
+    }
+}
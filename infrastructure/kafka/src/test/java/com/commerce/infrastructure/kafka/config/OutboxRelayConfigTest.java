@@ -0,0 +1,51 @@
+package com.commerce.infrastructure.kafka.config;
+
+import com.commerce.infrastructure.kafka.producer.ProducerProfileProperties;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("아웃박스 릴레이 설정 테스트")
+class OutboxRelayConfigTest {
+
+    private OutboxRelayConfig outboxRelayConfig;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelayConfig = new OutboxRelayConfig();
+        ReflectionTestUtils.setField(outboxRelayConfig, "bootstrapServers", "localhost:9092");
+    }
+
+    @Test
+    @DisplayName("JSON 인코딩이면 저장된 본문을 StringSerializer로 보내는 팩토리를 만든다")
+    void outboxProducerFactory_UsesStringSerializerForJson() {
+        // when
+        ProducerFactory<String, String> producerFactory =
+                outboxRelayConfig.outboxProducerFactory(new ProducerProfileProperties());
+
+        // then
+        assertThat(((DefaultKafkaProducerFactory<String, String>) producerFactory).getConfigurationProperties()
+                .get(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG)).isEqualTo(StringSerializer.class);
+    }
+
+    @Test
+    @DisplayName("Avro 인코딩과 함께 켜면 기동에 실패한다")
+    void outboxProducerFactory_RejectsAvroEncoding() {
+        // given
+        ProducerProfileProperties properties = new ProducerProfileProperties();
+        properties.setEncoding(ProducerProfileProperties.Encoding.AVRO);
+
+        // when & then
+        assertThatThrownBy(() -> outboxRelayConfig.outboxProducerFactory(properties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("commerce.kafka.producer.encoding=avro");
+    }
+}
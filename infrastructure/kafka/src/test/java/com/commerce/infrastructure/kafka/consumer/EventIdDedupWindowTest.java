@@ -0,0 +1,54 @@
+package com.commerce.infrastructure.kafka.consumer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("이벤트 ID 중복 판별 창 테스트")
+class EventIdDedupWindowTest {
+
+    @Test
+    @DisplayName("반영 완료로 기억한 ID만 중복으로 판별한다")
+    void contains_OnlyMarkedIds() {
+        // Given
+        EventIdDedupWindow window = new EventIdDedupWindow(10);
+
+        // When
+        window.markAll(List.of("evt-1", "evt-2", "evt-1"));
+
+        // Then
+        assertThat(window.contains("evt-1")).isTrue();
+        assertThat(window.contains("evt-2")).isTrue();
+        assertThat(window.contains("evt-3")).isFalse();
+        assertThat(window.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("창이 가득 차면 가장 오래된 ID부터 잊고, 남은 ID는 계속 찾을 수 있다")
+    void markAll_EvictsOldestFirst() {
+        // Given
+        EventIdDedupWindow window = new EventIdDedupWindow(1_000);
+        List<String> ids = IntStream.range(0, 5_000).mapToObj(i -> UUID.randomUUID().toString()).toList();
+
+        // When
+        window.markAll(ids);
+
+        // Then
+        assertThat(window.size()).isEqualTo(1_000);
+        assertThat(ids.subList(0, 4_000)).noneMatch(window::contains);
+        assertThat(ids.subList(4_000, 5_000)).allMatch(window::contains);
+    }
+
+    @Test
+    @DisplayName("창 크기가 0 이하이면 예외가 발생한다")
+    void constructor_InvalidCapacity() {
+        assertThatThrownBy(() -> new EventIdDedupWindow(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
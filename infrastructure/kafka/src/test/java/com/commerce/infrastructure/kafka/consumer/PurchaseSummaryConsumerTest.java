@@ -0,0 +1,323 @@
+package com.commerce.infrastructure.kafka.consumer;
+
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.purchase.PurchaseSummary;
+import com.commerce.customer.core.domain.model.purchase.PurchaseSummaryDelta;
+import com.commerce.customer.core.domain.repository.purchase.ProcessedOrderEventRepository;
+import com.commerce.customer.core.domain.repository.purchase.PurchaseSummaryRepository;
+import com.commerce.infrastructure.kafka.config.PurchaseSummaryConsumerConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EmbeddedKafka(partitions = 3)
+@DisplayName("주문 완료 이벤트 구매 집계 컨슈머 임베디드 Kafka 테스트")
+class PurchaseSummaryConsumerTest {
+
+    private static final int PARTITIONS = 3;
+    private static final LocalDateTime COMPLETED_AT = LocalDateTime.of(2024, 6, 1, 9, 0);
+
+    private final InMemoryPurchaseSummaryRepository repository = new InMemoryPurchaseSummaryRepository();
+    private final InMemoryProcessedOrderEventRepository processedEvents = new InMemoryProcessedOrderEventRepository();
+    private final EventIdDedupWindow dedupWindow = new EventIdDedupWindow(10_000);
+    private final PurchaseSummaryConsumerMetrics metrics = new PurchaseSummaryConsumerMetrics(dedupWindow);
+    private final PurchaseSummaryConsumerProperties properties = new PurchaseSummaryConsumerProperties();
+
+    private EmbeddedKafkaBroker broker;
+    private DefaultKafkaProducerFactory<String, String> producerFactory;
+    private KafkaTemplate<String, String> orderTemplate;
+    private ConcurrentMessageListenerContainer<String, OrderCompletedEvent> container;
+
+    @BeforeEach
+    void setUp(EmbeddedKafkaBroker broker) {
+        this.broker = broker;
+        // 테스트마다 새 토픽을 만들어 앞선 테스트의 레코드를 읽지 않게 한다
+        properties.setTopic("order.completed." + UUID.randomUUID());
+        properties.setGroupId("purchase-summary-" + UUID.randomUUID());
+        properties.setConcurrency(PARTITIONS);
+        properties.setRetryInterval(Duration.ofMillis(100));
+        broker.addTopics(new NewTopic(properties.getTopic(), PARTITIONS, (short) 1));
+
+        producerFactory = new DefaultKafkaProducerFactory<>(Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.LINGER_MS_CONFIG, 5));
+        orderTemplate = new KafkaTemplate<>(producerFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (container != null) {
+            container.stop();
+        }
+        producerFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("파티션별로 병렬 배치 소비하여 고객별 주문 수/누적 금액/최근 주문일/주요 카테고리를 집계한다")
+    void consume_AggregatesPerCustomerAcrossPartitions() {
+        // Given
+        int customers = 30;
+        int ordersPerCustomer = 100;
+        startContainer();
+
+        // When
+        for (int order = 0; order < ordersPerCustomer; order++) {
+            for (long customerId = 1; customerId <= customers; customerId++) {
+                String category = order % 4 == 0 ? "beauty" : "fashion";
+                send(UUID.randomUUID().toString(), customerId, "1000.00", COMPLETED_AT.plusMinutes(order), category);
+            }
+        }
+        orderTemplate.flush();
+        awaitUntil(() -> metrics.applied() == (long) customers * ordersPerCustomer);
+
+        // Then
+        assertThat(metrics.received()).isEqualTo(customers * ordersPerCustomer);
+        assertThat(metrics.duplicates()).isZero();
+        assertThat(metrics.invalid()).isZero();
+        assertThat(metrics.batches()).isLessThan(customers * ordersPerCustomer);
+        assertThat(metrics.upsertedCustomers()).isLessThanOrEqualTo(metrics.applied());
+        assertThat(repository.listenerThreads).hasSizeGreaterThan(1);
+        assertThat(repository.upsertCalls.get()).isLessThan(customers * ordersPerCustomer);
+        for (long customerId = 1; customerId <= customers; customerId++) {
+            PurchaseSummary summary = repository.findByCustomerId(CustomerId.of(customerId), 2).orElseThrow();
+            assertThat(summary.getOrderCount()).isEqualTo(ordersPerCustomer);
+            assertThat(summary.getTotalAmount()).isEqualByComparingTo("100000.00");
+            assertThat(summary.getAverageOrderValue()).isEqualByComparingTo("1000.00");
+            assertThat(summary.getLastOrderedAt()).isEqualTo(COMPLETED_AT.plusMinutes(ordersPerCustomer - 1));
+            assertThat(summary.getTopCategories()).containsExactly("fashion", "beauty");
+        }
+    }
+
+    @Test
+    @DisplayName("같은 이벤트 ID로 다시 전송된 이벤트는 건너뛰고, 읽을 수 없는 이벤트는 배치를 막지 않는다")
+    void consume_SkipsDuplicatesAndInvalidEvents() {
+        // Given
+        List<String> eventIds = IntStream.range(0, 100)
+            .mapToObj(i -> UUID.randomUUID().toString())
+            .toList();
+        startContainer();
+
+        // When
+        eventIds.forEach(eventId -> send(eventId, 7L, "500.00", COMPLETED_AT, "food"));
+        orderTemplate.flush();
+        awaitUntil(() -> metrics.applied() == 100);
+        eventIds.forEach(eventId -> send(eventId, 7L, "500.00", COMPLETED_AT, "food"));
+        orderTemplate.send(properties.getTopic(), "7", "not-json");
+        orderTemplate.send(properties.getTopic(), "7", "{\"eventId\":\"no-customer\",\"totalAmount\":1}");
+        orderTemplate.flush();
+        awaitUntil(() -> metrics.duplicates() == 100 && metrics.invalid() == 2);
+
+        // Then
+        PurchaseSummary summary = repository.findByCustomerId(CustomerId.of(7L), 5).orElseThrow();
+        assertThat(summary.getOrderCount()).isEqualTo(100);
+        assertThat(summary.getTotalAmount()).isEqualByComparingTo("50000.00");
+        assertThat(metrics.received()).isEqualTo(202);
+    }
+
+    @Test
+    @DisplayName("upsert가 실패하면 같은 배치를 다시 처리하되 이중 집계하지 않는다")
+    void consume_RetriesFailedBatchWithoutDoubleCounting() {
+        // Given
+        repository.failuresRemaining.set(2);
+        startContainer();
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            send(UUID.randomUUID().toString(), 11L, "200.00", COMPLETED_AT.plusDays(i), "digital");
+        }
+        orderTemplate.flush();
+        awaitUntil(() -> metrics.applied() == 50);
+
+        // Then
+        PurchaseSummary summary = repository.findByCustomerId(CustomerId.of(11L), 5).orElseThrow();
+        assertThat(summary.getOrderCount()).isEqualTo(50);
+        assertThat(summary.getTotalAmount()).isEqualByComparingTo("10000.00");
+        assertThat(summary.getLastOrderedAt()).isEqualTo(COMPLETED_AT.plusDays(49));
+        assertThat(repository.failuresRemaining.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시작 후 다시 전달된 이벤트는 메모리 중복 판별 창이 비어 있어도 반영 기록으로 걸러 이중 집계하지 않는다")
+    void consume_SkipsRedeliveredEventsAfterRestart() {
+        // Given
+        List<String> eventIds = IntStream.range(0, 50)
+            .mapToObj(i -> UUID.randomUUID().toString())
+            .toList();
+        startContainer();
+        eventIds.forEach(eventId -> send(eventId, 21L, "300.00", COMPLETED_AT, "sports"));
+        orderTemplate.flush();
+        awaitUntil(() -> metrics.applied() == 50);
+        container.stop();
+
+        // When
+        startContainer(new EventIdDedupWindow(10_000));
+        eventIds.forEach(eventId -> send(eventId, 21L, "300.00", COMPLETED_AT, "sports"));
+        orderTemplate.flush();
+        awaitUntil(() -> metrics.duplicates() == 50);
+
+        // Then
+        PurchaseSummary summary = repository.findByCustomerId(CustomerId.of(21L), 5).orElseThrow();
+        assertThat(summary.getOrderCount()).isEqualTo(50);
+        assertThat(summary.getTotalAmount()).isEqualByComparingTo("15000.00");
+        assertThat(metrics.applied()).isEqualTo(50);
+        assertThat(metrics.received()).isEqualTo(100);
+    }
+
+    private void startContainer() {
+        startContainer(dedupWindow);
+    }
+
+    private void startContainer(EventIdDedupWindow window) {
+        PurchaseSummaryBatchListener listener = new PurchaseSummaryBatchListener(repository, processedEvents,
+                processedEvents, window, metrics);
+        container = new PurchaseSummaryConsumerConfig().purchaseSummaryListenerContainer(
+                PurchaseSummaryConsumerConfig.consumerFactory(properties.consumerConfigs(broker.getBrokersAsString())),
+                listener, properties);
+        container.start();
+        // 첫 컨슈머가 모든 파티션을 잡았다가 재분배되기 전에 전송하지 않도록, 스레드마다 파티션을 받을 때까지 대기
+        awaitUntil(() -> container.getContainers().stream()
+            .allMatch(child -> child.getAssignedPartitions() != null && !child.getAssignedPartitions().isEmpty()));
+    }
+
+    private void send(String eventId, long customerId, String amount, LocalDateTime completedAt, String category) {
+        String payload = """
+                {"eventId":"%s","orderId":%d,"customerId":%d,"totalAmount":%s,"categories":["%s","%s"],"completedAt":"%s"}"""
+                .formatted(eventId, Math.abs(eventId.hashCode()), customerId, amount, category, category, completedAt);
+        orderTemplate.send(properties.getTopic(), String.valueOf(customerId), payload);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("조건 대기 시간 초과").isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * 고객별 누적값을 메모리에 보관하는 테스트용 저장소 (DB upsert와 같은 덧셈 의미)
+     */
+    static class InMemoryPurchaseSummaryRepository implements PurchaseSummaryRepository {
+
+        private final Map<Long, Totals> totals = new ConcurrentHashMap<>();
+        final Set<String> listenerThreads = ConcurrentHashMap.newKeySet();
+        final AtomicInteger upsertCalls = new AtomicInteger();
+        final AtomicInteger failuresRemaining = new AtomicInteger();
+
+        @Override
+        public int upsertAll(Collection<PurchaseSummaryDelta> deltas) {
+            if (failuresRemaining.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                throw new IllegalStateException("upsert 실패 (테스트)");
+            }
+            listenerThreads.add(Thread.currentThread().getName());
+            upsertCalls.incrementAndGet();
+            deltas.forEach(delta -> totals.computeIfAbsent(delta.getCustomerId().getValue(), id -> new Totals()).add(delta));
+            return deltas.size();
+        }
+
+        @Override
+        public Optional<PurchaseSummary> findByCustomerId(CustomerId customerId, int topCategories) {
+            return Optional.ofNullable(totals.get(customerId.getValue()))
+                .map(total -> total.toSummary(customerId.getValue(), topCategories));
+        }
+    }
+
+    /**
+     * 트랜잭션 안에서 기록한 이벤트 ID를 커밋할 때만 남기는 테스트용 반영 기록 (콜백이 예외로 끝나면 기록도 취소)
+     */
+    static class InMemoryProcessedOrderEventRepository implements ProcessedOrderEventRepository, TransactionOperations {
+
+        private final Set<String> committed = ConcurrentHashMap.newKeySet();
+        private final ThreadLocal<Set<String>> pending = ThreadLocal.withInitial(HashSet::new);
+
+        @Override
+        public Set<String> claimAll(Collection<String> eventIds) {
+            Set<String> claimed = new LinkedHashSet<>();
+            for (String eventId : eventIds) {
+                if (!committed.contains(eventId) && pending.get().add(eventId)) {
+                    claimed.add(eventId);
+                }
+            }
+            return claimed;
+        }
+
+        @Override
+        public <T> T execute(TransactionCallback<T> action) {
+            try {
+                T result = action.doInTransaction(new SimpleTransactionStatus());
+                committed.addAll(pending.get());
+                return result;
+            } finally {
+                pending.get().clear();
+            }
+        }
+    }
+
+    static class Totals {
+        private long orderCount;
+        private BigDecimal totalAmount = BigDecimal.ZERO;
+        private LocalDateTime lastOrderedAt;
+        private final Map<String, Long> categories = new HashMap<>();
+
+        synchronized void add(PurchaseSummaryDelta delta) {
+            orderCount += delta.getOrderCount();
+            totalAmount = totalAmount.add(delta.getTotalAmount());
+            if (lastOrderedAt == null || delta.getLastOrderedAt().isAfter(lastOrderedAt)) {
+                lastOrderedAt = delta.getLastOrderedAt();
+            }
+            delta.getCategoryOrderCounts().forEach((category, count) -> categories.merge(category, count, Long::sum));
+        }
+
+        synchronized PurchaseSummary toSummary(Long customerId, int topCategories) {
+            return PurchaseSummary.builder()
+                .customerId(customerId)
+                .orderCount(orderCount)
+                .totalAmount(totalAmount)
+                .lastOrderedAt(lastOrderedAt)
+                .topCategories(categories.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                    .limit(topCategories)
+                    .map(Map.Entry::getKey)
+                    .toList())
+                .build();
+        }
+    }
+}
@@ -2,11 +2,17 @@ package com.commerce.infrastructure.kafka.event;
 
 import com.commerce.customer.core.domain.event.AccountActivatedEvent;
 import com.commerce.customer.core.domain.event.AccountCreatedEvent;
+import com.commerce.customer.core.domain.event.AccountDormantEvent;
+import com.commerce.customer.core.domain.event.LoginSuccessfulEvent;
 import com.commerce.customer.core.domain.model.AccountId;
 import com.commerce.customer.core.domain.model.CustomerId;
 import com.commerce.customer.core.domain.model.Email;
+import com.commerce.infrastructure.kafka.spool.EventSpool;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.TimeoutException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,10 +23,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -33,14 +43,11 @@ class KafkaEventPublisherTest {
     @Mock
     private SendResult<String, Object> sendResult;
 
-    @Mock
-    private RecordMetadata recordMetadata;
-
     private KafkaEventPublisher kafkaEventPublisher;
 
     @BeforeEach
     void setUp() {
-        kafkaEventPublisher = new KafkaEventPublisher(kafkaTemplate);
+        kafkaEventPublisher = newPublisher(null);
     }
 
     @Test
@@ -56,11 +63,9 @@ class KafkaEventPublisherTest {
 
         CompletableFuture<SendResult<String, Object>> future = new CompletableFuture<>();
         when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(future);
-        when(sendResult.getRecordMetadata()).thenReturn(recordMetadata);
-        when(recordMetadata.offset()).thenReturn(100L);
 
         // when
-        kafkaEventPublisher.publishAccountCreatedEvent(event);
+        CompletableFuture<Void> result = kafkaEventPublisher.publish(List.of(event));
         future.complete(sendResult);
 
         // then
@@ -73,6 +78,7 @@ class KafkaEventPublisherTest {
         assertThat(topicCaptor.getValue()).isEqualTo("customer.account.created");
         assertThat(keyCaptor.getValue()).isEqualTo("123");
         assertThat(eventCaptor.getValue()).isEqualTo(event);
+        assertThat(result).isCompletedWithValue(null);
     }
 
     @Test
@@ -90,7 +96,7 @@ class KafkaEventPublisherTest {
         when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(future);
 
         // when
-        kafkaEventPublisher.publishAccountCreatedEvent(event);
+        kafkaEventPublisher.publish(List.of(event));
         future.completeExceptionally(new RuntimeException("Kafka connection failed"));
 
         // then
@@ -108,11 +114,9 @@ class KafkaEventPublisherTest {
 
         CompletableFuture<SendResult<String, Object>> future = new CompletableFuture<>();
         when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(future);
-        when(sendResult.getRecordMetadata()).thenReturn(recordMetadata);
-        when(recordMetadata.offset()).thenReturn(200L);
 
         // when
-        kafkaEventPublisher.publishAccountActivatedEvent(event);
+        CompletableFuture<Void> result = kafkaEventPublisher.publish(List.of(event));
         future.complete(sendResult);
 
         // then
@@ -125,6 +129,7 @@ class KafkaEventPublisherTest {
         assertThat(topicCaptor.getValue()).isEqualTo("customer.account.activated");
         assertThat(keyCaptor.getValue()).isEqualTo("456");
         assertThat(eventCaptor.getValue()).isEqualTo(event);
+        assertThat(result).isCompletedWithValue(null);
     }
 
     @Test
@@ -140,7 +145,7 @@ class KafkaEventPublisherTest {
         when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(future);
 
         // when
-        kafkaEventPublisher.publishAccountActivatedEvent(event);
+        kafkaEventPublisher.publish(List.of(event));
         future.completeExceptionally(new RuntimeException("Kafka broker unavailable"));
 
         // then
@@ -148,7 +153,7 @@ class KafkaEventPublisherTest {
     }
 
     @Test
-    @DisplayName("여러 이벤트를 동시에 발행할 수 있다")
+    @DisplayName("종류가 다른 이벤트를 한 번의 호출로 각 토픽에 발행한다")
     void publishMultipleEvents_ShouldPublishAllEventsIndependently() {
         // given
         AccountCreatedEvent createdEvent = new AccountCreatedEvent(
@@ -172,8 +177,7 @@ class KafkaEventPublisherTest {
                 .thenReturn(future2);
 
         // when
-        kafkaEventPublisher.publishAccountCreatedEvent(createdEvent);
-        kafkaEventPublisher.publishAccountActivatedEvent(activatedEvent);
+        kafkaEventPublisher.publish(List.of(createdEvent, activatedEvent));
 
         // then
         verify(kafkaTemplate).send("customer.account.created", "789", createdEvent);
@@ -204,11 +208,184 @@ class KafkaEventPublisherTest {
                 .thenReturn(new CompletableFuture<>());
 
         // when
-        kafkaEventPublisher.publishAccountCreatedEvent(event1);
-        kafkaEventPublisher.publishAccountActivatedEvent(event2);
+        kafkaEventPublisher.publish(List.of(event1, event2));
 
         // then
         verify(kafkaTemplate).send(anyString(), eq("999"), any());
         verify(kafkaTemplate).send(anyString(), eq("1000"), any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("휴면 전환 이벤트 묶음을 모두 전송한 뒤 반환한다")
+    void publishAccountDormantEvents_ShouldSendAllEvents() {
+        // given
+        List<AccountDormantEvent> events = List.of(
+                AccountDormantEvent.of(AccountId.of(1L), CustomerId.of(11L), LocalDateTime.of(2023, 1, 1, 9, 0)),
+                AccountDormantEvent.of(AccountId.of(2L), CustomerId.of(12L), null)
+        );
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(sendResult));
+
+        // when
+        kafkaEventPublisher.publish(events).join();
+
+        // then
+        verify(kafkaTemplate).send("customer.account.dormant", "1", events.get(0));
+        verify(kafkaTemplate).send("customer.account.dormant", "2", events.get(1));
+    }
+
+    @Test
+    @DisplayName("휴면 전환 이벤트 중 하나라도 전송에 실패하면 예외를 던진다")
+    void publishAccountDormantEvents_ShouldThrow_WhenAnySendFails() {
+        // given
+        List<AccountDormantEvent> events = List.of(
+                AccountDormantEvent.of(AccountId.of(1L), CustomerId.of(11L), null),
+                AccountDormantEvent.of(AccountId.of(2L), CustomerId.of(12L), null)
+        );
+        when(kafkaTemplate.send(anyString(), eq("1"), any()))
+                .thenReturn(CompletableFuture.completedFuture(sendResult));
+        when(kafkaTemplate.send(anyString(), eq("2"), any()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker unavailable")));
+
+        // when & then
+        assertThatThrownBy(() -> kafkaEventPublisher.publish(events).join())
+                .isInstanceOf(CompletionException.class)
+                .hasRootCauseMessage("broker unavailable");
+    }
+
+    @Test
+    @DisplayName("로그인 성공 이벤트는 전송 결과를 기다리지 않고 로그인 토픽에 적재된다")
+    void publishLoginSuccessfulEvent_ShouldNotWaitForAck() {
+        // given
+        LoginSuccessfulEvent event = new LoginSuccessfulEvent(AccountId.of(5L), CustomerId.of(55L), LocalDateTime.now());
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(new CompletableFuture<>());
+
+        // when
+        CompletableFuture<Void> result = kafkaEventPublisher.publish(List.of(event));
+
+        // then
+        assertThat(result).isNotDone();
+        verify(kafkaTemplate).send("customer.account.login-succeeded", "5", event);
+    }
+
+    @Test
+    @DisplayName("send 호출에서 바로 던져진 예외는 실패한 결과로 전달한다")
+    void publish_ShouldReturnFailedFuture_WhenSendThrows() {
+        // given
+        AccountActivatedEvent event = AccountActivatedEvent.of(AccountId.of(7L), CustomerId.of(77L));
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenThrow(new IllegalStateException("serialization failed"));
+
+        // when
+        CompletableFuture<Void> result = kafkaEventPublisher.publish(List.of(event));
+
+        // then
+        assertThat(result).isCompletedExceptionally();
+    }
+
+    @Test
+    @DisplayName("스풀에 재전송 대기 건이 있으면 브로커를 거치지 않고 스풀 뒤에 적재한다")
+    void publish_ShouldAppendToSpool_WhenSpoolEngaged() {
+        // given
+        EventSpool spool = mock(EventSpool.class);
+        KafkaEventPublisher publisher = newPublisher(spool);
+        AccountActivatedEvent event = AccountActivatedEvent.of(AccountId.of(8L), CustomerId.of(88L));
+        when(spool.isEngaged()).thenReturn(true);
+        when(spool.offer(event)).thenReturn(true);
+
+        // when
+        CompletableFuture<Void> result = publisher.publish(List.of(event));
+
+        // then
+        assertThat(result).isCompletedWithValue(null);
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("재시도 가능한 전송 실패는 스풀에 적재하고, 재시도할 수 없는 실패는 그대로 전달한다")
+    void publish_ShouldFallBackToSpool_OnlyForRetriableFailures() {
+        // given
+        EventSpool spool = mock(EventSpool.class);
+        KafkaEventPublisher publisher = newPublisher(spool);
+        AccountActivatedEvent retriable = AccountActivatedEvent.of(AccountId.of(9L), CustomerId.of(99L));
+        AccountActivatedEvent fatal = AccountActivatedEvent.of(AccountId.of(10L), CustomerId.of(100L));
+        when(spool.offer(retriable)).thenReturn(true);
+        when(kafkaTemplate.send(anyString(), eq("9"), any()))
+                .thenThrow(new TimeoutException("metadata not available"));
+        when(kafkaTemplate.send(anyString(), eq("10"), any()))
+                .thenReturn(CompletableFuture.failedFuture(new RecordTooLargeException("too large")));
+
+        // when
+        CompletableFuture<Void> spooled = publisher.publish(List.of(retriable));
+        CompletableFuture<Void> failed = publisher.publish(List.of(fatal));
+
+        // then
+        assertThat(spooled).isCompletedWithValue(null);
+        assertThat(failed).isCompletedExceptionally();
+        verify(spool, never()).offer(fatal);
+    }
+
+    @Test
+    @DisplayName("토픽별로 전송 확인 시간/크기와 예외 종류별 실패 수를 기록하고, 결과가 나오면 in-flight 자리를 돌려준다")
+    void publish_ShouldRecordPerTopicMetrics() {
+        // given
+        PublishProperties properties = new PublishProperties();
+        InFlightLimiter limiter = new InFlightLimiter(10, Duration.ofMillis(10));
+        PublishMetrics metrics = new PublishMetrics(limiter);
+        KafkaEventPublisher publisher = new KafkaEventPublisher(kafkaTemplate, null, properties, limiter, metrics);
+        AccountActivatedEvent acked = AccountActivatedEvent.of(AccountId.of(1L), CustomerId.of(11L));
+        AccountActivatedEvent failed = AccountActivatedEvent.of(AccountId.of(2L), CustomerId.of(22L));
+        CompletableFuture<SendResult<String, Object>> pending = new CompletableFuture<>();
+        when(kafkaTemplate.send(anyString(), eq("1"), any())).thenReturn(pending);
+        when(kafkaTemplate.send(anyString(), eq("2"), any()))
+                .thenReturn(CompletableFuture.failedFuture(new RecordTooLargeException("too large")));
+        when(sendResult.getRecordMetadata()).thenReturn(new RecordMetadata(
+                new TopicPartition("customer.account.activated", 0), 0L, 0, 0L, 1, 120));
+
+        // when
+        publisher.publish(List.of(acked));
+        int inFlightBeforeAck = limiter.inFlight("customer.account.activated");
+        pending.complete(sendResult);
+        publisher.publish(List.of(failed));
+
+        // then
+        assertThat(inFlightBeforeAck).isEqualTo(1);
+        assertThat(limiter.inFlight("customer.account.activated")).isZero();
+        assertThat(metrics.acked("customer.account.activated")).isEqualTo(1);
+        assertThat(metrics.failed("customer.account.activated", "RecordTooLargeException")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토픽의 전송 확인 대기 수가 상한이면 대기 후 재시도 가능한 실패로 돌려주어 스풀에 적재되게 하고, 다른 토픽은 막지 않는다")
+    void publish_ShouldApplyBackpressure_WhenInFlightLimitReached() {
+        // given
+        EventSpool spool = mock(EventSpool.class);
+        PublishProperties properties = new PublishProperties();
+        InFlightLimiter limiter = new InFlightLimiter(1, Duration.ofMillis(20));
+        PublishMetrics metrics = new PublishMetrics(limiter);
+        KafkaEventPublisher publisher = new KafkaEventPublisher(kafkaTemplate, spool, properties, limiter, metrics);
+        AccountActivatedEvent first = AccountActivatedEvent.of(AccountId.of(1L), CustomerId.of(11L));
+        AccountActivatedEvent throttled = AccountActivatedEvent.of(AccountId.of(2L), CustomerId.of(22L));
+        LoginSuccessfulEvent otherTopic = new LoginSuccessfulEvent(AccountId.of(3L), CustomerId.of(33L), LocalDateTime.now());
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(new CompletableFuture<>());
+        when(spool.offer(throttled)).thenReturn(true);
+
+        // when
+        publisher.publish(List.of(first));
+        CompletableFuture<Void> result = publisher.publish(List.of(throttled));
+        publisher.publish(List.of(otherTopic));
+
+        // then
+        assertThat(result).isCompletedWithValue(null);
+        verify(kafkaTemplate, never()).send(anyString(), eq("2"), any());
+        verify(kafkaTemplate).send("customer.account.login-succeeded", "3", otherTopic);
+        assertThat(metrics.throttled("customer.account.activated")).isEqualTo(1);
+        assertThat(metrics.failed("customer.account.activated", "TimeoutException")).isZero();
+    }
+
+    private KafkaEventPublisher newPublisher(EventSpool spool) {
+        PublishProperties properties = new PublishProperties();
+        InFlightLimiter limiter = new InFlightLimiter(properties.getMaxInFlightPerTopic(), properties.getMaxBlock());
+        return new KafkaEventPublisher(kafkaTemplate, spool, properties, limiter, new PublishMetrics(limiter));
+    }
+}
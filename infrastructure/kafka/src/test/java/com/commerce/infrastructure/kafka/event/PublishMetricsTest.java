@@ -0,0 +1,103 @@
+package com.commerce.infrastructure.kafka.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaProducerException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("도메인 이벤트 발행 지표 테스트")
+class PublishMetricsTest {
+
+    private static final String TOPIC = "customer.account.created";
+
+    @Test
+    @DisplayName("바인딩 전에 발행한 토픽도 바인딩 시 등록하고, 이후 기록은 토픽 태그별 지연/크기/실패 지표에 반영된다")
+    void bindTo_RegistersTopicsSeenBeforeAndAfterBinding() {
+        // Given
+        InFlightLimiter limiter = new InFlightLimiter(100, Duration.ofMillis(10));
+        PublishMetrics metrics = new PublishMetrics(limiter);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        metrics.recordFailed(TOPIC, new CompletionException(new TimeoutException("buffer full")));
+        limiter.acquire(TOPIC);
+
+        // When
+        metrics.bindTo(registry);
+        metrics.recordAcked(TOPIC, TimeUnit.MILLISECONDS.toNanos(8), 300);
+        metrics.recordAcked("customer.account.dormant", TimeUnit.MILLISECONDS.toNanos(2), 100);
+        metrics.recordThrottled(TOPIC);
+
+        // Then
+        assertThat(registry.get("commerce.kafka.publish.latency").tag("topic", TOPIC).timer().count()).isEqualTo(1);
+        assertThat(registry.get("commerce.kafka.publish.record.size").tag("topic", TOPIC).summary().totalAmount())
+                .isEqualTo(300);
+        assertThat(registry.get("commerce.kafka.publish.errors").tag("topic", TOPIC)
+                .tag("exception", "TimeoutException").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("commerce.kafka.publish.throttled").tag("topic", TOPIC).functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("commerce.kafka.publish.in.flight").tag("topic", TOPIC).gauge().value()).isEqualTo(1);
+        assertThat(registry.get("commerce.kafka.publish.acked").tag("topic", "customer.account.dormant")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(metrics.averageLatency(TOPIC)).isEqualTo(Duration.ofMillis(8));
+    }
+
+    @Test
+    @DisplayName("실패 원인은 감싸는 예외를 벗겨 낸 예외 종류로 분류한다")
+    void exceptionType_UnwrapsWrappers() {
+        // Given
+        TimeoutException cause = new TimeoutException("metadata");
+
+        // When & Then
+        assertThat(PublishMetrics.exceptionType(new CompletionException(
+                new KafkaProducerException(null, "send failed", cause)))).isEqualTo("TimeoutException");
+        assertThat(PublishMetrics.exceptionType(new IllegalStateException("x"))).isEqualTo("IllegalStateException");
+    }
+
+    @Test
+    @DisplayName("토픽별 in-flight 상한에 걸리면 대기 시간 후 실패하고, 자리를 돌려주면 다시 얻을 수 있다")
+    void limiter_BlocksUntilReleased() {
+        // Given
+        InFlightLimiter limiter = new InFlightLimiter(2, Duration.ofMillis(20));
+        limiter.acquire(TOPIC);
+        limiter.acquire(TOPIC);
+
+        // When
+        boolean whileFull = limiter.acquire(TOPIC);
+        boolean otherTopic = limiter.acquire("customer.account.dormant");
+        limiter.release(TOPIC);
+        boolean afterRelease = limiter.acquire(TOPIC);
+
+        // Then
+        assertThat(whileFull).isFalse();
+        assertThat(otherTopic).isTrue();
+        assertThat(afterRelease).isTrue();
+        assertThat(limiter.inFlight(TOPIC)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("표본 로그는 구간마다 한 번만 남기고, 그 사이 건수를 다음 로그에 합친다")
+    void logSampler_SummarizesSuppressedOccurrences() throws InterruptedException {
+        // Given
+        PublishLogSampler sampler = new PublishLogSampler(Duration.ofMillis(50));
+
+        // When
+        long first = sampler.sample(TOPIC);
+        long suppressed = 0;
+        for (int i = 0; i < 9; i++) {
+            suppressed += sampler.sample(TOPIC);
+        }
+        Thread.sleep(60);
+        long next = sampler.sample(TOPIC);
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(suppressed).isZero();
+        assertThat(next).isEqualTo(10);
+    }
+}
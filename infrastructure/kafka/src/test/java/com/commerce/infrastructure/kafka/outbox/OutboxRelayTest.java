@@ -0,0 +1,350 @@
+package com.commerce.infrastructure.kafka.outbox;
+
+import com.commerce.customer.core.domain.event.AccountActivatedEvent;
+import com.commerce.customer.core.domain.event.AccountCreatedEvent;
+import com.commerce.customer.core.domain.event.DomainEventTopics;
+import com.commerce.customer.core.domain.event.OutboxMessage;
+import com.commerce.customer.core.domain.repository.OutboxRepository;
+import com.commerce.infrastructure.kafka.event.InFlightLimiter;
+import com.commerce.infrastructure.kafka.event.PublishMetrics;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaProducerException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EmbeddedKafka(partitions = 1, topics = {DomainEventTopics.ACCOUNT_CREATED, DomainEventTopics.ACCOUNT_ACTIVATED})
+@DisplayName("아웃박스 릴레이 임베디드 Kafka 테스트")
+class OutboxRelayTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+    private final InMemoryOutboxRepository outboxRepository = new InMemoryOutboxRepository();
+    private final OutboxRelayMetrics metrics = new OutboxRelayMetrics();
+    private final InFlightLimiter limiter = new InFlightLimiter(10_000, Duration.ofMillis(500));
+    private final PublishMetrics publishMetrics = new PublishMetrics(limiter);
+    private final OutboxRelayProperties properties = new OutboxRelayProperties();
+    private final Set<String> failingOutboxIds = new HashSet<>();
+
+    private DefaultKafkaProducerFactory<String, String> producerFactory;
+    private Consumer<String, String> consumer;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp(EmbeddedKafkaBroker broker) {
+        producerFactory = new DefaultKafkaProducerFactory<>(Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.LINGER_MS_CONFIG, 5));
+        Clock clock = Clock.fixed(Instant.parse("2024-03-01T03:00:30Z"), ZoneId.of("Asia/Seoul"));
+        relay = new OutboxRelay(outboxRepository, new FailureInjectingTemplate(producerFactory), limiter,
+                publishMetrics, metrics, properties, clock);
+
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("outbox-relay-" + UUID.randomUUID(), "false", broker);
+        consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        consumer = new DefaultKafkaConsumerFactory<>(consumerProps, new StringDeserializer(), new StringDeserializer())
+                .createConsumer();
+        broker.consumeFromEmbeddedTopics(consumer, DomainEventTopics.ACCOUNT_CREATED, DomainEventTopics.ACCOUNT_ACTIVATED);
+        // 앞선 테스트가 남긴 레코드를 건너뛰도록 현재 끝 위치를 확정
+        consumer.seekToEnd(consumer.assignment());
+        consumer.assignment().forEach(consumer::position);
+    }
+
+    @AfterEach
+    void tearDown() {
+        consumer.close();
+        producerFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("미발행 행을 id 순서로 전송하고 전송 확인 후 일괄 발행 완료 처리한다")
+    void relayOnce_PublishesInOrderAndMarksSent() {
+        // Given
+        properties.setBatchSize(50);
+        properties.setMaxInFlightBatches(4);
+        for (int i = 1; i <= 1_000; i++) {
+            outboxRepository.append("42", AccountCreatedEvent.class, "{\"seq\":" + i + "}");
+        }
+
+        // When
+        OutboxRelayResult result = relay.relayOnce();
+
+        // Then
+        assertThat(result.relayed()).isEqualTo(1_000);
+        assertThat(result.failed()).isZero();
+        assertThat(result.batches()).isEqualTo(20);
+        assertThat(outboxRepository.countUnsent()).isZero();
+        assertThat(outboxRepository.markSentCalls).isEqualTo(20);
+        assertThat(metrics.pending()).isZero();
+        assertThat(metrics.lastRelayedId()).isEqualTo(1_000L);
+        // 직접 발행과 같은 토픽 지표와 in-flight 상한을 거친다
+        assertThat(publishMetrics.acked(DomainEventTopics.ACCOUNT_CREATED)).isEqualTo(1_000L);
+        assertThat(limiter.inFlight(DomainEventTopics.ACCOUNT_CREATED)).isZero();
+
+        List<ConsumerRecord<String, String>> records = poll(1_000);
+        assertThat(records).extracting(ConsumerRecord::value)
+            .startsWith("{\"seq\":1}", "{\"seq\":2}")
+            .endsWith("{\"seq\":1000}");
+        ConsumerRecord<String, String> first = records.get(0);
+        assertThat(first.topic()).isEqualTo(DomainEventTopics.ACCOUNT_CREATED);
+        assertThat(first.key()).isEqualTo("42");
+        assertThat(header(first, AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME))
+            .isEqualTo(AccountCreatedEvent.class.getName());
+        assertThat(header(first, OutboxRelay.OUTBOX_ID_HEADER)).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("토픽을 찾을 수 없는 행은 dead letter로 제외하고 다음 주기에 다시 읽지 않는다")
+    void relayOnce_UnroutableRowIsDeadLettered() {
+        // Given
+        outboxRepository.append("1", AccountCreatedEvent.class, "{\"ok\":1}");
+        outboxRepository.append("2", String.class, "{\"unknown\":true}");
+        outboxRepository.append("3", AccountActivatedEvent.class, "{\"ok\":3}");
+
+        // When
+        OutboxRelayResult result = relay.relayOnce();
+        OutboxRelayResult next = relay.relayOnce();
+
+        // Then
+        assertThat(result.relayed()).isEqualTo(2);
+        assertThat(result.deadLettered()).isEqualTo(1);
+        assertThat(result.failed()).isZero();
+        assertThat(next.batches()).isZero();
+        assertThat(outboxRepository.unsentIds()).isEmpty();
+        assertThat(outboxRepository.deadIds()).containsExactly(2L);
+        assertThat(outboxRepository.lastErrors.get(2L)).contains(String.class.getName());
+        assertThat(metrics.deadLettered()).isEqualTo(1L);
+        assertThat(metrics.pending()).isZero();
+        assertThat(poll(2)).extracting(ConsumerRecord::value).containsExactlyInAnyOrder("{\"ok\":1}", "{\"ok\":3}");
+    }
+
+    @Test
+    @DisplayName("재시도 가능한 실패 뒤의 같은 애그리거트 행은 발행 완료 처리하지 않고 다른 애그리거트는 계속 발행한다")
+    void relayOnce_RetriableFailureHoldsBackSameAggregate() {
+        // Given
+        properties.setBatchSize(2);
+        properties.setMaxInFlightBatches(1);
+        outboxRepository.append("A", AccountCreatedEvent.class, "{\"a\":1}");
+        outboxRepository.append("B", AccountCreatedEvent.class, "{\"b\":1}");
+        outboxRepository.append("A", AccountActivatedEvent.class, "{\"a\":2}");
+        outboxRepository.append("B", AccountActivatedEvent.class, "{\"b\":2}");
+        failingOutboxIds.add("1");
+
+        // When
+        OutboxRelayResult failedCycle = relay.relayOnce();
+
+        // Then
+        assertThat(failedCycle.relayed()).isEqualTo(2);
+        assertThat(failedCycle.failed()).isEqualTo(1);
+        assertThat(failedCycle.deferred()).isEqualTo(1);
+        assertThat(outboxRepository.unsentIds()).containsExactly(1L, 3L);
+        assertThat(outboxRepository.attempts).containsEntry(1L, 1).doesNotContainKey(3L);
+        assertThat(publishMetrics.failed(DomainEventTopics.ACCOUNT_CREATED, "TimeoutException")).isEqualTo(1L);
+        assertThat(poll(2)).extracting(ConsumerRecord::value).containsExactly("{\"b\":1}", "{\"b\":2}");
+
+        // When: 장애 해소 후 실패한 행부터 순서대로 다시 보냄
+        failingOutboxIds.clear();
+        OutboxRelayResult retried = relay.relayOnce();
+
+        // Then
+        assertThat(retried.relayed()).isEqualTo(2);
+        assertThat(outboxRepository.unsentIds()).isEmpty();
+        assertThat(poll(2)).extracting(ConsumerRecord::value).containsExactly("{\"a\":1}", "{\"a\":2}");
+    }
+
+    @Test
+    @DisplayName("적체 지표는 갱신 간격이 지나기 전에는 다시 조회하지 않는다")
+    void relayOnce_ThrottlesBacklogRefresh() {
+        // Given
+        properties.setBacklogRefreshInterval(Duration.ofSeconds(10));
+        outboxRepository.append("1", AccountCreatedEvent.class, "{\"seq\":1}");
+        relay.relayOnce();
+        outboxRepository.append("1", AccountCreatedEvent.class, "{\"seq\":2}");
+        failingOutboxIds.add("2");
+
+        // When
+        relay.relayOnce();
+
+        // Then: 고정 시계라 간격이 지나지 않았으므로 첫 주기의 값이 유지된다
+        assertThat(outboxRepository.countUnsentCalls).isEqualTo(1);
+        assertThat(metrics.pending()).isZero();
+
+        // When: 재발행 요청은 간격과 무관하게 바로 갱신
+        relay.replayFrom(Long.MAX_VALUE);
+
+        // Then
+        assertThat(outboxRepository.countUnsentCalls).isEqualTo(2);
+        assertThat(metrics.pending()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("오프셋 이후 행을 되돌리면 다음 주기에서 다시 전송한다")
+    void replayFrom_ResendsRowsAfterOffset() {
+        // Given
+        for (int i = 1; i <= 5; i++) {
+            outboxRepository.append("7", AccountActivatedEvent.class, "{\"seq\":" + i + "}");
+        }
+        relay.relayOnce();
+        poll(5);
+
+        // When
+        int reset = relay.replayFrom(3L);
+        OutboxRelayResult result = relay.relayOnce();
+
+        // Then
+        assertThat(reset).isEqualTo(2);
+        assertThat(result.relayed()).isEqualTo(2);
+        assertThat(poll(2)).extracting(ConsumerRecord::value).containsExactly("{\"seq\":4}", "{\"seq\":5}");
+    }
+
+    private List<ConsumerRecord<String, String>> poll(int expected) {
+        List<ConsumerRecord<String, String>> received = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (received.size() < expected && System.currentTimeMillis() < deadline) {
+            consumer.poll(Duration.ofMillis(200)).forEach(received::add);
+        }
+        return received;
+    }
+
+    private static String header(ConsumerRecord<String, String> record, String name) {
+        return new String(record.headers().lastHeader(name).value(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 지정한 outbox id의 레코드만 재시도 가능한 프로듀서 오류로 실패시킨다
+     */
+    private final class FailureInjectingTemplate extends KafkaTemplate<String, String> {
+
+        FailureInjectingTemplate(DefaultKafkaProducerFactory<String, String> producerFactory) {
+            super(producerFactory);
+        }
+
+        @Override
+        public CompletableFuture<SendResult<String, String>> send(ProducerRecord<String, String> record) {
+            String outboxId = new String(record.headers().lastHeader(OutboxRelay.OUTBOX_ID_HEADER).value(),
+                    StandardCharsets.UTF_8);
+            if (failingOutboxIds.contains(outboxId)) {
+                return CompletableFuture.failedFuture(
+                        new KafkaProducerException(record, "Failed to send", new TimeoutException("expired")));
+            }
+            return super.send(record);
+        }
+    }
+
+    /**
+     * outbox 테이블 대역: id 순서 보관과 sent_at/dead_at 상태, 시도 기록만 흉내 낸다
+     */
+    private static final class InMemoryOutboxRepository implements OutboxRepository {
+
+        private final TreeMap<Long, OutboxMessage> rows = new TreeMap<>();
+        private final TreeMap<Long, LocalDateTime> sentAt = new TreeMap<>();
+        private final TreeMap<Long, LocalDateTime> deadAt = new TreeMap<>();
+        private final Map<Long, Integer> attempts = new HashMap<>();
+        private final Map<Long, String> lastErrors = new HashMap<>();
+        private long sequence;
+        private int markSentCalls;
+        private int countUnsentCalls;
+
+        void append(String aggregateId, Class<?> eventType, String payload) {
+            long id = ++sequence;
+            rows.put(id, new OutboxMessage(id, "Account", aggregateId, eventType.getName(), payload, NOW));
+        }
+
+        List<Long> unsentIds() {
+            return rows.keySet().stream().filter(id -> !sentAt.containsKey(id) && !deadAt.containsKey(id)).toList();
+        }
+
+        List<Long> deadIds() {
+            return List.copyOf(deadAt.keySet());
+        }
+
+        @Override
+        public synchronized List<OutboxMessage> findUnsent(long afterId, int limit) {
+            return rows.tailMap(afterId, false).values().stream()
+                    .filter(message -> !sentAt.containsKey(message.id()) && !deadAt.containsKey(message.id()))
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        public synchronized int markSent(Collection<Long> ids, LocalDateTime sentAt) {
+            markSentCalls++;
+            ids.forEach(id -> this.sentAt.put(id, sentAt));
+            return ids.size();
+        }
+
+        @Override
+        public synchronized int recordFailedAttempt(Collection<Long> ids, String error) {
+            ids.forEach(id -> {
+                attempts.merge(id, 1, Integer::sum);
+                lastErrors.put(id, error);
+            });
+            return ids.size();
+        }
+
+        @Override
+        public synchronized int markDead(Collection<Long> ids, String error, LocalDateTime deadAt) {
+            recordFailedAttempt(ids, error);
+            ids.forEach(id -> this.deadAt.put(id, deadAt));
+            return ids.size();
+        }
+
+        @Override
+        public synchronized int resetSentAfter(long offset) {
+            Map<Long, LocalDateTime> sentAfter = sentAt.tailMap(offset, false);
+            Map<Long, LocalDateTime> deadAfter = deadAt.tailMap(offset, false);
+            int reset = sentAfter.size() + deadAfter.size();
+            sentAfter.clear();
+            deadAfter.clear();
+            return reset;
+        }
+
+        @Override
+        public synchronized long countUnsent() {
+            countUnsentCalls++;
+            return unsentIds().size();
+        }
+
+        @Override
+        public synchronized Optional<LocalDateTime> findOldestUnsentCreatedAt() {
+            return unsentIds().stream().findFirst().map(id -> rows.get(id).createdAt());
+        }
+    }
+}
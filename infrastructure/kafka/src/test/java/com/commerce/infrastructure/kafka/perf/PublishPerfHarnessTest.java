@@ -0,0 +1,330 @@
+package com.commerce.infrastructure.kafka.perf;
+
+import com.commerce.customer.core.domain.event.AccountCreatedEvent;
+import com.commerce.customer.core.domain.event.DomainEventTopics;
+import com.commerce.customer.core.domain.model.AccountId;
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.Email;
+import com.commerce.infrastructure.kafka.adapter.DomainEventPublisherAdapter;
+import com.commerce.infrastructure.kafka.config.KafkaConfig;
+import com.commerce.infrastructure.kafka.event.InFlightLimiter;
+import com.commerce.infrastructure.kafka.event.KafkaEventPublisher;
+import com.commerce.infrastructure.kafka.event.PublishMetrics;
+import com.commerce.infrastructure.kafka.event.PublishProperties;
+import com.commerce.infrastructure.kafka.producer.ProducerProfileProperties;
+import com.commerce.infrastructure.kafka.producer.ProfileRoutingKafkaTemplate;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.LogDirDescription;
+import org.apache.kafka.clients.admin.ReplicaInfo;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임베디드 Kafka 발행/소비 성능 측정
+ * DomainEventPublisherAdapter로 목표 발행률 x 이벤트 크기 조합마다 계정 생성 이벤트를 발행하고,
+ * 발행 처리량, 브로커 확인 지연, 발행부터 컨슈머 수신까지 지연 백분위, 브로커 로그에 추가된 바이트를 측정해
+ * JSON 리포트로 남긴다. 기본 test 태스크에서는 제외되며 publishPerfTest 태스크로 실행한다.
+ * 임베디드 브로커 수치라 절대값보다 설정/코드 변경 전후 비교에 의미가 있다.
+ */
+@Tag("performance")
+@EmbeddedKafka(partitions = PublishPerfHarnessTest.PARTITIONS, topics = DomainEventTopics.ACCOUNT_CREATED)
+@DisplayName("임베디드 Kafka 발행/소비 성능 측정")
+class PublishPerfHarnessTest {
+
+    static final int PARTITIONS = 6;
+
+    private static final String TOPIC = DomainEventTopics.ACCOUNT_CREATED;
+    private static final Duration RECEIVE_TIMEOUT = Duration.ofMinutes(2);
+
+    private final PublishPerfSettings settings = PublishPerfSettings.fromSystemProperties();
+
+    @Test
+    @DisplayName("발행률과 이벤트 크기 조합마다 처리량, 지연 백분위, 브로커 바이트를 측정해 리포트로 남긴다")
+    void measure_PublishToConsume(EmbeddedKafkaBroker broker) throws Exception {
+        // Given
+        KafkaTemplate<String, Object> template = template(broker.getBrokersAsString());
+        PublishProperties publishProperties = new PublishProperties();
+        InFlightLimiter limiter = new InFlightLimiter(publishProperties.getMaxInFlightPerTopic(),
+                publishProperties.getMaxBlock());
+        PublishMetrics metrics = new PublishMetrics(limiter);
+        DomainEventPublisherAdapter publisher = new DomainEventPublisherAdapter(
+                new KafkaEventPublisher(template, null, publishProperties, limiter, metrics));
+        List<PublishPerfReport.Scenario> scenarios = new ArrayList<>();
+
+        try (AdminClient admin = AdminClient.create(Map.of(
+                AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString()));
+             ReceiveTracker tracker = new ReceiveTracker(broker.getBrokersAsString())) {
+            tracker.start();
+            long nextAccountId = 1;
+
+            // When
+            run(publisher, tracker, 0, settings.payloadSizes().get(0), settings.warmUpEvents(), nextAccountId);
+            nextAccountId += settings.warmUpEvents();
+            for (int payloadBytes : settings.payloadSizes()) {
+                for (int rate : settings.rates()) {
+                    long bytesBefore = brokerBytes(admin);
+                    long throttledBefore = metrics.throttled(TOPIC);
+                    Run run = run(publisher, tracker, rate, payloadBytes, settings.events(), nextAccountId);
+                    nextAccountId += settings.events();
+                    long brokerBytes = brokerBytes(admin) - bytesBefore;
+                    scenarios.add(run.toScenario(brokerBytes, metrics.throttled(TOPIC) - throttledBefore));
+                }
+            }
+        } finally {
+            destroy(template);
+        }
+
+        // Then
+        PublishPerfReport report = new PublishPerfReport(OffsetDateTime.now().toString(), "embedded",
+                settings.encoding(), PARTITIONS, settings.events(), scenarios);
+        report.writeTo(settings.reportFile());
+        print(report);
+        System.out.println("성능 리포트: " + settings.reportFile().toAbsolutePath());
+        assertThat(scenarios).hasSize(settings.rates().size() * settings.payloadSizes().size());
+        assertThat(scenarios).allSatisfy(scenario -> {
+            assertThat(scenario.ackedPerSecond()).isPositive();
+            assertThat(scenario.brokerBytes()).isPositive();
+        });
+    }
+
+    /**
+     * 이벤트를 미리 만들어 둔 뒤 목표 발행률에 맞춰 발행하고, 모든 브로커 확인과 컨슈머 수신을 기다린다.
+     */
+    private Run run(DomainEventPublisherAdapter publisher, ReceiveTracker tracker, int rate, int payloadBytes,
+                    int events, long firstAccountId) throws Exception {
+        List<AccountCreatedEvent> batch = events(events, payloadBytes, firstAccountId);
+        long[] ackNanos = new long[events];
+        CompletableFuture<?>[] acks = new CompletableFuture<?>[events];
+        long intervalNanos = rate > 0 ? TimeUnit.SECONDS.toNanos(1) / rate : 0;
+        tracker.expect(events);
+
+        long started = System.nanoTime();
+        for (int i = 0; i < events; i++) {
+            if (intervalNanos > 0) {
+                pace(started + i * intervalNanos);
+            }
+            AccountCreatedEvent event = batch.get(i);
+            long sentAt = System.nanoTime();
+            tracker.sent(event.key(), sentAt);
+            int index = i;
+            acks[i] = publisher.publish(List.of(event))
+                    .whenComplete((result, ex) -> ackNanos[index] = System.nanoTime() - sentAt);
+        }
+        long published = System.nanoTime();
+        CompletableFuture.allOf(acks).get(RECEIVE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        long acked = System.nanoTime();
+        long[] endToEndNanos = tracker.await(RECEIVE_TIMEOUT);
+        return new Run(rate, payloadBytes, events, published - started, acked - started, ackNanos, endToEndNanos);
+    }
+
+    /**
+     * 활성화 코드 자리에 무작위 문자를 채워 이벤트 크기를 대략 맞춘다 (나머지 필드 약 160바이트 제외,
+     * 압축이 크기를 지우지 않도록 이벤트마다 다른 값)
+     */
+    private static List<AccountCreatedEvent> events(int events, int payloadBytes, long firstAccountId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<AccountCreatedEvent> batch = new ArrayList<>(events);
+        for (int i = 0; i < events; i++) {
+            long accountId = firstAccountId + i;
+            char[] padding = new char[Math.max(payloadBytes - 160, 8)];
+            for (int c = 0; c < padding.length; c++) {
+                padding[c] = (char) ('A' + random.nextInt(26));
+            }
+            batch.add(new AccountCreatedEvent(AccountId.of(accountId), CustomerId.of(accountId),
+                    Email.of("perf" + accountId + "@example.com"), new String(padding)));
+        }
+        return batch;
+    }
+
+    private static void pace(long targetNanos) {
+        long remaining;
+        while ((remaining = targetNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * 브로커 로그 디렉터리에 기록된 토픽 파티션 크기 합 (압축 후, 배치 헤더 포함)
+     */
+    private static long brokerBytes(AdminClient admin) throws Exception {
+        List<Integer> brokerIds = admin.describeCluster().nodes().get().stream().map(Node::id).toList();
+        Map<Integer, Map<String, LogDirDescription>> logDirs = admin.describeLogDirs(brokerIds).allDescriptions().get();
+        long bytes = 0;
+        for (Map<String, LogDirDescription> byDir : logDirs.values()) {
+            for (LogDirDescription description : byDir.values()) {
+                for (Map.Entry<TopicPartition, ReplicaInfo> replica : description.replicaInfos().entrySet()) {
+                    if (replica.getKey().topic().equals(TOPIC)) {
+                        bytes += replica.getValue().size();
+                    }
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private KafkaTemplate<String, Object> template(String bootstrapServers) {
+        ProducerProfileProperties producerProperties = new ProducerProfileProperties();
+        producerProperties.setEncoding(ProducerProfileProperties.Encoding.valueOf(
+                settings.encoding().toUpperCase(Locale.ROOT)));
+        KafkaConfig kafkaConfig = new KafkaConfig();
+        ReflectionTestUtils.setField(kafkaConfig, "bootstrapServers", bootstrapServers);
+        ReflectionTestUtils.setField(kafkaConfig, "producerProfileProperties", producerProperties);
+        return kafkaConfig.kafkaTemplate();
+    }
+
+    private static void destroy(KafkaTemplate<String, Object> template) {
+        List<ProducerFactory<String, Object>> factories = new ArrayList<>();
+        factories.add(template.getProducerFactory());
+        if (template instanceof ProfileRoutingKafkaTemplate<Object> routing) {
+            factories.addAll(routing.factoriesByTopic().values());
+        }
+        factories.stream()
+                .filter(DefaultKafkaProducerFactory.class::isInstance)
+                .map(DefaultKafkaProducerFactory.class::cast)
+                .distinct()
+                .forEach(DefaultKafkaProducerFactory::destroy);
+    }
+
+    private static void print(PublishPerfReport report) {
+        System.out.printf("%-8s %8s %12s %12s %10s %10s %10s %10s %12s%n", "rate", "bytes", "published/s",
+                "acked/s", "ack p99", "e2e p50", "e2e p99", "e2e max", "broker B/ev");
+        for (PublishPerfReport.Scenario scenario : report.scenarios()) {
+            System.out.printf("%-8s %8d %12.0f %12.0f %10.2f %10.2f %10.2f %10.2f %12.1f%n",
+                    scenario.targetRate() == 0 ? "max" : String.valueOf(scenario.targetRate()),
+                    scenario.payloadBytes(), scenario.publishedPerSecond(), scenario.ackedPerSecond(),
+                    scenario.ackLatencyMillis().p99(), scenario.endToEndLatencyMillis().p50(),
+                    scenario.endToEndLatencyMillis().p99(), scenario.endToEndLatencyMillis().max(),
+                    scenario.brokerBytesPerEvent());
+        }
+    }
+
+    private record Run(int rate, int payloadBytes, int events, long publishNanos, long ackNanos,
+                       long[] ackLatencies, long[] endToEndLatencies) {
+
+        PublishPerfReport.Scenario toScenario(long brokerBytes, long throttled) {
+            return new PublishPerfReport.Scenario(rate, payloadBytes, events,
+                    perSecond(events, publishNanos), perSecond(events, ackNanos),
+                    PublishPerfReport.Percentiles.ofNanos(ackLatencies),
+                    PublishPerfReport.Percentiles.ofNanos(endToEndLatencies),
+                    brokerBytes, (double) brokerBytes / events, throttled);
+        }
+
+        private static double perSecond(int events, long nanos) {
+            return events * (double) TimeUnit.SECONDS.toNanos(1) / Math.max(nanos, 1);
+        }
+    }
+
+    /**
+     * 모든 파티션을 직접 할당한 컨슈머로 수신 시각을 기록한다. 키(계정 ID)로 발행 시각을 찾아 지연을 계산한다.
+     */
+    private static final class ReceiveTracker implements AutoCloseable {
+
+        private final KafkaConsumer<String, byte[]> consumer;
+        private final Map<String, Long> sentAt = new ConcurrentHashMap<>();
+        private final AtomicInteger received = new AtomicInteger();
+        private final Thread thread;
+        private volatile long[] latencies = new long[0];
+        private volatile boolean running = true;
+
+        ReceiveTracker(String bootstrapServers) {
+            this.consumer = new KafkaConsumer<>(Map.of(
+                    ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                    ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                    ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class,
+                    ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false,
+                    ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, 10));
+            this.thread = new Thread(this::poll, "perf-receive-tracker");
+        }
+
+        void start() {
+            List<TopicPartition> partitions = consumer.partitionsFor(TOPIC).stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .toList();
+            consumer.assign(partitions);
+            consumer.seekToEnd(partitions);
+            // 시작 위치를 지금 확정해 두어 이후 발행한 레코드만 읽는다
+            partitions.forEach(consumer::position);
+            thread.start();
+        }
+
+        void expect(int events) {
+            sentAt.clear();
+            received.set(0);
+            latencies = new long[events];
+        }
+
+        void sent(String key, long nanos) {
+            sentAt.put(key, nanos);
+        }
+
+        long[] await(Duration timeout) throws InterruptedException {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            while (received.get() < latencies.length) {
+                assertThat(System.nanoTime()).as("컨슈머 수신 대기 시간 초과").isLessThan(deadline);
+                Thread.sleep(10);
+            }
+            return latencies;
+        }
+
+        private void poll() {
+            try {
+                while (running) {
+                    for (ConsumerRecord<String, byte[]> record : consumer.poll(Duration.ofMillis(100))) {
+                        long now = System.nanoTime();
+                        Long sent = sentAt.remove(record.key());
+                        long[] current = latencies;
+                        if (sent != null) {
+                            int index = received.get();
+                            if (index < current.length) {
+                                current[index] = now - sent;
+                                received.set(index + 1);
+                            }
+                        }
+                    }
+                }
+            } catch (WakeupException e) {
+                // close
+            } finally {
+                consumer.close();
+            }
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            running = false;
+            consumer.wakeup();
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+}
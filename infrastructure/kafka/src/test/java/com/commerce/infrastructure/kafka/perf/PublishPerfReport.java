@@ -0,0 +1,73 @@
+package com.commerce.infrastructure.kafka.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 발행/소비 성능 측정 결과 (build/reports/perf/publish-perf.json)
+ * 실행 간 비교와 CI 수집을 위해 시나리오별 수치를 그대로 JSON으로 남긴다.
+ */
+record PublishPerfReport(String generatedAt,
+                         String broker,
+                         String encoding,
+                         int partitions,
+                         int eventsPerScenario,
+                         List<Scenario> scenarios) {
+
+    /**
+     * @param targetRate        초당 목표 발행 수 (0이면 제한 없음)
+     * @param payloadBytes      설정한 이벤트 값 크기
+     * @param events            발행한 이벤트 수
+     * @param publishedPerSecond 발행 호출 처리량
+     * @param ackedPerSecond    첫 발행부터 마지막 브로커 확인까지 기준 처리량
+     * @param ackLatencyMillis  발행 호출부터 브로커 확인까지 지연
+     * @param endToEndLatencyMillis 발행 호출부터 컨슈머 수신까지 지연
+     * @param brokerBytes       시나리오 동안 브로커 로그에 추가된 바이트 (압축 후, 배치 헤더 포함)
+     * @param brokerBytesPerEvent 이벤트당 브로커 로그 바이트
+     * @param throttled         in-flight 상한에 걸린 발행 수
+     */
+    record Scenario(int targetRate,
+                    int payloadBytes,
+                    int events,
+                    double publishedPerSecond,
+                    double ackedPerSecond,
+                    Percentiles ackLatencyMillis,
+                    Percentiles endToEndLatencyMillis,
+                    long brokerBytes,
+                    double brokerBytesPerEvent,
+                    long throttled) {
+    }
+
+    record Percentiles(double p50, double p95, double p99, double max) {
+
+        static Percentiles ofNanos(long[] nanos) {
+            long[] sorted = Arrays.copyOf(nanos, nanos.length);
+            Arrays.sort(sorted);
+            return new Percentiles(millis(sorted, 0.50), millis(sorted, 0.95), millis(sorted, 0.99),
+                    millis(sorted, 1.0));
+        }
+
+        private static double millis(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1);
+            return Math.round(sorted[Math.max(index, 0)] / 1_000.0) / 1_000.0;
+        }
+    }
+
+    void writeTo(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file.toFile(), this);
+    }
+}
@@ -0,0 +1,45 @@
+package com.commerce.infrastructure.kafka.perf;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 발행/소비 성능 측정 설정 (시스템 프로퍼티, Gradle 태스크에서는 -Pperf.xxx로 전달)
+ *
+ * <pre>
+ * ./gradlew :kafka:publishPerfTest -Pperf.rates=0,5000 -Pperf.payload-sizes=256,4096 -Pperf.events=20000
+ * </pre>
+ *
+ * @param rates          초당 목표 발행 수 목록 (0이면 제한 없이 최대 속도)
+ * @param payloadSizes   이벤트 값 크기 목록 (바이트, 활성화 코드 길이로 대략 맞춘다)
+ * @param events         시나리오마다 발행할 이벤트 수
+ * @param warmUpEvents   측정 전에 버리는 예열 이벤트 수
+ * @param encoding       이벤트 값 인코딩 (json, avro)
+ * @param reportFile     결과 리포트(JSON) 경로
+ */
+record PublishPerfSettings(List<Integer> rates,
+                           List<Integer> payloadSizes,
+                           int events,
+                           int warmUpEvents,
+                           String encoding,
+                           Path reportFile) {
+
+    static PublishPerfSettings fromSystemProperties() {
+        return new PublishPerfSettings(
+                ints(System.getProperty("perf.rates", "0,2000")),
+                ints(System.getProperty("perf.payload-sizes", "256,2048")),
+                Integer.parseInt(System.getProperty("perf.events", "10000")),
+                Integer.parseInt(System.getProperty("perf.warm-up-events", "1000")),
+                System.getProperty("perf.encoding", "json"),
+                Path.of(System.getProperty("perf.report-file", "build/reports/perf/publish-perf.json")));
+    }
+
+    private static List<Integer> ints(String csv) {
+        return Arrays.stream(csv.split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .map(Integer::valueOf)
+                .toList();
+    }
+}
@@ -0,0 +1,106 @@
+package com.commerce.infrastructure.kafka.producer;
+
+import com.commerce.customer.core.domain.event.AccountCreatedEvent;
+import com.commerce.customer.core.domain.model.AccountId;
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.Email;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프로필별 발행 처리량(events/s)과 ack 지연 p99 측정
+ * 가입 폭주 크기를 가늠할 때 로그의 표를 참고한다. 임베디드 브로커 수치라 절대값보다 프로필 간 비교에 의미가 있다.
+ * 기본 test 태스크에서는 제외되며 publishPerfTest 태스크로 실행한다.
+ */
+@Tag("performance")
+@EmbeddedKafka(partitions = 3, topics = {"bench.default", "bench.burst", "bench.low-latency"})
+@DisplayName("프로듀서 프로필 발행 벤치마크")
+class ProducerProfileBenchmarkTest {
+
+    private static final int EVENTS = 5_000;
+    private static final int WARM_UP_EVENTS = 500;
+
+    @Test
+    @DisplayName("프로필별 처리량과 p99 ack 지연을 측정한다")
+    void benchmark_EachProfile(EmbeddedKafkaBroker broker) throws Exception {
+        // Given
+        ProducerProfileProperties properties = new ProducerProfileProperties();
+        properties.getProfiles().put("burst", profile(Duration.ofMillis(20), DataSize.ofKilobytes(256), "zstd"));
+        properties.getProfiles().put("low-latency", profile(Duration.ZERO, DataSize.ofKilobytes(16), "none"));
+        ProducerProfiles profiles = new ProducerProfiles(broker.getBrokersAsString(), properties);
+
+        // When
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (String profileName : properties.getProfiles().keySet()) {
+            ProducerFactory<String, Object> factory = profiles.producerFactory(profileName, JsonSerializer.class);
+            try {
+                KafkaTemplate<String, Object> template = new KafkaTemplate<>(factory);
+                String topic = "bench." + profileName;
+                publish(template, topic, WARM_UP_EVENTS);
+                results.put(profileName, publish(template, topic, EVENTS));
+            } finally {
+                ((DefaultKafkaProducerFactory<String, Object>) factory).destroy();
+            }
+        }
+
+        // Then
+        System.out.printf("%-12s %12s %14s%n", "profile", "events/s", "p99 ack(ms)");
+        results.forEach((name, result) ->
+            System.out.printf("%-12s %12.0f %14.2f%n", name, result.eventsPerSecond(), result.p99Millis()));
+        assertThat(results).hasSize(3);
+        assertThat(results.values()).allSatisfy(result -> {
+            assertThat(result.acked()).isEqualTo(EVENTS);
+            assertThat(result.eventsPerSecond()).isPositive();
+        });
+    }
+
+    private static Result publish(KafkaTemplate<String, Object> template, String topic, int events) throws Exception {
+        long[] latencies = new long[events];
+        CompletableFuture<?>[] futures = new CompletableFuture[events];
+        long started = System.nanoTime();
+        for (int i = 0; i < events; i++) {
+            int index = i;
+            long sentAt = System.nanoTime();
+            AccountCreatedEvent event = new AccountCreatedEvent(AccountId.of(i + 1L), CustomerId.of(i + 1L),
+                Email.of("bench" + i + "@example.com"), "ACTIVATE" + i);
+            futures[i] = template.send(topic, String.valueOf(i), event)
+                .whenComplete((result, ex) -> latencies[index] = System.nanoTime() - sentAt);
+        }
+        CompletableFuture.allOf(futures).get(60, TimeUnit.SECONDS);
+        long elapsed = System.nanoTime() - started;
+
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        double p99Millis = sorted[(int) Math.ceil(events * 0.99) - 1] / 1_000_000.0;
+        long acked = Arrays.stream(futures).filter(future -> !future.isCompletedExceptionally()).count();
+        return new Result(acked, events / (elapsed / 1_000_000_000.0), p99Millis);
+    }
+
+    private static ProducerProfileProperties.Profile profile(Duration linger, DataSize batchSize, String compression) {
+        ProducerProfileProperties.Profile profile = new ProducerProfileProperties.Profile();
+        profile.setLinger(linger);
+        profile.setBatchSize(batchSize);
+        profile.setCompression(compression);
+        return profile;
+    }
+
+    private record Result(long acked, double eventsPerSecond, double p99Millis) {
+    }
+}
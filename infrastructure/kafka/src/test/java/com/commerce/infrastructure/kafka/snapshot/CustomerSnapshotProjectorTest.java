@@ -0,0 +1,190 @@
+package com.commerce.infrastructure.kafka.snapshot;
+
+import com.commerce.customer.client.snapshot.CustomerSnapshot;
+import com.commerce.customer.client.snapshot.CustomerSnapshotCodec;
+import com.commerce.customer.core.domain.event.DomainEventTopics;
+import com.commerce.customer.core.domain.model.Account;
+import com.commerce.customer.core.domain.model.AccountId;
+import com.commerce.customer.core.domain.model.AccountStatus;
+import com.commerce.customer.core.domain.model.ActivationCode;
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.Email;
+import com.commerce.customer.core.domain.model.Password;
+import com.commerce.customer.core.domain.model.profile.Address;
+import com.commerce.customer.core.domain.model.profile.AddressId;
+import com.commerce.customer.core.domain.model.profile.AddressType;
+import com.commerce.customer.core.domain.model.profile.BirthDate;
+import com.commerce.customer.core.domain.model.profile.ContactInfo;
+import com.commerce.customer.core.domain.model.profile.CustomerProfile;
+import com.commerce.customer.core.domain.model.profile.FullName;
+import com.commerce.customer.core.domain.model.profile.Gender;
+import com.commerce.customer.core.domain.model.profile.MarketingConsent;
+import com.commerce.customer.core.domain.model.profile.PersonalInfo;
+import com.commerce.customer.core.domain.model.profile.PhoneNumber;
+import com.commerce.customer.core.domain.model.profile.ProfileId;
+import com.commerce.customer.core.domain.model.profile.ProfilePreferences;
+import com.commerce.customer.core.domain.model.profile.ProfileStatus;
+import com.commerce.customer.core.domain.repository.AccountRepository;
+import com.commerce.customer.core.domain.repository.profile.CustomerProfileRepository;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("고객 스냅샷 투영 리스너 테스트")
+class CustomerSnapshotProjectorTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 6, 1, 9, 0);
+
+    @Mock
+    private CustomerProfileRepository customerProfileRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> snapshotTemplate;
+
+    private final CustomerSnapshotMetrics metrics = new CustomerSnapshotMetrics();
+    private final CustomerSnapshotProperties properties = new CustomerSnapshotProperties();
+    private CustomerSnapshotProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        projector = new CustomerSnapshotProjector(customerProfileRepository, accountRepository,
+                TransactionOperations.withoutTransaction(), snapshotTemplate, metrics, properties);
+    }
+
+    @Test
+    @DisplayName("계정 키 이벤트는 계정으로 고객을 찾고, 한 배치 안의 같은 고객은 현재 상태로 한 번만 발행한다")
+    void onMessage_PublishesOneSnapshotPerCustomer() {
+        // Given
+        CustomerProfile profile = profile(100L);
+        Account account = account(1L, 100L, AccountStatus.ACTIVE);
+        given(accountRepository.findById(AccountId.of(1L))).willReturn(Optional.of(account));
+        given(accountRepository.findByCustomerId(CustomerId.of(100L))).willReturn(Optional.of(account));
+        given(customerProfileRepository.findAllByCustomerIds(List.of(CustomerId.of(100L)))).willReturn(List.of(profile));
+        given(snapshotTemplate.send(anyString(), anyString(), any())).willReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        projector.onMessage(List.of(
+                record(DomainEventTopics.PROFILE_CHANGED, "100"),
+                record(DomainEventTopics.ACCOUNT_ACTIVATED, "1"),
+                record(DomainEventTopics.PROFILE_CHANGED, "100")));
+
+        // Then
+        ArgumentCaptor<byte[]> value = ArgumentCaptor.forClass(byte[].class);
+        verify(snapshotTemplate, times(1)).send(eq(CustomerSnapshotCodec.TOPIC), eq("100"), value.capture());
+        CustomerSnapshot snapshot = CustomerSnapshotCodec.decode(value.getValue());
+        assertThat(snapshot.profileId()).isEqualTo(42L);
+        assertThat(snapshot.displayName()).isEqualTo("홍길동");
+        assertThat(snapshot.phone()).isEqualTo("010-1234-5678");
+        assertThat(snapshot.defaultAddress().roadAddress()).isEqualTo("서울특별시 강남구 테헤란로 123");
+        assertThat(snapshot.consent().emailMarketing()).isTrue();
+        assertThat(snapshot.consent().smsMarketing()).isFalse();
+        assertThat(snapshot.isActive()).isTrue();
+        assertThat(metrics.received()).isEqualTo(3);
+        assertThat(metrics.published()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("계정과 프로필이 모두 없으면 tombstone을 발행하고, 찾을 수 없는 계정과 잘못된 키는 건너뛴다")
+    void onMessage_PublishesTombstoneAndSkipsUnresolved() {
+        // Given
+        given(accountRepository.findById(AccountId.of(9L))).willReturn(Optional.empty());
+        given(accountRepository.findByCustomerId(CustomerId.of(200L))).willReturn(Optional.empty());
+        given(customerProfileRepository.findAllByCustomerIds(List.of(CustomerId.of(200L)))).willReturn(List.of());
+        given(snapshotTemplate.send(anyString(), anyString(), isNull())).willReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        projector.onMessage(List.of(
+                record(DomainEventTopics.PROFILE_CHANGED, "200"),
+                record(DomainEventTopics.ACCOUNT_CREATED, "9"),
+                record(DomainEventTopics.PROFILE_CHANGED, "not-a-number")));
+
+        // Then
+        verify(snapshotTemplate).send(CustomerSnapshotCodec.TOPIC, "200", null);
+        assertThat(metrics.tombstones()).isEqualTo(1);
+        assertThat(metrics.unresolved()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("발행이 실패하면 예외를 던져 같은 배치를 다시 투영하게 한다")
+    void onMessage_PropagatesSendFailure() {
+        // Given
+        Account account = account(1L, 100L, AccountStatus.PENDING);
+        given(accountRepository.findByCustomerId(CustomerId.of(100L))).willReturn(Optional.of(account));
+        given(customerProfileRepository.findAllByCustomerIds(List.of(CustomerId.of(100L)))).willReturn(List.of());
+        given(snapshotTemplate.send(anyString(), anyString(), any()))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("브로커 장애")));
+
+        // When & Then
+        assertThatThrownBy(() ->
+                        projector.onMessage(List.of(record(DomainEventTopics.PROFILE_CHANGED, "100"))))
+                .hasRootCauseMessage("브로커 장애");
+        assertThat(metrics.batches()).isZero();
+        verify(accountRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("프로필이 없는 고객은 계정 상태만 담은 스냅샷으로 만든다")
+    void toSnapshot_WithoutProfile() {
+        // Given
+        Account account = account(1L, 100L, AccountStatus.PENDING);
+
+        // When
+        CustomerSnapshot snapshot = CustomerSnapshotProjector.toSnapshot(100L, null, account, UPDATED_AT);
+
+        // Then
+        assertThat(snapshot.profileId()).isNull();
+        assertThat(snapshot.displayName()).isNull();
+        assertThat(snapshot.accountStatus()).isEqualTo("PENDING");
+        assertThat(snapshot.consent()).isEqualTo(CustomerSnapshot.Consent.NONE);
+        assertThat(snapshot.isActive()).isFalse();
+    }
+
+    private static ConsumerRecord<String, byte[]> record(String topic, String key) {
+        return new ConsumerRecord<>(topic, 0, 0L, key, new byte[]{1});
+    }
+
+    private static CustomerProfile profile(long customerId) {
+        Address address = Address.restore(AddressId.of(3L), AddressType.HOME, "집", "06234",
+                "서울특별시 강남구 테헤란로 123", null, "101동", null, true, UPDATED_AT);
+        ProfilePreferences preferences = ProfilePreferences.getDefault()
+                .updateMarketingConsent(MarketingConsent.getDefault().giveConsent(true, false, true));
+        return CustomerProfile.restore(ProfileId.of(42L), CustomerId.of(customerId),
+                PersonalInfo.of(FullName.of("길동", "홍"), BirthDate.of(LocalDate.of(1990, 5, 15)), Gender.MALE),
+                ContactInfo.of(PhoneNumber.ofKorean("010-1234-5678")), List.of(address), preferences,
+                ProfileStatus.ACTIVE, UPDATED_AT, UPDATED_AT);
+    }
+
+    private static Account account(long accountId, long customerId, AccountStatus status) {
+        return Account.restore(AccountId.of(accountId), CustomerId.of(customerId), Email.of("user@test.com"),
+                Password.ofEncoded("$2a$10$encoded"), status, UPDATED_AT.minusDays(1), UPDATED_AT, null,
+                ActivationCode.restore("ABC123", UPDATED_AT.plusDays(1)));
+    }
+}
@@ -0,0 +1,175 @@
+package com.commerce.infrastructure.kafka.spool;
+
+import com.commerce.customer.core.domain.event.AccountCreatedEvent;
+import com.commerce.customer.core.domain.event.DomainEventTopics;
+import com.commerce.customer.core.domain.model.AccountId;
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.Email;
+import com.commerce.infrastructure.kafka.event.InFlightLimiter;
+import com.commerce.infrastructure.kafka.event.KafkaEventPublisher;
+import com.commerce.infrastructure.kafka.event.PublishMetrics;
+import com.commerce.infrastructure.kafka.event.PublishProperties;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@EmbeddedKafka(partitions = 1, topics = DomainEventTopics.ACCOUNT_CREATED)
+@DisplayName("발행 스풀 장애/복구 임베디드 Kafka 테스트")
+class SpoolDrainerTest {
+
+    // 연결할 수 없는 브로커 주소 (장애 상황)
+    private static final String UNREACHABLE = "localhost:1";
+
+    @TempDir
+    Path directory;
+
+    private final SpoolProperties properties = new SpoolProperties();
+    private final List<DefaultKafkaProducerFactory<?, ?>> factories = new ArrayList<>();
+
+    private SpoolLog spoolLog;
+    private SpoolMetrics metrics;
+    private EventSpool spool;
+    private Consumer<String, String> consumer;
+
+    @BeforeEach
+    void setUp(EmbeddedKafkaBroker broker) {
+        properties.setMaxBlock(Duration.ofMillis(200));
+        properties.setSendTimeout(Duration.ofSeconds(2));
+        properties.setDrainBatchSize(100);
+        spoolLog = SpoolLog.open(directory, properties.getSegmentSize().toBytes(), properties.getMaxDiskUsage().toBytes());
+        metrics = new SpoolMetrics(spoolLog);
+        JsonSerializer<Object> valueSerializer = new JsonSerializer<>();
+        spool = new EventSpool(spoolLog, valueSerializer, metrics);
+
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("spool-" + UUID.randomUUID(), "false", broker);
+        consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        consumer = new DefaultKafkaConsumerFactory<>(consumerProps, new StringDeserializer(), new StringDeserializer())
+                .createConsumer();
+        broker.consumeFromEmbeddedTopics(consumer, DomainEventTopics.ACCOUNT_CREATED);
+        consumer.seekToEnd(consumer.assignment());
+        consumer.assignment().forEach(consumer::position);
+    }
+
+    @AfterEach
+    void tearDown() {
+        consumer.close();
+        factories.forEach(DefaultKafkaProducerFactory::destroy);
+        spoolLog.close();
+    }
+
+    @Test
+    @DisplayName("장애 중 발행은 브로커를 거치지 않고 스풀에 쌓이고, 복구 후 적재 순서대로 재전송된다")
+    void outageThenRecovery_DrainsInOrder(EmbeddedKafkaBroker broker) {
+        // Given: 브로커에 연결할 수 없는 프로듀서
+        KafkaTemplate<String, Object> unreachable = spy(this.<Object>template(UNREACHABLE, JsonSerializer.class));
+        KafkaEventPublisher publisher = publisher(unreachable);
+        int events = 500;
+
+        // When: 장애 중 계정 생성 이벤트 발행
+        for (int i = 0; i < events; i++) {
+            publisher.publish(List.of(createdEvent(i + 1L))).join();
+        }
+
+        // Then: 첫 발행만 브로커로 보내 max-block을 기다리고, 이후는 브로커를 거치지 않고 스풀 뒤에 붙는다
+        assertThat(spoolLog.pendingRecords()).isEqualTo(events);
+        assertThat(metrics.spooled()).isEqualTo(events);
+        verify(unreachable, times(1)).send(anyString(), any(), any());
+
+        // When: 브로커 복구 후 재전송
+        SpoolDrainer drainer = new SpoolDrainer(spoolLog, template(broker.getBrokersAsString(), ByteArraySerializer.class),
+                metrics, properties);
+        int drained = drainer.drainOnce();
+
+        // Then
+        assertThat(drained).isEqualTo(events);
+        assertThat(spool.isEngaged()).isFalse();
+        List<ConsumerRecord<String, String>> records = poll(events);
+        assertThat(records).extracting(ConsumerRecord::key)
+            .startsWith("1", "2", "3")
+            .endsWith(String.valueOf(events));
+        assertThat(records.get(0).headers().lastHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME).value())
+            .asString().isEqualTo(AccountCreatedEvent.class.getName());
+        assertThat(records.get(0).value()).contains("\"activationCode\":\"ACTIVATE1\"");
+    }
+
+    @Test
+    @DisplayName("브로커가 아직 복구되지 않으면 커서를 옮기지 않고 다음 주기에 같은 위치부터 다시 보낸다")
+    void drainOnce_KeepsCursorWhileBrokerDown() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            spool.offer(createdEvent(i + 1L));
+        }
+        SpoolDrainer drainer = new SpoolDrainer(spoolLog, template(UNREACHABLE, ByteArraySerializer.class),
+                metrics, properties);
+
+        // When
+        int drained = drainer.drainOnce();
+
+        // Then
+        assertThat(drained).isZero();
+        assertThat(spoolLog.pendingRecords()).isEqualTo(3);
+        assertThat(spoolLog.peek(10)).hasSize(3);
+    }
+
+    private KafkaEventPublisher publisher(KafkaTemplate<String, Object> template) {
+        PublishProperties properties = new PublishProperties();
+        InFlightLimiter limiter = new InFlightLimiter(properties.getMaxInFlightPerTopic(), properties.getMaxBlock());
+        return new KafkaEventPublisher(template, spool, properties, limiter, new PublishMetrics(limiter));
+    }
+
+    private <V> KafkaTemplate<String, V> template(String bootstrapServers, Class<?> valueSerializer) {
+        Map<String, Object> configs = new HashMap<>(properties.producerOverrides());
+        configs.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configs.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configs.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, valueSerializer);
+        DefaultKafkaProducerFactory<String, V> factory = new DefaultKafkaProducerFactory<>(configs);
+        factories.add(factory);
+        return new KafkaTemplate<>(factory);
+    }
+
+    private List<ConsumerRecord<String, String>> poll(int expected) {
+        List<ConsumerRecord<String, String>> received = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (received.size() < expected && System.currentTimeMillis() < deadline) {
+            consumer.poll(Duration.ofMillis(200)).forEach(received::add);
+        }
+        return received;
+    }
+
+    private static AccountCreatedEvent createdEvent(long id) {
+        return new AccountCreatedEvent(AccountId.of(id), CustomerId.of(id), Email.of("spool" + id + "@example.com"),
+                "ACTIVATE" + id);
+    }
+}
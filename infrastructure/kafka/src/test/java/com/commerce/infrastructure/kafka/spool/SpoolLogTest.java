@@ -0,0 +1,155 @@
+package com.commerce.infrastructure.kafka.spool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("메모리 매핑 스풀 로그 테스트")
+class SpoolLogTest {
+
+    private static final long SEGMENT_SIZE = 4 * 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("세그먼트를 넘겨 가며 적재 순서대로 읽고, 다 읽은 세그먼트는 삭제한다")
+    void appendPeekCommit_AcrossSegments() throws IOException {
+        // Given
+        SpoolLog spoolLog = SpoolLog.open(directory, SEGMENT_SIZE, SEGMENT_SIZE * 10);
+        for (int i = 0; i < 100; i++) {
+            assertThat(spoolLog.append(payload(i))).isTrue();
+        }
+        assertThat(spoolLog.segmentCount()).isGreaterThan(1);
+
+        // When
+        List<SpoolLog.Entry> first = spoolLog.peek(60);
+        spoolLog.commit(first);
+        List<SpoolLog.Entry> rest = spoolLog.peek(1_000);
+        spoolLog.commit(rest);
+
+        // Then
+        assertThat(first).hasSize(60);
+        assertThat(rest).hasSize(40);
+        assertThat(Stream.concat(first.stream(), rest.stream()).map(SpoolLogTest::text))
+            .containsExactlyElementsOf(Stream.iterate(0, i -> i + 1).limit(100).map(SpoolLogTest::label).toList());
+        assertThat(spoolLog.pendingRecords()).isZero();
+        assertThat(spoolLog.segmentCount()).isEqualTo(1);
+        assertThat(segmentFiles()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("다시 열면 커밋한 위치 다음부터 읽고, 기록 중 끊긴 마지막 레코드는 버린다")
+    void open_RecoversCursorAndTruncatesTornRecord() throws IOException {
+        // Given
+        SpoolLog spoolLog = SpoolLog.open(directory, SEGMENT_SIZE, SEGMENT_SIZE * 10);
+        for (int i = 0; i < 5; i++) {
+            spoolLog.append(payload(i));
+        }
+        spoolLog.commit(spoolLog.peek(2));
+        spoolLog.close();
+        // 길이만 기록되고 본문/체크섬이 없는 레코드 (장애로 끊긴 기록)
+        Path segment = segmentFiles().get(0);
+        int tornOffset = 5 * (Integer.BYTES * 2 + payload(0).length);
+        writeAt(segment, tornOffset, ByteBuffer.allocate(4).putInt(0, 32).array());
+
+        // When
+        SpoolLog reopened = SpoolLog.open(directory, SEGMENT_SIZE, SEGMENT_SIZE * 10);
+        reopened.append(payload(5));
+
+        // Then
+        assertThat(reopened.pendingRecords()).isEqualTo(4);
+        assertThat(reopened.peek(10)).extracting(SpoolLogTest::text)
+            .containsExactly(label(2), label(3), label(4), label(5));
+    }
+
+    @Test
+    @DisplayName("체크섬이 맞지 않는 레코드를 만나면 앞 레코드까지 돌려준 뒤 손상된 세그먼트의 나머지를 건너뛴다")
+    void peek_SkipsCorruptedSegment() throws IOException {
+        // Given
+        SpoolLog spoolLog = SpoolLog.open(directory, SEGMENT_SIZE, SEGMENT_SIZE * 10);
+        int recordSize = Integer.BYTES * 2 + payload(0).length;
+        int perSegment = (int) (SEGMENT_SIZE / recordSize);
+        for (int i = 0; i < perSegment + 3; i++) {
+            spoolLog.append(payload(i));
+        }
+        writeAt(segmentFiles().get(0), recordSize * 2 + Integer.BYTES * 2, "corrupt".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        List<SpoolLog.Entry> beforeCorruption = spoolLog.peek(100);
+        spoolLog.commit(beforeCorruption);
+        List<SpoolLog.Entry> afterCorruption = spoolLog.peek(100);
+
+        // Then
+        assertThat(beforeCorruption).extracting(SpoolLogTest::text).containsExactly(label(0), label(1));
+        assertThat(afterCorruption).extracting(SpoolLogTest::text)
+            .containsExactly(label(perSegment), label(perSegment + 1), label(perSegment + 2));
+        assertThat(spoolLog.corruptedSegments()).isEqualTo(1);
+        assertThat(spoolLog.pendingRecords()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("디스크 사용량 상한에 도달하면 새 레코드를 거부하고, 비운 뒤에는 다시 받는다")
+    void append_RejectsBeyondDiskCap() {
+        // Given
+        SpoolLog spoolLog = SpoolLog.open(directory, SEGMENT_SIZE, SEGMENT_SIZE * 2);
+        int accepted = 0;
+        while (spoolLog.append(payload(accepted))) {
+            accepted++;
+        }
+
+        // When
+        spoolLog.commit(spoolLog.peek(accepted));
+
+        // Then
+        assertThat(spoolLog.diskUsage()).isLessThanOrEqualTo(SEGMENT_SIZE * 2);
+        assertThat(accepted).isGreaterThan(0);
+        assertThat(spoolLog.append(payload(accepted))).isTrue();
+        assertThat(spoolLog.append(new byte[(int) SEGMENT_SIZE])).isFalse();
+    }
+
+    @Test
+    @DisplayName("세그먼트 크기가 최대 디스크 사용량보다 크면 열 수 없다")
+    void open_RejectsInvalidSizes() {
+        // When & Then
+        assertThatThrownBy(() -> SpoolLog.open(directory, SEGMENT_SIZE, SEGMENT_SIZE - 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(SpoolLog.SEGMENT_SUFFIX)).sorted().toList();
+        }
+    }
+
+    private static void writeAt(Path file, int offset, byte[] bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(bytes), offset);
+        }
+    }
+
+    private static byte[] payload(int seq) {
+        return label(seq).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String label(int seq) {
+        return String.format("event-%05d-padding-padding-padding", seq);
+    }
+
+    private static String text(SpoolLog.Entry entry) {
+        return new String(entry.payload(), StandardCharsets.UTF_8);
+    }
+}
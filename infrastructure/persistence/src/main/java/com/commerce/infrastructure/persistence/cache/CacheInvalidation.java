@@ -0,0 +1,22 @@
+package com.commerce.infrastructure.persistence.cache;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 캐시 무효화 메시지
+ *
+ * @param cacheName 캐시 이름
+ * @param key       무효화할 키
+ * @param version   변경된 데이터의 버전. 이보다 낮은 버전의 값은 무효화 이후 다시 적재되지 않는다.
+ */
+public record CacheInvalidation(String cacheName, String key, long version) {
+
+    /**
+     * 수정 일시를 밀리초 단위 버전으로 변환한다.
+     * DB 컬럼은 TIMESTAMP(6)이므로(V15) 밀리초 미만만 버리면 저장소에서 다시 읽은 값과 같은 버전이 된다.
+     */
+    public static long versionOf(LocalDateTime updatedAt) {
+        return updatedAt != null ? updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+    }
+}
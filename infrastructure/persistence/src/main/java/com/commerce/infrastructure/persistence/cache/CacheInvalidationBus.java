@@ -0,0 +1,14 @@
+package com.commerce.infrastructure.persistence.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 인스턴스 간 캐시 무효화 메시지 전달 채널
+ * 발행한 인스턴스 자신도 구독자로서 메시지를 받는다.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
@@ -0,0 +1,63 @@
+package com.commerce.infrastructure.persistence.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 트랜잭션 커밋 이후 캐시 무효화 발행
+ *
+ * 커밋 전에 발행하면 다른 인스턴스가 무효화 직후 커밋 전 상태를 다시 적재할 수 있으므로 afterCommit에서 발행한다.
+ * 버전은 flush 이후 값(예: 수정 일시)을 쓰도록 커밋 시점에 계산하고,
+ * 한 트랜잭션에서 같은 키를 여러 번 변경하면 마지막 버전 하나만 발행한다. 롤백되면 발행하지 않는다.
+ */
+@RequiredArgsConstructor
+public class CacheInvalidationPublisher {
+
+    private static final String PENDING_RESOURCE = CacheInvalidationPublisher.class.getName() + ".PENDING";
+
+    private final CacheInvalidationBus bus;
+
+    public void publishAfterCommit(String cacheName, String key, LongSupplier version) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bus.publish(new CacheInvalidation(cacheName, key, version.getAsLong()));
+            return;
+        }
+        pending().put(cacheName + ':' + key, new PendingInvalidation(cacheName, key, version));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, PendingInvalidation> pending() {
+        Map<String, PendingInvalidation> pending =
+                (Map<String, PendingInvalidation>) TransactionSynchronizationManager.getResource(PENDING_RESOURCE);
+        if (pending != null) {
+            return pending;
+        }
+
+        Map<String, PendingInvalidation> newPending = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(PENDING_RESOURCE, newPending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                newPending.values().forEach(invalidation -> bus.publish(invalidation.resolve()));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_RESOURCE);
+            }
+        });
+        return newPending;
+    }
+
+    private record PendingInvalidation(String cacheName, String key, LongSupplier version) {
+
+        CacheInvalidation resolve() {
+            return new CacheInvalidation(cacheName, key, version.getAsLong());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.commerce.infrastructure.persistence.cache;
+
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 리전 이름
+ * 모든 리전은 기동 시 미리 생성되며, 목록에 없는 리전은 사용할 수 없다.
+ */
+public final class CacheRegions {
+
+    public static final String ACCOUNT = "account";
+    public static final String ACCOUNT_EMAIL = "account-email";
+
+    public static final String CUSTOMER_PROFILE = "customer-profile";
+    public static final String CUSTOMER_PROFILE_CUSTOMER_ID = "customer-profile-customer-id";
+    public static final String CUSTOMER_PROFILE_ADDRESSES = "customer-profile.addresses";
+    public static final String CUSTOMER_PROFILE_BRAND_PREFERENCES = "customer-profile.brand-preferences";
+    public static final String CUSTOMER_PROFILE_CATEGORY_INTERESTS = "customer-profile.category-interests";
+
+    public static final String ADDRESS = "address";
+    public static final String BRAND_PREFERENCE = "brand-preference";
+    public static final String CATEGORY_INTEREST = "category-interest";
+
+    public static final List<String> ALL = List.of(
+            ACCOUNT,
+            ACCOUNT_EMAIL,
+            CUSTOMER_PROFILE,
+            CUSTOMER_PROFILE_CUSTOMER_ID,
+            CUSTOMER_PROFILE_ADDRESSES,
+            CUSTOMER_PROFILE_BRAND_PREFERENCES,
+            CUSTOMER_PROFILE_CATEGORY_INTERESTS,
+            ADDRESS,
+            BRAND_PREFERENCE,
+            CATEGORY_INTEREST
+    );
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,112 @@
+package com.commerce.infrastructure.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프로세스 내 near cache (Caffeine)
+ *
+ * 원격 캐시/DB 앞단에서 자주 조회되는 키를 보관한다. 항목마다 데이터 버전을 함께 저장하며,
+ * 무효화로 받은 버전보다 낮은 값은 다시 적재하지 않는다.
+ * (무효화 직전에 시작된 조회나 아직 제거되지 않은 원격 캐시에서 읽은 이전 값이 무효화 이후 덮어쓰는 것을 방지)
+ *
+ * 같은 밀리초 안의 두 변경은 버전이 같으므로, 조회 시작 전에 {@link #loadStamp()}를 받아 두고
+ * 조회 도중 같은 버전의 무효화가 도착했다면 그 값도 이전 값일 수 있다고 보고 적재하지 않는다.
+ */
+public class NearCache<V> {
+
+    private final String name;
+    private final Cache<String, Entry<V>> entries;
+    private final Cache<String, Invalidated> invalidatedVersions;
+    private final AtomicLong invalidationSequence = new AtomicLong();
+
+    public NearCache(String name, long maximumSize, Duration timeToLive) {
+        this.name = name;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build();
+        // 무효화 버전은 TTL 동안만 의미가 있다 (그 이후에는 이전 값도 어차피 만료된다)
+        this.invalidatedVersions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public V get(String key) {
+        Entry<V> entry = entries.getIfPresent(key);
+        return entry != null ? entry.value() : null;
+    }
+
+    /**
+     * 저장소 조회를 시작하기 직전에 호출하여 {@link #put}에 넘긴다.
+     */
+    public long loadStamp() {
+        return invalidationSequence.get();
+    }
+
+    /**
+     * 값을 적재한다. 더 높은 버전으로 무효화되었거나, 조회 도중 같은 버전으로 무효화된 키라면
+     * 저장하지 않고 false를 반환한다.
+     *
+     * @param loadStamp 조회 시작 전에 받은 {@link #loadStamp()}
+     */
+    public boolean put(String key, V value, long version, long loadStamp) {
+        Invalidated invalidated = invalidatedVersions.getIfPresent(key);
+        if (invalidated != null && invalidated.rejects(version, loadStamp)) {
+            return false;
+        }
+        entries.asMap().merge(key, new Entry<>(value, version),
+                (current, candidate) -> candidate.version() >= current.version() ? candidate : current);
+        return true;
+    }
+
+    /**
+     * 무효화 메시지 반영: 해당 버전 이하의 항목을 제거하고 이후 낮은 버전의 적재를 막는다.
+     */
+    public void invalidate(String key, long version) {
+        Invalidated received = new Invalidated(version, invalidationSequence.incrementAndGet());
+        invalidatedVersions.asMap().merge(key, received,
+                (current, candidate) -> candidate.version() >= current.version() ? candidate : current);
+        entries.asMap().computeIfPresent(key, (k, entry) -> entry.version() > version ? entry : null);
+    }
+
+    /**
+     * 현재 인스턴스에서만 즉시 제거 (버전 기록 없음)
+     */
+    public void evict(String key) {
+        entries.invalidate(key);
+    }
+
+    /**
+     * 구독 중인 채널의 메시지 중 이 캐시에 해당하는 것만 반영한다.
+     */
+    public void subscribeTo(CacheInvalidationBus bus) {
+        bus.subscribe(invalidation -> {
+            if (name.equals(invalidation.cacheName())) {
+                invalidate(invalidation.key(), invalidation.version());
+            }
+        });
+    }
+
+    public long estimatedSize() {
+        return entries.estimatedSize();
+    }
+
+    private record Entry<V>(V value, long version) {
+    }
+
+    private record Invalidated(long version, long sequence) {
+
+        boolean rejects(long candidateVersion, long loadStamp) {
+            return candidateVersion < version || (candidateVersion == version && loadStamp < sequence);
+        }
+    }
+}
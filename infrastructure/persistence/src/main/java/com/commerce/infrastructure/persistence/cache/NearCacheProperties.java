@@ -0,0 +1,57 @@
+package com.commerce.infrastructure.persistence.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Near cache(프로세스 내 캐시)와 인스턴스 간 무효화 채널 설정
+ *
+ * <pre>
+ * commerce:
+ *   cache:
+ *     near:
+ *       enabled: true
+ *       time-to-live: 30s
+ *       maximum-size: 20000
+ *       invalidation-bus: redis
+ *       channel: "commerce:cache-invalidation"
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "commerce.cache.near")
+public class NearCacheProperties {
+
+    /**
+     * 계정/프로필 near cache 활성화 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 항목 유지 시간 (무효화 메시지가 유실되어도 이 시간 안에 반영된다)
+     */
+    private Duration timeToLive = Duration.ofSeconds(30);
+
+    /**
+     * 캐시별 최대 항목 수
+     */
+    private long maximumSize = 20_000;
+
+    /**
+     * 무효화 채널 종류 (local: 단일 인스턴스, redis: Redis pub/sub)
+     * 지정하지 않으면 near cache 또는 오프힙 프로필 저장소가 켜진 경우 redis, 그 외에는 local
+     */
+    private BusType invalidationBus;
+
+    /**
+     * Redis pub/sub 채널 이름
+     */
+    private String channel = "commerce:cache-invalidation";
+
+    public enum BusType {
+        LOCAL, REDIS
+    }
+}
@@ -0,0 +1,76 @@
+package com.commerce.infrastructure.persistence.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 기반 무효화 채널
+ * 메시지는 "cacheName \t version \t key" 형식의 문자열이다.
+ * pub/sub은 전달을 보장하지 않으므로 near cache TTL을 짧게 두어 유실된 무효화의 영향을 제한한다.
+ */
+@Slf4j
+public class RedisCacheInvalidationBus implements CacheInvalidationBus, MessageListener {
+
+    private static final char SEPARATOR = '\t';
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String channel;
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    public RedisCacheInvalidationBus(RedisTemplate<String, String> redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        try {
+            redisTemplate.convertAndSend(channel, encode(invalidation));
+        } catch (DataAccessException e) {
+            log.warn("캐시 무효화 발행 실패: {}", invalidation, e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidation invalidation = decode(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (invalidation == null) {
+            log.warn("알 수 없는 캐시 무효화 메시지를 무시합니다.");
+            return;
+        }
+        listeners.forEach(listener -> listener.accept(invalidation));
+    }
+
+    static String encode(CacheInvalidation invalidation) {
+        return invalidation.cacheName() + SEPARATOR + invalidation.version() + SEPARATOR + invalidation.key();
+    }
+
+    static CacheInvalidation decode(String message) {
+        int first = message.indexOf(SEPARATOR);
+        int second = first < 0 ? -1 : message.indexOf(SEPARATOR, first + 1);
+        if (second < 0) {
+            return null;
+        }
+        try {
+            return new CacheInvalidation(
+                    message.substring(0, first),
+                    message.substring(second + 1),
+                    Long.parseLong(message.substring(first + 1, second)));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.commerce.infrastructure.persistence.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 2차 캐시 리전별 히트/미스/적재 수와 히트율을 Micrometer로 노출
+ * (actuator /metrics/hibernate.second.level.cache.hit.ratio?tag=region:account)
+ */
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private static final String PREFIX = "hibernate.second.level.cache";
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheMetrics(Statistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : CacheRegions.ALL) {
+            counter(registry, region, "hit", CacheRegionStatistics::getHitCount);
+            counter(registry, region, "miss", CacheRegionStatistics::getMissCount);
+            FunctionCounter.builder(PREFIX + ".puts", statistics, s -> value(s, region, CacheRegionStatistics::getPutCount))
+                    .tag("region", region)
+                    .description("2차 캐시 적재 수")
+                    .register(registry);
+            Gauge.builder(PREFIX + ".hit.ratio", statistics, s -> hitRatio(s, region))
+                    .tag("region", region)
+                    .description("2차 캐시 히트율 (기동 이후 누적)")
+                    .register(registry);
+        }
+    }
+
+    static double hitRatio(Statistics statistics, String region) {
+        double hits = value(statistics, region, CacheRegionStatistics::getHitCount);
+        double misses = value(statistics, region, CacheRegionStatistics::getMissCount);
+        double requests = hits + misses;
+        return requests == 0 ? 0.0 : hits / requests;
+    }
+
+    private void counter(MeterRegistry registry, String region, String result,
+                         ToDoubleFunction<CacheRegionStatistics> extractor) {
+        FunctionCounter.builder(PREFIX + ".requests", statistics, s -> value(s, region, extractor))
+                .tag("region", region)
+                .tag("result", result)
+                .description("2차 캐시 조회 수")
+                .register(registry);
+    }
+
+    private static double value(Statistics statistics, String region,
+                                ToDoubleFunction<CacheRegionStatistics> extractor) {
+        CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+        return regionStatistics != null ? extractor.applyAsDouble(regionStatistics) : 0.0;
+    }
+}
@@ -0,0 +1,40 @@
+package com.commerce.infrastructure.persistence.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Hibernate 2차 캐시 설정
+ *
+ * <pre>
+ * commerce:
+ *   jpa:
+ *     second-level-cache:
+ *       enabled: true
+ *       time-to-live: 5m
+ *       maximum-size: 10000
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "commerce.jpa.second-level-cache")
+public class SecondLevelCacheProperties {
+
+    /**
+     * 2차 캐시 활성화 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시 항목 유지 시간 (노드 로컬 캐시이므로 다른 인스턴스의 변경은 이 시간 안에 반영된다)
+     */
+    private Duration timeToLive = Duration.ofMinutes(5);
+
+    /**
+     * 리전별 최대 항목 수
+     */
+    private long maximumSize = 10_000;
+}
@@ -0,0 +1,115 @@
+package com.commerce.infrastructure.persistence.config;
+
+import com.commerce.infrastructure.persistence.datasource.DataSourceRoutingProperties;
+import com.commerce.infrastructure.persistence.datasource.LocalWriteMarkerStore;
+import com.commerce.infrastructure.persistence.datasource.ReadWriteRoutingDataSource;
+import com.commerce.infrastructure.persistence.datasource.RedisWriteMarkerStore;
+import com.commerce.infrastructure.persistence.datasource.ReplicaLagGuard;
+import com.commerce.infrastructure.persistence.datasource.WriteMarkerStore;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 분리 DataSource 설정
+ * commerce.datasource.routing.enabled=true 인 경우에만 활성화되며,
+ * spring.datasource는 Primary, commerce.datasource.routing.replicas는 Replica 풀로 구성된다.
+ * read-your-writes 쓰기 기록은 commerce.datasource.routing.write-marker-store 로 인스턴스 간 공유 여부를 고른다.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReplicaLagGuard replicaLagGuard(DataSourceRoutingProperties properties, WriteMarkerStore writeMarkerStore) {
+        Duration window = properties.getReadYourWritesWindow();
+        return new ReplicaLagGuard(properties.isEnabled() && !window.isZero() && !window.isNegative(), writeMarkerStore);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "commerce.datasource.routing", name = "write-marker-store", havingValue = "local", matchIfMissing = true)
+    public WriteMarkerStore localWriteMarkerStore(DataSourceRoutingProperties properties) {
+        return new LocalWriteMarkerStore(properties.getReadYourWritesWindow(), properties.getMaxTrackedKeys(),
+                Clock.systemUTC());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "commerce.datasource.routing", name = "write-marker-store", havingValue = "redis")
+    public WriteMarkerStore redisWriteMarkerStore(RedisTemplate<String, String> redisTemplate,
+                                                  DataSourceRoutingProperties properties) {
+        return new RedisWriteMarkerStore(redisTemplate, properties.getWriteMarkerKeyPrefix(),
+                properties.getReadYourWritesWindow());
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "commerce.datasource.routing", name = "enabled", havingValue = "true")
+    static class RoutingDataSourceConfig {
+
+        @Bean
+        @ConfigurationProperties(prefix = "spring.datasource.hikari")
+        public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties,
+                                                  ObjectProvider<MeterRegistry> meterRegistry) {
+            HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .build();
+            dataSource.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+            meterRegistry.ifAvailable(registry ->
+                    dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            return dataSource;
+        }
+
+        @Bean
+        public ReadWriteRoutingDataSource readWriteRoutingDataSource(HikariDataSource primaryDataSource,
+                                                                     DataSourceRoutingProperties properties,
+                                                                     ObjectProvider<MeterRegistry> meterRegistry) {
+            List<DataSource> replicas = new ArrayList<>();
+            for (int i = 0; i < properties.getReplicas().size(); i++) {
+                replicas.add(createReplica(i, properties.getReplicas().get(i), meterRegistry.getIfAvailable()));
+            }
+            return new ReadWriteRoutingDataSource(primaryDataSource, replicas);
+        }
+
+        @Bean
+        @Primary
+        public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+            // 트랜잭션의 readOnly 속성이 확정된 뒤 첫 쿼리 시점에 실제 커넥션을 선택
+            return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+        }
+
+        private HikariDataSource createReplica(int index, DataSourceRoutingProperties.Replica replica,
+                                               MeterRegistry meterRegistry) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(ReadWriteRoutingDataSource.replicaKey(index));
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername());
+            dataSource.setPassword(replica.getPassword());
+            if (replica.getDriverClassName() != null) {
+                dataSource.setDriverClassName(replica.getDriverClassName());
+            }
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setMinimumIdle(replica.getMinimumIdle());
+            dataSource.setConnectionTimeout(replica.getConnectionTimeout());
+            dataSource.setReadOnly(true);
+            if (meterRegistry != null) {
+                dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            }
+            return dataSource;
+        }
+    }
+}
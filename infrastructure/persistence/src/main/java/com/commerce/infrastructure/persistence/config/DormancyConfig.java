@@ -0,0 +1,40 @@
+package com.commerce.infrastructure.persistence.config;
+
+import com.commerce.customer.core.domain.event.DomainEventPublisher;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidationPublisher;
+import com.commerce.infrastructure.persistence.customer.dormancy.DormancyProperties;
+import com.commerce.infrastructure.persistence.customer.dormancy.DormantAccountBatch;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+
+/**
+ * 장기 미접속 계정 휴면 전환 배치 설정
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(DormancyProperties.class)
+@ConditionalOnProperty(prefix = "commerce.dormancy", name = "enabled", havingValue = "true")
+public class DormancyConfig {
+
+    @Bean
+    public DormantAccountBatch dormantAccountBatch(EntityManagerFactory entityManagerFactory,
+                                                   JPAQueryFactory jpaQueryFactory,
+                                                   PlatformTransactionManager transactionManager,
+                                                   DomainEventPublisher domainEventPublisher,
+                                                   CacheInvalidationPublisher cacheInvalidationPublisher,
+                                                   DormancyProperties properties) {
+        return new DormantAccountBatch(entityManagerFactory.unwrap(SessionFactory.class), jpaQueryFactory,
+                new TransactionTemplate(transactionManager), domainEventPublisher, cacheInvalidationPublisher,
+                properties, Clock.systemDefaultZone());
+    }
+}
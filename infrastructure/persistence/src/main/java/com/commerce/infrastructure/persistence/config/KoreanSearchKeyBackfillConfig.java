@@ -0,0 +1,36 @@
+package com.commerce.infrastructure.persistence.config;
+
+import com.commerce.infrastructure.persistence.customer.search.KoreanSearchKeyBackfill;
+import com.commerce.infrastructure.persistence.customer.search.KoreanSearchKeyBackfillProperties;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 한글 검색 키 일괄 채움 작업 설정
+ * V5 이전 데이터의 키를 채우기 위한 일회성 작업으로, 기동 완료 후 한 번 실행한다.
+ */
+@Configuration
+@EnableConfigurationProperties(KoreanSearchKeyBackfillProperties.class)
+@ConditionalOnProperty(prefix = "commerce.search-key-backfill", name = "enabled", havingValue = "true")
+public class KoreanSearchKeyBackfillConfig {
+
+    @Bean
+    public KoreanSearchKeyBackfill koreanSearchKeyBackfill(JPAQueryFactory jpaQueryFactory,
+                                                           PlatformTransactionManager transactionManager,
+                                                           KoreanSearchKeyBackfillProperties properties) {
+        return new KoreanSearchKeyBackfill(jpaQueryFactory, new TransactionTemplate(transactionManager),
+                properties.getChunkSize());
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> koreanSearchKeyBackfillRunner(KoreanSearchKeyBackfill koreanSearchKeyBackfill) {
+        return event -> koreanSearchKeyBackfill.run();
+    }
+}
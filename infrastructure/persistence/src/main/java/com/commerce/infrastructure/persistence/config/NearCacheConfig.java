@@ -0,0 +1,114 @@
+package com.commerce.infrastructure.persistence.config;
+
+import com.commerce.customer.core.domain.repository.AccountRepository;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidationBus;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidationPublisher;
+import com.commerce.infrastructure.persistence.cache.LocalCacheInvalidationBus;
+import com.commerce.infrastructure.persistence.cache.NearCache;
+import com.commerce.infrastructure.persistence.cache.NearCacheProperties;
+import com.commerce.infrastructure.persistence.cache.RedisCacheInvalidationBus;
+import com.commerce.infrastructure.persistence.customer.adapter.AccountRepositoryAdapter;
+import com.commerce.infrastructure.persistence.customer.cache.NearCacheKeys;
+import com.commerce.infrastructure.persistence.customer.cache.NearCachingAccountRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.util.StringUtils;
+
+/**
+ * Near cache와 캐시 무효화 채널 설정
+ *
+ * 무효화 발행은 near cache 사용 여부와 관계없이 항상 수행하여, 일부 인스턴스만 near cache를 켠 경우에도
+ * 다른 인스턴스의 변경이 반영되도록 한다. 채널은 commerce.cache.near.invalidation-bus 로 선택하며,
+ * 지정하지 않으면 프로세스 내 캐시(near cache, 오프힙 프로필)가 켜져 있을 때만 redis, 아니면 local을 쓴다.
+ */
+@Configuration
+@EnableConfigurationProperties(NearCacheProperties.class)
+public class NearCacheConfig {
+
+    @Bean
+    @Conditional(OnLocalInvalidationBus.class)
+    public CacheInvalidationBus localCacheInvalidationBus() {
+        return new LocalCacheInvalidationBus();
+    }
+
+    @Bean
+    @Conditional(OnRedisInvalidationBus.class)
+    public RedisCacheInvalidationBus redisCacheInvalidationBus(RedisTemplate<String, String> redisTemplate,
+                                                               NearCacheProperties properties) {
+        return new RedisCacheInvalidationBus(redisTemplate, properties.getChannel());
+    }
+
+    @Bean
+    @Conditional(OnRedisInvalidationBus.class)
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            RedisCacheInvalidationBus redisCacheInvalidationBus,
+                                                                            NearCacheProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(redisCacheInvalidationBus, new ChannelTopic(properties.getChannel()));
+        return container;
+    }
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(CacheInvalidationBus cacheInvalidationBus) {
+        return new CacheInvalidationPublisher(cacheInvalidationBus);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "commerce.cache.near", name = "enabled", havingValue = "true")
+    public AccountRepository nearCachingAccountRepository(AccountRepositoryAdapter accountRepositoryAdapter,
+                                                          CacheInvalidationBus cacheInvalidationBus,
+                                                          NearCacheProperties properties) {
+        return new NearCachingAccountRepository(accountRepositoryAdapter,
+                nearCache(NearCacheKeys.ACCOUNT, cacheInvalidationBus, properties));
+    }
+
+    static <V> NearCache<V> nearCache(String name, CacheInvalidationBus bus, NearCacheProperties properties) {
+        NearCache<V> nearCache = new NearCache<>(name, properties.getMaximumSize(), properties.getTimeToLive());
+        nearCache.subscribeTo(bus);
+        return nearCache;
+    }
+
+    static boolean usesRedisInvalidationBus(Environment environment) {
+        String bus = environment.getProperty("commerce.cache.near.invalidation-bus");
+        if (StringUtils.hasText(bus)) {
+            return NearCacheProperties.BusType.REDIS.name().equalsIgnoreCase(bus.trim());
+        }
+        return environment.getProperty("commerce.cache.near.enabled", Boolean.class, false)
+                || environment.getProperty("commerce.cache.offheap-profile.enabled", Boolean.class, false);
+    }
+
+    static class OnRedisInvalidationBus extends SpringBootCondition {
+
+        @Override
+        public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return usesRedisInvalidationBus(context.getEnvironment())
+                    ? ConditionOutcome.match("Redis 무효화 채널 사용")
+                    : ConditionOutcome.noMatch("Redis 무효화 채널 미사용");
+        }
+    }
+
+    static class OnLocalInvalidationBus extends SpringBootCondition {
+
+        @Override
+        public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return usesRedisInvalidationBus(context.getEnvironment())
+                    ? ConditionOutcome.noMatch("Redis 무효화 채널 사용")
+                    : ConditionOutcome.match("로컬 무효화 채널 사용");
+        }
+    }
+}
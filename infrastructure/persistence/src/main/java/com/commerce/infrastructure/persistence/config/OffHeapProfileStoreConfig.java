@@ -0,0 +1,74 @@
+package com.commerce.infrastructure.persistence.config;
+
+import com.commerce.common.offheap.SegmentAllocator;
+import com.commerce.customer.core.domain.repository.profile.ProfileSummaryRepository;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidationBus;
+import com.commerce.infrastructure.persistence.customer.adapter.ProfileSummaryRepositoryAdapter;
+import com.commerce.infrastructure.persistence.customer.cache.NearCacheKeys;
+import com.commerce.infrastructure.persistence.customer.offheap.OffHeapProfileLoader;
+import com.commerce.infrastructure.persistence.customer.offheap.OffHeapProfileProperties;
+import com.commerce.infrastructure.persistence.customer.offheap.OffHeapProfileStore;
+import com.commerce.infrastructure.persistence.customer.offheap.OffHeapProfileSummaryRepository;
+import com.commerce.infrastructure.persistence.customer.repository.CustomerProfileQueryRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 오프힙 프로필 저장소 설정
+ * 기동 완료 후 전체 프로필을 적재하고, 프로필 변경 무효화 메시지를 받으면 해당 고객의 스냅샷을 다시 읽어 기록한다.
+ * 프로필 요약 조회는 저장소를 먼저 읽고, 저장소에 없는 고객만 원본 저장소에서 조회한다.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(OffHeapProfileProperties.class)
+@ConditionalOnProperty(prefix = "commerce.cache.offheap-profile", name = "enabled", havingValue = "true")
+public class OffHeapProfileStoreConfig {
+
+    @Bean(destroyMethod = "close")
+    public OffHeapProfileStore offHeapProfileStore(OffHeapProfileProperties properties) {
+        SegmentAllocator allocator = properties.getDirectory() != null
+                ? SegmentAllocator.memoryMapped(properties.getDirectory(), "profiles")
+                : SegmentAllocator.direct();
+        return new OffHeapProfileStore(allocator,
+                (int) properties.getSegmentSize().toBytes(), properties.getExpectedEntries());
+    }
+
+    @Bean
+    public OffHeapProfileLoader offHeapProfileLoader(CustomerProfileQueryRepository customerProfileQueryRepository,
+                                                     OffHeapProfileStore offHeapProfileStore,
+                                                     PlatformTransactionManager transactionManager,
+                                                     CacheInvalidationBus cacheInvalidationBus,
+                                                     OffHeapProfileProperties properties) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        OffHeapProfileLoader loader = new OffHeapProfileLoader(customerProfileQueryRepository, offHeapProfileStore,
+                readOnlyTransaction, properties.getLoadChunkSize(), properties.getCompactionStaleRatio());
+        cacheInvalidationBus.subscribe(invalidation -> {
+            if (NearCacheKeys.CUSTOMER_PROFILE.equals(invalidation.cacheName())) {
+                loader.refresh(Long.parseLong(invalidation.key()));
+            }
+        });
+        return loader;
+    }
+
+    @Bean
+    @Primary
+    public ProfileSummaryRepository offHeapProfileSummaryRepository(OffHeapProfileStore offHeapProfileStore,
+                                                                    ProfileSummaryRepositoryAdapter profileSummaryRepositoryAdapter) {
+        return new OffHeapProfileSummaryRepository(offHeapProfileStore, profileSummaryRepositoryAdapter);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "commerce.cache.offheap-profile", name = "load-on-startup", havingValue = "true", matchIfMissing = true)
+    public ApplicationListener<ApplicationReadyEvent> offHeapProfileStartupLoader(OffHeapProfileLoader offHeapProfileLoader) {
+        return event -> offHeapProfileLoader.load();
+    }
+}
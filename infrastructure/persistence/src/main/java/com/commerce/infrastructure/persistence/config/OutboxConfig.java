@@ -0,0 +1,31 @@
+package com.commerce.infrastructure.persistence.config;
+
+import com.commerce.customer.core.domain.event.DomainEventPublisher;
+import com.commerce.infrastructure.persistence.outbox.OutboxDomainEventPublisher;
+import com.commerce.infrastructure.persistence.outbox.repository.OutboxEventJpaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Clock;
+
+/**
+ * 트랜잭션 아웃박스 설정
+ * 활성화하면 도메인 이벤트는 outbox 테이블에 기록되고, 브로커 전송은 kafka 모듈의 릴레이가 담당한다.
+ * <pre>
+ * commerce:
+ *   outbox:
+ *     enabled: true
+ * </pre>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "commerce.outbox", name = "enabled", havingValue = "true")
+public class OutboxConfig {
+
+    @Bean
+    @Primary
+    public DomainEventPublisher outboxDomainEventPublisher(OutboxEventJpaRepository outboxEventJpaRepository) {
+        return new OutboxDomainEventPublisher(outboxEventJpaRepository, Clock.systemDefaultZone());
+    }
+}
@@ -0,0 +1,87 @@
+package com.commerce.infrastructure.persistence.config;
+
+import com.commerce.customer.core.domain.repository.profile.CustomerProfileRepository;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidationBus;
+import com.commerce.infrastructure.persistence.cache.NearCacheProperties;
+import com.commerce.infrastructure.persistence.customer.adapter.CustomerProfileRepositoryAdapter;
+import com.commerce.infrastructure.persistence.customer.cache.CachingCustomerProfileRepository;
+import com.commerce.infrastructure.persistence.customer.cache.NearCacheKeys;
+import com.commerce.infrastructure.persistence.customer.cache.NearCachingCustomerProfileRepository;
+import com.commerce.infrastructure.persistence.customer.cache.ProfileCacheProperties;
+import com.commerce.infrastructure.persistence.customer.cache.ProfileCacheStore;
+import com.commerce.infrastructure.persistence.customer.cache.RedisProfileCacheStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * 프로필 캐시 설정
+ * 활성화된 계층에 따라 CustomerProfileRepository를 near cache → Redis 캐시 → DB 순서로 감싼다.
+ * - commerce.cache.profile.enabled=true : Redis 캐시
+ * - commerce.cache.near.enabled=true : 프로세스 내 near cache
+ */
+@Configuration
+@EnableConfigurationProperties({ProfileCacheProperties.class, NearCacheProperties.class})
+@Conditional(ProfileCacheConfig.OnAnyProfileCacheTier.class)
+public class ProfileCacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "commerce.cache.profile", name = "enabled", havingValue = "true")
+    public RedisTemplate<String, byte[]> profileCacheRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "commerce.cache.profile", name = "enabled", havingValue = "true")
+    public ProfileCacheStore profileCacheStore(RedisTemplate<String, byte[]> profileCacheRedisTemplate) {
+        return new RedisProfileCacheStore(profileCacheRedisTemplate);
+    }
+
+    @Bean
+    @Primary
+    public CustomerProfileRepository cachingCustomerProfileRepository(CustomerProfileRepositoryAdapter customerProfileRepositoryAdapter,
+                                                                      ObjectProvider<ProfileCacheStore> profileCacheStore,
+                                                                      ProfileCacheProperties profileCacheProperties,
+                                                                      NearCacheProperties nearCacheProperties,
+                                                                      CacheInvalidationBus cacheInvalidationBus) {
+        CustomerProfileRepository repository = customerProfileRepositoryAdapter;
+        ProfileCacheStore cacheStore = profileCacheStore.getIfAvailable();
+        if (cacheStore != null) {
+            repository = new CachingCustomerProfileRepository(repository, cacheStore, profileCacheProperties);
+        }
+        if (nearCacheProperties.isEnabled()) {
+            repository = new NearCachingCustomerProfileRepository(repository,
+                    NearCacheConfig.nearCache(NearCacheKeys.CUSTOMER_PROFILE, cacheInvalidationBus, nearCacheProperties));
+        }
+        return repository;
+    }
+
+    static class OnAnyProfileCacheTier extends AnyNestedCondition {
+
+        OnAnyProfileCacheTier() {
+            super(ConfigurationPhase.REGISTER_BEAN);
+        }
+
+        @ConditionalOnProperty(prefix = "commerce.cache.profile", name = "enabled", havingValue = "true")
+        static class RedisTier {
+        }
+
+        @ConditionalOnProperty(prefix = "commerce.cache.near", name = "enabled", havingValue = "true")
+        static class NearTier {
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.commerce.infrastructure.persistence.config;
+
+import com.commerce.infrastructure.persistence.cache.CacheInvalidationPublisher;
+import com.commerce.infrastructure.persistence.retention.DeletedAccountRetentionTarget;
+import com.commerce.infrastructure.persistence.retention.InactiveProfileRetentionTarget;
+import com.commerce.infrastructure.persistence.retention.NdjsonArchiveWriter;
+import com.commerce.infrastructure.persistence.retention.ProcessedOrderEventRetentionTarget;
+import com.commerce.infrastructure.persistence.retention.RetentionArchiver;
+import com.commerce.infrastructure.persistence.retention.RetentionMetrics;
+import com.commerce.infrastructure.persistence.retention.RetentionProperties;
+import com.commerce.infrastructure.persistence.retention.RetentionTarget;
+import com.commerce.infrastructure.persistence.retention.SentOutboxRetentionTarget;
+import com.commerce.infrastructure.persistence.retention.repository.RetentionProgressJpaRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.util.List;
+
+/**
+ * 보존 기간 기반 보관/삭제 작업 설정
+ * 탈퇴 계정 보관 테이블, 장기 비활성 프로필, 발행 완료된 outbox 행, 구매 집계에 반영한 이벤트 ID를
+ * 주기적으로 NDJSON 파일로 옮기고 삭제한다.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(RetentionProperties.class)
+@ConditionalOnProperty(prefix = "commerce.retention", name = "enabled", havingValue = "true")
+public class RetentionConfig {
+
+    @Bean
+    public DeletedAccountRetentionTarget deletedAccountRetentionTarget(JPAQueryFactory jpaQueryFactory,
+                                                                       RetentionProperties properties) {
+        return new DeletedAccountRetentionTarget(jpaQueryFactory, properties.getDeletedAccounts().getRetention());
+    }
+
+    @Bean
+    public InactiveProfileRetentionTarget inactiveProfileRetentionTarget(JPAQueryFactory jpaQueryFactory,
+                                                                         EntityManager entityManager,
+                                                                         CacheInvalidationPublisher cacheInvalidationPublisher,
+                                                                         RetentionProperties properties) {
+        RetentionProperties.InactiveProfiles inactiveProfiles = properties.getInactiveProfiles();
+        return new InactiveProfileRetentionTarget(jpaQueryFactory, entityManager, cacheInvalidationPublisher,
+                inactiveProfiles.getRetention(), inactiveProfiles.getStatuses());
+    }
+
+    @Bean
+    public SentOutboxRetentionTarget sentOutboxRetentionTarget(JPAQueryFactory jpaQueryFactory,
+                                                               RetentionProperties properties) {
+        return new SentOutboxRetentionTarget(jpaQueryFactory, properties.getSentOutbox().getRetention());
+    }
+
+    @Bean
+    public ProcessedOrderEventRetentionTarget processedOrderEventRetentionTarget(JPAQueryFactory jpaQueryFactory,
+                                                                                 RetentionProperties properties) {
+        return new ProcessedOrderEventRetentionTarget(jpaQueryFactory,
+                properties.getProcessedOrderEvents().getRetention());
+    }
+
+    @Bean
+    public RetentionMetrics retentionMetrics(List<RetentionTarget> targets) {
+        return new RetentionMetrics(targets.stream().map(RetentionTarget::name).toList());
+    }
+
+    @Bean
+    public RetentionArchiver retentionArchiver(List<RetentionTarget> targets,
+                                               RetentionProgressJpaRepository retentionProgressJpaRepository,
+                                               PlatformTransactionManager transactionManager,
+                                               RetentionMetrics retentionMetrics,
+                                               RetentionProperties properties) {
+        Clock clock = Clock.systemDefaultZone();
+        return new RetentionArchiver(targets, retentionProgressJpaRepository,
+                new NdjsonArchiveWriter(properties.getArchiveDirectory(), clock),
+                new TransactionTemplate(transactionManager), retentionMetrics, properties, clock);
+    }
+}
@@ -2,15 +2,23 @@ package com.commerce.infrastructure.persistence.customer.adapter;
 
 import com.commerce.customer.core.domain.model.*;
 import com.commerce.customer.core.domain.repository.AccountRepository;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidation;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidationPublisher;
+import com.commerce.infrastructure.persistence.cache.SecondLevelCacheEvictor;
+import com.commerce.infrastructure.persistence.customer.cache.NearCacheKeys;
+import com.commerce.infrastructure.persistence.datasource.ReplicaLagGuard;
 import com.commerce.infrastructure.persistence.customer.entity.AccountEntity;
+import com.commerce.infrastructure.persistence.customer.entity.DeletedAccountEntity;
 import com.commerce.infrastructure.persistence.customer.mapper.AccountMapper;
 import com.commerce.infrastructure.persistence.customer.repository.AccountJpaRepository;
 import com.commerce.infrastructure.persistence.customer.repository.AccountQueryRepository;
+import com.commerce.infrastructure.persistence.customer.repository.DeletedAccountJpaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 @Repository
 @RequiredArgsConstructor
@@ -21,6 +29,10 @@ public class AccountRepositoryAdapter implements AccountRepository {
     private final AccountJpaRepository accountJpaRepository;
     private final AccountQueryRepository accountQueryRepository;
     private final AccountMapper accountMapper;
+    private final ReplicaLagGuard replicaLagGuard;
+    private final SecondLevelCacheEvictor secondLevelCacheEvictor;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final DeletedAccountJpaRepository deletedAccountJpaRepository;
     
     @Override
     public CustomerId generateCustomerId() {
@@ -30,6 +42,7 @@ public class AccountRepositoryAdapter implements AccountRepository {
     @Override
     public Account save(Account account) {
         AccountEntity entity;
+        replicaLagGuard.touch(ReplicaLagGuard.customerKey(account.getCustomerId().getValue()));
         
         // ID가 있는 경우 기존 엔티티를 조회하여 업데이트
         if (account.getAccountId() != null && account.getAccountId().isAssigned()) {
@@ -54,34 +67,44 @@ public class AccountRepositoryAdapter implements AccountRepository {
         }
         
         AccountEntity savedEntity = accountJpaRepository.save(entity);
+        replicaLagGuard.touch(ReplicaLagGuard.accountKey(savedEntity.getAccountId()));
+        replicaLagGuard.touch(ReplicaLagGuard.emailKey(savedEntity.getEmail()));
+        publishInvalidation(savedEntity);
         return accountMapper.toDomain(savedEntity);
     }
 
     @Override
     public Optional<Account> findById(AccountId accountId) {
+        replicaLagGuard.touch(ReplicaLagGuard.accountKey(accountId.getValue()));
         return accountQueryRepository.findById(accountId.getValue())
+                .map(this::markCustomerWritten)
                 .map(accountMapper::toDomain);
     }
 
     @Override
     public Optional<Account> findByEmail(Email email) {
+        replicaLagGuard.touch(ReplicaLagGuard.emailKey(email.getValue()));
         return accountQueryRepository.findByEmail(email.getValue())
+                .map(this::markCustomerWritten)
                 .map(accountMapper::toDomain);
     }
 
     @Override
     public Optional<Account> findByCustomerId(CustomerId customerId) {
+        replicaLagGuard.touch(ReplicaLagGuard.customerKey(customerId.getValue()));
         return accountQueryRepository.findByCustomerId(customerId.getValue())
                 .map(accountMapper::toDomain);
     }
 
     @Override
     public boolean existsByEmail(Email email) {
+        replicaLagGuard.touch(ReplicaLagGuard.emailKey(email.getValue()));
         return accountQueryRepository.existsByEmail(email.getValue());
     }
 
     @Override
     public boolean existsByCustomerId(CustomerId customerId) {
+        replicaLagGuard.touch(ReplicaLagGuard.customerKey(customerId.getValue()));
         return accountQueryRepository.existsByCustomerId(customerId.getValue());
     }
 
@@ -91,23 +114,53 @@ public class AccountRepositoryAdapter implements AccountRepository {
             throw new IllegalStateException("ID가 할당되지 않은 계정은 삭제할 수 없습니다.");
         }
         
-        // Soft Delete: 물리적 삭제 대신 논리적 삭제 수행
+        // 삭제된 계정은 accounts_deleted로 옮겨 live 테이블과 유일 인덱스에는 살아 있는 행만 남긴다
+        replicaLagGuard.touch(ReplicaLagGuard.accountKey(account.getAccountId().getValue()));
         accountJpaRepository.findById(account.getAccountId().getValue())
+            .map(this::markCustomerWritten)
             .ifPresent(entity -> {
                 entity.markAsDeleted();
-                accountJpaRepository.save(entity);
+                deletedAccountJpaRepository.save(DeletedAccountEntity.from(entity));
+                accountJpaRepository.delete(entity);
+                // 다른 요청이 삭제 전 상태를 캐시에서 읽지 않도록 커밋 후 제거
+                secondLevelCacheEvictor.evictAfterCommit(AccountEntity.class, entity.getAccountId());
+                // 삭제 후에는 수정 일시가 갱신되지 않으므로 삭제 일시를 버전으로 사용
+                publishInvalidation(entity, () -> CacheInvalidation.versionOf(entity.getDeletedAt()));
             });
     }
 
     @Override
     public Optional<Account> findActiveByEmail(Email email) {
+        replicaLagGuard.touch(ReplicaLagGuard.emailKey(email.getValue()));
         return accountQueryRepository.findActiveAccountByEmail(email.getValue())
                 .map(accountMapper::toDomain);
     }
 
     @Override
     public Optional<Account> findActiveByCustomerId(CustomerId customerId) {
+        replicaLagGuard.touch(ReplicaLagGuard.customerKey(customerId.getValue()));
         return accountQueryRepository.findActiveAccountByCustomerId(customerId.getValue())
                 .map(accountMapper::toDomain);
     }
+
+    // 다른 인스턴스의 near cache 무효화는 커밋 후 발행 (버전은 flush 이후 갱신된 수정 일시)
+    private void publishInvalidation(AccountEntity entity) {
+        publishInvalidation(entity, () -> CacheInvalidation.versionOf(entity.getUpdatedAt()));
+    }
+
+    private void publishInvalidation(AccountEntity entity, LongSupplier version) {
+        cacheInvalidationPublisher.publishAfterCommit(NearCacheKeys.ACCOUNT,
+                NearCacheKeys.accountId(entity.getAccountId()), version);
+        cacheInvalidationPublisher.publishAfterCommit(NearCacheKeys.ACCOUNT,
+                NearCacheKeys.accountEmail(entity.getEmail()), version);
+    }
+
+    // 쓰기 트랜잭션에서 조회한 계정의 고객도 커밋 후 read-your-writes 대상이 되도록 기록
+    // (조회 후에는 커넥션이 이미 선택되었으므로 라우팅 판단 없이 쓰기 기록만 남긴다)
+    private AccountEntity markCustomerWritten(AccountEntity entity) {
+        replicaLagGuard.markWritten(ReplicaLagGuard.accountKey(entity.getAccountId()));
+        replicaLagGuard.markWritten(ReplicaLagGuard.customerKey(entity.getCustomerId()));
+        replicaLagGuard.markWritten(ReplicaLagGuard.emailKey(entity.getEmail()));
+        return entity;
+    }
 }
\ No newline at end of file
@@ -1,15 +1,25 @@
 package com.commerce.infrastructure.persistence.customer.adapter;
 
+import com.commerce.customer.core.domain.exception.OptimisticLockConflictException;
 import com.commerce.customer.core.domain.model.CustomerId;
 import com.commerce.customer.core.domain.model.profile.CustomerProfile;
 import com.commerce.customer.core.domain.model.profile.ProfileId;
 import com.commerce.customer.core.domain.repository.profile.CustomerProfileRepository;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidation;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidationPublisher;
+import com.commerce.infrastructure.persistence.customer.cache.NearCacheKeys;
+import com.commerce.infrastructure.persistence.datasource.ReplicaLagGuard;
 import com.commerce.infrastructure.persistence.customer.entity.CustomerProfileEntity;
 import com.commerce.infrastructure.persistence.customer.mapper.CustomerProfileMapper;
+import com.commerce.infrastructure.persistence.customer.repository.AccountQueryRepository;
 import com.commerce.infrastructure.persistence.customer.repository.CustomerProfileJpaRepository;
+import com.commerce.infrastructure.persistence.customer.repository.CustomerProfileQueryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,19 +27,25 @@ import java.util.Optional;
 public class CustomerProfileRepositoryAdapter implements CustomerProfileRepository {
 
     private final CustomerProfileJpaRepository customerProfileJpaRepository;
+    private final CustomerProfileQueryRepository customerProfileQueryRepository;
     private final CustomerProfileMapper customerProfileMapper;
+    private final ReplicaLagGuard replicaLagGuard;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final AccountQueryRepository accountQueryRepository;
 
     @Override
     public CustomerProfile save(CustomerProfile customerProfile) {
         CustomerProfileEntity entity;
+        replicaLagGuard.touch(ReplicaLagGuard.customerKey(customerProfile.getCustomerId().getValue()));
         
         // 기존 프로필이 있는지 CustomerId로 확인
         Optional<CustomerProfileEntity> existingEntity = 
             customerProfileJpaRepository.findByCustomerId(customerProfile.getCustomerId().getValue());
         
         if (existingEntity.isPresent()) {
-            // 기존 엔티티 업데이트
+            // 기존 엔티티 업데이트 (읽은 시점 이후 다른 요청이 먼저 저장했다면 덮어쓰지 않음)
             entity = existingEntity.get();
+            verifyVersion(entity, customerProfile);
             updateEntityFromDomain(entity, customerProfile);
         } else {
             // 새로운 엔티티 생성
@@ -37,9 +53,33 @@ public class CustomerProfileRepositoryAdapter implements CustomerProfileReposito
         }
         
         CustomerProfileEntity savedEntity = customerProfileJpaRepository.save(entity);
+        replicaLagGuard.touch(ReplicaLagGuard.profileKey(savedEntity.getProfileId()));
+        markAccountWritten(savedEntity.getCustomerId());
+        // 다른 인스턴스의 near cache 무효화는 커밋 후 발행 (버전은 flush 이후 갱신된 수정 일시)
+        cacheInvalidationPublisher.publishAfterCommit(NearCacheKeys.CUSTOMER_PROFILE,
+                NearCacheKeys.customerProfile(savedEntity.getCustomerId()),
+                () -> CacheInvalidation.versionOf(savedEntity.getUpdatedAt()));
         return customerProfileMapper.toDomain(savedEntity);
     }
     
+    // 프로필 조회는 계정 ID로 시작하는 경우가 많고(/me), 그 첫 쿼리(계정 조회)에서 커넥션이 정해지므로
+    // 고객 키만 기록하면 Replica를 읽은 뒤에야 고객 키를 확인하게 된다. 계정 키도 함께 기록하여 첫 쿼리부터 Primary로 고정한다.
+    private void markAccountWritten(Long customerId) {
+        if (!replicaLagGuard.isEnabled()) {
+            return;
+        }
+        accountQueryRepository.findAccountIdByCustomerId(customerId)
+                .ifPresent(accountId -> replicaLagGuard.markWritten(ReplicaLagGuard.accountKey(accountId)));
+    }
+    
+    // 캐시나 이전 트랜잭션에서 읽은 프로필은 현재 영속성 컨텍스트의 엔티티보다 오래되었을 수 있으므로
+    // @Version의 flush 시점 검사와 별도로 도메인이 들고 온 버전을 비교한다
+    private void verifyVersion(CustomerProfileEntity entity, CustomerProfile profile) {
+        if (profile.getVersion() != null && !profile.getVersion().equals(entity.getVersion())) {
+            throw new OptimisticLockConflictException("CustomerProfile", entity.getProfileId());
+        }
+    }
+    
     private void updateEntityFromDomain(CustomerProfileEntity entity, CustomerProfile profile) {
         // PersonalInfo 업데이트
         entity.updatePersonalInfo(
@@ -48,7 +88,7 @@ public class CustomerProfileRepositoryAdapter implements CustomerProfileReposito
                 profile.getPersonalInfo().getBirthDate() != null ? profile.getPersonalInfo().getBirthDate().getDate() : null,
                 profile.getPersonalInfo().getGender() != null ? 
                     CustomerProfileEntity.Gender.valueOf(profile.getPersonalInfo().getGender().name()) : null,
-                null // profileImageUrl은 별도 관리
+                entity.getProfileImageUrl() // profileImageUrl은 별도 관리
         );
         
         // ContactInfo 업데이트
@@ -76,16 +116,32 @@ public class CustomerProfileRepositoryAdapter implements CustomerProfileReposito
 
     @Override
     public Optional<CustomerProfile> findById(ProfileId profileId) {
+        replicaLagGuard.touch(ReplicaLagGuard.profileKey(profileId.getValue()));
         return customerProfileJpaRepository.findById(profileId.getValue())
+                .map(entity -> {
+                    // 커넥션 선택 이후이므로 쓰기 트랜잭션의 커밋 후 기록만 남긴다
+                    replicaLagGuard.markWritten(ReplicaLagGuard.customerKey(entity.getCustomerId()));
+                    return entity;
+                })
                 .map(customerProfileMapper::toDomain);
     }
 
     @Override
     public Optional<CustomerProfile> findByCustomerId(CustomerId customerId) {
-        return customerProfileJpaRepository.findByCustomerId(customerId.getValue())
+        replicaLagGuard.touch(ReplicaLagGuard.customerKey(customerId.getValue()));
+        return customerProfileQueryRepository.findByCustomerId(customerId.getValue())
                 .map(customerProfileMapper::toDomain);
     }
 
+    @Override
+    public List<CustomerProfile> findAllByCustomerIds(Collection<CustomerId> customerIds) {
+        List<Long> ids = customerIds.stream().map(CustomerId::getValue).distinct().toList();
+        ids.forEach(id -> replicaLagGuard.touch(ReplicaLagGuard.customerKey(id)));
+        return customerProfileQueryRepository.findAllWithDetailsByCustomerIds(ids).stream()
+                .map(customerProfileMapper::toDomain)
+                .toList();
+    }
+
     @Override
     public boolean existsByCustomerId(CustomerId customerId) {
         return customerProfileJpaRepository.existsByCustomerId(customerId.getValue());
@@ -93,23 +149,41 @@ public class CustomerProfileRepositoryAdapter implements CustomerProfileReposito
 
     @Override
     public void delete(CustomerProfile customerProfile) {
+        replicaLagGuard.touch(ReplicaLagGuard.customerKey(customerProfile.getCustomerId().getValue()));
         customerProfileJpaRepository.deleteById(customerProfile.getProfileId().getValue());
+        markAccountWritten(customerProfile.getCustomerId().getValue());
+        publishDeletion(customerProfile.getCustomerId().getValue());
     }
 
     @Override
     public Optional<CustomerProfile> findActiveByCustomerId(CustomerId customerId) {
+        replicaLagGuard.touch(ReplicaLagGuard.customerKey(customerId.getValue()));
         return customerProfileJpaRepository.findActiveProfileByCustomerId(customerId.getValue())
                 .map(customerProfileMapper::toDomain);
     }
 
     @Override
     public Optional<CustomerProfile> findByCustomerIdWithAddresses(CustomerId customerId) {
+        replicaLagGuard.touch(ReplicaLagGuard.customerKey(customerId.getValue()));
         return customerProfileJpaRepository.findByCustomerIdWithAddresses(customerId.getValue())
                 .map(customerProfileMapper::toDomain);
     }
 
     @Override
     public void deleteById(ProfileId profileId) {
+        customerProfileJpaRepository.findById(profileId.getValue())
+                .ifPresent(entity -> {
+                    replicaLagGuard.markWritten(ReplicaLagGuard.customerKey(entity.getCustomerId()));
+                    markAccountWritten(entity.getCustomerId());
+                    publishDeletion(entity.getCustomerId());
+                });
         customerProfileJpaRepository.deleteById(profileId.getValue());
     }
+
+    // 삭제는 커밋 시각을 버전으로 사용하여 그 이전에 읽힌 값이 다시 적재되지 않게 한다
+    private void publishDeletion(Long customerId) {
+        cacheInvalidationPublisher.publishAfterCommit(NearCacheKeys.CUSTOMER_PROFILE,
+                NearCacheKeys.customerProfile(customerId),
+                () -> CacheInvalidation.versionOf(LocalDateTime.now()));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.commerce.infrastructure.persistence.customer.adapter;
+
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.profile.ProfileStatus;
+import com.commerce.customer.core.domain.model.profile.ProfileSummary;
+import com.commerce.customer.core.domain.repository.profile.ProfileSummaryRepository;
+import com.commerce.infrastructure.persistence.customer.repository.CustomerProfileQueryRepository;
+import com.commerce.infrastructure.persistence.customer.repository.ProfileSnapshotRow;
+import com.commerce.infrastructure.persistence.datasource.ReplicaLagGuard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class ProfileSummaryRepositoryAdapter implements ProfileSummaryRepository {
+
+    private final CustomerProfileQueryRepository customerProfileQueryRepository;
+    private final ReplicaLagGuard replicaLagGuard;
+
+    @Override
+    public Optional<ProfileSummary> findByCustomerId(CustomerId customerId) {
+        replicaLagGuard.touch(ReplicaLagGuard.customerKey(customerId.getValue()));
+        return customerProfileQueryRepository.findSnapshotRowByCustomerId(customerId.getValue())
+                .map(ProfileSummaryRepositoryAdapter::toSummary);
+    }
+
+    private static ProfileSummary toSummary(ProfileSnapshotRow row) {
+        return ProfileSummary.builder()
+                .profileId(row.profileId())
+                .customerId(row.customerId())
+                .firstName(row.firstName())
+                .lastName(row.lastName())
+                .primaryPhone(row.primaryPhone())
+                .status(ProfileStatus.valueOf(row.status().name()))
+                .emailMarketingConsent(Boolean.TRUE.equals(row.emailMarketingConsent()))
+                .smsMarketingConsent(Boolean.TRUE.equals(row.smsMarketingConsent()))
+                .pushMarketingConsent(Boolean.TRUE.equals(row.pushMarketingConsent()))
+                .zipCode(row.zipCode())
+                .roadAddress(row.roadAddress())
+                .detailAddress(row.detailAddress())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.commerce.infrastructure.persistence.customer.adapter;
+
+import com.commerce.customer.core.domain.model.AccountId;
+import com.commerce.customer.core.domain.model.profile.ProfileView;
+import com.commerce.customer.core.domain.repository.profile.ProfileViewRepository;
+import com.commerce.infrastructure.persistence.customer.repository.ProfileViewQueryRepository;
+import com.commerce.infrastructure.persistence.datasource.ReplicaLagGuard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class ProfileViewRepositoryAdapter implements ProfileViewRepository {
+
+    private final ProfileViewQueryRepository profileViewQueryRepository;
+    private final ReplicaLagGuard replicaLagGuard;
+
+    @Override
+    public Optional<ProfileView> findByAccountId(AccountId accountId) {
+        replicaLagGuard.touch(ReplicaLagGuard.accountKey(accountId.getValue()));
+        return profileViewQueryRepository.findByAccountId(accountId.getValue());
+    }
+}
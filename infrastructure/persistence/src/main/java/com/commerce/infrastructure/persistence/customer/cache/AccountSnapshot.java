@@ -0,0 +1,42 @@
+package com.commerce.infrastructure.persistence.customer.cache;
+
+import com.commerce.customer.core.domain.model.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * near cache에 보관하는 계정 불변 스냅샷
+ * Account는 변경 가능한 애그리게이트이므로 캐시에서 꺼낼 때마다 새 인스턴스로 복원하여 요청 간에 공유하지 않는다.
+ */
+record AccountSnapshot(Long accountId, Long customerId, String email, String encodedPassword,
+                       AccountStatus status, LocalDateTime createdAt, LocalDateTime updatedAt,
+                       LocalDateTime lastLoginAt, String activationCode, LocalDateTime activationCodeExpiresAt) {
+
+    static AccountSnapshot of(Account account) {
+        ActivationCode activationCode = account.getActivationCode();
+        return new AccountSnapshot(
+                account.getAccountId().getValue(),
+                account.getCustomerId().getValue(),
+                account.getEmail().getValue(),
+                account.getPassword().getValue(),
+                account.getStatus(),
+                account.getCreatedAt(),
+                account.getUpdatedAt(),
+                account.getLastLoginAt(),
+                activationCode != null ? activationCode.getCode() : null,
+                activationCode != null ? activationCode.getExpiresAt() : null);
+    }
+
+    Account toAccount() {
+        return Account.restore(
+                AccountId.of(accountId),
+                CustomerId.of(customerId),
+                Email.restore(email),
+                Password.ofEncoded(encodedPassword),
+                status,
+                createdAt,
+                updatedAt,
+                lastLoginAt,
+                activationCode != null ? ActivationCode.restore(activationCode, activationCodeExpiresAt) : null);
+    }
+}
@@ -0,0 +1,267 @@
+package com.commerce.infrastructure.persistence.customer.cache;
+
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.profile.CustomerProfile;
+import com.commerce.customer.core.domain.model.profile.ProfileId;
+import com.commerce.customer.core.domain.model.profile.ProfileStatus;
+import com.commerce.customer.core.domain.repository.profile.CustomerProfileRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 고객 ID 기준 프로필 read-through 캐시 (cache-aside)
+ *
+ * 캐시 값은 [만료 시각(ms) | 재계산 소요 시간(ms) | {@link CustomerProfileCodec} 바이트] 형식이다.
+ * - TTL에 무작위 지터를 더해 동시에 적재된 항목이 한꺼번에 만료되지 않게 한다.
+ * - 만료가 가까워질수록 높은 확률로 한 요청이 미리 재계산한다 (probabilistic early expiration).
+ * - 저장/삭제 시 즉시 제거하고 트랜잭션 종료 후 한 번 더 제거하여, 종료 전에 다시 적재된 이전 상태를 지운다.
+ * - 캐시 장애는 조회 실패로 전파하지 않고 원본 저장소로 우회한다.
+ */
+@Slf4j
+public class CachingCustomerProfileRepository implements CustomerProfileRepository {
+
+    private static final int HEADER_SIZE = Long.BYTES + Integer.BYTES;
+
+    private final CustomerProfileRepository delegate;
+    private final ProfileCacheStore cacheStore;
+    private final ProfileCacheProperties properties;
+    private final Clock clock;
+    private final DoubleSupplier random;
+
+    public CachingCustomerProfileRepository(CustomerProfileRepository delegate,
+                                            ProfileCacheStore cacheStore,
+                                            ProfileCacheProperties properties) {
+        this(delegate, cacheStore, properties, Clock.systemUTC(), () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    CachingCustomerProfileRepository(CustomerProfileRepository delegate,
+                                     ProfileCacheStore cacheStore,
+                                     ProfileCacheProperties properties,
+                                     Clock clock,
+                                     DoubleSupplier random) {
+        this.delegate = delegate;
+        this.cacheStore = cacheStore;
+        this.properties = properties;
+        this.clock = clock;
+        this.random = random;
+    }
+
+    @Override
+    public CustomerProfile save(CustomerProfile profile) {
+        CustomerProfile saved = delegate.save(profile);
+        invalidate(profile.getCustomerId());
+        return saved;
+    }
+
+    @Override
+    public Optional<CustomerProfile> findById(ProfileId profileId) {
+        return delegate.findById(profileId);
+    }
+
+    @Override
+    public Optional<CustomerProfile> findByCustomerId(CustomerId customerId) {
+        String key = key(customerId);
+        byte[] cached = read(key);
+        if (cached != null) {
+            CustomerProfile profile = decode(cached);
+            if (profile != null && !shouldRefreshEarly(cached)) {
+                return Optional.of(profile);
+            }
+        }
+        return load(customerId, key);
+    }
+
+    /**
+     * MGET 한 번으로 캐시를 조회하고, 없는 고객만 원본 저장소에서 일괄 조회하여 채운다.
+     * 결과는 요청한 고객 ID 순서를 따른다.
+     */
+    @Override
+    public List<CustomerProfile> findAllByCustomerIds(Collection<CustomerId> customerIds) {
+        List<CustomerId> ids = customerIds.stream().distinct().toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<String> keys = ids.stream().map(this::key).toList();
+        List<byte[]> cachedValues = multiRead(keys);
+
+        Map<CustomerId, CustomerProfile> found = new LinkedHashMap<>();
+        List<CustomerId> misses = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            byte[] cached = cachedValues.get(i);
+            CustomerProfile profile = cached != null ? decode(cached) : null;
+            if (profile != null && !shouldRefreshEarly(cached)) {
+                found.put(ids.get(i), profile);
+            } else {
+                misses.add(ids.get(i));
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            long startedAt = clock.millis();
+            List<CustomerProfile> loaded = delegate.findAllByCustomerIds(misses);
+            long delta = clock.millis() - startedAt;
+            for (CustomerProfile profile : loaded) {
+                found.put(profile.getCustomerId(), profile);
+                write(key(profile.getCustomerId()), profile, delta);
+            }
+        }
+
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public boolean existsByCustomerId(CustomerId customerId) {
+        return delegate.existsByCustomerId(customerId);
+    }
+
+    @Override
+    public Optional<CustomerProfile> findActiveByCustomerId(CustomerId customerId) {
+        return findByCustomerId(customerId)
+                .filter(profile -> profile.getStatus() == ProfileStatus.ACTIVE);
+    }
+
+    /**
+     * 캐시 값은 주소를 포함한 전체 애그리게이트이므로 고객 ID 조회와 같은 항목을 사용한다.
+     */
+    @Override
+    public Optional<CustomerProfile> findByCustomerIdWithAddresses(CustomerId customerId) {
+        return findByCustomerId(customerId);
+    }
+
+    @Override
+    public void delete(CustomerProfile profile) {
+        delegate.delete(profile);
+        invalidate(profile.getCustomerId());
+    }
+
+    @Override
+    public void deleteById(ProfileId profileId) {
+        Optional<CustomerId> customerId = delegate.findById(profileId).map(CustomerProfile::getCustomerId);
+        delegate.deleteById(profileId);
+        customerId.ifPresent(this::invalidate);
+    }
+
+    private Optional<CustomerProfile> load(CustomerId customerId, String key) {
+        long startedAt = clock.millis();
+        Optional<CustomerProfile> loaded = delegate.findByCustomerId(customerId);
+        long delta = clock.millis() - startedAt;
+        loaded.ifPresent(profile -> write(key, profile, delta));
+        return loaded;
+    }
+
+    /**
+     * XFetch: now - delta * beta * ln(rand) >= expiresAt 이면 만료 전이라도 재계산한다.
+     * 재계산 비용(delta)이 클수록, 만료가 가까울수록 재계산 확률이 높아진다.
+     */
+    private boolean shouldRefreshEarly(byte[] cached) {
+        ByteBuffer header = ByteBuffer.wrap(cached, 0, HEADER_SIZE);
+        long expiresAt = header.getLong();
+        int delta = header.getInt();
+        double beta = properties.getEarlyRefreshBeta();
+        if (beta <= 0) {
+            return false;
+        }
+        double gap = -delta * beta * Math.log(Math.max(random.getAsDouble(), Double.MIN_VALUE));
+        return clock.millis() + gap >= expiresAt;
+    }
+
+    private void write(String key, CustomerProfile profile, long delta) {
+        Duration ttl = ttlWithJitter();
+        byte[] payload = CustomerProfileCodec.encode(profile);
+        byte[] value = ByteBuffer.allocate(HEADER_SIZE + payload.length)
+                .putLong(clock.millis() + ttl.toMillis())
+                .putInt((int) Math.min(delta, Integer.MAX_VALUE))
+                .put(payload)
+                .array();
+        try {
+            cacheStore.set(key, value, ttl);
+        } catch (DataAccessException e) {
+            log.warn("프로필 캐시 저장 실패: key={}", key, e);
+        }
+    }
+
+    private Duration ttlWithJitter() {
+        long jitterMillis = properties.getTtlJitter().toMillis();
+        if (jitterMillis <= 0) {
+            return properties.getTtl();
+        }
+        return properties.getTtl().plusMillis((long) (random.getAsDouble() * jitterMillis));
+    }
+
+    private CustomerProfile decode(byte[] cached) {
+        if (cached.length <= HEADER_SIZE) {
+            return null;
+        }
+        byte[] payload = new byte[cached.length - HEADER_SIZE];
+        System.arraycopy(cached, HEADER_SIZE, payload, 0, payload.length);
+        try {
+            return CustomerProfileCodec.decode(payload);
+        } catch (RuntimeException e) {
+            log.warn("프로필 캐시 값 해석 실패, 원본 저장소에서 다시 조회합니다.", e);
+            return null;
+        }
+    }
+
+    private byte[] read(String key) {
+        try {
+            return cacheStore.get(key);
+        } catch (DataAccessException e) {
+            log.warn("프로필 캐시 조회 실패: key={}", key, e);
+            return null;
+        }
+    }
+
+    private List<byte[]> multiRead(List<String> keys) {
+        try {
+            return cacheStore.multiGet(keys);
+        } catch (DataAccessException e) {
+            log.warn("프로필 캐시 일괄 조회 실패: keys={}", keys.size(), e);
+            List<byte[]> misses = new ArrayList<>(keys.size());
+            keys.forEach(key -> misses.add(null));
+            return misses;
+        }
+    }
+
+    private void invalidate(CustomerId customerId) {
+        String key = key(customerId);
+        evict(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(key);
+                }
+            });
+        }
+    }
+
+    private void evict(String key) {
+        try {
+            cacheStore.delete(key);
+        } catch (DataAccessException e) {
+            log.warn("프로필 캐시 제거 실패: key={}", key, e);
+        }
+    }
+
+    private String key(CustomerId customerId) {
+        return properties.getKeyPrefix() + customerId.getValue();
+    }
+}
@@ -0,0 +1,216 @@
+package com.commerce.infrastructure.persistence.customer.cache;
+
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.profile.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CustomerProfile 애그리게이트의 compact 바이너리 직렬화
+ * 필드 이름 없이 고정 순서로 기록하고 enum은 ordinal로 저장한다.
+ * 필드 구성이나 enum 순서가 바뀌면 FORMAT_VERSION을 올려 이전 형식의 캐시 값을 미스로 처리한다.
+ */
+public final class CustomerProfileCodec {
+
+    static final byte FORMAT_VERSION = 2;
+
+    private CustomerProfileCodec() {
+    }
+
+    public static byte[] encode(CustomerProfile profile) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(profile.getProfileId().getValue());
+            out.writeLong(profile.getCustomerId().getValue());
+            out.writeByte(profile.getStatus().ordinal());
+            writeDateTime(out, profile.getCreatedAt());
+            writeDateTime(out, profile.getUpdatedAt());
+            out.writeLong(profile.getVersion() != null ? profile.getVersion() : Long.MIN_VALUE);
+
+            PersonalInfo personalInfo = profile.getPersonalInfo();
+            out.writeUTF(personalInfo.getFullName().getFirstName());
+            out.writeUTF(personalInfo.getFullName().getLastName());
+            out.writeLong(personalInfo.getBirthDate() != null ? personalInfo.getBirthDate().getDate().toEpochDay() : Long.MIN_VALUE);
+            out.writeByte(personalInfo.getGender() != null ? personalInfo.getGender().ordinal() : -1);
+            writeNullable(out, personalInfo.getProfileImage() != null ? personalInfo.getProfileImage().getImageUrl() : null);
+
+            ContactInfo contactInfo = profile.getContactInfo();
+            writePhone(out, contactInfo.getPrimaryPhone());
+            out.writeBoolean(contactInfo.getSecondaryPhone() != null);
+            if (contactInfo.getSecondaryPhone() != null) {
+                writePhone(out, contactInfo.getSecondaryPhone());
+            }
+
+            out.writeShort(profile.getAddresses().size());
+            for (Address address : profile.getAddresses()) {
+                out.writeLong(address.getAddressId().getValue());
+                out.writeByte(address.getType().ordinal());
+                writeNullable(out, address.getAlias());
+                out.writeUTF(address.getZipCode());
+                out.writeUTF(address.getRoadAddress());
+                writeNullable(out, address.getJibunAddress());
+                writeNullable(out, address.getDetailAddress());
+                writeNullable(out, address.getDeliveryMemo());
+                out.writeBoolean(address.isDefault());
+                writeDateTime(out, address.getCreatedAt());
+            }
+
+            ProfilePreferences preferences = profile.getPreferences();
+            MarketingConsent consent = preferences.getMarketingConsent();
+            out.writeBoolean(consent.isEmailMarketing());
+            out.writeBoolean(consent.isSmsMarketing());
+            out.writeBoolean(consent.isPersonalizedAds());
+            writeDateTime(out, consent.getConsentDate());
+            writeDateTime(out, consent.getLastUpdated());
+
+            NotificationSettings notifications = preferences.getNotificationSettings();
+            out.writeBoolean(notifications.isEmailNotification());
+            out.writeBoolean(notifications.isSmsNotification());
+            out.writeBoolean(notifications.isPushNotification());
+            out.writeBoolean(notifications.isOrderUpdates());
+            out.writeBoolean(notifications.isPromotionalOffers());
+
+            out.writeShort(preferences.getBrandPreferences().size());
+            for (BrandPreference brand : preferences.getBrandPreferences()) {
+                out.writeUTF(brand.getBrandId());
+                out.writeUTF(brand.getBrandName());
+                out.writeByte(brand.getLevel().ordinal());
+            }
+            out.writeShort(preferences.getCategoryInterests().size());
+            for (CategoryInterest category : preferences.getCategoryInterests()) {
+                out.writeUTF(category.getCategoryId());
+                out.writeUTF(category.getCategoryName());
+                out.writeByte(category.getLevel().ordinal());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("프로필 직렬화에 실패했습니다.", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 캐시 값 복원. 형식 버전이 다르면 null을 반환하여 캐시 미스로 처리한다.
+     */
+    public static CustomerProfile decode(byte[] value) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(value))) {
+            if (in.readByte() != FORMAT_VERSION) {
+                return null;
+            }
+            ProfileId profileId = ProfileId.of(in.readLong());
+            CustomerId customerId = CustomerId.of(in.readLong());
+            ProfileStatus status = ProfileStatus.values()[in.readByte()];
+            LocalDateTime createdAt = readDateTime(in);
+            LocalDateTime updatedAt = readDateTime(in);
+            long version = in.readLong();
+
+            FullName fullName = FullName.of(in.readUTF(), in.readUTF());
+            long birthEpochDay = in.readLong();
+            byte gender = in.readByte();
+            String profileImageUrl = readNullable(in);
+            PersonalInfo personalInfo = PersonalInfo.of(
+                    fullName,
+                    birthEpochDay != Long.MIN_VALUE ? BirthDate.restore(LocalDate.ofEpochDay(birthEpochDay)) : null,
+                    gender >= 0 ? Gender.values()[gender] : null,
+                    profileImageUrl != null ? ProfileImage.restore(profileImageUrl) : null);
+
+            PhoneNumber primaryPhone = readPhone(in);
+            ContactInfo contactInfo = in.readBoolean()
+                    ? ContactInfo.of(primaryPhone, readPhone(in))
+                    : ContactInfo.of(primaryPhone);
+
+            int addressCount = in.readShort();
+            List<Address> addresses = new ArrayList<>(addressCount);
+            for (int i = 0; i < addressCount; i++) {
+                addresses.add(Address.restore(
+                        AddressId.of(in.readLong()),
+                        AddressType.values()[in.readByte()],
+                        readNullable(in),
+                        in.readUTF(),
+                        in.readUTF(),
+                        readNullable(in),
+                        readNullable(in),
+                        readNullable(in),
+                        in.readBoolean(),
+                        readDateTime(in)));
+            }
+
+            MarketingConsent consent = MarketingConsent.builder()
+                    .emailMarketing(in.readBoolean())
+                    .smsMarketing(in.readBoolean())
+                    .personalizedAds(in.readBoolean())
+                    .consentDate(readDateTime(in))
+                    .lastUpdated(readDateTime(in))
+                    .build();
+            NotificationSettings notifications = NotificationSettings.builder()
+                    .emailNotification(in.readBoolean())
+                    .smsNotification(in.readBoolean())
+                    .pushNotification(in.readBoolean())
+                    .orderUpdates(in.readBoolean())
+                    .promotionalOffers(in.readBoolean())
+                    .build();
+
+            int brandCount = in.readShort();
+            List<BrandPreference> brands = new ArrayList<>(brandCount);
+            for (int i = 0; i < brandCount; i++) {
+                brands.add(BrandPreference.of(in.readUTF(), in.readUTF(), PreferenceLevel.values()[in.readByte()]));
+            }
+            int categoryCount = in.readShort();
+            List<CategoryInterest> categories = new ArrayList<>(categoryCount);
+            for (int i = 0; i < categoryCount; i++) {
+                categories.add(CategoryInterest.of(in.readUTF(), in.readUTF(), InterestLevel.values()[in.readByte()]));
+            }
+
+            ProfilePreferences preferences = ProfilePreferences.builder()
+                    .marketingConsent(consent)
+                    .notificationSettings(notifications)
+                    .brandPreferences(brands)
+                    .categoryInterests(categories)
+                    .build();
+
+            return CustomerProfile.restore(profileId, customerId, personalInfo, contactInfo, addresses,
+                    preferences, status, createdAt, updatedAt, version != Long.MIN_VALUE ? version : null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("프로필 역직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private static void writePhone(DataOutputStream out, PhoneNumber phone) throws IOException {
+        out.writeUTF(phone.getCountryCode());
+        out.writeUTF(phone.getNumber());
+    }
+
+    private static PhoneNumber readPhone(DataInputStream in) throws IOException {
+        return PhoneNumber.of(in.readUTF(), in.readUTF());
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(value.getNano());
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,26 @@
+package com.commerce.infrastructure.persistence.customer.cache;
+
+/**
+ * 계정/프로필 near cache 이름과 키 규칙
+ * 저장소 어댑터(무효화 발행)와 캐시 데코레이터(조회)가 같은 키를 쓰도록 한 곳에서 정의한다.
+ */
+public final class NearCacheKeys {
+
+    public static final String ACCOUNT = "account";
+    public static final String CUSTOMER_PROFILE = "customer-profile";
+
+    private NearCacheKeys() {
+    }
+
+    public static String accountId(Long accountId) {
+        return "id:" + accountId;
+    }
+
+    public static String accountEmail(String email) {
+        return "email:" + email;
+    }
+
+    public static String customerProfile(Long customerId) {
+        return String.valueOf(customerId);
+    }
+}
@@ -0,0 +1,98 @@
+package com.commerce.infrastructure.persistence.customer.cache;
+
+import com.commerce.customer.core.domain.model.*;
+import com.commerce.customer.core.domain.repository.AccountRepository;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidation;
+import com.commerce.infrastructure.persistence.cache.NearCache;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 계정 ID/이메일 조회 앞단의 프로세스 내 캐시
+ *
+ * 계정은 변경 가능한 애그리게이트이므로 {@link AccountSnapshot}으로 보관하고 조회마다 새로 복원한다.
+ * 다른 인스턴스의 변경은 저장소 어댑터가 커밋 후 발행하는 무효화 메시지로 반영된다.
+ */
+public class NearCachingAccountRepository implements AccountRepository {
+
+    private final AccountRepository delegate;
+    private final NearCache<AccountSnapshot> nearCache;
+
+    public NearCachingAccountRepository(AccountRepository delegate, NearCache<AccountSnapshot> nearCache) {
+        this.delegate = delegate;
+        this.nearCache = nearCache;
+    }
+
+    @Override
+    public CustomerId generateCustomerId() {
+        return delegate.generateCustomerId();
+    }
+
+    @Override
+    public Account save(Account account) {
+        Account saved = delegate.save(account);
+        evict(saved);
+        return saved;
+    }
+
+    @Override
+    public Optional<Account> findById(AccountId accountId) {
+        return find(NearCacheKeys.accountId(accountId.getValue()), () -> delegate.findById(accountId));
+    }
+
+    @Override
+    public Optional<Account> findByCustomerId(CustomerId customerId) {
+        return delegate.findByCustomerId(customerId);
+    }
+
+    @Override
+    public Optional<Account> findByEmail(Email email) {
+        return find(NearCacheKeys.accountEmail(email.getValue()), () -> delegate.findByEmail(email));
+    }
+
+    @Override
+    public boolean existsByEmail(Email email) {
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public boolean existsByCustomerId(CustomerId customerId) {
+        return delegate.existsByCustomerId(customerId);
+    }
+
+    @Override
+    public Optional<Account> findActiveByEmail(Email email) {
+        return findByEmail(email).filter(account -> account.getStatus() == AccountStatus.ACTIVE);
+    }
+
+    @Override
+    public Optional<Account> findActiveByCustomerId(CustomerId customerId) {
+        return delegate.findActiveByCustomerId(customerId);
+    }
+
+    @Override
+    public void delete(Account account) {
+        delegate.delete(account);
+        evict(account);
+    }
+
+    private Optional<Account> find(String key, Supplier<Optional<Account>> loader) {
+        AccountSnapshot cached = nearCache.get(key);
+        if (cached != null) {
+            return Optional.of(cached.toAccount());
+        }
+        long loadStamp = nearCache.loadStamp();
+        Optional<Account> loaded = loader.get();
+        loaded.ifPresent(account -> nearCache.put(key, AccountSnapshot.of(account),
+                CacheInvalidation.versionOf(account.getUpdatedAt()), loadStamp));
+        return loaded;
+    }
+
+    private void evict(Account account) {
+        if (account.getAccountId().isAssigned()) {
+            nearCache.evict(NearCacheKeys.accountId(account.getAccountId().getValue()));
+        }
+        nearCache.evict(NearCacheKeys.accountEmail(account.getEmail().getValue()));
+    }
+}
@@ -0,0 +1,120 @@
+package com.commerce.infrastructure.persistence.customer.cache;
+
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.profile.CustomerProfile;
+import com.commerce.customer.core.domain.model.profile.ProfileId;
+import com.commerce.customer.core.domain.model.profile.ProfileStatus;
+import com.commerce.customer.core.domain.repository.profile.CustomerProfileRepository;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidation;
+import com.commerce.infrastructure.persistence.cache.NearCache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 프로필 조회 앞단의 프로세스 내 캐시 (Redis 캐시 또는 DB 앞에 배치)
+ *
+ * 값은 {@link CustomerProfileCodec} 바이트로 보관하고 조회마다 새 애그리게이트로 복원한다.
+ * 다른 인스턴스의 변경은 저장소 어댑터가 커밋 후 발행하는 무효화 메시지로 반영되고,
+ * 현재 인스턴스의 변경은 저장/삭제 시 바로 제거한다.
+ */
+public class NearCachingCustomerProfileRepository implements CustomerProfileRepository {
+
+    private final CustomerProfileRepository delegate;
+    private final NearCache<byte[]> nearCache;
+
+    public NearCachingCustomerProfileRepository(CustomerProfileRepository delegate, NearCache<byte[]> nearCache) {
+        this.delegate = delegate;
+        this.nearCache = nearCache;
+    }
+
+    @Override
+    public CustomerProfile save(CustomerProfile profile) {
+        CustomerProfile saved = delegate.save(profile);
+        nearCache.evict(NearCacheKeys.customerProfile(profile.getCustomerId().getValue()));
+        return saved;
+    }
+
+    @Override
+    public Optional<CustomerProfile> findById(ProfileId profileId) {
+        return delegate.findById(profileId);
+    }
+
+    @Override
+    public Optional<CustomerProfile> findByCustomerId(CustomerId customerId) {
+        String key = NearCacheKeys.customerProfile(customerId.getValue());
+        byte[] cached = nearCache.get(key);
+        if (cached != null) {
+            return Optional.of(CustomerProfileCodec.decode(cached));
+        }
+        long loadStamp = nearCache.loadStamp();
+        Optional<CustomerProfile> loaded = delegate.findByCustomerId(customerId);
+        loaded.ifPresent(profile -> put(key, profile, loadStamp));
+        return loaded;
+    }
+
+    @Override
+    public List<CustomerProfile> findAllByCustomerIds(Collection<CustomerId> customerIds) {
+        List<CustomerId> ids = customerIds.stream().distinct().toList();
+        Map<CustomerId, CustomerProfile> found = new HashMap<>();
+        List<CustomerId> misses = new ArrayList<>();
+        for (CustomerId customerId : ids) {
+            byte[] cached = nearCache.get(NearCacheKeys.customerProfile(customerId.getValue()));
+            if (cached != null) {
+                found.put(customerId, CustomerProfileCodec.decode(cached));
+            } else {
+                misses.add(customerId);
+            }
+        }
+        if (!misses.isEmpty()) {
+            long loadStamp = nearCache.loadStamp();
+            for (CustomerProfile profile : delegate.findAllByCustomerIds(misses)) {
+                found.put(profile.getCustomerId(), profile);
+                put(NearCacheKeys.customerProfile(profile.getCustomerId().getValue()), profile, loadStamp);
+            }
+        }
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public boolean existsByCustomerId(CustomerId customerId) {
+        return delegate.existsByCustomerId(customerId);
+    }
+
+    @Override
+    public Optional<CustomerProfile> findActiveByCustomerId(CustomerId customerId) {
+        return findByCustomerId(customerId)
+                .filter(profile -> profile.getStatus() == ProfileStatus.ACTIVE);
+    }
+
+    @Override
+    public Optional<CustomerProfile> findByCustomerIdWithAddresses(CustomerId customerId) {
+        return findByCustomerId(customerId);
+    }
+
+    @Override
+    public void delete(CustomerProfile profile) {
+        delegate.delete(profile);
+        nearCache.evict(NearCacheKeys.customerProfile(profile.getCustomerId().getValue()));
+    }
+
+    @Override
+    public void deleteById(ProfileId profileId) {
+        Optional<CustomerId> customerId = delegate.findById(profileId).map(CustomerProfile::getCustomerId);
+        delegate.deleteById(profileId);
+        customerId.ifPresent(id -> nearCache.evict(NearCacheKeys.customerProfile(id.getValue())));
+    }
+
+    private void put(String key, CustomerProfile profile, long loadStamp) {
+        nearCache.put(key, CustomerProfileCodec.encode(profile),
+                CacheInvalidation.versionOf(profile.getUpdatedAt()), loadStamp);
+    }
+}
@@ -0,0 +1,52 @@
+package com.commerce.infrastructure.persistence.customer.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 프로필 Redis 캐시 설정
+ *
+ * <pre>
+ * commerce:
+ *   cache:
+ *     profile:
+ *       enabled: true
+ *       ttl: 10m
+ *       ttl-jitter: 2m
+ *       early-refresh-beta: 1.0
+ *       key-prefix: "customer-profile:v1:"
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "commerce.cache.profile")
+public class ProfileCacheProperties {
+
+    /**
+     * 프로필 캐시 활성화 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 캐시 항목 기본 유지 시간
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /**
+     * 항목마다 TTL에 더하는 무작위 시간의 상한 (동시 만료로 인한 DB 부하 집중 방지)
+     */
+    private Duration ttlJitter = Duration.ofMinutes(2);
+
+    /**
+     * 만료 전 확률적 재계산 강도 (0이면 만료 전 재계산을 하지 않는다)
+     */
+    private double earlyRefreshBeta = 1.0;
+
+    /**
+     * Redis 키 접두어 (직렬화 형식이 바뀌면 버전을 올린다)
+     */
+    private String keyPrefix = "customer-profile:v1:";
+}
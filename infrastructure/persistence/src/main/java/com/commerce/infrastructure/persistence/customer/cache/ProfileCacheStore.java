@@ -0,0 +1,22 @@
+package com.commerce.infrastructure.persistence.customer.cache;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 프로필 캐시 저장소 포트
+ * 값은 {@link CachingCustomerProfileRepository}가 만든 바이트 배열을 그대로 보관한다.
+ */
+public interface ProfileCacheStore {
+
+    byte[] get(String key);
+
+    /**
+     * 여러 키를 한 번의 왕복으로 조회한다. 결과는 키 순서와 같고 없는 키는 null이다.
+     */
+    List<byte[]> multiGet(List<String> keys);
+
+    void set(String key, byte[] value, Duration ttl);
+
+    void delete(String key);
+}
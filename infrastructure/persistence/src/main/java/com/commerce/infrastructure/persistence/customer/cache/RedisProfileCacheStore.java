@@ -0,0 +1,39 @@
+package com.commerce.infrastructure.persistence.customer.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Redis 기반 프로필 캐시 저장소 (GET / MGET / SET PX / DEL)
+ */
+@RequiredArgsConstructor
+public class RedisProfileCacheStore implements ProfileCacheStore {
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+
+    @Override
+    public byte[] get(String key) {
+        return redisTemplate.opsForValue().get(key);
+    }
+
+    @Override
+    public List<byte[]> multiGet(List<String> keys) {
+        List<byte[]> values = redisTemplate.opsForValue().multiGet(keys);
+        return values != null ? values : new ArrayList<>(Collections.nCopies(keys.size(), null));
+    }
+
+    @Override
+    public void set(String key, byte[] value, Duration ttl) {
+        redisTemplate.opsForValue().set(key, value, ttl);
+    }
+
+    @Override
+    public void delete(String key) {
+        redisTemplate.delete(key);
+    }
+}
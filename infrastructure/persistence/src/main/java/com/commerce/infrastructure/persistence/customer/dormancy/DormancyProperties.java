@@ -0,0 +1,57 @@
+package com.commerce.infrastructure.persistence.customer.dormancy;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 장기 미접속 계정 휴면 전환 배치 설정
+ *
+ * <pre>
+ * commerce:
+ *   dormancy:
+ *     enabled: true
+ *     cron: "0 0 4 * * *"
+ *     inactivity-period: 365d   # 마지막 로그인(없으면 가입 일시) 이후 경과 기간
+ *     fetch-size: 1000          # 스트리밍 커서 fetch size
+ *     chunk-size: 1000          # 한 트랜잭션에서 전환/발행할 계정 수
+ *     report-interval: 100000   # 진행 상황을 기록할 스캔 건수 간격
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "commerce.dormancy")
+public class DormancyProperties {
+
+    /**
+     * 휴면 전환 배치 활성화 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 실행 주기 (cron)
+     */
+    private String cron = "0 0 4 * * *";
+
+    /**
+     * 휴면 전환 기준 미접속 기간
+     */
+    private Duration inactivityPeriod = Duration.ofDays(365);
+
+    /**
+     * 스트리밍 커서가 한 번에 가져올 행 수
+     */
+    private int fetchSize = 1_000;
+
+    /**
+     * 한 트랜잭션에서 전환하고 이벤트를 발행할 계정 수
+     */
+    private int chunkSize = 1_000;
+
+    /**
+     * 진행 상황 로그 간격 (스캔 건수)
+     */
+    private long reportInterval = 100_000;
+}
@@ -0,0 +1,20 @@
+package com.commerce.infrastructure.persistence.customer.dormancy;
+
+import java.time.Duration;
+
+/**
+ * 휴면 전환 배치 실행 결과
+ *
+ * @param scanned      커서로 읽은 후보 계정 수
+ * @param transitioned 실제로 휴면 전환한 계정 수 (스캔 이후 로그인한 계정은 제외)
+ */
+public record DormancyRunResult(long scanned, long transitioned, int chunks, Duration elapsed) {
+
+    /**
+     * 초당 스캔 건수
+     */
+    public double throughputPerSecond() {
+        long millis = elapsed.toMillis();
+        return millis == 0 ? scanned : scanned * 1000.0 / millis;
+    }
+}
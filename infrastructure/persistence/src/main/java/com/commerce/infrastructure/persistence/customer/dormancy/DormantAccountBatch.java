@@ -0,0 +1,191 @@
+package com.commerce.infrastructure.persistence.customer.dormancy;
+
+import com.commerce.customer.core.domain.event.AccountDormantEvent;
+import com.commerce.customer.core.domain.event.DomainEventPublisher;
+import com.commerce.customer.core.domain.model.AccountId;
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidation;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidationPublisher;
+import com.commerce.infrastructure.persistence.customer.cache.NearCacheKeys;
+import com.commerce.infrastructure.persistence.customer.entity.AccountEntity.AccountStatus;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.commerce.infrastructure.persistence.customer.entity.QAccountEntity.accountEntity;
+
+/**
+ * 장기 미접속 계정 휴면 전환 배치
+ *
+ * 후보 계정은 StatelessSession의 forward-only 커서로 last_login_at 순서대로 스트리밍하고
+ * (영속성 컨텍스트가 없어 계정 수와 무관하게 힙 사용량이 일정하다),
+ * chunkSize마다 별도 트랜잭션에서 다음을 수행한다:
+ * 후보 재확인 및 행 잠금 → 벌크 UPDATE(버전 증가) → 휴면 이벤트 일괄 발행 → 커밋 후 near cache 무효화.
+ * 이벤트 발행이 실패하면 해당 청크의 전환도 롤백되고, 다음 실행에서 다시 후보로 잡힌다.
+ */
+@Slf4j
+public class DormantAccountBatch {
+
+    private static final String CANDIDATE_QUERY = """
+            select a.accountId, a.customerId, a.email, a.lastLoginAt
+            from AccountEntity a
+            where a.status = :status
+              and (a.lastLoginAt < :cutoff or (a.lastLoginAt is null and a.createdAt < :cutoff))
+            order by a.lastLoginAt, a.accountId""";
+
+    private final SessionFactory sessionFactory;
+    private final JPAQueryFactory queryFactory;
+    private final TransactionOperations transactionOperations;
+    private final DomainEventPublisher domainEventPublisher;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final DormancyProperties properties;
+    private final Clock clock;
+
+    public DormantAccountBatch(SessionFactory sessionFactory, JPAQueryFactory queryFactory,
+                               TransactionOperations transactionOperations, DomainEventPublisher domainEventPublisher,
+                               CacheInvalidationPublisher cacheInvalidationPublisher, DormancyProperties properties,
+                               Clock clock) {
+        this.sessionFactory = sessionFactory;
+        this.queryFactory = queryFactory;
+        this.transactionOperations = transactionOperations;
+        this.domainEventPublisher = domainEventPublisher;
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @Scheduled(cron = "${commerce.dormancy.cron:0 0 4 * * *}")
+    public void runScheduled() {
+        try {
+            run();
+        } catch (RuntimeException e) {
+            // 커밋된 청크는 유지되고 남은 계정은 다음 실행에서 다시 후보로 잡힌다
+            log.error("휴면 전환 배치 실패", e);
+        }
+    }
+
+    public DormancyRunResult run() {
+        long startedAt = System.nanoTime();
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(properties.getInactivityPeriod());
+        int chunkSize = properties.getChunkSize();
+        List<DormancyCandidate> chunk = new ArrayList<>(chunkSize);
+        long scanned = 0;
+        long transitioned = 0;
+        int chunks = 0;
+
+        try (StatelessSession session = sessionFactory.openStatelessSession();
+             ScrollableResults<Object[]> cursor = session.createSelectionQuery(CANDIDATE_QUERY, Object[].class)
+                     .setParameter("status", AccountStatus.ACTIVE)
+                     .setParameter("cutoff", cutoff)
+                     .setFetchSize(properties.getFetchSize())
+                     .setReadOnly(true)
+                     .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (cursor.next()) {
+                chunk.add(DormancyCandidate.of(cursor.get()));
+                scanned++;
+                if (chunk.size() == chunkSize) {
+                    transitioned += transition(chunk, cutoff);
+                    chunks++;
+                    chunk.clear();
+                }
+                if (scanned % properties.getReportInterval() == 0) {
+                    report("진행", scanned, transitioned, startedAt);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                transitioned += transition(chunk, cutoff);
+                chunks++;
+            }
+        }
+
+        report("완료", scanned, transitioned, startedAt);
+        return new DormancyRunResult(scanned, transitioned, chunks, Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    private int transition(List<DormancyCandidate> candidates, LocalDateTime cutoff) {
+        Integer transitioned = transactionOperations.execute(status -> {
+            // 스캔 이후 로그인/상태 변경된 계정을 제외하고, 전환이 끝날 때까지 로그인 갱신과 경합하지 않도록 잠근다
+            List<Long> accountIds = queryFactory
+                    .select(accountEntity.accountId)
+                    .from(accountEntity)
+                    .where(
+                            accountEntity.accountId.in(candidates.stream().map(DormancyCandidate::accountId).toList()),
+                            isDormancyCandidate(cutoff)
+                    )
+                    .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                    .fetch();
+            if (accountIds.isEmpty()) {
+                return 0;
+            }
+
+            LocalDateTime now = LocalDateTime.now(clock);
+            // 엔티티 단위 수정과 충돌을 감지할 수 있도록 버전도 함께 올린다
+            queryFactory.update(accountEntity)
+                    .set(accountEntity.status, AccountStatus.DORMANT)
+                    .set(accountEntity.version, accountEntity.version.add(1))
+                    .set(accountEntity.updatedAt, now)
+                    .where(accountEntity.accountId.in(accountIds))
+                    .execute();
+
+            Set<Long> lockedIds = new HashSet<>(accountIds);
+            List<DormancyCandidate> dormant = candidates.stream()
+                    .filter(candidate -> lockedIds.contains(candidate.accountId()))
+                    .toList();
+            // 전송이 확인된 뒤에만 청크를 커밋하도록 결과를 기다린다
+            domainEventPublisher.publish(dormant.stream()
+                    .map(DormancyCandidate::toEvent)
+                    .toList())
+                    .join();
+            dormant.forEach(candidate -> invalidate(candidate, now));
+            return dormant.size();
+        });
+        return transitioned != null ? transitioned : 0;
+    }
+
+    private static BooleanExpression isDormancyCandidate(LocalDateTime cutoff) {
+        return accountEntity.status.eq(AccountStatus.ACTIVE)
+                .and(accountEntity.lastLoginAt.lt(cutoff)
+                        .or(accountEntity.lastLoginAt.isNull().and(accountEntity.createdAt.lt(cutoff))));
+    }
+
+    private void invalidate(DormancyCandidate candidate, LocalDateTime transitionedAt) {
+        cacheInvalidationPublisher.publishAfterCommit(NearCacheKeys.ACCOUNT,
+                NearCacheKeys.accountId(candidate.accountId()), () -> CacheInvalidation.versionOf(transitionedAt));
+        cacheInvalidationPublisher.publishAfterCommit(NearCacheKeys.ACCOUNT,
+                NearCacheKeys.accountEmail(candidate.email()), () -> CacheInvalidation.versionOf(transitionedAt));
+    }
+
+    private void report(String phase, long scanned, long transitioned, long startedAt) {
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        Runtime runtime = Runtime.getRuntime();
+        log.info("휴면 전환 배치 {}: 스캔 {}건, 전환 {}건, {}ms, 초당 {}건, 힙 사용 {}MB",
+                phase, scanned, transitioned, elapsedMillis, scanned * 1000 / elapsedMillis,
+                (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024));
+    }
+
+    private record DormancyCandidate(Long accountId, Long customerId, String email, LocalDateTime lastLoginAt) {
+
+        static DormancyCandidate of(Object[] row) {
+            return new DormancyCandidate((Long) row[0], (Long) row[1], (String) row[2], (LocalDateTime) row[3]);
+        }
+
+        AccountDormantEvent toEvent() {
+            return AccountDormantEvent.of(AccountId.of(accountId), CustomerId.of(customerId), lastLoginAt);
+        }
+    }
+}
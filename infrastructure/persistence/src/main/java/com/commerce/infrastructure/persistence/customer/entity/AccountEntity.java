@@ -1,21 +1,35 @@
 package com.commerce.infrastructure.persistence.customer.entity;
 
+import com.commerce.infrastructure.persistence.cache.CacheRegions;
 import com.commerce.infrastructure.persistence.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 
+/**
+ * 계정 엔티티
+ * 삭제된 계정은 accounts_deleted 테이블로 옮겨지므로 accounts와 그 인덱스에는 살아 있는 행만 남는다.
+ * 이동 전 상태의 행(deleted = true)은 @SQLRestriction으로 모든 엔티티 조회에서 자동으로 제외된다.
+ */
 @Entity
 @Table(name = "accounts", indexes = {
-    @Index(name = "idx_account_email", columnList = "email, deleted", unique = true),
-    @Index(name = "idx_account_customer_id", columnList = "customer_id, deleted", unique = true),
+    @Index(name = "idx_account_email", columnList = "email", unique = true),
+    @Index(name = "idx_account_customer_id", columnList = "customer_id", unique = true),
     @Index(name = "idx_account_status", columnList = "status"),
-    @Index(name = "idx_account_deleted", columnList = "deleted")
+    @Index(name = "idx_account_status_last_login", columnList = "status, last_login_at")
 })
+@SQLRestriction("deleted = false")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ACCOUNT)
+@NaturalIdCache(region = CacheRegions.ACCOUNT_EMAIL)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class AccountEntity extends BaseEntity {
@@ -28,6 +42,12 @@ public class AccountEntity extends BaseEntity {
     @Column(name = "customer_id", nullable = false, unique = true)
     private Long customerId;
 
+    // 낙관적 잠금 버전 (UPDATE ... WHERE version = ? 로 동시 수정 감지)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @NaturalId
     @Column(name = "email", nullable = false, unique = true, length = 100)
     private String email;
 
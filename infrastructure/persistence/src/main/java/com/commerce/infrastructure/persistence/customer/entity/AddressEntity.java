@@ -1,18 +1,25 @@
 package com.commerce.infrastructure.persistence.customer.entity;
 
+import com.commerce.infrastructure.persistence.cache.CacheRegions;
 import com.commerce.infrastructure.persistence.common.BaseEntity;
+import com.commerce.infrastructure.persistence.customer.search.KoreanSearchKey;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "addresses", indexes = {
     @Index(name = "idx_address_profile_id", columnList = "profile_id"),
     @Index(name = "idx_address_type", columnList = "type"),
-    @Index(name = "idx_address_default", columnList = "is_default")
+    @Index(name = "idx_address_default", columnList = "is_default"),
+    @Index(name = "idx_address_road_chosung", columnList = "road_address_chosung"),
+    @Index(name = "idx_address_road_jamo", columnList = "road_address_jamo")
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ADDRESS)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class AddressEntity extends BaseEntity {
@@ -39,6 +46,13 @@ public class AddressEntity extends BaseEntity {
     @Column(name = "road_address", nullable = false, length = 200)
     private String roadAddress;
 
+    // 도로명 주소 초성/자모 검색 키 (저장 시 계산)
+    @Column(name = "road_address_chosung", length = 200)
+    private String roadAddressChosung;
+
+    @Column(name = "road_address_jamo", length = 255)
+    private String roadAddressJamo;
+
     @Column(name = "jibun_address", length = 200)
     private String jibunAddress;
 
@@ -59,6 +73,7 @@ public class AddressEntity extends BaseEntity {
         this.roadAddress = roadAddress;
         this.jibunAddress = jibunAddress;
         this.detailAddress = detailAddress;
+        refreshRoadAddressSearchKeys();
         this.isDefault = isDefault != null ? isDefault : false;
     }
 
@@ -70,6 +85,12 @@ public class AddressEntity extends BaseEntity {
         this.roadAddress = roadAddress;
         this.jibunAddress = jibunAddress;
         this.detailAddress = detailAddress;
+        refreshRoadAddressSearchKeys();
+    }
+
+    private void refreshRoadAddressSearchKeys() {
+        this.roadAddressChosung = KoreanSearchKey.truncate(KoreanSearchKey.chosung(roadAddress), 200);
+        this.roadAddressJamo = KoreanSearchKey.truncate(KoreanSearchKey.jamo(roadAddress), 255);
     }
 
     public void setAsDefault() {
@@ -1,21 +1,26 @@
 package com.commerce.infrastructure.persistence.customer.entity;
 
+import com.commerce.infrastructure.persistence.cache.CacheRegions;
 import com.commerce.infrastructure.persistence.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "brand_preferences", 
        indexes = {
            @Index(name = "idx_brand_preference_profile_id", columnList = "profile_id"),
-           @Index(name = "idx_brand_preference_brand_name", columnList = "brand_name")
+           @Index(name = "idx_brand_preference_brand_name", columnList = "brand_name"),
+           @Index(name = "idx_brand_preference_brand_rank", columnList = "brand_name, preference_rank, profile_id")
        },
        uniqueConstraints = {
            @UniqueConstraint(name = "uk_profile_brand", columnNames = {"profile_id", "brand_name"})
        })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.BRAND_PREFERENCE)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class BrandPreferenceEntity extends BaseEntity {
@@ -36,16 +41,22 @@ public class BrandPreferenceEntity extends BaseEntity {
     @Column(name = "preference_level", nullable = false, length = 20)
     private PreferenceLevel preferenceLevel;
 
+    // DB 정렬용 선호도 순위 (LOVE=1, LIKE=2, DISLIKE=3), preferenceLevel 변경 시 함께 갱신
+    @Column(name = "preference_rank", nullable = false)
+    private int preferenceRank;
+
     @Builder
     public BrandPreferenceEntity(CustomerProfileEntity customerProfile, String brandName, 
                                PreferenceLevel preferenceLevel) {
         this.customerProfile = customerProfile;
         this.brandName = brandName;
         this.preferenceLevel = preferenceLevel;
+        this.preferenceRank = preferenceLevel.getRank();
     }
 
     public void updatePreferenceLevel(PreferenceLevel preferenceLevel) {
         this.preferenceLevel = preferenceLevel;
+        this.preferenceRank = preferenceLevel.getRank();
     }
 
     // JPA를 위한 setter (package-private)
@@ -53,7 +64,14 @@ public class BrandPreferenceEntity extends BaseEntity {
         this.customerProfile = customerProfile;
     }
 
+    @Getter
     public enum PreferenceLevel {
-        LOVE, LIKE, DISLIKE
+        LOVE(1), LIKE(2), DISLIKE(3);
+
+        private final int rank;
+
+        PreferenceLevel(int rank) {
+            this.rank = rank;
+        }
     }
 }
\ No newline at end of file
@@ -1,21 +1,26 @@
 package com.commerce.infrastructure.persistence.customer.entity;
 
+import com.commerce.infrastructure.persistence.cache.CacheRegions;
 import com.commerce.infrastructure.persistence.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "category_interests", 
        indexes = {
            @Index(name = "idx_category_interest_profile_id", columnList = "profile_id"),
-           @Index(name = "idx_category_interest_category_name", columnList = "category_name")
+           @Index(name = "idx_category_interest_category_name", columnList = "category_name"),
+           @Index(name = "idx_category_interest_category_rank", columnList = "category_name, interest_rank, profile_id")
        },
        uniqueConstraints = {
            @UniqueConstraint(name = "uk_profile_category", columnNames = {"profile_id", "category_name"})
        })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CATEGORY_INTEREST)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CategoryInterestEntity extends BaseEntity {
@@ -36,16 +41,22 @@ public class CategoryInterestEntity extends BaseEntity {
     @Column(name = "interest_level", nullable = false, length = 20)
     private InterestLevel interestLevel;
 
+    // DB 정렬용 관심도 순위 (HIGH=1, MEDIUM=2, LOW=3), interestLevel 변경 시 함께 갱신
+    @Column(name = "interest_rank", nullable = false)
+    private int interestRank;
+
     @Builder
     public CategoryInterestEntity(CustomerProfileEntity customerProfile, String categoryName, 
                                 InterestLevel interestLevel) {
         this.customerProfile = customerProfile;
         this.categoryName = categoryName;
         this.interestLevel = interestLevel;
+        this.interestRank = interestLevel.getRank();
     }
 
     public void updateInterestLevel(InterestLevel interestLevel) {
         this.interestLevel = interestLevel;
+        this.interestRank = interestLevel.getRank();
     }
 
     // JPA를 위한 setter (package-private)
@@ -53,7 +64,14 @@ public class CategoryInterestEntity extends BaseEntity {
         this.customerProfile = customerProfile;
     }
 
+    @Getter
     public enum InterestLevel {
-        HIGH, MEDIUM, LOW
+        HIGH(1), MEDIUM(2), LOW(3);
+
+        private final int rank;
+
+        InterestLevel(int rank) {
+            this.rank = rank;
+        }
     }
 }
\ No newline at end of file
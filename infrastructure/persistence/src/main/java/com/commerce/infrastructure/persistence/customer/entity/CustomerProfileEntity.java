@@ -1,33 +1,57 @@
 package com.commerce.infrastructure.persistence.customer.entity;
 
+import com.commerce.infrastructure.persistence.cache.CacheRegions;
 import com.commerce.infrastructure.persistence.common.BaseEntity;
+import com.commerce.infrastructure.persistence.customer.search.BirthdayWindow;
+import com.commerce.infrastructure.persistence.customer.search.KoreanSearchKey;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 @Entity
 @Table(name = "customer_profiles", indexes = {
     @Index(name = "idx_profile_customer_id", columnList = "customer_id", unique = true),
-    @Index(name = "idx_profile_status", columnList = "status")
+    @Index(name = "idx_profile_status", columnList = "status"),
+    @Index(name = "idx_profile_status_updated_at", columnList = "status, updated_at"),
+    @Index(name = "idx_profile_status_birth_month_day", columnList = "status, birth_month_day"),
+    @Index(name = "idx_profile_name_chosung", columnList = "name_chosung"),
+    @Index(name = "idx_profile_name_jamo", columnList = "name_jamo")
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CUSTOMER_PROFILE)
+@NaturalIdCache(region = CacheRegions.CUSTOMER_PROFILE_CUSTOMER_ID)
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CustomerProfileEntity extends BaseEntity {
 
+    public static final int DETAIL_BATCH_SIZE = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "profile_id")
     private Long profileId;
 
+    @NaturalId
     @Column(name = "customer_id", nullable = false, unique = true)
     private Long customerId;
 
+    // 낙관적 잠금 버전 (UPDATE ... WHERE version = ? 로 동시 수정 감지)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // Personal Info
     @Column(name = "first_name", nullable = false, length = 50)
     private String firstName;
@@ -35,9 +59,20 @@ public class CustomerProfileEntity extends BaseEntity {
     @Column(name = "last_name", nullable = false, length = 50)
     private String lastName;
 
+    // 초성/자모 검색 키 (성+이름 기준, 저장 시 계산)
+    @Column(name = "name_chosung", length = 100)
+    private String nameChosung;
+
+    @Column(name = "name_jamo", length = 255)
+    private String nameJamo;
+
     @Column(name = "birth_date")
     private LocalDate birthDate;
 
+    // 연도와 무관한 생일 조회용 파생 키 (MMDD, 예: 3월 5일 → 305)
+    @Column(name = "birth_month_day")
+    private Integer birthMonthDay;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "gender", length = 10)
     private Gender gender;
@@ -80,17 +115,29 @@ public class CustomerProfileEntity extends BaseEntity {
     @Column(name = "review_notifications", nullable = false)
     private Boolean reviewNotifications = true;
 
+    // 자식 컬렉션은 Set + @BatchSize로 매핑하여 목록 조회 시 프로필 수와 무관하게
+    // 컬렉션별 IN 쿼리로 일괄 로딩한다 (Bag 다중 fetch join 제약도 함께 해소)
+
     // Addresses - OneToMany relationship
     @OneToMany(mappedBy = "customerProfile", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
-    private List<AddressEntity> addresses = new ArrayList<>();
+    @OrderBy("isDefault DESC, addressId ASC")
+    @BatchSize(size = DETAIL_BATCH_SIZE)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CUSTOMER_PROFILE_ADDRESSES)
+    private Set<AddressEntity> addresses = new LinkedHashSet<>();
 
     // Brand Preferences - OneToMany relationship
     @OneToMany(mappedBy = "customerProfile", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
-    private List<BrandPreferenceEntity> brandPreferences = new ArrayList<>();
+    @OrderBy("preferenceRank ASC, brandPreferenceId ASC")
+    @BatchSize(size = DETAIL_BATCH_SIZE)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CUSTOMER_PROFILE_BRAND_PREFERENCES)
+    private Set<BrandPreferenceEntity> brandPreferences = new LinkedHashSet<>();
 
     // Category Interests - OneToMany relationship
     @OneToMany(mappedBy = "customerProfile", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
-    private List<CategoryInterestEntity> categoryInterests = new ArrayList<>();
+    @OrderBy("interestRank ASC, categoryInterestId ASC")
+    @BatchSize(size = DETAIL_BATCH_SIZE)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CUSTOMER_PROFILE_CATEGORY_INTERESTS)
+    private Set<CategoryInterestEntity> categoryInterests = new LinkedHashSet<>();
 
     @Builder
     public CustomerProfileEntity(Long customerId, String firstName, String lastName,
@@ -103,8 +150,10 @@ public class CustomerProfileEntity extends BaseEntity {
         this.firstName = firstName;
         this.lastName = lastName;
         this.birthDate = birthDate;
+        this.birthMonthDay = BirthdayWindow.monthDayOf(birthDate);
         this.gender = gender;
         this.profileImageUrl = profileImageUrl;
+        refreshNameSearchKeys();
         this.primaryPhone = primaryPhone;
         this.secondaryPhone = secondaryPhone;
         this.status = status != null ? status : ProfileStatus.ACTIVE;
@@ -123,8 +172,16 @@ public class CustomerProfileEntity extends BaseEntity {
         this.firstName = firstName;
         this.lastName = lastName;
         this.birthDate = birthDate;
+        this.birthMonthDay = BirthdayWindow.monthDayOf(birthDate);
         this.gender = gender;
         this.profileImageUrl = profileImageUrl;
+        refreshNameSearchKeys();
+    }
+
+    private void refreshNameSearchKeys() {
+        String displayName = (lastName != null ? lastName : "") + (firstName != null ? firstName : "");
+        this.nameChosung = KoreanSearchKey.truncate(KoreanSearchKey.chosung(displayName), 100);
+        this.nameJamo = KoreanSearchKey.truncate(KoreanSearchKey.jamo(displayName), 255);
     }
 
     // Contact Info 업데이트
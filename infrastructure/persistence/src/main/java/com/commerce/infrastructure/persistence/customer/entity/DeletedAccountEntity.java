@@ -0,0 +1,66 @@
+package com.commerce.infrastructure.persistence.customer.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 계정 보관 엔티티
+ * 삭제 시점의 계정 식별 정보만 보관하고 비밀번호와 인증 코드는 옮기지 않는다.
+ * 같은 이메일로 재가입 후 다시 삭제될 수 있으므로 이메일/고객 ID에는 유일 제약을 두지 않는다.
+ */
+@Entity
+@Table(name = "accounts_deleted", indexes = {
+    @Index(name = "idx_account_deleted_email", columnList = "email"),
+    @Index(name = "idx_account_deleted_customer_id", columnList = "customer_id"),
+    @Index(name = "idx_account_deleted_deleted_at", columnList = "deleted_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DeletedAccountEntity {
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @Column(name = "email", nullable = false, length = 100)
+    private String email;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private AccountEntity.AccountStatus status;
+
+    @Column(name = "activated_at")
+    private LocalDateTime activatedAt;
+
+    @Column(name = "last_login_at")
+    private LocalDateTime lastLoginAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    /**
+     * 삭제 처리(markAsDeleted)된 계정으로부터 보관 행 생성
+     */
+    public static DeletedAccountEntity from(AccountEntity account) {
+        DeletedAccountEntity deleted = new DeletedAccountEntity();
+        deleted.accountId = account.getAccountId();
+        deleted.customerId = account.getCustomerId();
+        deleted.email = account.getEmail();
+        deleted.status = account.getStatus();
+        deleted.activatedAt = account.getActivatedAt();
+        deleted.lastLoginAt = account.getLastLoginAt();
+        deleted.createdAt = account.getCreatedAt();
+        deleted.deletedAt = account.getDeletedAt() != null ? account.getDeletedAt() : LocalDateTime.now();
+        return deleted;
+    }
+}
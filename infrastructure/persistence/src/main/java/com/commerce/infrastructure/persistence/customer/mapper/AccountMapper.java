@@ -42,13 +42,13 @@ public class AccountMapper {
         // 인증 코드 복원
         ActivationCode activationCode = null;
         if (entity.getActivationCode() != null && entity.getActivationCodeExpiresAt() != null) {
-            activationCode = ActivationCode.of(entity.getActivationCode(), entity.getActivationCodeExpiresAt());
+            activationCode = ActivationCode.restore(entity.getActivationCode(), entity.getActivationCodeExpiresAt());
         }
         
         return Account.restore(
                 AccountId.of(entity.getAccountId()),
                 CustomerId.of(entity.getCustomerId()),
-                Email.of(entity.getEmail()),
+                Email.restore(entity.getEmail()), // 저장 시 정규화/검증된 값
                 Password.ofEncoded(entity.getPassword()), // 엔티티의 password는 이미 인코딩된 값
                 mapToDomainStatus(entity.getStatus()),
                 entity.getCreatedAt() != null ? entity.getCreatedAt() : java.time.LocalDateTime.now(),
@@ -5,6 +5,7 @@ import com.commerce.customer.core.domain.model.profile.*;
 import com.commerce.infrastructure.persistence.customer.entity.*;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -65,13 +66,13 @@ public class CustomerProfileMapper {
         FullName fullName = FullName.of(entity.getFirstName(), entity.getLastName());
         
         BirthDate birthDate = entity.getBirthDate() != null ? 
-            BirthDate.of(entity.getBirthDate()) : null;
+            BirthDate.restore(entity.getBirthDate()) : null;
         
         Gender gender = entity.getGender() != null ? 
             mapToDomainGender(entity.getGender()) : null;
         
         ProfileImage profileImage = entity.getProfileImageUrl() != null ? 
-            ProfileImage.of(entity.getProfileImageUrl()) : null;
+            ProfileImage.restore(entity.getProfileImageUrl()) : null;
 
         PersonalInfo personalInfo = PersonalInfo.of(fullName, birthDate, gender, profileImage);
 
@@ -132,54 +133,34 @@ public class CustomerProfileMapper {
                 .brandPreferences(brandPreferences)
                 .build();
 
-        // CustomerProfile 생성
-        CustomerProfile profile = CustomerProfile.create(
+        // 저장된 식별자/상태/일시/버전을 그대로 사용해 복원 (상태 전이 검증, 이벤트, 리플렉션 없음)
+        LocalDateTime createdAt = entity.getCreatedAt() != null ? entity.getCreatedAt() : LocalDateTime.now();
+        return CustomerProfile.restore(
+                entity.getProfileId() != null ? ProfileId.of(entity.getProfileId()) : ProfileId.generate(),
                 CustomerId.of(entity.getCustomerId()),
                 personalInfo,
-                contactInfo
+                contactInfo,
+                addresses,
+                preferences,
+                mapToDomainStatus(entity.getStatus()),
+                createdAt,
+                entity.getUpdatedAt() != null ? entity.getUpdatedAt() : createdAt,
+                entity.getVersion()
         );
-        
-        // Preferences 업데이트
-        profile.updatePreferences(preferences);
-        
-        // Status 설정
-        ProfileStatus domainStatus = mapToDomainStatus(entity.getStatus());
-        if (domainStatus == ProfileStatus.INACTIVE) {
-            profile.deactivate();
-        } else if (domainStatus == ProfileStatus.SUSPENDED) {
-            // CustomerProfile은 suspend를 직접 지원하지 않으므로
-            // 리플렉션을 사용하여 status 설정
-            try {
-                java.lang.reflect.Field statusField = CustomerProfile.class.getDeclaredField("status");
-                statusField.setAccessible(true);
-                statusField.set(profile, domainStatus);
-            } catch (Exception e) {
-                throw new RuntimeException("Failed to set status", e);
-            }
-        }
-        
-        // ProfileId 설정 (리플렉션 사용)
-        if (entity.getProfileId() != null) {
-            try {
-                java.lang.reflect.Field profileIdField = CustomerProfile.class.getDeclaredField("profileId");
-                profileIdField.setAccessible(true);
-                profileIdField.set(profile, ProfileId.of(entity.getProfileId()));
-            } catch (Exception e) {
-                throw new RuntimeException("Failed to set profileId", e);
-            }
-        }
-        
-        return profile;
     }
 
     private Address mapAddressToDomain(AddressEntity entity) {
-        return Address.create(
+        return Address.restore(
+                entity.getAddressId() != null ? AddressId.of(entity.getAddressId()) : AddressId.generate(),
                 mapToDomainAddressType(entity.getType()),
                 entity.getAlias(),
                 entity.getZipCode(),
                 entity.getRoadAddress(),
                 entity.getJibunAddress(),
-                entity.getDetailAddress()
+                entity.getDetailAddress(),
+                null,
+                Boolean.TRUE.equals(entity.getIsDefault()),
+                entity.getCreatedAt() != null ? entity.getCreatedAt() : LocalDateTime.now()
         );
     }
 
@@ -0,0 +1,25 @@
+package com.commerce.infrastructure.persistence.customer.offheap;
+
+/**
+ * 오프힙 프로필 저장소 메모리 사용량
+ *
+ * @param entries       저장된 프로필 수
+ * @param liveDataBytes 현재 유효한 레코드 바이트
+ * @param staleDataBytes 갱신/삭제로 더 이상 참조되지 않는 레코드 바이트 (압축 시 회수)
+ * @param indexBytes    인덱스(오픈 어드레싱 테이블) 바이트
+ * @param reservedBytes 세그먼트로 확보한 전체 데이터 영역 바이트
+ */
+public record MemoryFootprint(long entries, long liveDataBytes, long staleDataBytes,
+                              long indexBytes, long reservedBytes) {
+
+    /**
+     * 프로필 1건당 평균 바이트 (레코드 + 인덱스 슬롯 몫)
+     */
+    public double bytesPerEntry() {
+        return entries == 0 ? 0 : (double) (liveDataBytes + indexBytes) / entries;
+    }
+
+    public double averageRecordBytes() {
+        return entries == 0 ? 0 : (double) liveDataBytes / entries;
+    }
+}
@@ -0,0 +1,100 @@
+package com.commerce.infrastructure.persistence.customer.offheap;
+
+import com.commerce.infrastructure.persistence.customer.repository.CustomerProfileQueryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * customer_profiles 테이블을 오프힙 저장소에 적재하고 변경된 고객을 갱신
+ *
+ * - 전체 적재: 읽기 전용 트랜잭션에서 스냅샷 행을 스트리밍한다.
+ * - 갱신: 프로필 변경 통지(커밋 이후)를 받으면 해당 고객의 현재 행을 다시 읽어 기록하고, 행이 없으면 제거한다.
+ *   조회와 기록을 한 잠금 안에서 수행하므로, 뒤에 커밋된 변경의 갱신이 먼저 끝나도 앞선 갱신이 그 위를 덮지 않는다
+ *   (각 갱신은 자기 커밋 이후에 읽으므로 나중에 읽은 쪽이 항상 같거나 새로운 행이다).
+ *   갱신은 트랜잭션 밖(또는 커밋을 마친 트랜잭션)에서 실행되어 replica가 아닌 primary를 읽는다.
+ * - 전체 적재 중 갱신된 고객은 적재가 더 오래된 행으로 덮었을 수 있으므로 적재를 마친 뒤 한 번 더 갱신한다.
+ * - 압축: 갱신이 쌓여 stale 바이트가 커지면 주기적으로 유효한 레코드만 새 세그먼트로 옮긴다.
+ */
+@Slf4j
+public class OffHeapProfileLoader {
+
+    private final CustomerProfileQueryRepository customerProfileQueryRepository;
+    private final OffHeapProfileStore store;
+    private final TransactionOperations readOnlyTransaction;
+    private final int chunkSize;
+    private final double compactionStaleRatio;
+    private final Object refreshLock = new Object();
+
+    private volatile Set<Long> refreshedDuringLoad;
+
+    public OffHeapProfileLoader(CustomerProfileQueryRepository customerProfileQueryRepository,
+                                OffHeapProfileStore store, TransactionOperations readOnlyTransaction,
+                                int chunkSize, double compactionStaleRatio) {
+        this.customerProfileQueryRepository = customerProfileQueryRepository;
+        this.store = store;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.chunkSize = chunkSize;
+        this.compactionStaleRatio = compactionStaleRatio;
+    }
+
+    /**
+     * @return 적재한 프로필 수
+     */
+    public long load() {
+        long startedAt = System.nanoTime();
+        Set<Long> refreshed = ConcurrentHashMap.newKeySet();
+        refreshedDuringLoad = refreshed;
+        AtomicLong loaded = new AtomicLong();
+        try {
+            readOnlyTransaction.executeWithoutResult(status ->
+                    customerProfileQueryRepository.streamSnapshotRows(chunkSize).forEach(row -> {
+                        store.put(row);
+                        loaded.incrementAndGet();
+                    }));
+        } finally {
+            refreshedDuringLoad = null;
+        }
+        refreshed.forEach(this::refresh);
+
+        MemoryFootprint footprint = store.footprint();
+        log.info("오프힙 프로필 적재 완료: {}건, {}ms, 건당 {} bytes (레코드 {} + 인덱스), 데이터 영역 {} bytes",
+                loaded.get(), (System.nanoTime() - startedAt) / 1_000_000,
+                Math.round(footprint.bytesPerEntry()), Math.round(footprint.averageRecordBytes()),
+                footprint.reservedBytes());
+        return loaded.get();
+    }
+
+    /**
+     * 고객의 현재 스냅샷을 다시 읽어 기록한다. 프로필이 없으면 저장소에서 제거한다.
+     */
+    public void refresh(long customerId) {
+        Set<Long> refreshed = refreshedDuringLoad;
+        if (refreshed != null) {
+            refreshed.add(customerId);
+        }
+        synchronized (refreshLock) {
+            try {
+                customerProfileQueryRepository.findSnapshotRowByCustomerId(customerId)
+                        .ifPresentOrElse(store::put, () -> store.remove(customerId));
+            } catch (RuntimeException e) {
+                // 오래된 스냅샷을 남기지 않도록 내리고, 이후 조회는 원본 저장소에서 한다
+                store.remove(customerId);
+                log.warn("오프힙 프로필 갱신 실패, 스냅샷 제거: customerId={}", customerId, e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${commerce.cache.offheap-profile.compaction-interval:PT10M}")
+    public void compactIfNeeded() {
+        MemoryFootprint before = store.footprint();
+        if (store.compactIfNeeded(compactionStaleRatio)) {
+            log.info("오프힙 프로필 저장소 압축: stale {} bytes 회수, 데이터 영역 {} → {} bytes",
+                    before.staleDataBytes(), before.reservedBytes(), store.footprint().reservedBytes());
+        }
+    }
+}
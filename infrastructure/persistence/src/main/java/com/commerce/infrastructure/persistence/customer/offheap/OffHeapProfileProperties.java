@@ -0,0 +1,70 @@
+package com.commerce.infrastructure.persistence.customer.offheap;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * 오프힙 프로필 저장소 설정
+ *
+ * <pre>
+ * commerce:
+ *   cache:
+ *     offheap-profile:
+ *       enabled: true
+ *       directory: /var/lib/commerce/profiles   # 지정하면 메모리 맵 파일, 없으면 direct buffer
+ *       segment-size: 64MB
+ *       expected-entries: 5000000
+ *       load-chunk-size: 5000
+ *       compaction-interval: PT10M              # stale 바이트 압축 검사 주기
+ *       compaction-stale-ratio: 0.5             # stale 바이트가 유효 바이트의 이 배수를 넘으면 압축
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "commerce.cache.offheap-profile")
+public class OffHeapProfileProperties {
+
+    /**
+     * 오프힙 프로필 저장소 활성화 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 메모리 맵 세그먼트 파일 디렉터리 (null이면 direct buffer 사용)
+     */
+    private Path directory;
+
+    /**
+     * 데이터 세그먼트 크기
+     */
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    /**
+     * 예상 고객 수 (인덱스 초기 크기)
+     */
+    private int expectedEntries = 1_000_000;
+
+    /**
+     * 적재 시 한 번에 조회할 행 수
+     */
+    private int loadChunkSize = 5_000;
+
+    /**
+     * 애플리케이션 기동 완료 후 적재 여부
+     */
+    private boolean loadOnStartup = true;
+
+    /**
+     * 압축 검사 주기 (ISO-8601 기간)
+     */
+    private String compactionInterval = "PT10M";
+
+    /**
+     * 압축 기준: stale 바이트 / 유효 바이트
+     */
+    private double compactionStaleRatio = 0.5;
+}
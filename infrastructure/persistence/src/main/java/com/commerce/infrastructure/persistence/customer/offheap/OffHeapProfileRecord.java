@@ -0,0 +1,103 @@
+package com.commerce.infrastructure.persistence.customer.offheap;
+
+import com.commerce.customer.core.domain.model.profile.ProfileStatus;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 오프힙 프로필 레코드 뷰 (flyweight)
+ *
+ * 세그먼트 버퍼의 한 위치를 가리키며 필드를 읽을 때 버퍼에서 바로 꺼낸다.
+ * 하나의 인스턴스를 재사용하여 조회마다 객체를 만들지 않을 수 있고, 문자열 필드는
+ * {@link #bytes(ProfileSnapshotField)}로 복사 없이 UTF-8 바이트 뷰를 얻는다.
+ * 레코드는 추가 전용 영역에 있으므로 이후 같은 고객이 갱신되어도 이미 가리키는 내용은 변하지 않는다.
+ */
+public class OffHeapProfileRecord {
+
+    static final int LENGTH_OFFSET = 0;
+    static final int PROFILE_ID_OFFSET = 4;
+    static final int CUSTOMER_ID_OFFSET = 12;
+    static final int STATUS_OFFSET = 20;
+    static final int FLAGS_OFFSET = 21;
+    static final int FIELDS_OFFSET = 22;
+
+    static final int EMAIL_MARKETING = 1;
+    static final int SMS_MARKETING = 1 << 1;
+    static final int PUSH_MARKETING = 1 << 2;
+    static final int HAS_DEFAULT_ADDRESS = 1 << 3;
+
+    private static final ProfileStatus[] STATUSES = ProfileStatus.values();
+
+    private ByteBuffer segment;
+    private int offset;
+
+    void bind(ByteBuffer segment, int offset) {
+        this.segment = segment;
+        this.offset = offset;
+    }
+
+    public long profileId() {
+        return segment.getLong(offset + PROFILE_ID_OFFSET);
+    }
+
+    public long customerId() {
+        return segment.getLong(offset + CUSTOMER_ID_OFFSET);
+    }
+
+    public ProfileStatus status() {
+        return STATUSES[segment.get(offset + STATUS_OFFSET)];
+    }
+
+    public boolean emailMarketingConsent() {
+        return (flags() & EMAIL_MARKETING) != 0;
+    }
+
+    public boolean smsMarketingConsent() {
+        return (flags() & SMS_MARKETING) != 0;
+    }
+
+    public boolean pushMarketingConsent() {
+        return (flags() & PUSH_MARKETING) != 0;
+    }
+
+    public boolean hasDefaultAddress() {
+        return (flags() & HAS_DEFAULT_ADDRESS) != 0;
+    }
+
+    /**
+     * 필드의 UTF-8 바이트를 복사 없이 읽기 전용 뷰로 반환한다 (응답 버퍼에 그대로 쓸 때 사용).
+     */
+    public ByteBuffer bytes(ProfileSnapshotField field) {
+        int position = fieldPosition(field);
+        int length = Short.toUnsignedInt(segment.getShort(position));
+        return segment.slice(position + Short.BYTES, length).asReadOnlyBuffer();
+    }
+
+    /**
+     * 필드를 문자열로 디코딩한다 (새 String 생성).
+     */
+    public String string(ProfileSnapshotField field) {
+        int position = fieldPosition(field);
+        int length = Short.toUnsignedInt(segment.getShort(position));
+        byte[] value = new byte[length];
+        segment.get(position + Short.BYTES, value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    public int recordLength() {
+        return segment.getInt(offset + LENGTH_OFFSET);
+    }
+
+    private int flags() {
+        return segment.get(offset + FLAGS_OFFSET);
+    }
+
+    private int fieldPosition(ProfileSnapshotField field) {
+        int position = offset + FIELDS_OFFSET;
+        for (int i = 0; i < field.ordinal(); i++) {
+            position += Short.BYTES + Short.toUnsignedInt(segment.getShort(position));
+        }
+        return position;
+    }
+}
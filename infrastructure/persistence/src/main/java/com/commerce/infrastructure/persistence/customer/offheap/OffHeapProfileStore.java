@@ -0,0 +1,197 @@
+package com.commerce.infrastructure.persistence.customer.offheap;
+
+import com.commerce.common.offheap.OffHeapRecords;
+import com.commerce.common.offheap.SegmentAllocator;
+import com.commerce.customer.core.domain.model.profile.ProfileStatus;
+import com.commerce.infrastructure.persistence.customer.repository.ProfileSnapshotRow;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 고객 ID → 프로필 스냅샷 오프힙 저장소
+ *
+ * 전체 고객을 CustomerProfile 객체 그래프로 힙에 올리면 수십 GB와 긴 GC 정지가 발생하므로,
+ * 조회가 잦은 필드(이름, 연락처, 기본 배송지, 수신 동의)만 바이너리 레코드로 힙 밖에 보관한다.
+ *
+ * - 데이터/인덱스: 세그먼트(direct buffer 또는 메모리 맵 파일)와 오픈 어드레싱 인덱스는 {@link OffHeapRecords}가 관리하고,
+ *   이 클래스는 {@link OffHeapProfileRecord} 형식의 인코딩만 맡는다.
+ * - 동시성: 인덱스는 읽기/쓰기 잠금으로 보호하고, 레코드 내용은 기록 후 변경되지 않으므로 잠금 없이 읽는다.
+ */
+public class OffHeapProfileStore implements AutoCloseable {
+
+    private static final int MAX_FIELD_BYTES = 0xFFFF;
+
+    private final OffHeapRecords records;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public OffHeapProfileStore(SegmentAllocator allocator, int segmentSize, int expectedEntries) {
+        this.records = new OffHeapRecords(allocator, segmentSize, expectedEntries);
+    }
+
+    /**
+     * 스냅샷을 기록한다. 같은 고객이 이미 있으면 새 레코드로 교체한다.
+     */
+    public void put(ProfileSnapshotRow row) {
+        long customerId = row.customerId();
+        if (customerId <= 0) {
+            throw new IllegalArgumentException("고객 ID는 양수여야 합니다: " + customerId);
+        }
+        byte[][] fields = {
+                utf8(row.firstName()), utf8(row.lastName()), utf8(row.primaryPhone()),
+                utf8(row.zipCode()), utf8(row.roadAddress()), utf8(row.detailAddress())
+        };
+        int recordLength = OffHeapProfileRecord.FIELDS_OFFSET;
+        for (byte[] field : fields) {
+            recordLength += Short.BYTES + field.length;
+        }
+
+        lock.writeLock().lock();
+        try {
+            long address = records.reserve(recordLength);
+            write(records.segment(address), OffHeapRecords.offset(address), row, fields, recordLength);
+            records.link(customerId, address);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 고객의 레코드를 view에 연결한다. 없으면 false.
+     */
+    public boolean read(long customerId, OffHeapProfileRecord view) {
+        lock.readLock().lock();
+        try {
+            long address = records.find(customerId);
+            if (address == OffHeapRecords.MISSING) {
+                return false;
+            }
+            view.bind(records.segment(address), OffHeapRecords.offset(address));
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(long customerId) {
+        lock.readLock().lock();
+        try {
+            return records.find(customerId) != OffHeapRecords.MISSING;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 고객을 제거한다 (프로필이 삭제되어 원본에 더 이상 없을 때).
+     */
+    public boolean remove(long customerId) {
+        lock.writeLock().lock();
+        try {
+            return records.unlink(customerId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * stale 바이트가 유효 바이트의 staleRatio배를 넘고 세그먼트 하나 이상이면 {@link #compact()}한다.
+     *
+     * @return 압축했으면 true
+     */
+    public boolean compactIfNeeded(double staleRatio) {
+        lock.readLock().lock();
+        try {
+            if (!records.needsCompaction(staleRatio)) {
+                return false;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        compact();
+        return true;
+    }
+
+    /**
+     * 유효한 레코드만 새 세그먼트로 복사하고 이전 세그먼트를 반납한다.
+     * 이미 레코드 뷰가 가리키는 이전 세그먼트는 덮어쓰지 않으므로 (새 세그먼트를 할당한다)
+     * 잠금 없이 읽던 뷰도 바인딩된 내용을 그대로 읽는다. 복사하는 동안 쓰기 잠금으로 조회가 대기한다.
+     */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            records.compact();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return records.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public MemoryFootprint footprint() {
+        lock.readLock().lock();
+        try {
+            return new MemoryFootprint(records.size(), records.liveDataBytes(), records.staleDataBytes(),
+                    records.indexBytes(), records.reservedBytes());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        records.close();
+    }
+
+    private void write(ByteBuffer segment, int offset, ProfileSnapshotRow row, byte[][] fields, int recordLength) {
+        segment.putInt(offset + OffHeapProfileRecord.LENGTH_OFFSET, recordLength);
+        segment.putLong(offset + OffHeapProfileRecord.PROFILE_ID_OFFSET, row.profileId());
+        segment.putLong(offset + OffHeapProfileRecord.CUSTOMER_ID_OFFSET, row.customerId());
+        segment.put(offset + OffHeapProfileRecord.STATUS_OFFSET,
+                (byte) ProfileStatus.valueOf(row.status().name()).ordinal());
+        segment.put(offset + OffHeapProfileRecord.FLAGS_OFFSET, flags(row));
+        int position = offset + OffHeapProfileRecord.FIELDS_OFFSET;
+        for (byte[] field : fields) {
+            segment.putShort(position, (short) field.length);
+            segment.put(position + Short.BYTES, field);
+            position += Short.BYTES + field.length;
+        }
+    }
+
+    private byte flags(ProfileSnapshotRow row) {
+        int flags = 0;
+        if (Boolean.TRUE.equals(row.emailMarketingConsent())) {
+            flags |= OffHeapProfileRecord.EMAIL_MARKETING;
+        }
+        if (Boolean.TRUE.equals(row.smsMarketingConsent())) {
+            flags |= OffHeapProfileRecord.SMS_MARKETING;
+        }
+        if (Boolean.TRUE.equals(row.pushMarketingConsent())) {
+            flags |= OffHeapProfileRecord.PUSH_MARKETING;
+        }
+        if (row.roadAddress() != null) {
+            flags |= OffHeapProfileRecord.HAS_DEFAULT_ADDRESS;
+        }
+        return (byte) flags;
+    }
+
+    private static byte[] utf8(String value) {
+        if (value == null) {
+            return new byte[0];
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_FIELD_BYTES) {
+            throw new IllegalArgumentException("필드 길이가 너무 깁니다: " + bytes.length);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,49 @@
+package com.commerce.infrastructure.persistence.customer.offheap;
+
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.profile.ProfileSummary;
+import com.commerce.customer.core.domain.repository.profile.ProfileSummaryRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * 오프힙 저장소를 먼저 조회하는 프로필 요약 저장소
+ *
+ * 저장소에 없는 고객(적재 전이거나 적재 이후 생성되어 아직 갱신 통지를 받지 못한 고객)만 원본 저장소에서 조회한다.
+ * 미적중 결과를 저장소에 채우지는 않는다: 커밋 직전에 읽은 행이 커밋 후 갱신보다 늦게 기록되면
+ * 다음 변경 전까지 오래된 스냅샷이 남기 때문에, 저장소 기록은 {@link OffHeapProfileLoader}만 한다.
+ */
+@RequiredArgsConstructor
+public class OffHeapProfileSummaryRepository implements ProfileSummaryRepository {
+
+    private final OffHeapProfileStore store;
+    private final ProfileSummaryRepository delegate;
+
+    @Override
+    public Optional<ProfileSummary> findByCustomerId(CustomerId customerId) {
+        OffHeapProfileRecord view = new OffHeapProfileRecord();
+        if (!store.read(customerId.getValue(), view)) {
+            return delegate.findByCustomerId(customerId);
+        }
+        boolean hasDefaultAddress = view.hasDefaultAddress();
+        return Optional.of(ProfileSummary.builder()
+                .profileId(view.profileId())
+                .customerId(view.customerId())
+                .firstName(view.string(ProfileSnapshotField.FIRST_NAME))
+                .lastName(view.string(ProfileSnapshotField.LAST_NAME))
+                .primaryPhone(nullIfEmpty(view.string(ProfileSnapshotField.PRIMARY_PHONE)))
+                .status(view.status())
+                .emailMarketingConsent(view.emailMarketingConsent())
+                .smsMarketingConsent(view.smsMarketingConsent())
+                .pushMarketingConsent(view.pushMarketingConsent())
+                .zipCode(hasDefaultAddress ? view.string(ProfileSnapshotField.ZIP_CODE) : null)
+                .roadAddress(hasDefaultAddress ? view.string(ProfileSnapshotField.ROAD_ADDRESS) : null)
+                .detailAddress(hasDefaultAddress ? nullIfEmpty(view.string(ProfileSnapshotField.DETAIL_ADDRESS)) : null)
+                .build());
+    }
+
+    private static String nullIfEmpty(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,13 @@
+package com.commerce.infrastructure.persistence.customer.offheap;
+
+/**
+ * 오프힙 프로필 레코드의 가변 길이 문자열 필드 (레코드 안의 저장 순서와 동일)
+ */
+public enum ProfileSnapshotField {
+    FIRST_NAME,
+    LAST_NAME,
+    PRIMARY_PHONE,
+    ZIP_CODE,
+    ROAD_ADDRESS,
+    DETAIL_ADDRESS
+}
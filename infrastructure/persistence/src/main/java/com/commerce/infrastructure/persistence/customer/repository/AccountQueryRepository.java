@@ -3,34 +3,37 @@ package com.commerce.infrastructure.persistence.customer.repository;
 import com.commerce.infrastructure.persistence.customer.entity.AccountEntity;
 import com.commerce.infrastructure.persistence.customer.entity.QAccountEntity;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 /**
  * Account QueryDSL Repository
+ * 삭제된 계정은 accounts_deleted로 옮겨지고 남은 삭제 행도 엔티티의 @SQLRestriction으로 제외되므로
+ * 조회 조건에 삭제 여부를 따로 붙이지 않는다.
  */
 @Repository
 @RequiredArgsConstructor
 public class AccountQueryRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
     private final QAccountEntity account = QAccountEntity.accountEntity;
 
     /**
      * 이메일로 활성 계정 조회 (삭제되지 않은 계정만)
+     * 자연 키 해석 쿼리에도 @SQLRestriction(deleted = false)이 붙으므로, 삭제 행이 accounts에 남아 있는
+     * (email, deleted) 유일 인덱스 스키마에서도 이메일당 살아 있는 행 하나로 해석된다.
+     * 자연 키 캐시에서 반환된 인스턴스에는 SQL 조건이 적용되지 않으므로 삭제 여부를 한 번 더 확인한다.
      */
     public Optional<AccountEntity> findByEmail(String email) {
-        AccountEntity result = queryFactory
-                .selectFrom(account)
-                .where(
-                        account.email.eq(email)
-                                .and(account.deleted.eq(false))
-                )
-                .fetchOne();
-        
-        return Optional.ofNullable(result);
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(AccountEntity.class)
+                .loadOptional(email)
+                .filter(entity -> !entity.isDeleted());
     }
 
     /**
@@ -39,15 +42,23 @@ public class AccountQueryRepository {
     public Optional<AccountEntity> findByCustomerId(Long customerId) {
         AccountEntity result = queryFactory
                 .selectFrom(account)
-                .where(
-                        account.customerId.eq(customerId)
-                                .and(account.deleted.eq(false))
-                )
+                .where(account.customerId.eq(customerId))
                 .fetchOne();
         
         return Optional.ofNullable(result);
     }
 
+    /**
+     * 고객 ID로 계정 ID만 조회 (삭제되지 않은 계정만)
+     */
+    public Optional<Long> findAccountIdByCustomerId(Long customerId) {
+        return Optional.ofNullable(queryFactory
+                .select(account.accountId)
+                .from(account)
+                .where(account.customerId.eq(customerId))
+                .fetchFirst());
+    }
+
     /**
      * 이메일 존재 여부 확인 (삭제되지 않은 계정만)
      */
@@ -55,10 +66,7 @@ public class AccountQueryRepository {
         Integer count = queryFactory
                 .selectOne()
                 .from(account)
-                .where(
-                        account.email.eq(email)
-                                .and(account.deleted.eq(false))
-                )
+                .where(account.email.eq(email))
                 .fetchFirst();
         
         return count != null;
@@ -71,10 +79,7 @@ public class AccountQueryRepository {
         Integer count = queryFactory
                 .selectOne()
                 .from(account)
-                .where(
-                        account.customerId.eq(customerId)
-                                .and(account.deleted.eq(false))
-                )
+                .where(account.customerId.eq(customerId))
                 .fetchFirst();
         
         return count != null;
@@ -89,7 +94,6 @@ public class AccountQueryRepository {
                 .where(
                         account.email.eq(email)
                                 .and(account.status.eq(AccountEntity.AccountStatus.ACTIVE))
-                                .and(account.deleted.eq(false))
                 )
                 .fetchOne();
         
@@ -105,7 +109,6 @@ public class AccountQueryRepository {
                 .where(
                         account.customerId.eq(customerId)
                                 .and(account.status.eq(AccountEntity.AccountStatus.ACTIVE))
-                                .and(account.deleted.eq(false))
                 )
                 .fetchOne();
         
@@ -114,16 +117,10 @@ public class AccountQueryRepository {
 
     /**
      * ID로 활성 계정 조회 (삭제되지 않은 계정만)
+     * 2차 캐시를 거치도록 식별자로 로딩하며, 캐시에서 반환된 인스턴스는 SQL 조건을 거치지 않으므로 삭제 여부를 확인한다.
      */
     public Optional<AccountEntity> findById(Long id) {
-        AccountEntity result = queryFactory
-                .selectFrom(account)
-                .where(
-                        account.accountId.eq(id)
-                                .and(account.deleted.eq(false))
-                )
-                .fetchOne();
-        
-        return Optional.ofNullable(result);
+        return Optional.ofNullable(entityManager.find(AccountEntity.class, id))
+                .filter(entity -> !entity.isDeleted());
     }
 }
\ No newline at end of file
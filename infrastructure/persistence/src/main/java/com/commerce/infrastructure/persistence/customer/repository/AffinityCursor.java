@@ -0,0 +1,8 @@
+package com.commerce.infrastructure.persistence.customer.repository;
+
+/**
+ * 브랜드/카테고리 선호 고객 키셋 페이징 커서
+ * (rank, profileId) 순으로 정렬된 결과의 한 행이며, 다음 페이지 조회 시 마지막 행을 그대로 넘긴다.
+ */
+public record AffinityCursor(int rank, long profileId) {
+}
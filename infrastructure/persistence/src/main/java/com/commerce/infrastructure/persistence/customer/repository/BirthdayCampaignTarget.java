@@ -0,0 +1,11 @@
+package com.commerce.infrastructure.persistence.customer.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 생일 캠페인 발송 대상 (알림 파이프라인 전달용 스칼라 프로젝션)
+ * (birthMonthDay, profileId) 순으로 정렬되며, 다음 페이지 조회 시 마지막 행을 커서로 넘긴다.
+ */
+public record BirthdayCampaignTarget(Long profileId, Long customerId, String firstName, String lastName,
+                                     LocalDate birthDate, Integer birthMonthDay, String primaryPhone) {
+}
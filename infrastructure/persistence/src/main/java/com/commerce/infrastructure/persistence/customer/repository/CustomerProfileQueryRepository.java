@@ -3,10 +3,17 @@ package com.commerce.infrastructure.persistence.customer.repository;
 import com.commerce.infrastructure.persistence.customer.entity.CustomerProfileEntity;
 import com.commerce.infrastructure.persistence.customer.entity.BrandPreferenceEntity;
 import com.commerce.infrastructure.persistence.customer.entity.CategoryInterestEntity;
+import com.commerce.infrastructure.persistence.customer.search.BirthdayWindow;
+import com.commerce.infrastructure.persistence.customer.search.KoreanSearchKey;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.hibernate.Hibernate;
+import org.hibernate.Session;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -15,7 +22,12 @@ import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.commerce.infrastructure.persistence.customer.entity.QCustomerProfileEntity.customerProfileEntity;
 import static com.commerce.infrastructure.persistence.customer.entity.QAddressEntity.addressEntity;
@@ -31,12 +43,23 @@ import static com.commerce.infrastructure.persistence.customer.entity.QCategoryI
 public class CustomerProfileQueryRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+
+    /**
+     * 고객 ID(자연 키)로 프로필 조회
+     * 자연 키 캐시와 엔티티 캐시를 거치므로 캐시 적중 시 DB를 조회하지 않는다.
+     */
+    public Optional<CustomerProfileEntity> findByCustomerId(Long customerId) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(CustomerProfileEntity.class)
+                .loadOptional(customerId);
+    }
 
     /**
      * 모든 연관 데이터와 함께 CustomerProfile 조회 (N+1 문제 해결)
+     * 주소를 fetch join한 뒤 나머지 컬렉션을 컬렉션별 쿼리 한 번씩으로 채워 카테시안 곱 없이 3개 쿼리로 조회한다.
      */
     public Optional<CustomerProfileEntity> findWithAllDetailsById(Long customerId) {
-        // MultipleBagFetchException을 피하기 위해 한 번에 하나의 컬렉션만 fetch join
         CustomerProfileEntity profile = queryFactory
                 .selectFrom(customerProfileEntity)
                 .leftJoin(customerProfileEntity.addresses, addressEntity).fetchJoin()
@@ -44,14 +67,80 @@ public class CustomerProfileQueryRepository {
                 .fetchOne();
 
         if (profile != null) {
-            // Hibernate.initialize를 사용하여 나머지 컬렉션 초기화
-            Hibernate.initialize(profile.getBrandPreferences());
-            Hibernate.initialize(profile.getCategoryInterests());
+            List<Long> profileIds = List.of(profile.getProfileId());
+            fetchBrandPreferences(profileIds);
+            fetchCategoryInterests(profileIds);
         }
 
         return Optional.ofNullable(profile);
     }
 
+    /**
+     * 프로필 ID 목록으로 모든 연관 데이터와 함께 조회
+     * 프로필 1회 + 컬렉션별 1회씩, 조회 건수와 무관하게 4개 쿼리로 로딩한다.
+     */
+    public List<CustomerProfileEntity> findAllWithDetailsByIds(List<Long> profileIds) {
+        if (profileIds.isEmpty()) {
+            return List.of();
+        }
+        List<CustomerProfileEntity> profiles = queryFactory
+                .selectFrom(customerProfileEntity)
+                .where(customerProfileEntity.profileId.in(profileIds))
+                .orderBy(customerProfileEntity.profileId.asc())
+                .fetch();
+        return fetchDetails(profiles);
+    }
+
+    /**
+     * 여러 고객 ID의 프로필을 자식 컬렉션까지 한 번에 조회 (프로필 1 + 컬렉션 3 쿼리)
+     */
+    public List<CustomerProfileEntity> findAllWithDetailsByCustomerIds(List<Long> customerIds) {
+        if (customerIds.isEmpty()) {
+            return List.of();
+        }
+        List<CustomerProfileEntity> profiles = queryFactory
+                .selectFrom(customerProfileEntity)
+                .where(customerProfileEntity.customerId.in(customerIds))
+                .orderBy(customerProfileEntity.customerId.asc())
+                .fetch();
+        return fetchDetails(profiles);
+    }
+
+    /**
+     * 목록 조회 결과의 자식 컬렉션을 컬렉션별 IN 쿼리로 한 번에 초기화
+     * 도메인 매핑 전에 호출하면 프로필마다 발생하던 지연 로딩 쿼리(N+1)를 3개 쿼리로 대체한다.
+     */
+    public List<CustomerProfileEntity> fetchDetails(List<CustomerProfileEntity> profiles) {
+        if (profiles.isEmpty()) {
+            return profiles;
+        }
+        List<Long> profileIds = profiles.stream().map(CustomerProfileEntity::getProfileId).toList();
+        queryFactory
+                .selectFrom(customerProfileEntity)
+                .leftJoin(customerProfileEntity.addresses, addressEntity).fetchJoin()
+                .where(customerProfileEntity.profileId.in(profileIds))
+                .fetch();
+        fetchBrandPreferences(profileIds);
+        fetchCategoryInterests(profileIds);
+        return profiles;
+    }
+
+    private void fetchBrandPreferences(List<Long> profileIds) {
+        queryFactory
+                .selectFrom(customerProfileEntity)
+                .leftJoin(customerProfileEntity.brandPreferences, brandPreferenceEntity).fetchJoin()
+                .where(customerProfileEntity.profileId.in(profileIds))
+                .fetch();
+    }
+
+    private void fetchCategoryInterests(List<Long> profileIds) {
+        queryFactory
+                .selectFrom(customerProfileEntity)
+                .leftJoin(customerProfileEntity.categoryInterests, categoryInterestEntity).fetchJoin()
+                .where(customerProfileEntity.profileId.in(profileIds))
+                .fetch();
+    }
+
     /**
      * 동적 검색 조건으로 CustomerProfile 목록 조회
      */
@@ -104,68 +193,227 @@ public class CustomerProfileQueryRepository {
     }
 
     /**
-     * 특정 브랜드를 선호하는 고객 목록 조회
+     * 이름 초성/부분 입력 검색 (예: "ㄱㅁㅅ", "김미")
+     * 저장 시 계산된 초성/자모 키 컬럼에 대한 접두어 검색으로 인덱스를 탄다.
      */
-    public List<CustomerProfileEntity> findByPreferredBrand(String brandName, int limit) {
-        // H2 데이터베이스 호환성을 위해 enum 값을 직접 정렬하지 않고
-        // 결과를 가져온 후 Java에서 정렬
-        List<CustomerProfileEntity> results = queryFactory
+    public List<CustomerProfileEntity> searchByName(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+
+        if (KoreanSearchKey.isChosungQuery(query)) {
+            return queryFactory
+                    .selectFrom(customerProfileEntity)
+                    .where(customerProfileEntity.nameChosung.startsWith(KoreanSearchKey.chosung(query)))
+                    .orderBy(customerProfileEntity.nameChosung.asc(), customerProfileEntity.profileId.asc())
+                    .limit(limit)
+                    .fetch();
+        }
+
+        return queryFactory
                 .selectFrom(customerProfileEntity)
-                .distinct()
-                .join(customerProfileEntity.brandPreferences, brandPreferenceEntity).fetchJoin()
-                .where(brandPreferenceEntity.brandName.eq(brandName))
-                .limit(limit * 2) // 정렬 전에 여유있게 가져옴
-                .fetch();
-        
-        // Java에서 선호도 순으로 정렬
-        return results.stream()
-                .sorted((p1, p2) -> {
-                    BrandPreferenceEntity pref1 = p1.getBrandPreferences().stream()
-                            .filter(bp -> bp.getBrandName().equals(brandName))
-                            .findFirst().orElse(null);
-                    BrandPreferenceEntity pref2 = p2.getBrandPreferences().stream()
-                            .filter(bp -> bp.getBrandName().equals(brandName))
-                            .findFirst().orElse(null);
-                    
-                    if (pref1 == null || pref2 == null) return 0;
-                    
-                    // LOVE(0) > LIKE(1) > DISLIKE(2) 순으로 정렬
-                    return pref1.getPreferenceLevel().ordinal() - pref2.getPreferenceLevel().ordinal();
-                })
+                .where(customerProfileEntity.nameJamo.startsWith(KoreanSearchKey.jamo(query)))
+                .orderBy(customerProfileEntity.nameJamo.asc(), customerProfileEntity.profileId.asc())
                 .limit(limit)
-                .toList();
+                .fetch();
     }
 
     /**
-     * 특정 카테고리에 관심있는 고객 목록 조회
+     * 도로명 주소 초성/부분 입력 검색 (예: "ㅌㅎㄹ", "테헤란")
      */
-    public List<CustomerProfileEntity> findByInterestCategory(String categoryName, int limit) {
-        // H2 데이터베이스 호환성을 위해 enum 값을 직접 정렬하지 않고
-        // 결과를 가져온 후 Java에서 정렬
-        List<CustomerProfileEntity> results = queryFactory
+    public List<CustomerProfileEntity> searchByRoadAddress(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+
+        BooleanExpression condition = KoreanSearchKey.isChosungQuery(query)
+                ? addressEntity.roadAddressChosung.startsWith(KoreanSearchKey.chosung(query))
+                : addressEntity.roadAddressJamo.startsWith(KoreanSearchKey.jamo(query));
+
+        return queryFactory
                 .selectFrom(customerProfileEntity)
                 .distinct()
-                .join(customerProfileEntity.categoryInterests, categoryInterestEntity).fetchJoin()
-                .where(categoryInterestEntity.categoryName.eq(categoryName))
-                .limit(limit * 2) // 정렬 전에 여유있게 가져옴
+                .join(customerProfileEntity.addresses, addressEntity)
+                .where(condition)
+                .orderBy(customerProfileEntity.profileId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 특정 브랜드를 선호하는 고객 목록 조회 (선호도 순)
+     */
+    public List<CustomerProfileEntity> findByPreferredBrand(String brandName, int limit) {
+        List<AffinityCursor> rows = findProfileIdsByPreferredBrand(brandName, null, null, limit);
+        return findProfilesInOrder(rows);
+    }
+
+    /**
+     * 특정 브랜드를 선호하는 고객 ID를 선호도 순(LOVE > LIKE > DISLIKE), 프로필 ID 순으로 키셋 페이징 조회
+     * (brand_name, preference_rank, profile_id) 인덱스 순서 그대로 읽으므로 별도 정렬이 필요 없다.
+     *
+     * @param level 특정 선호도만 조회할 때 지정 (null이면 전체)
+     * @param after 이전 페이지의 마지막 행 (첫 페이지는 null)
+     */
+    public List<AffinityCursor> findProfileIdsByPreferredBrand(
+            String brandName, BrandPreferenceEntity.PreferenceLevel level, AffinityCursor after, int limit) {
+        NumberPath<Integer> rank = brandPreferenceEntity.preferenceRank;
+        NumberPath<Long> profileId = brandPreferenceEntity.customerProfile.profileId;
+
+        BooleanBuilder builder = new BooleanBuilder(brandPreferenceEntity.brandName.eq(brandName));
+        if (level != null) {
+            builder.and(rank.eq(level.getRank()));
+        }
+        builder.and(afterCursor(rank, profileId, after));
+
+        return queryFactory
+                .select(Projections.constructor(AffinityCursor.class, rank, profileId))
+                .from(brandPreferenceEntity)
+                .where(builder)
+                .orderBy(rank.asc(), profileId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 특정 브랜드 선호 고객 ID 스트리밍 (캠페인 대상 추출용)
+     * chunkSize 단위로 키셋 페이징하며 소비하는 만큼만 조회한다.
+     */
+    public Stream<Long> streamProfileIdsByPreferredBrand(
+            String brandName, BrandPreferenceEntity.PreferenceLevel level, int chunkSize) {
+        return keysetStream(after -> findProfileIdsByPreferredBrand(brandName, level, after, chunkSize), chunkSize);
+    }
+
+    /**
+     * 프로필 스냅샷 행을 프로필 ID 순으로 키셋 페이징 조회 (기본 배송지 포함)
+     *
+     * @param afterProfileId 이전 페이지의 마지막 프로필 ID (첫 페이지는 null)
+     */
+    public List<ProfileSnapshotRow> findSnapshotRows(Long afterProfileId, int limit) {
+        return selectSnapshotRows()
+                .where(afterProfileId != null ? customerProfileEntity.profileId.gt(afterProfileId) : null)
+                .orderBy(customerProfileEntity.profileId.asc())
+                .limit(limit)
                 .fetch();
-        
-        // Java에서 관심도 순으로 정렬
-        return results.stream()
-                .sorted((p1, p2) -> {
-                    CategoryInterestEntity interest1 = p1.getCategoryInterests().stream()
-                            .filter(ci -> ci.getCategoryName().equals(categoryName))
-                            .findFirst().orElse(null);
-                    CategoryInterestEntity interest2 = p2.getCategoryInterests().stream()
-                            .filter(ci -> ci.getCategoryName().equals(categoryName))
-                            .findFirst().orElse(null);
-                    
-                    if (interest1 == null || interest2 == null) return 0;
-                    
-                    // HIGH(0) > MEDIUM(1) > LOW(2) 순으로 정렬
-                    return interest1.getInterestLevel().ordinal() - interest2.getInterestLevel().ordinal();
-                })
+    }
+
+    /**
+     * 고객 한 명의 프로필 스냅샷 행 조회 (오프힙 저장소 갱신/미적재 고객 조회용)
+     */
+    public Optional<ProfileSnapshotRow> findSnapshotRowByCustomerId(Long customerId) {
+        return Optional.ofNullable(selectSnapshotRows()
+                .where(customerProfileEntity.customerId.eq(customerId))
+                .fetchFirst());
+    }
+
+    private JPAQuery<ProfileSnapshotRow> selectSnapshotRows() {
+        return queryFactory
+                .select(Projections.constructor(ProfileSnapshotRow.class,
+                        customerProfileEntity.profileId,
+                        customerProfileEntity.customerId,
+                        customerProfileEntity.firstName,
+                        customerProfileEntity.lastName,
+                        customerProfileEntity.primaryPhone,
+                        customerProfileEntity.status,
+                        customerProfileEntity.emailMarketingConsent,
+                        customerProfileEntity.smsMarketingConsent,
+                        customerProfileEntity.pushMarketingConsent,
+                        addressEntity.zipCode,
+                        addressEntity.roadAddress,
+                        addressEntity.detailAddress))
+                .from(customerProfileEntity)
+                .leftJoin(customerProfileEntity.addresses, addressEntity).on(addressEntity.isDefault.isTrue());
+    }
+
+    /**
+     * 전체 프로필 스냅샷 스트리밍 (오프힙 저장소 적재용)
+     * 엔티티 대신 스칼라 프로젝션을 chunkSize 단위로 조회하여 고객 수와 무관하게 힙 사용량이 일정하다.
+     */
+    public Stream<ProfileSnapshotRow> streamSnapshotRows(int chunkSize) {
+        return Stream.iterate(
+                        findSnapshotRows(null, chunkSize),
+                        page -> !page.isEmpty(),
+                        page -> page.size() < chunkSize
+                                ? List.of()
+                                : findSnapshotRows(page.get(page.size() - 1).profileId(), chunkSize))
+                .flatMap(List::stream);
+    }
+
+    /**
+     * 특정 카테고리에 관심있는 고객 목록 조회 (관심도 순)
+     */
+    public List<CustomerProfileEntity> findByInterestCategory(String categoryName, int limit) {
+        List<AffinityCursor> rows = findProfileIdsByInterestCategory(categoryName, null, null, limit);
+        return findProfilesInOrder(rows);
+    }
+
+    /**
+     * 특정 카테고리에 관심있는 고객 ID를 관심도 순(HIGH > MEDIUM > LOW), 프로필 ID 순으로 키셋 페이징 조회
+     *
+     * @param level 특정 관심도만 조회할 때 지정 (null이면 전체)
+     * @param after 이전 페이지의 마지막 행 (첫 페이지는 null)
+     */
+    public List<AffinityCursor> findProfileIdsByInterestCategory(
+            String categoryName, CategoryInterestEntity.InterestLevel level, AffinityCursor after, int limit) {
+        NumberPath<Integer> rank = categoryInterestEntity.interestRank;
+        NumberPath<Long> profileId = categoryInterestEntity.customerProfile.profileId;
+
+        BooleanBuilder builder = new BooleanBuilder(categoryInterestEntity.categoryName.eq(categoryName));
+        if (level != null) {
+            builder.and(rank.eq(level.getRank()));
+        }
+        builder.and(afterCursor(rank, profileId, after));
+
+        return queryFactory
+                .select(Projections.constructor(AffinityCursor.class, rank, profileId))
+                .from(categoryInterestEntity)
+                .where(builder)
+                .orderBy(rank.asc(), profileId.asc())
                 .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 특정 카테고리 관심 고객 ID 스트리밍 (캠페인 대상 추출용)
+     */
+    public Stream<Long> streamProfileIdsByInterestCategory(
+            String categoryName, CategoryInterestEntity.InterestLevel level, int chunkSize) {
+        return keysetStream(after -> findProfileIdsByInterestCategory(categoryName, level, after, chunkSize), chunkSize);
+    }
+
+    private BooleanExpression afterCursor(NumberPath<Integer> rank, NumberPath<Long> profileId, AffinityCursor after) {
+        if (after == null) {
+            return null;
+        }
+        return rank.gt(after.rank())
+                .or(rank.eq(after.rank()).and(profileId.gt(after.profileId())));
+    }
+
+    private Stream<Long> keysetStream(Function<AffinityCursor, List<AffinityCursor>> pageFetcher, int chunkSize) {
+        return Stream.iterate(
+                        pageFetcher.apply(null),
+                        page -> !page.isEmpty(),
+                        page -> page.size() < chunkSize ? List.of() : pageFetcher.apply(page.get(page.size() - 1)))
+                .flatMap(List::stream)
+                .map(AffinityCursor::profileId);
+    }
+
+    private List<CustomerProfileEntity> findProfilesInOrder(List<AffinityCursor> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<Long> profileIds = rows.stream().map(AffinityCursor::profileId).toList();
+
+        Map<Long, CustomerProfileEntity> profiles = queryFactory
+                .selectFrom(customerProfileEntity)
+                .where(customerProfileEntity.profileId.in(profileIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(CustomerProfileEntity::getProfileId, Function.identity()));
+
+        return profileIds.stream()
+                .map(profiles::get)
+                .filter(Objects::nonNull)
                 .toList();
     }
 
@@ -183,7 +431,8 @@ public class CustomerProfileQueryRepository {
     }
 
     /**
-     * 생일이 특정 기간 내인 고객 조회 (마케팅용)
+     * 출생일(연도 포함)이 특정 기간 내인 고객 조회
+     * 연도와 무관한 생일 캠페인 대상은 streamBirthdayCampaignTargets를 사용한다.
      */
     public List<CustomerProfileEntity> findCustomersWithBirthdayInRange(
             LocalDate startDate, LocalDate endDate) {
@@ -195,6 +444,69 @@ public class CustomerProfileQueryRepository {
                 .fetch();
     }
 
+    /**
+     * 생일 캠페인 대상을 (birthMonthDay, profileId) 순으로 키셋 페이징 조회
+     * 활성 상태이면서 해당 채널 마케팅 수신에 동의한 고객만 포함한다.
+     *
+     * @param after 이전 페이지의 마지막 행 (첫 페이지는 null)
+     */
+    public List<BirthdayCampaignTarget> findBirthdayCampaignTargets(
+            BirthdayWindow.MonthDayRange range, MarketingChannel channel, BirthdayCampaignTarget after, int limit) {
+        return queryFactory
+                .select(Projections.constructor(BirthdayCampaignTarget.class,
+                        customerProfileEntity.profileId,
+                        customerProfileEntity.customerId,
+                        customerProfileEntity.firstName,
+                        customerProfileEntity.lastName,
+                        customerProfileEntity.birthDate,
+                        customerProfileEntity.birthMonthDay,
+                        customerProfileEntity.primaryPhone))
+                .from(customerProfileEntity)
+                .where(
+                        customerProfileEntity.status.eq(CustomerProfileEntity.ProfileStatus.ACTIVE),
+                        customerProfileEntity.birthMonthDay.between(range.from(), range.to()),
+                        marketingConsent(channel),
+                        afterBirthdayCursor(after)
+                )
+                .orderBy(customerProfileEntity.birthMonthDay.asc(), customerProfileEntity.profileId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 생일 캠페인 대상 스트리밍 (알림 발송 파이프라인용)
+     * 구간의 범위별로 chunkSize 단위 키셋 페이징하며 소비하는 만큼만 조회하므로 전체 결과를 메모리에 올리지 않는다.
+     * 연말을 넘기는 구간은 12월 생일부터 순서대로 내보낸다.
+     */
+    public Stream<BirthdayCampaignTarget> streamBirthdayCampaignTargets(
+            BirthdayWindow window, MarketingChannel channel, int chunkSize) {
+        return window.ranges().stream()
+                .flatMap(range -> Stream.iterate(
+                                findBirthdayCampaignTargets(range, channel, null, chunkSize),
+                                page -> !page.isEmpty(),
+                                page -> page.size() < chunkSize
+                                        ? List.of()
+                                        : findBirthdayCampaignTargets(range, channel, page.get(page.size() - 1), chunkSize))
+                        .flatMap(List::stream));
+    }
+
+    private BooleanExpression marketingConsent(MarketingChannel channel) {
+        return switch (channel) {
+            case EMAIL -> customerProfileEntity.emailMarketingConsent.isTrue();
+            case SMS -> customerProfileEntity.smsMarketingConsent.isTrue();
+            case PUSH -> customerProfileEntity.pushMarketingConsent.isTrue();
+        };
+    }
+
+    private BooleanExpression afterBirthdayCursor(BirthdayCampaignTarget after) {
+        if (after == null) {
+            return null;
+        }
+        return customerProfileEntity.birthMonthDay.gt(after.birthMonthDay())
+                .or(customerProfileEntity.birthMonthDay.eq(after.birthMonthDay())
+                        .and(customerProfileEntity.profileId.gt(after.profileId())));
+    }
+
     /**
      * 통계: 성별별 고객 수
      */
@@ -0,0 +1,10 @@
+package com.commerce.infrastructure.persistence.customer.repository;
+
+import com.commerce.infrastructure.persistence.customer.entity.DeletedAccountEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 삭제된 계정 보관 JPA Repository
+ */
+public interface DeletedAccountJpaRepository extends JpaRepository<DeletedAccountEntity, Long> {
+}
@@ -0,0 +1,8 @@
+package com.commerce.infrastructure.persistence.customer.repository;
+
+/**
+ * 마케팅 수신 동의 채널
+ */
+public enum MarketingChannel {
+    EMAIL, SMS, PUSH
+}
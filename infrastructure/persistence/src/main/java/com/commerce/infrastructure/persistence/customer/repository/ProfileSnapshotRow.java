@@ -0,0 +1,14 @@
+package com.commerce.infrastructure.persistence.customer.repository;
+
+import com.commerce.infrastructure.persistence.customer.entity.CustomerProfileEntity;
+
+/**
+ * 프로필 스냅샷 적재용 스칼라 프로젝션 (엔티티를 영속성 컨텍스트에 올리지 않는다)
+ * 기본 배송지가 없으면 주소 필드는 null이다.
+ */
+public record ProfileSnapshotRow(Long profileId, Long customerId, String firstName, String lastName,
+                                 String primaryPhone, CustomerProfileEntity.ProfileStatus status,
+                                 Boolean emailMarketingConsent, Boolean smsMarketingConsent,
+                                 Boolean pushMarketingConsent, String zipCode, String roadAddress,
+                                 String detailAddress) {
+}
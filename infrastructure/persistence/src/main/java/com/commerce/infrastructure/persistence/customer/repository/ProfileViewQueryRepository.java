@@ -0,0 +1,113 @@
+package com.commerce.infrastructure.persistence.customer.repository;
+
+import com.commerce.customer.core.domain.model.profile.ProfileView;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.JPQLTemplates;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.commerce.infrastructure.persistence.customer.entity.QAccountEntity.accountEntity;
+import static com.commerce.infrastructure.persistence.customer.entity.QAddressEntity.addressEntity;
+import static com.commerce.infrastructure.persistence.customer.entity.QCustomerProfileEntity.customerProfileEntity;
+
+/**
+ * 프로필 조회 전용 QueryDSL Repository
+ * 계정 → 프로필 → 주소를 한 번의 쿼리로 필요한 컬럼만 조회하여 읽기 모델로 변환한다.
+ * 엔티티를 로딩하지 않으므로 영속성 컨텍스트에 아무것도 등록되지 않는다.
+ */
+@Repository
+public class ProfileViewQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public ProfileViewQueryRepository(EntityManager entityManager) {
+        // 스칼라 컬럼만 조회하므로 Hibernate 전용 결과 변환(HQLTemplates)이 필요 없어 JPQL 기본 템플릿 사용
+        this.queryFactory = new JPAQueryFactory(JPQLTemplates.DEFAULT, entityManager);
+    }
+
+    public Optional<ProfileView> findByAccountId(Long accountId) {
+        List<Tuple> rows = queryFactory
+                .select(customerProfileEntity.profileId,
+                        customerProfileEntity.customerId,
+                        customerProfileEntity.firstName,
+                        customerProfileEntity.lastName,
+                        customerProfileEntity.birthDate,
+                        customerProfileEntity.gender,
+                        customerProfileEntity.profileImageUrl,
+                        customerProfileEntity.primaryPhone,
+                        customerProfileEntity.secondaryPhone,
+                        customerProfileEntity.emailMarketingConsent,
+                        customerProfileEntity.smsMarketingConsent,
+                        customerProfileEntity.pushMarketingConsent,
+                        customerProfileEntity.orderNotifications,
+                        customerProfileEntity.promotionNotifications,
+                        customerProfileEntity.accountNotifications,
+                        customerProfileEntity.reviewNotifications,
+                        addressEntity.addressId,
+                        addressEntity.type,
+                        addressEntity.alias,
+                        addressEntity.zipCode,
+                        addressEntity.roadAddress,
+                        addressEntity.jibunAddress,
+                        addressEntity.detailAddress,
+                        addressEntity.isDefault)
+                .from(accountEntity)
+                .join(customerProfileEntity).on(customerProfileEntity.customerId.eq(accountEntity.customerId))
+                .leftJoin(customerProfileEntity.addresses, addressEntity)
+                .where(accountEntity.accountId.eq(accountId))
+                .orderBy(addressEntity.addressId.asc())
+                .fetch();
+
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // 주소 수만큼 반복되는 프로필 컬럼은 첫 행에서만 읽는다
+        Tuple first = rows.get(0);
+        List<ProfileView.AddressView> addresses = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            if (row.get(addressEntity.addressId) != null) {
+                addresses.add(toAddressView(row));
+            }
+        }
+
+        return Optional.of(ProfileView.builder()
+                .profileId(first.get(customerProfileEntity.profileId))
+                .customerId(first.get(customerProfileEntity.customerId))
+                .firstName(first.get(customerProfileEntity.firstName))
+                .lastName(first.get(customerProfileEntity.lastName))
+                .birthDate(first.get(customerProfileEntity.birthDate))
+                .gender(first.get(customerProfileEntity.gender) != null
+                        ? first.get(customerProfileEntity.gender).name() : null)
+                .profileImageUrl(first.get(customerProfileEntity.profileImageUrl))
+                .primaryPhone(first.get(customerProfileEntity.primaryPhone))
+                .secondaryPhone(first.get(customerProfileEntity.secondaryPhone))
+                .emailMarketingConsent(Boolean.TRUE.equals(first.get(customerProfileEntity.emailMarketingConsent)))
+                .smsMarketingConsent(Boolean.TRUE.equals(first.get(customerProfileEntity.smsMarketingConsent)))
+                .pushMarketingConsent(Boolean.TRUE.equals(first.get(customerProfileEntity.pushMarketingConsent)))
+                .orderNotifications(Boolean.TRUE.equals(first.get(customerProfileEntity.orderNotifications)))
+                .promotionNotifications(Boolean.TRUE.equals(first.get(customerProfileEntity.promotionNotifications)))
+                .accountNotifications(Boolean.TRUE.equals(first.get(customerProfileEntity.accountNotifications)))
+                .reviewNotifications(Boolean.TRUE.equals(first.get(customerProfileEntity.reviewNotifications)))
+                .addresses(addresses)
+                .build());
+    }
+
+    private ProfileView.AddressView toAddressView(Tuple row) {
+        return ProfileView.AddressView.builder()
+                .addressId(row.get(addressEntity.addressId))
+                .type(row.get(addressEntity.type) != null ? row.get(addressEntity.type).name() : null)
+                .alias(row.get(addressEntity.alias))
+                .zipCode(row.get(addressEntity.zipCode))
+                .roadAddress(row.get(addressEntity.roadAddress))
+                .jibunAddress(row.get(addressEntity.jibunAddress))
+                .detailAddress(row.get(addressEntity.detailAddress))
+                .isDefault(Boolean.TRUE.equals(row.get(addressEntity.isDefault)))
+                .build();
+    }
+}
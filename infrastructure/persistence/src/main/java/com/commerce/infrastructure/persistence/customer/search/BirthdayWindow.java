@@ -0,0 +1,67 @@
+package com.commerce.infrastructure.persistence.customer.search;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 출생 연도와 무관한 생일 조회 구간
+ * 날짜 구간(예: 이번 주)을 birth_month_day(MMDD) 범위로 바꾼다.
+ * 연말을 넘기는 구간은 두 범위로 나누고, 평년에는 2월 29일생을 2월 28일 생일로 포함한다.
+ */
+public final class BirthdayWindow {
+
+    private static final int FIRST_DAY = 101;
+    private static final int LAST_DAY = 1231;
+    private static final int FEB_28 = 228;
+    private static final int FEB_29 = 229;
+
+    private final List<MonthDayRange> ranges;
+
+    private BirthdayWindow(List<MonthDayRange> ranges) {
+        this.ranges = ranges;
+    }
+
+    /**
+     * from ~ to (양 끝 포함) 사이에 생일이 돌아오는 구간
+     */
+    public static BirthdayWindow between(LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IllegalArgumentException("생일 조회 구간이 올바르지 않습니다: " + from + " ~ " + to);
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= 365) {
+            return new BirthdayWindow(List.of(new MonthDayRange(FIRST_DAY, LAST_DAY)));
+        }
+        if (from.getYear() == to.getYear()) {
+            return new BirthdayWindow(List.of(range(from, to)));
+        }
+        return new BirthdayWindow(List.of(
+                range(from, LocalDate.of(from.getYear(), 12, 31)),
+                range(LocalDate.of(to.getYear(), 1, 1), to)));
+    }
+
+    /**
+     * 생년월일의 MMDD 값 (예: 1990-02-29 → 229)
+     */
+    public static Integer monthDayOf(LocalDate date) {
+        return date != null ? date.getMonthValue() * 100 + date.getDayOfMonth() : null;
+    }
+
+    public List<MonthDayRange> ranges() {
+        return ranges;
+    }
+
+    private static MonthDayRange range(LocalDate from, LocalDate to) {
+        int end = monthDayOf(to);
+        if (end == FEB_28 && !to.isLeapYear()) {
+            end = FEB_29;
+        }
+        return new MonthDayRange(monthDayOf(from), end);
+    }
+
+    /**
+     * birth_month_day 범위 (양 끝 포함)
+     */
+    public record MonthDayRange(int from, int to) {
+    }
+}
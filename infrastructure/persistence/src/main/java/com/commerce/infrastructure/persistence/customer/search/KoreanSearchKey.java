@@ -0,0 +1,139 @@
+package com.commerce.infrastructure.persistence.customer.search;
+
+/**
+ * 한글 초성/자모 검색 키 생성기
+ * 이름과 주소를 저장할 때 파생 키를 만들어 인덱스 컬럼에 보관하고,
+ * 초성("ㄱㅁㅅ") 또는 부분 입력("김미") 검색을 LIKE 'prefix%' 인덱스 탐색으로 처리한다.
+ */
+public final class KoreanSearchKey {
+
+    private static final char HANGUL_BASE = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private static final String[] JUNGSUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONGSUNG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private KoreanSearchKey() {
+    }
+
+    /**
+     * 초성 키 생성 (예: "김민수" → "ㄱㅁㅅ")
+     * 한글 이외의 문자는 소문자로 그대로 유지하고 공백은 제거한다.
+     */
+    public static String chosung(String text) {
+        if (text == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (isSyllable(c)) {
+                sb.append(CHOSUNG[(c - HANGUL_BASE) / (JUNG_COUNT * JONG_COUNT)]);
+            } else {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 자모 분해 키 생성 (예: "김민수" → "ㄱㅣㅁㅁㅣㄴㅅㅜ")
+     * 겹모음/겹받침도 분해하여 입력 중인 글자("김미")가 완성된 이름의 접두어가 되도록 한다.
+     */
+    public static String jamo(String text) {
+        if (text == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (isSyllable(c)) {
+                int offset = c - HANGUL_BASE;
+                sb.append(CHOSUNG[offset / (JUNG_COUNT * JONG_COUNT)]);
+                sb.append(JUNGSUNG[(offset % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT]);
+                sb.append(JONGSUNG[offset % JONG_COUNT]);
+            } else {
+                sb.append(decomposeCompatibilityJamo(Character.toLowerCase(c)));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 입력값이 초성(자음)으로만 구성되어 있는지 확인
+     */
+    public static boolean isChosungQuery(String query) {
+        if (query == null || query.isBlank()) {
+            return false;
+        }
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 인덱스 컬럼 길이에 맞춰 키를 자른다. 접두어 검색이므로 잘린 키도 앞부분 일치에는 영향이 없다.
+     */
+    public static String truncate(String key, int maxLength) {
+        if (key == null || key.length() <= maxLength) {
+            return key;
+        }
+        return key.substring(0, maxLength);
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= HANGUL_BASE && c <= HANGUL_LAST;
+    }
+
+    private static String decomposeCompatibilityJamo(char c) {
+        return switch (c) {
+            case 'ㄳ' -> "ㄱㅅ";
+            case 'ㄵ' -> "ㄴㅈ";
+            case 'ㄶ' -> "ㄴㅎ";
+            case 'ㄺ' -> "ㄹㄱ";
+            case 'ㄻ' -> "ㄹㅁ";
+            case 'ㄼ' -> "ㄹㅂ";
+            case 'ㄽ' -> "ㄹㅅ";
+            case 'ㄾ' -> "ㄹㅌ";
+            case 'ㄿ' -> "ㄹㅍ";
+            case 'ㅀ' -> "ㄹㅎ";
+            case 'ㅄ' -> "ㅂㅅ";
+            case 'ㅘ' -> "ㅗㅏ";
+            case 'ㅙ' -> "ㅗㅐ";
+            case 'ㅚ' -> "ㅗㅣ";
+            case 'ㅝ' -> "ㅜㅓ";
+            case 'ㅞ' -> "ㅜㅔ";
+            case 'ㅟ' -> "ㅜㅣ";
+            case 'ㅢ' -> "ㅡㅣ";
+            default -> String.valueOf(c);
+        };
+    }
+}
@@ -0,0 +1,107 @@
+package com.commerce.infrastructure.persistence.customer.search;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+
+import static com.commerce.infrastructure.persistence.customer.entity.QAddressEntity.addressEntity;
+import static com.commerce.infrastructure.persistence.customer.entity.QCustomerProfileEntity.customerProfileEntity;
+
+/**
+ * 한글 검색 키 일괄 채움 작업
+ *
+ * V5 마이그레이션 이전에 저장된 프로필/주소는 초성·자모 키가 NULL이라 이름/도로명 주소 검색에 걸리지 않는다.
+ * 키가 비어 있는 행을 PK 순서로 chunkSize씩 읽어 엔티티 저장 시와 같은 규칙으로 키를 계산해 채운다.
+ * 파생 컬럼만 갱신하므로 버전과 수정 일시는 건드리지 않으며, 채워진 행은 다시 대상이 되지 않아 재실행해도 안전하다.
+ */
+@Slf4j
+public class KoreanSearchKeyBackfill {
+
+    private final JPAQueryFactory queryFactory;
+    private final TransactionOperations transactionOperations;
+    private final int chunkSize;
+
+    public KoreanSearchKeyBackfill(JPAQueryFactory queryFactory, TransactionOperations transactionOperations,
+                                   int chunkSize) {
+        this.queryFactory = queryFactory;
+        this.transactionOperations = transactionOperations;
+        this.chunkSize = chunkSize;
+    }
+
+    public BackfillResult run() {
+        long profiles = backfillProfiles();
+        long addresses = backfillAddresses();
+        log.info("한글 검색 키 일괄 채움 완료: 프로필 {}건, 주소 {}건", profiles, addresses);
+        return new BackfillResult(profiles, addresses);
+    }
+
+    private long backfillProfiles() {
+        long updated = 0;
+        long lastId = 0;
+        while (true) {
+            long afterId = lastId;
+            List<Tuple> rows = queryFactory
+                    .select(customerProfileEntity.profileId, customerProfileEntity.lastName, customerProfileEntity.firstName)
+                    .from(customerProfileEntity)
+                    .where(customerProfileEntity.nameChosung.isNull(), customerProfileEntity.profileId.gt(afterId))
+                    .orderBy(customerProfileEntity.profileId.asc())
+                    .limit(chunkSize)
+                    .fetch();
+            if (rows.isEmpty()) {
+                return updated;
+            }
+            transactionOperations.executeWithoutResult(status -> rows.forEach(row -> {
+                String displayName = nullToEmpty(row.get(customerProfileEntity.lastName))
+                        + nullToEmpty(row.get(customerProfileEntity.firstName));
+                queryFactory.update(customerProfileEntity)
+                        .set(customerProfileEntity.nameChosung, KoreanSearchKey.truncate(KoreanSearchKey.chosung(displayName), 100))
+                        .set(customerProfileEntity.nameJamo, KoreanSearchKey.truncate(KoreanSearchKey.jamo(displayName), 255))
+                        .where(customerProfileEntity.profileId.eq(row.get(customerProfileEntity.profileId)),
+                                customerProfileEntity.nameChosung.isNull())
+                        .execute();
+            }));
+            updated += rows.size();
+            lastId = rows.get(rows.size() - 1).get(customerProfileEntity.profileId);
+        }
+    }
+
+    private long backfillAddresses() {
+        long updated = 0;
+        long lastId = 0;
+        while (true) {
+            long afterId = lastId;
+            List<Tuple> rows = queryFactory
+                    .select(addressEntity.addressId, addressEntity.roadAddress)
+                    .from(addressEntity)
+                    .where(addressEntity.roadAddressChosung.isNull(), addressEntity.roadAddress.isNotNull(),
+                            addressEntity.addressId.gt(afterId))
+                    .orderBy(addressEntity.addressId.asc())
+                    .limit(chunkSize)
+                    .fetch();
+            if (rows.isEmpty()) {
+                return updated;
+            }
+            transactionOperations.executeWithoutResult(status -> rows.forEach(row -> {
+                String roadAddress = row.get(addressEntity.roadAddress);
+                queryFactory.update(addressEntity)
+                        .set(addressEntity.roadAddressChosung, KoreanSearchKey.truncate(KoreanSearchKey.chosung(roadAddress), 200))
+                        .set(addressEntity.roadAddressJamo, KoreanSearchKey.truncate(KoreanSearchKey.jamo(roadAddress), 255))
+                        .where(addressEntity.addressId.eq(row.get(addressEntity.addressId)),
+                                addressEntity.roadAddressChosung.isNull())
+                        .execute();
+            }));
+            updated += rows.size();
+            lastId = rows.get(rows.size() - 1).get(addressEntity.addressId);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    public record BackfillResult(long profiles, long addresses) {
+    }
+}
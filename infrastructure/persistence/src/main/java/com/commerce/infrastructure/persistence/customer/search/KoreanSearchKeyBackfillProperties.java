@@ -0,0 +1,31 @@
+package com.commerce.infrastructure.persistence.customer.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 한글 검색 키 일괄 채움 작업 설정
+ *
+ * <pre>
+ * commerce:
+ *   search-key-backfill:
+ *     enabled: true      # 기동 완료 후 한 번 실행 (키가 모두 채워지면 다시 끈다)
+ *     chunk-size: 1000   # 한 트랜잭션에서 갱신할 행 수
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "commerce.search-key-backfill")
+public class KoreanSearchKeyBackfillProperties {
+
+    /**
+     * 일괄 채움 작업 활성화 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 한 트랜잭션에서 갱신할 행 수
+     */
+    private int chunkSize = 1_000;
+}
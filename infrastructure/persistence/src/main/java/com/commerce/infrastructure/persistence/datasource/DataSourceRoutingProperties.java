@@ -0,0 +1,74 @@
+package com.commerce.infrastructure.persistence.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 설정
+ *
+ * <pre>
+ * commerce:
+ *   datasource:
+ *     routing:
+ *       enabled: true
+ *       read-your-writes-window: 5s
+ *       write-marker-store: redis   # 인스턴스가 여럿이면 redis (local은 단일 인스턴스 한정)
+ *       replicas:
+ *         - url: jdbc:mariadb://replica-1:3306/commerce_prod
+ *           username: ${DB_USERNAME}
+ *           password: ${DB_PASSWORD}
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "commerce.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    /**
+     * 라우팅 활성화 여부 (비활성화 시 spring.datasource 단일 Primary만 사용)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 쓰기 후 해당 고객의 읽기를 Primary로 고정하는 기간 (복제 지연 보호)
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * 쓰기 이력을 추적하는 최대 키 수 (초과 시 만료된 키 정리)
+     */
+    private int maxTrackedKeys = 100_000;
+
+    /**
+     * 쓰기 기록 저장소 종류 (local: 인스턴스 메모리, redis: 인스턴스 간 공유)
+     */
+    private StoreType writeMarkerStore = StoreType.LOCAL;
+
+    /**
+     * Redis 쓰기 기록 키 접두어
+     */
+    private String writeMarkerKeyPrefix = "commerce:ryw:";
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+        private int minimumIdle = 2;
+        private long connectionTimeout = 30000;
+    }
+
+    public enum StoreType {
+        LOCAL, REDIS
+    }
+}
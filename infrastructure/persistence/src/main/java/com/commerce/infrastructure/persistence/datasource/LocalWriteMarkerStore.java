@@ -0,0 +1,45 @@
+package com.commerce.infrastructure.persistence.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 메모리 기반 쓰기 기록 저장소
+ * 쓰기와 읽기가 같은 인스턴스로 들어오는 경우(단일 인스턴스 또는 고객 단위 sticky 라우팅)에만 유효하다.
+ * 여러 인스턴스에 요청이 분산되면 RedisWriteMarkerStore를 사용한다.
+ */
+public class LocalWriteMarkerStore implements WriteMarkerStore {
+
+    private final Duration window;
+    private final int maxTrackedKeys;
+    private final Clock clock;
+    private final Map<String, Instant> lastWrites = new ConcurrentHashMap<>();
+
+    public LocalWriteMarkerStore(Duration window, int maxTrackedKeys, Clock clock) {
+        this.window = window;
+        this.maxTrackedKeys = maxTrackedKeys;
+        this.clock = clock;
+    }
+
+    @Override
+    public void record(String key) {
+        if (lastWrites.size() >= maxTrackedKeys) {
+            evictExpired();
+        }
+        lastWrites.put(key, clock.instant());
+    }
+
+    @Override
+    public boolean isRecentlyWritten(String key) {
+        Instant writtenAt = lastWrites.get(key);
+        return writtenAt != null && writtenAt.plus(window).isAfter(clock.instant());
+    }
+
+    private void evictExpired() {
+        Instant threshold = clock.instant().minus(window);
+        lastWrites.values().removeIf(writtenAt -> !writtenAt.isAfter(threshold));
+    }
+}
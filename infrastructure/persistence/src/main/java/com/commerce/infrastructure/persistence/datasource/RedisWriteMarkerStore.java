@@ -0,0 +1,45 @@
+package com.commerce.infrastructure.persistence.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * Redis 기반 쓰기 기록 저장소
+ * 지연 보호 기간을 TTL로 둔 키를 남겨, 쓰기를 처리한 인스턴스와 다른 인스턴스로 들어온 읽기도 Primary로 고정한다.
+ * Redis 조회에 실패하면 복제 지연 여부를 알 수 없으므로 Primary로 읽도록 최근 쓰기로 간주한다.
+ */
+@Slf4j
+public class RedisWriteMarkerStore implements WriteMarkerStore {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String keyPrefix;
+    private final Duration window;
+
+    public RedisWriteMarkerStore(RedisTemplate<String, String> redisTemplate, String keyPrefix, Duration window) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.window = window;
+    }
+
+    @Override
+    public void record(String key) {
+        try {
+            redisTemplate.opsForValue().set(keyPrefix + key, "1", window);
+        } catch (DataAccessException e) {
+            log.warn("쓰기 기록 저장 실패: {}", key, e);
+        }
+    }
+
+    @Override
+    public boolean isRecentlyWritten(String key) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(keyPrefix + key));
+        } catch (DataAccessException e) {
+            log.warn("쓰기 기록 조회 실패, Primary로 읽는다: {}", key, e);
+            return true;
+        }
+    }
+}
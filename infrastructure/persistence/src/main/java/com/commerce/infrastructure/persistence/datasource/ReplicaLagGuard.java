@@ -0,0 +1,120 @@
+package com.commerce.infrastructure.persistence.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Replica 복제 지연 보호 (read-your-writes)
+ *
+ * 쓰기 트랜잭션에서 접근한 고객 키는 커밋 시점에 기록되고,
+ * 기록 후 설정된 기간 동안 같은 키를 조회하는 읽기 전용 트랜잭션은 Primary로 고정된다.
+ * 키 확인은 트랜잭션의 첫 쿼리 이전(커넥션 획득 전)에 이루어져야 라우팅에 반영되므로,
+ * 조회 결과에서야 알 수 있는 키는 touch가 아닌 markWritten으로 쓰기 기록만 남긴다.
+ * 쓰기 기록의 공유 범위는 WriteMarkerStore 구현에 따른다 (로컬 구현은 단일 인스턴스 한정).
+ */
+public class ReplicaLagGuard {
+
+    private static final String TOUCHED_KEYS_RESOURCE = ReplicaLagGuard.class.getName() + ".TOUCHED_KEYS";
+
+    private final boolean enabled;
+    private final WriteMarkerStore writeMarkers;
+
+    public ReplicaLagGuard(boolean enabled, WriteMarkerStore writeMarkers) {
+        this.enabled = enabled;
+        this.writeMarkers = writeMarkers;
+    }
+
+    public static ReplicaLagGuard disabled() {
+        return new ReplicaLagGuard(false, new LocalWriteMarkerStore(Duration.ZERO, 0, Clock.systemUTC()));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public static String accountKey(Long accountId) {
+        return "account:" + accountId;
+    }
+
+    public static String customerKey(Long customerId) {
+        return "customer:" + customerId;
+    }
+
+    public static String emailKey(String email) {
+        return "email:" + email;
+    }
+
+    public static String profileKey(Long profileId) {
+        return "profile:" + profileId;
+    }
+
+    /**
+     * 현재 트랜잭션이 해당 키에 접근함을 알린다.
+     * 읽기 전용 트랜잭션이면 최근 쓰기 여부에 따라 Primary로 고정하고,
+     * 쓰기 트랜잭션이면 커밋 후 쓰기 시각을 기록한다.
+     */
+    public void touch(String key) {
+        if (!enabled || key == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (!ReplicaRoutingContext.isPrimaryPinned() && isRecentlyWritten(key)) {
+                ReplicaRoutingContext.pinPrimary();
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        ReplicaRoutingContext.clear();
+                    }
+                });
+            }
+            return;
+        }
+
+        touchedKeys().add(key);
+    }
+
+    /**
+     * 쓰기 트랜잭션이면 커밋 후 해당 키의 쓰기 시각을 기록한다.
+     * 커넥션이 이미 선택된 뒤(조회 결과로 키를 알게 된 경우)에 쓰며, 읽기 전용 트랜잭션에서는 아무것도 하지 않는다.
+     */
+    public void markWritten(String key) {
+        if (!enabled || key == null || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        touchedKeys().add(key);
+    }
+
+    public boolean isRecentlyWritten(String key) {
+        return writeMarkers.isRecentlyWritten(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> touchedKeys() {
+        Set<String> keys = (Set<String>) TransactionSynchronizationManager.getResource(TOUCHED_KEYS_RESOURCE);
+        if (keys != null) {
+            return keys;
+        }
+
+        Set<String> newKeys = new LinkedHashSet<>();
+        TransactionSynchronizationManager.bindResource(TOUCHED_KEYS_RESOURCE, newKeys);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                newKeys.forEach(writeMarkers::record);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TOUCHED_KEYS_RESOURCE);
+            }
+        });
+        return newKeys;
+    }
+}
@@ -0,0 +1,25 @@
+package com.commerce.infrastructure.persistence.datasource;
+
+/**
+ * 현재 스레드의 읽기 트랜잭션을 Primary로 고정할지 여부
+ * ReplicaLagGuard가 설정하고 트랜잭션 종료 시 해제한다.
+ */
+final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    static void pinPrimary() {
+        PRIMARY_PINNED.set(Boolean.TRUE);
+    }
+
+    static boolean isPrimaryPinned() {
+        return Boolean.TRUE.equals(PRIMARY_PINNED.get());
+    }
+
+    static void clear() {
+        PRIMARY_PINNED.remove();
+    }
+}
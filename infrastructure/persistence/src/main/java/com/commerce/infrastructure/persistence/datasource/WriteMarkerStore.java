@@ -0,0 +1,18 @@
+package com.commerce.infrastructure.persistence.datasource;
+
+/**
+ * read-your-writes 판단에 쓰는 최근 쓰기 기록 저장소
+ * 기록은 설정된 지연 보호 기간 동안만 유효하다.
+ */
+public interface WriteMarkerStore {
+
+    /**
+     * 키에 대한 쓰기가 커밋되었음을 기록
+     */
+    void record(String key);
+
+    /**
+     * 지연 보호 기간 안에 쓰기가 기록된 키인지 여부
+     */
+    boolean isRecentlyWritten(String key);
+}
@@ -0,0 +1,73 @@
+package com.commerce.infrastructure.persistence.outbox;
+
+import com.commerce.customer.core.domain.event.DomainEvent;
+import com.commerce.customer.core.domain.event.DomainEventPublisher;
+import com.commerce.infrastructure.persistence.outbox.entity.OutboxEventEntity;
+import com.commerce.infrastructure.persistence.outbox.repository.OutboxEventJpaRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 도메인 이벤트를 브로커 대신 outbox 테이블에 기록하는 발행기
+ * 호출한 트랜잭션에 참여하므로 롤백된 변경의 이벤트는 남지 않고, 요청 스레드는 브로커 응답을 기다리지 않는다.
+ * 본문은 JsonSerializer 기본 설정과 같은 형태(ISO 날짜)로 직렬화하여 릴레이가 그대로 전달한다.
+ * 기록이 호출 트랜잭션과 함께 확정되므로 반환값은 기록 직후 완료된다.
+ */
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxDomainEventPublisher implements DomainEventPublisher {
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final Clock clock;
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    public OutboxDomainEventPublisher(OutboxEventJpaRepository outboxEventJpaRepository, Clock clock) {
+        this.outboxEventJpaRepository = outboxEventJpaRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * 이벤트 묶음을 같은 트랜잭션에 한 번에 기록한다.
+     * 기록 실패는 예외로 전달되어 호출한 트랜잭션의 상태 변경과 함께 롤백된다.
+     */
+    @Override
+    public CompletableFuture<Void> publish(Collection<? extends DomainEvent> events) {
+        if (!events.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now(clock);
+            outboxEventJpaRepository.saveAll(events.stream()
+                    .map(event -> toEntity(event, now))
+                    .toList());
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private OutboxEventEntity toEntity(DomainEvent event, LocalDateTime now) {
+        return OutboxEventEntity.builder()
+                .aggregateType(event.type().aggregateType())
+                .aggregateId(event.key())
+                .eventType(event.getClass().getName())
+                .payload(serialize(event))
+                .createdAt(now)
+                .build();
+    }
+
+    private String serialize(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 직렬화 실패: " + event.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.commerce.infrastructure.persistence.outbox;
+
+import com.commerce.customer.core.domain.event.OutboxMessage;
+import com.commerce.customer.core.domain.repository.OutboxRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static com.commerce.infrastructure.persistence.outbox.entity.QOutboxEventEntity.outboxEventEntity;
+
+/**
+ * 아웃박스 조회/발행 완료 처리
+ * 릴레이는 (sent_at, dead_at, id) 인덱스로 미발행 행을 keyset 순서로 읽고, 전송 확인된 id 묶음을 한 번의 UPDATE로 처리한다.
+ * 엔티티를 거치지 않고 프로젝션/벌크 쿼리만 사용하므로 영속성 컨텍스트에 행이 쌓이지 않는다.
+ * 복제 지연으로 이미 보낸 행을 다시 읽지 않도록 조회도 readOnly가 아닌 트랜잭션으로 Primary에서 수행한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepositoryAdapter implements OutboxRepository {
+
+    private static final int LAST_ERROR_MAX_LENGTH = 500;
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    @Transactional
+    public List<OutboxMessage> findUnsent(long afterId, int limit) {
+        return queryFactory
+                .select(outboxEventEntity.id, outboxEventEntity.aggregateType, outboxEventEntity.aggregateId,
+                        outboxEventEntity.eventType, outboxEventEntity.payload, outboxEventEntity.createdAt)
+                .from(outboxEventEntity)
+                .where(
+                        outboxEventEntity.sentAt.isNull(),
+                        outboxEventEntity.deadAt.isNull(),
+                        outboxEventEntity.id.gt(afterId)
+                )
+                .orderBy(outboxEventEntity.id.asc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(tuple -> new OutboxMessage(
+                        tuple.get(outboxEventEntity.id),
+                        tuple.get(outboxEventEntity.aggregateType),
+                        tuple.get(outboxEventEntity.aggregateId),
+                        tuple.get(outboxEventEntity.eventType),
+                        tuple.get(outboxEventEntity.payload),
+                        tuple.get(outboxEventEntity.createdAt)))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public int markSent(Collection<Long> ids, LocalDateTime sentAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return (int) queryFactory
+                .update(outboxEventEntity)
+                .set(outboxEventEntity.sentAt, sentAt)
+                .where(
+                        outboxEventEntity.id.in(ids),
+                        outboxEventEntity.sentAt.isNull()
+                )
+                .execute();
+    }
+
+    @Override
+    @Transactional
+    public int recordFailedAttempt(Collection<Long> ids, String error) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return (int) queryFactory
+                .update(outboxEventEntity)
+                .set(outboxEventEntity.attemptCount, outboxEventEntity.attemptCount.add(1))
+                .set(outboxEventEntity.lastError, truncate(error))
+                .where(
+                        outboxEventEntity.id.in(ids),
+                        outboxEventEntity.sentAt.isNull()
+                )
+                .execute();
+    }
+
+    @Override
+    @Transactional
+    public int markDead(Collection<Long> ids, String error, LocalDateTime deadAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return (int) queryFactory
+                .update(outboxEventEntity)
+                .set(outboxEventEntity.attemptCount, outboxEventEntity.attemptCount.add(1))
+                .set(outboxEventEntity.lastError, truncate(error))
+                .set(outboxEventEntity.deadAt, deadAt)
+                .where(
+                        outboxEventEntity.id.in(ids),
+                        outboxEventEntity.sentAt.isNull(),
+                        outboxEventEntity.deadAt.isNull()
+                )
+                .execute();
+    }
+
+    @Override
+    @Transactional
+    public int resetSentAfter(long offset) {
+        return (int) queryFactory
+                .update(outboxEventEntity)
+                .setNull(outboxEventEntity.sentAt)
+                .setNull(outboxEventEntity.deadAt)
+                .where(
+                        outboxEventEntity.id.gt(offset),
+                        outboxEventEntity.sentAt.isNotNull().or(outboxEventEntity.deadAt.isNotNull())
+                )
+                .execute();
+    }
+
+    @Override
+    @Transactional
+    public long countUnsent() {
+        Long count = queryFactory
+                .select(outboxEventEntity.count())
+                .from(outboxEventEntity)
+                .where(outboxEventEntity.sentAt.isNull(), outboxEventEntity.deadAt.isNull())
+                .fetchOne();
+        return count != null ? count : 0L;
+    }
+
+    @Override
+    @Transactional
+    public Optional<LocalDateTime> findOldestUnsentCreatedAt() {
+        return Optional.ofNullable(queryFactory
+                .select(outboxEventEntity.createdAt)
+                .from(outboxEventEntity)
+                .where(outboxEventEntity.sentAt.isNull(), outboxEventEntity.deadAt.isNull())
+                .orderBy(outboxEventEntity.id.asc())
+                .limit(1)
+                .fetchOne());
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > LAST_ERROR_MAX_LENGTH ? error.substring(0, LAST_ERROR_MAX_LENGTH) : error;
+    }
+}
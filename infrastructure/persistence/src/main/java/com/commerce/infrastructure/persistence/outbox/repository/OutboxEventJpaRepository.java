@@ -0,0 +1,7 @@
+package com.commerce.infrastructure.persistence.outbox.repository;
+
+import com.commerce.infrastructure.persistence.outbox.entity.OutboxEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventEntity, Long> {
+}
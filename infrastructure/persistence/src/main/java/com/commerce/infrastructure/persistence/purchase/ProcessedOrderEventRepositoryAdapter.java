@@ -0,0 +1,78 @@
+package com.commerce.infrastructure.persistence.purchase;
+
+import com.commerce.customer.core.domain.repository.purchase.ProcessedOrderEventRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.commerce.infrastructure.persistence.purchase.entity.QProcessedOrderEventEntity.processedOrderEventEntity;
+
+/**
+ * 구매 집계에 반영한 주문 완료 이벤트 ID 기록
+ * 이미 기록된 ID를 한 번 조회로 걸러 낸 뒤 나머지를 JDBC 배치 INSERT로 기록한다.
+ * INSERT IGNORE를 쓰지 않는 이유: 다른 컨슈머(재분배 직전의 이전 소유자)가 같은 ID를 동시에 기록하면
+ * 유니크 키 충돌로 이 트랜잭션이 롤백되어야 하는데, IGNORE는 충돌을 삼키고 배치 갱신 건수도 드라이버에 따라
+ * 행 단위로 돌려주지 않아(SUCCESS_NO_INFO) 어떤 ID가 새로 기록됐는지 알 수 없다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProcessedOrderEventRepositoryAdapter implements ProcessedOrderEventRepository {
+
+    private static final int JDBC_BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO processed_order_events (event_id, processed_at)
+            VALUES (?, ?)
+            """;
+
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public Set<String> claimAll(Collection<String> eventIds) {
+        Set<String> claimed = new LinkedHashSet<>(eventIds);
+        if (claimed.isEmpty()) {
+            return claimed;
+        }
+        List<String> requested = List.copyOf(claimed);
+        for (int from = 0; from < requested.size(); from += JDBC_BATCH_SIZE) {
+            List<String> chunk = requested.subList(from, Math.min(from + JDBC_BATCH_SIZE, requested.size()));
+            claimed.removeAll(queryFactory
+                    .select(processedOrderEventEntity.eventId)
+                    .from(processedOrderEventEntity)
+                    .where(processedOrderEventEntity.eventId.in(chunk))
+                    .fetch());
+        }
+        if (claimed.isEmpty()) {
+            return claimed;
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+                int rows = 0;
+                for (String eventId : claimed) {
+                    insert.setString(1, eventId);
+                    insert.setObject(2, now);
+                    insert.addBatch();
+                    if (++rows % JDBC_BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+        });
+        return claimed;
+    }
+}
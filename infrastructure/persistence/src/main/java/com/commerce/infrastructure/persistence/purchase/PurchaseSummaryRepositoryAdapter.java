@@ -0,0 +1,135 @@
+package com.commerce.infrastructure.persistence.purchase;
+
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.purchase.PurchaseSummary;
+import com.commerce.customer.core.domain.model.purchase.PurchaseSummaryDelta;
+import com.commerce.customer.core.domain.repository.purchase.PurchaseSummaryRepository;
+import com.commerce.infrastructure.persistence.purchase.entity.CustomerPurchaseSummaryEntity;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.commerce.infrastructure.persistence.purchase.entity.QCustomerPurchaseCategoryEntity.customerPurchaseCategoryEntity;
+import static com.commerce.infrastructure.persistence.purchase.entity.QCustomerPurchaseSummaryEntity.customerPurchaseSummaryEntity;
+
+/**
+ * 고객별 구매 집계 저장/조회
+ * 증분은 읽고-고치고-쓰는 대신 INSERT ... ON DUPLICATE KEY UPDATE를 JDBC 배치로 묶어 보내므로,
+ * 고객 수와 관계없이 배치당 왕복은 (고객 수 / JDBC_BATCH_SIZE) 수준이고 영속성 컨텍스트에 엔티티가 쌓이지 않는다.
+ * 여러 파티션의 반영이 동시에 실행되어도 잠금 순서가 같도록 customer_id 순서로 정렬하여 보낸다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PurchaseSummaryRepositoryAdapter implements PurchaseSummaryRepository {
+
+    private static final int JDBC_BATCH_SIZE = 500;
+    private static final int CATEGORY_MAX_LENGTH = 100;
+
+    private static final String UPSERT_SUMMARY_SQL = """
+            INSERT INTO customer_purchase_summaries (customer_id, order_count, total_amount, last_ordered_at, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                order_count = order_count + VALUES(order_count),
+                total_amount = total_amount + VALUES(total_amount),
+                last_ordered_at = GREATEST(last_ordered_at, VALUES(last_ordered_at)),
+                updated_at = VALUES(updated_at)
+            """;
+
+    private static final String UPSERT_CATEGORY_SQL = """
+            INSERT INTO customer_purchase_categories (customer_id, category, order_count)
+            VALUES (?, ?, ?)
+            ON DUPLICATE KEY UPDATE order_count = order_count + VALUES(order_count)
+            """;
+
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int upsertAll(Collection<PurchaseSummaryDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        List<PurchaseSummaryDelta> ordered = deltas.stream()
+                .sorted(Comparator.comparing(delta -> delta.getCustomerId().getValue()))
+                .toList();
+        LocalDateTime now = LocalDateTime.now();
+
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement summary = connection.prepareStatement(UPSERT_SUMMARY_SQL);
+                 PreparedStatement category = connection.prepareStatement(UPSERT_CATEGORY_SQL)) {
+                int summaryRows = 0;
+                int categoryRows = 0;
+                for (PurchaseSummaryDelta delta : ordered) {
+                    Long customerId = delta.getCustomerId().getValue();
+                    summary.setLong(1, customerId);
+                    summary.setLong(2, delta.getOrderCount());
+                    summary.setBigDecimal(3, delta.getTotalAmount());
+                    summary.setObject(4, delta.getLastOrderedAt());
+                    summary.setObject(5, now);
+                    summary.addBatch();
+                    if (++summaryRows % JDBC_BATCH_SIZE == 0) {
+                        summary.executeBatch();
+                    }
+
+                    List<Map.Entry<String, Long>> categories = delta.getCategoryOrderCounts().entrySet().stream()
+                            .sorted(Map.Entry.comparingByKey())
+                            .toList();
+                    for (Map.Entry<String, Long> entry : categories) {
+                        category.setLong(1, customerId);
+                        category.setString(2, truncate(entry.getKey()));
+                        category.setLong(3, entry.getValue());
+                        category.addBatch();
+                        if (++categoryRows % JDBC_BATCH_SIZE == 0) {
+                            category.executeBatch();
+                        }
+                    }
+                }
+                summary.executeBatch();
+                category.executeBatch();
+            }
+        });
+        return ordered.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PurchaseSummary> findByCustomerId(CustomerId customerId, int topCategories) {
+        CustomerPurchaseSummaryEntity summary = queryFactory
+                .selectFrom(customerPurchaseSummaryEntity)
+                .where(customerPurchaseSummaryEntity.customerId.eq(customerId.getValue()))
+                .fetchOne();
+        if (summary == null) {
+            return Optional.empty();
+        }
+        List<String> categories = queryFactory
+                .select(customerPurchaseCategoryEntity.category)
+                .from(customerPurchaseCategoryEntity)
+                .where(customerPurchaseCategoryEntity.customerId.eq(customerId.getValue()))
+                .orderBy(customerPurchaseCategoryEntity.orderCount.desc(), customerPurchaseCategoryEntity.category.asc())
+                .limit(topCategories)
+                .fetch();
+        return Optional.of(PurchaseSummary.builder()
+                .customerId(summary.getCustomerId())
+                .orderCount(summary.getOrderCount())
+                .totalAmount(summary.getTotalAmount())
+                .lastOrderedAt(summary.getLastOrderedAt())
+                .topCategories(categories)
+                .build());
+    }
+
+    private static String truncate(String category) {
+        return category.length() <= CATEGORY_MAX_LENGTH ? category : category.substring(0, CATEGORY_MAX_LENGTH);
+    }
+}
@@ -0,0 +1,44 @@
+package com.commerce.infrastructure.persistence.purchase.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 고객별 카테고리 주문 수
+ * 주요 카테고리는 (customer_id, order_count) 순서로 상위 N개를 읽어 만든다.
+ */
+@Entity
+@Table(name = "customer_purchase_categories")
+@IdClass(CustomerPurchaseCategoryEntity.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CustomerPurchaseCategoryEntity {
+
+    @Id
+    @Column(name = "customer_id")
+    private Long customerId;
+
+    @Id
+    @Column(name = "category", length = 100)
+    private String category;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+        private Long customerId;
+        private String category;
+    }
+}
@@ -0,0 +1,39 @@
+package com.commerce.infrastructure.persistence.purchase.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 고객별 구매 집계
+ * 주문 완료 이벤트 컨슈머가 배치 단위 증분을 INSERT ... ON DUPLICATE KEY UPDATE로 더하므로 엔티티로 수정하지 않는다.
+ */
+@Entity
+@Table(name = "customer_purchase_summaries")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CustomerPurchaseSummaryEntity {
+
+    @Id
+    @Column(name = "customer_id")
+    private Long customerId;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "last_ordered_at", nullable = false)
+    private LocalDateTime lastOrderedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,38 @@
+package com.commerce.infrastructure.persistence.purchase.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구매 집계에 반영한 주문 완료 이벤트 ID
+ * 집계 upsert와 같은 트랜잭션에서 JDBC 배치로 기록하므로 엔티티로 저장하지 않는다.
+ */
+@Entity
+@Table(name = "processed_order_events", indexes = {
+    @Index(name = "uk_processed_order_events_event_id", columnList = "event_id", unique = true),
+    @Index(name = "idx_processed_order_events_processed_at_id", columnList = "processed_at, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProcessedOrderEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false, length = 100)
+    private String eventId;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+}
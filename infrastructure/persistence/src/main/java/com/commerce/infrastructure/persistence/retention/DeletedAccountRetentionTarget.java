@@ -0,0 +1,73 @@
+package com.commerce.infrastructure.persistence.retention;
+
+import com.commerce.infrastructure.persistence.customer.entity.DeletedAccountEntity;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.commerce.infrastructure.persistence.customer.entity.QDeletedAccountEntity.deletedAccountEntity;
+
+/**
+ * 탈퇴 후 보존 기간이 지난 accounts_deleted 행
+ * 탈퇴 계정은 삭제 시점에 이미 live 테이블에서 빠지므로 보관 테이블에서 최종 파기한다.
+ */
+@RequiredArgsConstructor
+public class DeletedAccountRetentionTarget implements RetentionTarget {
+
+    public static final String NAME = "deleted-accounts";
+
+    private final JPAQueryFactory queryFactory;
+    private final Duration retention;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Duration retention() {
+        return retention;
+    }
+
+    @Override
+    public List<RetentionRecord> fetchChunk(long afterKey, LocalDateTime cutoff, int limit) {
+        return queryFactory
+                .selectFrom(deletedAccountEntity)
+                .where(
+                        deletedAccountEntity.accountId.gt(afterKey),
+                        deletedAccountEntity.deletedAt.lt(cutoff)
+                )
+                .orderBy(deletedAccountEntity.accountId.asc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(DeletedAccountRetentionTarget::toRecord)
+                .toList();
+    }
+
+    @Override
+    public void delete(List<RetentionRecord> records) {
+        queryFactory
+                .delete(deletedAccountEntity)
+                .where(deletedAccountEntity.accountId.in(records.stream().map(RetentionRecord::key).toList()))
+                .execute();
+    }
+
+    private static RetentionRecord toRecord(DeletedAccountEntity entity) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("accountId", entity.getAccountId());
+        fields.put("customerId", entity.getCustomerId());
+        fields.put("email", entity.getEmail());
+        fields.put("status", entity.getStatus());
+        fields.put("activatedAt", entity.getActivatedAt());
+        fields.put("lastLoginAt", entity.getLastLoginAt());
+        fields.put("createdAt", entity.getCreatedAt());
+        fields.put("deletedAt", entity.getDeletedAt());
+        return new RetentionRecord(entity.getAccountId(), fields);
+    }
+}
@@ -0,0 +1,143 @@
+package com.commerce.infrastructure.persistence.retention;
+
+import com.commerce.infrastructure.persistence.cache.CacheInvalidation;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidationPublisher;
+import com.commerce.infrastructure.persistence.customer.cache.NearCacheKeys;
+import com.commerce.infrastructure.persistence.customer.entity.AddressEntity;
+import com.commerce.infrastructure.persistence.customer.entity.BrandPreferenceEntity;
+import com.commerce.infrastructure.persistence.customer.entity.CategoryInterestEntity;
+import com.commerce.infrastructure.persistence.customer.entity.CustomerProfileEntity;
+import com.commerce.infrastructure.persistence.customer.entity.CustomerProfileEntity.ProfileStatus;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.commerce.infrastructure.persistence.customer.entity.QAddressEntity.addressEntity;
+import static com.commerce.infrastructure.persistence.customer.entity.QBrandPreferenceEntity.brandPreferenceEntity;
+import static com.commerce.infrastructure.persistence.customer.entity.QCategoryInterestEntity.categoryInterestEntity;
+import static com.commerce.infrastructure.persistence.customer.entity.QCustomerProfileEntity.customerProfileEntity;
+
+/**
+ * 비활성/정지 상태로 보존 기간 넘게 수정되지 않은 프로필과 하위 주소/선호 정보
+ * 하위 테이블부터 벌크 삭제하고, 삭제한 고객의 near cache 항목은 커밋 후 무효화한다.
+ */
+@RequiredArgsConstructor
+public class InactiveProfileRetentionTarget implements RetentionTarget {
+
+    public static final String NAME = "inactive-profiles";
+
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final Duration retention;
+    private final Set<ProfileStatus> statuses;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Duration retention() {
+        return retention;
+    }
+
+    @Override
+    public List<RetentionRecord> fetchChunk(long afterKey, LocalDateTime cutoff, int limit) {
+        // 하위 컬렉션은 @BatchSize로 청크 단위 IN 조회
+        return queryFactory
+                .selectFrom(customerProfileEntity)
+                .where(
+                        customerProfileEntity.profileId.gt(afterKey),
+                        customerProfileEntity.status.in(statuses),
+                        customerProfileEntity.updatedAt.lt(cutoff)
+                )
+                .orderBy(customerProfileEntity.profileId.asc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(InactiveProfileRetentionTarget::toRecord)
+                .toList();
+    }
+
+    @Override
+    public void delete(List<RetentionRecord> records) {
+        List<Long> profileIds = records.stream().map(RetentionRecord::key).toList();
+        queryFactory.delete(addressEntity)
+                .where(addressEntity.customerProfile.profileId.in(profileIds))
+                .execute();
+        queryFactory.delete(brandPreferenceEntity)
+                .where(brandPreferenceEntity.customerProfile.profileId.in(profileIds))
+                .execute();
+        queryFactory.delete(categoryInterestEntity)
+                .where(categoryInterestEntity.customerProfile.profileId.in(profileIds))
+                .execute();
+        queryFactory.delete(customerProfileEntity)
+                .where(customerProfileEntity.profileId.in(profileIds))
+                .execute();
+        // 벌크 삭제는 영속성 컨텍스트를 거치지 않으므로 조회해 둔 엔티티를 분리
+        entityManager.clear();
+
+        LocalDateTime purgedAt = LocalDateTime.now();
+        records.forEach(record -> cacheInvalidationPublisher.publishAfterCommit(NearCacheKeys.CUSTOMER_PROFILE,
+                NearCacheKeys.customerProfile((Long) record.fields().get("customerId")),
+                () -> CacheInvalidation.versionOf(purgedAt)));
+    }
+
+    private static RetentionRecord toRecord(CustomerProfileEntity entity) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("profileId", entity.getProfileId());
+        fields.put("customerId", entity.getCustomerId());
+        fields.put("firstName", entity.getFirstName());
+        fields.put("lastName", entity.getLastName());
+        fields.put("birthDate", entity.getBirthDate());
+        fields.put("gender", entity.getGender());
+        fields.put("profileImageUrl", entity.getProfileImageUrl());
+        fields.put("primaryPhone", entity.getPrimaryPhone());
+        fields.put("secondaryPhone", entity.getSecondaryPhone());
+        fields.put("status", entity.getStatus());
+        fields.put("emailMarketingConsent", entity.getEmailMarketingConsent());
+        fields.put("smsMarketingConsent", entity.getSmsMarketingConsent());
+        fields.put("pushMarketingConsent", entity.getPushMarketingConsent());
+        fields.put("createdAt", entity.getCreatedAt());
+        fields.put("updatedAt", entity.getUpdatedAt());
+        fields.put("addresses", entity.getAddresses().stream().map(InactiveProfileRetentionTarget::toFields).toList());
+        fields.put("brandPreferences", entity.getBrandPreferences().stream().map(InactiveProfileRetentionTarget::toFields).toList());
+        fields.put("categoryInterests", entity.getCategoryInterests().stream().map(InactiveProfileRetentionTarget::toFields).toList());
+        return new RetentionRecord(entity.getProfileId(), fields);
+    }
+
+    private static Map<String, Object> toFields(AddressEntity address) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("addressId", address.getAddressId());
+        fields.put("type", address.getType());
+        fields.put("alias", address.getAlias());
+        fields.put("zipCode", address.getZipCode());
+        fields.put("roadAddress", address.getRoadAddress());
+        fields.put("jibunAddress", address.getJibunAddress());
+        fields.put("detailAddress", address.getDetailAddress());
+        fields.put("isDefault", address.getIsDefault());
+        return fields;
+    }
+
+    private static Map<String, Object> toFields(BrandPreferenceEntity preference) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("brandName", preference.getBrandName());
+        fields.put("preferenceLevel", preference.getPreferenceLevel());
+        return fields;
+    }
+
+    private static Map<String, Object> toFields(CategoryInterestEntity interest) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("categoryName", interest.getCategoryName());
+        fields.put("interestLevel", interest.getInterestLevel());
+        return fields;
+    }
+}
@@ -0,0 +1,74 @@
+package com.commerce.infrastructure.persistence.retention;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보관 행을 gzip 압축 NDJSON 파일로 기록
+ *
+ * 청크마다 독립된 gzip 멤버를 {directory}/{target}/{yyyy-MM-dd}.ndjson.gz 끝에 덧붙인다
+ * (gzip 멤버를 이어 붙인 파일은 zcat/GZIPInputStream으로 한 번에 읽힌다).
+ * 삭제 트랜잭션 커밋 전에 fsync하므로 커밋이 실패해도 행이 유실되지 않고, 다음 실행에서 같은 행이 한 번 더 기록될 수 있다.
+ */
+public class NdjsonArchiveWriter {
+
+    private final Path directory;
+    private final Clock clock;
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    public NdjsonArchiveWriter(Path directory, Clock clock) {
+        this.directory = directory;
+        this.clock = clock;
+    }
+
+    /**
+     * @return 기록한 파일 경로
+     */
+    public Path append(String targetName, List<Map<String, Object>> rows) {
+        Path file = directory.resolve(targetName).resolve(LocalDate.now(clock) + ".ndjson.gz");
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(compress(rows));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("보관 파일 기록 실패: " + file, e);
+        }
+    }
+
+    private byte[] compress(List<Map<String, Object>> rows) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            for (Map<String, Object> row : rows) {
+                gzip.write(objectMapper.writeValueAsBytes(row));
+                gzip.write('\n');
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,68 @@
+package com.commerce.infrastructure.persistence.retention;
+
+import com.commerce.infrastructure.persistence.purchase.entity.ProcessedOrderEventEntity;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.commerce.infrastructure.persistence.purchase.entity.QProcessedOrderEventEntity.processedOrderEventEntity;
+
+/**
+ * 구매 집계 반영 후 보존 기간이 지난 이벤트 ID
+ * 보존 기간은 주문 완료 토픽의 보존 기간보다 길어야 오프셋을 되돌려 재소비해도 이중 집계되지 않는다.
+ */
+@RequiredArgsConstructor
+public class ProcessedOrderEventRetentionTarget implements RetentionTarget {
+
+    public static final String NAME = "processed-order-events";
+
+    private final JPAQueryFactory queryFactory;
+    private final Duration retention;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Duration retention() {
+        return retention;
+    }
+
+    @Override
+    public List<RetentionRecord> fetchChunk(long afterKey, LocalDateTime cutoff, int limit) {
+        return queryFactory
+                .selectFrom(processedOrderEventEntity)
+                .where(
+                        processedOrderEventEntity.id.gt(afterKey),
+                        processedOrderEventEntity.processedAt.lt(cutoff)
+                )
+                .orderBy(processedOrderEventEntity.id.asc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(ProcessedOrderEventRetentionTarget::toRecord)
+                .toList();
+    }
+
+    @Override
+    public void delete(List<RetentionRecord> records) {
+        queryFactory
+                .delete(processedOrderEventEntity)
+                .where(processedOrderEventEntity.id.in(records.stream().map(RetentionRecord::key).toList()))
+                .execute();
+    }
+
+    private static RetentionRecord toRecord(ProcessedOrderEventEntity entity) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("id", entity.getId());
+        fields.put("eventId", entity.getEventId());
+        fields.put("processedAt", entity.getProcessedAt());
+        return new RetentionRecord(entity.getId(), fields);
+    }
+}
@@ -0,0 +1,137 @@
+package com.commerce.infrastructure.persistence.retention;
+
+import com.commerce.infrastructure.persistence.retention.entity.RetentionProgressEntity;
+import com.commerce.infrastructure.persistence.retention.repository.RetentionProgressJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 보존 기간이 지난 행을 NDJSON 파일로 보관한 뒤 live 테이블에서 삭제
+ *
+ * 대상마다 키 오름차순 청크를 하나씩 짧은 트랜잭션으로 처리한다:
+ * 진행 상황 잠금 조회 → 청크 조회 → 파일 기록(fsync) → 삭제 → 진행 키 갱신.
+ * 청크 사이에는 일정 시간 쉬어 복제 지연과 운영 트래픽 영향을 줄이고,
+ * 실행당 최대 청크 수에 도달하면 멈춘 뒤 다음 실행에서 저장된 키부터 이어서 처리한다.
+ */
+@Slf4j
+public class RetentionArchiver {
+
+    private final List<RetentionTarget> targets;
+    private final RetentionProgressJpaRepository progressRepository;
+    private final NdjsonArchiveWriter archiveWriter;
+    private final TransactionOperations transactionOperations;
+    private final RetentionMetrics metrics;
+    private final RetentionProperties properties;
+    private final Clock clock;
+    private final Sleeper sleeper;
+
+    public RetentionArchiver(List<RetentionTarget> targets, RetentionProgressJpaRepository progressRepository,
+                             NdjsonArchiveWriter archiveWriter, TransactionOperations transactionOperations,
+                             RetentionMetrics metrics, RetentionProperties properties, Clock clock) {
+        this(targets, progressRepository, archiveWriter, transactionOperations, metrics, properties, clock,
+                Thread::sleep);
+    }
+
+    RetentionArchiver(List<RetentionTarget> targets, RetentionProgressJpaRepository progressRepository,
+                      NdjsonArchiveWriter archiveWriter, TransactionOperations transactionOperations,
+                      RetentionMetrics metrics, RetentionProperties properties, Clock clock, Sleeper sleeper) {
+        this.targets = targets;
+        this.progressRepository = progressRepository;
+        this.archiveWriter = archiveWriter;
+        this.transactionOperations = transactionOperations;
+        this.metrics = metrics;
+        this.properties = properties;
+        this.clock = clock;
+        this.sleeper = sleeper;
+    }
+
+    @Scheduled(cron = "${commerce.retention.cron:0 30 3 * * *}")
+    public void runAll() {
+        for (RetentionTarget target : targets) {
+            try {
+                run(target);
+            } catch (RuntimeException e) {
+                // 한 대상의 실패가 다른 대상 처리를 막지 않도록 기록만 하고 넘어간다 (진행 키는 커밋된 청크까지 유지)
+                log.error("보관/삭제 작업 실패: target={}", target.name(), e);
+            }
+        }
+    }
+
+    public RetentionRunResult run(RetentionTarget target) {
+        long startedAt = System.nanoTime();
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(target.retention());
+        int chunkSize = properties.getChunkSize();
+        long archived = 0;
+        int chunks = 0;
+        boolean passCompleted = false;
+
+        while (chunks < properties.getMaxChunksPerRun()) {
+            ChunkResult chunk = transactionOperations.execute(status -> processChunk(target, cutoff, chunkSize));
+            chunks++;
+            archived += chunk.rows();
+            metrics.recordChunk(target.name(), chunk.rows(), chunk.lastKey());
+            if (chunk.rows() < chunkSize) {
+                passCompleted = true;
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        metrics.recordRun(target.name(), elapsed);
+        log.info("보관/삭제 완료: target={}, cutoff={}, {}건, 청크 {}개, {}ms, 완료 여부={}",
+                target.name(), cutoff, archived, chunks, elapsed.toMillis(), passCompleted);
+        return new RetentionRunResult(target.name(), archived, chunks, passCompleted);
+    }
+
+    private ChunkResult processChunk(RetentionTarget target, LocalDateTime cutoff, int chunkSize) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        RetentionProgressEntity progress = progressRepository.findForUpdate(target.name())
+                .orElseGet(() -> progressRepository.save(RetentionProgressEntity.start(target.name(), now)));
+
+        List<RetentionRecord> records = target.fetchChunk(progress.getLastKey(), cutoff, chunkSize);
+        if (!records.isEmpty()) {
+            List<Map<String, Object>> rows = records.stream().map(RetentionRecord::fields).toList();
+            archiveWriter.append(target.name(), rows);
+            target.delete(records);
+            progress.advance(records.get(records.size() - 1).key(), records.size(), now);
+        }
+        if (records.size() < chunkSize) {
+            progress.completePass(now);
+        }
+        progressRepository.save(progress);
+        return new ChunkResult(records.size(), progress.getLastKey());
+    }
+
+    private boolean pause() {
+        Duration pause = properties.getPauseBetweenChunks();
+        if (pause.isZero() || pause.isNegative()) {
+            return true;
+        }
+        try {
+            sleeper.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            // 종료 중이면 현재 청크까지만 처리하고 멈춘다
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record ChunkResult(int rows, long lastKey) {
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+}
@@ -0,0 +1,88 @@
+package com.commerce.infrastructure.persistence.retention;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 보관/삭제 작업의 대상별 처리 건수와 진행 키를 Micrometer로 노출
+ * (actuator /metrics/commerce.retention.archived.rows?tag=target:inactive-profiles)
+ */
+public class RetentionMetrics implements MeterBinder {
+
+    private static final String PREFIX = "commerce.retention";
+
+    private final Map<String, TargetStats> stats = new ConcurrentHashMap<>();
+
+    public RetentionMetrics(Collection<String> targetNames) {
+        targetNames.forEach(name -> stats.put(name, new TargetStats()));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        stats.forEach((target, targetStats) -> {
+            counter(registry, target, "archived.rows", "보관 후 삭제한 행 수", TargetStats::archivedRows);
+            counter(registry, target, "chunks", "처리한 청크 트랜잭션 수", TargetStats::chunks);
+            Gauge.builder(PREFIX + ".last.key", targetStats, s -> s.lastKey.get())
+                    .tag("target", target)
+                    .description("마지막으로 처리한 키 (0이면 한 바퀴 완료)")
+                    .register(registry);
+            Gauge.builder(PREFIX + ".last.run.duration", targetStats, s -> s.lastRunMillis.get() / 1000.0)
+                    .tag("target", target)
+                    .baseUnit("seconds")
+                    .description("마지막 실행 소요 시간")
+                    .register(registry);
+        });
+    }
+
+    void recordChunk(String target, int rows, long lastKey) {
+        TargetStats targetStats = stats(target);
+        targetStats.archivedRows.addAndGet(rows);
+        targetStats.chunks.incrementAndGet();
+        targetStats.lastKey.set(lastKey);
+    }
+
+    void recordRun(String target, Duration elapsed) {
+        stats(target).lastRunMillis.set(elapsed.toMillis());
+    }
+
+    public long archivedRows(String target) {
+        return stats(target).archivedRows.get();
+    }
+
+    private TargetStats stats(String target) {
+        return stats.computeIfAbsent(target, name -> new TargetStats());
+    }
+
+    private void counter(MeterRegistry registry, String target, String name, String description,
+                         Function<TargetStats, AtomicLong> extractor) {
+        FunctionCounter.builder(PREFIX + "." + name, stats.get(target), s -> extractor.apply(s).get())
+                .tag("target", target)
+                .description(description)
+                .register(registry);
+    }
+
+    private static final class TargetStats {
+
+        private final AtomicLong archivedRows = new AtomicLong();
+        private final AtomicLong chunks = new AtomicLong();
+        private final AtomicLong lastKey = new AtomicLong();
+        private final AtomicLong lastRunMillis = new AtomicLong();
+
+        AtomicLong archivedRows() {
+            return archivedRows;
+        }
+
+        AtomicLong chunks() {
+            return chunks;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.commerce.infrastructure.persistence.retention;
+
+import com.commerce.infrastructure.persistence.customer.entity.CustomerProfileEntity.ProfileStatus;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 보존 기간이 지난 데이터의 보관/삭제 작업 설정
+ *
+ * <pre>
+ * commerce:
+ *   retention:
+ *     enabled: true
+ *     cron: "0 30 3 * * *"
+ *     archive-directory: /var/lib/commerce/retention   # 대상별 하위 디렉터리에 일자별 .ndjson.gz 생성
+ *     chunk-size: 500
+ *     pause-between-chunks: 200ms
+ *     max-chunks-per-run: 2000
+ *     deleted-accounts:
+ *       retention: 365d
+ *     inactive-profiles:
+ *       retention: 730d
+ *       statuses: INACTIVE, SUSPENDED
+ *     sent-outbox:
+ *       retention: 7d
+ *     processed-order-events:
+ *       retention: 14d
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "commerce.retention")
+public class RetentionProperties {
+
+    /**
+     * 보관/삭제 작업 활성화 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 실행 주기 (cron)
+     */
+    private String cron = "0 30 3 * * *";
+
+    /**
+     * NDJSON 보관 파일 디렉터리
+     */
+    private Path archiveDirectory = Path.of("retention-archive");
+
+    /**
+     * 한 트랜잭션에서 보관/삭제할 행 수 (행 잠금 유지 시간 상한)
+     */
+    private int chunkSize = 500;
+
+    /**
+     * 청크 사이 대기 시간 (복제 지연과 운영 트래픽 보호)
+     */
+    private Duration pauseBetweenChunks = Duration.ofMillis(200);
+
+    /**
+     * 한 번 실행에서 처리할 최대 청크 수 (남은 행은 다음 실행에서 이어서 처리)
+     */
+    private int maxChunksPerRun = 2_000;
+
+    private DeletedAccounts deletedAccounts = new DeletedAccounts();
+
+    private InactiveProfiles inactiveProfiles = new InactiveProfiles();
+
+    private SentOutbox sentOutbox = new SentOutbox();
+
+    private ProcessedOrderEvents processedOrderEvents = new ProcessedOrderEvents();
+
+    @Getter
+    @Setter
+    public static class DeletedAccounts {
+
+        /**
+         * 탈퇴 후 accounts_deleted에 보존하는 기간
+         */
+        private Duration retention = Duration.ofDays(365);
+    }
+
+    @Getter
+    @Setter
+    public static class InactiveProfiles {
+
+        /**
+         * 마지막 수정 이후 보존하는 기간
+         */
+        private Duration retention = Duration.ofDays(730);
+
+        /**
+         * 보관 대상 프로필 상태
+         */
+        private Set<ProfileStatus> statuses = EnumSet.of(ProfileStatus.INACTIVE, ProfileStatus.SUSPENDED);
+    }
+
+    @Getter
+    @Setter
+    public static class SentOutbox {
+
+        /**
+         * 발행 완료 후 outbox에 보존하는 기간 (이 기간 안에서만 오프셋 재발행 가능)
+         */
+        private Duration retention = Duration.ofDays(7);
+    }
+
+    @Getter
+    @Setter
+    public static class ProcessedOrderEvents {
+
+        /**
+         * 구매 집계 반영 후 이벤트 ID를 보존하는 기간 (주문 완료 토픽 보존 기간보다 길어야 재소비 시 이중 집계 방지)
+         */
+        private Duration retention = Duration.ofDays(14);
+    }
+}
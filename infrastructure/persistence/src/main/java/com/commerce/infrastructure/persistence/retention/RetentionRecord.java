@@ -0,0 +1,12 @@
+package com.commerce.infrastructure.persistence.retention;
+
+import java.util.Map;
+
+/**
+ * 보관 대상 한 행
+ *
+ * @param key    키셋 페이지네이션에 쓰는 단조 증가 키 (PK)
+ * @param fields NDJSON 한 줄로 기록할 컬럼 값
+ */
+public record RetentionRecord(long key, Map<String, Object> fields) {
+}
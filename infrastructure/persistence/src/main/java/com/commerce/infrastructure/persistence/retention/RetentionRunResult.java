@@ -0,0 +1,9 @@
+package com.commerce.infrastructure.persistence.retention;
+
+/**
+ * 대상 하나에 대한 한 번의 실행 결과
+ *
+ * @param passCompleted 보존 기간이 지난 행을 끝까지 처리했는지 여부 (false면 다음 실행에서 이어서 처리)
+ */
+public record RetentionRunResult(String target, long archivedRows, int chunks, boolean passCompleted) {
+}
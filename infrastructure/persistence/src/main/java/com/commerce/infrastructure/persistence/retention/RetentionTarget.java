@@ -0,0 +1,29 @@
+package com.commerce.infrastructure.persistence.retention;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보존 기간이 지난 행을 키 순서로 읽고 삭제하는 대상 테이블
+ * 두 메서드는 같은 트랜잭션 안에서 호출되며, 조회한 행만 삭제해야 한다.
+ */
+public interface RetentionTarget {
+
+    /**
+     * 진행 상황 저장 키이자 보관 파일 디렉터리 이름
+     */
+    String name();
+
+    Duration retention();
+
+    /**
+     * afterKey보다 큰 키 중 cutoff 이전 행을 키 오름차순으로 최대 limit건 조회
+     */
+    List<RetentionRecord> fetchChunk(long afterKey, LocalDateTime cutoff, int limit);
+
+    /**
+     * 조회한 행 삭제
+     */
+    void delete(List<RetentionRecord> records);
+}
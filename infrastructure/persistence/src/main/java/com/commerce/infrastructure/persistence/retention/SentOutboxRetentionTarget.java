@@ -0,0 +1,72 @@
+package com.commerce.infrastructure.persistence.retention;
+
+import com.commerce.infrastructure.persistence.outbox.entity.OutboxEventEntity;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.commerce.infrastructure.persistence.outbox.entity.QOutboxEventEntity.outboxEventEntity;
+
+/**
+ * 발행 완료 후 보존 기간이 지난 outbox 행
+ * 미발행 행은 대상이 아니므로 릴레이가 밀려 있어도 전송 전 이벤트가 삭제되지 않는다.
+ */
+@RequiredArgsConstructor
+public class SentOutboxRetentionTarget implements RetentionTarget {
+
+    public static final String NAME = "sent-outbox";
+
+    private final JPAQueryFactory queryFactory;
+    private final Duration retention;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Duration retention() {
+        return retention;
+    }
+
+    @Override
+    public List<RetentionRecord> fetchChunk(long afterKey, LocalDateTime cutoff, int limit) {
+        return queryFactory
+                .selectFrom(outboxEventEntity)
+                .where(
+                        outboxEventEntity.id.gt(afterKey),
+                        outboxEventEntity.sentAt.lt(cutoff)
+                )
+                .orderBy(outboxEventEntity.id.asc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(SentOutboxRetentionTarget::toRecord)
+                .toList();
+    }
+
+    @Override
+    public void delete(List<RetentionRecord> records) {
+        queryFactory
+                .delete(outboxEventEntity)
+                .where(outboxEventEntity.id.in(records.stream().map(RetentionRecord::key).toList()))
+                .execute();
+    }
+
+    private static RetentionRecord toRecord(OutboxEventEntity entity) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("id", entity.getId());
+        fields.put("aggregateType", entity.getAggregateType());
+        fields.put("aggregateId", entity.getAggregateId());
+        fields.put("eventType", entity.getEventType());
+        fields.put("payload", entity.getPayload());
+        fields.put("createdAt", entity.getCreatedAt());
+        fields.put("sentAt", entity.getSentAt());
+        return new RetentionRecord(entity.getId(), fields);
+    }
+}
@@ -0,0 +1,61 @@
+package com.commerce.infrastructure.persistence.retention.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관/삭제 작업 진행 상황
+ * 대상별로 마지막으로 처리한 키를 저장하여 중단된 실행을 이어서 처리하고,
+ * 청크 트랜잭션마다 이 행을 비관적 잠금으로 읽어 여러 인스턴스가 같은 대상을 동시에 처리하지 않게 한다.
+ */
+@Entity
+@Table(name = "retention_progress")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RetentionProgressEntity {
+
+    @Id
+    @Column(name = "target_name", length = 50)
+    private String targetName;
+
+    @Column(name = "last_key", nullable = false)
+    private long lastKey;
+
+    @Column(name = "archived_rows", nullable = false)
+    private long archivedRows;
+
+    @Column(name = "completed_passes", nullable = false)
+    private long completedPasses;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static RetentionProgressEntity start(String targetName, LocalDateTime now) {
+        RetentionProgressEntity progress = new RetentionProgressEntity();
+        progress.targetName = targetName;
+        progress.updatedAt = now;
+        return progress;
+    }
+
+    public void advance(long lastKey, int rows, LocalDateTime now) {
+        this.lastKey = lastKey;
+        this.archivedRows += rows;
+        this.updatedAt = now;
+    }
+
+    /**
+     * 끝까지 훑었으면 다음 실행은 처음부터 다시 훑는다 (그 사이 보존 기간이 지난 행 포함)
+     */
+    public void completePass(LocalDateTime now) {
+        this.lastKey = 0;
+        this.completedPasses++;
+        this.updatedAt = now;
+    }
+}
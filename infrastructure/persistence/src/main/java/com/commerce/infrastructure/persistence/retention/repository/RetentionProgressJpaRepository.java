@@ -0,0 +1,17 @@
+package com.commerce.infrastructure.persistence.retention.repository;
+
+import com.commerce.infrastructure.persistence.retention.entity.RetentionProgressEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface RetentionProgressJpaRepository extends JpaRepository<RetentionProgressEntity, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM RetentionProgressEntity p WHERE p.targetName = :targetName")
+    Optional<RetentionProgressEntity> findForUpdate(@Param("targetName") String targetName);
+}
@@ -0,0 +1,6 @@
+-- =====================================================
+-- 휴면 전환 대상 스캔용 인덱스
+-- status = 'ACTIVE' AND last_login_at < cutoff 범위를 last_login_at 순서로 읽기 위함
+-- =====================================================
+
+CREATE INDEX idx_account_status_last_login ON accounts(status, last_login_at);
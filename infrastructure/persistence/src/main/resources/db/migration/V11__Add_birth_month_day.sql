@@ -0,0 +1,13 @@
+-- =====================================================
+-- 연도와 무관한 생일 조회용 파생 컬럼 추가
+-- "이번 주 생일" 같은 조회를 birth_date 전체 스캔 대신 (status, birth_month_day) 인덱스 범위 탐색으로 처리하기 위함
+-- 값은 MMDD 정수 (예: 3월 5일 → 305, 2월 29일 → 229)
+-- =====================================================
+
+ALTER TABLE customer_profiles ADD COLUMN birth_month_day INT NULL;
+
+UPDATE customer_profiles
+SET birth_month_day = MONTH(birth_date) * 100 + DAYOFMONTH(birth_date)
+WHERE birth_date IS NOT NULL;
+
+CREATE INDEX idx_profile_status_birth_month_day ON customer_profiles(status, birth_month_day);
@@ -0,0 +1,19 @@
+-- =====================================================
+-- 트랜잭션 아웃박스
+-- 도메인 변경과 같은 트랜잭션에서 이벤트를 기록하고, 릴레이가 id 순서로 읽어 Kafka로 전달한다
+-- =====================================================
+
+CREATE TABLE outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id VARCHAR(100) NOT NULL,
+    event_type VARCHAR(200) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    sent_at TIMESTAMP NULL
+);
+
+ALTER TABLE outbox COMMENT = '도메인 이벤트 아웃박스';
+
+-- 미발행 행 keyset 조회 (sent_at IS NULL AND id > ?) 및 지연 지표
+CREATE INDEX idx_outbox_sent_at_id ON outbox(sent_at, id);
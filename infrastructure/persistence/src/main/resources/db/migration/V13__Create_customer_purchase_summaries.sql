@@ -0,0 +1,23 @@
+-- =====================================================
+-- 고객별 구매 집계
+-- 주문 완료 이벤트 컨슈머가 배치 단위 증분을 upsert로 더해 주문 수/누적 금액/최근 주문일/주요 카테고리를 유지한다
+-- =====================================================
+
+CREATE TABLE customer_purchase_summaries (
+    customer_id BIGINT PRIMARY KEY,
+    order_count BIGINT NOT NULL,
+    total_amount DECIMAL(19, 2) NOT NULL,
+    last_ordered_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+ALTER TABLE customer_purchase_summaries COMMENT = '고객별 구매 집계';
+
+CREATE TABLE customer_purchase_categories (
+    customer_id BIGINT NOT NULL,
+    category VARCHAR(100) NOT NULL,
+    order_count BIGINT NOT NULL,
+    PRIMARY KEY (customer_id, category)
+);
+
+ALTER TABLE customer_purchase_categories COMMENT = '고객별 카테고리 주문 수';
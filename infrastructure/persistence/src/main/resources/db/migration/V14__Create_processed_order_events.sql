@@ -0,0 +1,19 @@
+-- =====================================================
+-- 구매 집계에 반영한 주문 완료 이벤트 ID
+-- 컨슈머가 집계 upsert와 같은 트랜잭션에서 기록하여, 재시작/재분배 후 재전달된 이벤트를 이중 집계하지 않는다
+-- 보존 기간이 지난 행은 보관/삭제 작업(processed-order-events)이 정리한다
+-- =====================================================
+
+CREATE TABLE processed_order_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_id VARCHAR(100) NOT NULL,
+    processed_at TIMESTAMP NOT NULL
+);
+
+ALTER TABLE processed_order_events COMMENT = '구매 집계 반영 완료 이벤트';
+
+-- 반영 여부 판별 및 동시 반영 차단
+CREATE UNIQUE INDEX uk_processed_order_events_event_id ON processed_order_events(event_id);
+
+-- 보존 기간 keyset 조회 (processed_at < ? AND id > ?)
+CREATE INDEX idx_processed_order_events_processed_at_id ON processed_order_events(processed_at, id);
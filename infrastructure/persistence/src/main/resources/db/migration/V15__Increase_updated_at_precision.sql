@@ -0,0 +1,11 @@
+-- =====================================================
+-- 수정 일시 정밀도 상향 (초 → 마이크로초)
+-- near cache 무효화 버전이 updated_at 기준이므로, 같은 초 안의 두 변경이 같은 버전이 되지 않도록
+-- 밀리초 이상을 보존한다. (애플리케이션은 밀리초로 절삭하여 비교)
+-- =====================================================
+
+ALTER TABLE accounts
+MODIFY COLUMN updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+
+ALTER TABLE customer_profiles
+MODIFY COLUMN updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
@@ -0,0 +1,15 @@
+-- =====================================================
+-- 계정 상태 CHECK 제약을 도메인 상태(AccountStatus)와 일치시킴
+-- V1의 제약에는 INACTIVE/DORMANT/DELETED가 없어 휴면 전환 배치의 UPDATE가 거부된다
+-- 도메인에 없는 DEACTIVATED는 같은 의미인 INACTIVE로 옮긴 뒤 제약을 다시 만든다
+-- =====================================================
+
+UPDATE accounts SET status = 'INACTIVE' WHERE status = 'DEACTIVATED';
+
+ALTER TABLE accounts DROP CONSTRAINT chk_account_status;
+
+ALTER TABLE accounts
+ADD CONSTRAINT chk_account_status
+CHECK (status IN ('PENDING', 'ACTIVE', 'INACTIVE', 'DORMANT', 'SUSPENDED', 'DELETED'));
+
+ALTER TABLE accounts MODIFY COLUMN status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT '계정 상태 (PENDING/ACTIVE/INACTIVE/DORMANT/SUSPENDED/DELETED)';
@@ -0,0 +1,15 @@
+-- =====================================================
+-- 아웃박스 전송 시도 기록과 dead letter 처리
+-- 실패한 행의 시도 횟수와 마지막 오류를 남기고, 다시 보내도 성공할 수 없는 행(토픽 미정의, 크기 초과 등)은
+-- dead_at을 채워 발행 대상에서 제외한다. 재발행 요청 시 dead_at도 함께 되돌린다.
+-- =====================================================
+
+ALTER TABLE outbox ADD COLUMN attempt_count INT NOT NULL DEFAULT 0;
+
+ALTER TABLE outbox ADD COLUMN last_error VARCHAR(500) NULL;
+
+ALTER TABLE outbox ADD COLUMN dead_at TIMESTAMP NULL;
+
+-- 미발행 행 keyset 조회 (sent_at IS NULL AND dead_at IS NULL AND id > ?) 및 지연 지표
+DROP INDEX idx_outbox_sent_at_id ON outbox;
+CREATE INDEX idx_outbox_sent_at_dead_at_id ON outbox(sent_at, dead_at, id);
@@ -0,0 +1,18 @@
+-- =====================================================
+-- 한글 초성/자모 검색 키 컬럼 추가
+-- 이름/도로명 주소의 파생 키를 저장하여 LIKE 'prefix%' 인덱스 탐색으로 검색한다.
+-- 이후 저장분은 엔티티 저장 시 채워지고, 기존 데이터의 키는 KoreanSearchKeyBackfill 작업으로 채운다
+-- (commerce.search-key-backfill.enabled=true 로 한 번 기동).
+-- =====================================================
+
+ALTER TABLE customer_profiles ADD COLUMN name_chosung VARCHAR(100) NULL;
+ALTER TABLE customer_profiles ADD COLUMN name_jamo VARCHAR(255) NULL;
+
+CREATE INDEX idx_profile_name_chosung ON customer_profiles(name_chosung);
+CREATE INDEX idx_profile_name_jamo ON customer_profiles(name_jamo);
+
+ALTER TABLE addresses ADD COLUMN road_address_chosung VARCHAR(200) NULL;
+ALTER TABLE addresses ADD COLUMN road_address_jamo VARCHAR(255) NULL;
+
+CREATE INDEX idx_address_road_chosung ON addresses(road_address_chosung);
+CREATE INDEX idx_address_road_jamo ON addresses(road_address_jamo);
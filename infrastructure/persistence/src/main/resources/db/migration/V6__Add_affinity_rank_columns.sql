@@ -0,0 +1,26 @@
+-- =====================================================
+-- 브랜드 선호도/카테고리 관심도 순위 컬럼 추가
+-- 선호 고객 조회를 DB에서 (이름, 순위, 프로필 ID) 인덱스 순서로 정렬/키셋 페이징하기 위함
+-- =====================================================
+
+ALTER TABLE brand_preferences ADD COLUMN preference_rank INT NOT NULL DEFAULT 3;
+
+UPDATE brand_preferences
+SET preference_rank = CASE preference_level
+    WHEN 'LOVE' THEN 1
+    WHEN 'LIKE' THEN 2
+    ELSE 3
+END;
+
+CREATE INDEX idx_brand_preference_brand_rank ON brand_preferences(brand_name, preference_rank, profile_id);
+
+ALTER TABLE category_interests ADD COLUMN interest_rank INT NOT NULL DEFAULT 3;
+
+UPDATE category_interests
+SET interest_rank = CASE interest_level
+    WHEN 'HIGH' THEN 1
+    WHEN 'MEDIUM' THEN 2
+    ELSE 3
+END;
+
+CREATE INDEX idx_category_interest_category_rank ON category_interests(category_name, interest_rank, profile_id);
@@ -0,0 +1,8 @@
+-- =====================================================
+-- 낙관적 잠금 버전 컬럼 추가
+-- 동시 수정 시 나중 커밋이 앞선 변경을 덮어쓰지 않도록 UPDATE 조건에 버전을 포함하기 위함
+-- =====================================================
+
+ALTER TABLE customer_profiles ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE accounts ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
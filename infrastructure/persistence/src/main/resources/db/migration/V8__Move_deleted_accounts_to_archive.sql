@@ -0,0 +1,39 @@
+-- =====================================================
+-- 삭제된 계정 보관 테이블 분리
+-- 삭제 행이 accounts의 (email, deleted)/(customer_id, deleted) 유일 인덱스에 계속 쌓이지 않도록
+-- 삭제된 계정을 accounts_deleted로 옮기고 live 인덱스는 살아 있는 행만 포함하게 한다
+-- =====================================================
+
+CREATE TABLE accounts_deleted (
+    account_id BIGINT PRIMARY KEY,
+    customer_id BIGINT NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    activated_at TIMESTAMP NULL,
+    last_login_at TIMESTAMP NULL,
+    created_at TIMESTAMP NOT NULL,
+    deleted_at TIMESTAMP NOT NULL
+);
+
+-- 같은 이메일로 재가입 후 다시 삭제될 수 있으므로 유일 인덱스를 두지 않음
+CREATE INDEX idx_account_deleted_email ON accounts_deleted(email);
+CREATE INDEX idx_account_deleted_customer_id ON accounts_deleted(customer_id);
+CREATE INDEX idx_account_deleted_deleted_at ON accounts_deleted(deleted_at);
+
+INSERT INTO accounts_deleted (account_id, customer_id, email, status, activated_at, last_login_at, created_at, deleted_at)
+SELECT account_id, customer_id, email, status, activated_at, last_login_at, created_at,
+       COALESCE(deleted_at, updated_at)
+FROM accounts
+WHERE deleted = TRUE;
+
+DELETE FROM accounts WHERE deleted = TRUE;
+
+-- live 행만 남았으므로 삭제 플래그를 제외한 유일 인덱스로 교체
+DROP INDEX idx_account_email ON accounts;
+DROP INDEX idx_account_customer_id ON accounts;
+DROP INDEX idx_account_deleted ON accounts;
+
+CREATE UNIQUE INDEX idx_account_email ON accounts(email);
+CREATE UNIQUE INDEX idx_account_customer_id ON accounts(customer_id);
+
+ALTER TABLE accounts_deleted COMMENT = '삭제된 고객 계정 보관';
@@ -0,0 +1,18 @@
+-- =====================================================
+-- 보존 기간 기반 보관/삭제 작업 진행 상황
+-- 대상별 마지막 처리 키를 저장하여 중단된 작업을 이어서 처리하고,
+-- 청크마다 이 행을 잠가 여러 인스턴스가 같은 대상을 동시에 처리하지 않게 한다
+-- =====================================================
+
+CREATE TABLE retention_progress (
+    target_name VARCHAR(50) PRIMARY KEY,
+    last_key BIGINT NOT NULL DEFAULT 0,
+    archived_rows BIGINT NOT NULL DEFAULT 0,
+    completed_passes BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL
+);
+
+ALTER TABLE retention_progress COMMENT = '보관/삭제 작업 진행 상황';
+
+-- 비활성 프로필 보관 대상 조회 (status IN (...) AND updated_at < cutoff)
+CREATE INDEX idx_profile_status_updated_at ON customer_profiles(status, updated_at);
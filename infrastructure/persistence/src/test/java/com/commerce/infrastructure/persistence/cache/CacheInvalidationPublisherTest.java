@@ -0,0 +1,120 @@
+package com.commerce.infrastructure.persistence.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CacheInvalidationPublisher 테스트")
+class CacheInvalidationPublisherTest {
+
+    private final List<CacheInvalidation> received = new ArrayList<>();
+    private CacheInvalidationPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        LocalCacheInvalidationBus bus = new LocalCacheInvalidationBus();
+        bus.subscribe(received::add);
+        publisher = new CacheInvalidationPublisher(bus);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 즉시 발행한다")
+    void publishAfterCommit_PublishesImmediately_WithoutTransaction() {
+        // when
+        publisher.publishAfterCommit("account", "id:1", () -> 1_000);
+
+        // then
+        assertThat(received).containsExactly(new CacheInvalidation("account", "id:1", 1_000));
+    }
+
+    @Test
+    @DisplayName("커밋 후에 발행하고 버전은 커밋 시점에 계산한다")
+    void publishAfterCommit_PublishesAfterCommitWithLateVersion() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        AtomicLong version = new AtomicLong(1_000);
+
+        // when
+        publisher.publishAfterCommit("account", "id:1", version::get);
+        boolean publishedBeforeCommit = !received.isEmpty();
+        version.set(2_000); // flush 시 수정 일시 갱신
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        // then
+        assertThat(publishedBeforeCommit).isFalse();
+        assertThat(received).containsExactly(new CacheInvalidation("account", "id:1", 2_000));
+    }
+
+    @Test
+    @DisplayName("같은 키의 여러 변경은 한 번만 발행한다")
+    void publishAfterCommit_CoalescesSameKey() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        publisher.publishAfterCommit("account", "id:1", () -> 1_000);
+        publisher.publishAfterCommit("account", "email:a@test.com", () -> 1_000);
+        publisher.publishAfterCommit("account", "id:1", () -> 3_000);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        // then
+        assertThat(received).containsExactly(
+                new CacheInvalidation("account", "id:1", 3_000),
+                new CacheInvalidation("account", "email:a@test.com", 1_000));
+    }
+
+    @Test
+    @DisplayName("롤백되면 발행하지 않는다")
+    void publishAfterCommit_SkipsOnRollback() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        publisher.publishAfterCommit("account", "id:1", () -> 1_000);
+
+        // when
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        assertThat(received).isEmpty();
+        assertThat(TransactionSynchronizationManager.hasResource(
+                CacheInvalidationPublisher.class.getName() + ".PENDING")).isFalse();
+    }
+
+    @Test
+    @DisplayName("수정 일시 버전은 밀리초 단위로 절삭한다")
+    void versionOf_TruncatesToMillis() {
+        // given
+        LocalDateTime inMemory = LocalDateTime.of(2024, 1, 1, 12, 0, 0, 999_999_999);
+        LocalDateTime stored = LocalDateTime.of(2024, 1, 1, 12, 0, 0, 999_999_000);
+        LocalDateTime earlierInSameSecond = LocalDateTime.of(2024, 1, 1, 12, 0, 0, 998_000_000);
+
+        // when & then
+        assertThat(CacheInvalidation.versionOf(inMemory)).isEqualTo(CacheInvalidation.versionOf(stored));
+        assertThat(CacheInvalidation.versionOf(earlierInSameSecond)).isLessThan(CacheInvalidation.versionOf(stored));
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(sync -> sync.afterCompletion(status));
+    }
+}
@@ -0,0 +1,96 @@
+package com.commerce.infrastructure.persistence.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NearCache 테스트")
+class NearCacheTest {
+
+    private NearCache<String> nearCache;
+
+    @BeforeEach
+    void setUp() {
+        nearCache = new NearCache<>("account", 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("무효화된 버전보다 낮은 값은 다시 적재하지 않는다")
+    void put_RejectsStaleVersionAfterInvalidation() {
+        // given
+        nearCache.put("id:1", "v1", 1_000, nearCache.loadStamp());
+
+        // when
+        nearCache.invalidate("id:1", 2_000);
+        boolean staleAccepted = nearCache.put("id:1", "v1", 1_000, nearCache.loadStamp());
+        boolean freshAccepted = nearCache.put("id:1", "v2", 2_000, nearCache.loadStamp());
+
+        // then
+        assertThat(staleAccepted).isFalse();
+        assertThat(freshAccepted).isTrue();
+        assertThat(nearCache.get("id:1")).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("조회 도중 같은 버전으로 무효화되면 그 값은 적재하지 않는다")
+    void put_RejectsSameVersionInvalidatedDuringLoad() {
+        // given - 같은 밀리초 안의 두 변경 중 앞선 값을 읽는 도중 뒤 변경의 무효화가 도착
+        long racingLoad = nearCache.loadStamp();
+        nearCache.invalidate("id:1", 2_000);
+
+        // when
+        boolean racingAccepted = nearCache.put("id:1", "v2-earlier", 2_000, racingLoad);
+        boolean laterAccepted = nearCache.put("id:1", "v2-later", 2_000, nearCache.loadStamp());
+
+        // then
+        assertThat(racingAccepted).isFalse();
+        assertThat(laterAccepted).isTrue();
+        assertThat(nearCache.get("id:1")).isEqualTo("v2-later");
+    }
+
+    @Test
+    @DisplayName("무효화 버전보다 새로운 항목은 유지한다")
+    void invalidate_KeepsNewerEntry() {
+        // given - 늦게 도착한 이전 변경의 무효화 메시지
+        nearCache.put("id:1", "v3", 3_000, nearCache.loadStamp());
+
+        // when
+        nearCache.invalidate("id:1", 2_000);
+
+        // then
+        assertThat(nearCache.get("id:1")).isEqualTo("v3");
+    }
+
+    @Test
+    @DisplayName("동시에 적재되면 더 높은 버전이 남는다")
+    void put_KeepsHigherVersion() {
+        // when
+        nearCache.put("id:1", "v2", 2_000, nearCache.loadStamp());
+        nearCache.put("id:1", "v1", 1_000, nearCache.loadStamp());
+
+        // then
+        assertThat(nearCache.get("id:1")).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("채널의 메시지 중 같은 캐시 이름만 반영한다")
+    void subscribeTo_AppliesOnlyMatchingCacheName() {
+        // given
+        LocalCacheInvalidationBus bus = new LocalCacheInvalidationBus();
+        nearCache.subscribeTo(bus);
+        nearCache.put("id:1", "v1", 1_000, nearCache.loadStamp());
+        nearCache.put("id:2", "v1", 1_000, nearCache.loadStamp());
+
+        // when
+        bus.publish(new CacheInvalidation("account", "id:1", 2_000));
+        bus.publish(new CacheInvalidation("customer-profile", "id:2", 2_000));
+
+        // then
+        assertThat(nearCache.get("id:1")).isNull();
+        assertThat(nearCache.get("id:2")).isEqualTo("v1");
+    }
+}
@@ -0,0 +1,52 @@
+package com.commerce.infrastructure.persistence.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("RedisCacheInvalidationBus 테스트")
+class RedisCacheInvalidationBusTest {
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    private final RedisCacheInvalidationBus bus = new RedisCacheInvalidationBus(redisTemplate, "cache-invalidation");
+
+    @Test
+    @DisplayName("무효화 메시지를 채널로 발행한다")
+    void publish_SendsEncodedMessage() {
+        // when
+        bus.publish(new CacheInvalidation("account", "email:a\tb@test.com", 1_000));
+
+        // then
+        verify(redisTemplate).convertAndSend("cache-invalidation", "account\t1000\temail:a\tb@test.com");
+    }
+
+    @Test
+    @DisplayName("수신한 메시지를 구독자에게 전달하고 형식이 잘못된 메시지는 무시한다")
+    void onMessage_DeliversDecodedInvalidation() {
+        // given
+        List<CacheInvalidation> received = new ArrayList<>();
+        bus.subscribe(received::add);
+
+        // when
+        bus.onMessage(message("customer-profile\t2000\t42"), null);
+        bus.onMessage(message("broken"), null);
+        bus.onMessage(message("account\tNaN\tid:1"), null);
+
+        // then
+        assertThat(received).containsExactly(new CacheInvalidation("customer-profile", "42", 2_000));
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage("cache-invalidation".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
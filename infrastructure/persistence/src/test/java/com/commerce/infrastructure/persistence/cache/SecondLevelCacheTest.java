@@ -0,0 +1,210 @@
+package com.commerce.infrastructure.persistence.cache;
+
+import com.commerce.infrastructure.persistence.TestApplication;
+import com.commerce.infrastructure.persistence.config.SecondLevelCacheConfig;
+import com.commerce.infrastructure.persistence.config.TestJpaConfig;
+import com.commerce.infrastructure.persistence.customer.entity.AccountEntity;
+import com.commerce.infrastructure.persistence.customer.entity.AddressEntity;
+import com.commerce.infrastructure.persistence.customer.entity.CustomerProfileEntity;
+import com.commerce.infrastructure.persistence.customer.repository.AccountJpaRepository;
+import com.commerce.infrastructure.persistence.customer.repository.AccountQueryRepository;
+import com.commerce.infrastructure.persistence.customer.repository.CustomerProfileJpaRepository;
+import com.commerce.infrastructure.persistence.customer.repository.CustomerProfileQueryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ContextConfiguration(classes = TestApplication.class)
+@Import({TestJpaConfig.class, SecondLevelCacheConfig.class, AccountQueryRepository.class,
+    CustomerProfileQueryRepository.class, SecondLevelCacheEvictor.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Hibernate 2차 캐시 테스트")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private AccountQueryRepository accountQueryRepository;
+
+    @Autowired
+    private CustomerProfileJpaRepository customerProfileJpaRepository;
+
+    @Autowired
+    private CustomerProfileQueryRepository customerProfileQueryRepository;
+
+    @Autowired
+    private SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    @Autowired
+    private SecondLevelCacheMetrics secondLevelCacheMetrics;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private AccountEntity account;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        account = inTransaction(() -> accountJpaRepository.save(AccountEntity.builder()
+            .customerId(500L)
+            .email("cache@example.com")
+            .password("encoded-password")
+            .status(AccountEntity.AccountStatus.ACTIVE)
+            .build()));
+        inTransaction(() -> {
+            CustomerProfileEntity profile = CustomerProfileEntity.builder()
+                .customerId(500L)
+                .firstName("길동")
+                .lastName("홍")
+                .primaryPhone("010-1234-5678")
+                .build();
+            profile.addAddress(AddressEntity.builder()
+                .customerProfile(profile)
+                .type(AddressEntity.AddressType.HOME)
+                .alias("집")
+                .zipCode("06234")
+                .roadAddress("서울시 강남구 테헤란로 123")
+                .isDefault(true)
+                .build());
+            return customerProfileJpaRepository.save(profile);
+        });
+
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        inTransaction(() -> {
+            customerProfileJpaRepository.deleteAll();
+            accountJpaRepository.deleteAll();
+            return null;
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("ID로 조회한 계정은 다음 트랜잭션에서 DB 조회 없이 캐시에서 반환된다")
+    void findById_SecondLookupServedFromCache() {
+        // Given
+        inTransaction(() -> accountQueryRepository.findById(account.getAccountId()));
+        long statementsAfterFirstLookup = statistics.getPrepareStatementCount();
+
+        // When
+        Optional<AccountEntity> result = inTransaction(() -> accountQueryRepository.findById(account.getAccountId()));
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(statementsAfterFirstLookup).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirstLookup);
+        assertThat(statistics.getDomainDataRegionStatistics(CacheRegions.ACCOUNT).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이메일 조회는 자연 키 캐시를 사용하여 다음 트랜잭션에서 DB를 조회하지 않는다")
+    void findByEmail_UsesNaturalIdCache() {
+        // Given
+        inTransaction(() -> accountQueryRepository.findByEmail("cache@example.com"));
+        long statementsAfterFirstLookup = statistics.getPrepareStatementCount();
+
+        // When
+        Optional<AccountEntity> result = inTransaction(() -> accountQueryRepository.findByEmail("cache@example.com"));
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(statementsAfterFirstLookup).isPositive();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirstLookup);
+        assertThat(statistics.getDomainDataRegionStatistics(CacheRegions.ACCOUNT_EMAIL).getHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("삭제된 계정은 커밋 후 캐시에서 제거되고 이메일/ID 조회에서 제외된다")
+    void softDelete_EvictsAndFiltersDeletedAccount() {
+        // Given
+        inTransaction(() -> accountQueryRepository.findByEmail("cache@example.com"));
+        assertThat(entityManagerFactory.getCache().contains(AccountEntity.class, account.getAccountId())).isTrue();
+
+        // When
+        inTransaction(() -> {
+            AccountEntity entity = accountJpaRepository.findById(account.getAccountId()).orElseThrow();
+            entity.markAsDeleted();
+            accountJpaRepository.delete(entity);
+            secondLevelCacheEvictor.evictAfterCommit(AccountEntity.class, entity.getAccountId());
+            return null;
+        });
+
+        // Then
+        assertThat(entityManagerFactory.getCache().contains(AccountEntity.class, account.getAccountId())).isFalse();
+        assertThat(inTransaction(() -> accountQueryRepository.findByEmail("cache@example.com"))).isEmpty();
+        assertThat(inTransaction(() -> accountQueryRepository.findById(account.getAccountId()))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("고객 ID로 조회한 프로필과 주소 컬렉션은 다음 트랜잭션에서 캐시에서 반환된다")
+    void findProfileByCustomerId_CachesEntityAndCollections() {
+        // Given
+        inTransaction(() -> customerProfileQueryRepository.findByCustomerId(500L)
+            .map(profile -> profile.getAddresses().size()));
+        long statementsAfterFirstLookup = statistics.getPrepareStatementCount();
+
+        // When
+        Optional<Integer> addressCount = inTransaction(() -> customerProfileQueryRepository.findByCustomerId(500L)
+            .map(profile -> profile.getAddresses().size()));
+
+        // Then
+        assertThat(addressCount).contains(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirstLookup);
+        assertThat(statistics.getDomainDataRegionStatistics(CacheRegions.CUSTOMER_PROFILE_ADDRESSES).getHitCount())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("리전별 히트율을 Micrometer 지표로 노출한다")
+    void metrics_ExposeHitRatioPerRegion() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        secondLevelCacheMetrics.bindTo(registry);
+
+        // When
+        inTransaction(() -> accountQueryRepository.findById(account.getAccountId()));
+        inTransaction(() -> accountQueryRepository.findById(account.getAccountId()));
+
+        // Then
+        assertThat(registry.get("hibernate.second.level.cache.hit.ratio").tag("region", CacheRegions.ACCOUNT)
+            .gauge().value()).isEqualTo(0.5);
+        assertThat(registry.get("hibernate.second.level.cache.requests").tag("region", CacheRegions.ACCOUNT)
+            .tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+}
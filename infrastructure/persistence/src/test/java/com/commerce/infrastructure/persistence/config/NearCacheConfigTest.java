@@ -0,0 +1,49 @@
+package com.commerce.infrastructure.persistence.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NearCacheConfig 무효화 채널 선택 테스트")
+class NearCacheConfigTest {
+
+    @Test
+    @DisplayName("채널을 지정하지 않고 프로세스 내 캐시도 꺼져 있으면 로컬 채널을 쓴다")
+    void defaultsToLocal_WhenNoInProcessCache() {
+        // given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("commerce.cache.near.enabled", "false")
+                .withProperty("commerce.cache.near.invalidation-bus", "");
+
+        // when & then
+        assertThat(NearCacheConfig.usesRedisInvalidationBus(environment)).isFalse();
+    }
+
+    @Test
+    @DisplayName("채널을 지정하지 않으면 near cache나 오프힙 프로필이 켜진 경우 Redis 채널을 쓴다")
+    void defaultsToRedis_WhenInProcessCacheEnabled() {
+        // given
+        MockEnvironment nearCache = new MockEnvironment().withProperty("commerce.cache.near.enabled", "true");
+        MockEnvironment offHeap = new MockEnvironment().withProperty("commerce.cache.offheap-profile.enabled", "true");
+
+        // when & then
+        assertThat(NearCacheConfig.usesRedisInvalidationBus(nearCache)).isTrue();
+        assertThat(NearCacheConfig.usesRedisInvalidationBus(offHeap)).isTrue();
+    }
+
+    @Test
+    @DisplayName("채널을 명시하면 캐시 사용 여부와 관계없이 그대로 따른다")
+    void explicitBusWins() {
+        // given
+        MockEnvironment redis = new MockEnvironment().withProperty("commerce.cache.near.invalidation-bus", "redis");
+        MockEnvironment local = new MockEnvironment()
+                .withProperty("commerce.cache.near.enabled", "true")
+                .withProperty("commerce.cache.near.invalidation-bus", "local");
+
+        // when & then
+        assertThat(NearCacheConfig.usesRedisInvalidationBus(redis)).isTrue();
+        assertThat(NearCacheConfig.usesRedisInvalidationBus(local)).isFalse();
+    }
+}
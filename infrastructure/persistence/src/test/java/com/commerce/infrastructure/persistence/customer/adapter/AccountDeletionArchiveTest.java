@@ -0,0 +1,220 @@
+package com.commerce.infrastructure.persistence.customer.adapter;
+
+import com.commerce.customer.core.domain.model.Account;
+import com.commerce.customer.core.domain.model.AccountId;
+import com.commerce.customer.core.domain.model.Email;
+import com.commerce.infrastructure.persistence.TestApplication;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidationPublisher;
+import com.commerce.infrastructure.persistence.cache.LocalCacheInvalidationBus;
+import com.commerce.infrastructure.persistence.cache.SecondLevelCacheEvictor;
+import com.commerce.infrastructure.persistence.config.TestJpaConfig;
+import com.commerce.infrastructure.persistence.customer.entity.AccountEntity;
+import com.commerce.infrastructure.persistence.customer.entity.DeletedAccountEntity;
+import com.commerce.infrastructure.persistence.customer.mapper.AccountMapper;
+import com.commerce.infrastructure.persistence.customer.repository.AccountJpaRepository;
+import com.commerce.infrastructure.persistence.customer.repository.AccountQueryRepository;
+import com.commerce.infrastructure.persistence.customer.repository.DeletedAccountJpaRepository;
+import com.commerce.infrastructure.persistence.datasource.ReplicaLagGuard;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ContextConfiguration(classes = TestApplication.class)
+@Import({TestJpaConfig.class, AccountQueryRepository.class, AccountMapper.class, SecondLevelCacheEvictor.class,
+    AccountDeletionArchiveTest.ArchiveTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("계정 삭제 보관 테이블 이동 통합 테스트")
+class AccountDeletionArchiveTest {
+
+    @TestConfiguration
+    static class ArchiveTestConfig {
+
+        @Bean
+        AccountRepositoryAdapter accountRepositoryAdapter(AccountJpaRepository accountJpaRepository,
+                                                          AccountQueryRepository accountQueryRepository,
+                                                          AccountMapper accountMapper,
+                                                          SecondLevelCacheEvictor secondLevelCacheEvictor,
+                                                          DeletedAccountJpaRepository deletedAccountJpaRepository) {
+            return new AccountRepositoryAdapter(accountJpaRepository, accountQueryRepository, accountMapper,
+                    ReplicaLagGuard.disabled(), secondLevelCacheEvictor,
+                    new CacheInvalidationPublisher(new LocalCacheInvalidationBus()), deletedAccountJpaRepository);
+        }
+    }
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private DeletedAccountJpaRepository deletedAccountJpaRepository;
+
+    @Autowired
+    private AccountQueryRepository accountQueryRepository;
+
+    @Autowired
+    private AccountRepositoryAdapter adapter;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 삭제 플래그만 남은 행은 엔티티 조회로 지울 수 없으므로 네이티브 쿼리로 정리
+        inTransaction(() -> entityManager.createNativeQuery("DELETE FROM accounts").executeUpdate());
+        inTransaction(() -> {
+            deletedAccountJpaRepository.deleteAll();
+            return null;
+        });
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("삭제한 계정은 보관 테이블로 옮겨지고 live 테이블 조회에서 사라진다")
+    void delete_MovesAccountToArchive() {
+        // Given
+        AccountEntity saved = saveAccount("leave@example.com", 9201L);
+
+        // When
+        inTransaction(() -> {
+            adapter.delete(adapter.findById(AccountId.of(saved.getAccountId())).orElseThrow());
+            return null;
+        });
+
+        // Then
+        assertThat(countLiveRows()).isZero();
+        DeletedAccountEntity archived = inTransaction(() ->
+            deletedAccountJpaRepository.findById(saved.getAccountId()).orElseThrow());
+        assertThat(archived.getEmail()).isEqualTo("leave@example.com");
+        assertThat(archived.getStatus()).isEqualTo(AccountEntity.AccountStatus.DELETED);
+        assertThat(archived.getDeletedAt()).isNotNull();
+        assertThat(inTransaction(() -> adapter.findByEmail(Email.of("leave@example.com")))).isEmpty();
+        assertThat(inTransaction(() -> adapter.existsByEmail(Email.of("leave@example.com")))).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 이메일로 재가입 후 다시 삭제해도 유일 인덱스 충돌 없이 보관된다")
+    void delete_SameEmailTwice() {
+        // Given
+        for (long customerId = 9301L; customerId <= 9302L; customerId++) {
+            AccountEntity saved = saveAccount("again@example.com", customerId);
+            inTransaction(() -> {
+                adapter.delete(adapter.findById(AccountId.of(saved.getAccountId())).orElseThrow());
+                return null;
+            });
+        }
+
+        // When
+        AccountEntity current = saveAccount("again@example.com", 9303L);
+
+        // Then
+        assertThat(inTransaction(() -> deletedAccountJpaRepository.count())).isEqualTo(2L);
+        assertThat(inTransaction(() -> adapter.findByEmail(Email.of("again@example.com"))))
+            .map(Account::getAccountId)
+            .contains(AccountId.of(current.getAccountId()));
+    }
+
+    @Test
+    @DisplayName("이동 전 삭제 플래그가 남은 행은 조건 없이도 엔티티 조회에서 자동 제외된다")
+    void sqlRestriction_HidesFlaggedRows() {
+        // Given
+        AccountEntity flagged = saveAccount("flagged@example.com", 9401L);
+        inTransaction(() -> {
+            accountJpaRepository.findById(flagged.getAccountId()).orElseThrow().markAsDeleted();
+            return null;
+        });
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+
+        // When & Then
+        assertThat(inTransaction(() -> accountJpaRepository.findAll())).isEmpty();
+        assertThat(inTransaction(() -> accountQueryRepository.findByCustomerId(9401L))).isEmpty();
+        assertThat(inTransaction(() -> accountQueryRepository.findById(flagged.getAccountId()))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제 비율이 30%까지 늘어도 live 테이블에는 살아 있는 행만 남고 삭제 행은 보관 테이블로 옮겨진다")
+    void delete_ArchivesRowsAsDeletedRowsGrowTo30Percent() {
+        // Given
+        int total = 1000;
+        List<AccountEntity> accounts = inTransaction(() -> {
+            List<AccountEntity> created = new ArrayList<>(total);
+            for (int i = 0; i < total; i++) {
+                created.add(accountJpaRepository.save(AccountEntity.builder()
+                    .customerId(20_000L + i)
+                    .email("bench" + i + "@example.com")
+                    .password("encoded-password")
+                    .status(AccountEntity.AccountStatus.ACTIVE)
+                    .build()));
+            }
+            return created;
+        });
+        List<String> liveEmails = new ArrayList<>();
+        for (int i = 0; i < total; i++) {
+            if (i % 10 >= 3) {
+                liveEmails.add(accounts.get(i).getEmail());
+            }
+        }
+
+        // When: 10건 중 3건 삭제
+        inTransaction(() -> {
+            for (int i = 0; i < total; i++) {
+                if (i % 10 < 3) {
+                    adapter.delete(adapter.findById(AccountId.of(accounts.get(i).getAccountId())).orElseThrow());
+                }
+            }
+            return null;
+        });
+
+        // Then
+        assertThat(countLiveRows()).isEqualTo(700L);
+        assertThat(inTransaction(() -> deletedAccountJpaRepository.count())).isEqualTo(300L);
+        assertThat(inTransaction(() -> liveEmails.stream()
+            .allMatch(email -> accountQueryRepository.findActiveAccountByEmail(email).isPresent()))).isTrue();
+    }
+
+    // @SQLRestriction을 거치지 않는 네이티브 쿼리로 실제 행 수를 확인
+    private long countLiveRows() {
+        return inTransaction(() -> ((Number) entityManager
+            .createNativeQuery("SELECT COUNT(*) FROM accounts").getSingleResult()).longValue());
+    }
+
+    private AccountEntity saveAccount(String email, Long customerId) {
+        return inTransaction(() -> accountJpaRepository.save(AccountEntity.builder()
+            .customerId(customerId)
+            .email(email)
+            .password("encoded-password")
+            .status(AccountEntity.AccountStatus.ACTIVE)
+            .build()));
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+}
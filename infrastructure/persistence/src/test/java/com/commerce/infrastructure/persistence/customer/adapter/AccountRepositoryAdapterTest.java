@@ -1,14 +1,21 @@
 package com.commerce.infrastructure.persistence.customer.adapter;
 
 import com.commerce.customer.core.domain.model.*;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidationPublisher;
+import com.commerce.infrastructure.persistence.cache.SecondLevelCacheEvictor;
+import com.commerce.infrastructure.persistence.customer.cache.NearCacheKeys;
 import com.commerce.infrastructure.persistence.customer.entity.AccountEntity;
+import com.commerce.infrastructure.persistence.customer.entity.DeletedAccountEntity;
+import com.commerce.infrastructure.persistence.datasource.ReplicaLagGuard;
 import com.commerce.infrastructure.persistence.customer.mapper.AccountMapper;
 import com.commerce.infrastructure.persistence.customer.repository.AccountJpaRepository;
 import com.commerce.infrastructure.persistence.customer.repository.AccountQueryRepository;
+import com.commerce.infrastructure.persistence.customer.repository.DeletedAccountJpaRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -18,8 +25,8 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.times;
@@ -38,6 +45,18 @@ class AccountRepositoryAdapterTest {
     @Mock
     private AccountMapper accountMapper;
 
+    @Mock
+    private ReplicaLagGuard replicaLagGuard;
+
+    @Mock
+    private SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @Mock
+    private DeletedAccountJpaRepository deletedAccountJpaRepository;
+
     @InjectMocks
     private AccountRepositoryAdapter accountRepositoryAdapter;
 
@@ -103,6 +122,9 @@ class AccountRepositoryAdapterTest {
         then(accountJpaRepository).should(times(1)).findById(1L);
         then(accountJpaRepository).should(times(1)).save(testAccountEntity);
         then(accountMapper).should(times(1)).toDomain(testAccountEntity);
+        then(cacheInvalidationPublisher).should().publishAfterCommit(
+                eq(NearCacheKeys.ACCOUNT),
+                eq(NearCacheKeys.accountId(1L)), any());
     }
 
     @Test
@@ -282,15 +304,24 @@ class AccountRepositoryAdapterTest {
     void delete_Success() {
         // Given
         given(accountJpaRepository.findById(1L)).willReturn(Optional.of(testAccountEntity));
-        given(accountJpaRepository.save(testAccountEntity)).willReturn(testAccountEntity);
 
         // When
         accountRepositoryAdapter.delete(testAccount);
 
         // Then
         then(accountJpaRepository).should(times(1)).findById(1L);
-        then(accountJpaRepository).should(times(1)).save(testAccountEntity);
-        // 물리적 삭제 대신 soft delete 확인
-        then(accountJpaRepository).should(never()).deleteById(anyLong());
+        // 삭제된 계정은 보관 테이블로 옮기고 live 테이블에서는 제거
+        ArgumentCaptor<DeletedAccountEntity> archived = ArgumentCaptor.forClass(DeletedAccountEntity.class);
+        then(deletedAccountJpaRepository).should().save(archived.capture());
+        assertThat(archived.getValue().getAccountId()).isEqualTo(testAccountEntity.getAccountId());
+        assertThat(archived.getValue().getEmail()).isEqualTo(testAccountEntity.getEmail());
+        assertThat(archived.getValue().getStatus()).isEqualTo(AccountEntity.AccountStatus.DELETED);
+        assertThat(archived.getValue().getDeletedAt()).isNotNull();
+        then(accountJpaRepository).should().delete(testAccountEntity);
+        then(accountJpaRepository).should(never()).save(any());
+        then(secondLevelCacheEvictor).should().evictAfterCommit(AccountEntity.class, testAccountEntity.getAccountId());
+        then(cacheInvalidationPublisher).should().publishAfterCommit(
+                eq(NearCacheKeys.ACCOUNT),
+                eq(NearCacheKeys.accountEmail(testAccountEntity.getEmail())), any());
     }
 }
\ No newline at end of file
@@ -0,0 +1,192 @@
+package com.commerce.infrastructure.persistence.customer.adapter;
+
+import com.commerce.customer.core.application.retry.OptimisticLockRetryExecutor;
+import com.commerce.customer.core.domain.exception.OptimisticLockConflictException;
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.profile.ContactInfo;
+import com.commerce.customer.core.domain.model.profile.CustomerProfile;
+import com.commerce.customer.core.domain.model.profile.FullName;
+import com.commerce.customer.core.domain.model.profile.PersonalInfo;
+import com.commerce.customer.core.domain.model.profile.PhoneNumber;
+import com.commerce.infrastructure.persistence.TestApplication;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidationPublisher;
+import com.commerce.infrastructure.persistence.cache.LocalCacheInvalidationBus;
+import com.commerce.infrastructure.persistence.config.TestJpaConfig;
+import com.commerce.infrastructure.persistence.customer.entity.CustomerProfileEntity;
+import com.commerce.infrastructure.persistence.customer.mapper.CustomerProfileMapper;
+import com.commerce.infrastructure.persistence.customer.repository.AccountQueryRepository;
+import com.commerce.infrastructure.persistence.customer.repository.CustomerProfileJpaRepository;
+import com.commerce.infrastructure.persistence.customer.repository.CustomerProfileQueryRepository;
+import com.commerce.infrastructure.persistence.datasource.ReplicaLagGuard;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ContextConfiguration(classes = TestApplication.class)
+@Import({TestJpaConfig.class, CustomerProfileQueryRepository.class, AccountQueryRepository.class,
+    CustomerProfileMapper.class, CustomerProfileOptimisticLockTest.LockTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("프로필 낙관적 잠금 통합 테스트")
+class CustomerProfileOptimisticLockTest {
+
+    private static final long CUSTOMER_ID = 9100L;
+
+    @TestConfiguration
+    static class LockTestConfig {
+
+        @Bean
+        CustomerProfileRepositoryAdapter customerProfileRepositoryAdapter(
+                CustomerProfileJpaRepository jpaRepository, CustomerProfileQueryRepository queryRepository,
+                CustomerProfileMapper mapper, AccountQueryRepository accountQueryRepository) {
+            return new CustomerProfileRepositoryAdapter(jpaRepository, queryRepository, mapper,
+                    ReplicaLagGuard.disabled(), new CacheInvalidationPublisher(new LocalCacheInvalidationBus()),
+                    accountQueryRepository);
+        }
+
+        @Bean
+        OptimisticLockRetryExecutor optimisticLockRetryExecutor(PlatformTransactionManager transactionManager) {
+            return new OptimisticLockRetryExecutor(new TransactionTemplate(transactionManager));
+        }
+    }
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CustomerProfileJpaRepository jpaRepository;
+
+    @Autowired
+    private CustomerProfileRepositoryAdapter adapter;
+
+    @Autowired
+    private OptimisticLockRetryExecutor retryExecutor;
+
+    private TransactionTemplate transactionTemplate;
+    private TransactionTemplate concurrentTransaction;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        concurrentTransaction = new TransactionTemplate(transactionManager);
+        concurrentTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        inTransaction(() -> jpaRepository.save(CustomerProfileEntity.builder()
+            .customerId(CUSTOMER_ID)
+            .firstName("길동")
+            .lastName("홍")
+            .primaryPhone("010-1234-5678")
+            .status(CustomerProfileEntity.ProfileStatus.ACTIVE)
+            .build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        inTransaction(() -> {
+            jpaRepository.deleteAll();
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("수정할 때마다 버전이 증가한다")
+    void save_IncrementsVersion() {
+        // Given
+        CustomerProfile profile = inTransaction(() -> adapter.findByCustomerId(CustomerId.of(CUSTOMER_ID)).orElseThrow());
+        assertThat(profile.getVersion()).isZero();
+
+        // When
+        inTransaction(() -> {
+            profile.updateContactInfo(ContactInfo.of(PhoneNumber.ofKorean("010-2222-3333")));
+            return adapter.save(profile);
+        });
+
+        // Then
+        assertThat(inTransaction(() -> jpaRepository.findByCustomerId(CUSTOMER_ID).orElseThrow().getVersion()))
+            .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("먼저 읽어 둔 프로필을 다른 요청이 수정한 뒤 저장하면 충돌 예외가 발생한다")
+    void save_StaleProfileRejected() {
+        // Given
+        CustomerProfile stale = inTransaction(() -> adapter.findByCustomerId(CustomerId.of(CUSTOMER_ID)).orElseThrow());
+        inTransaction(() -> {
+            CustomerProfile current = adapter.findByCustomerId(CustomerId.of(CUSTOMER_ID)).orElseThrow();
+            current.updateContactInfo(ContactInfo.of(PhoneNumber.ofKorean("010-2222-3333")));
+            return adapter.save(current);
+        });
+
+        // When & Then
+        stale.updatePersonalInfo(PersonalInfo.of(FullName.of("철수", "김")));
+        assertThatThrownBy(() -> inTransaction(() -> adapter.save(stale)))
+            .isInstanceOf(OptimisticLockConflictException.class);
+        assertThat(inTransaction(() -> jpaRepository.findByCustomerId(CUSTOMER_ID).orElseThrow().getPrimaryPhone()))
+            .isEqualTo("010-2222-3333");
+    }
+
+    @Test
+    @DisplayName("읽은 뒤 커밋 전에 다른 트랜잭션이 커밋하면 flush 시점에 충돌이 감지된다")
+    void commit_ConcurrentUpdateDetectedOnFlush() {
+        // When & Then
+        assertThatThrownBy(() -> inTransaction(() -> {
+            CustomerProfileEntity entity = jpaRepository.findByCustomerId(CUSTOMER_ID).orElseThrow();
+            updatePhoneConcurrently("010-2222-3333");
+            entity.updateContactInfo("010-4444-5555", null);
+            return entity;
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @Test
+    @DisplayName("충돌한 변경은 재시도 실행기가 최신 상태를 다시 읽어 재적용하므로 두 변경이 모두 남는다")
+    void retryExecutor_ReappliesOnLatestState() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        retryExecutor.run("CustomerProfile", CUSTOMER_ID, () -> {
+            CustomerProfile profile = adapter.findByCustomerId(CustomerId.of(CUSTOMER_ID)).orElseThrow();
+            if (attempts.incrementAndGet() == 1) {
+                // 다른 기기에서 전화번호를 먼저 변경
+                updatePhoneConcurrently("010-2222-3333");
+            }
+            profile.updatePersonalInfo(PersonalInfo.of(FullName.of("철수", "김")));
+            adapter.save(profile);
+        });
+
+        // Then
+        CustomerProfileEntity result = inTransaction(() -> jpaRepository.findByCustomerId(CUSTOMER_ID).orElseThrow());
+        assertThat(attempts).hasValue(2);
+        assertThat(result.getFirstName()).isEqualTo("철수");
+        assertThat(result.getPrimaryPhone()).isEqualTo("010-2222-3333");
+        assertThat(result.getVersion()).isEqualTo(2L);
+    }
+
+    private void updatePhoneConcurrently(String phone) {
+        concurrentTransaction.executeWithoutResult(status ->
+            jpaRepository.findByCustomerId(CUSTOMER_ID).orElseThrow().updateContactInfo(phone, null));
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+}
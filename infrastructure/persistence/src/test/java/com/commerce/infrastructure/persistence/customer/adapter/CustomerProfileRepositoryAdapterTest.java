@@ -2,9 +2,14 @@ package com.commerce.infrastructure.persistence.customer.adapter;
 
 import com.commerce.customer.core.domain.model.CustomerId;
 import com.commerce.customer.core.domain.model.profile.*;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidationPublisher;
+import com.commerce.infrastructure.persistence.customer.cache.NearCacheKeys;
 import com.commerce.infrastructure.persistence.customer.entity.CustomerProfileEntity;
+import com.commerce.infrastructure.persistence.datasource.ReplicaLagGuard;
 import com.commerce.infrastructure.persistence.customer.mapper.CustomerProfileMapper;
+import com.commerce.infrastructure.persistence.customer.repository.AccountQueryRepository;
 import com.commerce.infrastructure.persistence.customer.repository.CustomerProfileJpaRepository;
+import com.commerce.infrastructure.persistence.customer.repository.CustomerProfileQueryRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,14 +33,25 @@ class CustomerProfileRepositoryAdapterTest {
     @Mock
     private CustomerProfileJpaRepository customerProfileJpaRepository;
 
+    @Mock
+    private CustomerProfileQueryRepository customerProfileQueryRepository;
+
     @Mock
     private CustomerProfileMapper customerProfileMapper;
 
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @Mock
+    private AccountQueryRepository accountQueryRepository;
+
     private CustomerProfileRepositoryAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new CustomerProfileRepositoryAdapter(customerProfileJpaRepository, customerProfileMapper);
+        adapter = new CustomerProfileRepositoryAdapter(customerProfileJpaRepository,
+                customerProfileQueryRepository, customerProfileMapper,
+                ReplicaLagGuard.disabled(), cacheInvalidationPublisher, accountQueryRepository);
     }
 
     @Test
@@ -73,6 +89,8 @@ class CustomerProfileRepositoryAdapterTest {
         verify(customerProfileMapper).toEntity(profile);
         verify(customerProfileJpaRepository).save(entity);
         verify(customerProfileMapper).toDomain(savedEntity);
+        verify(cacheInvalidationPublisher).publishAfterCommit(eq(NearCacheKeys.CUSTOMER_PROFILE),
+                eq(NearCacheKeys.customerProfile(123L)), any());
     }
 
     @Test
@@ -156,7 +174,7 @@ class CustomerProfileRepositoryAdapterTest {
         CustomerProfileEntity entity = createTestEntity();
         CustomerProfile profile = createTestProfile();
 
-        when(customerProfileJpaRepository.findByCustomerId(123L)).thenReturn(Optional.of(entity));
+        when(customerProfileQueryRepository.findByCustomerId(123L)).thenReturn(Optional.of(entity));
         when(customerProfileMapper.toDomain(entity)).thenReturn(profile);
 
         // when
@@ -165,7 +183,7 @@ class CustomerProfileRepositoryAdapterTest {
         // then
         assertThat(result).isPresent();
         assertThat(result.get()).isEqualTo(profile);
-        verify(customerProfileJpaRepository).findByCustomerId(123L);
+        verify(customerProfileQueryRepository).findByCustomerId(123L);
         verify(customerProfileMapper).toDomain(entity);
     }
 
@@ -196,6 +214,8 @@ class CustomerProfileRepositoryAdapterTest {
 
         // then
         verify(customerProfileJpaRepository).deleteById(123L);
+        verify(cacheInvalidationPublisher).publishAfterCommit(eq(NearCacheKeys.CUSTOMER_PROFILE),
+                eq(NearCacheKeys.customerProfile(profile.getCustomerId().getValue())), any());
     }
 
     @Test
@@ -247,12 +267,16 @@ class CustomerProfileRepositoryAdapterTest {
     void deleteById_ShouldDeleteProfile() {
         // given
         ProfileId profileId = ProfileId.of(123L);
+        CustomerProfileEntity entity = createTestEntity();
+        when(customerProfileJpaRepository.findById(123L)).thenReturn(Optional.of(entity));
 
         // when
         adapter.deleteById(profileId);
 
         // then
         verify(customerProfileJpaRepository).deleteById(123L);
+        verify(cacheInvalidationPublisher).publishAfterCommit(eq(NearCacheKeys.CUSTOMER_PROFILE),
+                eq(NearCacheKeys.customerProfile(entity.getCustomerId())), any());
     }
 
     @Test
@@ -0,0 +1,285 @@
+package com.commerce.infrastructure.persistence.customer.cache;
+
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.profile.*;
+import com.commerce.customer.core.domain.repository.profile.CustomerProfileRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingCustomerProfileRepository 테스트")
+class CachingCustomerProfileRepositoryTest {
+
+    private static final String PREFIX = "customer-profile:v1:";
+
+    @Mock
+    private CustomerProfileRepository delegate;
+
+    private MutableClock clock;
+    private double randomValue;
+    private InMemoryProfileCacheStore store;
+    private ProfileCacheProperties properties;
+    private CachingCustomerProfileRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        randomValue = 0.5;
+        store = new InMemoryProfileCacheStore(clock);
+        properties = new ProfileCacheProperties();
+        properties.setTtl(Duration.ofMinutes(10));
+        properties.setTtlJitter(Duration.ofMinutes(2));
+        repository = new CachingCustomerProfileRepository(delegate, store, properties, clock, () -> randomValue);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 원본을 조회해 적재하고 이후 조회는 캐시에서 응답한다")
+    void findByCustomerId_LoadsOnMissAndServesFromCacheAfterwards() {
+        // given
+        CustomerId customerId = CustomerId.of(100L);
+        when(delegate.findByCustomerId(customerId)).thenReturn(Optional.of(profile(1L, 100L, ProfileStatus.ACTIVE)));
+
+        // when
+        Optional<CustomerProfile> first = repository.findByCustomerId(customerId);
+        Optional<CustomerProfile> second = repository.findByCustomerId(customerId);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(second).get().extracting(CustomerProfile::getProfileId).isEqualTo(ProfileId.of(1L));
+        assertThat(second.get().getAddresses()).hasSize(1);
+        verify(delegate, times(1)).findByCustomerId(customerId);
+        assertThat(store.setCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("TTL에 지터를 더해 저장한다")
+    void findByCustomerId_AppliesTtlJitter() {
+        // given
+        randomValue = 0.5;
+        when(delegate.findByCustomerId(CustomerId.of(100L))).thenReturn(Optional.of(profile(1L, 100L, ProfileStatus.ACTIVE)));
+
+        // when
+        repository.findByCustomerId(CustomerId.of(100L));
+
+        // then
+        assertThat(store.ttlOf(PREFIX + 100)).isEqualTo(Duration.ofMinutes(11));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 프로필은 캐시에 저장하지 않는다")
+    void findByCustomerId_DoesNotCacheAbsentProfile() {
+        // given
+        when(delegate.findByCustomerId(CustomerId.of(404L))).thenReturn(Optional.empty());
+
+        // when
+        Optional<CustomerProfile> result = repository.findByCustomerId(CustomerId.of(404L));
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(store.setCalls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("만료가 가까우면 재계산 비용에 비례한 확률로 미리 갱신한다")
+    void findByCustomerId_RefreshesEarlyNearExpiry() {
+        // given - 원본 조회에 2초가 걸린다
+        CustomerId customerId = CustomerId.of(100L);
+        when(delegate.findByCustomerId(customerId)).thenAnswer(invocation -> {
+            clock.advance(Duration.ofSeconds(2));
+            return Optional.of(profile(1L, 100L, ProfileStatus.ACTIVE));
+        });
+        properties.setTtlJitter(Duration.ZERO);
+        repository.findByCustomerId(customerId);
+
+        // when - 만료 1초 전, -2s * ln(0.5) ≈ 1.39s 이므로 재계산 대상
+        clock.advance(Duration.ofMinutes(10).minusSeconds(1));
+        repository.findByCustomerId(customerId);
+
+        // then
+        verify(delegate, times(2)).findByCustomerId(customerId);
+        assertThat(store.setCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("만료까지 여유가 있으면 미리 갱신하지 않는다")
+    void findByCustomerId_DoesNotRefreshWhenFarFromExpiry() {
+        // given
+        CustomerId customerId = CustomerId.of(100L);
+        when(delegate.findByCustomerId(customerId)).thenAnswer(invocation -> {
+            clock.advance(Duration.ofSeconds(2));
+            return Optional.of(profile(1L, 100L, ProfileStatus.ACTIVE));
+        });
+        repository.findByCustomerId(customerId);
+
+        // when
+        clock.advance(Duration.ofMinutes(5));
+        repository.findByCustomerId(customerId);
+
+        // then
+        verify(delegate, times(1)).findByCustomerId(customerId);
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 MGET 한 번 후 누락된 고객만 원본에서 조회하고 요청 순서를 유지한다")
+    void findAllByCustomerIds_UsesSingleMultiGetAndLoadsOnlyMisses() {
+        // given
+        when(delegate.findByCustomerId(CustomerId.of(2L))).thenReturn(Optional.of(profile(20L, 2L, ProfileStatus.ACTIVE)));
+        repository.findByCustomerId(CustomerId.of(2L));
+        when(delegate.findAllByCustomerIds(List.of(CustomerId.of(1L), CustomerId.of(3L), CustomerId.of(4L))))
+                .thenReturn(List.of(profile(10L, 1L, ProfileStatus.ACTIVE), profile(30L, 3L, ProfileStatus.ACTIVE)));
+
+        // when
+        List<CustomerProfile> result = repository.findAllByCustomerIds(
+                List.of(CustomerId.of(1L), CustomerId.of(2L), CustomerId.of(3L), CustomerId.of(4L)));
+
+        // then
+        assertThat(result).extracting(CustomerProfile::getCustomerId)
+                .containsExactly(CustomerId.of(1L), CustomerId.of(2L), CustomerId.of(3L));
+        assertThat(store.multiGetCalls).hasValue(1);
+        assertThat(store.contains(PREFIX + 1)).isTrue();
+        assertThat(store.contains(PREFIX + 3)).isTrue();
+        assertThat(store.contains(PREFIX + 4)).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장 시 즉시 제거하고 트랜잭션 종료 후 한 번 더 제거한다")
+    void save_InvalidatesImmediatelyAndAfterCompletion() {
+        // given
+        CustomerProfile profile = profile(1L, 100L, ProfileStatus.ACTIVE);
+        when(delegate.findByCustomerId(CustomerId.of(100L))).thenReturn(Optional.of(profile));
+        when(delegate.save(profile)).thenReturn(profile);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        repository.save(profile);
+        repository.findByCustomerId(CustomerId.of(100L));
+        boolean reloadedBeforeCompletion = store.contains(PREFIX + 100);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        assertThat(reloadedBeforeCompletion).isTrue();
+        assertThat(store.contains(PREFIX + 100)).isFalse();
+        assertThat(store.deleteCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("프로필 ID로 삭제하면 해당 고객의 캐시를 제거한다")
+    void deleteById_InvalidatesCustomerKey() {
+        // given
+        CustomerProfile profile = profile(1L, 100L, ProfileStatus.ACTIVE);
+        when(delegate.findByCustomerId(CustomerId.of(100L))).thenReturn(Optional.of(profile));
+        when(delegate.findById(ProfileId.of(1L))).thenReturn(Optional.of(profile));
+        repository.findByCustomerId(CustomerId.of(100L));
+
+        // when
+        repository.deleteById(ProfileId.of(1L));
+
+        // then
+        verify(delegate).deleteById(ProfileId.of(1L));
+        assertThat(store.contains(PREFIX + 100)).isFalse();
+    }
+
+    @Test
+    @DisplayName("활성 프로필 조회는 캐시 값의 상태로 필터링한다")
+    void findActiveByCustomerId_FiltersCachedStatus() {
+        // given
+        when(delegate.findByCustomerId(CustomerId.of(100L)))
+                .thenReturn(Optional.of(profile(1L, 100L, ProfileStatus.INACTIVE)));
+
+        // when
+        Optional<CustomerProfile> result = repository.findActiveByCustomerId(CustomerId.of(100L));
+
+        // then
+        assertThat(result).isEmpty();
+        verify(delegate, never()).findActiveByCustomerId(any());
+    }
+
+    @Test
+    @DisplayName("캐시 저장소 장애 시 원본 저장소로 우회한다")
+    void findByCustomerId_FallsBackToDelegate_WhenStoreFails() {
+        // given
+        ProfileCacheStore failingStore = mock(ProfileCacheStore.class);
+        when(failingStore.get(any())).thenThrow(new QueryTimeoutException("timeout"));
+        doThrow(new QueryTimeoutException("timeout")).when(failingStore).set(any(), any(), any());
+        repository = new CachingCustomerProfileRepository(delegate, failingStore, properties, clock, () -> randomValue);
+        when(delegate.findByCustomerId(CustomerId.of(100L))).thenReturn(Optional.of(profile(1L, 100L, ProfileStatus.ACTIVE)));
+
+        // when
+        Optional<CustomerProfile> result = repository.findByCustomerId(CustomerId.of(100L));
+
+        // then
+        assertThat(result).isPresent();
+    }
+
+    private CustomerProfile profile(Long profileId, Long customerId, ProfileStatus status) {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        return CustomerProfile.restore(
+                ProfileId.of(profileId),
+                CustomerId.of(customerId),
+                PersonalInfo.of(FullName.of("민수", "김")),
+                ContactInfo.of(PhoneNumber.of("+82", "01012345678")),
+                List.of(Address.restore(AddressId.of(profileId * 10), AddressType.HOME, "집", "06234",
+                        "서울시 강남구 테헤란로 123", null, "101호", null, true, createdAt)),
+                ProfilePreferences.getDefault(),
+                status,
+                createdAt,
+                createdAt);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
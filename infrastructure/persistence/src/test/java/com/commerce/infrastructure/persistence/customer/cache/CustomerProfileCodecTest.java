@@ -0,0 +1,135 @@
+package com.commerce.infrastructure.persistence.customer.cache;
+
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.profile.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("CustomerProfileCodec 테스트")
+class CustomerProfileCodecTest {
+
+    @Test
+    @DisplayName("프로필 애그리게이트를 손실 없이 직렬화/역직렬화한다")
+    void roundTrip_PreservesAggregate() {
+        // given
+        CustomerProfile profile = fullProfile();
+
+        // when
+        CustomerProfile restored = CustomerProfileCodec.decode(CustomerProfileCodec.encode(profile));
+
+        // then
+        assertThat(restored.getProfileId()).isEqualTo(profile.getProfileId());
+        assertThat(restored.getCustomerId()).isEqualTo(profile.getCustomerId());
+        assertThat(restored.getStatus()).isEqualTo(ProfileStatus.SUSPENDED);
+        assertThat(restored.getCreatedAt()).isEqualTo(profile.getCreatedAt());
+        assertThat(restored.getUpdatedAt()).isEqualTo(profile.getUpdatedAt());
+        assertThat(restored.getVersion()).isEqualTo(7L);
+        assertThat(restored.getPersonalInfo().getFullName()).isEqualTo(profile.getPersonalInfo().getFullName());
+        assertThat(restored.getPersonalInfo().getBirthDate().getDate()).isEqualTo(LocalDate.of(1990, 5, 15));
+        assertThat(restored.getPersonalInfo().getGender()).isEqualTo(Gender.FEMALE);
+        assertThat(restored.getPersonalInfo().getProfileImage().getImageUrl()).isEqualTo("https://cdn.example.com/p/1.png");
+        assertThat(restored.getContactInfo().getPrimaryPhone()).isEqualTo(profile.getContactInfo().getPrimaryPhone());
+        assertThat(restored.getContactInfo().getSecondaryPhone()).isEqualTo(profile.getContactInfo().getSecondaryPhone());
+        assertThat(restored.getAddresses())
+                .extracting(Address::getAddressId, Address::getType, Address::getAlias, Address::getRoadAddress,
+                        Address::getJibunAddress, Address::getDeliveryMemo, Address::isDefault, Address::getCreatedAt)
+                .containsExactly(
+                        tuple(AddressId.of(10L), AddressType.HOME, "집", "서울시 강남구 테헤란로 123",
+                                "서울시 강남구 역삼동 123-45", "문 앞에 놓아주세요", true, LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6_000)),
+                        tuple(AddressId.of(11L), AddressType.WORK, "회사", "서울시 중구 세종대로 1",
+                                null, null, false, LocalDateTime.of(2024, 2, 1, 0, 0)));
+        assertThat(restored.getPreferences().getBrandPreferences())
+                .extracting(BrandPreference::getBrandId, BrandPreference::getBrandName, BrandPreference::getLevel)
+                .containsExactly(tuple("B1", "나이키", PreferenceLevel.LOVE), tuple("B2", "아디다스", PreferenceLevel.NEUTRAL));
+        assertThat(restored.getPreferences().getCategoryInterests())
+                .extracting(CategoryInterest::getCategoryName, CategoryInterest::getLevel)
+                .containsExactly(tuple("스포츠", InterestLevel.VERY_HIGH));
+        assertThat(restored.getPreferences().getMarketingConsent().isSmsMarketing()).isTrue();
+        assertThat(restored.getPreferences().getMarketingConsent().getConsentDate())
+                .isEqualTo(profile.getPreferences().getMarketingConsent().getConsentDate());
+        assertThat(restored.getPreferences().getNotificationSettings().isPromotionalOffers()).isTrue();
+        assertThat(restored.getPreferences().getNotificationSettings().isOrderUpdates()).isFalse();
+    }
+
+    @Test
+    @DisplayName("선택 항목이 비어 있는 프로필도 복원한다")
+    void roundTrip_WithOptionalFieldsMissing() {
+        // given
+        CustomerProfile profile = CustomerProfile.restore(
+                ProfileId.of(2L), CustomerId.of(200L),
+                PersonalInfo.of(FullName.of("민수", "김")),
+                ContactInfo.of(PhoneNumber.of("+82", "01012345678")),
+                List.of(), ProfilePreferences.getDefault(), ProfileStatus.ACTIVE,
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 1, 0, 0));
+
+        // when
+        CustomerProfile restored = CustomerProfileCodec.decode(CustomerProfileCodec.encode(profile));
+
+        // then
+        assertThat(restored.getPersonalInfo().getBirthDate()).isNull();
+        assertThat(restored.getPersonalInfo().getGender()).isNull();
+        assertThat(restored.getPersonalInfo().getProfileImage()).isNull();
+        assertThat(restored.getContactInfo().getSecondaryPhone()).isNull();
+        assertThat(restored.getAddresses()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("형식 버전이 다른 값은 null로 처리한다")
+    void decode_ReturnsNull_WhenFormatVersionDiffers() {
+        // given
+        byte[] encoded = CustomerProfileCodec.encode(fullProfile());
+        encoded[0] = (byte) (CustomerProfileCodec.FORMAT_VERSION + 1);
+
+        // when & then
+        assertThat(CustomerProfileCodec.decode(encoded)).isNull();
+    }
+
+    static CustomerProfile fullProfile() {
+        LocalDateTime consentAt = LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_000_000);
+        ProfilePreferences preferences = ProfilePreferences.builder()
+                .brandPreferences(List.of(
+                        BrandPreference.of("B1", "나이키", PreferenceLevel.LOVE),
+                        BrandPreference.of("B2", "아디다스", PreferenceLevel.NEUTRAL)))
+                .categoryInterests(List.of(
+                        CategoryInterest.of("C1", "스포츠", InterestLevel.VERY_HIGH)))
+                .marketingConsent(MarketingConsent.builder()
+                        .emailMarketing(false)
+                        .smsMarketing(true)
+                        .personalizedAds(true)
+                        .consentDate(consentAt)
+                        .lastUpdated(consentAt.plusDays(1))
+                        .build())
+                .notificationSettings(NotificationSettings.builder()
+                        .emailNotification(true)
+                        .smsNotification(false)
+                        .pushNotification(true)
+                        .orderUpdates(false)
+                        .promotionalOffers(true)
+                        .build())
+                .build();
+        return CustomerProfile.restore(
+                ProfileId.of(1L),
+                CustomerId.of(100L),
+                PersonalInfo.of(FullName.of("지은", "이"), BirthDate.restore(LocalDate.of(1990, 5, 15)),
+                        Gender.FEMALE, ProfileImage.restore("https://cdn.example.com/p/1.png")),
+                ContactInfo.of(PhoneNumber.of("+82", "01012345678"), PhoneNumber.of("+82", "01087654321")),
+                List.of(
+                        Address.restore(AddressId.of(10L), AddressType.HOME, "집", "06234", "서울시 강남구 테헤란로 123",
+                                "서울시 강남구 역삼동 123-45", "101동 1001호", "문 앞에 놓아주세요", true,
+                                LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6_000)),
+                        Address.restore(AddressId.of(11L), AddressType.WORK, "회사", "04524", "서울시 중구 세종대로 1",
+                                null, null, null, false, LocalDateTime.of(2024, 2, 1, 0, 0))),
+                preferences,
+                ProfileStatus.SUSPENDED,
+                LocalDateTime.of(2024, 1, 1, 12, 0),
+                LocalDateTime.of(2024, 6, 1, 18, 45, 30),
+                7L);
+    }
+}
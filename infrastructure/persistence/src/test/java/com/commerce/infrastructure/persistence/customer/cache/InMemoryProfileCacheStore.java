@@ -0,0 +1,74 @@
+package com.commerce.infrastructure.persistence.customer.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 Redis 대체 저장소
+ * 지정한 Clock 기준으로 TTL을 적용하고 명령별 호출 횟수를 기록한다.
+ */
+class InMemoryProfileCacheStore implements ProfileCacheStore {
+
+    private final Clock clock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    final AtomicInteger getCalls = new AtomicInteger();
+    final AtomicInteger multiGetCalls = new AtomicInteger();
+    final AtomicInteger setCalls = new AtomicInteger();
+    final AtomicInteger deleteCalls = new AtomicInteger();
+
+    InMemoryProfileCacheStore(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public byte[] get(String key) {
+        getCalls.incrementAndGet();
+        return read(key);
+    }
+
+    @Override
+    public List<byte[]> multiGet(List<String> keys) {
+        multiGetCalls.incrementAndGet();
+        return keys.stream().map(this::read).toList();
+    }
+
+    @Override
+    public void set(String key, byte[] value, Duration ttl) {
+        setCalls.incrementAndGet();
+        entries.put(key, new Entry(value.clone(), clock.millis() + ttl.toMillis()));
+    }
+
+    @Override
+    public void delete(String key) {
+        deleteCalls.incrementAndGet();
+        entries.remove(key);
+    }
+
+    boolean contains(String key) {
+        return read(key) != null;
+    }
+
+    Duration ttlOf(String key) {
+        Entry entry = entries.get(key);
+        return entry != null ? Duration.ofMillis(entry.expiresAt() - clock.millis()) : null;
+    }
+
+    private byte[] read(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= clock.millis()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value().clone();
+    }
+
+    private record Entry(byte[] value, long expiresAt) {
+    }
+}
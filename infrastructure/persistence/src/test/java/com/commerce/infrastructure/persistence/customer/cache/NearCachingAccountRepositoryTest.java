@@ -0,0 +1,143 @@
+package com.commerce.infrastructure.persistence.customer.cache;
+
+import com.commerce.customer.core.domain.model.*;
+import com.commerce.customer.core.domain.repository.AccountRepository;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidation;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidationPublisher;
+import com.commerce.infrastructure.persistence.cache.LocalCacheInvalidationBus;
+import com.commerce.infrastructure.persistence.cache.NearCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NearCachingAccountRepository 테스트")
+class NearCachingAccountRepositoryTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private AccountRepository delegate;
+
+    private LocalCacheInvalidationBus bus;
+    private NearCachingAccountRepository replicaA;
+    private NearCachingAccountRepository replicaB;
+
+    @BeforeEach
+    void setUp() {
+        bus = new LocalCacheInvalidationBus();
+        replicaA = new NearCachingAccountRepository(delegate, nearCache());
+        replicaB = new NearCachingAccountRepository(delegate, nearCache());
+    }
+
+    @Test
+    @DisplayName("조회한 계정을 near cache에서 응답하고 매번 새 인스턴스로 복원한다")
+    void findById_ServesFromNearCache() {
+        // given
+        when(delegate.findById(AccountId.of(1L))).thenReturn(Optional.of(account(AccountStatus.ACTIVE, UPDATED_AT)));
+
+        // when
+        Account first = replicaA.findById(AccountId.of(1L)).orElseThrow();
+        Account second = replicaA.findById(AccountId.of(1L)).orElseThrow();
+
+        // then
+        verify(delegate, times(1)).findById(AccountId.of(1L));
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getEmail()).isEqualTo(first.getEmail());
+        assertThat(second.getPassword()).isEqualTo(first.getPassword());
+        assertThat(second.getActivationCode()).isEqualTo(first.getActivationCode());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 커밋 후 무효화 메시지로 near cache가 갱신된다")
+    void invalidation_FromOtherReplicaRefreshesEntry() {
+        // given
+        when(delegate.findByEmail(Email.of("user@test.com")))
+                .thenReturn(Optional.of(account(AccountStatus.PENDING, UPDATED_AT)))
+                .thenReturn(Optional.of(account(AccountStatus.ACTIVE, UPDATED_AT.plusSeconds(5))));
+        replicaB.findByEmail(Email.of("user@test.com"));
+
+        // when - replica A에서 변경이 커밋됨
+        new CacheInvalidationPublisher(bus).publishAfterCommit(NearCacheKeys.ACCOUNT,
+                NearCacheKeys.accountEmail("user@test.com"),
+                () -> CacheInvalidation.versionOf(UPDATED_AT.plusSeconds(5)));
+        Optional<Account> result = replicaB.findActiveByEmail(Email.of("user@test.com"));
+
+        // then
+        assertThat(result).isPresent();
+        verify(delegate, times(2)).findByEmail(Email.of("user@test.com"));
+    }
+
+    @Test
+    @DisplayName("무효화 이후 이전 버전을 읽어도 near cache에 다시 적재하지 않는다")
+    void staleReadAfterInvalidation_IsNotCached() {
+        // given - 원격 캐시/복제본이 아직 이전 상태를 반환
+        when(delegate.findById(AccountId.of(1L))).thenReturn(Optional.of(account(AccountStatus.PENDING, UPDATED_AT)));
+        bus.publish(new CacheInvalidation(NearCacheKeys.ACCOUNT, NearCacheKeys.accountId(1L),
+                CacheInvalidation.versionOf(UPDATED_AT.plusSeconds(5))));
+
+        // when
+        replicaB.findById(AccountId.of(1L));
+        replicaB.findById(AccountId.of(1L));
+
+        // then
+        verify(delegate, times(2)).findById(AccountId.of(1L));
+    }
+
+    @Test
+    @DisplayName("같은 밀리초의 변경 무효화가 조회 도중 도착하면 읽은 값을 적재하지 않는다")
+    void sameVersionInvalidationDuringLoad_IsNotCached() {
+        // given - 조회가 앞선 변경을 읽는 사이 같은 밀리초에 커밋된 다음 변경의 무효화가 도착
+        when(delegate.findById(AccountId.of(1L))).thenAnswer(invocation -> {
+            bus.publish(new CacheInvalidation(NearCacheKeys.ACCOUNT, NearCacheKeys.accountId(1L),
+                    CacheInvalidation.versionOf(UPDATED_AT)));
+            return Optional.of(account(AccountStatus.PENDING, UPDATED_AT));
+        });
+
+        // when
+        replicaB.findById(AccountId.of(1L));
+        replicaB.findById(AccountId.of(1L));
+
+        // then
+        verify(delegate, times(2)).findById(AccountId.of(1L));
+    }
+
+    @Test
+    @DisplayName("저장하면 현재 인스턴스의 ID/이메일 항목을 즉시 제거한다")
+    void save_EvictsLocalEntries() {
+        // given
+        Account account = account(AccountStatus.PENDING, UPDATED_AT);
+        when(delegate.findById(AccountId.of(1L))).thenReturn(Optional.of(account));
+        when(delegate.save(account)).thenReturn(account);
+        replicaA.findById(AccountId.of(1L));
+
+        // when
+        replicaA.save(account);
+        replicaA.findById(AccountId.of(1L));
+
+        // then
+        verify(delegate, times(2)).findById(AccountId.of(1L));
+    }
+
+    private NearCache<AccountSnapshot> nearCache() {
+        NearCache<AccountSnapshot> nearCache = new NearCache<>(NearCacheKeys.ACCOUNT, 100, Duration.ofMinutes(1));
+        nearCache.subscribeTo(bus);
+        return nearCache;
+    }
+
+    private Account account(AccountStatus status, LocalDateTime updatedAt) {
+        return Account.restore(AccountId.of(1L), CustomerId.of(100L), Email.of("user@test.com"),
+                Password.ofEncoded("$2a$10$encoded"), status, UPDATED_AT.minusDays(1), updatedAt, null,
+                ActivationCode.restore("ABC123", UPDATED_AT.plusDays(1)));
+    }
+}
@@ -0,0 +1,272 @@
+package com.commerce.infrastructure.persistence.customer.dormancy;
+
+import com.commerce.customer.core.domain.event.AccountDormantEvent;
+import com.commerce.customer.core.domain.event.DomainEventPublisher;
+import com.commerce.customer.core.domain.model.AccountId;
+import com.commerce.infrastructure.persistence.TestApplication;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidation;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidationPublisher;
+import com.commerce.infrastructure.persistence.cache.LocalCacheInvalidationBus;
+import com.commerce.infrastructure.persistence.config.TestJpaConfig;
+import com.commerce.infrastructure.persistence.customer.entity.AccountEntity;
+import com.commerce.infrastructure.persistence.customer.entity.AccountEntity.AccountStatus;
+import com.commerce.infrastructure.persistence.customer.repository.AccountJpaRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@ContextConfiguration(classes = TestApplication.class)
+@Import(TestJpaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("휴면 전환 배치 통합 테스트")
+class DormantAccountBatchTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JPAQueryFactory queryFactory;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    private TransactionTemplate transactionTemplate;
+    private DormancyProperties properties;
+    private DomainEventPublisher domainEventPublisher;
+    private List<CacheInvalidation> invalidations;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        properties = new DormancyProperties();
+        properties.setChunkSize(3);
+        properties.setFetchSize(2);
+        properties.setReportInterval(4);
+        domainEventPublisher = mock(DomainEventPublisher.class);
+        when(domainEventPublisher.publish(anyList())).thenReturn(CompletableFuture.completedFuture(null));
+        invalidations = new ArrayList<>();
+        applyMigratedAccountStatusConstraint();
+    }
+
+    @AfterEach
+    void tearDown() {
+        inTransaction(() -> {
+            accountJpaRepository.deleteAll();
+            return null;
+        });
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("1년 넘게 로그인하지 않은 활성 계정만 휴면 전환하고 청크 단위로 이벤트를 발행한다")
+    void run_TransitionsInactiveAccountsInChunks() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> dormantIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            dormantIds.add(saveAccount(9900L + i, AccountStatus.ACTIVE, now.minusDays(400 + i)).getAccountId());
+        }
+        AccountEntity recent = saveAccount(9910L, AccountStatus.ACTIVE, now.minusDays(10));
+        AccountEntity suspended = saveAccount(9911L, AccountStatus.SUSPENDED, now.minusDays(500));
+        AccountEntity neverLoggedIn = saveAccount(9912L, AccountStatus.ACTIVE, null);
+
+        // When
+        DormancyRunResult result = batch(Clock.systemDefaultZone()).run();
+
+        // Then
+        assertThat(result.scanned()).isEqualTo(5L);
+        assertThat(result.transitioned()).isEqualTo(5L);
+        assertThat(result.chunks()).isEqualTo(2);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AccountDormantEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(domainEventPublisher, times(2)).publish(events.capture());
+        assertThat(events.getAllValues()).extracting(List::size).containsExactly(3, 2);
+        // last_login_at 오래된 순서로 스트리밍
+        assertThat(events.getAllValues().get(0))
+            .extracting(AccountDormantEvent::getAccountId)
+            .containsExactly(AccountId.of(dormantIds.get(4)), AccountId.of(dormantIds.get(3)), AccountId.of(dormantIds.get(2)));
+
+        List<AccountEntity> accounts = inTransaction(() -> accountJpaRepository.findAll());
+        assertThat(accounts).filteredOn(account -> dormantIds.contains(account.getAccountId()))
+            .allSatisfy(account -> {
+                assertThat(account.getStatus()).isEqualTo(AccountStatus.DORMANT);
+                assertThat(account.getVersion()).isEqualTo(1L);
+            });
+        assertThat(statusOf(recent)).isEqualTo(AccountStatus.ACTIVE);
+        assertThat(statusOf(suspended)).isEqualTo(AccountStatus.SUSPENDED);
+        assertThat(statusOf(neverLoggedIn)).isEqualTo(AccountStatus.ACTIVE);
+        assertThat(invalidations).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("마이그레이션의 계정 상태 제약은 도메인의 모든 상태를 허용한다")
+    void migratedStatusConstraint_AcceptsEveryStatus() {
+        // Given
+        AccountStatus[] statuses = AccountStatus.values();
+
+        // When
+        for (int i = 0; i < statuses.length; i++) {
+            saveAccount(9950L + i, statuses[i], null);
+        }
+
+        // Then
+        assertThat(inTransaction(() -> accountJpaRepository.findAll())).hasSize(statuses.length);
+    }
+
+    @Test
+    @DisplayName("로그인 기록이 없는 계정은 가입 일시를 기준으로 판단한다")
+    void run_UsesCreatedAtWhenNeverLoggedIn() {
+        // Given
+        AccountEntity neverLoggedIn = saveAccount(9920L, AccountStatus.ACTIVE, null);
+
+        // When
+        DormancyRunResult result = batch(Clock.offset(Clock.systemDefaultZone(), Duration.ofDays(366))).run();
+
+        // Then
+        assertThat(result.transitioned()).isEqualTo(1L);
+        assertThat(statusOf(neverLoggedIn)).isEqualTo(AccountStatus.DORMANT);
+    }
+
+    @Test
+    @DisplayName("이벤트 발행에 실패하면 해당 청크의 전환을 롤백하고 중단한다")
+    void run_RollsBackChunkWhenPublishFails() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        List<AccountEntity> accounts = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            accounts.add(saveAccount(9930L + i, AccountStatus.ACTIVE, now.minusDays(400)));
+        }
+        doThrow(new IllegalStateException("broker unavailable"))
+            .when(domainEventPublisher).publish(anyList());
+
+        // When & Then
+        assertThatThrownBy(() -> batch(Clock.systemDefaultZone()).run())
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(accounts).allSatisfy(account -> assertThat(statusOf(account)).isEqualTo(AccountStatus.ACTIVE));
+        assertThat(invalidations).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다시 실행해도 이미 휴면 전환된 계정은 후보에서 제외된다")
+    void run_IsIdempotent() {
+        // Given
+        saveAccount(9940L, AccountStatus.ACTIVE, LocalDateTime.now().minusDays(400));
+        DormantAccountBatch batch = batch(Clock.systemDefaultZone());
+        batch.run();
+
+        // When
+        DormancyRunResult second = batch.run();
+
+        // Then
+        assertThat(second.scanned()).isZero();
+        verify(domainEventPublisher, times(1)).publish(anyList());
+    }
+
+    private DormantAccountBatch batch(Clock clock) {
+        LocalCacheInvalidationBus bus = new LocalCacheInvalidationBus();
+        bus.subscribe(invalidations::add);
+        return new DormantAccountBatch(entityManager.getEntityManagerFactory().unwrap(SessionFactory.class),
+            queryFactory, transactionTemplate, domainEventPublisher, new CacheInvalidationPublisher(bus),
+            properties, clock);
+    }
+
+    /**
+     * 엔티티로 만든 스키마에는 마이그레이션의 CHECK 제약이 없으므로, 가장 최근 마이그레이션의
+     * chk_account_status 정의를 그대로 적용하여 배치의 UPDATE가 운영 스키마에서도 허용되는지 확인한다.
+     */
+    private void applyMigratedAccountStatusConstraint() {
+        String constraint = latestAccountStatusConstraint();
+        inTransaction(() -> {
+            entityManager.createNativeQuery("ALTER TABLE accounts DROP CONSTRAINT IF EXISTS chk_account_status")
+                .executeUpdate();
+            return entityManager.createNativeQuery(constraint).executeUpdate();
+        });
+    }
+
+    private static String latestAccountStatusConstraint() {
+        try {
+            Resource[] migrations = new PathMatchingResourcePatternResolver()
+                .getResources("classpath:db/migration/V*__*.sql");
+            return Arrays.stream(migrations)
+                .sorted(Comparator.comparingInt(DormantAccountBatchTest::migrationVersion).reversed())
+                .flatMap(migration -> Arrays.stream(read(migration).split(";")))
+                .map(statement -> statement.replaceAll("(?m)^\\s*--.*$", "").trim())
+                .filter(statement -> statement.contains("ADD CONSTRAINT chk_account_status"))
+                .findFirst()
+                .orElseThrow();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int migrationVersion(Resource migration) {
+        return Integer.parseInt(migration.getFilename().replaceAll("^V(\\d+)__.*", "$1"));
+    }
+
+    private static String read(Resource migration) {
+        try {
+            return migration.getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private AccountStatus statusOf(AccountEntity account) {
+        return inTransaction(() -> accountJpaRepository.findById(account.getAccountId()).orElseThrow().getStatus());
+    }
+
+    private AccountEntity saveAccount(Long customerId, AccountStatus status, LocalDateTime lastLoginAt) {
+        return inTransaction(() -> accountJpaRepository.save(AccountEntity.builder()
+            .customerId(customerId)
+            .email("dormancy" + customerId + "@example.com")
+            .password("encoded-password")
+            .status(status)
+            .lastLoginAt(lastLoginAt)
+            .build()));
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+}
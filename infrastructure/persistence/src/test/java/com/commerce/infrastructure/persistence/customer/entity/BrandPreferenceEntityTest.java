@@ -107,6 +107,23 @@ class BrandPreferenceEntityTest {
         assertThat(levels[2]).isEqualTo(BrandPreferenceEntity.PreferenceLevel.DISLIKE);
     }
 
+    @Test
+    @DisplayName("선호도 레벨 변경 시 정렬용 순위도 함께 갱신된다")
+    void updatePreferenceLevel_UpdatesRank() {
+        // Given
+        BrandPreferenceEntity preference = BrandPreferenceEntity.builder()
+            .brandName("Adidas")
+            .preferenceLevel(BrandPreferenceEntity.PreferenceLevel.LIKE)
+            .build();
+
+        // When
+        preference.updatePreferenceLevel(BrandPreferenceEntity.PreferenceLevel.LOVE);
+
+        // Then
+        assertThat(preference.getPreferenceRank()).isEqualTo(1);
+        assertThat(BrandPreferenceEntity.PreferenceLevel.LIKE.getRank()).isGreaterThan(preference.getPreferenceRank());
+    }
+
     @Test
     @DisplayName("기본 생성자는 protected로 접근이 제한된다")
     void protectedNoArgsConstructor() {
@@ -107,6 +107,23 @@ class CategoryInterestEntityTest {
         assertThat(levels[2]).isEqualTo(CategoryInterestEntity.InterestLevel.LOW);
     }
 
+    @Test
+    @DisplayName("관심도 레벨 변경 시 정렬용 순위도 함께 갱신된다")
+    void updateInterestLevel_UpdatesRank() {
+        // Given
+        CategoryInterestEntity interest = CategoryInterestEntity.builder()
+            .categoryName("패션")
+            .interestLevel(CategoryInterestEntity.InterestLevel.LOW)
+            .build();
+
+        // When
+        interest.updateInterestLevel(CategoryInterestEntity.InterestLevel.HIGH);
+
+        // Then
+        assertThat(interest.getInterestRank()).isEqualTo(1);
+        assertThat(CategoryInterestEntity.InterestLevel.LOW.getRank()).isGreaterThan(interest.getInterestRank());
+    }
+
     @Test
     @DisplayName("기본 생성자는 protected로 접근이 제한된다")
     void protectedNoArgsConstructor() {
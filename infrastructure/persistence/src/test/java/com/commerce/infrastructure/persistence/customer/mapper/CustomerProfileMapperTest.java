@@ -10,9 +10,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -148,8 +148,8 @@ class CustomerProfileMapperTest {
     }
 
     @Test
-    @DisplayName("ProfileId가 있는 엔티티를 변환할 때 리플렉션을 사용하여 ProfileId를 설정한다")
-    void toDomain_ShouldSetProfileIdUsingReflection() {
+    @DisplayName("ProfileId가 있는 엔티티를 변환할 때 저장된 ProfileId를 그대로 사용한다")
+    void toDomain_ShouldRestoreStoredProfileId() {
         // given
         CustomerProfileEntity entity = createMinimalEntity();
         // Use reflection to set profileId for testing
@@ -183,8 +183,46 @@ class CustomerProfileMapperTest {
 
         // then
         assertThat(profile).isNotNull();
-        // Address는 ProfilePreferences가 아닌 별도로 관리됨
-        // Mapper 테스트에서는 매핑 로직이 정상 동작하는지 확인
+        assertThat(profile.getAddresses()).hasSize(1);
+        Address address = profile.getAddresses().get(0);
+        assertThat(address.getType()).isEqualTo(AddressType.HOME);
+        assertThat(address.getAlias()).isEqualTo("집");
+        assertThat(address.getZipCode()).isEqualTo("12345");
+        assertThat(address.getRoadAddress()).isEqualTo("서울시 강남구 테헤란로 123");
+        assertThat(address.isDefault()).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장된 생년월일과 이미지 URL은 현재 검증 규칙과 무관하게 복원된다")
+    void toDomain_ShouldRestoreStoredValuesWithoutRevalidation() {
+        // given
+        CustomerProfileEntity entity = CustomerProfileEntity.builder()
+                .customerId(123L)
+                .firstName("John")
+                .lastName("Doe")
+                .primaryPhone("01012345678")
+                .birthDate(LocalDate.now().minusYears(121))
+                .profileImageUrl("https://cdn.example.com/profile/123")
+                .status(CustomerProfileEntity.ProfileStatus.SUSPENDED)
+                .emailMarketingConsent(false)
+                .smsMarketingConsent(false)
+                .pushMarketingConsent(false)
+                .orderNotifications(false)
+                .promotionNotifications(false)
+                .accountNotifications(false)
+                .reviewNotifications(false)
+                .build();
+        entity.getAddresses().add(createAddressEntity());
+
+        // when
+        CustomerProfile profile = mapper.toDomain(entity);
+
+        // then
+        assertThat(profile.getStatus()).isEqualTo(ProfileStatus.SUSPENDED);
+        assertThat(profile.getPersonalInfo().getBirthDate().getDate()).isEqualTo(entity.getBirthDate());
+        assertThat(profile.getPersonalInfo().getProfileImage().getImageUrl())
+                .isEqualTo("https://cdn.example.com/profile/123");
+        assertThat(profile.getAddresses()).hasSize(1);
     }
 
     @Test
@@ -0,0 +1,116 @@
+package com.commerce.infrastructure.persistence.customer.offheap;
+
+import com.commerce.common.offheap.SegmentAllocator;
+import com.commerce.infrastructure.persistence.customer.entity.CustomerProfileEntity;
+import com.commerce.infrastructure.persistence.customer.repository.CustomerProfileQueryRepository;
+import com.commerce.infrastructure.persistence.customer.repository.ProfileSnapshotRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OffHeapProfileLoader 테스트")
+class OffHeapProfileLoaderTest {
+
+    @Mock
+    private CustomerProfileQueryRepository customerProfileQueryRepository;
+
+    private OffHeapProfileStore store;
+    private OffHeapProfileLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        store = new OffHeapProfileStore(SegmentAllocator.direct(), 4096, 16);
+        loader = new OffHeapProfileLoader(customerProfileQueryRepository, store,
+                TransactionOperations.withoutTransaction(), 100, 0.5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    @DisplayName("변경 통지를 받으면 현재 스냅샷을 다시 읽어 기록한다")
+    void refresh_PutsCurrentSnapshot() {
+        // given
+        when(customerProfileQueryRepository.streamSnapshotRows(100)).thenReturn(Stream.of(row(100L, "민수")));
+        loader.load();
+        when(customerProfileQueryRepository.findSnapshotRowByCustomerId(100L)).thenReturn(Optional.of(row(100L, "민준")));
+
+        // when
+        loader.refresh(100L);
+
+        // then
+        OffHeapProfileRecord view = new OffHeapProfileRecord();
+        assertThat(store.read(100L, view)).isTrue();
+        assertThat(view.string(ProfileSnapshotField.FIRST_NAME)).isEqualTo("민준");
+    }
+
+    @Test
+    @DisplayName("적재 이후 생성된 고객도 변경 통지로 저장소에 추가된다")
+    void refresh_AddsNewCustomer() {
+        // given
+        when(customerProfileQueryRepository.findSnapshotRowByCustomerId(200L)).thenReturn(Optional.of(row(200L, "영희")));
+
+        // when
+        loader.refresh(200L);
+
+        // then
+        assertThat(store.contains(200L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("프로필이 삭제되었거나 다시 읽지 못하면 스냅샷을 내린다")
+    void refresh_RemovesWhenMissingOrFailed() {
+        // given
+        when(customerProfileQueryRepository.streamSnapshotRows(100))
+                .thenReturn(Stream.of(row(100L, "민수"), row(200L, "영희")));
+        loader.load();
+        when(customerProfileQueryRepository.findSnapshotRowByCustomerId(100L)).thenReturn(Optional.empty());
+        when(customerProfileQueryRepository.findSnapshotRowByCustomerId(200L))
+                .thenThrow(new IllegalStateException("connection refused"));
+
+        // when
+        loader.refresh(100L);
+        loader.refresh(200L);
+
+        // then
+        assertThat(store.contains(100L)).isFalse();
+        assertThat(store.contains(200L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("전체 적재 중 변경된 고객은 적재가 끝난 뒤 다시 갱신한다")
+    void load_RefreshesCustomersChangedDuringLoad() {
+        // given - 적재가 100번 고객의 이전 행을 읽은 사이 변경이 커밋되어 갱신이 먼저 기록됨
+        when(customerProfileQueryRepository.findSnapshotRowByCustomerId(100L)).thenReturn(Optional.of(row(100L, "민준")));
+        when(customerProfileQueryRepository.streamSnapshotRows(100)).thenReturn(Stream.of(row(100L, "민수"))
+                .peek(row -> loader.refresh(100L)));
+
+        // when
+        long loaded = loader.load();
+
+        // then
+        OffHeapProfileRecord view = new OffHeapProfileRecord();
+        store.read(100L, view);
+        assertThat(loaded).isEqualTo(1);
+        assertThat(view.string(ProfileSnapshotField.FIRST_NAME)).isEqualTo("민준");
+    }
+
+    private ProfileSnapshotRow row(Long customerId, String firstName) {
+        return new ProfileSnapshotRow(customerId, customerId, firstName, "김", "01012345678",
+                CustomerProfileEntity.ProfileStatus.ACTIVE, true, false, false, null, null, null);
+    }
+}
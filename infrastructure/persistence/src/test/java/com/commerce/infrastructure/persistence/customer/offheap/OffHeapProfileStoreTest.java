@@ -0,0 +1,254 @@
+package com.commerce.infrastructure.persistence.customer.offheap;
+
+import com.commerce.common.offheap.SegmentAllocator;
+import com.commerce.customer.core.domain.model.profile.ProfileStatus;
+import com.commerce.infrastructure.persistence.customer.entity.CustomerProfileEntity;
+import com.commerce.infrastructure.persistence.customer.repository.ProfileSnapshotRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OffHeapProfileStore 테스트")
+class OffHeapProfileStoreTest {
+
+    @Test
+    @DisplayName("저장한 스냅샷의 필드를 레코드 뷰로 읽는다")
+    void put_ThenRead() {
+        // given
+        try (OffHeapProfileStore store = new OffHeapProfileStore(SegmentAllocator.direct(), 4096, 16)) {
+            store.put(row(1L, 100L, "민수", "김", "서울시 강남구 테헤란로 123", true));
+            OffHeapProfileRecord view = new OffHeapProfileRecord();
+
+            // when
+            boolean found = store.read(100L, view);
+
+            // then
+            assertThat(found).isTrue();
+            assertThat(view.profileId()).isEqualTo(1L);
+            assertThat(view.customerId()).isEqualTo(100L);
+            assertThat(view.status()).isEqualTo(ProfileStatus.ACTIVE);
+            assertThat(view.string(ProfileSnapshotField.FIRST_NAME)).isEqualTo("민수");
+            assertThat(view.string(ProfileSnapshotField.LAST_NAME)).isEqualTo("김");
+            assertThat(view.string(ProfileSnapshotField.PRIMARY_PHONE)).isEqualTo("01012345678");
+            assertThat(view.string(ProfileSnapshotField.ROAD_ADDRESS)).isEqualTo("서울시 강남구 테헤란로 123");
+            assertThat(view.string(ProfileSnapshotField.DETAIL_ADDRESS)).isEqualTo("101호");
+            assertThat(view.emailMarketingConsent()).isTrue();
+            assertThat(view.smsMarketingConsent()).isFalse();
+            assertThat(view.pushMarketingConsent()).isTrue();
+            assertThat(view.hasDefaultAddress()).isTrue();
+            assertThat(store.read(999L, view)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("문자열 필드는 복사 없이 읽기 전용 바이트 뷰로 제공한다")
+    void bytes_ReturnsReadOnlyView() {
+        // given
+        try (OffHeapProfileStore store = new OffHeapProfileStore(SegmentAllocator.direct(), 4096, 16)) {
+            store.put(row(1L, 100L, "민수", "김", null, false));
+            OffHeapProfileRecord view = new OffHeapProfileRecord();
+            store.read(100L, view);
+
+            // when
+            ByteBuffer firstName = view.bytes(ProfileSnapshotField.FIRST_NAME);
+            ByteBuffer roadAddress = view.bytes(ProfileSnapshotField.ROAD_ADDRESS);
+
+            // then
+            assertThat(firstName.isDirect()).isTrue();
+            assertThat(firstName.isReadOnly()).isTrue();
+            assertThat(StandardCharsets.UTF_8.decode(firstName).toString()).isEqualTo("민수");
+            assertThat(roadAddress.remaining()).isZero();
+            assertThat(view.hasDefaultAddress()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("갱신하면 새 레코드를 가리키고 이전 레코드는 stale 바이트로 집계한다")
+    void put_ReplacesExistingCustomer() {
+        // given
+        try (OffHeapProfileStore store = new OffHeapProfileStore(SegmentAllocator.direct(), 4096, 16)) {
+            store.put(row(1L, 100L, "민수", "김", null, false));
+            OffHeapProfileRecord before = new OffHeapProfileRecord();
+            store.read(100L, before);
+            int previousLength = before.recordLength();
+
+            // when
+            store.put(row(1L, 100L, "민준", "김", null, false));
+
+            // then
+            OffHeapProfileRecord after = new OffHeapProfileRecord();
+            store.read(100L, after);
+            assertThat(after.string(ProfileSnapshotField.FIRST_NAME)).isEqualTo("민준");
+            assertThat(before.string(ProfileSnapshotField.FIRST_NAME)).isEqualTo("민수");
+            assertThat(store.size()).isEqualTo(1);
+            assertThat(store.footprint().staleDataBytes()).isEqualTo(previousLength);
+        }
+    }
+
+    @Test
+    @DisplayName("삭제 후 다시 저장하고, 삭제된 슬롯을 지나 뒤의 키를 찾는다")
+    void remove_ThenReinsert() {
+        // given
+        try (OffHeapProfileStore store = new OffHeapProfileStore(SegmentAllocator.direct(), 4096, 16)) {
+            for (long customerId = 1; customerId <= 20; customerId++) {
+                store.put(row(customerId, customerId, "고객" + customerId, "김", null, false));
+            }
+
+            // when
+            boolean removed = store.remove(5L);
+            boolean removedAgain = store.remove(5L);
+
+            // then
+            assertThat(removed).isTrue();
+            assertThat(removedAgain).isFalse();
+            assertThat(store.contains(5L)).isFalse();
+            assertThat(store.size()).isEqualTo(19);
+            for (long customerId = 1; customerId <= 20; customerId++) {
+                assertThat(store.contains(customerId)).isEqualTo(customerId != 5L);
+            }
+            store.put(row(5L, 5L, "복귀", "김", null, false));
+            assertThat(store.contains(5L)).isTrue();
+            assertThat(store.size()).isEqualTo(20);
+        }
+    }
+
+    @Test
+    @DisplayName("인덱스 확장과 세그먼트 추가를 거쳐도 모든 고객을 찾는다")
+    void put_GrowsIndexAndSegments() {
+        // given
+        int count = 50_000;
+        try (OffHeapProfileStore store = new OffHeapProfileStore(SegmentAllocator.direct(), 64 * 1024, 16)) {
+
+            // when
+            for (long customerId = 1; customerId <= count; customerId++) {
+                store.put(row(customerId, customerId * 7, "고객" + customerId, "김", "서울시 중구 세종대로 " + customerId, true));
+            }
+
+            // then
+            OffHeapProfileRecord view = new OffHeapProfileRecord();
+            for (long customerId = 1; customerId <= count; customerId++) {
+                assertThat(store.read(customerId * 7, view)).isTrue();
+                assertThat(view.profileId()).isEqualTo(customerId);
+            }
+            MemoryFootprint footprint = store.footprint();
+            assertThat(footprint.entries()).isEqualTo(count);
+            assertThat(footprint.reservedBytes()).isGreaterThan(64 * 1024);
+        }
+    }
+
+    @Test
+    @DisplayName("프로필 1건당 메모리 사용량은 레코드와 인덱스 슬롯을 합쳐 200바이트 미만이다")
+    void footprint_PerEntry() {
+        // given
+        int count = 10_000;
+        try (OffHeapProfileStore store = new OffHeapProfileStore(SegmentAllocator.direct(), 1024 * 1024, count)) {
+            for (long customerId = 1; customerId <= count; customerId++) {
+                store.put(row(customerId, customerId, "민수", "김", "서울시 강남구 테헤란로 123", true));
+            }
+
+            // when
+            MemoryFootprint footprint = store.footprint();
+
+            // then
+            assertThat(footprint.averageRecordBytes()).isLessThan(128);
+            assertThat(footprint.bytesPerEntry()).isLessThan(200);
+        }
+    }
+
+    @Test
+    @DisplayName("메모리 맵 파일 세그먼트에 저장한다")
+    void memoryMapped_WritesSegmentFiles(@TempDir Path directory) {
+        // given
+        try (OffHeapProfileStore store = new OffHeapProfileStore(SegmentAllocator.memoryMapped(directory, "profiles"), 4096, 16)) {
+
+            // when
+            store.put(row(1L, 100L, "민수", "김", null, false));
+
+            // then
+            OffHeapProfileRecord view = new OffHeapProfileRecord();
+            assertThat(store.read(100L, view)).isTrue();
+            assertThat(view.string(ProfileSnapshotField.FIRST_NAME)).isEqualTo("민수");
+            assertThat(Files.exists(directory.resolve("profiles-0.seg"))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("압축하면 유효한 레코드만 새 세그먼트로 옮기고 stale 바이트를 회수한다")
+    void compact_ReclaimsStaleBytes() {
+        // given
+        try (OffHeapProfileStore store = new OffHeapProfileStore(SegmentAllocator.direct(), 4096, 16)) {
+            for (int round = 0; round < 50; round++) {
+                for (long customerId = 1; customerId <= 10; customerId++) {
+                    store.put(row(customerId, customerId, "고객" + round, "김", "서울시 중구 세종대로 " + round, true));
+                }
+            }
+            store.remove(10L);
+            OffHeapProfileRecord boundBefore = new OffHeapProfileRecord();
+            store.read(1L, boundBefore);
+            MemoryFootprint before = store.footprint();
+
+            // when
+            boolean compacted = store.compactIfNeeded(0.5);
+
+            // then
+            MemoryFootprint after = store.footprint();
+            assertThat(compacted).isTrue();
+            assertThat(after.staleDataBytes()).isZero();
+            assertThat(after.liveDataBytes()).isEqualTo(before.liveDataBytes());
+            assertThat(after.reservedBytes()).isLessThan(before.reservedBytes());
+            assertThat(store.size()).isEqualTo(9);
+            assertThat(store.contains(10L)).isFalse();
+            OffHeapProfileRecord view = new OffHeapProfileRecord();
+            for (long customerId = 1; customerId <= 9; customerId++) {
+                assertThat(store.read(customerId, view)).isTrue();
+                assertThat(view.string(ProfileSnapshotField.FIRST_NAME)).isEqualTo("고객49");
+            }
+            assertThat(boundBefore.string(ProfileSnapshotField.FIRST_NAME)).isEqualTo("고객49");
+            assertThat(store.compactIfNeeded(0.5)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("압축 후 이전 메모리 맵 세그먼트 파일을 지우고 새 번호로 파일을 만든다")
+    void compact_ReleasesMemoryMappedSegments(@TempDir Path directory) {
+        // given
+        try (OffHeapProfileStore store = new OffHeapProfileStore(SegmentAllocator.memoryMapped(directory, "profiles"), 4096, 16)) {
+            store.put(row(1L, 100L, "민수", "김", null, false));
+            store.put(row(1L, 100L, "민준", "김", null, false));
+
+            // when
+            store.compact();
+
+            // then
+            OffHeapProfileRecord view = new OffHeapProfileRecord();
+            assertThat(store.read(100L, view)).isTrue();
+            assertThat(view.string(ProfileSnapshotField.FIRST_NAME)).isEqualTo("민준");
+            assertThat(Files.exists(directory.resolve("profiles-0.seg"))).isFalse();
+            assertThat(Files.exists(directory.resolve("profiles-1.seg"))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("양수가 아닌 고객 ID는 저장할 수 없다")
+    void put_RejectsNonPositiveCustomerId() {
+        try (OffHeapProfileStore store = new OffHeapProfileStore(SegmentAllocator.direct(), 4096, 16)) {
+            assertThatThrownBy(() -> store.put(row(1L, 0L, "민수", "김", null, false)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private ProfileSnapshotRow row(Long profileId, Long customerId, String firstName, String lastName,
+                                   String roadAddress, boolean emailConsent) {
+        return new ProfileSnapshotRow(profileId, customerId, firstName, lastName, "01012345678",
+                CustomerProfileEntity.ProfileStatus.ACTIVE, emailConsent, false, true,
+                roadAddress != null ? "06234" : null, roadAddress, roadAddress != null ? "101호" : null);
+    }
+}
@@ -0,0 +1,99 @@
+package com.commerce.infrastructure.persistence.customer.offheap;
+
+import com.commerce.common.offheap.SegmentAllocator;
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.profile.ProfileStatus;
+import com.commerce.customer.core.domain.model.profile.ProfileSummary;
+import com.commerce.customer.core.domain.repository.profile.ProfileSummaryRepository;
+import com.commerce.infrastructure.persistence.customer.entity.CustomerProfileEntity;
+import com.commerce.infrastructure.persistence.customer.repository.ProfileSnapshotRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OffHeapProfileSummaryRepository 테스트")
+class OffHeapProfileSummaryRepositoryTest {
+
+    @Mock
+    private ProfileSummaryRepository delegate;
+
+    private OffHeapProfileStore store;
+    private OffHeapProfileSummaryRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        store = new OffHeapProfileStore(SegmentAllocator.direct(), 4096, 16);
+        repository = new OffHeapProfileSummaryRepository(store, delegate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    @DisplayName("저장소에 있는 고객은 원본 저장소를 거치지 않고 스냅샷으로 응답한다")
+    void findByCustomerId_ServesFromStore() {
+        // given
+        store.put(new ProfileSnapshotRow(1L, 100L, "민수", "김", "01012345678",
+                CustomerProfileEntity.ProfileStatus.ACTIVE, true, false, true,
+                "06234", "서울시 강남구 테헤란로 123", "101호"));
+
+        // when
+        ProfileSummary summary = repository.findByCustomerId(CustomerId.of(100L)).orElseThrow();
+
+        // then
+        verify(delegate, never()).findByCustomerId(CustomerId.of(100L));
+        assertThat(summary.getProfileId()).isEqualTo(1L);
+        assertThat(summary.getFirstName()).isEqualTo("민수");
+        assertThat(summary.getPrimaryPhone()).isEqualTo("01012345678");
+        assertThat(summary.getStatus()).isEqualTo(ProfileStatus.ACTIVE);
+        assertThat(summary.getRoadAddress()).isEqualTo("서울시 강남구 테헤란로 123");
+        assertThat(summary.isEmailMarketingConsent()).isTrue();
+        assertThat(summary.isSmsMarketingConsent()).isFalse();
+    }
+
+    @Test
+    @DisplayName("비어 있는 연락처와 기본 배송지는 null로 응답한다")
+    void findByCustomerId_MapsEmptyFieldsToNull() {
+        // given
+        store.put(new ProfileSnapshotRow(1L, 100L, "민수", "김", null,
+                CustomerProfileEntity.ProfileStatus.ACTIVE, false, false, false, null, null, null));
+
+        // when
+        ProfileSummary summary = repository.findByCustomerId(CustomerId.of(100L)).orElseThrow();
+
+        // then
+        assertThat(summary.getPrimaryPhone()).isNull();
+        assertThat(summary.getZipCode()).isNull();
+        assertThat(summary.getRoadAddress()).isNull();
+        assertThat(summary.getDetailAddress()).isNull();
+    }
+
+    @Test
+    @DisplayName("저장소에 없는 고객은 원본 저장소에서 조회하고 저장소에는 기록하지 않는다")
+    void findByCustomerId_FallsBackToDelegate() {
+        // given
+        ProfileSummary fromDatabase = ProfileSummary.builder().profileId(2L).customerId(200L).build();
+        when(delegate.findByCustomerId(CustomerId.of(200L))).thenReturn(Optional.of(fromDatabase));
+
+        // when
+        Optional<ProfileSummary> summary = repository.findByCustomerId(CustomerId.of(200L));
+
+        // then
+        assertThat(summary).containsSame(fromDatabase);
+        assertThat(store.contains(200L)).isFalse();
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,7 +33,7 @@ class AccountQueryRepositoryTest {
     @BeforeEach
     void setUp() {
         JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
-        accountQueryRepository = new AccountQueryRepository(queryFactory);
+        accountQueryRepository = new AccountQueryRepository(queryFactory, entityManager);
     }
 
     @Test
@@ -311,6 +312,43 @@ class AccountQueryRepositoryTest {
         assertThat(result.get().getCustomerId()).isEqualTo(8002L);
     }
 
+    @Test
+    @DisplayName("(email, deleted) 유일 인덱스 스키마에서도 삭제된 같은 이메일 계정을 건너뛰고 활성 계정을 자연 키로 조회한다")
+    void findByEmail_ShouldResolveLiveAccount_WithSoftDeleteUniqueIndex() {
+        // given - V3 스키마처럼 삭제 행과 살아 있는 행이 같은 이메일을 가질 수 있는 상태
+        replaceEmailUniqueIndex("email, deleted");
+        try {
+            em.persistAndFlush(createAccount("rejoin@example.com", 9001L, AccountEntity.AccountStatus.ACTIVE, true));
+            em.clear();
+            em.persistAndFlush(createAccount("rejoin@example.com", 9002L, AccountEntity.AccountStatus.ACTIVE, false));
+            em.clear();
+
+            // when
+            Optional<AccountEntity> result = accountQueryRepository.findByEmail("rejoin@example.com");
+
+            // then - 자연 키 해석 쿼리에도 @SQLRestriction이 적용되어 살아 있는 행 하나로 해석된다
+            assertThat(result).isPresent();
+            assertThat(result.get().getCustomerId()).isEqualTo(9002L);
+        } finally {
+            entityManager.createNativeQuery("DELETE FROM accounts WHERE email = 'rejoin@example.com'").executeUpdate();
+            replaceEmailUniqueIndex("email");
+        }
+    }
+
+    // 이메일 유일 제약을 주어진 컬럼 조합으로 교체 (H2에서 DDL은 즉시 커밋된다)
+    private void replaceEmailUniqueIndex(String columns) {
+        @SuppressWarnings("unchecked")
+        List<String> constraints = entityManager.createNativeQuery("""
+                SELECT tc.CONSTRAINT_NAME FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS tc
+                JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE kcu ON kcu.CONSTRAINT_NAME = tc.CONSTRAINT_NAME
+                WHERE tc.TABLE_NAME = 'ACCOUNTS' AND tc.CONSTRAINT_TYPE = 'UNIQUE' AND kcu.COLUMN_NAME = 'EMAIL'
+                """).getResultList();
+        constraints.forEach(name ->
+                entityManager.createNativeQuery("ALTER TABLE accounts DROP CONSTRAINT " + name).executeUpdate());
+        entityManager.createNativeQuery("ALTER TABLE accounts ADD CONSTRAINT uk_accounts_email UNIQUE (" + columns + ")")
+                .executeUpdate();
+    }
+
     private AccountEntity createAccount(String email, Long customerId, AccountEntity.AccountStatus status, boolean deleted) {
         AccountEntity account = AccountEntity.builder()
                 .email(email)
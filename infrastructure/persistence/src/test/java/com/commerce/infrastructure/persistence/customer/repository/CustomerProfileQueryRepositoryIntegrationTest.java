@@ -1,9 +1,18 @@
 package com.commerce.infrastructure.persistence.customer.repository;
 
+import com.commerce.common.offheap.SegmentAllocator;
+import com.commerce.customer.core.domain.model.profile.ProfileStatus;
 import com.commerce.infrastructure.persistence.TestApplication;
 import com.commerce.infrastructure.persistence.config.TestJpaConfig;
 import com.commerce.infrastructure.persistence.customer.entity.*;
+import com.commerce.infrastructure.persistence.customer.offheap.OffHeapProfileLoader;
+import com.commerce.infrastructure.persistence.customer.offheap.OffHeapProfileRecord;
+import com.commerce.infrastructure.persistence.customer.offheap.OffHeapProfileStore;
+import com.commerce.infrastructure.persistence.customer.offheap.ProfileSnapshotField;
+import com.commerce.infrastructure.persistence.customer.search.BirthdayWindow;
 import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,10 +26,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -30,6 +42,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DataJpaTest
 @ContextConfiguration(classes = TestApplication.class)
 @Import({TestJpaConfig.class, CustomerProfileQueryRepository.class})
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @DisplayName("CustomerProfileQueryRepository 통합 테스트")
 @Transactional
 class CustomerProfileQueryRepositoryIntegrationTest {
@@ -60,21 +73,21 @@ class CustomerProfileQueryRepositoryIntegrationTest {
     void setUp() {
         // 테스트 데이터 생성
         testProfile1 = createAndSaveProfile(
-            1L, "홍", "길동", 
+            1L, "길동", "홍", 
             LocalDate.of(1990, 1, 15), 
             CustomerProfileEntity.Gender.MALE,
             CustomerProfileEntity.ProfileStatus.ACTIVE
         );
 
         testProfile2 = createAndSaveProfile(
-            2L, "김", "영희", 
+            2L, "영희", "김", 
             LocalDate.of(1985, 5, 20), 
             CustomerProfileEntity.Gender.FEMALE,
             CustomerProfileEntity.ProfileStatus.ACTIVE
         );
 
         testProfile3 = createAndSaveProfile(
-            3L, "이", "철수", 
+            3L, "철수", "이", 
             LocalDate.of(1992, 12, 10), 
             CustomerProfileEntity.Gender.MALE,
             CustomerProfileEntity.ProfileStatus.INACTIVE
@@ -137,7 +150,7 @@ class CustomerProfileQueryRepositoryIntegrationTest {
 
         // When
         Page<CustomerProfileEntity> result = repository.findBySearchConditions(
-            "홍", "길동",
+            "길동", "홍",
             LocalDate.of(1989, 1, 1), LocalDate.of(1991, 12, 31),
             CustomerProfileEntity.Gender.MALE,
             CustomerProfileEntity.ProfileStatus.ACTIVE,
@@ -173,10 +186,10 @@ class CustomerProfileQueryRepositoryIntegrationTest {
 
     private static Stream<Arguments> provideSearchConditions() {
         return Stream.of(
-            // firstName만 검색
-            Arguments.of("홍", null, null, null, null, null, 1),
-            // lastName만 검색
-            Arguments.of(null, "영희", null, null, null, null, 1),
+            // 이름(firstName)만 검색
+            Arguments.of("길동", null, null, null, null, null, 1),
+            // 성(lastName)만 검색
+            Arguments.of(null, "김", null, null, null, null, 1),
             // 성별만 검색
             Arguments.of(null, null, null, null, CustomerProfileEntity.Gender.MALE, null, 2),
             // 상태만 검색
@@ -235,6 +248,133 @@ class CustomerProfileQueryRepositoryIntegrationTest {
         assertThat(result.get(1).getCustomerId()).isEqualTo(testProfile2.getCustomerId()); // 관심도 LOW
     }
 
+    @Test
+    @DisplayName("선호 고객 ID를 키셋 페이징으로 선호도 순 조회한다")
+    void findProfileIdsByPreferredBrand_KeysetPaging() {
+        // Given
+        addBrandPreference(testProfile3, "Nike", BrandPreferenceEntity.PreferenceLevel.LOVE);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<AffinityCursor> firstPage = repository.findProfileIdsByPreferredBrand("Nike", null, null, 2);
+        List<AffinityCursor> secondPage = repository.findProfileIdsByPreferredBrand(
+            "Nike", null, firstPage.get(firstPage.size() - 1), 2);
+
+        // Then
+        assertThat(firstPage).extracting(AffinityCursor::profileId)
+            .containsExactly(testProfile1.getProfileId(), testProfile3.getProfileId());
+        assertThat(secondPage).extracting(AffinityCursor::profileId)
+            .containsExactly(testProfile2.getProfileId());
+    }
+
+    @Test
+    @DisplayName("특정 선호도 고객 ID만 스트리밍한다")
+    void streamProfileIdsByPreferredBrand_LevelFilter() {
+        // Given
+        addBrandPreference(testProfile3, "Nike", BrandPreferenceEntity.PreferenceLevel.LOVE);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<Long> result = repository
+            .streamProfileIdsByPreferredBrand("Nike", BrandPreferenceEntity.PreferenceLevel.LOVE, 1)
+            .toList();
+
+        // Then
+        assertThat(result).containsExactly(testProfile1.getProfileId(), testProfile3.getProfileId());
+    }
+
+    @Test
+    @DisplayName("선호도 변경 시 순위가 함께 갱신되어 정렬에 반영된다")
+    void findByPreferredBrand_AfterLevelChange() {
+        // Given
+        BrandPreferenceEntity preference = brandPreferenceRepository.findAll().stream()
+            .filter(bp -> bp.getBrandName().equals("Nike"))
+            .filter(bp -> bp.getPreferenceLevel() == BrandPreferenceEntity.PreferenceLevel.LIKE)
+            .findFirst().orElseThrow();
+        preference.updatePreferenceLevel(BrandPreferenceEntity.PreferenceLevel.LOVE);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<CustomerProfileEntity> result = repository.findByPreferredBrand("Nike", 10);
+
+        // Then
+        assertThat(result).extracting(CustomerProfileEntity::getCustomerId)
+            .containsExactly(testProfile1.getCustomerId(), testProfile2.getCustomerId());
+    }
+
+    @Test
+    @DisplayName("카테고리 관심 고객 ID를 스트리밍한다")
+    void streamProfileIdsByInterestCategory_Success() {
+        // When
+        List<Long> result = repository.streamProfileIdsByInterestCategory("스포츠", null, 1).toList();
+
+        // Then
+        assertThat(result).containsExactly(testProfile1.getProfileId(), testProfile2.getProfileId());
+    }
+
+    @Test
+    @DisplayName("이름 초성으로 고객을 검색한다")
+    void searchByName_Chosung() {
+        // When
+        List<CustomerProfileEntity> result = repository.searchByName("ㄱㅇㅎ", 10);
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getCustomerId()).isEqualTo(testProfile2.getCustomerId());
+    }
+
+    @Test
+    @DisplayName("입력 중인 이름(부분 음절)으로 고객을 검색한다")
+    void searchByName_PartialSyllable() {
+        // When
+        List<CustomerProfileEntity> result = repository.searchByName("홍기", 10);
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getCustomerId()).isEqualTo(testProfile1.getCustomerId());
+    }
+
+    @Test
+    @DisplayName("이름 변경 시 검색 키가 함께 갱신된다")
+    void searchByName_AfterNameChange() {
+        // Given
+        CustomerProfileEntity profile = jpaRepository.findById(testProfile3.getProfileId()).orElseThrow();
+        profile.updatePersonalInfo("민수", "박", profile.getBirthDate(), profile.getGender(), profile.getProfileImageUrl());
+        entityManager.flush();
+        entityManager.clear();
+
+        // When & Then
+        assertThat(repository.searchByName("ㅂㅁㅅ", 10))
+            .extracting(CustomerProfileEntity::getCustomerId)
+            .containsExactly(testProfile3.getCustomerId());
+        assertThat(repository.searchByName("ㅇㅊㅅ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("도로명 주소 초성으로 고객을 중복 없이 검색한다")
+    void searchByRoadAddress_Chosung() {
+        // When
+        List<CustomerProfileEntity> result = repository.searchByRoadAddress("ㅅㅇㅅ", 10);
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getCustomerId()).isEqualTo(testProfile1.getCustomerId());
+    }
+
+    @Test
+    @DisplayName("도로명 주소 접두어로 고객을 검색한다")
+    void searchByRoadAddress_Prefix() {
+        // When
+        List<CustomerProfileEntity> result = repository.searchByRoadAddress("경기도 성", 10);
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getCustomerId()).isEqualTo(testProfile2.getCustomerId());
+    }
+
     @Test
     @DisplayName("최근 활성 고객을 업데이트 시간 역순으로 조회한다")
     void findRecentlyActiveCustomers_Success() {
@@ -263,6 +403,132 @@ class CustomerProfileQueryRepositoryIntegrationTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("500개 프로필의 모든 상세 정보를 프로필 수와 무관한 고정 쿼리 수로 조회한다")
+    void findAllWithDetailsByIds_ConstantStatements() {
+        // Given
+        List<Long> profileIds = saveProfilesWithDetails(500);
+        Statistics statistics = statistics();
+
+        // When
+        List<CustomerProfileEntity> result = repository.findAllWithDetailsByIds(profileIds);
+        int childCount = countChildren(result);
+
+        // Then
+        assertThat(result).hasSize(500);
+        assertThat(childCount).isEqualTo(1500);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("고객 ID 목록으로 프로필과 상세 정보를 고정 쿼리 수로 조회한다")
+    void findAllWithDetailsByCustomerIds_ConstantStatements() {
+        // Given
+        saveProfilesWithDetails(100);
+        List<Long> customerIds = List.of(1000L, 1050L, 1099L, 9999L);
+        Statistics statistics = statistics();
+
+        // When
+        List<CustomerProfileEntity> result = repository.findAllWithDetailsByCustomerIds(customerIds);
+        int childCount = countChildren(result);
+
+        // Then
+        assertThat(result).extracting(CustomerProfileEntity::getCustomerId)
+            .containsExactly(1000L, 1050L, 1099L);
+        assertThat(childCount).isEqualTo(9);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("프로필 스냅샷을 청크 단위로 스트리밍하여 오프힙 저장소에 적재한다")
+    void streamSnapshotRows_LoadsOffHeapStore() {
+        // Given
+        saveProfilesWithDetails(25);
+        CustomerProfileEntity withoutAddress = createAndSaveProfile(
+            5000L, "주소없음", "박", LocalDate.of(1985, 3, 3),
+            CustomerProfileEntity.Gender.MALE, CustomerProfileEntity.ProfileStatus.INACTIVE);
+        addAddress(withoutAddress, AddressEntity.AddressType.WORK, "회사", "04524",
+            "서울시 중구 세종대로 1", null, null, false);
+        entityManager.flush();
+        entityManager.clear();
+        long total = entityManager.createQuery("select count(p) from CustomerProfileEntity p", Long.class)
+            .getSingleResult();
+
+        // When
+        try (OffHeapProfileStore store = new OffHeapProfileStore(SegmentAllocator.direct(), 64 * 1024, 16)) {
+            long loaded = new OffHeapProfileLoader(repository, store,
+                TransactionOperations.withoutTransaction(), 10, 0.5).load();
+
+            // Then
+            OffHeapProfileRecord view = new OffHeapProfileRecord();
+            assertThat(loaded).isEqualTo(total);
+            assertThat(store.size()).isEqualTo(total);
+            assertThat(store.read(1007L, view)).isTrue();
+            assertThat(view.string(ProfileSnapshotField.FIRST_NAME)).isEqualTo("고객7");
+            assertThat(view.string(ProfileSnapshotField.ROAD_ADDRESS)).isEqualTo("서울시 강남구 테헤란로 7");
+            assertThat(view.hasDefaultAddress()).isTrue();
+            assertThat(store.read(5000L, view)).isTrue();
+            assertThat(view.status()).isEqualTo(ProfileStatus.INACTIVE);
+            assertThat(view.hasDefaultAddress()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("고객 한 명의 프로필 스냅샷을 기본 배송지와 함께 조회한다")
+    void findSnapshotRowByCustomerId_ReturnsDefaultAddress() {
+        // Given
+        saveProfilesWithDetails(10);
+
+        // When
+        Optional<ProfileSnapshotRow> row = repository.findSnapshotRowByCustomerId(1003L);
+        Optional<ProfileSnapshotRow> missing = repository.findSnapshotRowByCustomerId(9999L);
+
+        // Then
+        assertThat(row).isPresent();
+        assertThat(row.get().firstName()).isEqualTo("고객3");
+        assertThat(row.get().roadAddress()).isEqualTo("서울시 강남구 테헤란로 3");
+        assertThat(missing).isEmpty();
+    }
+
+    @Test
+    @DisplayName("목록 조회 후 자식 컬렉션 접근은 배치 로딩되어 N+1 쿼리가 발생하지 않는다")
+    void findRecentlyActiveCustomers_BatchLoadsChildren() {
+        // Given
+        saveProfilesWithDetails(500);
+        Statistics statistics = statistics();
+
+        // When
+        List<CustomerProfileEntity> result =
+            repository.findRecentlyActiveCustomers(LocalDateTime.now().minusDays(1), 500);
+        int childCount = countChildren(result);
+
+        // Then
+        int batches = (500 + CustomerProfileEntity.DETAIL_BATCH_SIZE - 1) / CustomerProfileEntity.DETAIL_BATCH_SIZE;
+        assertThat(result).hasSize(500);
+        assertThat(childCount).isEqualTo(1500);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1 + 3L * batches);
+    }
+
+    @Test
+    @DisplayName("상세 정보 일괄 초기화 후에는 자식 컬렉션 접근 시 추가 쿼리가 없다")
+    void fetchDetails_InitializesChildrenUpFront() {
+        // Given
+        saveProfilesWithDetails(50);
+        List<CustomerProfileEntity> profiles =
+            repository.findRecentlyActiveCustomers(LocalDateTime.now().minusDays(1), 50);
+        Statistics statistics = statistics();
+
+        // When
+        repository.fetchDetails(profiles);
+        long afterFetch = statistics.getPrepareStatementCount();
+        int childCount = countChildren(profiles);
+
+        // Then
+        assertThat(afterFetch).isEqualTo(3);
+        assertThat(childCount).isEqualTo(150);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(afterFetch);
+    }
+
     @Test
     @DisplayName("생일이 특정 기간 내인 활성 고객을 조회한다")
     void findCustomersWithBirthdayInRange_Success() {
@@ -293,6 +559,69 @@ class CustomerProfileQueryRepositoryIntegrationTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("출생 연도와 무관하게 연말을 넘기는 생일 구간의 활성 동의 고객을 날짜 순으로 스트리밍한다")
+    void streamBirthdayCampaignTargets_AcrossYearEnd() {
+        // Given
+        CustomerProfileEntity dec30 = saveBirthdayProfile(101L, LocalDate.of(1975, 12, 30), true, CustomerProfileEntity.ProfileStatus.ACTIVE);
+        CustomerProfileEntity jan2 = saveBirthdayProfile(102L, LocalDate.of(2001, 1, 2), true, CustomerProfileEntity.ProfileStatus.ACTIVE);
+        CustomerProfileEntity dec29 = saveBirthdayProfile(103L, LocalDate.of(1988, 12, 29), true, CustomerProfileEntity.ProfileStatus.ACTIVE);
+        saveBirthdayProfile(104L, LocalDate.of(1990, 12, 31), false, CustomerProfileEntity.ProfileStatus.ACTIVE);
+        saveBirthdayProfile(105L, LocalDate.of(1990, 1, 1), true, CustomerProfileEntity.ProfileStatus.INACTIVE);
+        saveBirthdayProfile(106L, LocalDate.of(1990, 1, 4), true, CustomerProfileEntity.ProfileStatus.ACTIVE);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<BirthdayCampaignTarget> result = repository.streamBirthdayCampaignTargets(
+                BirthdayWindow.between(LocalDate.of(2024, 12, 28), LocalDate.of(2025, 1, 3)), MarketingChannel.SMS, 1)
+            .toList();
+
+        // Then
+        assertThat(result).extracting(BirthdayCampaignTarget::customerId)
+            .containsExactly(dec29.getCustomerId(), dec30.getCustomerId(), jan2.getCustomerId());
+    }
+
+    @Test
+    @DisplayName("평년의 2월 28일 생일 조회에 2월 29일생이 포함된다")
+    void streamBirthdayCampaignTargets_LeapDayInCommonYear() {
+        // Given
+        CustomerProfileEntity leapDay = saveBirthdayProfile(111L, LocalDate.of(1992, 2, 29), true, CustomerProfileEntity.ProfileStatus.ACTIVE);
+        CustomerProfileEntity feb28 = saveBirthdayProfile(112L, LocalDate.of(1993, 2, 28), true, CustomerProfileEntity.ProfileStatus.ACTIVE);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<Long> commonYear = repository.streamBirthdayCampaignTargets(
+                BirthdayWindow.between(LocalDate.of(2025, 2, 28), LocalDate.of(2025, 2, 28)), MarketingChannel.SMS, 10)
+            .map(BirthdayCampaignTarget::customerId)
+            .toList();
+        List<Long> leapYear = repository.streamBirthdayCampaignTargets(
+                BirthdayWindow.between(LocalDate.of(2024, 2, 28), LocalDate.of(2024, 2, 28)), MarketingChannel.SMS, 10)
+            .map(BirthdayCampaignTarget::customerId)
+            .toList();
+
+        // Then
+        assertThat(commonYear).containsExactly(feb28.getCustomerId(), leapDay.getCustomerId());
+        assertThat(leapYear).containsExactly(feb28.getCustomerId());
+    }
+
+    @Test
+    @DisplayName("생년월일 변경 시 생일 키가 함께 갱신된다")
+    void birthMonthDay_RefreshedOnUpdate() {
+        // Given
+        CustomerProfileEntity profile = jpaRepository.findById(testProfile1.getProfileId()).orElseThrow();
+
+        // When
+        profile.updatePersonalInfo(profile.getFirstName(), profile.getLastName(), LocalDate.of(1990, 7, 7),
+            profile.getGender(), profile.getProfileImageUrl());
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(jpaRepository.findById(testProfile1.getProfileId()).orElseThrow().getBirthMonthDay()).isEqualTo(707);
+    }
+
     @Test
     @DisplayName("성별별 고객 수 통계를 조회한다")
     void getCustomerCountByGender_Success() {
@@ -342,6 +671,38 @@ class CustomerProfileQueryRepositoryIntegrationTest {
     }
 
     // Helper methods
+    private List<Long> saveProfilesWithDetails(int count) {
+        List<Long> profileIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            CustomerProfileEntity profile = createAndSaveProfile(
+                1000L + i, "고객" + i, "김", LocalDate.of(1990, 1, 1),
+                CustomerProfileEntity.Gender.FEMALE, CustomerProfileEntity.ProfileStatus.ACTIVE);
+            addAddress(profile, AddressEntity.AddressType.HOME, "집", "06234",
+                "서울시 강남구 테헤란로 " + i, null, null, true);
+            addBrandPreference(profile, "Brand" + i, BrandPreferenceEntity.PreferenceLevel.LIKE);
+            addCategoryInterest(profile, "Category" + i, CategoryInterestEntity.InterestLevel.MEDIUM);
+            profileIds.add(profile.getProfileId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return profileIds;
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private int countChildren(List<CustomerProfileEntity> profiles) {
+        return profiles.stream()
+            .mapToInt(profile -> profile.getAddresses().size()
+                + profile.getBrandPreferences().size()
+                + profile.getCategoryInterests().size())
+            .sum();
+    }
+
     private CustomerProfileEntity createAndSaveProfile(
             Long customerId, String firstName, String lastName,
             LocalDate birthDate, CustomerProfileEntity.Gender gender,
@@ -367,6 +728,19 @@ class CustomerProfileQueryRepositoryIntegrationTest {
         return jpaRepository.save(profile);
     }
 
+    private CustomerProfileEntity saveBirthdayProfile(Long customerId, LocalDate birthDate, boolean smsConsent,
+                                                      CustomerProfileEntity.ProfileStatus status) {
+        return jpaRepository.save(CustomerProfileEntity.builder()
+            .customerId(customerId)
+            .firstName("생일")
+            .lastName("김")
+            .birthDate(birthDate)
+            .status(status)
+            .primaryPhone("010-2000-" + customerId)
+            .smsMarketingConsent(smsConsent)
+            .build());
+    }
+
     private void addAddress(CustomerProfileEntity profile, AddressEntity.AddressType type, String alias, 
                           String zipCode, String roadAddress, String jibunAddress, 
                           String detailAddress, boolean isDefault) {
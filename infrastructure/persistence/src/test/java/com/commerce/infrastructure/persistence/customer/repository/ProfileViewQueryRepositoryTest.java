@@ -0,0 +1,180 @@
+package com.commerce.infrastructure.persistence.customer.repository;
+
+import com.commerce.customer.core.domain.model.profile.ProfileView;
+import com.commerce.infrastructure.persistence.TestApplication;
+import com.commerce.infrastructure.persistence.config.TestJpaConfig;
+import com.commerce.infrastructure.persistence.customer.entity.AccountEntity;
+import com.commerce.infrastructure.persistence.customer.entity.AddressEntity;
+import com.commerce.infrastructure.persistence.customer.entity.CustomerProfileEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ContextConfiguration(classes = TestApplication.class)
+@Import({TestJpaConfig.class, ProfileViewQueryRepository.class})
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("ProfileViewQueryRepository 테스트")
+class ProfileViewQueryRepositoryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProfileViewQueryRepository repository;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private CustomerProfileJpaRepository customerProfileJpaRepository;
+
+    private AccountEntity account;
+
+    @BeforeEach
+    void setUp() {
+        account = accountJpaRepository.save(AccountEntity.builder()
+            .customerId(100L)
+            .email("view@example.com")
+            .password("encoded-password")
+            .status(AccountEntity.AccountStatus.ACTIVE)
+            .build());
+
+        CustomerProfileEntity profile = CustomerProfileEntity.builder()
+            .customerId(100L)
+            .firstName("길동")
+            .lastName("홍")
+            .birthDate(LocalDate.of(1990, 1, 15))
+            .gender(CustomerProfileEntity.Gender.MALE)
+            .profileImageUrl("https://cdn.example.com/profiles/100.png")
+            .primaryPhone("010-1234-5678")
+            .status(CustomerProfileEntity.ProfileStatus.ACTIVE)
+            .emailMarketingConsent(true)
+            .smsMarketingConsent(false)
+            .pushMarketingConsent(false)
+            .orderNotifications(true)
+            .promotionNotifications(false)
+            .accountNotifications(true)
+            .reviewNotifications(false)
+            .build();
+        profile.addAddress(address(profile, AddressEntity.AddressType.HOME, "서울시 강남구 테헤란로 123", true));
+        profile.addAddress(address(profile, AddressEntity.AddressType.WORK, "서울시 서초구 서초대로 456", false));
+        customerProfileJpaRepository.save(profile);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("계정 ID로 프로필과 주소를 한 번의 쿼리로 조회한다")
+    void findByAccountId_SingleStatement() {
+        // Given
+        Statistics statistics = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        Optional<ProfileView> result = repository.findByAccountId(account.getAccountId());
+
+        // Then
+        assertThat(result).isPresent();
+        ProfileView view = result.get();
+        assertThat(view.getCustomerId()).isEqualTo(100L);
+        assertThat(view.getFirstName()).isEqualTo("길동");
+        assertThat(view.getGender()).isEqualTo("MALE");
+        assertThat(view.isEmailMarketingConsent()).isTrue();
+        assertThat(view.isReviewNotifications()).isFalse();
+        assertThat(view.getAddresses()).hasSize(2);
+        assertThat(view.getAddresses().get(0).getType()).isEqualTo("HOME");
+        assertThat(view.getAddresses().get(0).isDefault()).isTrue();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(entityManager.unwrap(SessionImplementor.class)
+            .getPersistenceContextInternal().getNumberOfManagedEntities()).isZero();
+    }
+
+    @Test
+    @DisplayName("주소가 없는 프로필도 조회한다")
+    void findByAccountId_WithoutAddresses() {
+        // Given
+        AccountEntity other = accountJpaRepository.save(AccountEntity.builder()
+            .customerId(200L)
+            .email("noaddress@example.com")
+            .password("encoded-password")
+            .status(AccountEntity.AccountStatus.ACTIVE)
+            .build());
+        customerProfileJpaRepository.save(CustomerProfileEntity.builder()
+            .customerId(200L)
+            .firstName("영희")
+            .lastName("김")
+            .primaryPhone("010-9876-5432")
+            .status(CustomerProfileEntity.ProfileStatus.ACTIVE)
+            .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        Optional<ProfileView> result = repository.findByAccountId(other.getAccountId());
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().getAddresses()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제된 계정이나 존재하지 않는 계정은 빈 결과를 반환한다")
+    void findByAccountId_DeletedOrMissing() {
+        // Given
+        AccountEntity entity = accountJpaRepository.findById(account.getAccountId()).orElseThrow();
+        entity.markAsDeleted();
+        entityManager.flush();
+        entityManager.clear();
+
+        // When & Then
+        assertThat(repository.findByAccountId(account.getAccountId())).isEmpty();
+        assertThat(repository.findByAccountId(999L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("프로필 이미지와 주소 상세 항목을 저장된 값 그대로 반환한다")
+    void findByAccountId_ReturnsStoredColumns() {
+        // When
+        ProfileView view = repository.findByAccountId(account.getAccountId()).orElseThrow();
+
+        // Then
+        assertThat(view.getProfileImageUrl()).isEqualTo("https://cdn.example.com/profiles/100.png");
+        assertThat(view.getLastName()).isEqualTo("홍");
+        assertThat(view.getPrimaryPhone()).isEqualTo("010-1234-5678");
+        assertThat(view.getAddresses())
+            .extracting(ProfileView.AddressView::getRoadAddress)
+            .containsExactly("서울시 강남구 테헤란로 123", "서울시 서초구 서초대로 456");
+        assertThat(view.getAddresses().get(1).getDetailAddress()).isEqualTo("101호");
+    }
+
+    private AddressEntity address(CustomerProfileEntity profile, AddressEntity.AddressType type,
+                                  String roadAddress, boolean isDefault) {
+        return AddressEntity.builder()
+            .customerProfile(profile)
+            .type(type)
+            .alias(type.name())
+            .zipCode("06234")
+            .roadAddress(roadAddress)
+            .detailAddress("101호")
+            .isDefault(isDefault)
+            .build();
+    }
+}
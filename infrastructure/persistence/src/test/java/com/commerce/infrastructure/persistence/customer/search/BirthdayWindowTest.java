@@ -0,0 +1,59 @@
+package com.commerce.infrastructure.persistence.customer.search;
+
+import com.commerce.infrastructure.persistence.customer.search.BirthdayWindow.MonthDayRange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BirthdayWindow 테스트")
+class BirthdayWindowTest {
+
+    @Test
+    @DisplayName("생년월일을 MMDD 정수로 변환한다")
+    void monthDayOf() {
+        assertThat(BirthdayWindow.monthDayOf(LocalDate.of(1990, 3, 5))).isEqualTo(305);
+        assertThat(BirthdayWindow.monthDayOf(LocalDate.of(1992, 2, 29))).isEqualTo(229);
+        assertThat(BirthdayWindow.monthDayOf(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 해 안의 구간은 범위 하나로 변환한다")
+    void between_SameYear() {
+        assertThat(BirthdayWindow.between(LocalDate.of(2024, 5, 13), LocalDate.of(2024, 5, 19)).ranges())
+            .containsExactly(new MonthDayRange(513, 519));
+    }
+
+    @Test
+    @DisplayName("연말을 넘기는 구간은 12월 범위와 1월 범위로 나눈다")
+    void between_AcrossYearEnd() {
+        assertThat(BirthdayWindow.between(LocalDate.of(2024, 12, 28), LocalDate.of(2025, 1, 3)).ranges())
+            .containsExactly(new MonthDayRange(1228, 1231), new MonthDayRange(101, 103));
+    }
+
+    @Test
+    @DisplayName("평년에 2월 28일로 끝나는 구간은 2월 29일생을 포함한다")
+    void between_IncludesLeapDayInCommonYear() {
+        assertThat(BirthdayWindow.between(LocalDate.of(2025, 2, 24), LocalDate.of(2025, 2, 28)).ranges())
+            .containsExactly(new MonthDayRange(224, 229));
+        assertThat(BirthdayWindow.between(LocalDate.of(2024, 2, 24), LocalDate.of(2024, 2, 28)).ranges())
+            .containsExactly(new MonthDayRange(224, 228));
+    }
+
+    @Test
+    @DisplayName("1년 이상인 구간은 모든 생일을 포함한다")
+    void between_WholeYear() {
+        assertThat(BirthdayWindow.between(LocalDate.of(2024, 3, 1), LocalDate.of(2025, 3, 1)).ranges())
+            .containsExactly(new MonthDayRange(101, 1231));
+    }
+
+    @Test
+    @DisplayName("끝이 시작보다 앞서면 예외가 발생한다")
+    void between_InvalidRange() {
+        assertThatThrownBy(() -> BirthdayWindow.between(LocalDate.of(2024, 5, 19), LocalDate.of(2024, 5, 13)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,146 @@
+package com.commerce.infrastructure.persistence.customer.search;
+
+import com.commerce.infrastructure.persistence.TestApplication;
+import com.commerce.infrastructure.persistence.config.TestJpaConfig;
+import com.commerce.infrastructure.persistence.customer.entity.AddressEntity;
+import com.commerce.infrastructure.persistence.customer.entity.CustomerProfileEntity;
+import com.commerce.infrastructure.persistence.customer.repository.AddressJpaRepository;
+import com.commerce.infrastructure.persistence.customer.repository.CustomerProfileJpaRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.commerce.infrastructure.persistence.customer.entity.QAddressEntity.addressEntity;
+import static com.commerce.infrastructure.persistence.customer.entity.QCustomerProfileEntity.customerProfileEntity;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ContextConfiguration(classes = TestApplication.class)
+@Import(TestJpaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("한글 검색 키 일괄 채움 작업 테스트")
+class KoreanSearchKeyBackfillTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JPAQueryFactory queryFactory;
+
+    @Autowired
+    private CustomerProfileJpaRepository profileRepository;
+
+    @Autowired
+    private AddressJpaRepository addressRepository;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            addressRepository.deleteAll();
+            profileRepository.deleteAll();
+        });
+    }
+
+    @Test
+    @DisplayName("키가 비어 있는 기존 프로필과 주소의 초성/자모 키를 청크 단위로 채운다")
+    void run_FillsMissingKeys() {
+        // Given
+        List<Long> profileIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            profileIds.add(saveProfileWithAddress(7700L + i, "길동", "홍", "서울시 강남구 테헤란로 " + i));
+        }
+        clearSearchKeys();
+
+        // When
+        KoreanSearchKeyBackfill.BackfillResult result = new KoreanSearchKeyBackfill(queryFactory, transactionTemplate, 2).run();
+
+        // Then
+        assertThat(result.profiles()).isEqualTo(5L);
+        assertThat(result.addresses()).isEqualTo(5L);
+        List<CustomerProfileEntity> profiles = profileRepository.findAllById(profileIds);
+        assertThat(profiles).allSatisfy(profile -> {
+            assertThat(profile.getNameChosung()).isEqualTo("ㅎㄱㄷ");
+            assertThat(profile.getNameJamo()).isEqualTo(KoreanSearchKey.jamo("홍길동"));
+            assertThat(profile.getVersion()).isZero();
+        });
+        assertThat(addressRepository.findAll()).allSatisfy(address ->
+            assertThat(address.getRoadAddressChosung()).startsWith(KoreanSearchKey.chosung("서울시 강남구 테헤란로")));
+    }
+
+    @Test
+    @DisplayName("이미 키가 채워진 행은 대상이 아니므로 다시 실행해도 갱신하지 않는다")
+    void run_IsIdempotent() {
+        // Given
+        saveProfileWithAddress(7710L, "영희", "김", "서울시 서초구 서초대로 456");
+        KoreanSearchKeyBackfill backfill = new KoreanSearchKeyBackfill(queryFactory, transactionTemplate, 10);
+
+        // When
+        KoreanSearchKeyBackfill.BackfillResult result = backfill.run();
+
+        // Then
+        assertThat(result.profiles()).isZero();
+        assertThat(result.addresses()).isZero();
+    }
+
+    private Long saveProfileWithAddress(Long customerId, String firstName, String lastName, String roadAddress) {
+        return transactionTemplate.execute(status -> {
+            CustomerProfileEntity profile = profileRepository.save(CustomerProfileEntity.builder()
+                .customerId(customerId)
+                .firstName(firstName)
+                .lastName(lastName)
+                .status(CustomerProfileEntity.ProfileStatus.ACTIVE)
+                .primaryPhone("010-7700-" + customerId)
+                .emailMarketingConsent(false)
+                .smsMarketingConsent(false)
+                .pushMarketingConsent(false)
+                .orderNotifications(true)
+                .promotionNotifications(false)
+                .accountNotifications(true)
+                .reviewNotifications(false)
+                .build());
+            addressRepository.save(AddressEntity.builder()
+                .customerProfile(profile)
+                .type(AddressEntity.AddressType.HOME)
+                .alias("집")
+                .zipCode("06234")
+                .roadAddress(roadAddress)
+                .isDefault(true)
+                .build());
+            return profile.getProfileId();
+        });
+    }
+
+    private void clearSearchKeys() {
+        // V5 이전에 저장된 행처럼 키 컬럼을 비운다
+        transactionTemplate.executeWithoutResult(status -> {
+            queryFactory.update(customerProfileEntity)
+                .setNull(customerProfileEntity.nameChosung)
+                .setNull(customerProfileEntity.nameJamo)
+                .execute();
+            queryFactory.update(addressEntity)
+                .setNull(addressEntity.roadAddressChosung)
+                .setNull(addressEntity.roadAddressJamo)
+                .execute();
+        });
+    }
+}
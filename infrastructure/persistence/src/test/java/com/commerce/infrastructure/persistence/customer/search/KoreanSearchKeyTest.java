@@ -0,0 +1,71 @@
+package com.commerce.infrastructure.persistence.customer.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KoreanSearchKey 테스트")
+class KoreanSearchKeyTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "김민수, ㄱㅁㅅ",
+        "서울시 강남구 테헤란로, ㅅㅇㅅㄱㄴㄱㅌㅎㄹㄹ",
+        "Nike 강남점, nikeㄱㄴㅈ",
+        "빨강, ㅃㄱ"
+    })
+    @DisplayName("초성 키를 생성한다")
+    void chosung(String text, String expected) {
+        assertThat(KoreanSearchKey.chosung(text)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("자모 키는 겹모음과 겹받침까지 분해한다")
+    void jamo_DecomposesCompoundJamo() {
+        assertThat(KoreanSearchKey.jamo("김민수")).isEqualTo("ㄱㅣㅁㅁㅣㄴㅅㅜ");
+        assertThat(KoreanSearchKey.jamo("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(KoreanSearchKey.jamo("닭")).isEqualTo("ㄷㅏㄹㄱ");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"김", "김미", "김민", "김민ㅅ", "김민수"})
+    @DisplayName("입력 중인 글자의 자모 키는 완성된 이름 키의 접두어이다")
+    void jamo_TypingPrefix(String typing) {
+        assertThat(KoreanSearchKey.jamo("김민수")).startsWith(KoreanSearchKey.jamo(typing));
+    }
+
+    @Test
+    @DisplayName("입력 중 겹받침/겹모음 자모도 완성된 글자의 접두어가 된다")
+    void jamo_TypingCompoundPrefix() {
+        assertThat(KoreanSearchKey.jamo("닭갈비")).startsWith(KoreanSearchKey.jamo("다ㄺ"));
+        assertThat(KoreanSearchKey.jamo("과자")).startsWith(KoreanSearchKey.jamo("ㄱㅘ"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ㄱㅁㅅ", "ㅌ ㅎ ㄹ", "ㄲ"})
+    @DisplayName("자음으로만 구성된 입력은 초성 검색으로 판단한다")
+    void isChosungQuery_True(String query) {
+        assertThat(KoreanSearchKey.isChosungQuery(query)).isTrue();
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"김ㅁ", "ㄱa", "ㅏ", "  "})
+    @DisplayName("완성형 글자나 모음이 포함되면 초성 검색이 아니다")
+    void isChosungQuery_False(String query) {
+        assertThat(KoreanSearchKey.isChosungQuery(query)).isFalse();
+    }
+
+    @Test
+    @DisplayName("키를 최대 길이에 맞춰 자른다")
+    void truncate() {
+        assertThat(KoreanSearchKey.truncate("ㄱㄴㄷㄹ", 2)).isEqualTo("ㄱㄴ");
+        assertThat(KoreanSearchKey.truncate("ㄱㄴ", 5)).isEqualTo("ㄱㄴ");
+        assertThat(KoreanSearchKey.truncate(null, 5)).isNull();
+    }
+}
@@ -0,0 +1,239 @@
+package com.commerce.infrastructure.persistence.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReadWriteRoutingDataSource 테스트")
+class ReadWriteRoutingDataSourceTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReadWriteRoutingDataSource routingDataSource;
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private ReplicaLagGuard replicaLagGuard;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        primary = createPool("primary", "jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1");
+        replica = createPool("replica-1", "jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1");
+        initNode(primary, "primary");
+        initNode(replica, "replica");
+
+        routingDataSource = new ReadWriteRoutingDataSource(primary, List.of(replica));
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        replicaLagGuard = new ReplicaLagGuard(true, new LocalWriteMarkerStore(Duration.ofSeconds(5), 100, clock));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        routingDataSource.close();
+        primary.close();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 Replica로, 쓰기 트랜잭션은 Primary로 라우팅된다")
+    void routesByTransactionReadOnly() {
+        // When
+        String readNode = readOnlyTransaction.execute(status -> currentNode());
+        String writeNode = writeTransaction.execute(status -> currentNode());
+
+        // Then
+        assertThat(readNode).isEqualTo("replica");
+        assertThat(writeNode).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 쿼리는 Primary로 라우팅된다")
+    void routesToPrimaryWithoutTransaction() {
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 같은 고객의 읽기는 지연 보호 기간 동안 Primary로 고정된다")
+    void readYourWrites() {
+        // Given
+        String customerKey = ReplicaLagGuard.customerKey(1L);
+        writeTransaction.executeWithoutResult(status -> {
+            replicaLagGuard.touch(customerKey);
+            currentNode();
+        });
+
+        // When
+        String sameCustomer = readOnlyTransaction.execute(status -> {
+            replicaLagGuard.touch(customerKey);
+            return currentNode();
+        });
+        String otherCustomer = readOnlyTransaction.execute(status -> {
+            replicaLagGuard.touch(ReplicaLagGuard.customerKey(2L));
+            return currentNode();
+        });
+
+        // Then
+        assertThat(sameCustomer).isEqualTo("primary");
+        assertThat(otherCustomer).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("지연 보호 기간이 지나면 다시 Replica로 라우팅된다")
+    void readYourWrites_WindowExpired() {
+        // Given
+        String customerKey = ReplicaLagGuard.customerKey(1L);
+        writeTransaction.executeWithoutResult(status -> replicaLagGuard.touch(customerKey));
+        clock.advance(Duration.ofSeconds(6));
+
+        // When
+        String node = readOnlyTransaction.execute(status -> {
+            replicaLagGuard.touch(customerKey);
+            return currentNode();
+        });
+
+        // Then
+        assertThat(node).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기 트랜잭션은 지연 보호 대상으로 기록되지 않는다")
+    void readYourWrites_RolledBack() {
+        // Given
+        String customerKey = ReplicaLagGuard.customerKey(1L);
+        writeTransaction.executeWithoutResult(status -> {
+            replicaLagGuard.touch(customerKey);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(replicaLagGuard.isRecentlyWritten(customerKey)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Primary 고정은 트랜잭션 종료 후 해제된다")
+    void pinIsClearedAfterTransaction() {
+        // Given
+        String customerKey = ReplicaLagGuard.customerKey(1L);
+        writeTransaction.executeWithoutResult(status -> replicaLagGuard.touch(customerKey));
+        readOnlyTransaction.executeWithoutResult(status -> replicaLagGuard.touch(customerKey));
+
+        // When
+        String node = readOnlyTransaction.execute(status -> currentNode());
+
+        // Then
+        assertThat(node).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("커넥션 선택 이후 알게 된 키는 쓰기 트랜잭션에서만 기록되고 읽기 라우팅을 바꾸지 않는다")
+    void markWritten_RecordsOnlyInWriteTransaction() {
+        // Given
+        String readKey = ReplicaLagGuard.customerKey(1L);
+        String writeKey = ReplicaLagGuard.customerKey(2L);
+        writeTransaction.executeWithoutResult(status -> replicaLagGuard.touch(readKey));
+
+        // When
+        String node = readOnlyTransaction.execute(status -> {
+            String selected = currentNode();
+            replicaLagGuard.markWritten(readKey);
+            return selected;
+        });
+        writeTransaction.executeWithoutResult(status -> {
+            currentNode();
+            replicaLagGuard.markWritten(writeKey);
+        });
+
+        // Then
+        assertThat(node).isEqualTo("replica");
+        assertThat(replicaLagGuard.isRecentlyWritten(writeKey)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Hikari 지표가 풀별로 기록된다")
+    void poolMetricsPerPool() {
+        // When
+        readOnlyTransaction.execute(status -> currentNode());
+        writeTransaction.execute(status -> currentNode());
+
+        // Then
+        assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "primary").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "replica-1").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.usage").tag("pool", "replica-1").timer().count())
+                .isGreaterThan(0);
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private HikariDataSource createPool(String poolName, String url) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(2);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+
+    private void initNode(HikariDataSource dataSource, String name) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        template.update("DELETE FROM node");
+        template.update("INSERT INTO node (name) VALUES (?)", name);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.commerce.infrastructure.persistence.datasource;
+
+import com.commerce.customer.core.domain.model.AccountId;
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.profile.ContactInfo;
+import com.commerce.customer.core.domain.model.profile.CustomerProfile;
+import com.commerce.customer.core.domain.model.profile.PhoneNumber;
+import com.commerce.infrastructure.persistence.TestApplication;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidationPublisher;
+import com.commerce.infrastructure.persistence.cache.LocalCacheInvalidationBus;
+import com.commerce.infrastructure.persistence.cache.SecondLevelCacheEvictor;
+import com.commerce.infrastructure.persistence.config.TestJpaConfig;
+import com.commerce.infrastructure.persistence.customer.adapter.AccountRepositoryAdapter;
+import com.commerce.infrastructure.persistence.customer.adapter.CustomerProfileRepositoryAdapter;
+import com.commerce.infrastructure.persistence.customer.entity.AccountEntity;
+import com.commerce.infrastructure.persistence.customer.entity.CustomerProfileEntity;
+import com.commerce.infrastructure.persistence.customer.mapper.AccountMapper;
+import com.commerce.infrastructure.persistence.customer.mapper.CustomerProfileMapper;
+import com.commerce.infrastructure.persistence.customer.repository.AccountJpaRepository;
+import com.commerce.infrastructure.persistence.customer.repository.AccountQueryRepository;
+import com.commerce.infrastructure.persistence.customer.repository.CustomerProfileJpaRepository;
+import com.commerce.infrastructure.persistence.customer.repository.CustomerProfileQueryRepository;
+import com.commerce.infrastructure.persistence.customer.repository.DeletedAccountJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JPA 경로의 read-your-writes 검증
+ * Primary와 Replica 풀이 같은 H2 DB를 가리키게 하고, 어느 풀에서 커넥션을 꺼냈는지로 라우팅을 확인한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = TestApplication.class)
+@Import({TestJpaConfig.class, AccountQueryRepository.class, AccountMapper.class, SecondLevelCacheEvictor.class,
+    CustomerProfileQueryRepository.class, CustomerProfileMapper.class, ReadYourWritesJpaTest.RoutingTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("JPA 읽기/쓰기 분리 read-your-writes 통합 테스트")
+class ReadYourWritesJpaTest {
+
+    private static final String URL = "jdbc:h2:mem:read_your_writes;DB_CLOSE_DELAY=-1;MODE=MariaDB";
+
+    @TestConfiguration
+    static class RoutingTestConfig {
+
+        @Bean
+        CountingDataSource primaryNode() {
+            return new CountingDataSource(new DriverManagerDataSource(URL, "sa", ""));
+        }
+
+        @Bean
+        CountingDataSource replicaNode() {
+            return new CountingDataSource(new DriverManagerDataSource(URL, "sa", ""));
+        }
+
+        @Bean
+        @Primary
+        DataSource dataSource(CountingDataSource primaryNode, CountingDataSource replicaNode) {
+            return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primaryNode, List.of(replicaNode)));
+        }
+
+        @Bean
+        ReplicaLagGuard replicaLagGuard() {
+            return new ReplicaLagGuard(true, new LocalWriteMarkerStore(Duration.ofSeconds(30), 100, Clock.systemUTC()));
+        }
+
+        @Bean
+        AccountRepositoryAdapter accountRepositoryAdapter(AccountJpaRepository accountJpaRepository,
+                                                          AccountQueryRepository accountQueryRepository,
+                                                          AccountMapper accountMapper,
+                                                          ReplicaLagGuard replicaLagGuard,
+                                                          SecondLevelCacheEvictor secondLevelCacheEvictor,
+                                                          DeletedAccountJpaRepository deletedAccountJpaRepository) {
+            return new AccountRepositoryAdapter(accountJpaRepository, accountQueryRepository, accountMapper,
+                    replicaLagGuard, secondLevelCacheEvictor,
+                    new CacheInvalidationPublisher(new LocalCacheInvalidationBus()), deletedAccountJpaRepository);
+        }
+
+        @Bean
+        CustomerProfileRepositoryAdapter customerProfileRepositoryAdapter(
+                CustomerProfileJpaRepository jpaRepository, CustomerProfileQueryRepository queryRepository,
+                CustomerProfileMapper mapper, ReplicaLagGuard replicaLagGuard,
+                AccountQueryRepository accountQueryRepository) {
+            return new CustomerProfileRepositoryAdapter(jpaRepository, queryRepository, mapper, replicaLagGuard,
+                    new CacheInvalidationPublisher(new LocalCacheInvalidationBus()), accountQueryRepository);
+        }
+    }
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private CustomerProfileJpaRepository customerProfileJpaRepository;
+
+    @Autowired
+    private AccountRepositoryAdapter accountAdapter;
+
+    @Autowired
+    private CustomerProfileRepositoryAdapter profileAdapter;
+
+    @Autowired
+    private CountingDataSource replicaNode;
+
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writeTransaction.executeWithoutResult(status -> {
+            customerProfileJpaRepository.deleteAll();
+            entityManager.createNativeQuery("DELETE FROM accounts").executeUpdate();
+        });
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("프로필 저장 직후 계정 ID로 시작하는 프로필 조회는 첫 쿼리(계정 조회)부터 Primary로 고정된다")
+    void saveProfileThenGetByAccountId_ReadsPrimary() {
+        // Given: 지연 보호 기록 없이 준비한 계정과 프로필
+        Long accountId = seed("rw@example.com", 9301L);
+        writeTransaction.executeWithoutResult(status -> {
+            CustomerProfile profile = profileAdapter.findByCustomerId(CustomerId.of(9301L)).orElseThrow();
+            profile.updateContactInfo(ContactInfo.of(PhoneNumber.ofKorean("010-2222-3333")));
+            profileAdapter.save(profile);
+        });
+        int replicaConnections = replicaNode.connections();
+
+        // When: getProfileByAccountId와 같은 순서로 계정 → 프로필 조회
+        CustomerProfile profile = inReadOnlyTransaction(() -> {
+            CustomerId customerId = accountAdapter.findById(AccountId.of(accountId)).orElseThrow().getCustomerId();
+            return profileAdapter.findByCustomerId(customerId).orElseThrow();
+        });
+
+        // Then
+        assertThat(replicaNode.connections()).isEqualTo(replicaConnections);
+        assertThat(profile.getContactInfo().getPrimaryPhone().getNumber()).isEqualTo("010-2222-3333");
+    }
+
+    @Test
+    @DisplayName("최근 쓰기가 없는 계정의 조회는 Replica로 라우팅된다")
+    void getByAccountIdWithoutRecentWrite_ReadsReplica() {
+        // Given
+        Long accountId = seed("replica@example.com", 9302L);
+        int replicaConnections = replicaNode.connections();
+
+        // When
+        inReadOnlyTransaction(() -> {
+            CustomerId customerId = accountAdapter.findById(AccountId.of(accountId)).orElseThrow().getCustomerId();
+            return profileAdapter.findByCustomerId(customerId).orElseThrow();
+        });
+
+        // Then
+        assertThat(replicaNode.connections()).isEqualTo(replicaConnections + 1);
+    }
+
+    private Long seed(String email, Long customerId) {
+        return writeTransaction.execute(status -> {
+            customerProfileJpaRepository.save(CustomerProfileEntity.builder()
+                .customerId(customerId)
+                .firstName("길동")
+                .lastName("홍")
+                .primaryPhone("010-1234-5678")
+                .status(CustomerProfileEntity.ProfileStatus.ACTIVE)
+                .build());
+            return accountJpaRepository.save(AccountEntity.builder()
+                .customerId(customerId)
+                .email(email)
+                .password("encoded-password")
+                .status(AccountEntity.AccountStatus.ACTIVE)
+                .build()).getAccountId();
+        });
+    }
+
+    private <T> T inReadOnlyTransaction(Supplier<T> action) {
+        return readOnlyTransaction.execute(status -> action.get());
+    }
+
+    /**
+     * 커넥션을 꺼낸 횟수를 세는 DataSource
+     */
+    static class CountingDataSource extends DelegatingDataSource {
+
+        private final AtomicInteger connections = new AtomicInteger();
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            connections.incrementAndGet();
+            return super.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            connections.incrementAndGet();
+            return super.getConnection(username, password);
+        }
+
+        int connections() {
+            return connections.get();
+        }
+    }
+}
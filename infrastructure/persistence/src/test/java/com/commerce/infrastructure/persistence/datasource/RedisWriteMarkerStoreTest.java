@@ -0,0 +1,59 @@
+package com.commerce.infrastructure.persistence.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RedisWriteMarkerStore 테스트")
+class RedisWriteMarkerStoreTest {
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    private final RedisWriteMarkerStore store = new RedisWriteMarkerStore(redisTemplate, "ryw:", Duration.ofSeconds(5));
+
+    @Test
+    @DisplayName("쓰기 기록은 지연 보호 기간을 TTL로 하는 키로 남긴다")
+    void record_SetsKeyWithWindowTtl() {
+        // given
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        store.record("customer:1");
+
+        // then
+        verify(valueOperations).set("ryw:customer:1", "1", Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 남긴 키가 살아 있으면 최근 쓰기로 판단한다")
+    void isRecentlyWritten_ChecksSharedKey() {
+        // given
+        when(redisTemplate.hasKey("ryw:customer:1")).thenReturn(true);
+        when(redisTemplate.hasKey("ryw:customer:2")).thenReturn(false);
+
+        // when & then
+        assertThat(store.isRecentlyWritten("customer:1")).isTrue();
+        assertThat(store.isRecentlyWritten("customer:2")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis 조회에 실패하면 Primary로 읽도록 최근 쓰기로 간주한다")
+    void isRecentlyWritten_FailsTowardPrimary() {
+        // given
+        when(redisTemplate.hasKey("ryw:customer:1")).thenThrow(new RedisConnectionFailureException("down"));
+
+        // when & then
+        assertThat(store.isRecentlyWritten("customer:1")).isTrue();
+    }
+}
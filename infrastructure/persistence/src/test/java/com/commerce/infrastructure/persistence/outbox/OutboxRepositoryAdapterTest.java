@@ -0,0 +1,205 @@
+package com.commerce.infrastructure.persistence.outbox;
+
+import com.commerce.customer.core.domain.event.AccountCreatedEvent;
+import com.commerce.customer.core.domain.event.AccountDormantEvent;
+import com.commerce.customer.core.domain.event.DomainEventPublisher;
+import com.commerce.customer.core.domain.event.OutboxMessage;
+import com.commerce.customer.core.domain.model.AccountId;
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.Email;
+import com.commerce.infrastructure.persistence.TestApplication;
+import com.commerce.infrastructure.persistence.config.TestJpaConfig;
+import com.commerce.infrastructure.persistence.outbox.entity.OutboxEventEntity;
+import com.commerce.infrastructure.persistence.outbox.repository.OutboxEventJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ContextConfiguration(classes = TestApplication.class)
+@Import({TestJpaConfig.class, OutboxRepositoryAdapter.class, OutboxRepositoryAdapterTest.OutboxTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("트랜잭션 아웃박스 통합 테스트")
+class OutboxRepositoryAdapterTest {
+
+    @TestConfiguration
+    static class OutboxTestConfig {
+
+        @Bean
+        DomainEventPublisher outboxDomainEventPublisher(OutboxEventJpaRepository outboxEventJpaRepository) {
+            return new OutboxDomainEventPublisher(outboxEventJpaRepository, Clock.systemDefaultZone());
+        }
+    }
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OutboxEventJpaRepository outboxEventJpaRepository;
+
+    @Autowired
+    private OutboxRepositoryAdapter adapter;
+
+    @Autowired
+    private DomainEventPublisher publisher;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        inTransaction(() -> {
+            outboxEventJpaRepository.deleteAll();
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("이벤트는 호출한 트랜잭션에 함께 기록되고 JSON 본문과 타입을 보관한다")
+    void publish_WritesOutboxRowInTransaction() {
+        // When
+        inTransaction(() -> {
+            publisher.publish(List.of(createdEvent(11L)));
+            return null;
+        });
+
+        // Then
+        List<OutboxMessage> unsent = adapter.findUnsent(0L, 10);
+        assertThat(unsent).hasSize(1);
+        OutboxMessage message = unsent.get(0);
+        assertThat(message.aggregateType()).isEqualTo("Account");
+        assertThat(message.aggregateId()).isEqualTo("11");
+        assertThat(message.eventType()).isEqualTo(AccountCreatedEvent.class.getName());
+        assertThat(message.payload())
+            .contains("\"accountId\":{\"value\":11")
+            .contains("\"activationCode\":\"ACTIVATE11\"")
+            .containsPattern("\"occurredAt\":\"\\d{4}-\\d{2}-\\d{2}T");
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 이벤트도 남지 않는다")
+    void publish_RolledBackWithTransaction() {
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            publisher.publish(List.of(createdEvent(12L)));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(adapter.countUnsent()).isZero();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 발행하면 예외가 발생한다")
+    void publish_RequiresTransaction() {
+        // When & Then
+        assertThatThrownBy(() -> publisher.publish(List.of(createdEvent(13L))))
+            .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    @Test
+    @DisplayName("미발행 행을 keyset으로 읽고, 일괄 발행 완료 처리한 뒤 오프셋 이후를 되돌린다")
+    void findUnsent_MarkSent_ResetSentAfter() {
+        // Given
+        inTransaction(() -> {
+            publisher.publish(IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> AccountDormantEvent.of(AccountId.of((long) i), CustomerId.of((long) i),
+                    LocalDateTime.of(2023, 1, 1, 0, 0)))
+                .toList());
+            return null;
+        });
+        List<Long> ids = adapter.findUnsent(0L, 10).stream().map(OutboxMessage::id).toList();
+        assertThat(ids).hasSize(5).isSorted();
+
+        // When
+        List<OutboxMessage> secondPage = adapter.findUnsent(ids.get(1), 2);
+        int marked = adapter.markSent(ids.subList(0, 4), LocalDateTime.now());
+
+        // Then
+        assertThat(secondPage).extracting(OutboxMessage::id).containsExactly(ids.get(2), ids.get(3));
+        assertThat(marked).isEqualTo(4);
+        assertThat(adapter.findUnsent(0L, 10)).extracting(OutboxMessage::id).containsExactly(ids.get(4));
+        assertThat(adapter.countUnsent()).isEqualTo(1L);
+        assertThat(adapter.findOldestUnsentCreatedAt()).isPresent();
+
+        // When: 두 번째 행 이후 재발행
+        int reset = adapter.resetSentAfter(ids.get(1));
+
+        // Then
+        assertThat(reset).isEqualTo(2);
+        assertThat(adapter.findUnsent(0L, 10)).extracting(OutboxMessage::id)
+            .containsExactly(ids.get(2), ids.get(3), ids.get(4));
+        assertThat(inTransaction(() -> outboxEventJpaRepository.findAll()).stream()
+            .filter(row -> row.getSentAt() != null)
+            .map(OutboxEventEntity::getId)).containsExactlyInAnyOrder(ids.get(0), ids.get(1));
+    }
+
+    @Test
+    @DisplayName("실패 시도를 기록하고, dead letter 행은 미발행 조회와 적체 집계에서 제외하되 재발행으로 되돌린다")
+    void recordFailedAttempt_MarkDead_ExcludedUntilReset() {
+        // Given
+        inTransaction(() -> {
+            publisher.publish(List.of(createdEvent(21L), createdEvent(22L)));
+            return null;
+        });
+        List<Long> ids = adapter.findUnsent(0L, 10).stream().map(OutboxMessage::id).toList();
+
+        // When
+        adapter.recordFailedAttempt(List.of(ids.get(0)), "org.apache.kafka.common.errors.TimeoutException: expired");
+        adapter.recordFailedAttempt(List.of(ids.get(0)), "x".repeat(600));
+        int dead = adapter.markDead(List.of(ids.get(1)), "RecordTooLargeException", LocalDateTime.now());
+
+        // Then
+        assertThat(dead).isEqualTo(1);
+        assertThat(adapter.findUnsent(0L, 10)).extracting(OutboxMessage::id).containsExactly(ids.get(0));
+        assertThat(adapter.countUnsent()).isEqualTo(1L);
+        OutboxEventEntity retried = inTransaction(() -> outboxEventJpaRepository.findById(ids.get(0)).orElseThrow());
+        assertThat(retried.getAttemptCount()).isEqualTo(2);
+        assertThat(retried.getLastError()).hasSize(500);
+        assertThat(retried.getDeadAt()).isNull();
+        OutboxEventEntity deadLettered = inTransaction(() -> outboxEventJpaRepository.findById(ids.get(1)).orElseThrow());
+        assertThat(deadLettered.getAttemptCount()).isEqualTo(1);
+        assertThat(deadLettered.getDeadAt()).isNotNull();
+
+        // When: dead letter 원인 해소 후 재발행
+        int reset = adapter.resetSentAfter(ids.get(0));
+
+        // Then
+        assertThat(reset).isEqualTo(1);
+        assertThat(adapter.findUnsent(0L, 10)).extracting(OutboxMessage::id).containsExactly(ids.get(0), ids.get(1));
+    }
+
+    private static AccountCreatedEvent createdEvent(long accountId) {
+        return new AccountCreatedEvent(AccountId.of(accountId), CustomerId.of(accountId),
+            Email.of("outbox" + accountId + "@example.com"), "ACTIVATE" + accountId);
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+}
@@ -0,0 +1,112 @@
+package com.commerce.infrastructure.persistence.purchase;
+
+import com.commerce.infrastructure.persistence.TestApplication;
+import com.commerce.infrastructure.persistence.config.TestJpaConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:processed-order-events;DB_CLOSE_DELAY=-1;MODE=MariaDB")
+@ContextConfiguration(classes = TestApplication.class)
+@Import({TestJpaConfig.class, ProcessedOrderEventRepositoryAdapter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("구매 집계 반영 완료 이벤트 기록 통합 테스트")
+class ProcessedOrderEventRepositoryAdapterTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProcessedOrderEventRepositoryAdapter adapter;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        inTransaction(() -> entityManager.createNativeQuery("DELETE FROM processed_order_events").executeUpdate());
+    }
+
+    @Test
+    @DisplayName("이미 기록된 이벤트 ID는 제외하고 처음 보는 ID만 기록하여 반환한다")
+    void claimAll_ReturnsOnlyUnseenEventIds() {
+        // Given
+        inTransaction(() -> adapter.claimAll(List.of("event-1", "event-2")));
+
+        // When
+        Set<String> claimed = inTransaction(() -> adapter.claimAll(List.of("event-2", "event-3", "event-3")));
+
+        // Then
+        assertThat(claimed).containsExactly("event-3");
+        assertThat(countRows()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 기록도 취소되어 같은 ID를 다시 반영할 수 있다")
+    void claimAll_RolledBackWithTransaction() {
+        // Given
+        transactionTemplate.executeWithoutResult(status -> {
+            adapter.claimAll(List.of("event-1", "event-2"));
+            status.setRollbackOnly();
+        });
+
+        // When
+        Set<String> claimed = inTransaction(() -> adapter.claimAll(List.of("event-1", "event-2")));
+
+        // Then
+        assertThat(claimed).containsExactlyInAnyOrder("event-1", "event-2");
+    }
+
+    @Test
+    @DisplayName("JDBC 배치 크기를 넘는 이벤트 ID도 한 번의 호출로 판별하고 기록한다")
+    void claimAll_ManyEventIds() {
+        // Given
+        List<String> first = IntStream.range(0, 700).mapToObj(i -> "event-" + i).toList();
+        List<String> second = IntStream.range(0, 1_200).mapToObj(i -> "event-" + i).toList();
+        inTransaction(() -> adapter.claimAll(first));
+
+        // When
+        Set<String> claimed = inTransaction(() -> adapter.claimAll(second));
+
+        // Then
+        assertThat(claimed).hasSize(500).contains("event-700", "event-1199").doesNotContain("event-699");
+        assertThat(countRows()).isEqualTo(1_200L);
+    }
+
+    private long countRows() {
+        return inTransaction(() -> ((Number) entityManager
+            .createNativeQuery("SELECT COUNT(*) FROM processed_order_events").getSingleResult()).longValue());
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+}
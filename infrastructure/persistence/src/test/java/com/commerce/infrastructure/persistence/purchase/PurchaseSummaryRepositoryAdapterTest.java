@@ -0,0 +1,122 @@
+package com.commerce.infrastructure.persistence.purchase;
+
+import com.commerce.customer.core.domain.model.CustomerId;
+import com.commerce.customer.core.domain.model.purchase.PurchaseSummary;
+import com.commerce.customer.core.domain.model.purchase.PurchaseSummaryDelta;
+import com.commerce.infrastructure.persistence.TestApplication;
+import com.commerce.infrastructure.persistence.config.TestJpaConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// upsert 구문(ON DUPLICATE KEY UPDATE)은 MariaDB 호환 모드에서만 동작하므로 내장 DB 대체를 끄고 전용 H2를 쓴다
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:purchase;DB_CLOSE_DELAY=-1;MODE=MariaDB")
+@ContextConfiguration(classes = TestApplication.class)
+@Import({TestJpaConfig.class, PurchaseSummaryRepositoryAdapter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("고객 구매 집계 upsert 통합 테스트")
+class PurchaseSummaryRepositoryAdapterTest {
+
+    private static final LocalDateTime ORDERED_AT = LocalDateTime.of(2024, 5, 1, 10, 0);
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PurchaseSummaryRepositoryAdapter adapter;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        inTransaction(() -> entityManager.createNativeQuery("DELETE FROM customer_purchase_categories").executeUpdate());
+        inTransaction(() -> entityManager.createNativeQuery("DELETE FROM customer_purchase_summaries").executeUpdate());
+    }
+
+    @Test
+    @DisplayName("처음 반영하는 고객은 집계 행을 만들고, 이후 증분은 기존 값에 더한다")
+    void upsertAll_AccumulatesOnExistingRows() {
+        // Given
+        PurchaseSummaryDelta first = PurchaseSummaryDelta.of(CustomerId.of(1L));
+        first.addOrder(new BigDecimal("30000.00"), ORDERED_AT, List.of("fashion", "beauty"));
+        inTransaction(() -> adapter.upsertAll(List.of(first)));
+
+        PurchaseSummaryDelta second = PurchaseSummaryDelta.of(CustomerId.of(1L));
+        second.addOrder(new BigDecimal("15000.50"), ORDERED_AT.plusDays(3), List.of("fashion"));
+        second.addOrder(new BigDecimal("5000.00"), ORDERED_AT.minusDays(10), List.of("food", "fashion"));
+
+        // When
+        inTransaction(() -> adapter.upsertAll(List.of(second)));
+
+        // Then
+        PurchaseSummary summary = inTransaction(() -> adapter.findByCustomerId(CustomerId.of(1L), 2)).orElseThrow();
+        assertThat(summary.getOrderCount()).isEqualTo(3);
+        assertThat(summary.getTotalAmount()).isEqualByComparingTo("50000.50");
+        assertThat(summary.getAverageOrderValue()).isEqualByComparingTo("16666.83");
+        assertThat(summary.getLastOrderedAt()).isEqualTo(ORDERED_AT.plusDays(3));
+        assertThat(summary.getTopCategories()).containsExactly("fashion", "beauty");
+    }
+
+    @Test
+    @DisplayName("JDBC 배치 크기를 넘는 고객 증분도 한 번의 호출로 모두 반영된다")
+    void upsertAll_ManyCustomers() {
+        // Given
+        List<PurchaseSummaryDelta> deltas = new ArrayList<>();
+        for (long customerId = 1; customerId <= 1_200; customerId++) {
+            PurchaseSummaryDelta delta = PurchaseSummaryDelta.of(CustomerId.of(customerId));
+            delta.addOrder(BigDecimal.valueOf(customerId), ORDERED_AT, List.of("category-" + (customerId % 3)));
+            deltas.add(delta);
+        }
+
+        // When
+        int upserted = inTransaction(() -> adapter.upsertAll(deltas));
+
+        // Then
+        assertThat(upserted).isEqualTo(1_200);
+        assertThat(inTransaction(() -> ((Number) entityManager
+            .createNativeQuery("SELECT COUNT(*) FROM customer_purchase_summaries").getSingleResult()).longValue()))
+            .isEqualTo(1_200L);
+        assertThat(inTransaction(() -> adapter.findByCustomerId(CustomerId.of(1_200L), 5)).orElseThrow()
+            .getTopCategories()).containsExactly("category-0");
+    }
+
+    @Test
+    @DisplayName("집계가 없는 고객은 빈 결과를 반환한다")
+    void findByCustomerId_NotFound() {
+        assertThat(inTransaction(() -> adapter.findByCustomerId(CustomerId.of(404L), 5))).isEmpty();
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+}
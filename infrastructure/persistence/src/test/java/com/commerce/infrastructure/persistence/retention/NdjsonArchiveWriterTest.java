@@ -0,0 +1,81 @@
+package com.commerce.infrastructure.persistence.retention;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NDJSON 보관 파일 기록 테스트")
+class NdjsonArchiveWriterTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-03-15T18:30:00Z"), ZoneId.of("Asia/Seoul"));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("대상별 디렉터리에 실행 일자 이름으로 한 줄에 한 행씩 기록한다")
+    void append_WritesOneLinePerRow() throws IOException {
+        // Given
+        NdjsonArchiveWriter writer = new NdjsonArchiveWriter(directory, CLOCK);
+
+        // When
+        Path file = writer.append("deleted-accounts", List.of(row(1L, "a@example.com"), row(2L, "b@example.com")));
+
+        // Then
+        assertThat(file).isEqualTo(directory.resolve("deleted-accounts").resolve("2024-03-16.ndjson.gz"));
+        List<String> lines = readLines(file);
+        assertThat(lines).hasSize(2);
+        Map<?, ?> first = new ObjectMapper().readValue(lines.get(0), Map.class);
+        assertThat(first.get("accountId")).isEqualTo(1);
+        assertThat(first.get("deletedAt")).isEqualTo("2023-01-02T03:04:05");
+    }
+
+    @Test
+    @DisplayName("청크마다 gzip 멤버를 덧붙여도 파일 하나로 이어서 읽힌다")
+    void append_ConcatenatesGzipMembers() throws IOException {
+        // Given
+        NdjsonArchiveWriter writer = new NdjsonArchiveWriter(directory, CLOCK);
+
+        // When
+        writer.append("deleted-accounts", List.of(row(1L, "a@example.com")));
+        Path file = writer.append("deleted-accounts", List.of(row(2L, "b@example.com"), row(3L, "c@example.com")));
+
+        // Then
+        assertThat(readLines(file))
+            .extracting(line -> new ObjectMapper().readValue(line, Map.class).get("email"))
+            .containsExactly("a@example.com", "b@example.com", "c@example.com");
+    }
+
+    private static Map<String, Object> row(long accountId, String email) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("accountId", accountId);
+        row.put("email", email);
+        row.put("deletedAt", LocalDateTime.of(2023, 1, 2, 3, 4, 5));
+        return row;
+    }
+
+    private static List<String> readLines(Path file) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        }
+    }
+}
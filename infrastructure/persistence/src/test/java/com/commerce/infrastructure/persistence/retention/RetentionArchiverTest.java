@@ -0,0 +1,296 @@
+package com.commerce.infrastructure.persistence.retention;
+
+import com.commerce.infrastructure.persistence.TestApplication;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidation;
+import com.commerce.infrastructure.persistence.cache.CacheInvalidationPublisher;
+import com.commerce.infrastructure.persistence.cache.LocalCacheInvalidationBus;
+import com.commerce.infrastructure.persistence.config.TestJpaConfig;
+import com.commerce.infrastructure.persistence.customer.entity.AccountEntity;
+import com.commerce.infrastructure.persistence.customer.entity.AddressEntity;
+import com.commerce.infrastructure.persistence.customer.entity.CustomerProfileEntity;
+import com.commerce.infrastructure.persistence.customer.entity.CustomerProfileEntity.ProfileStatus;
+import com.commerce.infrastructure.persistence.customer.entity.DeletedAccountEntity;
+import com.commerce.infrastructure.persistence.customer.repository.AccountJpaRepository;
+import com.commerce.infrastructure.persistence.customer.repository.CustomerProfileJpaRepository;
+import com.commerce.infrastructure.persistence.customer.repository.DeletedAccountJpaRepository;
+import com.commerce.infrastructure.persistence.retention.entity.RetentionProgressEntity;
+import com.commerce.infrastructure.persistence.retention.repository.RetentionProgressJpaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ContextConfiguration(classes = TestApplication.class)
+@Import(TestJpaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("보존 기간 기반 보관/삭제 작업 통합 테스트")
+class RetentionArchiverTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JPAQueryFactory queryFactory;
+
+    @Autowired
+    private CustomerProfileJpaRepository profileJpaRepository;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private DeletedAccountJpaRepository deletedAccountJpaRepository;
+
+    @Autowired
+    private RetentionProgressJpaRepository progressRepository;
+
+    @TempDir
+    Path archiveDirectory;
+
+    private TransactionTemplate transactionTemplate;
+    private RetentionProperties properties;
+    private RetentionMetrics metrics;
+    private List<CacheInvalidation> invalidations;
+    private List<Long> pauses;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        properties = new RetentionProperties();
+        properties.setChunkSize(2);
+        properties.setPauseBetweenChunks(Duration.ofMillis(5));
+        metrics = new RetentionMetrics(List.of(DeletedAccountRetentionTarget.NAME, InactiveProfileRetentionTarget.NAME));
+        invalidations = new ArrayList<>();
+        pauses = new ArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        inTransaction(() -> {
+            profileJpaRepository.deleteAll();
+            deletedAccountJpaRepository.deleteAll();
+            progressRepository.deleteAll();
+            return entityManager.createNativeQuery("DELETE FROM accounts").executeUpdate();
+        });
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 비활성/정지 프로필만 하위 정보와 함께 파일로 옮기고 삭제한다")
+    void run_ArchivesInactiveProfiles() throws IOException {
+        // Given
+        CustomerProfileEntity withAddress = saveProfile(9501L, ProfileStatus.INACTIVE);
+        inTransaction(() -> {
+            CustomerProfileEntity profile = profileJpaRepository.findById(withAddress.getProfileId()).orElseThrow();
+            profile.addAddress(AddressEntity.builder()
+                .customerProfile(profile)
+                .type(AddressEntity.AddressType.HOME)
+                .alias("집")
+                .zipCode("06234")
+                .roadAddress("서울특별시 강남구 테헤란로 123")
+                .detailAddress("101동 1001호")
+                .isDefault(true)
+                .build());
+            return null;
+        });
+        saveProfile(9502L, ProfileStatus.INACTIVE);
+        saveProfile(9503L, ProfileStatus.SUSPENDED);
+        saveProfile(9504L, ProfileStatus.ACTIVE);
+        RetentionArchiver archiver = archiver(inactiveProfiles(), Clock.offset(Clock.systemDefaultZone(), Duration.ofDays(800)));
+
+        // When
+        RetentionRunResult result = archiver.run(inactiveProfiles());
+
+        // Then
+        assertThat(result.archivedRows()).isEqualTo(3L);
+        assertThat(result.chunks()).isEqualTo(2);
+        assertThat(result.passCompleted()).isTrue();
+        assertThat(inTransaction(() -> profileJpaRepository.findAll()))
+            .extracting(CustomerProfileEntity::getCustomerId)
+            .containsExactly(9504L);
+        assertThat(countRows("addresses")).isZero();
+
+        List<Map<?, ?>> archived = readArchive(InactiveProfileRetentionTarget.NAME);
+        assertThat(archived).extracting(row -> ((Number) row.get("customerId")).longValue())
+            .containsExactly(9501L, 9502L, 9503L);
+        assertThat((List<?>) archived.get(0).get("addresses")).hasSize(1);
+        assertThat(invalidations).extracting(CacheInvalidation::key).containsExactlyInAnyOrder("9501", "9502", "9503");
+        assertThat(pauses).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("실행당 최대 청크 수에 도달하면 멈추고 다음 실행에서 저장된 키부터 이어서 처리한다")
+    void run_ResumesFromSavedKey() throws IOException {
+        // Given
+        List<Long> accountIds = new ArrayList<>();
+        for (long customerId = 9601L; customerId <= 9605L; customerId++) {
+            accountIds.add(saveDeletedAccount(customerId));
+        }
+        properties.setMaxChunksPerRun(1);
+        RetentionArchiver archiver = archiver(deletedAccounts(), Clock.offset(Clock.systemDefaultZone(), Duration.ofDays(400)));
+
+        // When
+        RetentionRunResult first = archiver.run(deletedAccounts());
+        RetentionProgressEntity afterFirst = inTransaction(() ->
+            progressRepository.findById(DeletedAccountRetentionTarget.NAME).orElseThrow());
+        RetentionRunResult second = archiver.run(deletedAccounts());
+        RetentionRunResult third = archiver.run(deletedAccounts());
+
+        // Then
+        assertThat(first.passCompleted()).isFalse();
+        assertThat(afterFirst.getLastKey()).isEqualTo(accountIds.get(1));
+        assertThat(second.archivedRows()).isEqualTo(2L);
+        assertThat(third.archivedRows()).isEqualTo(1L);
+        assertThat(third.passCompleted()).isTrue();
+
+        RetentionProgressEntity progress = inTransaction(() ->
+            progressRepository.findById(DeletedAccountRetentionTarget.NAME).orElseThrow());
+        assertThat(progress.getLastKey()).isZero();
+        assertThat(progress.getArchivedRows()).isEqualTo(5L);
+        assertThat(progress.getCompletedPasses()).isEqualTo(1L);
+        assertThat(inTransaction(() -> deletedAccountJpaRepository.count())).isZero();
+        assertThat(readArchive(DeletedAccountRetentionTarget.NAME))
+            .extracting(row -> ((Number) row.get("accountId")).longValue())
+            .containsExactlyElementsOf(accountIds);
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지나지 않은 행은 남겨 두고 파일도 만들지 않는다")
+    void run_KeepsRowsWithinRetention() {
+        // Given
+        saveDeletedAccount(9701L);
+        RetentionArchiver archiver = archiver(deletedAccounts(), Clock.offset(Clock.systemDefaultZone(), Duration.ofDays(30)));
+
+        // When
+        RetentionRunResult result = archiver.run(deletedAccounts());
+
+        // Then
+        assertThat(result.archivedRows()).isZero();
+        assertThat(result.passCompleted()).isTrue();
+        assertThat(inTransaction(() -> deletedAccountJpaRepository.count())).isEqualTo(1L);
+        assertThat(archiveDirectory.resolve(DeletedAccountRetentionTarget.NAME)).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("대상별 처리 행 수와 청크 수를 지표로 노출한다")
+    void metrics_ExposeArchivedRowsPerTarget() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        metrics.bindTo(registry);
+        for (long customerId = 9801L; customerId <= 9803L; customerId++) {
+            saveDeletedAccount(customerId);
+        }
+
+        // When
+        archiver(deletedAccounts(), Clock.offset(Clock.systemDefaultZone(), Duration.ofDays(400))).runAll();
+
+        // Then
+        assertThat(registry.get("commerce.retention.archived.rows")
+            .tag("target", DeletedAccountRetentionTarget.NAME).functionCounter().count()).isEqualTo(3.0);
+        assertThat(registry.get("commerce.retention.chunks")
+            .tag("target", DeletedAccountRetentionTarget.NAME).functionCounter().count()).isEqualTo(2.0);
+        assertThat(registry.get("commerce.retention.last.key")
+            .tag("target", DeletedAccountRetentionTarget.NAME).gauge().value()).isZero();
+    }
+
+    private RetentionArchiver archiver(RetentionTarget target, Clock clock) {
+        return new RetentionArchiver(List.of(target), progressRepository,
+            new NdjsonArchiveWriter(archiveDirectory, clock), transactionTemplate, metrics, properties, clock,
+            pauses::add);
+    }
+
+    private DeletedAccountRetentionTarget deletedAccounts() {
+        return new DeletedAccountRetentionTarget(queryFactory, properties.getDeletedAccounts().getRetention());
+    }
+
+    private InactiveProfileRetentionTarget inactiveProfiles() {
+        LocalCacheInvalidationBus bus = new LocalCacheInvalidationBus();
+        bus.subscribe(invalidations::add);
+        return new InactiveProfileRetentionTarget(queryFactory, entityManager, new CacheInvalidationPublisher(bus),
+            properties.getInactiveProfiles().getRetention(), EnumSet.of(ProfileStatus.INACTIVE, ProfileStatus.SUSPENDED));
+    }
+
+    private CustomerProfileEntity saveProfile(Long customerId, ProfileStatus status) {
+        return inTransaction(() -> profileJpaRepository.save(CustomerProfileEntity.builder()
+            .customerId(customerId)
+            .firstName("길동")
+            .lastName("홍")
+            .primaryPhone("010-1234-5678")
+            .status(status)
+            .build()));
+    }
+
+    private Long saveDeletedAccount(Long customerId) {
+        return inTransaction(() -> {
+            AccountEntity account = accountJpaRepository.save(AccountEntity.builder()
+                .customerId(customerId)
+                .email("retention" + customerId + "@example.com")
+                .password("encoded-password")
+                .status(AccountEntity.AccountStatus.ACTIVE)
+                .build());
+            account.markAsDeleted();
+            deletedAccountJpaRepository.save(DeletedAccountEntity.from(account));
+            accountJpaRepository.delete(account);
+            return account.getAccountId();
+        });
+    }
+
+    private long countRows(String table) {
+        return inTransaction(() -> ((Number) entityManager
+            .createNativeQuery("SELECT COUNT(*) FROM " + table).getSingleResult()).longValue());
+    }
+
+    private List<Map<?, ?>> readArchive(String targetName) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<Map<?, ?>> rows = new ArrayList<>();
+        try (var files = Files.list(archiveDirectory.resolve(targetName))) {
+            for (Path file : files.sorted().toList()) {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                        new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+                    for (String line : reader.lines().toList()) {
+                        rows.add(objectMapper.readValue(line, Map.class));
+                    }
+                }
+            }
+        }
+        return rows;
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+}